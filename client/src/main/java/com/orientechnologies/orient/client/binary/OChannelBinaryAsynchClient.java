@@ -19,6 +19,7 @@
  */
 package com.orientechnologies.orient.client.binary;
 
+import com.orientechnologies.common.concur.lock.OInterruptedException;
 import com.orientechnologies.common.concur.lock.OLockException;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.exception.OSystemException;
@@ -59,13 +60,38 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
   private volatile long lastUse;
   private volatile boolean inUse;
 
+  private final boolean pipelined;
+  private final Object responseTurn = new Object();
+  // ACCESSED UNDER THE WRITE LOCK
+  private long sentRequests;
+  // ACCESSED UNDER THE RESPONSE TURN MONITOR
+  private long readResponses;
+  // ACCESSED UNDER THE READ LOCK
+  private boolean responseRead;
+
   public OChannelBinaryAsynchClient(
       final String remoteHost,
       final int remotePort,
       final OContextConfiguration iConfig,
       final int iProtocolVersion)
       throws IOException {
+    this(remoteHost, remotePort, iConfig, iProtocolVersion, false);
+  }
+
+  /**
+   * @param pipelined if true the channel is shared by concurrent requests, that are written with
+   *     {@link #endPipelinedRequest()} and whose responses are read with {@link
+   *     #beginPipelinedResponse(long, int, boolean)}
+   */
+  public OChannelBinaryAsynchClient(
+      final String remoteHost,
+      final int remotePort,
+      final OContextConfiguration iConfig,
+      final int iProtocolVersion,
+      final boolean pipelined)
+      throws IOException {
     super(OSocketFactory.instance(iConfig).createSocket(), iConfig);
+    this.pipelined = pipelined;
     try {
 
       serverURL = remoteHost + ":" + remotePort;
@@ -172,6 +198,7 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
     try {
       // WAIT FOR THE RESPONSE
       if (iTimeout <= 0) acquireReadLock();
+      responseRead = false;
 
       if (!isConnected()) {
         releaseReadLock();
@@ -216,7 +243,54 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
     return null;
   }
 
+  /**
+   * Waits until the responses of all the requests pipelined before the request of the ticket have
+   * been read, then begins to read the response of the request. The server executes the requests of
+   * a connection in order, so the responses arrive in the same order of the requests.
+   *
+   * <p>The response has to be marked with {@link #markResponseRead()} once it has been read
+   * completely, otherwise {@link #endResponse()} closes the channel: the following responses could
+   * not be told apart anymore, so all the requests waiting on the channel fail.
+   *
+   * @param ticket returned by {@link #endPipelinedRequest()}
+   */
+  public byte[] beginPipelinedResponse(
+      final long ticket, final int iRequesterId, final boolean token) throws IOException {
+    try {
+      synchronized (responseTurn) {
+        while (readResponses < ticket) {
+          if (!isConnected()) throw new IOException("Channel is closed");
+          responseTurn.wait();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      // THE RESPONSE WILL NOT BE READ: THE CHANNEL CANNOT BE USED BY THE NEXT REQUESTS
+      close();
+      throw OException.wrapException(
+          new OInterruptedException("Wait of the response interrupted"), e);
+    }
+    return beginResponse(iRequesterId, token);
+  }
+
+  /** Marks the response being read as read completely, to end it on a pipelined channel. */
+  public void markResponseRead() {
+    responseRead = true;
+  }
+
   public void endResponse() throws IOException {
+    if (pipelined) {
+      if (responseRead) {
+        synchronized (responseTurn) {
+          readResponses++;
+          responseTurn.notifyAll();
+        }
+      } else {
+        // THE REST OF THE RESPONSE IS STILL ON THE CHANNEL, OR THE CHANNEL IS BROKEN
+        close();
+      }
+    }
+
     // WAKE UP ALL THE WAITING THREADS
     try {
       releaseReadLock();
@@ -232,6 +306,42 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
     releaseWriteLock();
   }
 
+  /**
+   * Ends a request written on a pipelined channel, the write lock has to be acquired before the
+   * request is written.
+   *
+   * @return the ticket to read the response with {@link #beginPipelinedResponse(long, int,
+   *     boolean)}
+   */
+  public long endPipelinedRequest() throws IOException {
+    try {
+      flush();
+      return sentRequests++;
+    } catch (IOException | RuntimeException e) {
+      // A PARTIALLY SENT REQUEST HAS NO RESPONSE AND BREAKS THE NEXT REQUESTS
+      close();
+      throw e;
+    } finally {
+      releaseWriteLock();
+    }
+  }
+
+  /**
+   * Aborts a request that failed while it was written on a pipelined channel: part of it may be
+   * already sent, so the channel is closed, then the write lock is released.
+   */
+  public void abortPipelinedRequest() {
+    try {
+      close();
+    } finally {
+      releaseWriteLock();
+    }
+  }
+
+  public boolean isPipelined() {
+    return pipelined;
+  }
+
   @Override
   public void close() {
     try {
@@ -239,6 +349,13 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
     } catch (Exception e) {
       // IGNORE IT
     }
+
+    if (pipelined) {
+      // WAKE UP THE REQUESTS WAITING FOR A RESPONSE THAT WILL NOT ARRIVE
+      synchronized (responseTurn) {
+        responseTurn.notifyAll();
+      }
+    }
   }
 
   @Override
@@ -296,6 +413,8 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
 
       OError37Response response = new OError37Response();
       response.read(this, null);
+      // THE ERROR IS THE WHOLE RESPONSE
+      responseRead = true;
       byte[] serializedException = response.getVerbose();
       Exception previous = null;
       if (serializedException != null && serializedException.length > 0) {
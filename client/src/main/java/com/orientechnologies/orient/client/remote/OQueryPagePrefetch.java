@@ -0,0 +1,54 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.client.remote;
+
+import com.orientechnologies.orient.client.binary.OChannelBinaryAsynchClient;
+import com.orientechnologies.orient.client.remote.message.OQueryNextPageRequest;
+import com.orientechnologies.orient.client.remote.message.ORemoteResultSet;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentRemote;
+
+/**
+ * Next pages of a remote query requested in advance: the requests are sent on a channel held by the
+ * session, so the server produces the pages while the client consumes the ones already received.
+ * Each request is a credit for one page, a new one is sent when a page is received.
+ *
+ * <p>The responses have to be read before the session sends any other request.
+ */
+final class OQueryPagePrefetch {
+  final OChannelBinaryAsynchClient network;
+  final ODatabaseDocumentRemote database;
+  final ORemoteResultSet resultSet;
+  final OQueryNextPageRequest request;
+  /** requests sent whose response is not read yet */
+  int pending;
+  /** the last page is received, the server closed the query and fails the pending requests */
+  boolean ended;
+
+  OQueryPagePrefetch(
+      final OChannelBinaryAsynchClient network,
+      final ODatabaseDocumentRemote database,
+      final ORemoteResultSet resultSet,
+      final OQueryNextPageRequest request) {
+    this.network = network;
+    this.database = database;
+    this.resultSet = resultSet;
+    this.request = request;
+  }
+}
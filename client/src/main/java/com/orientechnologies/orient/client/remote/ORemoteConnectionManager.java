@@ -87,22 +87,61 @@ public class ORemoteConnectionManager {
       String iServerURL, final OContextConfiguration clientConfiguration) {
 
     long localTimeout = timeout;
+    if (clientConfiguration != null) {
+      final Object netLockTimeout = clientConfiguration.getValue(NETWORK_LOCK_TIMEOUT);
+      if (netLockTimeout != null) localTimeout = Integer.parseInt(netLockTimeout.toString());
+    }
+
+    final ORemoteConnectionPool pool = getOrCreatePool(iServerURL, clientConfiguration);
+
+    try {
+      // RETURN THE RESOURCE
+      OChannelBinaryAsynchClient ret = pool.acquire(iServerURL, localTimeout, clientConfiguration);
+      ret.markInUse();
+      return ret;
+
+    } catch (RuntimeException e) {
+      // ERROR ON RETRIEVING THE INSTANCE FROM THE POOL
+      throw e;
+    } catch (Exception e) {
+      // ERROR ON RETRIEVING THE INSTANCE FROM THE POOL
+      OLogManager.instance()
+          .debug(this, "Error on retrieving the connection from pool: " + iServerURL, e);
+    }
+    return null;
+  }
+
+  /**
+   * Acquires a channel shared by concurrent requests. Pipelined channels are not locked: the write
+   * lock has to be acquired to write a request.
+   *
+   * @return null if {@link OGlobalConfiguration#CLIENT_CHANNEL_PIPELINED} was not enabled when the
+   *     pool of the server was created
+   */
+  public OChannelBinaryAsynchClient acquirePipelined(
+      String iServerURL, final OContextConfiguration clientConfiguration) {
+    final ORemoteConnectionPool pool = getOrCreatePool(iServerURL, clientConfiguration);
+    if (!pool.isPipelined()) return null;
+
+    return pool.acquirePipelined(iServerURL, clientConfiguration);
+  }
 
+  private ORemoteConnectionPool getOrCreatePool(
+      final String iServerURL, final OContextConfiguration clientConfiguration) {
     ORemoteConnectionPool pool = connections.get(iServerURL);
     if (pool == null) {
       int maxPool =
           clientConfiguration.getValueAsInteger(OGlobalConfiguration.CLIENT_CHANNEL_MAX_POOL);
+      int pipelined =
+          clientConfiguration.getValueAsInteger(OGlobalConfiguration.CLIENT_CHANNEL_PIPELINED);
 
       if (clientConfiguration != null) {
         final Object max =
             clientConfiguration.getValue(OGlobalConfiguration.CLIENT_CHANNEL_MAX_POOL);
         if (max != null) maxPool = Integer.parseInt(max.toString());
-
-        final Object netLockTimeout = clientConfiguration.getValue(NETWORK_LOCK_TIMEOUT);
-        if (netLockTimeout != null) localTimeout = Integer.parseInt(netLockTimeout.toString());
       }
 
-      pool = new ORemoteConnectionPool(maxPool);
+      pool = new ORemoteConnectionPool(maxPool, pipelined);
       final ORemoteConnectionPool prev = connections.putIfAbsent(iServerURL, pool);
       if (prev != null) {
         // ALREADY PRESENT, DESTROY IT AND GET THE ALREADY EXISTENT OBJ
@@ -110,27 +149,18 @@ public class ORemoteConnectionManager {
         pool = prev;
       }
     }
-
-    try {
-      // RETURN THE RESOURCE
-      OChannelBinaryAsynchClient ret = pool.acquire(iServerURL, localTimeout, clientConfiguration);
-      ret.markInUse();
-      return ret;
-
-    } catch (RuntimeException e) {
-      // ERROR ON RETRIEVING THE INSTANCE FROM THE POOL
-      throw e;
-    } catch (Exception e) {
-      // ERROR ON RETRIEVING THE INSTANCE FROM THE POOL
-      OLogManager.instance()
-          .debug(this, "Error on retrieving the connection from pool: " + iServerURL, e);
-    }
-    return null;
+    return pool;
   }
 
   public void release(final OChannelBinaryAsynchClient conn) {
     if (conn == null) return;
 
+    if (conn.isPipelined()) {
+      // SHARED CHANNEL: NOTHING TO RETURN TO THE POOL
+      if (!conn.isConnected()) remove(conn);
+      return;
+    }
+
     conn.markReturned();
     final ORemoteConnectionPool pool = connections.get(conn.getServerURL());
     if (pool != null) {
@@ -154,6 +184,12 @@ public class ORemoteConnectionManager {
       throw new IllegalStateException(
           "Connection cannot be released because the pool doesn't exist anymore");
 
+    if (conn.isPipelined()) {
+      pool.removePipelined(conn);
+      conn.close();
+      return;
+    }
+
     pool.getPool().remove(conn);
 
     try {
@@ -211,6 +247,7 @@ public class ORemoteConnectionManager {
   protected void closePool(ORemoteConnectionPool pool) {
     final List<OChannelBinaryAsynchClient> conns =
         new ArrayList<OChannelBinaryAsynchClient>(pool.getPool().getAllResources());
+    conns.addAll(pool.getPipelinedChannels());
     for (OChannelBinaryAsynchClient c : conns)
       try {
         // Unregister the listener that make the connection return to the closing pool.
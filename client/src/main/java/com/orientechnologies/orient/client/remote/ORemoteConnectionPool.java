@@ -8,19 +8,36 @@ import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.orient.client.binary.OChannelBinaryAsynchClient;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.enterprise.channel.binary.OChannelBinaryProtocol;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /** Created by tglman on 01/10/15. */
 public class ORemoteConnectionPool
     implements OResourcePoolListener<String, OChannelBinaryAsynchClient> {
 
   private OResourcePool<String, OChannelBinaryAsynchClient> pool;
+  private final OChannelBinaryAsynchClient[] pipelined;
+  private final AtomicInteger nextPipelined = new AtomicInteger();
 
   public ORemoteConnectionPool(int iMaxResources) {
+    this(iMaxResources, 0);
+  }
+
+  /** @param pipelinedChannels number of channels shared by concurrent pipelined requests */
+  public ORemoteConnectionPool(int iMaxResources, int pipelinedChannels) {
     pool = new OResourcePool<>(iMaxResources, this);
+    pipelined = new OChannelBinaryAsynchClient[Math.max(0, pipelinedChannels)];
   }
 
   protected OChannelBinaryAsynchClient createNetworkConnection(
       String serverURL, final OContextConfiguration clientConfiguration) throws OIOException {
+    return createNetworkConnection(serverURL, clientConfiguration, false);
+  }
+
+  protected OChannelBinaryAsynchClient createNetworkConnection(
+      String serverURL, final OContextConfiguration clientConfiguration, boolean pipelined)
+      throws OIOException {
     if (serverURL == null) throw new IllegalArgumentException("server url is null");
 
     // TRY WITH CURRENT URL IF ANY
@@ -36,7 +53,8 @@ public class ORemoteConnectionPool
               remoteHost,
               remotePort,
               clientConfiguration,
-              OChannelBinaryProtocol.CURRENT_PROTOCOL_VERSION);
+              OChannelBinaryProtocol.CURRENT_PROTOCOL_VERSION,
+              pipelined);
 
       return ch;
 
@@ -81,6 +99,46 @@ public class ORemoteConnectionPool
     return pool.getResource(iServerURL, timeout, clientConfiguration);
   }
 
+  public boolean isPipelined() {
+    return pipelined.length > 0;
+  }
+
+  /**
+   * Returns one of the pipelined channels, in round robin: the channel is not locked, it can be
+   * used by other requests at the same time. Closed channels are replaced by new connections.
+   */
+  public OChannelBinaryAsynchClient acquirePipelined(
+      final String iServerURL, final OContextConfiguration clientConfiguration) {
+    final int index = Math.floorMod(nextPipelined.getAndIncrement(), pipelined.length);
+    synchronized (pipelined) {
+      OChannelBinaryAsynchClient channel = pipelined[index];
+      if (channel == null || !channel.isConnected()) {
+        if (channel != null) channel.close();
+        channel = createNetworkConnection(iServerURL, clientConfiguration, true);
+        pipelined[index] = channel;
+      }
+      return channel;
+    }
+  }
+
+  public void removePipelined(final OChannelBinaryAsynchClient channel) {
+    synchronized (pipelined) {
+      for (int i = 0; i < pipelined.length; i++) {
+        if (pipelined[i] == channel) pipelined[i] = null;
+      }
+    }
+  }
+
+  public List<OChannelBinaryAsynchClient> getPipelinedChannels() {
+    final List<OChannelBinaryAsynchClient> channels = new ArrayList<>();
+    synchronized (pipelined) {
+      for (OChannelBinaryAsynchClient channel : pipelined) {
+        if (channel != null) channels.add(channel);
+      }
+    }
+    return channels;
+  }
+
   public void checkIdle(long timeout) {
     for (OChannelBinaryAsynchClient resource : pool.getResources()) {
       if (!resource.isInUse() && resource.getLastUse() + timeout < System.currentTimeMillis()) {
@@ -28,6 +28,7 @@ import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.io.OIOException;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.thread.OScheduledThreadPoolExecutorWithLogging;
+import com.orientechnologies.common.thread.OThreadPoolExecutorWithLogging;
 import com.orientechnologies.common.util.OCallable;
 import com.orientechnologies.common.util.OCommonConst;
 import com.orientechnologies.orient.client.ONotSendRequestException;
@@ -189,9 +190,16 @@ import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /** This object is bound to each remote ODatabase instances. */
 public class OStorageRemote extends OStorageAbstract implements OStorageProxy, ORemotePushHandler {
@@ -214,6 +222,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
   private final ORemoteURLs serverURLs;
   private final Map<String, OCluster> clusterMap = new ConcurrentHashMap<String, OCluster>();
   private final ExecutorService asynchExecutor;
+  private final ExecutorService asynchResponseExecutor;
   private final ODocument clusterConfiguration = new ODocument();
   private final AtomicInteger users = new AtomicInteger(0);
   private OContextConfiguration clientConfiguration;
@@ -277,6 +286,18 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     serverURLs = hosts;
 
     asynchExecutor = new OScheduledThreadPoolExecutorWithLogging(1);
+    // THE READERS OF A PIPELINED CHANNEL WAIT FOR THEIR TURN, THEY CANNOT BE QUEUED
+    asynchResponseExecutor =
+        new OThreadPoolExecutorWithLogging(
+            0,
+            Math.max(
+                1,
+                clientConfiguration.getValueAsInteger(
+                    OGlobalConfiguration.CLIENT_ASYNC_RESPONSE_READERS)),
+            60,
+            TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            new AsynchResponseThreadFactory(name));
 
     this.connectionManager = connectionManager;
     this.context = context;
@@ -369,35 +390,178 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
       final OBinaryRequest<T> request, final String errorMessage, int retry, int timeout) {
     return baseNetworkOperation(
         (network, session) -> {
-          try {
-            try {
-              network.beginRequest(request.getCommand(), session);
-              request.write(network, session);
-            } finally {
-              network.endRequest();
-            }
-          } catch (IOException e) {
-            if (network.isConnected()) {
-              OLogManager.instance().warn(this, "Error Writing request on the network", e);
-            }
-            throw new ONotSendRequestException("Cannot send request on this channel");
-          }
-
-          int prev = network.getSocketTimeout();
-          T response = request.createResponse();
-          try {
-            if (timeout > 0) network.setSocketTimeout(timeout);
-            beginResponse(network, session);
-            response.read(network, session);
-          } finally {
-            endResponse(network);
-            if (timeout > 0) network.setSocketTimeout(prev);
-          }
+          final long ticket = sendRequest(network, session, request);
+          final T response = readResponse(network, session, request, ticket, timeout);
           connectionManager.release(network);
           return response;
         },
         errorMessage,
-        retry);
+        retry,
+        timeout == 0 && isPipelining());
+  }
+
+  /**
+   * Sends the request in the caller thread and returns without waiting for the response, that is
+   * read by a thread of the asynchronous response executor. The value of the returned future is
+   * computed by {@code onResponse} in that thread, with the database active. When all the threads
+   * of the executor are busy the response is read, and the future completed, in the caller thread.
+   *
+   * <p>The session cannot execute other requests until the value of the future is computed.
+   */
+  public <T extends OBinaryResponse, R> CompletableFuture<R> futureNetworkOperation(
+      final ODatabaseDocumentInternal database,
+      final OBinaryRequest<T> request,
+      final String errorMessage,
+      final Function<T, R> onResponse) {
+    final CompletableFuture<R> future = new CompletableFuture<>();
+    try {
+      baseNetworkOperation(
+          (network, session) -> {
+            final long ticket = sendRequest(network, session, request);
+            session.responsePending = true;
+            final Runnable reader =
+                () -> {
+                  final T response;
+                  try {
+                    response = readResponse(network, session, request, ticket, 0);
+                    connectionManager.release(network);
+                  } catch (IOException | OIOException e) {
+                    connectionManager.remove(network);
+                    session.responsePending = false;
+                    future.completeExceptionally(
+                        OException.wrapException(new OIOException(e.getMessage()), e));
+                    return;
+                  } catch (RuntimeException e) {
+                    connectionManager.release(network);
+                    session.responsePending = false;
+                    future.completeExceptionally(e);
+                    return;
+                  }
+                  completeFuture(database, session, future, () -> onResponse.apply(response));
+                };
+            try {
+              asynchResponseExecutor.execute(reader);
+            } catch (RejectedExecutionException e) {
+              if (asynchResponseExecutor.isShutdown()) {
+                // THE RESPONSE CANNOT BE READ ANYMORE, THE CHANNEL IS NOT USABLE
+                connectionManager.remove(network);
+                session.responsePending = false;
+                throw OException.wrapException(new OStorageException(errorMessage), e);
+              }
+              // ALL THE READERS ARE BUSY
+              reader.run();
+            }
+            return null;
+          },
+          errorMessage,
+          connectionRetry,
+          isPipelining());
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  /**
+   * Computes the value of the future with the database active, then ends the pending response of
+   * the session before the future is completed, so the callbacks of the future can use the session.
+   */
+  private static <R> void completeFuture(
+      final ODatabaseDocumentInternal database,
+      final OStorageRemoteSession session,
+      final CompletableFuture<R> future,
+      final Supplier<R> result) {
+    final R value;
+    final ODatabaseDocumentInternal current = ODatabaseRecordThreadLocal.instance().getIfDefined();
+    ODatabaseRecordThreadLocal.instance().set(database);
+    try {
+      value = result.get();
+    } catch (RuntimeException e) {
+      session.responsePending = false;
+      future.completeExceptionally(e);
+      return;
+    } finally {
+      if (current != null) {
+        ODatabaseRecordThreadLocal.instance().set(current);
+      } else {
+        ODatabaseRecordThreadLocal.instance().remove();
+      }
+    }
+    session.responsePending = false;
+    future.complete(value);
+  }
+
+  private boolean isPipelining() {
+    return clientConfiguration.getValueAsInteger(OGlobalConfiguration.CLIENT_CHANNEL_PIPELINED) > 0;
+  }
+
+  /**
+   * Writes the request, on a channel shared with the other threads of the client (pipelined) the
+   * request is sent without waiting for the responses of the requests already sent on it.
+   *
+   * @return the ticket of the response on a pipelined channel, -1 otherwise
+   */
+  private long sendRequest(
+      final OChannelBinaryAsynchClient network,
+      final OStorageRemoteSession session,
+      final OBinaryRequest<?> request) {
+    try {
+      if (network.isPipelined()) {
+        network.acquireWriteLock();
+        try {
+          network.beginRequest(request.getCommand(), session);
+          request.write(network, session);
+        } catch (IOException | RuntimeException e) {
+          network.abortPipelinedRequest();
+          throw e;
+        }
+        return network.endPipelinedRequest();
+      }
+
+      try {
+        network.beginRequest(request.getCommand(), session);
+        request.write(network, session);
+      } finally {
+        network.endRequest();
+      }
+      return -1;
+    } catch (IOException e) {
+      if (network.isConnected()) {
+        OLogManager.instance().warn(this, "Error Writing request on the network", e);
+      }
+      throw new ONotSendRequestException("Cannot send request on this channel");
+    }
+  }
+
+  private <T extends OBinaryResponse> T readResponse(
+      final OChannelBinaryAsynchClient network,
+      final OStorageRemoteSession session,
+      final OBinaryRequest<T> request,
+      final long ticket,
+      final int timeout)
+      throws IOException {
+    final T response = request.createResponse();
+    final int prev = network.getSocketTimeout();
+    try {
+      if (timeout > 0) network.setSocketTimeout(timeout);
+      if (network.isPipelined()) {
+        final OStorageRemoteNodeSession nodeSession =
+            session.getServerSession(network.getServerURL());
+        final byte[] newToken =
+            network.beginPipelinedResponse(ticket, nodeSession.getSessionId(), true);
+        if (newToken != null && newToken.length > 0) {
+          nodeSession.setSession(nodeSession.getSessionId(), newToken);
+        }
+      } else {
+        beginResponse(network, session);
+      }
+      response.read(network, session);
+      network.markResponseRead();
+    } finally {
+      endResponse(network);
+      if (timeout > 0) network.setSocketTimeout(prev);
+    }
+    return response;
   }
 
   public <T extends OBinaryResponse> T networkOperationNoRetry(
@@ -412,10 +576,19 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
 
   public <T> T baseNetworkOperation(
       final OStorageRemoteOperation<T> operation, final String errorMessage, int retry) {
+    return baseNetworkOperation(operation, errorMessage, retry, false);
+  }
+
+  private <T> T baseNetworkOperation(
+      final OStorageRemoteOperation<T> operation,
+      final String errorMessage,
+      int retry,
+      final boolean pipelined) {
     OStorageRemoteSession session = getCurrentSession();
-    if (session.commandExecuting)
+    if (session.commandExecuting || session.responsePending)
       throw new ODatabaseException(
           "Cannot execute the request because an asynchronous operation is in progress. Please use a different connection");
+    readPrefetchedPages(session);
 
     String serverUrl = null;
     do {
@@ -425,7 +598,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
 
       do {
         try {
-          network = getNetwork(serverUrl);
+          network = pipelined ? getPipelinedNetwork(serverUrl) : getNetwork(serverUrl);
         } catch (OException e) {
           if (session.isStickToSession()) {
             throw e;
@@ -445,8 +618,13 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
         // operation.
         OStorageRemoteNodeSession nodeSession = session.getServerSession(network.getServerURL());
         if (nodeSession == null || !nodeSession.isValid()) {
-          openRemoteDatabase(network);
-          if (!network.tryLock()) continue;
+          if (network.isPipelined()) {
+            // OPEN THE DATABASE ON AN EXCLUSIVE CHANNEL, THE SESSION IS VALID FOR THE WHOLE SERVER
+            openRemoteDatabase(getNetwork(network.getServerURL()));
+          } else {
+            openRemoteDatabase(network);
+            if (!network.tryLock()) continue;
+          }
         }
 
         return operation.execute(network, session);
@@ -674,6 +852,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
         Thread.currentThread().interrupt();
       }
     }
+    asynchResponseExecutor.shutdown();
     stateLock.acquireWriteLock();
     try {
       // CLOSE ALL THE SOCKET POOLS
@@ -833,6 +1012,18 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     return new OStorageOperationResult<ORawBuffer>(response.getResult());
   }
 
+  public <R> CompletableFuture<R> readRecordAsync(
+      final ODatabaseDocumentRemote db,
+      final ORecordId rid,
+      final Function<ORawBuffer, R> onRecord) {
+    OReadRecordRequest request = new OReadRecordRequest(false, rid, null, false);
+    return futureNetworkOperation(
+        db,
+        request,
+        "Error on read record " + rid,
+        response -> onRecord.apply(response.getResult()));
+  }
+
   @Override
   public String incrementalBackup(final String backupDirectory, OCallable<Void, Void> started) {
     OIncrementalBackupRequest request = new OIncrementalBackupRequest(backupDirectory);
@@ -1089,92 +1280,117 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
   }
 
   public ORemoteQueryResult query(ODatabaseDocumentRemote db, String query, Object[] args) {
-    int recordsPerPage = OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_SIZE.getValueAsInteger();
-    if (recordsPerPage <= 0) {
-      recordsPerPage = 100;
-    }
+    final int recordsPerPage = remoteResultSetPageSize();
     OQueryRequest request =
         new OQueryRequest(
             "sql", query, args, OQueryRequest.QUERY, db.getSerializer(), recordsPerPage);
     OQueryResponse response = networkOperation(request, "Error on executing command: " + query);
-    ORemoteResultSet rs =
-        new ORemoteResultSet(
-            db,
-            response.getQueryId(),
-            response.getResult(),
-            response.getExecutionPlan(),
-            response.getQueryStats(),
-            response.isHasNextPage());
-    if (response.isHasNextPage()) {
-      stickToSession();
-    } else {
-      db.queryClosed(response.getQueryId());
-    }
-    return new ORemoteQueryResult(rs, response.isTxChanges(), response.isReloadMetadata());
+    return toQueryResult(db, response, true);
   }
 
   public ORemoteQueryResult query(ODatabaseDocumentRemote db, String query, Map args) {
-    int recordsPerPage = OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_SIZE.getValueAsInteger();
-    if (recordsPerPage <= 0) {
-      recordsPerPage = 100;
-    }
+    final int recordsPerPage = remoteResultSetPageSize();
     OQueryRequest request =
         new OQueryRequest(
             "sql", query, args, OQueryRequest.QUERY, db.getSerializer(), recordsPerPage);
     OQueryResponse response = networkOperation(request, "Error on executing command: " + query);
-
-    ORemoteResultSet rs =
-        new ORemoteResultSet(
-            db,
-            response.getQueryId(),
-            response.getResult(),
-            response.getExecutionPlan(),
-            response.getQueryStats(),
-            response.isHasNextPage());
-    if (response.isHasNextPage()) {
-      stickToSession();
-    } else {
-      db.queryClosed(response.getQueryId());
-    }
-    return new ORemoteQueryResult(rs, response.isTxChanges(), response.isReloadMetadata());
+    return toQueryResult(db, response, true);
   }
 
   public ORemoteQueryResult command(ODatabaseDocumentRemote db, String query, Object[] args) {
-    int recordsPerPage = OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_SIZE.getValueAsInteger();
-    if (recordsPerPage <= 0) {
-      recordsPerPage = 100;
-    }
+    final int recordsPerPage = remoteResultSetPageSize();
     OQueryRequest request =
         new OQueryRequest(
             "sql", query, args, OQueryRequest.COMMAND, db.getSerializer(), recordsPerPage);
     OQueryResponse response =
         networkOperationNoRetry(request, "Error on executing command: " + query);
-    ORemoteResultSet rs =
-        new ORemoteResultSet(
-            db,
-            response.getQueryId(),
-            response.getResult(),
-            response.getExecutionPlan(),
-            response.getQueryStats(),
-            response.isHasNextPage());
-    if (response.isHasNextPage()) {
-      stickToSession();
-    } else {
-      db.queryClosed(response.getQueryId());
-    }
-    return new ORemoteQueryResult(rs, response.isTxChanges(), response.isReloadMetadata());
+    return toQueryResult(db, response, true);
   }
 
   public ORemoteQueryResult command(ODatabaseDocumentRemote db, String query, Map args) {
-    int recordsPerPage = OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_SIZE.getValueAsInteger();
-    if (recordsPerPage <= 0) {
-      recordsPerPage = 100;
-    }
+    final int recordsPerPage = remoteResultSetPageSize();
     OQueryRequest request =
         new OQueryRequest(
             "sql", query, args, OQueryRequest.COMMAND, db.getSerializer(), recordsPerPage);
     OQueryResponse response =
         networkOperationNoRetry(request, "Error on executing command: " + query);
+    return toQueryResult(db, response, true);
+  }
+
+  public <R> CompletableFuture<R> queryAsync(
+      ODatabaseDocumentRemote db,
+      String query,
+      Object[] args,
+      Function<ORemoteQueryResult, R> onResult) {
+    final int recordsPerPage = remoteResultSetPageSize();
+    OQueryRequest request =
+        new OQueryRequest(
+            "sql", query, args, OQueryRequest.QUERY, db.getSerializer(), recordsPerPage);
+    return futureNetworkOperation(
+        db,
+        request,
+        "Error on executing command: " + query,
+        response -> onResult.apply(toQueryResult(db, response, false)));
+  }
+
+  public <R> CompletableFuture<R> queryAsync(
+      ODatabaseDocumentRemote db,
+      String query,
+      Map args,
+      Function<ORemoteQueryResult, R> onResult) {
+    final int recordsPerPage = remoteResultSetPageSize();
+    OQueryRequest request =
+        new OQueryRequest(
+            "sql", query, args, OQueryRequest.QUERY, db.getSerializer(), recordsPerPage);
+    return futureNetworkOperation(
+        db,
+        request,
+        "Error on executing command: " + query,
+        response -> onResult.apply(toQueryResult(db, response, false)));
+  }
+
+  public <R> CompletableFuture<R> commandAsync(
+      ODatabaseDocumentRemote db,
+      String query,
+      Object[] args,
+      Function<ORemoteQueryResult, R> onResult) {
+    final int recordsPerPage = remoteResultSetPageSize();
+    OQueryRequest request =
+        new OQueryRequest(
+            "sql", query, args, OQueryRequest.COMMAND, db.getSerializer(), recordsPerPage);
+    return futureNetworkOperation(
+        db,
+        request,
+        "Error on executing command: " + query,
+        response -> onResult.apply(toQueryResult(db, response, false)));
+  }
+
+  public <R> CompletableFuture<R> commandAsync(
+      ODatabaseDocumentRemote db,
+      String query,
+      Map args,
+      Function<ORemoteQueryResult, R> onResult) {
+    final int recordsPerPage = remoteResultSetPageSize();
+    OQueryRequest request =
+        new OQueryRequest(
+            "sql", query, args, OQueryRequest.COMMAND, db.getSerializer(), recordsPerPage);
+    return futureNetworkOperation(
+        db,
+        request,
+        "Error on executing command: " + query,
+        response -> onResult.apply(toQueryResult(db, response, false)));
+  }
+
+  private static int remoteResultSetPageSize() {
+    int recordsPerPage = OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_SIZE.getValueAsInteger();
+    if (recordsPerPage <= 0) {
+      recordsPerPage = 100;
+    }
+    return recordsPerPage;
+  }
+
+  private ORemoteQueryResult toQueryResult(
+      ODatabaseDocumentRemote db, OQueryResponse response, boolean prefetch) {
     ORemoteResultSet rs =
         new ORemoteResultSet(
             db,
@@ -1185,6 +1401,9 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
             response.isHasNextPage());
     if (response.isHasNextPage()) {
       stickToSession();
+      if (prefetch) {
+        prefetchPages(db, rs);
+      }
     } else {
       db.queryClosed(response.getQueryId());
     }
@@ -1310,17 +1529,40 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
   }
 
   public void closeQuery(ODatabaseDocumentRemote database, String queryId) {
+    final OStorageRemoteSession session = getCurrentSession();
+    final OQueryPagePrefetch prefetch = session.prefetch;
+    if (prefetch != null && prefetch.resultSet.getQueryId().equals(queryId)) {
+      readPrefetchedPages(session);
+      if (prefetch.ended) {
+        // THE SERVER ALREADY CLOSED THE QUERY AFTER SENDING THE LAST PAGE
+        return;
+      }
+    }
     unstickToSession();
     OCloseQueryRequest request = new OCloseQueryRequest(queryId);
     networkOperation(request, "Error closing query: " + queryId);
   }
 
   public void fetchNextPage(ODatabaseDocumentRemote database, ORemoteResultSet rs) {
-    int recordsPerPage = OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_SIZE.getValueAsInteger();
-    if (recordsPerPage <= 0) {
-      recordsPerPage = 100;
+    final OStorageRemoteSession session = getCurrentSession();
+    final OQueryPagePrefetch prefetch = session.prefetch;
+    if (prefetch != null && prefetch.resultSet == rs) {
+      readPrefetchedPage(session, prefetch);
+      if (prefetch.ended) {
+        // RELEASE THE CHANNEL READING THE FAILURES OF THE REQUESTS SENT AFTER THE LAST PAGE
+        readPrefetchedPages(session);
+      } else if (!requestPrefetchedPage(session, prefetch) && prefetch.pending == 0) {
+        endPrefetch(session, prefetch);
+      }
+      return;
+    }
+    if (!rs.hasNextPage()) {
+      // THE LAST PAGE WAS REQUESTED IN ADVANCE AND READ BEFORE ANOTHER REQUEST
+      return;
     }
-    OQueryNextPageRequest request = new OQueryNextPageRequest(rs.getQueryId(), recordsPerPage);
+
+    OQueryNextPageRequest request =
+        new OQueryNextPageRequest(rs.getQueryId(), remoteResultSetPageSize());
     OQueryResponse response =
         networkOperation(request, "Error on fetching next page for statment: " + rs.getQueryId());
 
@@ -1332,6 +1574,105 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     if (!response.isHasNextPage()) {
       unstickToSession();
       database.queryClosed(response.getQueryId());
+    } else {
+      prefetchPages(database, rs);
+    }
+  }
+
+  /**
+   * Requests in advance the next {@link OGlobalConfiguration#QUERY_REMOTE_RESULTSET_PREFETCH} pages
+   * of the result set, on a channel that is held by the session until their responses are read.
+   */
+  private void prefetchPages(final ODatabaseDocumentRemote database, final ORemoteResultSet rs) {
+    final int credits = OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PREFETCH.getValueAsInteger();
+    if (credits <= 0 || getCurrentSession().prefetch != null) {
+      return;
+    }
+
+    final OQueryNextPageRequest request =
+        new OQueryNextPageRequest(rs.getQueryId(), remoteResultSetPageSize());
+    baseNetworkOperation(
+        (network, session) -> {
+          sendRequest(network, session, request);
+          final OQueryPagePrefetch prefetch =
+              new OQueryPagePrefetch(network, database, rs, request);
+          prefetch.pending = 1;
+          session.prefetch = prefetch;
+          while (prefetch.pending < credits) {
+            if (!requestPrefetchedPage(session, prefetch)) break;
+          }
+          return null;
+        },
+        "Error on fetching next page for statment: " + rs.getQueryId(),
+        connectionRetry,
+        false);
+  }
+
+  private boolean requestPrefetchedPage(
+      final OStorageRemoteSession session, final OQueryPagePrefetch prefetch) {
+    try {
+      sendRequest(prefetch.network, session, prefetch.request);
+    } catch (ONotSendRequestException e) {
+      // THE RESPONSES ALREADY PENDING REPORT THE ERROR OF THE CHANNEL
+      return false;
+    }
+    prefetch.pending++;
+    return true;
+  }
+
+  /** reads the pages requested in advance, the session can send a new request afterwards */
+  private void readPrefetchedPages(final OStorageRemoteSession session) {
+    final OQueryPagePrefetch prefetch = session.prefetch;
+    if (prefetch == null) {
+      return;
+    }
+    while (prefetch.pending > 0) {
+      readPrefetchedPage(session, prefetch);
+    }
+    endPrefetch(session, prefetch);
+  }
+
+  private void readPrefetchedPage(
+      final OStorageRemoteSession session, final OQueryPagePrefetch prefetch) {
+    OQueryResponse response = null;
+    prefetch.pending--;
+    try {
+      response = readResponse(prefetch.network, session, prefetch.request, -1, 0);
+    } catch (IOException | OIOException e) {
+      session.prefetch = null;
+      connectionManager.remove(prefetch.network);
+      throw OException.wrapException(
+          new OIOException(
+              "Error on fetching next page for statment: " + prefetch.resultSet.getQueryId()),
+          e);
+    } catch (RuntimeException e) {
+      if (!prefetch.ended) {
+        // CLOSE THE CHANNEL TO DISCARD THE OTHER PENDING RESPONSES
+        session.prefetch = null;
+        connectionManager.remove(prefetch.network);
+        throw e;
+      }
+      // A REQUEST SENT AFTER THE LAST PAGE FAILS BECAUSE THE QUERY IS CLOSED
+    }
+
+    if (response != null && !prefetch.ended) {
+      prefetch.resultSet.fetched(
+          response.getResult(),
+          response.isHasNextPage(),
+          response.getExecutionPlan(),
+          response.getQueryStats());
+      if (!response.isHasNextPage()) {
+        prefetch.ended = true;
+        session.unStickToSession();
+        prefetch.database.queryClosed(response.getQueryId());
+      }
+    }
+  }
+
+  private void endPrefetch(final OStorageRemoteSession session, final OQueryPagePrefetch prefetch) {
+    if (session.prefetch == prefetch) {
+      session.prefetch = null;
+      connectionManager.release(prefetch.network);
     }
   }
 
@@ -1970,6 +2311,16 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     return getNetwork(iCurrentURL, connectionManager, clientConfiguration);
   }
 
+  /**
+   * @return a channel shared by concurrent requests, or a locked exclusive channel if pipelining is
+   *     not enabled for the server
+   */
+  private OChannelBinaryAsynchClient getPipelinedNetwork(final String iCurrentURL) {
+    final OChannelBinaryAsynchClient network =
+        connectionManager.acquirePipelined(iCurrentURL, clientConfiguration);
+    return network != null ? network : getNetwork(iCurrentURL);
+  }
+
   public static OChannelBinaryAsynchClient getNetwork(
       final String iCurrentURL,
       ORemoteConnectionManager connectionManager,
@@ -2486,4 +2837,22 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
   public OSharedContext getSharedContext() {
     return sharedContext;
   }
+
+  private static final class AsynchResponseThreadFactory implements ThreadFactory {
+    private final String storageName;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private AsynchResponseThreadFactory(final String storageName) {
+      this.storageName = storageName;
+    }
+
+    @Override
+    public Thread newThread(final Runnable r) {
+      final Thread thread =
+          new Thread(
+              r, "OrientDB async response reader " + storageName + " " + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
 }
@@ -37,6 +37,11 @@ import java.util.WeakHashMap;
 /** Created by tglman on 31/03/16. */
 public class OStorageRemoteSession {
   public boolean commandExecuting = false;
+  /** a request was sent asynchronously and its response is not read yet */
+  public volatile boolean responsePending = false;
+  /** pages of a query requested in advance, read before any other request */
+  OQueryPagePrefetch prefetch;
+
   protected int serverURLIndex = -1;
   protected String connectionUserName = null;
   protected String connectionUserPassword = null;
@@ -6,9 +6,11 @@ import com.orientechnologies.orient.core.sql.executor.OExecutionPlan;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.ArrayDeque;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 
 /** Created by luigidellaquila on 05/12/16. */
 public class ORemoteResultSet implements OResultSet {
@@ -16,6 +18,9 @@ public class ORemoteResultSet implements OResultSet {
   private final ODatabaseDocumentRemote db;
   private final String queryId;
   private List<OResultInternal> currentPage;
+  /** pages received and not consumed yet, the next pages can be requested in advance */
+  private final Queue<List<OResultInternal>> receivedPages = new ArrayDeque<>();
+
   private Optional<OExecutionPlan> executionPlan;
   private Map<String, Long> queryStats;
   private boolean hasNextPage;
@@ -46,26 +51,23 @@ public class ORemoteResultSet implements OResultSet {
     if (!currentPage.isEmpty()) {
       return true;
     }
-    if (!hasNextPage()) {
-      return false;
-    }
-    fetchNextPage();
+    nextPage();
     return !currentPage.isEmpty();
   }
 
-  private void fetchNextPage() {
-    if (db != null) {
+  private void nextPage() {
+    if (receivedPages.isEmpty() && hasNextPage() && db != null) {
       db.fetchNextPage(this);
     }
+    if (!receivedPages.isEmpty()) {
+      currentPage = receivedPages.poll();
+    }
   }
 
   @Override
   public OResult next() {
     if (currentPage.isEmpty()) {
-      if (!hasNextPage()) {
-        throw new IllegalStateException();
-      }
-      fetchNextPage();
+      nextPage();
     }
     if (currentPage.isEmpty()) {
       throw new IllegalStateException();
@@ -117,7 +119,7 @@ public class ORemoteResultSet implements OResultSet {
       boolean hasNextPage,
       Optional<OExecutionPlan> executionPlan,
       Map<String, Long> queryStats) {
-    this.currentPage = result;
+    this.receivedPages.add(result);
     this.hasNextPage = hasNextPage;
 
     if (queryStats != null) {
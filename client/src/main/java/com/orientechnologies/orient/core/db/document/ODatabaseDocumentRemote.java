@@ -42,6 +42,7 @@ import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseListener;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.ODatabaseSessionAsync;
 import com.orientechnologies.orient.core.db.OHookReplacedRecordThreadLocal;
 import com.orientechnologies.orient.core.db.OLiveQueryMonitor;
 import com.orientechnologies.orient.core.db.OLiveQueryResultListener;
@@ -99,6 +100,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
@@ -429,6 +431,69 @@ public class ODatabaseDocumentRemote extends ODatabaseDocumentAbstract {
     return result.getResult();
   }
 
+  @Override
+  public ODatabaseSessionAsync async() {
+    checkOpenness();
+    return new ODatabaseSessionRemoteAsync(this);
+  }
+
+  CompletableFuture<OResultSet> queryAsync(String query, Object[] args) {
+    checkOpenness();
+    checkAndSendTransaction();
+    return storage.queryAsync(this, query, args, this::asyncQueryResult);
+  }
+
+  CompletableFuture<OResultSet> queryAsync(String query, Map args) {
+    checkOpenness();
+    checkAndSendTransaction();
+    return storage.queryAsync(this, query, args, this::asyncQueryResult);
+  }
+
+  CompletableFuture<OResultSet> commandAsync(String query, Object[] args) {
+    checkOpenness();
+    checkAndSendTransaction();
+    return storage.commandAsync(this, query, args, this::asyncQueryResult);
+  }
+
+  CompletableFuture<OResultSet> commandAsync(String query, Map args) {
+    checkOpenness();
+    checkAndSendTransaction();
+    return storage.commandAsync(this, query, args, this::asyncQueryResult);
+  }
+
+  private OResultSet asyncQueryResult(ORemoteQueryResult result) {
+    if (result.isTransactionUpdated()) fetchTransacion();
+    if (result.isReloadMetadata()) reload();
+    return result.getResult();
+  }
+
+  <RET extends ORecord> CompletableFuture<RET> loadAsync(ORID recordId) {
+    checkOpenness();
+    checkIfActive();
+    if (!recordId.isPersistent()
+        || getTransaction().isActive()
+        || getLocalCache().findRecord(recordId) != null) {
+      // NO NETWORK ROUND TRIP OR THE RECORD HAS TO BE READ THROUGH THE TRANSACTION
+      return CompletableFuture.completedFuture(load(recordId));
+    }
+
+    final ORecordId rid = (ORecordId) recordId;
+    return storage.readRecordAsync(
+        this,
+        rid,
+        buffer ->
+            executeReadRecord(
+                rid,
+                null,
+                -1,
+                null,
+                false,
+                true,
+                false,
+                OStorage.LOCKING_STRATEGY.NONE,
+                (remote, id, fetchPlan, ignoreCache, version) -> buffer));
+  }
+
   @Override
   public OResultSet execute(String language, String script, Object... args)
       throws OCommandExecutionException, OCommandScriptException {
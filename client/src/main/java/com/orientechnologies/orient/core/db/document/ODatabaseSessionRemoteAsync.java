@@ -0,0 +1,68 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.db.document;
+
+import com.orientechnologies.orient.core.db.ODatabaseSessionSyncAsync;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous operations of a remote session: queries, commands and record loads send their binary
+ * request and return, the response is read by a thread of the storage that completes the future.
+ *
+ * <p>Saves are executed synchronously: a save outside a transaction is committed as a transaction
+ * that runs the record hooks and updates the record identity in the caller thread.
+ */
+public class ODatabaseSessionRemoteAsync extends ODatabaseSessionSyncAsync {
+  private final ODatabaseDocumentRemote database;
+
+  public ODatabaseSessionRemoteAsync(final ODatabaseDocumentRemote database) {
+    super(database);
+    this.database = database;
+  }
+
+  @Override
+  public CompletableFuture<OResultSet> query(final String query, final Object... args) {
+    return database.queryAsync(query, args);
+  }
+
+  @Override
+  public CompletableFuture<OResultSet> query(final String query, final Map args) {
+    return database.queryAsync(query, args);
+  }
+
+  @Override
+  public CompletableFuture<OResultSet> command(final String query, final Object... args) {
+    return database.commandAsync(query, args);
+  }
+
+  @Override
+  public CompletableFuture<OResultSet> command(final String query, final Map args) {
+    return database.commandAsync(query, args);
+  }
+
+  @Override
+  public <RET extends ORecord> CompletableFuture<RET> load(final ORID recordId) {
+    return database.loadAsync(recordId);
+  }
+}
@@ -0,0 +1,113 @@
+package com.orientechnologies.orient.client.binary;
+
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.enterprise.channel.binary.OChannelBinaryProtocol;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OChannelBinaryAsynchClientTest {
+  private static final int SESSION_ID = 7;
+
+  private ServerSocket serverSocket;
+  private Socket serverSide;
+  private DataOutputStream serverOut;
+  private OChannelBinaryAsynchClient channel;
+  private ExecutorService executor;
+
+  @Before
+  public void before() throws Exception {
+    executor = Executors.newCachedThreadPool();
+    serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+    final Future<Socket> accepted =
+        executor.submit(
+            () -> {
+              final Socket socket = serverSocket.accept();
+              new DataOutputStream(socket.getOutputStream())
+                  .writeShort(OChannelBinaryProtocol.CURRENT_PROTOCOL_VERSION);
+              return socket;
+            });
+
+    channel =
+        new OChannelBinaryAsynchClient(
+            InetAddress.getLoopbackAddress().getHostAddress(),
+            serverSocket.getLocalPort(),
+            new OContextConfiguration(),
+            OChannelBinaryProtocol.CURRENT_PROTOCOL_VERSION,
+            true);
+    serverSide = accepted.get(10, TimeUnit.SECONDS);
+    serverOut = new DataOutputStream(serverSide.getOutputStream());
+  }
+
+  @After
+  public void after() throws Exception {
+    channel.close();
+    serverSide.close();
+    serverSocket.close();
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testPartiallyReadResponseFailsPendingRequests() throws Exception {
+    final long[] tickets = new long[3];
+    for (int i = 0; i < tickets.length; i++) {
+      channel.acquireWriteLock();
+      channel.writeByte((byte) i);
+      tickets[i] = channel.endPipelinedRequest();
+    }
+    Assert.assertArrayEquals(new long[] {0, 1, 2}, tickets);
+
+    // THE LAST REQUEST WAITS FOR THE RESPONSES OF THE PREVIOUS ONES
+    final Future<?> last =
+        executor.submit(
+            () -> {
+              try {
+                channel.beginPipelinedResponse(tickets[2], SESSION_ID, true);
+                Assert.fail();
+              } catch (IOException e) {
+                // expected
+              } finally {
+                channel.endResponse();
+              }
+              return null;
+            });
+
+    writeResponseHeader();
+    serverOut.writeInt(42);
+    writeResponseHeader();
+    serverOut.writeInt(43);
+    serverOut.flush();
+
+    channel.beginPipelinedResponse(tickets[0], SESSION_ID, true);
+    Assert.assertEquals(42, channel.readInt());
+    channel.markResponseRead();
+    channel.endResponse();
+    Assert.assertTrue(channel.isConnected());
+
+    // THE BODY OF THE SECOND RESPONSE IS NOT READ, SO THE THIRD ONE CANNOT BE FOUND
+    channel.beginPipelinedResponse(tickets[1], SESSION_ID, true);
+    channel.endResponse();
+    Assert.assertFalse(channel.isConnected());
+
+    last.get(10, TimeUnit.SECONDS);
+  }
+
+  private void writeResponseHeader() throws IOException {
+    serverOut.writeByte(OChannelBinaryProtocol.RESPONSE_STATUS_OK);
+    serverOut.writeInt(SESSION_ID);
+    // EMPTY TOKEN
+    serverOut.writeInt(0);
+    // MESSAGE
+    serverOut.writeByte(0);
+  }
+}
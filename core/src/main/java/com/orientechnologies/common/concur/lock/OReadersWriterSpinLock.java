@@ -173,6 +173,9 @@ public class OReadersWriterSpinLock extends AbstractOwnableSynchronizer {
     if (lHolds.intValue() < 0) {
       lHolds.decrement();
       return;
+    } else if (lHolds.intValue() > 0) {
+      // read lock can not be upgraded, the writer would wait for its own read lock forever
+      throw new IllegalStateException("Write lock can not be acquired while read lock is held");
     }
 
     final WNode node = myNode.get();
@@ -402,6 +402,7 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
     ADD_NEW_PAGE_IN_DISK_CACHE,
     CHECK_FILE_STORAGE,
     LOAD_PAGE_FROM_DISK,
+    COPY_MAPPED_PAGE,
     COPY_PAGE_DURING_FLUSH,
     COPY_PAGE_DURING_EXCLUSIVE_PAGE_FLUSH,
     FILE_FLUSH,
@@ -19,6 +19,7 @@
  */
 package com.orientechnologies.common.io;
 
+import com.kenai.jffi.Platform;
 import com.orientechnologies.common.log.OLogManager;
 import java.io.File;
 import java.io.FileInputStream;
@@ -35,6 +36,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Locale;
 
@@ -44,6 +46,9 @@ public class OFileUtils {
   public static final int GIGABYTE = 1073741824;
   public static final long TERABYTE = 1099511627776L;
 
+  /** Suffix of the incomplete copy of the file created by {@link #durableMove(Path, Path)} */
+  public static final String MOVE_SUFFIX = ".move";
+
   private static final boolean useOldFileAPI;
 
   static {
@@ -265,4 +270,45 @@ public class OFileUtils {
       Files.move(source, target);
     }
   }
+
+  /**
+   * Moves a file to the target which may be located on another file system. The content is copied
+   * next to the target under the name with {@link #MOVE_SUFFIX} suffix and forced to the disk, and
+   * only then renamed to the target, so the source is deleted only once complete copy is durable.
+   * Directories of the target and of the source are forced to the disk after the rename and after
+   * the deletion, so the file is not lost if the system crashes in between.
+   *
+   * @param source the source to move the file from.
+   * @param target the target to move the file to.
+   */
+  public static void durableMove(final Path source, final Path target) throws IOException {
+    final Path copy = target.resolveSibling(target.getFileName() + MOVE_SUFFIX);
+    Files.copy(source, copy, StandardCopyOption.REPLACE_EXISTING);
+
+    try (final FileChannel channel = FileChannel.open(copy, StandardOpenOption.WRITE)) {
+      channel.force(true);
+    }
+
+    atomicMoveWithFallback(copy, target, OFileUtils.class);
+    fsyncDirectory(target.toAbsolutePath().getParent());
+
+    Files.delete(source);
+    fsyncDirectory(source.toAbsolutePath().getParent());
+  }
+
+  /**
+   * Forces entries of the directory to the disk, so files created, renamed or deleted in it survive
+   * a system crash. Directories can not be opened on Windows, where the call does nothing.
+   *
+   * @param directory the directory to force to the disk.
+   */
+  public static void fsyncDirectory(final Path directory) throws IOException {
+    if (directory == null || Platform.getPlatform().getOS() == Platform.OS.WINDOWS) {
+      return;
+    }
+
+    try (final FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    }
+  }
 }
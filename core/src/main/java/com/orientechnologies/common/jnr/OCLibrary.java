@@ -1,7 +1,10 @@
 package com.orientechnologies.common.jnr;
 
 import jnr.ffi.NativeLong;
+import jnr.ffi.Pointer;
 import jnr.ffi.byref.PointerByReference;
+import jnr.ffi.types.off_t;
+import jnr.ffi.types.size_t;
 
 public interface OCLibrary {
   /** Address space limit. */
@@ -22,4 +25,16 @@ public interface OCLibrary {
   int getpagesize() throws LastErrorException;
 
   int pathconf(String path, int name) throws LastErrorException;
+
+  long syscall(long number, long arg1, long arg2, long arg3, long arg4, long arg5, long arg6)
+      throws LastErrorException;
+
+  /**
+   * Address is declared as a pointer, it is passed as <code>null</code> to let kernel choose it.
+   */
+  long mmap(
+      Pointer address, @size_t long length, int protection, int flags, int fd, @off_t long offset)
+      throws LastErrorException;
+
+  int munmap(long address, @size_t long length) throws LastErrorException;
 }
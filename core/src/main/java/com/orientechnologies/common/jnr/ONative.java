@@ -86,6 +86,22 @@ public class ONative {
   public static final int MCL_CURRENT = 1;
   public static final int MCL_FUTURE = 2;
 
+  public static final int FALLOC_FL_KEEP_SIZE = 0x01;
+  public static final int FALLOC_FL_PUNCH_HOLE = 0x02;
+
+  public static final int PROT_READ = 0x1;
+  public static final int PROT_WRITE = 0x2;
+
+  public static final int MAP_SHARED = 0x01;
+  public static final int MAP_POPULATE = 0x8000;
+
+  public static final int EINTR = 4;
+
+  /** numbers of io_uring system calls are the same for all architectures */
+  private static final long SYS_IO_URING_SETUP = 425;
+
+  private static final long SYS_IO_URING_ENTER = 426;
+
   private static volatile POSIX posix;
 
   public static ONative instance() {
@@ -300,6 +316,15 @@ public class ONative {
     }
   }
 
+  /** deallocates the range of the file, the range reads as zeros and the file size is kept */
+  public void punchHole(int fd, long offset, long len) throws LastErrorException {
+    final int res =
+        C_LIBRARY.fallocate(fd, FALLOC_FL_PUNCH_HOLE | FALLOC_FL_KEEP_SIZE, offset, len);
+    if (res == -1) {
+      checkLastError();
+    }
+  }
+
   public long read(int fd, ByteBuffer buffer, int count) throws LastErrorException {
     final long bytesRead = posix.read(fd, buffer, count);
     if (bytesRead == -1) {
@@ -372,6 +397,56 @@ public class ONative {
     }
   }
 
+  /**
+   * Creates io_uring instance.
+   *
+   * @param entries amount of entries of submission queue
+   * @param params address of io_uring_params structure which is filled by the offsets of the rings
+   * @return file descriptor of io_uring instance
+   */
+  public int ioUringSetup(int entries, long params) throws LastErrorException {
+    final long fd = C_LIBRARY.syscall(SYS_IO_URING_SETUP, entries, params, 0, 0, 0, 0);
+    if (fd == -1) {
+      checkLastError();
+    }
+
+    return (int) fd;
+  }
+
+  /**
+   * Submits requests placed in submission queue of io_uring instance and waits for completion of
+   * the requests.
+   *
+   * @return amount of submitted requests
+   */
+  public int ioUringEnter(int fd, int toSubmit, int minComplete, int flags)
+      throws LastErrorException {
+    final long submitted =
+        C_LIBRARY.syscall(SYS_IO_URING_ENTER, fd, toSubmit, minComplete, flags, 0, 0);
+    if (submitted == -1) {
+      checkLastError();
+    }
+
+    return (int) submitted;
+  }
+
+  public long mmap(long length, int protection, int flags, int fd, long offset)
+      throws LastErrorException {
+    final long address = C_LIBRARY.mmap(null, length, protection, flags, fd, offset);
+    if (address == -1) {
+      checkLastError();
+    }
+
+    return address;
+  }
+
+  public void munmap(long address, long length) throws LastErrorException {
+    final int res = C_LIBRARY.munmap(address, length);
+    if (res == -1) {
+      checkLastError();
+    }
+  }
+
   private long updateMemoryLimit(long memoryLimit, final long newMemoryLimit) {
     if (newMemoryLimit <= 0) {
       return memoryLimit;
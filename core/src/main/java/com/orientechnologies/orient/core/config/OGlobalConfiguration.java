@@ -30,6 +30,7 @@ import com.orientechnologies.orient.core.engine.local.OEngineLocalPaginated;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.metadata.OMetadataDefault;
 import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
+import com.orientechnologies.orient.core.storage.OChecksumAlgorithm;
 import com.orientechnologies.orient.core.storage.OChecksumMode;
 import com.orientechnologies.orient.core.storage.cluster.OPaginatedCluster;
 import java.io.PrintStream;
@@ -206,6 +207,28 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       4 * 1024,
       new OCacheSizeChangeCallback()),
 
+  DISK_CACHE_MIN_SHARE(
+      "storage.diskCache.minShare",
+      "Percentage of disk cache reserved for the pages of the database, "
+          + "they are not evicted to load pages of other databases while the database uses less",
+      Integer.class,
+      0),
+
+  DISK_CACHE_MAX_SHARE(
+      "storage.diskCache.maxShare",
+      "Maximum percentage of disk cache which may be used by the pages of the database",
+      Integer.class,
+      100),
+
+  DISK_CACHE_MEMORY_MAPPED(
+      "storage.diskCache.memoryMapped",
+      "Pages loaded from disk are served from memory mapped files instead of being copied into "
+          + "direct memory, a page is copied only when it is modified. Suits databases which are "
+          + "mostly read, like read replicas and reporting databases. "
+          + "Not used for encrypted databases",
+      Boolean.class,
+      false),
+
   DISK_WRITE_CACHE_PART(
       "storage.diskCache.writeCachePart",
       "Percentage of disk cache, which is used as write cache",
@@ -244,6 +267,14 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       25),
 
+  DISK_WRITE_CACHE_FLUSH_THREADS(
+      "storage.diskCache.writeCacheFlushThreads",
+      "Amount of threads which calculate checksums, encrypt and compress pages flushed from"
+          + " write cache. Pages are processed in parallel only if they belong to different"
+          + " chunks of data",
+      Integer.class,
+      Math.min(4, Runtime.getRuntime().availableProcessors())),
+
   DISK_WRITE_CACHE_FLUSH_WRITE_INACTIVITY_INTERVAL(
       "storage.diskCache.writeCacheFlushInactivityInterval",
       "Interval between 2 writes to the disk cache,"
@@ -302,6 +333,30 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       OChecksumMode.StoreAndSwitchReadOnlyMode,
       false),
 
+  STORAGE_CHECKSUM_ALGORITHM(
+      "storage.diskCache.checksumAlgorithm",
+      "Algorithm of per-page checksums calculated on page flushes: 'CRC32' (default), 'CRC32C' "
+          + "(requires Java 9 or newer, falls back to CRC32 otherwise) or 'XXHASH64'. Algorithm "
+          + "is recorded in each page, so it can be changed for existing databases",
+      OChecksumAlgorithm.class,
+      OChecksumAlgorithm.CRC32),
+
+  STORAGE_CHECKSUM_DEFERRED_VERIFICATION(
+      "storage.diskCache.checksumDeferredVerification",
+      "Skip verification of checksums of pages which were already verified since the storage was "
+          + "opened, when they are loaded from disk again. Such pages are verified only by the "
+          + "background scrubber and health checks. Not used for encrypted storages",
+      Boolean.class,
+      false),
+
+  STORAGE_SCRUBBER_PAGES_PER_SECOND(
+      "storage.scrubber.pagesPerSecond",
+      "Amount of pages of data files and WAL segments which are verified each second by the "
+          + "background scrubber. Pages are read bypassing the disk cache, broken pages are "
+          + "reported as if they were found during the load. 0 disables the scrubber",
+      Integer.class,
+      0),
+
   STORAGE_CHECK_LATEST_OPERATION_ID(
       "storage.checkLatestOperationId",
       "Indicates wether storage should be checked for latest operation id, "
@@ -337,6 +392,21 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       String.class,
       "nothing"),
 
+  STORAGE_PAGE_COMPRESSION_METHOD(
+      "storage.pageCompression.method",
+      "Compression of the pages of data and index files stored on disk. Possible values : lz4, "
+          + "nothing. Compressed pages are stored in sparse files, pages of encrypted storages are "
+          + "not compressed. Default is 'nothing' that means no compression",
+      String.class,
+      "nothing"),
+
+  STORAGE_PAGE_COMPRESSION_FILES(
+      "storage.pageCompression.files",
+      "Comma separated extensions of the files whose pages are compressed if "
+          + "storage.pageCompression.method is set, by default cluster and index files",
+      String.class,
+      ".pcl,.cbt,.sbt,.hib"),
+
   @Deprecated
   STORAGE_ENCRYPTION_METHOD(
       "storage.encryptionMethod",
@@ -390,6 +460,28 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Boolean.class,
       true),
 
+  STORAGE_FILE_IO_URING(
+      "storage.file.ioUring",
+      "Read and write pages of data files through io_uring on Linux, so each batch of flushed "
+          + "pages is submitted by a single system call. Asynchronous file channel is used if "
+          + "io_uring is not supported by the kernel",
+      Boolean.class,
+      false),
+
+  STORAGE_FILE_DIRECT_IO(
+      "storage.file.directIO",
+      "Write flushed pages of data files bypassing OS page cache (O_DIRECT), "
+          + "used only together with storage.file.ioUring",
+      Boolean.class,
+      false),
+
+  STORAGE_COLD_TIER_PATH(
+      "storage.tier.coldPath",
+      "Directory where files of clusters and indexes moved to the cold storage tier are stored. "
+          + "Files of each database are placed in the sub directory with the name of database",
+      String.class,
+      null),
+
   STORAGE_USE_DOUBLE_WRITE_LOG(
       "storage.useDoubleWriteLog",
       "Allows usage of double write log in storage. "
@@ -566,6 +658,14 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       1000),
 
+  WAL_GROUP_COMMIT_DELAY(
+      "storage.wal.groupCommitDelay",
+      "Delay (in microseconds) of fsync requested by transactions committed with group fsync "
+          + "durability, transactions which are committed during this interval share the same "
+          + "fsync",
+      Integer.class,
+      0),
+
   WAL_SHUTDOWN_TIMEOUT(
       "storage.wal.shutdownTimeout",
       "Maximum wait interval between events, when the background flush thread"
@@ -591,6 +691,15 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       1000),
 
+  WAL_RESTORE_THREADS(
+      "storage.wal.restore.threads",
+      "Amount of threads which apply changes of pages during a restore procedure. Changes of the "
+          + "same page are always applied by the same thread, but changes of different pages of "
+          + "the same atomic operation may be applied in any order. 1 means that changes are "
+          + "applied by the thread which reads WAL",
+      Integer.class,
+      1),
+
   @Deprecated
   WAL_READ_CACHE_SIZE(
       "storage.wal.readCacheSize",
@@ -886,6 +995,43 @@ public enum OGlobalConfiguration { // ENVIRONMENT
   INDEX_CURSOR_PREFETCH_SIZE(
       "index.stream.prefetchSize", "Default prefetch size of index stream", Integer.class, 10),
 
+  INDEX_BULK_BUILD(
+      "index.bulkBuild",
+      "Build indexes during creation and rebuild by sorting of all entries and writing pages "
+          + "of index from the leaves to the root, instead of insertion of entries one by one. "
+          + "Indexes which do not support this mode are built as usual (false by default)",
+      Boolean.class,
+      false),
+
+  INDEX_BULK_BUILD_THREADS(
+      "index.bulkBuild.threads",
+      "Amount of threads which read clusters in parallel during bulk build of index",
+      Integer.class,
+      Math.min(4, Runtime.getRuntime().availableProcessors())),
+
+  INDEX_BULK_BUILD_SORT_BUFFER_SIZE(
+      "index.bulkBuild.sortBufferSize",
+      "Amount of index entries which are sorted in memory by each thread during bulk build "
+          + "of index, once buffer is full entries are written into temporary file",
+      Integer.class,
+      250_000),
+
+  INDEX_BULK_BUILD_TEMP_PATH(
+      "index.bulkBuild.tempPath",
+      "Directory where temporary files are placed during bulk build of index, "
+          + "if it is not set temporary directory of the JVM is used",
+      String.class,
+      null),
+
+  INDEX_ONLINE_BUILD(
+      "index.onlineBuild",
+      "Build new automatic indexes without blocking of writes to the indexed classes. Changes "
+          + "committed during the build are captured and applied to the index before it becomes "
+          + "available to queries. May be overridden by \"online\" field of index metadata "
+          + "(false by default)",
+      Boolean.class,
+      false),
+
   // SBTREE
   SBTREE_MAX_DEPTH(
       "sbtree.maxDepth",
@@ -950,6 +1096,12 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       -1,
       true),
 
+  RID_BAG_EMBEDDED_DELTA_ENCODING(
+      "ridBag.embeddedDeltaEncoding",
+      "Store links of embedded LINKBAG grouped by cluster and delta encoded, which takes less space on disk and in memory. Records written this way can not be read by previous versions",
+      Boolean.class,
+      false),
+
   RID_BAG_SBTREEBONSAI_DELETE_DELAY(
       "ridBag.sbtreeBonsaiDeleteDelay",
       "How long should pass from last access before delete an already converted ridbag",
@@ -1090,6 +1242,30 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       false,
       true),
 
+  NETWORK_BINARY_EVENT_LOOP(
+      "network.binary.eventLoop",
+      "Serve the connections of the binary protocol with a few selector threads and a pool of workers instead of a thread per connection",
+      Boolean.class,
+      false),
+
+  NETWORK_BINARY_EVENT_LOOP_SELECTORS(
+      "network.binary.eventLoop.selectors",
+      "Number of selector threads waiting for requests on idle binary connections",
+      Integer.class,
+      2),
+
+  NETWORK_BINARY_EVENT_LOOP_WORKERS(
+      "network.binary.eventLoop.workers",
+      "Maximum number of threads executing the requests of the binary connections. If 0, a virtual thread per request is used when the JVM supports them, otherwise twice the number of cores",
+      Integer.class,
+      0),
+
+  NETWORK_BINARY_EVENT_LOOP_READ_TIMEOUT(
+      "network.binary.eventLoop.readTimeout",
+      "Timeout in ms a worker of the binary event loop waits for the rest of a partially received request. When it expires the connection is closed and the worker is released",
+      Integer.class,
+      2000),
+
   // HTTP
 
   /** Since v2.2.8 */
@@ -1312,6 +1488,12 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       1000),
 
+  QUERY_REMOTE_RESULTSET_PREFETCH(
+      "query.remoteResultSet.prefetch",
+      "The number of pages of a remote ResultSet that are requested in advance, the server produces them while the client consumes the pages already received. 0 means that a page is requested only when the previous one is consumed. This has to be set on the client.",
+      Integer.class,
+      0),
+
   QUERY_REMOTE_SEND_EXECUTION_PLAN(
       "query.remoteResultSet.sendExecutionPlan",
       "Send the execution plan details or not. False by default",
@@ -1336,6 +1518,12 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       20000),
 
+  QUERY_PARALLEL_MAX_WORKERS(
+      "query.parallelMaxWorkers",
+      "Maximum number of worker threads used by a single query to execute its sub-plans in parallel. Use 0 to use as many workers as available CPU cores",
+      Integer.class,
+      0),
+
   QUERY_SCAN_PREFETCH_PAGES(
       "query.scanPrefetchPages",
       "Pages to prefetch during scan. Setting this value higher makes scans faster, because it reduces the number of I/O operations, though it consumes more memory. (Use 0 to disable)",
@@ -1369,6 +1557,28 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Long.class,
       500_000),
 
+  QUERY_SPILL_TO_DISK(
+      "query.spillToDisk",
+      "When a memory-intensive operation (eg. ORDER BY) exceeds "
+          + "query.maxHeapElementsAllowedPerOp, move its intermediate results to temporary files "
+          + "instead of failing the query",
+      Boolean.class,
+      false),
+
+  QUERY_STATISTICS_HISTOGRAM_BUCKETS(
+      "query.statistics.histogramBuckets",
+      "Number of buckets of histograms of values of indexed properties built by ANALYZE CLASS. "
+          + "Histograms are used by the query planner to estimate selectivity of conditions",
+      Integer.class,
+      100),
+
+  QUERY_STATISTICS_SAMPLE_SIZE(
+      "query.statistics.sampleSize",
+      "Maximum number of index keys sampled by ANALYZE CLASS to build a histogram of values of "
+          + "a property. Number of values and distinct values are calculated on all keys",
+      Integer.class,
+      30_000),
+
   QUERY_LIVE_SUPPORT(
       "query.live.support",
       "Enable/Disable the support of live query. (Use false to disable)",
@@ -1402,6 +1612,18 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       100),
 
+  CLIENT_CHANNEL_PIPELINED(
+      "client.channel.pipelined",
+      "Number of network channels per server shared by the concurrent requests of a client: requests are pipelined on them without waiting for the previous responses, that are read in the same order. If 0, every request uses a channel of the pool exclusively",
+      Integer.class,
+      0),
+
+  CLIENT_ASYNC_RESPONSE_READERS(
+      "client.async.responseReaders",
+      "Maximum number of threads per remote storage that read the responses of asynchronous operations. When all of them are busy, the response is read by the thread that sent the request",
+      Integer.class,
+      16),
+
   /**
    * Maximum time, where the client should wait for a connection from the pool, when all connections
    * busy.
@@ -1909,6 +2131,14 @@ public enum OGlobalConfiguration { // ENVIRONMENT
   TX_COMMIT_SYNCH(
       "tx.commit.synch", "Synchronizes the storage after transaction commit", Boolean.class, false),
 
+  TX_COMMIT_DURABILITY(
+      "tx.commit.durability",
+      "Default durability of committed transactions: 'async' - commit does not wait for fsync "
+          + "of WAL, 'group' - commit waits for fsync of WAL shared with concurrent transactions, "
+          + "'immediate' - commit forces WAL to the disk by itself",
+      String.class,
+      "async"),
+
   @Deprecated
   TX_AUTO_RETRY(
       "tx.autoRetry",
@@ -22,4 +22,13 @@ package com.orientechnologies.orient.core.db;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 
 /** Session for database operations with a specific user. */
-public interface ODatabaseSession extends ODatabaseDocument {}
+public interface ODatabaseSession extends ODatabaseDocument {
+
+  /**
+   * Returns the asynchronous operations of this session, remote sessions send the request and
+   * return without waiting for the response.
+   */
+  default ODatabaseSessionAsync async() {
+    return new ODatabaseSessionSyncAsync(this);
+  }
+}
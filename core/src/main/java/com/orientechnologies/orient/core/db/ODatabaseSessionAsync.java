@@ -0,0 +1,80 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.db;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous operations of a {@link ODatabaseSession}, obtained with {@link
+ * ODatabaseSession#async()}.
+ *
+ * <p>A session executes one operation at a time: the session cannot be used until the returned
+ * future is completed. The future can be completed in a thread different from the caller one, in
+ * that thread the session is not active, the dependent actions that use the session have to call
+ * {@link ODatabaseSession#activateOnCurrentThread()} first.
+ */
+public interface ODatabaseSessionAsync {
+
+  /**
+   * Executes an idempotent SQL query, see {@link ODatabaseSession#query(String, Object...)}.
+   *
+   * @return the future of the result set, the result set has to be closed after use
+   */
+  CompletableFuture<OResultSet> query(String query, Object... args);
+
+  /**
+   * Executes an idempotent SQL query, see {@link ODatabaseSession#query(String, Map)}.
+   *
+   * @return the future of the result set, the result set has to be closed after use
+   */
+  CompletableFuture<OResultSet> query(String query, Map args);
+
+  /**
+   * Executes a generic SQL command, see {@link ODatabaseSession#command(String, Object...)}.
+   *
+   * @return the future of the result set, the result set has to be closed after use
+   */
+  CompletableFuture<OResultSet> command(String query, Object... args);
+
+  /**
+   * Executes a generic SQL command, see {@link ODatabaseSession#command(String, Map)}.
+   *
+   * @return the future of the result set, the result set has to be closed after use
+   */
+  CompletableFuture<OResultSet> command(String query, Map args);
+
+  /**
+   * Loads a record, see {@link ODatabaseSession#load(ORID)}.
+   *
+   * @return the future of the record, completed with null if the record does not exist
+   */
+  <RET extends ORecord> CompletableFuture<RET> load(ORID recordId);
+
+  /**
+   * Saves a record, see {@link ODatabaseSession#save(ORecord)}.
+   *
+   * @return the future of the saved record
+   */
+  <RET extends ORecord> CompletableFuture<RET> save(ORecord record);
+}
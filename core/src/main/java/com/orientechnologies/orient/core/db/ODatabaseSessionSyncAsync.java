@@ -0,0 +1,80 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.db;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous operations of a session that executes them in the caller thread and returns futures
+ * that are already completed, used by the sessions that have no asynchronous implementation, like
+ * the embedded ones where there is no network round trip to overlap.
+ */
+public class ODatabaseSessionSyncAsync implements ODatabaseSessionAsync {
+  private final ODatabaseSession session;
+
+  public ODatabaseSessionSyncAsync(final ODatabaseSession session) {
+    this.session = session;
+  }
+
+  @Override
+  public CompletableFuture<OResultSet> query(final String query, final Object... args) {
+    return execute(() -> session.query(query, args));
+  }
+
+  @Override
+  public CompletableFuture<OResultSet> query(final String query, final Map args) {
+    return execute(() -> session.query(query, args));
+  }
+
+  @Override
+  public CompletableFuture<OResultSet> command(final String query, final Object... args) {
+    return execute(() -> session.command(query, args));
+  }
+
+  @Override
+  public CompletableFuture<OResultSet> command(final String query, final Map args) {
+    return execute(() -> session.command(query, args));
+  }
+
+  @Override
+  public <RET extends ORecord> CompletableFuture<RET> load(final ORID recordId) {
+    return execute(() -> session.load(recordId));
+  }
+
+  @Override
+  public <RET extends ORecord> CompletableFuture<RET> save(final ORecord record) {
+    return execute(() -> session.save(record));
+  }
+
+  protected static <T> CompletableFuture<T> execute(final Supplier<T> operation) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    try {
+      future.complete(operation.get());
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+}
@@ -773,7 +773,17 @@ public class OrientDBEmbedded implements OrientDBInternal {
             "Cannot create new storage '" + name + "' because it already exists");
     }
     storage.restoreFromIncrementalBackup(path);
-    embedded.callOnCreateListeners();
+    // metadata was loaded from the empty database, it is loaded again from the restored one
+    synchronized (this) {
+      final OSharedContext context = sharedContexts.remove(storage.getName());
+      if (context != null) {
+        context.close();
+      }
+    }
+    ODatabaseRecordThreadLocal.instance().remove();
+    try (final ODatabaseDocumentEmbedded restored = openNoAuthorization(name)) {
+      restored.callOnCreateListeners();
+    }
     ODatabaseRecordThreadLocal.instance().remove();
   }
 
@@ -70,6 +70,7 @@ import com.orientechnologies.orient.core.metadata.security.OUser;
 import com.orientechnologies.orient.core.metadata.security.auth.OAuthenticationInfo;
 import com.orientechnologies.orient.core.metadata.sequence.OSequenceAction;
 import com.orientechnologies.orient.core.metadata.sequence.OSequenceLibraryProxy;
+import com.orientechnologies.orient.core.metadata.statistics.OStatisticsManager;
 import com.orientechnologies.orient.core.query.live.OLiveQueryHook;
 import com.orientechnologies.orient.core.query.live.OLiveQueryHookV2;
 import com.orientechnologies.orient.core.query.live.OLiveQueryListenerV2;
@@ -104,6 +105,7 @@ import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedSt
 import com.orientechnologies.orient.core.storage.impl.local.OMicroTransaction;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.ORecordSerializationContext;
 import com.orientechnologies.orient.core.tx.OTransactionAbstract;
+import com.orientechnologies.orient.core.tx.OTransactionInternal;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.Map.Entry;
@@ -1101,6 +1103,9 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
           ORole.PERMISSION_DELETE,
           ((ODocument) record).getClassName());
 
+    // INDEXES OF THE CLASS MAY BE CHANGED SINCE DOCUMENT WAS LOADED
+    if (record instanceof ODocument) ODocumentInternal.checkClass((ODocument) record, this);
+
     try {
       currentTx.deleteRecord(record, OPERATION_MODE.SYNCHRONOUS);
     } catch (OException e) {
@@ -1296,6 +1301,12 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
     return callbackHooks(ORecordHook.TYPE.BEFORE_READ, identifiable) == ORecordHook.RESULT.SKIP;
   }
 
+  @Override
+  public void internalCommit(OTransactionInternal transaction) {
+    super.internalCommit(transaction);
+    OStatisticsManager.afterCommit(this, transaction.getIndexOperations());
+  }
+
   @Override
   protected void afterCommitOperations() {
     super.afterCommitOperations();
@@ -16,6 +16,7 @@ import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseInternal;
 import com.orientechnologies.orient.core.db.ODatabaseListener;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.ODatabaseSessionAsync;
 import com.orientechnologies.orient.core.db.ODatabaseType;
 import com.orientechnologies.orient.core.db.OLiveQueryMonitor;
 import com.orientechnologies.orient.core.db.OLiveQueryResultListener;
@@ -1376,6 +1377,12 @@ public class ODatabaseDocumentTx implements ODatabaseDocumentInternal {
     }
   }
 
+  @Override
+  public ODatabaseSessionAsync async() {
+    checkOpenness();
+    return internal.async();
+  }
+
   @Override
   public OResultSet query(String query, Object... args) {
     checkOpenness();
@@ -34,6 +34,7 @@ import com.orientechnologies.orient.core.db.record.ORecordElement;
 import com.orientechnologies.orient.core.db.record.ridbag.ORidBagDelegate;
 import com.orientechnologies.orient.core.exception.OSerializationException;
 import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.ORecordInternal;
 import com.orientechnologies.orient.core.record.impl.OSimpleMultiValueTracker;
@@ -53,6 +54,12 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
   private Object[] entries = OCommonConst.EMPTY_OBJECT_ARRAY;
   private int entriesLength = 0;
 
+  /**
+   * Persistent links encoded by {@link ORidBagDeltaEncoding}, they are used instead of {@link
+   * #entries} until the bag is modified. Array is never changed, so it is shared by copies.
+   */
+  private byte[] encodedEntries;
+
   private boolean convertToRecord = true;
   private int size = 0;
 
@@ -74,9 +81,97 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
   }
 
   public Object[] getEntries() {
+    decodeEntries();
     return entries;
   }
 
+  /**
+   * @return links encoded by {@link ORidBagDeltaEncoding} or {@code null} if links are not encoded
+   *     because the bag was changed
+   */
+  public byte[] getEncodedEntries() {
+    return encodedEntries;
+  }
+
+  /** Replaces content of the bag by persistent links encoded by {@link ORidBagDeltaEncoding}. */
+  public void setEncodedEntries(final int size, final byte[] encodedEntries) {
+    this.entries = OCommonConst.EMPTY_OBJECT_ARRAY;
+    this.entriesLength = 0;
+    this.size = size;
+    this.encodedEntries = encodedEntries;
+  }
+
+  private void decodeEntries() {
+    final byte[] encoded = encodedEntries;
+    if (encoded == null) {
+      return;
+    }
+
+    encodedEntries = null;
+    final ORidBagDeltaEncoding.Decoder decoder = new ORidBagDeltaEncoding.Decoder(encoded);
+    while (decoder.hasNext()) {
+      decoder.next();
+      appendEntry(new ORecordId(decoder.getClusterId(), decoder.getClusterPosition()));
+    }
+  }
+
+  private final class EncodedEntriesIterator
+      implements Iterator<OIdentifiable>, OResettable, OSizeable {
+    private final byte[] encoded;
+    private final boolean convertToRecord;
+
+    private ORidBagDeltaEncoding.Decoder decoder;
+    private ORID current;
+    private boolean currentRemoved;
+
+    private EncodedEntriesIterator(final byte[] encoded, final boolean convertToRecord) {
+      this.encoded = encoded;
+      this.convertToRecord = convertToRecord;
+      reset();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return decoder.hasNext();
+    }
+
+    @Override
+    public OIdentifiable next() {
+      decoder.next();
+      currentRemoved = false;
+      current = new ORecordId(decoder.getClusterId(), decoder.getClusterPosition());
+
+      if (convertToRecord) return current.getRecord();
+
+      return current;
+    }
+
+    @Override
+    public void remove() {
+      if (currentRemoved)
+        throw new IllegalStateException("Current element has already been removed");
+
+      if (current == null)
+        throw new IllegalStateException("Next method was not called for given iterator");
+
+      // BAG IS DECODED, BUT ITERATION CONTINUES OVER ENCODED LINKS WHICH ARE NOT CHANGED
+      currentRemoved = true;
+      OEmbeddedRidBag.this.remove(current);
+    }
+
+    @Override
+    public void reset() {
+      decoder = new ORidBagDeltaEncoding.Decoder(encoded);
+      current = null;
+      currentRemoved = false;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+
   private final class EntriesIterator implements Iterator<OIdentifiable>, OResettable, OSizeable {
     private final boolean convertToRecord;
     private int currentIndex = -1;
@@ -200,6 +295,19 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
   public boolean contains(OIdentifiable identifiable) {
     if (identifiable == null) return false;
 
+    final byte[] encoded = encodedEntries;
+    if (encoded != null) {
+      final ORID rid = identifiable.getIdentity();
+      final ORidBagDeltaEncoding.Decoder decoder = new ORidBagDeltaEncoding.Decoder(encoded);
+      while (decoder.hasNext()) {
+        decoder.next();
+        if (decoder.getClusterId() == rid.getClusterId()
+            && decoder.getClusterPosition() == rid.getClusterPosition()) return true;
+      }
+
+      return false;
+    }
+
     for (int i = 0; i < entriesLength; i++) {
       if (identifiable.equals(entries[i])) return true;
     }
@@ -258,6 +366,7 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
     copy.contentWasChanged = contentWasChanged;
     copy.entries = entries;
     copy.entriesLength = entriesLength;
+    copy.encodedEntries = encodedEntries;
     copy.convertToRecord = convertToRecord;
     copy.size = size;
     copy.owner = owner;
@@ -284,6 +393,7 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
    * @return
    */
   public boolean swap(int index, OIdentifiable newValue) {
+    decodeEntries();
     EntriesIterator iter = (EntriesIterator) rawIterator();
     int currIndex = 0;
     while (iter.hasNext()) {
@@ -304,16 +414,23 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
 
   @Override
   public Iterator<OIdentifiable> iterator() {
+    final byte[] encoded = encodedEntries;
+    if (encoded != null) return new EncodedEntriesIterator(encoded, convertToRecord);
+
     return new EntriesIterator(convertToRecord);
   }
 
   @Override
   public Iterator<OIdentifiable> rawIterator() {
+    final byte[] encoded = encodedEntries;
+    if (encoded != null) return new EncodedEntriesIterator(encoded, false);
+
     return new EntriesIterator(false);
   }
 
   @Override
   public void convertLinks2Records() {
+    decodeEntries();
     for (int i = 0; i < entriesLength; i++) {
       final Object entry = entries[i];
 
@@ -436,6 +553,7 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
 
   @Override
   public int serialize(byte[] stream, int offset, UUID ownerUuid) {
+    decodeEntries();
     OIntegerSerializer.INSTANCE.serializeLiteral(size, stream, offset);
     offset += OIntegerSerializer.INT_SIZE;
     ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
@@ -502,6 +620,11 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
   }
 
   public void addEntry(final OIdentifiable identifiable) {
+    decodeEntries();
+    appendEntry(identifiable);
+  }
+
+  private void appendEntry(final OIdentifiable identifiable) {
     if (entries.length == entriesLength) {
       if (entriesLength == 0) {
         final int cfgValue =
@@ -518,6 +641,7 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
   }
 
   private boolean removeEntry(OIdentifiable identifiable) {
+    decodeEntries();
     int i = 0;
     for (; i < entriesLength; i++) {
       final Object entry = entries[i];
@@ -0,0 +1,94 @@
+package com.orientechnologies.orient.core.db.record.ridbag.embedded;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.OVarIntSerializer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Compact encoding of links of embedded LINKBAG which is used both in memory and on disk. Links are
+ * grouped by cluster and sorted by position inside of the group. Each group is written as cluster
+ * id, amount of links and their positions, all positions except the first one are written as deltas
+ * from the previous position. All numbers are written as varints.
+ */
+public final class ORidBagDeltaEncoding {
+  private ORidBagDeltaEncoding() {}
+
+  /**
+   * Encodes the first {@code count} links of the array, links are sorted in place.
+   *
+   * @return encoded links
+   */
+  public static byte[] encode(final ORID[] rids, final int count) {
+    Arrays.sort(rids, 0, count);
+
+    final BytesContainer bytes = new BytesContainer();
+    int groupStart = 0;
+    while (groupStart < count) {
+      final int clusterId = rids[groupStart].getClusterId();
+
+      int groupEnd = groupStart + 1;
+      while (groupEnd < count && rids[groupEnd].getClusterId() == clusterId) {
+        groupEnd++;
+      }
+
+      OVarIntSerializer.write(bytes, clusterId);
+      OVarIntSerializer.writeUnsignedVarLong(groupEnd - groupStart, bytes);
+
+      long previous = rids[groupStart].getClusterPosition();
+      OVarIntSerializer.write(bytes, previous);
+      for (int i = groupStart + 1; i < groupEnd; i++) {
+        final long position = rids[i].getClusterPosition();
+        OVarIntSerializer.writeUnsignedVarLong(position - previous, bytes);
+        previous = position;
+      }
+
+      groupStart = groupEnd;
+    }
+
+    return bytes.fitBytes();
+  }
+
+  /** Reads encoded links one by one, record ids are not created for them. */
+  public static final class Decoder {
+    private final BytesContainer bytes;
+    private final int end;
+
+    private int clusterId;
+    private long clusterPosition;
+    private long groupRemaining;
+
+    public Decoder(final byte[] encoded) {
+      this.bytes = new BytesContainer(encoded);
+      this.end = encoded.length;
+    }
+
+    public boolean hasNext() {
+      return groupRemaining > 0 || bytes.offset < end;
+    }
+
+    /** Moves to the next link, its cluster id and position are returned by getters. */
+    public void next() {
+      if (groupRemaining > 0) {
+        clusterPosition += OVarIntSerializer.readUnsignedVarLong(bytes);
+      } else if (bytes.offset < end) {
+        clusterId = OVarIntSerializer.readAsInteger(bytes);
+        groupRemaining = OVarIntSerializer.readUnsignedVarLong(bytes);
+        clusterPosition = OVarIntSerializer.readAsLong(bytes);
+      } else {
+        throw new NoSuchElementException();
+      }
+
+      groupRemaining--;
+    }
+
+    public int getClusterId() {
+      return clusterId;
+    }
+
+    public long getClusterPosition() {
+      return clusterPosition;
+    }
+  }
+}
@@ -21,6 +21,7 @@ import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
 import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeIndexEngine;
 import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeMultiValueIndexEngine;
 import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeSingleValueIndexEngine;
+import com.orientechnologies.orient.core.index.engine.v1.ONormalizedKeyIndexEngine;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.storage.OStorage;
@@ -50,6 +51,7 @@ public class ODefaultIndexFactory implements OIndexFactory {
   static final String SBTREE_BONSAI_VALUE_CONTAINER = "SBTREEBONSAISET";
   public static final String NONE_VALUE_CONTAINER = "NONE";
   static final String CELL_BTREE_ALGORITHM = "CELL_BTREE";
+  static final String NORMALIZED_KEY_BTREE_ALGORITHM = "NKBTREE";
 
   private static final Set<String> TYPES;
   private static final Set<String> ALGORITHMS;
@@ -67,6 +69,7 @@ public class ODefaultIndexFactory implements OIndexFactory {
     final Set<String> algorithms = new HashSet<>();
     algorithms.add(SBTREE_ALGORITHM);
     algorithms.add(CELL_BTREE_ALGORITHM);
+    algorithms.add(NORMALIZED_KEY_BTREE_ALGORITHM);
 
     ALGORITHMS = Collections.unmodifiableSet(algorithms);
   }
@@ -119,6 +122,14 @@ public class ODefaultIndexFactory implements OIndexFactory {
       version = getLastVersion(algorithm);
     }
 
+    if (NORMALIZED_KEY_BTREE_ALGORITHM.equals(algorithm) && isMultiValueIndex(indexType)) {
+      throw new OConfigurationException(
+          "Algorithm "
+              + NORMALIZED_KEY_BTREE_ALGORITHM
+              + " supports only single value indexes (UNIQUE, DICTIONARY), not "
+              + indexType);
+    }
+
     return createSBTreeIndex(
         name,
         indexType,
@@ -201,6 +212,8 @@ public class ODefaultIndexFactory implements OIndexFactory {
         return OSBTreeIndexEngine.VERSION;
       case CELL_BTREE_ALGORITHM:
         return OCellBTreeIndexEngine.VERSION;
+      case NORMALIZED_KEY_BTREE_ALGORITHM:
+        return ONormalizedKeyIndexEngine.VERSION;
     }
 
     throw new IllegalStateException("Invalid algorithm name " + algorithm);
@@ -247,6 +260,15 @@ public class ODefaultIndexFactory implements OIndexFactory {
                       indexId, name, (OAbstractPaginatedStorage) storage, version);
             }
             break;
+          case NORMALIZED_KEY_BTREE_ALGORITHM:
+            if (multiValue) {
+              throw new OIndexException(
+                  "Algorithm " + algorithm + " does not support multi value indexes");
+            }
+            indexEngine =
+                new ONormalizedKeyIndexEngine(
+                    indexId, name, (OAbstractPaginatedStorage) storage, version);
+            break;
           default:
             throw new IllegalStateException("Invalid name of algorithm :'" + "'");
         }
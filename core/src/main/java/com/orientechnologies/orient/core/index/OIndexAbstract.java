@@ -26,11 +26,13 @@ import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.listener.OProgressListener;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.thread.OThreadPoolExecutorWithLogging;
 import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ORecordOperation;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.exception.OConfigurationException;
 import com.orientechnologies.orient.core.exception.OInvalidIndexEngineIdException;
@@ -38,11 +40,13 @@ import com.orientechnologies.orient.core.exception.OManualIndexesAreProhibited;
 import com.orientechnologies.orient.core.exception.OTooBigIndexKeyException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
+import com.orientechnologies.orient.core.index.engine.OIndexBulkLoader;
 import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
 import com.orientechnologies.orient.core.storage.OStorage;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
@@ -54,17 +58,26 @@ import com.orientechnologies.orient.core.tx.OTransactionIndexChanges;
 import com.orientechnologies.orient.core.tx.OTransactionIndexChangesPerKey;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -79,6 +92,11 @@ public abstract class OIndexAbstract implements OIndexInternal {
 
   protected static final String CONFIG_MAP_RID = "mapRid";
   private static final String CONFIG_CLUSTERS = "clusters";
+
+  // COMMITS ARE PAUSED ONLY WHEN THAT FEW CHANGES ARE LEFT TO APPLY AFTER ONLINE BUILD
+  private static final int ONLINE_BUILD_PAUSE_THRESHOLD = 1_000;
+  private static final int ONLINE_BUILD_MAX_ROUNDS = 16;
+
   protected final String type;
   protected final ODocument metadata;
   protected final OAbstractPaginatedStorage storage;
@@ -97,6 +115,7 @@ public abstract class OIndexAbstract implements OIndexInternal {
   private String algorithm;
   private volatile OIndexDefinition indexDefinition;
   private final Map<String, String> engineProperties = new HashMap<>();
+  private volatile CapturedChanges capturedChanges;
   protected final int binaryFormatVersion;
   protected final OAtomicOperationsManager atomicOperationsManager;
 
@@ -547,7 +566,13 @@ public abstract class OIndexAbstract implements OIndexInternal {
       releaseExclusiveLock();
     }
 
-    acquireSharedLock();
+    // INDEX WHICH IS FILLED IN BULK CAN NOT BE MODIFIED CONCURRENTLY
+    final boolean bulkBuild = OGlobalConfiguration.INDEX_BULK_BUILD.getValueAsBoolean();
+    if (bulkBuild) {
+      acquireExclusiveLock();
+    } else {
+      acquireSharedLock();
+    }
     try {
       documentIndexed = fillIndex(iProgressListener, true);
     } catch (final Exception e) {
@@ -565,7 +590,11 @@ public abstract class OIndexAbstract implements OIndexInternal {
     } finally {
       if (intentInstalled) getDatabase().declareIntent(null);
 
-      releaseSharedLock();
+      if (bulkBuild) {
+        releaseExclusiveLock();
+      } else {
+        releaseSharedLock();
+      }
     }
 
     return documentIndexed;
@@ -582,13 +611,19 @@ public abstract class OIndexAbstract implements OIndexInternal {
 
       if (iProgressListener != null) iProgressListener.onBegin(this, documentTotal, rebuild);
 
-      // INDEX ALL CLUSTERS
-      for (final String clusterName : clustersToIndex) {
-        final long[] metrics =
-            indexCluster(
-                clusterName, iProgressListener, documentNum, documentIndexed, documentTotal);
-        documentNum = metrics[0];
-        documentIndexed = metrics[1];
+      // EMPTY INDEXES ARE CREATED BEFORE SECURITY IS SET UP, DATABASE CAN NOT BE COPIED THEN
+      final OIndexBulkLoader bulkLoader = documentTotal > 0 ? bulkLoader() : null;
+      if (bulkLoader != null) {
+        documentIndexed = bulkFillIndex(bulkLoader, iProgressListener, documentTotal);
+      } else {
+        // INDEX ALL CLUSTERS
+        for (final String clusterName : clustersToIndex) {
+          final long[] metrics =
+              indexCluster(
+                  clusterName, iProgressListener, documentNum, documentIndexed, documentTotal);
+          documentNum = metrics[0];
+          documentIndexed = metrics[1];
+        }
       }
 
       if (iProgressListener != null) iProgressListener.onCompletition(this, true);
@@ -599,6 +634,386 @@ public abstract class OIndexAbstract implements OIndexInternal {
     return documentIndexed;
   }
 
+  private OIndexBulkLoader bulkLoader() {
+    if (!OGlobalConfiguration.INDEX_BULK_BUILD.getValueAsBoolean()) {
+      return null;
+    }
+
+    while (true) {
+      try {
+        return createBulkLoader();
+      } catch (OInvalidIndexEngineIdException ignore) {
+        doReloadIndexEngine();
+      }
+    }
+  }
+
+  /**
+   * Creates loader which fills the empty index in bulk. Only indexes which put keys of documents
+   * into the storage as is may be filled this way.
+   *
+   * @return loader or {@code null} if index is filled by insertion of keys one by one
+   */
+  protected OIndexBulkLoader createBulkLoader() throws OInvalidIndexEngineIdException {
+    return null;
+  }
+
+  /**
+   * @return {@code true} if later put of the key replaces the previous one, so keys have to be
+   *     passed to the bulk loader in the order in which they are put by the usual fill
+   */
+  protected boolean isBulkFilledInOrder() {
+    return false;
+  }
+
+  /**
+   * Fills index in bulk. Clusters are read in parallel, each by its own copy of the database, keys
+   * are passed to the loader which sorts them and then writes pages of the index. If keys have to
+   * be passed in order, clusters are read one by one through the single sink.
+   */
+  private long bulkFillIndex(
+      final OIndexBulkLoader bulkLoader,
+      final OProgressListener iProgressListener,
+      final long documentTotal) {
+    final AtomicLong documentNum = new AtomicLong();
+    final AtomicLong documentIndexed = new AtomicLong();
+
+    final List<List<String>> portions = new ArrayList<>();
+    if (isBulkFilledInOrder()) {
+      portions.add(new ArrayList<>(clustersToIndex));
+    } else {
+      for (final String clusterName : clustersToIndex) {
+        portions.add(Collections.singletonList(clusterName));
+      }
+    }
+
+    final int threads =
+        Math.max(
+            1,
+            Math.min(
+                OGlobalConfiguration.INDEX_BULK_BUILD_THREADS.getValueAsInteger(),
+                portions.size()));
+    final ExecutorService executor =
+        new OThreadPoolExecutorWithLogging(
+            threads,
+            threads,
+            0,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            r -> {
+              final Thread thread = new Thread(r);
+              thread.setDaemon(true);
+              thread.setName("OrientDB Index Bulk Build (" + name + ")");
+              return thread;
+            });
+
+    final ODatabaseDocumentInternal database = getDatabase();
+    final List<Future<Void>> futures = new ArrayList<>();
+    // COPIES ARE CLAIMED BY THE TASKS, COPIES OF THE TASKS WHICH NEVER RUN ARE CLOSED AT THE END
+    final Map<ODatabaseDocumentInternal, AtomicBoolean> sessions = new HashMap<>();
+    try {
+      try {
+        for (final List<String> clusterNames : portions) {
+          // DATABASE IS COPIED BY THE THREAD WHICH HOLDS LOCKS OF THE INDEX MANAGER
+          final ODatabaseDocumentInternal session = database.copy();
+          final AtomicBoolean claimed = new AtomicBoolean();
+          sessions.put(session, claimed);
+
+          futures.add(
+              executor.submit(
+                  () -> {
+                    if (!claimed.compareAndSet(false, true)) {
+                      return null;
+                    }
+
+                    session.activateOnCurrentThread();
+                    try (final OIndexBulkLoader.Sink sink = bulkLoader.sink()) {
+                      for (final String clusterName : clusterNames) {
+                        bulkIndexCluster(
+                            session,
+                            clusterName,
+                            sink,
+                            iProgressListener,
+                            documentNum,
+                            documentIndexed,
+                            documentTotal);
+                      }
+                    } finally {
+                      session.close();
+                    }
+                    return null;
+                  }));
+        }
+
+        for (final Future<Void> future : futures) {
+          future.get();
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw OException.wrapException(
+            new OCommandExecutionException("The index rebuild has been interrupted"), e);
+      } catch (final ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+
+        throw OException.wrapException(
+            new OIndexException("Error during bulk build of index " + name), e.getCause());
+      } finally {
+        for (final Future<Void> future : futures) {
+          future.cancel(true);
+        }
+
+        executor.shutdown();
+
+        for (final Map.Entry<ODatabaseDocumentInternal, AtomicBoolean> entry :
+            sessions.entrySet()) {
+          if (entry.getValue().compareAndSet(false, true)) {
+            entry.getKey().activateOnCurrentThread();
+            entry.getKey().close();
+          }
+        }
+        database.activateOnCurrentThread();
+      }
+
+      while (true) {
+        try {
+          storage.bulkLoadIndex(indexId, bulkLoader);
+          break;
+        } catch (OInvalidIndexEngineIdException ignore) {
+          doReloadIndexEngine();
+        }
+      }
+    } finally {
+      try {
+        bulkLoader.close();
+      } catch (final IOException e) {
+        OLogManager.instance()
+            .error(this, "Can not remove temporary files of bulk build of index %s", e, name);
+      }
+    }
+
+    return documentIndexed.get();
+  }
+
+  private void bulkIndexCluster(
+      final ODatabaseDocumentInternal session,
+      final String clusterName,
+      final OIndexBulkLoader.Sink sink,
+      final OProgressListener iProgressListener,
+      final AtomicLong documentNum,
+      final AtomicLong documentIndexed,
+      final long documentTotal)
+      throws IOException {
+    try {
+      for (final ORecord record : session.browseCluster(clusterName)) {
+        if (Thread.interrupted())
+          throw new OCommandExecutionException("The index rebuild has been interrupted");
+
+        if (record instanceof ODocument) {
+          final ODocument doc = (ODocument) record;
+
+          if (indexDefinition == null)
+            throw new OConfigurationException(
+                "Index '"
+                    + name
+                    + "' cannot be rebuilt because has no a valid definition ("
+                    + indexDefinition
+                    + ")");
+
+          final Object fieldValue = indexDefinition.getDocumentValueToIndex(doc);
+
+          if (fieldValue != null || !indexDefinition.isNullValuesIgnored()) {
+            if (fieldValue instanceof Collection) {
+              for (final Object fieldValueItem : (Collection<?>) fieldValue) {
+                sink.add(getCollatingValue(fieldValueItem), doc.getIdentity());
+              }
+            } else {
+              sink.add(getCollatingValue(fieldValue), doc.getIdentity());
+            }
+
+            documentIndexed.incrementAndGet();
+          }
+        }
+
+        final long num = documentNum.incrementAndGet();
+        if (iProgressListener != null) {
+          synchronized (iProgressListener) {
+            iProgressListener.onProgress(this, num, (float) (num * 100.0 / documentTotal));
+          }
+        }
+      }
+    } catch (NoSuchElementException ignore) {
+      // END OF CLUSTER REACHED, IGNORE IT
+    }
+  }
+
+  /**
+   * Starts capture of changes of documents of indexed clusters, it has to be followed by {@link
+   * #buildOnline(OProgressListener)}.
+   */
+  public void startOnlineBuild() {
+    final Set<Integer> clusterIds = new HashSet<>();
+    for (final String cluster : clustersToIndex) {
+      clusterIds.add(storage.getClusterIdByName(cluster));
+    }
+
+    capturedChanges = new CapturedChanges(clusterIds);
+    storage.startIndexBuild(this);
+  }
+
+  /**
+   * Fills the index which is created without data while documents of indexed clusters are changed
+   * concurrently. Keys of documents changed during the fill are captured at commit, then these
+   * documents are read again and their keys are replaced. The last portion of changes is applied
+   * while commits are paused.
+   *
+   * @return amount of indexed documents
+   */
+  public long buildOnline(final OProgressListener progressListener) {
+    boolean finished = false;
+    try {
+      final long documentIndexed = fillIndex(progressListener, false);
+
+      // CATCH UP WITH CONCURRENT COMMITS WITHOUT PAUSING THEM, UNLESS COMMITS ARE FASTER
+      int applied = Integer.MAX_VALUE;
+      for (int round = 0; round < ONLINE_BUILD_MAX_ROUNDS; round++) {
+        final int previous = applied;
+        applied = applyCapturedChanges(false);
+        if (applied <= ONLINE_BUILD_PAUSE_THRESHOLD || applied >= previous) {
+          break;
+        }
+      }
+
+      storage.finishIndexBuild(this, () -> applyCapturedChanges(true));
+      finished = true;
+
+      return documentIndexed;
+    } finally {
+      if (!finished) {
+        storage.finishIndexBuild(this, null);
+      }
+
+      capturedChanges = null;
+    }
+  }
+
+  /**
+   * Collects keys of documents changed by transaction which is committed during online build of the
+   * index. Called by the storage before records are written, because keys which may be put to the
+   * index for the document are taken from its stored version, while keys are passed to {@link
+   * #captureChanges(Map)} once records are written, otherwise the builder could read records before
+   * they are changed.
+   *
+   * @param storedDocuments reads stored version of the document, returns {@code null} if document
+   *     does not exist
+   * @return keys of changed documents or {@code null} if changes are not captured
+   */
+  public Map<ORID, List<Object>> collectChanges(
+      final Collection<ORecordOperation> operations,
+      final Function<ORID, ODocument> storedDocuments) {
+    final CapturedChanges captured = capturedChanges;
+    if (captured == null) {
+      return null;
+    }
+
+    final Map<ORID, List<Object>> result = new HashMap<>();
+    for (final ORecordOperation operation : operations) {
+      final ORecord record = operation.getRecord();
+      if (!(record instanceof ODocument)
+          || operation.type == ORecordOperation.LOADED
+          || !captured.clusterIds.contains(record.getIdentity().getClusterId())) {
+        continue;
+      }
+
+      final List<Object> keys = new ArrayList<>();
+      // TRACKED CHANGES OF DOCUMENTS ARE ALREADY CLEARED BY TRANSACTION, SO STORED VERSION IS USED
+      final ODocument stored =
+          operation.type == ORecordOperation.CREATED
+              ? null
+              : storedDocuments.apply(record.getIdentity());
+      if (stored != null) {
+        final Object key = indexDefinition.getDocumentValueToIndex(stored);
+        if (key instanceof Collection) {
+          keys.addAll((Collection<?>) key);
+        } else if (key != null || !indexDefinition.isNullValuesIgnored()) {
+          keys.add(key);
+        }
+      }
+      result.put(record.getIdentity(), keys);
+    }
+
+    return result;
+  }
+
+  /**
+   * Captures keys collected by {@link #collectChanges(Collection, Function)} once records are
+   * written.
+   */
+  public void captureChanges(final Map<ORID, List<Object>> changes) {
+    final CapturedChanges captured = capturedChanges;
+    if (captured == null) {
+      return;
+    }
+
+    for (final Map.Entry<ORID, List<Object>> entry : changes.entrySet()) {
+      captured.add(entry.getKey(), entry.getValue());
+    }
+  }
+
+  /** @return amount of documents whose captured changes were applied */
+  private int applyCapturedChanges(final boolean last) {
+    final Map<ORID, Set<Object>> changes = capturedChanges.drain();
+    final ODatabaseDocumentInternal database = getDatabase();
+
+    // KEYS PUT BY THE FILL OR BY PREVIOUS ROUND ARE AMONG CAPTURED KEYS OF THE DOCUMENT
+    for (final Map.Entry<ORID, Set<Object>> entry : changes.entrySet()) {
+      for (final Object key : entry.getValue()) {
+        removeCapturedKey(key, entry.getKey());
+      }
+    }
+
+    for (final ORID rid : changes.keySet()) {
+      final ORecord record = database.load(rid, null, true);
+      if (!(record instanceof ODocument)) {
+        continue;
+      }
+
+      final ODocument document = (ODocument) record;
+      final Object key = indexDefinition.getDocumentValueToIndex(document);
+      if (key == null && indexDefinition.isNullValuesIgnored()) {
+        continue;
+      }
+
+      try {
+        populateIndex(document, key);
+      } catch (final ORecordDuplicatedException e) {
+        if (last) {
+          throw e;
+        }
+
+        // DOCUMENT WHICH HOLDS THE SAME KEY MAY BE CHANGED ALREADY, IT IS CHECKED BY NEXT ROUND
+        capturedChanges.add(
+            rid,
+            key instanceof Collection
+                ? new ArrayList<>((Collection<?>) key)
+                : Collections.singletonList(key));
+      }
+    }
+
+    return changes.size();
+  }
+
+  private void removeCapturedKey(final Object key, final ORID rid) {
+    try (final Stream<ORID> stream = getRids(key)) {
+      if (stream.noneMatch(rid::equals)) {
+        return;
+      }
+    }
+
+    remove(key, rid);
+  }
+
   @Override
   public boolean doRemove(OAbstractPaginatedStorage storage, Object key, ORID rid)
       throws OInvalidIndexEngineIdException {
@@ -1152,6 +1567,26 @@ public abstract class OIndexAbstract implements OIndexInternal {
     public boolean clear = false;
   }
 
+  /** Keys of documents changed during online build of the index, grouped by documents. */
+  private static final class CapturedChanges {
+    private final Set<Integer> clusterIds;
+    private Map<ORID, Set<Object>> changes = new HashMap<>();
+
+    private CapturedChanges(final Set<Integer> clusterIds) {
+      this.clusterIds = clusterIds;
+    }
+
+    private synchronized void add(final ORID rid, final Collection<?> keys) {
+      changes.computeIfAbsent(rid.copy(), (id) -> new HashSet<>()).addAll(keys);
+    }
+
+    private synchronized Map<ORID, Set<Object>> drain() {
+      final Map<ORID, Set<Object>> drained = changes;
+      changes = new HashMap<>();
+      return drained;
+    }
+  }
+
   protected static class IndexConfiguration {
     protected final ODocument document;
 
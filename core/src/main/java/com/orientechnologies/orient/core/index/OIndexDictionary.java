@@ -22,6 +22,7 @@ package com.orientechnologies.orient.core.index;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OInvalidIndexEngineIdException;
 import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.engine.OIndexBulkLoader;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
@@ -76,6 +77,17 @@ public class OIndexDictionary extends OIndexOneValue {
     }
   }
 
+  @Override
+  protected OIndexBulkLoader createBulkLoader() throws OInvalidIndexEngineIdException {
+    // LAST PUT WINS, SO DUPLICATES ARE NOT VALIDATED
+    return storage.createIndexBulkLoader(indexId, null);
+  }
+
+  @Override
+  protected boolean isBulkFilledInOrder() {
+    return true;
+  }
+
   @Override
   public void doPut(OAbstractPaginatedStorage storage, Object key, ORID rid)
       throws OInvalidIndexEngineIdException {
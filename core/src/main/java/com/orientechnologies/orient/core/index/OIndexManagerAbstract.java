@@ -70,6 +70,8 @@ public abstract class OIndexManagerAbstract implements OCloseable {
   protected final Map<String, Map<OMultiKey, Set<OIndex>>> classPropertyIndex =
       new ConcurrentHashMap<>();
   protected Map<String, OIndex> indexes = new ConcurrentHashMap<>();
+  // INDEXES WHICH ARE BUILT ONLINE, THEY ARE MAINTAINED BY TRANSACTIONS BUT NOT USED BY QUERIES
+  protected final Map<String, OIndexInternal> buildingIndexes = new ConcurrentHashMap<>();
   protected String defaultClusterName = OMetadataDefault.CLUSTER_INDEX_NAME;
   protected String manualClusterName = OMetadataDefault.CLUSTER_MANUAL_INDEX_NAME;
   private AtomicInteger writeLockNesting = new AtomicInteger();
@@ -367,6 +369,10 @@ public abstract class OIndexManagerAbstract implements OCloseable {
   }
 
   public void getClassRawIndexes(final String className, final Collection<OIndex> indexes) {
+    for (final OIndexInternal index : buildingIndexes.values()) {
+      if (className.equalsIgnoreCase(index.getDefinition().getClassName())) indexes.add(index);
+    }
+
     final Map<OMultiKey, Set<OIndex>> propertyIndex = getIndexOnProperty(className);
 
     if (propertyIndex == null) return;
@@ -375,6 +381,11 @@ public abstract class OIndexManagerAbstract implements OCloseable {
       indexes.addAll(propertyIndexes);
   }
 
+  /** @return index which is built online or {@code null} if there is no such index */
+  public OIndexInternal getBuildingIndex(final String indexName) {
+    return buildingIndexes.get(indexName);
+  }
+
   public OIndexUnique getClassUniqueIndex(final String className) {
     final Map<OMultiKey, Set<OIndex>> propertyIndex = getIndexOnProperty(className);
 
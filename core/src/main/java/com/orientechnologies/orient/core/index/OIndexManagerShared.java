@@ -155,10 +155,11 @@ public class OIndexManagerShared extends OIndexManagerAbstract {
     final String valueContainerAlgorithm = chooseContainerAlgorithm(type);
 
     final OIndexInternal index;
+    final boolean online;
     acquireExclusiveLock();
     try {
 
-      if (indexes.containsKey(iName))
+      if (indexes.containsKey(iName) || buildingIndexes.containsKey(iName))
         throw new OIndexException("Index with name " + iName + " already exists.");
 
       // manual indexes are always durable
@@ -173,6 +174,7 @@ public class OIndexManagerShared extends OIndexManagerAbstract {
       index =
           OIndexes.createIndex(
               storage, iName, type, algorithm, valueContainerAlgorithm, metadata, -1);
+      online = !manualIndexesAreUsed && index instanceof OIndexAbstract && isOnlineBuild(metadata);
       if (progressListener == null)
         // ASSIGN DEFAULT PROGRESS LISTENER
         progressListener = new OIndexRebuildOutputListener(index);
@@ -197,26 +199,98 @@ public class OIndexManagerShared extends OIndexManagerAbstract {
       final String clusterName =
           indexDefinition.getClassName() != null ? defaultClusterName : manualClusterName;
 
-      index.create(iName, indexDefinition, clusterName, clustersToIndex, true, progressListener);
-
-      addIndexInternal(index);
+      // INDEX WHICH IS BUILT ONLINE IS FILLED WITHOUT LOCK OF INDEX MANAGER
+      index.create(iName, indexDefinition, clusterName, clustersToIndex, !online, progressListener);
 
       if (metadata != null) {
         final ODocument config = index.getConfiguration();
         config.field("metadata", metadata, OType.EMBEDDED);
       }
 
-      setDirty();
-      save();
+      if (!online) {
+        addIndexInternal(index);
+
+        setDirty();
+        save();
+      }
     } finally {
       releaseExclusiveLock();
     }
 
+    if (online) {
+      buildIndexOnline(database, (OIndexAbstract) index, progressListener);
+    }
+
     notifyInvolvedClasses(database, clusterIdsToIndex);
 
     return preProcessBeforeReturn(database, index);
   }
 
+  private static boolean isOnlineBuild(final ODocument metadata) {
+    final Object online = metadata != null ? metadata.field("online") : null;
+    if (online instanceof Boolean) {
+      return (Boolean) online;
+    }
+
+    return OGlobalConfiguration.INDEX_ONLINE_BUILD.getValueAsBoolean();
+  }
+
+  /**
+   * Fills the index while indexed classes are modified concurrently. During the build index is
+   * maintained by transactions but is not visible to queries, it is added to the index manager once
+   * all changes committed during the build are applied.
+   */
+  private void buildIndexOnline(
+      final ODatabaseDocumentInternal database,
+      final OIndexAbstract index,
+      final OProgressListener progressListener) {
+    try {
+      index.startOnlineBuild();
+
+      acquireExclusiveLock();
+      try {
+        buildingIndexes.put(index.getName(), index);
+      } finally {
+        releaseExclusiveLock();
+      }
+      // CLASSES HELD BY LOADED DOCUMENTS HAVE TO BE REFRESHED, SO THEIR UPDATES MAINTAIN THE INDEX
+      database.getSharedContext().getSchema().forceVersionedSnapshot(database);
+
+      index.buildOnline(progressListener);
+    } catch (final RuntimeException e) {
+      ((OAbstractPaginatedStorage) storage).finishIndexBuild(index, null);
+
+      acquireExclusiveLock();
+      try {
+        buildingIndexes.remove(index.getName());
+      } finally {
+        releaseExclusiveLock();
+      }
+      // OTHERWISE DOCUMENTS LOADED DURING THE BUILD WOULD UPDATE THE DROPPED INDEX
+      database.getSharedContext().getSchema().forceVersionedSnapshot(database);
+
+      try {
+        index.delete();
+      } catch (final RuntimeException ex) {
+        OLogManager.instance()
+            .error(this, "Error during deletion of index '%s'", ex, index.getName());
+      }
+
+      throw e;
+    }
+
+    acquireExclusiveLock();
+    try {
+      addIndexInternal(index);
+      buildingIndexes.remove(index.getName());
+
+      setDirty();
+      save();
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
   private static void checkSecurityConstraintsForIndexCreate(
       ODatabaseDocumentInternal database, OIndexDefinition indexDefinition) {
 
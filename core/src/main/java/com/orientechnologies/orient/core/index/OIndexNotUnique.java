@@ -20,6 +20,7 @@
 package com.orientechnologies.orient.core.index;
 
 import com.orientechnologies.orient.core.exception.OInvalidIndexEngineIdException;
+import com.orientechnologies.orient.core.index.engine.OIndexBulkLoader;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
@@ -58,6 +59,11 @@ public class OIndexNotUnique extends OIndexMultiValues {
     return true;
   }
 
+  @Override
+  protected OIndexBulkLoader createBulkLoader() throws OInvalidIndexEngineIdException {
+    return storage.createIndexBulkLoader(indexId, null);
+  }
+
   @Override
   public boolean supportsOrderedIterations() {
     while (true) {
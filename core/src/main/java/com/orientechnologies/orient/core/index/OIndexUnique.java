@@ -23,6 +23,7 @@ import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OInvalidIndexEngineIdException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
+import com.orientechnologies.orient.core.index.engine.OIndexBulkLoader;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
@@ -110,6 +111,11 @@ public class OIndexUnique extends OIndexOneValue {
     return true;
   }
 
+  @Override
+  protected OIndexBulkLoader createBulkLoader() throws OInvalidIndexEngineIdException {
+    return storage.createIndexBulkLoader(indexId, uniqueValidator);
+  }
+
   @Override
   public void doPut(OAbstractPaginatedStorage storage, Object key, ORID rid)
       throws OInvalidIndexEngineIdException {
@@ -0,0 +1,49 @@
+package com.orientechnologies.orient.core.index.engine;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Fills empty index by entries passed in any order. Entries are sorted first and then pages of the
+ * index are written one by one from the leaves to the root, instead of insertion of entries one by
+ * one.
+ */
+public interface OIndexBulkLoader extends Closeable {
+  /**
+   * @return sink which accepts entries of the index. Sink is not thread safe, so each thread which
+   *     passes entries should use its own sink.
+   */
+  Sink sink() throws IOException;
+
+  /**
+   * Writes next portion of pages of the index. Entries which are passed after the first call of
+   * this method are ignored.
+   *
+   * @param atomicOperation atomic operation inside which pages are written
+   * @param pages maximum amount of pages to write
+   * @return {@code true} if there are still pages to write
+   */
+  boolean load(OAtomicOperation atomicOperation, int pages) throws IOException;
+
+  /**
+   * Leaves the index empty after a failed load. Pages written by the portions which were loaded
+   * before the failure are freed, so they are reused by the later changes of the index.
+   *
+   * @param atomicOperation atomic operation inside which the index is reset
+   */
+  void rollback(OAtomicOperation atomicOperation) throws IOException;
+
+  /** Removes temporary files used to sort entries. */
+  @Override
+  void close() throws IOException;
+
+  interface Sink extends Closeable {
+    void add(Object key, ORID value) throws IOException;
+
+    /** Makes all entries passed to the sink available for loading. */
+    @Override
+    void close() throws IOException;
+  }
+}
@@ -5,6 +5,8 @@ import com.orientechnologies.orient.core.encryption.OEncryption;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.stream.Stream;
 
 public interface OV1IndexEngine extends OBaseIndexEngine {
@@ -27,4 +29,18 @@ public interface OV1IndexEngine extends OBaseIndexEngine {
       final OEncryption encryption);
 
   boolean isMultiValue();
+
+  /**
+   * Creates loader which fills the empty index in bulk.
+   *
+   * @param tempDirectory directory where temporary files used to sort entries are placed
+   * @param sortBufferSize amount of entries which are sorted in memory by each sink of the loader
+   * @param validator validator of entries with equal keys, may be {@code null}
+   * @return loader or {@code null} if index can not be filled in bulk
+   */
+  default OIndexBulkLoader createBulkLoader(
+      Path tempDirectory, int sortBufferSize, Validator<Object, ORID> validator)
+      throws IOException {
+    return null;
+  }
 }
@@ -11,6 +11,7 @@ import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.index.OCompositeKey;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndexException;
+import com.orientechnologies.orient.core.index.engine.OIndexBulkLoader;
 import com.orientechnologies.orient.core.index.engine.OMultiValueIndexEngine;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.impl.ODocument;
@@ -23,6 +24,7 @@ import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.v2.Cell
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueV3;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Spliterators;
@@ -604,6 +606,72 @@ public final class OCellBTreeMultiValueIndexEngine
     return sbTypes;
   }
 
+  @Override
+  public OIndexBulkLoader createBulkLoader(
+      final Path tempDirectory, final int sortBufferSize, final Validator<Object, ORID> validator)
+      throws IOException {
+    if (mvTree != null) {
+      return null;
+    }
+
+    assert svTree != null;
+    assert nullTree != null;
+
+    // KEYS OF BOTH TREES CONTAIN RID, SO THERE ARE NO DUPLICATES TO VALIDATE
+    final CellBTreeSingleValueV3<OCompositeKey>.BulkLoader keysLoader =
+        ((CellBTreeSingleValueV3<OCompositeKey>) svTree)
+            .bulkLoader(tempDirectory, sortBufferSize, null);
+    final CellBTreeSingleValueV3<OIdentifiable>.BulkLoader nullsLoader =
+        ((CellBTreeSingleValueV3<OIdentifiable>) nullTree)
+            .bulkLoader(tempDirectory, sortBufferSize, null);
+
+    return new OIndexBulkLoader() {
+      @Override
+      public Sink sink() {
+        final Sink keysSink = keysLoader.sink();
+        final Sink nullsSink = nullsLoader.sink();
+
+        return new Sink() {
+          @Override
+          public void add(final Object key, final ORID value) throws IOException {
+            if (key != null) {
+              keysSink.add(createCompositeKey(key, value), value);
+            } else {
+              nullsSink.add(value, value);
+            }
+          }
+
+          @Override
+          public void close() throws IOException {
+            keysSink.close();
+            nullsSink.close();
+          }
+        };
+      }
+
+      @Override
+      public boolean load(final OAtomicOperation atomicOperation, final int pages)
+          throws IOException {
+        return keysLoader.load(atomicOperation, pages) || nullsLoader.load(atomicOperation, pages);
+      }
+
+      @Override
+      public void rollback(final OAtomicOperation atomicOperation) throws IOException {
+        keysLoader.rollback(atomicOperation);
+        nullsLoader.rollback(atomicOperation);
+      }
+
+      @Override
+      public void close() throws IOException {
+        try {
+          keysLoader.close();
+        } finally {
+          nullsLoader.close();
+        }
+      }
+    };
+  }
+
   private static OCompositeKey createCompositeKey(final Object key, final ORID value) {
     final OCompositeKey compositeKey = new OCompositeKey(key);
     compositeKey.addKey(value);
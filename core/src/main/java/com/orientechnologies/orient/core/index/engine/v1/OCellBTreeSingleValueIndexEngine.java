@@ -7,6 +7,7 @@ import com.orientechnologies.orient.core.encryption.OEncryption;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndexException;
+import com.orientechnologies.orient.core.index.engine.OIndexBulkLoader;
 import com.orientechnologies.orient.core.index.engine.OSingleValueIndexEngine;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.impl.ODocument;
@@ -18,6 +19,7 @@ import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.Cel
 import com.orientechnologies.orient.core.storage.index.versionmap.OVersionPositionMap;
 import com.orientechnologies.orient.core.storage.index.versionmap.OVersionPositionMapV0;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -202,6 +204,18 @@ public final class OCellBTreeSingleValueIndexEngine
     }
   }
 
+  @Override
+  public OIndexBulkLoader createBulkLoader(
+      final Path tempDirectory, final int sortBufferSize, final Validator<Object, ORID> validator)
+      throws IOException {
+    if (!(sbTree instanceof CellBTreeSingleValueV3)) {
+      return null;
+    }
+
+    return ((CellBTreeSingleValueV3<Object>) sbTree)
+        .bulkLoader(tempDirectory, sortBufferSize, validator);
+  }
+
   @Override
   public boolean validatedPut(
       OAtomicOperation atomicOperation, Object key, ORID value, Validator<Object, ORID> validator) {
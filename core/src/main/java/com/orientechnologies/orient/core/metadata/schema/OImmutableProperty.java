@@ -27,6 +27,7 @@ import com.orientechnologies.orient.core.metadata.schema.validation.ValidationCo
 import com.orientechnologies.orient.core.metadata.schema.validation.ValidationLinkbagComparable;
 import com.orientechnologies.orient.core.metadata.schema.validation.ValidationMapComparable;
 import com.orientechnologies.orient.core.metadata.schema.validation.ValidationStringComparable;
+import com.orientechnologies.orient.core.metadata.statistics.OPropertyStatistics;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import java.util.Calendar;
 import java.util.Collection;
@@ -67,6 +68,7 @@ public class OImmutableProperty implements OProperty {
   private final boolean readOnly;
   private final Comparable<Object> minComparable;
   private final Comparable<Object> maxComparable;
+  private final OPropertyStatistics statistics;
 
   public OImmutableProperty(OProperty property, OImmutableClass owner) {
     name = property.getName();
@@ -92,6 +94,8 @@ public class OImmutableProperty implements OProperty {
     this.owner = owner;
     id = property.getId();
     readOnly = property.isReadonly();
+    statistics =
+        property instanceof OPropertyImpl ? ((OPropertyImpl) property).getStatistics() : null;
 
     if (min != null) {
       if (type.equals(OType.STRING))
@@ -181,6 +185,11 @@ public class OImmutableProperty implements OProperty {
     return description;
   }
 
+  /** @return statistics of values of the property collected by ANALYZE CLASS */
+  public OPropertyStatistics getStatistics() {
+    return statistics;
+  }
+
   @Override
   public OProperty setDescription(String iDescription) {
     throw new UnsupportedOperationException();
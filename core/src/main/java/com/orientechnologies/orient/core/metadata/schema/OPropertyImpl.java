@@ -33,6 +33,7 @@ import com.orientechnologies.orient.core.index.OIndexManagerAbstract;
 import com.orientechnologies.orient.core.index.OPropertyIndexDefinition;
 import com.orientechnologies.orient.core.metadata.security.ORole;
 import com.orientechnologies.orient.core.metadata.security.ORule;
+import com.orientechnologies.orient.core.metadata.statistics.OPropertyStatistics;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.OSQLEngine;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
@@ -70,6 +71,8 @@ public abstract class OPropertyImpl implements OProperty {
   protected OCollate collate = new ODefaultCollate();
   protected OGlobalProperty globalRef;
   protected ODocument document;
+  // STATISTICS ARE UPDATED BY COMMITS WITHOUT SCHEMA LOCK AND ARE SHARED WITH SCHEMA SNAPSHOTS
+  protected volatile OPropertyStatistics statistics;
 
   private volatile int hashCode;
 
@@ -162,12 +165,18 @@ public abstract class OPropertyImpl implements OProperty {
    * @see {@link OClass#createIndex(String, OClass.INDEX_TYPE, String...)} instead.
    */
   public OIndex createIndex(final String iType) {
+    final String fullName;
+    final String name;
     acquireSchemaReadLock();
     try {
-      return owner.createIndex(getFullName(), iType, globalRef.getName());
+      fullName = getFullName();
+      name = globalRef.getName();
     } finally {
       releaseSchemaReadLock();
     }
+
+    // ONLINE BUILD OF THE INDEX TAKES THE SCHEMA WRITE LOCK
+    return owner.createIndex(fullName, iType, name);
   }
 
   @Override
@@ -177,13 +186,17 @@ public abstract class OPropertyImpl implements OProperty {
 
   @Override
   public OIndex createIndex(String iType, ODocument metadata) {
+    final String fullName;
+    final String name;
     acquireSchemaReadLock();
     try {
-      return owner.createIndex(
-          getFullName(), iType, null, metadata, new String[] {globalRef.getName()});
+      fullName = getFullName();
+      name = globalRef.getName();
     } finally {
       releaseSchemaReadLock();
     }
+
+    return owner.createIndex(fullName, iType, null, metadata, new String[] {name});
   }
 
   /**
@@ -572,6 +585,22 @@ public abstract class OPropertyImpl implements OProperty {
     }
   }
 
+  /** @return statistics of values of the property collected by ANALYZE CLASS */
+  public OPropertyStatistics getStatistics() {
+    return statistics;
+  }
+
+  public void setStatistics(final OPropertyStatistics statistics) {
+    acquireSchemaWriteLock();
+    try {
+      checkEmbedded();
+
+      this.statistics = statistics;
+    } finally {
+      releaseSchemaWriteLock();
+    }
+  }
+
   @Override
   public String toString() {
     acquireSchemaReadLock();
@@ -660,6 +689,10 @@ public abstract class OPropertyImpl implements OProperty {
     }
     description =
         (String) (document.containsField("description") ? document.field("description") : null);
+
+    final ODocument statisticsDocument = document.field("statistics");
+    statistics =
+        statisticsDocument != null ? OPropertyStatistics.fromDocument(statisticsDocument) : null;
   }
 
   public Collection<OIndex> getAllIndexes() {
@@ -706,6 +739,13 @@ public abstract class OPropertyImpl implements OProperty {
       document.field("collate", collate.getName());
     }
     document.field("description", description);
+
+    final OPropertyStatistics statistics = this.statistics;
+    if (statistics != null) {
+      document.field("statistics", statistics.toDocument(), OType.EMBEDDED);
+    } else {
+      document.removeField("statistics");
+    }
     return document;
   }
 
@@ -162,6 +162,18 @@ public abstract class OSchemaShared implements OCloseable {
     return snapshot;
   }
 
+  /**
+   * Makes snapshot of the schema with incremented version, unlike {@link
+   * #forceSnapshot(ODatabaseDocumentInternal)} documents which hold classes of the previous
+   * snapshot refresh them. The schema write lock is taken, so the caller must not hold the schema
+   * read lock.
+   */
+  public void forceVersionedSnapshot(ODatabaseDocumentInternal database) {
+    acquireSchemaWriteLock(database);
+    // SNAPSHOT IS MADE AND VERSION IS INCREMENTED BY THE RELEASE OF THE OUTERMOST WRITE LOCK
+    releaseSchemaWriteLock(database, false);
+  }
+
   public void forceSnapshot(ODatabaseDocumentInternal database) {
     acquireSchemaReadLock();
     try {
@@ -0,0 +1,90 @@
+package com.orientechnologies.orient.core.metadata.statistics;
+
+import com.orientechnologies.common.hash.OMurmurHash3;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * HyperLogLog sketch which estimates number of distinct values with standard error of about 2% in
+ * 2K of memory. Values may be added but not removed, so once values are deleted estimation becomes
+ * an upper bound of the number of distinct values.
+ */
+public final class OHyperLogLog {
+  private static final int PRECISION = 11;
+  private static final int REGISTERS = 1 << PRECISION;
+  private static final int SEED = 0x4f484c4c;
+
+  private final byte[] registers;
+
+  public OHyperLogLog() {
+    this(new byte[REGISTERS]);
+  }
+
+  private OHyperLogLog(final byte[] registers) {
+    this.registers = registers;
+  }
+
+  public static OHyperLogLog fromBytes(final byte[] bytes) {
+    if (bytes.length != REGISTERS) {
+      throw new IllegalArgumentException(
+          "Invalid size of HyperLogLog registers " + bytes.length + ", expected " + REGISTERS);
+    }
+
+    return new OHyperLogLog(bytes.clone());
+  }
+
+  public byte[] toBytes() {
+    return registers.clone();
+  }
+
+  public void add(final Object value) {
+    final long hash = hash(value);
+    final int index = (int) (hash >>> (Long.SIZE - PRECISION));
+    // SENTINEL BIT LIMITS RANK BY NUMBER OF BITS WHICH ARE NOT USED BY INDEX OF REGISTER
+    final int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+
+    if (registers[index] < rank) {
+      registers[index] = (byte) rank;
+    }
+  }
+
+  /** Adds all the values added to the other sketch. */
+  public void merge(final OHyperLogLog other) {
+    for (int i = 0; i < REGISTERS; i++) {
+      if (registers[i] < other.registers[i]) {
+        registers[i] = other.registers[i];
+      }
+    }
+  }
+
+  public long estimate() {
+    double sum = 0;
+    int zeros = 0;
+    for (final byte register : registers) {
+      sum += 1.0 / (1L << register);
+      if (register == 0) {
+        zeros++;
+      }
+    }
+
+    final double alpha = 0.7213 / (1 + 1.079 / REGISTERS);
+    double estimate = alpha * REGISTERS * REGISTERS / sum;
+    if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+      // LINEAR COUNTING IS MORE PRECISE FOR SMALL CARDINALITIES
+      estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+    }
+
+    return Math.round(estimate);
+  }
+
+  private static long hash(final Object value) {
+    final String key;
+    if (value instanceof Date) {
+      key = Long.toString(((Date) value).getTime());
+    } else {
+      key = value.toString();
+    }
+
+    return OMurmurHash3.murmurHash3_x64_64(key.getBytes(StandardCharsets.UTF_8), SEED);
+  }
+}
@@ -0,0 +1,592 @@
+package com.orientechnologies.orient.core.metadata.statistics;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.orient.core.collate.OCollate;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OSQLEngine;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of values of an indexed property: number of values and nulls, number of distinct
+ * values and equi-depth histogram. They are collected by ANALYZE CLASS from keys of an index of the
+ * property and then maintained by each commit which changes this index, they are used by the query
+ * planner to estimate selectivity of conditions.
+ *
+ * <p>Histogram is not rebuilt by commits, new values are added to the buckets which are closest to
+ * them, so precision of estimations degrades once distribution of values changes significantly.
+ *
+ * <p>Commits of different threads do not contend on the statistics: numbers of values are counted
+ * by adders, while changes of the histogram and of the sketch of distinct values are collected by
+ * stripes chosen by the thread and folded into them in batches. Estimations of selectivity do not
+ * wait for the batches, they are folded by {@link #flush()}.
+ */
+public final class OPropertyStatistics {
+  /** number of changes collected by a stripe before they are folded */
+  private static final int FOLD_THRESHOLD = 256;
+
+  private static final int STRIPES =
+      Integer.highestOneBit(Math.min(16, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+
+  private final String indexName;
+  private final OType keyType;
+  private final String collate;
+
+  private final LongAdder count = new LongAdder();
+  private final LongAdder nulls = new LongAdder();
+  private final Stripe[] stripes = new Stripe[STRIPES];
+
+  // FIELDS BELOW ARE ACCESSED UNDER THE MONITOR OF THE STATISTICS
+  private final OHyperLogLog distinctValues;
+  // BUCKET CONTAINS VALUES BETWEEN ITS BOUNDS INCLUSIVE, BUCKETS ARE SORTED BY BOUNDS
+  private Object[] lowerBounds;
+  private Object[] upperBounds;
+  private long[] bucketCounts;
+  private long[] bucketDistinctValues;
+
+  private OPropertyStatistics(
+      final String indexName,
+      final OType keyType,
+      final String collate,
+      final OHyperLogLog distinctValues,
+      final long count,
+      final long nulls,
+      final Object[] lowerBounds,
+      final Object[] upperBounds,
+      final long[] bucketCounts,
+      final long[] bucketDistinctValues) {
+    this.indexName = indexName;
+    this.keyType = keyType;
+    this.collate = collate;
+    this.distinctValues = distinctValues;
+    this.count.add(count);
+    this.nulls.add(nulls);
+    this.lowerBounds = lowerBounds;
+    this.upperBounds = upperBounds;
+    this.bucketCounts = bucketCounts;
+    this.bucketDistinctValues = bucketDistinctValues;
+
+    for (int i = 0; i < stripes.length; i++) {
+      stripes[i] = new Stripe();
+    }
+  }
+
+  /** @return name of the index whose keys are described by these statistics */
+  public String getIndexName() {
+    return indexName;
+  }
+
+  public long getCount() {
+    // REMOVAL MAY BE COUNTED BEFORE ADDITION OF THE SAME VALUE BY ANOTHER THREAD
+    return Math.max(0, count.sum());
+  }
+
+  public long getNulls() {
+    return Math.max(0, nulls.sum());
+  }
+
+  /** @return number of values including nulls */
+  public long getTotal() {
+    return getCount() + getNulls();
+  }
+
+  public synchronized long getDistinctValues() {
+    final long count = getCount();
+    if (count == 0) {
+      return 0;
+    }
+
+    return Math.max(1, Math.min(count, distinctValues.estimate()));
+  }
+
+  public synchronized int getBuckets() {
+    return upperBounds.length;
+  }
+
+  /** Accounts value which is added to the index. */
+  public void add(final Object value) {
+    if (value == null) {
+      nulls.increment();
+      return;
+    }
+
+    count.increment();
+    final Stripe stripe = stripe();
+    if (stripe.add(value)) {
+      fold(stripe);
+    }
+  }
+
+  /** Accounts value which is removed from the index. */
+  public void remove(final Object value) {
+    if (value == null) {
+      nulls.decrement();
+      return;
+    }
+
+    count.decrement();
+    final Stripe stripe = stripe();
+    if (stripe.remove(value)) {
+      fold(stripe);
+    }
+  }
+
+  /** Folds changes collected by all the stripes into the histogram and distinct values. */
+  public synchronized void flush() {
+    for (final Stripe stripe : stripes) {
+      fold(stripe);
+    }
+  }
+
+  private Stripe stripe() {
+    return stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)];
+  }
+
+  private synchronized void fold(final Stripe stripe) {
+    final List<Object> added;
+    final List<Object> removed;
+    final OHyperLogLog addedDistinctValues;
+    synchronized (stripe) {
+      if (stripe.changes == 0) {
+        return;
+      }
+
+      added = stripe.added;
+      removed = stripe.removed;
+      addedDistinctValues = stripe.distinctValues;
+      stripe.reset();
+    }
+
+    if (addedDistinctValues != null) {
+      distinctValues.merge(addedDistinctValues);
+    }
+    for (final Object value : added) {
+      addToHistogram(value);
+    }
+    for (final Object value : removed) {
+      removeFromHistogram(value);
+    }
+  }
+
+  private void addToHistogram(final Object value) {
+    if (upperBounds.length == 0) {
+      lowerBounds = new Object[] {value};
+      upperBounds = new Object[] {value};
+      bucketCounts = new long[] {1};
+      bucketDistinctValues = new long[] {1};
+      return;
+    }
+
+    int bucket = firstBucket(value);
+    if (bucket == upperBounds.length) {
+      bucket--;
+      upperBounds[bucket] = value;
+      bucketDistinctValues[bucket]++;
+    } else if (compare(value, lowerBounds[bucket]) < 0) {
+      // VALUE IS OUT OF BOUNDS OF ALL BUCKETS, BOUNDS OF THE PRECEDING BUCKET ARE EXTENDED
+      if (bucket > 0) {
+        bucket--;
+        upperBounds[bucket] = value;
+      } else {
+        lowerBounds[bucket] = value;
+      }
+      bucketDistinctValues[bucket]++;
+    }
+
+    bucketCounts[bucket]++;
+  }
+
+  private void removeFromHistogram(final Object value) {
+    for (int bucket = firstBucket(value);
+        bucket < upperBounds.length && compare(lowerBounds[bucket], value) <= 0;
+        bucket++) {
+      if (bucketCounts[bucket] > 0) {
+        bucketCounts[bucket]--;
+        break;
+      }
+    }
+  }
+
+  /**
+   * @return estimated fraction of values which are equal to the given one, or -1 if value can not
+   *     be converted to the type of the index key
+   */
+  public double equalsSelectivity(final Object value) {
+    if (value == null) {
+      return nullSelectivity();
+    }
+
+    final Object key = normalize(value);
+    if (key == null) {
+      return -1;
+    }
+
+    final long total = getTotal();
+    if (total == 0) {
+      return 0;
+    }
+
+    synchronized (this) {
+      double rows = 0;
+      for (int bucket = firstBucket(key);
+          bucket < upperBounds.length && compare(lowerBounds[bucket], key) <= 0;
+          bucket++) {
+        if (compare(lowerBounds[bucket], upperBounds[bucket]) == 0) {
+          // BUCKET WHICH CONTAINS A SINGLE VALUE, THAT IS HOW FREQUENT VALUES ARE DETECTED
+          rows += bucketCounts[bucket];
+        } else {
+          rows += (double) bucketCounts[bucket] / Math.max(1, bucketDistinctValues[bucket]);
+        }
+      }
+
+      return Math.min(1.0, rows / total);
+    }
+  }
+
+  /**
+   * @param from lower bound of the range or <code>null</code> if range is not bounded from below
+   * @param to upper bound of the range or <code>null</code> if range is not bounded from above
+   * @return estimated fraction of values which are inside of the range, or -1 if bounds can not be
+   *     converted to the type of the index key
+   */
+  public double rangeSelectivity(
+      final Object from, final boolean fromInclusive, final Object to, final boolean toInclusive) {
+    final Object fromKey = from == null ? null : normalize(from);
+    final Object toKey = to == null ? null : normalize(to);
+    if ((from != null && fromKey == null) || (to != null && toKey == null)) {
+      return -1;
+    }
+
+    final long total = getTotal();
+    if (total == 0) {
+      return 0;
+    }
+
+    synchronized (this) {
+      double rows = 0;
+      for (int bucket = 0; bucket < upperBounds.length; bucket++) {
+        rows += bucketCounts[bucket] * overlap(bucket, fromKey, fromInclusive, toKey, toInclusive);
+      }
+
+      return Math.min(1.0, rows / total);
+    }
+  }
+
+  public double nullSelectivity() {
+    final long nulls = getNulls();
+    final long total = getCount() + nulls;
+    if (total == 0) {
+      return 0;
+    }
+
+    return (double) nulls / total;
+  }
+
+  public synchronized ODocument toDocument() {
+    flush();
+
+    final ODocument document = new ODocument();
+    document.field("indexName", indexName);
+    document.field("keyType", keyType.getId());
+    document.field("collate", collate);
+    document.field("count", getCount());
+    document.field("nulls", getNulls());
+    document.field("distinctValues", distinctValues.toBytes(), OType.BINARY);
+    document.field("lowerBounds", new ArrayList<>(Arrays.asList(lowerBounds)), OType.EMBEDDEDLIST);
+    document.field("upperBounds", new ArrayList<>(Arrays.asList(upperBounds)), OType.EMBEDDEDLIST);
+    document.field("bucketCounts", toList(bucketCounts), OType.EMBEDDEDLIST);
+    document.field("bucketDistinctValues", toList(bucketDistinctValues), OType.EMBEDDEDLIST);
+    return document;
+  }
+
+  public static OPropertyStatistics fromDocument(final ODocument document) {
+    final List<Object> lowerBounds = document.field("lowerBounds");
+    final List<Object> upperBounds = document.field("upperBounds");
+
+    return new OPropertyStatistics(
+        document.field("indexName"),
+        OType.getById(((Number) document.field("keyType")).byteValue()),
+        document.field("collate"),
+        OHyperLogLog.fromBytes(document.field("distinctValues")),
+        ((Number) document.field("count")).longValue(),
+        ((Number) document.field("nulls")).longValue(),
+        lowerBounds.toArray(),
+        upperBounds.toArray(),
+        toArray(document.field("bucketCounts")),
+        toArray(document.field("bucketDistinctValues")));
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "OPropertyStatistics{index="
+        + indexName
+        + ", count="
+        + getCount()
+        + ", nulls="
+        + getNulls()
+        + ", distinctValues="
+        + distinctValues.estimate()
+        + ", buckets="
+        + upperBounds.length
+        + '}';
+  }
+
+  private double overlap(
+      final int bucket,
+      final Object from,
+      final boolean fromInclusive,
+      final Object to,
+      final boolean toInclusive) {
+    final Object lower = lowerBounds[bucket];
+    final Object upper = upperBounds[bucket];
+
+    if (from != null) {
+      final int cmp = compare(upper, from);
+      if (cmp < 0 || (cmp == 0 && !fromInclusive)) {
+        return 0;
+      }
+    }
+    if (to != null) {
+      final int cmp = compare(lower, to);
+      if (cmp > 0 || (cmp == 0 && !toInclusive)) {
+        return 0;
+      }
+    }
+
+    final boolean lowerInside =
+        from == null || compare(lower, from) > 0 || (fromInclusive && compare(lower, from) == 0);
+    final boolean upperInside =
+        to == null || compare(upper, to) < 0 || (toInclusive && compare(upper, to) == 0);
+    if (lowerInside && upperInside) {
+      return 1;
+    }
+
+    // AT LEAST ONE OF DISTINCT VALUES OF THE BUCKET IS INSIDE OF THE RANGE
+    final double minFraction = 1.0 / Math.max(1, bucketDistinctValues[bucket]);
+
+    final double lowerValue = toDouble(lower);
+    final double upperValue = toDouble(upper);
+    if (Double.isNaN(lowerValue) || Double.isNaN(upperValue) || upperValue <= lowerValue) {
+      return Math.max(0.5, minFraction);
+    }
+
+    final double start = lowerInside ? lowerValue : Math.max(lowerValue, toDouble(from));
+    final double end = upperInside ? upperValue : Math.min(upperValue, toDouble(to));
+    if (Double.isNaN(start) || Double.isNaN(end)) {
+      return Math.max(0.5, minFraction);
+    }
+
+    return Math.min(1.0, Math.max(minFraction, (end - start) / (upperValue - lowerValue)));
+  }
+
+  /** @return index of the first bucket whose upper bound is not less than the value */
+  private int firstBucket(final Object value) {
+    int low = 0;
+    int high = upperBounds.length;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (compare(upperBounds[mid], value) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+
+    return low;
+  }
+
+  private Object normalize(final Object value) {
+    try {
+      Object key = OType.convert(value, keyType.getDefaultJavaType());
+      if (key != null && collate != null) {
+        final OCollate keyCollate = OSQLEngine.getCollate(collate);
+        if (keyCollate != null) {
+          key = keyCollate.transform(key);
+        }
+      }
+      return key;
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
+  private static int compare(final Object first, final Object second) {
+    return ODefaultComparator.INSTANCE.compare(first, second);
+  }
+
+  private static double toDouble(final Object value) {
+    if (value instanceof Number) {
+      return ((Number) value).doubleValue();
+    }
+    if (value instanceof Date) {
+      return ((Date) value).getTime();
+    }
+
+    return Double.NaN;
+  }
+
+  private static List<Long> toList(final long[] values) {
+    final List<Long> result = new ArrayList<>(values.length);
+    for (final long value : values) {
+      result.add(value);
+    }
+    return result;
+  }
+
+  private static long[] toArray(final List<Number> values) {
+    final long[] result = new long[values.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = values.get(i).longValue();
+    }
+    return result;
+  }
+
+  /** Changes of the statistics made by threads which share the stripe and are not folded yet. */
+  private static final class Stripe {
+    private List<Object> added = new ArrayList<>();
+    private List<Object> removed = new ArrayList<>();
+    private OHyperLogLog distinctValues;
+    private int changes;
+
+    /** @return true if changes of the stripe should be folded */
+    synchronized boolean add(final Object value) {
+      added.add(value);
+      if (distinctValues == null) {
+        distinctValues = new OHyperLogLog();
+      }
+      distinctValues.add(value);
+      return ++changes >= FOLD_THRESHOLD;
+    }
+
+    /** @return true if changes of the stripe should be folded */
+    synchronized boolean remove(final Object value) {
+      removed.add(value);
+      return ++changes >= FOLD_THRESHOLD;
+    }
+
+    void reset() {
+      added = new ArrayList<>();
+      removed = new ArrayList<>();
+      distinctValues = null;
+      changes = 0;
+    }
+  }
+
+  /**
+   * Collects statistics from all keys of an index. Number of values and distinct values are
+   * calculated on all keys, histogram is built on a uniform sample of them.
+   */
+  public static final class Builder {
+    private final String indexName;
+    private final OType keyType;
+    private final String collate;
+    private final int buckets;
+    private final int sampleSize;
+
+    private final OHyperLogLog distinctValues = new OHyperLogLog();
+    private final List<Object> sample;
+    private long count;
+    private long nulls;
+
+    public Builder(
+        final String indexName,
+        final OType keyType,
+        final String collate,
+        final int buckets,
+        final int sampleSize) {
+      this.indexName = indexName;
+      this.keyType = keyType;
+      this.collate = collate;
+      this.buckets = Math.max(1, buckets);
+      this.sampleSize = Math.max(this.buckets, sampleSize);
+      this.sample = new ArrayList<>(Math.min(this.sampleSize, 1024));
+    }
+
+    public void add(final Object key) {
+      if (key == null) {
+        nulls++;
+        return;
+      }
+
+      count++;
+      distinctValues.add(key);
+
+      if (sample.size() < sampleSize) {
+        sample.add(key);
+      } else {
+        // RESERVOIR SAMPLING, EACH OF KEYS IS KEPT WITH THE SAME PROBABILITY
+        final long position = ThreadLocalRandom.current().nextLong(count);
+        if (position < sampleSize) {
+          sample.set((int) position, key);
+        }
+      }
+    }
+
+    /** Accounts nulls which are not stored in the index. */
+    public void addNulls(final long nulls) {
+      this.nulls += nulls;
+    }
+
+    public OPropertyStatistics build() {
+      sample.sort(ODefaultComparator.INSTANCE);
+
+      final int size = sample.size();
+      final int bucketsCount = Math.min(buckets, size);
+
+      final Object[] lowerBounds = new Object[bucketsCount];
+      final Object[] upperBounds = new Object[bucketsCount];
+      final long[] bucketCounts = new long[bucketsCount];
+      final long[] bucketDistinctValues = new long[bucketsCount];
+
+      // DISTINCT VALUES OF SAMPLE ARE SCALED TO THE ESTIMATION WHICH IS DONE ON ALL KEYS
+      final long sampleDistinctValues = countDistinct(0, size);
+      final double scale =
+          size == count
+              ? 1.0
+              : Math.max(
+                  1.0,
+                  (double) Math.min(count, distinctValues.estimate())
+                      / Math.max(1, sampleDistinctValues));
+
+      for (int bucket = 0; bucket < bucketsCount; bucket++) {
+        final int start = (int) ((long) bucket * size / bucketsCount);
+        final int end = (int) ((long) (bucket + 1) * size / bucketsCount);
+
+        lowerBounds[bucket] = sample.get(start);
+        upperBounds[bucket] = sample.get(end - 1);
+        bucketCounts[bucket] =
+            Math.round((double) end * count / size) - Math.round((double) start * count / size);
+        bucketDistinctValues[bucket] =
+            Math.max(
+                1, Math.min(bucketCounts[bucket], Math.round(countDistinct(start, end) * scale)));
+      }
+
+      return new OPropertyStatistics(
+          indexName,
+          keyType,
+          collate,
+          distinctValues,
+          count,
+          nulls,
+          lowerBounds,
+          upperBounds,
+          bucketCounts,
+          bucketDistinctValues);
+    }
+
+    private long countDistinct(final int start, final int end) {
+      long distinct = 0;
+      for (int i = start; i < end; i++) {
+        if (i == start || compare(sample.get(i - 1), sample.get(i)) != 0) {
+          distinct++;
+        }
+      }
+      return distinct;
+    }
+  }
+}
@@ -0,0 +1,248 @@
+package com.orientechnologies.orient.core.metadata.statistics;
+
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OCompositeIndexDefinition;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.OIndexInternal;
+import com.orientechnologies.orient.core.index.OPropertyIndexDefinition;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableProperty;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
+import com.orientechnologies.orient.core.metadata.schema.OPropertyImpl;
+import com.orientechnologies.orient.core.metadata.schema.OSchemaShared;
+import com.orientechnologies.orient.core.metadata.security.ORole;
+import com.orientechnologies.orient.core.metadata.security.ORule;
+import com.orientechnologies.orient.core.tx.OTransactionIndexChanges;
+import com.orientechnologies.orient.core.tx.OTransactionIndexChangesPerKey;
+import com.orientechnologies.orient.core.tx.OTransactionIndexChangesPerKey.OTransactionIndexEntry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Collects statistics of indexed properties (ANALYZE CLASS) and keeps them up to date on commit of
+ * transactions which change indexes the statistics were collected from. Statistics are stored in
+ * the schema together with the properties.
+ */
+public class OStatisticsManager {
+
+  /**
+   * Collects statistics of properties declared by the class which are leading fields of its
+   * indexes. Statistics of other declared properties are removed.
+   *
+   * @return statistics of analyzed properties by property name
+   */
+  public static Map<String, OPropertyStatistics> analyze(
+      final ODatabaseDocumentInternal database, final OClass cls) {
+    database.checkSecurity(ORule.ResourceGeneric.SCHEMA, ORole.PERMISSION_UPDATE);
+
+    final int buckets =
+        database
+            .getConfiguration()
+            .getValueAsInteger(OGlobalConfiguration.QUERY_STATISTICS_HISTOGRAM_BUCKETS);
+    final int sampleSize =
+        database
+            .getConfiguration()
+            .getValueAsInteger(OGlobalConfiguration.QUERY_STATISTICS_SAMPLE_SIZE);
+
+    final Map<String, OPropertyStatistics> statistics = new LinkedHashMap<>();
+    for (final OProperty property : cls.declaredProperties()) {
+      final OIndex index = findIndex(cls, property.getName());
+      statistics.put(
+          property.getName(),
+          index == null ? null : collect(cls, property, index, buckets, sampleSize));
+    }
+
+    // ALL PROPERTIES ARE UPDATED AT ONCE, SO SCHEMA IS SAVED ONLY ONCE
+    final OSchemaShared schema = database.getSharedContext().getSchema();
+    schema.acquireSchemaWriteLock(database);
+    try {
+      final OClass sharedClass = schema.getClass(cls.getName());
+      if (sharedClass != null) {
+        for (final Map.Entry<String, OPropertyStatistics> entry : statistics.entrySet()) {
+          final OProperty property = sharedClass.getProperty(entry.getKey());
+          if (property instanceof OPropertyImpl) {
+            ((OPropertyImpl) property).setStatistics(entry.getValue());
+          }
+        }
+      }
+    } finally {
+      schema.releaseSchemaWriteLock(database);
+    }
+
+    statistics.values().removeIf(value -> value == null);
+    // CHANGES COMMITTED SINCE THE STATISTICS WERE PUBLISHED ARE FOLDED BEFORE THEY ARE REPORTED
+    statistics.values().forEach(OPropertyStatistics::flush);
+    return statistics;
+  }
+
+  /** @return statistics of the property collected by ANALYZE CLASS, or null if there are none */
+  public static OPropertyStatistics getStatistics(final OClass cls, final String propertyName) {
+    final OProperty property = cls.getProperty(propertyName);
+    if (property instanceof OImmutableProperty) {
+      return ((OImmutableProperty) property).getStatistics();
+    }
+    if (property instanceof OPropertyImpl) {
+      return ((OPropertyImpl) property).getStatistics();
+    }
+
+    return null;
+  }
+
+  /** Accounts changes of indexes made by the committed transaction in statistics of properties. */
+  public static void afterCommit(
+      final ODatabaseDocumentInternal database,
+      final Map<String, OTransactionIndexChanges> indexOperations) {
+    if (indexOperations.isEmpty()) {
+      return;
+    }
+
+    final OSchemaShared schema = database.getSharedContext().getSchema();
+    for (final OTransactionIndexChanges changes : indexOperations.values()) {
+      final OIndexInternal index = changes.getAssociatedIndex();
+      if (index == null || changes.cleared) {
+        continue;
+      }
+
+      final OPropertyStatistics statistics = getStatistics(schema, index);
+      if (statistics == null) {
+        continue;
+      }
+
+      for (final OTransactionIndexChangesPerKey keyChanges : changes.changesPerKey.values()) {
+        apply(index, keyChanges, statistics);
+      }
+      apply(index, changes.nullKeyChanges, statistics);
+    }
+  }
+
+  private static OPropertyStatistics getStatistics(final OSchemaShared schema, final OIndex index) {
+    final OIndexDefinition definition = index.getDefinition();
+    if (definition == null || definition.getClassName() == null) {
+      return null;
+    }
+
+    final OClass cls = schema.getClass(definition.getClassName());
+    if (cls == null) {
+      return null;
+    }
+
+    final OPropertyStatistics statistics = getStatistics(cls, definition.getFields().get(0));
+    // STATISTICS ARE MAINTAINED ONLY BY THE INDEX THEY WERE COLLECTED FROM
+    if (statistics == null || !statistics.getIndexName().equals(index.getName())) {
+      return null;
+    }
+
+    return statistics;
+  }
+
+  private static void apply(
+      final OIndexInternal index,
+      final OTransactionIndexChangesPerKey changes,
+      final OPropertyStatistics statistics) {
+    final Object value = leadingValue(changes.key);
+    for (final OTransactionIndexEntry entry : index.interpretTxKeyChanges(changes)) {
+      switch (entry.operation) {
+        case PUT:
+          statistics.add(value);
+          break;
+        case REMOVE:
+          if (entry.value != null) {
+            statistics.remove(value);
+          }
+          break;
+        default:
+          break;
+      }
+    }
+  }
+
+  /**
+   * @return index with the least number of fields whose leading field is the property, index should
+   *     contain a single entry for each record and support equality lookups
+   */
+  private static OIndex findIndex(final OClass cls, final String propertyName) {
+    OIndex result = null;
+    for (final OIndex index : cls.getClassIndexes()) {
+      final OIndexDefinition definition = index.getDefinition();
+      if (definition == null
+          || !index.getInternal().canBeUsedInEqualityOperators()
+          || "LUCENE".equalsIgnoreCase(index.getAlgorithm())
+          || !definition.getFields().get(0).equalsIgnoreCase(propertyName)) {
+        continue;
+      }
+
+      if (definition instanceof OCompositeIndexDefinition) {
+        if (((OCompositeIndexDefinition) definition).getMultiValueDefinitionIndex() >= 0) {
+          continue;
+        }
+      } else if (definition.getClass() != OPropertyIndexDefinition.class) {
+        continue;
+      }
+
+      if (result == null) {
+        result = index;
+        continue;
+      }
+
+      final int fields = definition.getFields().size();
+      final int resultFields = result.getDefinition().getFields().size();
+      if (fields < resultFields
+          || (fields == resultFields && index.getName().compareTo(result.getName()) < 0)) {
+        result = index;
+      }
+    }
+
+    return result;
+  }
+
+  private static OPropertyStatistics collect(
+      final OClass cls,
+      final OProperty property,
+      final OIndex index,
+      final int buckets,
+      final int sampleSize) {
+    final OIndexDefinition definition = index.getDefinition();
+    final boolean composite = definition.getFields().size() > 1;
+    // COLLATE OF A FIELD OF COMPOSITE INDEX IS THE COLLATE OF THE PROPERTY
+    final String collate =
+        composite ? property.getCollate().getName() : definition.getCollate().getName();
+
+    final OPropertyStatistics.Builder builder =
+        new OPropertyStatistics.Builder(
+            index.getName(), definition.getTypes()[0], collate, buckets, sampleSize);
+
+    final OIndexInternal internal = index.getInternal();
+    try (final Stream<ORawPair<Object, ORID>> stream = internal.stream()) {
+      stream.forEach(entry -> builder.add(leadingValue(entry.first)));
+    }
+
+    if (!composite) {
+      if (definition.isNullValuesIgnored()) {
+        // RECORDS WHICH ARE NOT INDEXED HAVE NULL VALUES
+        builder.addNulls(Math.max(0, cls.count(true) - internal.size()));
+      } else {
+        try (final Stream<ORID> rids = internal.getRids(null)) {
+          builder.addNulls(rids.count());
+        }
+      }
+    }
+
+    return builder.build();
+  }
+
+  private static Object leadingValue(final Object key) {
+    if (key instanceof OCompositeKey) {
+      final List<Object> keys = ((OCompositeKey) key).getKeys();
+      return keys.isEmpty() ? null : keys.get(0);
+    }
+
+    return key;
+  }
+}
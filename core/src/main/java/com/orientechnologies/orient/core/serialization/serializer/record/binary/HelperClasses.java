@@ -20,6 +20,7 @@ import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.serialization.types.OByteSerializer;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
@@ -30,6 +31,7 @@ import com.orientechnologies.orient.core.db.record.OTrackedMultiValue;
 import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
 import com.orientechnologies.orient.core.db.record.ridbag.ORidBagDelegate;
 import com.orientechnologies.orient.core.db.record.ridbag.embedded.OEmbeddedRidBag;
+import com.orientechnologies.orient.core.db.record.ridbag.embedded.ORidBagDeltaEncoding;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
 import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
 import com.orientechnologies.orient.core.exception.OSerializationException;
@@ -53,6 +55,7 @@ import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeCollection
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeRidBag;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.HashMap;
@@ -344,19 +347,65 @@ public class HelperClasses {
 
     if (uuid != null) configByte |= 2;
 
+    byte[] encodedEntries = null;
+    if (ridbag.isEmbedded()
+        && OGlobalConfiguration.RID_BAG_EMBEDDED_DELTA_ENCODING.getValueAsBoolean()) {
+      encodedEntries = encodeEmbeddedRidbag(ridbag);
+      if (encodedEntries != null) configByte |= 4;
+    }
+
     // alloc will move offset and do skip
     int posForWrite = bytes.alloc(OByteSerializer.BYTE_SIZE);
     OByteSerializer.INSTANCE.serialize(configByte, bytes.bytes, posForWrite);
 
     // removed serializing UUID
 
-    if (ridbag.isEmbedded()) {
+    if (encodedEntries != null) {
+      OVarIntSerializer.write(bytes, ridbag.size());
+      OVarIntSerializer.write(bytes, encodedEntries.length);
+      final int pos = bytes.alloc(encodedEntries.length);
+      System.arraycopy(encodedEntries, 0, bytes.bytes, pos, encodedEntries.length);
+    } else if (ridbag.isEmbedded()) {
       writeEmbeddedRidbag(bytes, ridbag);
     } else {
       writeSBTreeRidbag(bytes, ridbag, ownerUuid);
     }
   }
 
+  /**
+   * Encodes links of embedded ridbag by {@link ORidBagDeltaEncoding}.
+   *
+   * @return encoded links or {@code null} if ridbag contains links which are not persistent yet
+   */
+  private static byte[] encodeEmbeddedRidbag(ORidBag ridbag) {
+    final OEmbeddedRidBag delegate = (OEmbeddedRidBag) ridbag.getDelegate();
+    final byte[] encoded = delegate.getEncodedEntries();
+    if (encoded != null) return encoded;
+
+    final Object[] entries = delegate.getEntries();
+    final ORID[] rids = new ORID[ridbag.size()];
+    ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
+    int count = 0;
+    for (Object entry : entries) {
+      if (entry instanceof OIdentifiable) {
+        ORID rid = ((OIdentifiable) entry).getIdentity();
+        if (!rid.isPersistent() && db != null && !db.isClosed() && db.getTransaction().isActive()) {
+          final OIdentifiable record = db.getTransaction().getRecord(rid);
+          if (record != null) rid = record.getIdentity();
+        }
+
+        // TEMPORARY LINKS ARE WRITTEN ONE BY ONE TO BE RESOLVED ON READ
+        if (!rid.isPersistent() || count == rids.length) return null;
+
+        rids[count++] = rid;
+      }
+    }
+
+    if (count != rids.length) return null;
+
+    return ORidBagDeltaEncoding.encode(rids, count);
+  }
+
   protected static void writeEmbeddedRidbag(BytesContainer bytes, ORidBag ridbag) {
     OVarIntSerializer.write(bytes, ridbag.size());
     Object[] entries = ((OEmbeddedRidBag) ridbag.getDelegate()).getEntries();
@@ -461,7 +510,14 @@ public class HelperClasses {
     // removed deserializing UUID
 
     ORidBag ridbag = null;
-    if (isEmbedded) {
+    if (isEmbedded && (configByte & 4) != 0) {
+      ridbag = new ORidBag();
+      final int size = OVarIntSerializer.readAsInteger(bytes);
+      final int length = OVarIntSerializer.readAsInteger(bytes);
+      final byte[] encoded = Arrays.copyOfRange(bytes.bytes, bytes.offset, bytes.offset + length);
+      bytes.skip(length);
+      ((OEmbeddedRidBag) ridbag.getDelegate()).setEncodedEntries(size, encoded);
+    } else if (isEmbedded) {
       ridbag = new ORidBag();
       int size = OVarIntSerializer.readAsInteger(bytes);
       ridbag.getDelegate().setSize(size);
@@ -2,29 +2,68 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.sql.parser.OExpression;
 import com.orientechnologies.orient.core.sql.parser.OGroupBy;
 import com.orientechnologies.orient.core.sql.parser.OProjection;
 import com.orientechnologies.orient.core.sql.parser.OProjectionItem;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-/** Created by luigidellaquila on 12/07/16. */
+/**
+ * Calculates aggregate projections, grouping the input records by the GROUP BY key in a hash map.
+ *
+ * <p>When {@link OGlobalConfiguration#QUERY_SPILL_TO_DISK} is enabled and the number of groups
+ * exceeds {@link OGlobalConfiguration#QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP}, the input records of
+ * new groups are written to temporary files, partitioned by hash of the GROUP BY key, and each
+ * partition is aggregated separately once the groups in heap are returned.
+ *
+ * <p>Created by luigidellaquila on 12/07/16.
+ */
 public class AggregateProjectionCalculationStep extends ProjectionCalculationStep {
 
+  /** How the input is aggregated */
+  public enum Mode {
+    /** aggregates the input records and calculates the final values */
+    COMPLETE,
+    /**
+     * aggregates the input records and returns the aggregation contexts as they are, to be merged
+     * by a {@link #MERGE} step (eg. one partial aggregation per worker of a parallel scan)
+     */
+    PARTIAL,
+    /** merges the results of {@link #PARTIAL} steps and calculates the final values */
+    MERGE
+  }
+
+  /** temporary property of the results of a partial aggregation, holds the GROUP BY key */
+  static final String GROUP_KEY = "_$$$GROUP_KEY$$_";
+
+  private static final int SPILL_PARTITIONS = 16;
+  private static final int MAX_SPILL_DEPTH = 8;
+
   private final OGroupBy groupBy;
   private final long timeoutMillis;
   private final long limit;
+  private final Mode mode;
 
   // the key is the GROUP BY key, the value is the (partially) aggregated value
   private Map<List, OResultInternal> aggregateResults = new LinkedHashMap<>();
   private List<OResultInternal> finalResults = null;
+  private long groupsCount = 0;
+
+  // input records of the groups that did not fit in heap, still to be aggregated
+  private OResultSpillFile[] spilling = null;
+  private int spillDepth = 0;
+  private Deque<SpilledPartition> spilledPartitions = new ArrayDeque<>();
 
   private int nextItem = 0;
+  private long timeoutBegin;
   private long cost = 0;
 
   public AggregateProjectionCalculationStep(
@@ -34,10 +73,22 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
       OCommandContext ctx,
       long timeoutMillis,
       boolean profilingEnabled) {
+    this(projection, groupBy, limit, Mode.COMPLETE, ctx, timeoutMillis, profilingEnabled);
+  }
+
+  public AggregateProjectionCalculationStep(
+      OProjection projection,
+      OGroupBy groupBy,
+      long limit,
+      Mode mode,
+      OCommandContext ctx,
+      long timeoutMillis,
+      boolean profilingEnabled) {
     super(projection, ctx, profilingEnabled);
     this.groupBy = groupBy;
     this.timeoutMillis = timeoutMillis;
-    this.limit = limit;
+    this.limit = mode == Mode.PARTIAL ? -1 : limit;
+    this.mode = mode;
   }
 
   @Override
@@ -51,15 +102,18 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
 
       @Override
       public boolean hasNext() {
-        if (localNext > nRecords || nextItem >= finalResults.size()) {
+        if (localNext > nRecords) {
           return false;
         }
-        return true;
+        while (nextItem >= finalResults.size() && !spilledPartitions.isEmpty()) {
+          aggregatePartition(spilledPartitions.poll(), ctx);
+        }
+        return nextItem < finalResults.size();
       }
 
       @Override
       public OResult next() {
-        if (localNext > nRecords || nextItem >= finalResults.size()) {
+        if (!hasNext()) {
           throw new IllegalStateException();
         }
         OResult result = finalResults.get(nextItem);
@@ -84,28 +138,56 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
   }
 
   private void executeAggregation(OCommandContext ctx, int nRecords) {
-    long timeoutBegin = System.currentTimeMillis();
+    timeoutBegin = System.currentTimeMillis();
     if (!prev.isPresent()) {
       throw new OCommandExecutionException(
           "Cannot execute an aggregation or a GROUP BY without a previous result");
     }
     OExecutionStepInternal prevStep = prev.get();
+    startSpilling(0);
     OResultSet lastRs = prevStep.syncPull(ctx, nRecords);
     while (lastRs.hasNext()) {
-      if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
-        sendTimeout();
-      }
+      checkTimeout();
       aggregate(lastRs.next(), ctx);
       if (!lastRs.hasNext()) {
         lastRs = prevStep.syncPull(ctx, nRecords);
       }
     }
+    finishSpilling();
+    calculateFinalResults();
+  }
+
+  /** aggregates the input records of a partition spilled to disk, replacing the final results */
+  private void aggregatePartition(SpilledPartition partition, OCommandContext ctx) {
+    startSpilling(partition.depth);
+    try (OResultSpillFile file = partition.file;
+        OResultSpillFile.Reader reader = file.openReader()) {
+      while (reader.hasNext()) {
+        checkTimeout();
+        aggregate(reader.next(), ctx);
+      }
+    }
+    finishSpilling();
+    calculateFinalResults();
+  }
+
+  private void calculateFinalResults() {
     finalResults = new ArrayList<>();
+    nextItem = 0;
+    if (mode == Mode.PARTIAL) {
+      for (Map.Entry<List, OResultInternal> entry : aggregateResults.entrySet()) {
+        entry.getValue().setTemporaryProperty(GROUP_KEY, entry.getKey());
+        finalResults.add(entry.getValue());
+      }
+      aggregateResults.clear();
+      return;
+    }
     finalResults.addAll(aggregateResults.values());
     aggregateResults.clear();
     for (OResultInternal item : finalResults) {
-      if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
-        sendTimeout();
+      checkTimeout();
+      if (mode == Mode.MERGE) {
+        item.temporaryContent.remove(GROUP_KEY);
       }
       for (String name : item.getTemporaryProperties()) {
         Object prevVal = item.getTemporaryProperty(name);
@@ -116,19 +198,41 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
     }
   }
 
+  private void checkTimeout() {
+    if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
+      sendTimeout();
+    }
+  }
+
   private void aggregate(OResult next, OCommandContext ctx) {
     long begin = profilingEnabled ? System.nanoTime() : 0;
     try {
-      List<Object> key = new ArrayList<>();
-      if (groupBy != null) {
-        for (OExpression item : groupBy.getItems()) {
-          Object val = item.execute(next, ctx);
-          key.add(val);
+      List<Object> key;
+      if (mode == Mode.MERGE) {
+        key = (List<Object>) ((OResultInternal) next).getTemporaryProperty(GROUP_KEY);
+      } else {
+        key = new ArrayList<>();
+        if (groupBy != null) {
+          for (OExpression item : groupBy.getItems()) {
+            Object val = item.execute(next, ctx);
+            key.add(val);
+          }
         }
       }
       OResultInternal preAggr = aggregateResults.get(key);
       if (preAggr == null) {
-        if (limit > 0 && aggregateResults.size() > limit) {
+        if (limit > 0 && groupsCount > limit) {
+          return;
+        }
+        if (spilling != null
+            && aggregateResults.size()
+                >= OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong()) {
+          spill(key, next);
+          return;
+        }
+        groupsCount++;
+        if (mode == Mode.MERGE) {
+          aggregateResults.put(key, (OResultInternal) next);
           return;
         }
         preAggr = new OResultInternal();
@@ -146,6 +250,11 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
         String alias = proj.getProjectionAlias().getStringValue();
         if (proj.isAggregate()) {
           AggregationContext aggrCtx = (AggregationContext) preAggr.getTemporaryProperty(alias);
+          if (mode == Mode.MERGE) {
+            aggrCtx.merge(
+                (AggregationContext) ((OResultInternal) next).getTemporaryProperty(alias), ctx);
+            continue;
+          }
           if (aggrCtx == null) {
             aggrCtx = proj.getAggregationContext(ctx);
             preAggr.setTemporaryProperty(alias, aggrCtx);
@@ -160,10 +269,74 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
     }
   }
 
+  /**
+   * prepares the partitions for the input records of the groups that will not fit in heap. Partial
+   * aggregation contexts cannot be written to disk, so only complete aggregations are spilled
+   */
+  private void startSpilling(int depth) {
+    spillDepth = depth;
+    if (mode == Mode.COMPLETE
+        && depth < MAX_SPILL_DEPTH
+        && OGlobalConfiguration.QUERY_SPILL_TO_DISK.getValueAsBoolean()
+        && OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong() > 0) {
+      spilling = new OResultSpillFile[SPILL_PARTITIONS];
+    } else {
+      spilling = null;
+    }
+  }
+
+  private void spill(List<Object> key, OResult next) {
+    // a different hash for each depth, to split again the partitions that are still too big
+    int hash = key.hashCode() * 0x9E3779B9 + spillDepth;
+    hash ^= hash >>> 16;
+    hash *= 0x85EBCA6B;
+    hash ^= hash >>> 13;
+    int partition = Math.floorMod(hash, SPILL_PARTITIONS);
+    if (spilling[partition] == null) {
+      spilling[partition] = new OResultSpillFile();
+    }
+    spilling[partition].write(next);
+  }
+
+  private void finishSpilling() {
+    if (spilling == null) {
+      return;
+    }
+    for (OResultSpillFile file : spilling) {
+      if (file != null) {
+        file.finishWriting();
+        spilledPartitions.add(new SpilledPartition(file, spillDepth + 1));
+      }
+    }
+    spilling = null;
+  }
+
+  @Override
+  public void close() {
+    if (spilling != null) {
+      for (OResultSpillFile file : spilling) {
+        if (file != null) {
+          file.close();
+        }
+      }
+      spilling = null;
+    }
+    for (SpilledPartition partition : spilledPartitions) {
+      partition.file.close();
+    }
+    spilledPartitions.clear();
+    super.close();
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String spaces = OExecutionStepInternal.getIndent(depth, indent);
     String result = spaces + "+ CALCULATE AGGREGATE PROJECTIONS";
+    if (mode == Mode.PARTIAL) {
+      result = spaces + "+ CALCULATE PARTIAL AGGREGATE PROJECTIONS";
+    } else if (mode == Mode.MERGE) {
+      result = spaces + "+ MERGE PARTIAL AGGREGATE PROJECTIONS";
+    }
     if (profilingEnabled) {
       result += " (" + getCostFormatted() + ")";
     }
@@ -183,6 +356,7 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
         projection.copy(),
         groupBy == null ? null : groupBy.copy(),
         limit,
+        mode,
         ctx,
         timeoutMillis,
         profilingEnabled);
@@ -192,4 +366,14 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
   public long getCost() {
     return cost;
   }
+
+  private static class SpilledPartition {
+    private final OResultSpillFile file;
+    private final int depth;
+
+    private SpilledPartition(OResultSpillFile file, int depth) {
+      this.file = file;
+      this.depth = depth;
+    }
+  }
 }
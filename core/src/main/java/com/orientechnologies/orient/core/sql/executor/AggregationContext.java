@@ -8,4 +8,22 @@ public interface AggregationContext {
   public Object getFinalValue();
 
   void apply(OResult next, OCommandContext ctx);
+
+  /**
+   * @return true if contexts that aggregated disjoint subsets of the input (eg. in parallel) can be
+   *     combined with {@link #merge(AggregationContext, OCommandContext)}
+   */
+  default boolean canMerge() {
+    return false;
+  }
+
+  /**
+   * Adds to this context the values aggregated by another context of the same aggregation
+   *
+   * @param partial a context created by the same projection item
+   * @param ctx the context of the command that merges the results
+   */
+  default void merge(AggregationContext partial, OCommandContext ctx) {
+    throw new UnsupportedOperationException("This aggregation does not support partial results");
+  }
 }
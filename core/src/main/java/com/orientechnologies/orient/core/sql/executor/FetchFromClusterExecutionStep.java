@@ -32,6 +32,11 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
   private int clusterId;
   private Object order;
 
+  /** explicit range of cluster positions to scan (inclusive), -1 means unbounded */
+  private long minPosition = -1;
+
+  private long maxPosition = -1;
+
   private ORecordIteratorCluster iterator;
   private long cost = 0;
 
@@ -57,7 +62,14 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
     try {
       if (iterator == null) {
         long minClusterPosition = calculateMinClusterPosition();
+        if (minPosition >= 0) {
+          minClusterPosition = Math.max(minClusterPosition, minPosition);
+        }
         long maxClusterPosition = calculateMaxClusterPosition();
+        if (maxPosition >= 0) {
+          maxClusterPosition =
+              maxClusterPosition < 0 ? maxPosition : Math.min(maxClusterPosition, maxPosition);
+        }
         iterator =
             new ORecordIteratorCluster(
                 (ODatabaseDocumentInternal) ctx.getDatabase(),
@@ -241,6 +253,14 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
             + clusterId
             + " "
             + orderString;
+    if (minPosition >= 0 || maxPosition >= 0) {
+      result +=
+          " (positions "
+              + (minPosition >= 0 ? String.valueOf(minPosition) : "*")
+              + "-"
+              + (maxPosition >= 0 ? String.valueOf(maxPosition) : "*")
+              + ")";
+    }
     if (profilingEnabled) {
       result += " (" + getCostFormatted() + ")";
     }
@@ -251,6 +271,18 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
     this.order = order;
   }
 
+  /**
+   * restricts the scan to a range of cluster positions, used to split a cluster scan in chunks that
+   * can be executed in parallel
+   *
+   * @param minPosition the first cluster position to scan (inclusive), -1 for no lower bound
+   * @param maxPosition the last cluster position to scan (inclusive), -1 for no upper bound
+   */
+  public void setPositionRange(long minPosition, long maxPosition) {
+    this.minPosition = minPosition;
+    this.maxPosition = maxPosition;
+  }
+
   @Override
   public long getCost() {
     return cost;
@@ -261,6 +293,8 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
     OResultInternal result = OExecutionStepInternal.basicSerialize(this);
     result.setProperty("clusterId", clusterId);
     result.setProperty("order", order);
+    result.setProperty("minPosition", minPosition);
+    result.setProperty("maxPosition", maxPosition);
     return result;
   }
 
@@ -273,6 +307,14 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
       if (orderProp != null) {
         this.order = ORDER_ASC.equals(fromResult.getProperty("order")) ? ORDER_ASC : ORDER_DESC;
       }
+      Number minPositionProp = fromResult.getProperty("minPosition");
+      if (minPositionProp != null) {
+        this.minPosition = minPositionProp.longValue();
+      }
+      Number maxPositionProp = fromResult.getProperty("maxPosition");
+      if (maxPositionProp != null) {
+        this.maxPosition = maxPositionProp.longValue();
+      }
     } catch (Exception e) {
       throw OException.wrapException(new OCommandExecutionException(""), e);
     }
@@ -280,7 +322,8 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
 
   @Override
   public boolean canBeCached() {
-    return true;
+    // position ranges are calculated on the cluster size at planning time
+    return minPosition < 0 && maxPosition < 0;
   }
 
   @Override
@@ -291,6 +334,8 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
             this.queryPlanning == null ? null : this.queryPlanning.copy(),
             ctx,
             profilingEnabled);
+    result.minPosition = this.minPosition;
+    result.maxPosition = this.maxPosition;
     return result;
   }
 }
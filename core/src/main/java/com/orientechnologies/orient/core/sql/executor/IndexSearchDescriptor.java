@@ -3,10 +3,15 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.statistics.OPropertyStatistics;
+import com.orientechnologies.orient.core.metadata.statistics.OStatisticsManager;
 import com.orientechnologies.orient.core.sql.parser.OAndBlock;
 import com.orientechnologies.orient.core.sql.parser.OBinaryCompareOperator;
 import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
 import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
+import java.util.List;
 
 /** Created by luigidellaquila on 26/07/16. */
 public class IndexSearchDescriptor {
@@ -41,15 +46,63 @@ public class IndexSearchDescriptor {
       range = op.isRangeOperator();
     }
 
-    long val =
-        stats.getIndexStats(
-            indexName, size, range, additionalRangeCondition != null, ctx.getDatabase());
+    long val = estimateFromStatistics(ctx);
     if (val == -1) {
-      // TODO query the index!
+      val =
+          stats.getIndexStats(
+              indexName, size, range, additionalRangeCondition != null, ctx.getDatabase());
     }
     if (val >= 0) {
       return val > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) val;
     }
     return Integer.MAX_VALUE;
   }
+
+  /**
+   * estimates the number of index entries that match the key condition using statistics collected
+   * by ANALYZE CLASS
+   *
+   * @return the estimated number of entries, -1 if the leading field of the index was not analyzed
+   */
+  private long estimateFromStatistics(OCommandContext ctx) {
+    OIndexDefinition definition = idx.getDefinition();
+    if (definition == null || definition.getClassName() == null) {
+      return -1;
+    }
+    OClass clazz =
+        ((ODatabaseDocumentInternal) ctx.getDatabase())
+            .getMetadata()
+            .getImmutableSchemaSnapshot()
+            .getClass(definition.getClassName());
+    if (clazz == null) {
+      return -1;
+    }
+    OPropertyStatistics leading =
+        OStatisticsManager.getStatistics(clazz, definition.getFields().get(0));
+    if (leading == null) {
+      return -1;
+    }
+
+    List<OBooleanExpression> subBlocks = keyCondition.getSubBlocks();
+    double selectivity = 1;
+    for (int i = 0; i < subBlocks.size(); i++) {
+      double current = subBlocks.get(i).estimateSelectivity(clazz, ctx);
+      if (i == subBlocks.size() - 1 && additionalRangeCondition != null) {
+        // BOTH BOUNDS OF THE SAME RANGE, THE RESULT IS THE INTERSECTION OF THE TWO HALF-RANGES
+        double additional = additionalRangeCondition.estimateSelectivity(clazz, ctx);
+        if (current >= 0 && additional >= 0) {
+          current = Math.max(0, current + additional - 1);
+        }
+      }
+      if (current < 0) {
+        if (i == 0) {
+          return -1;
+        }
+        // NOT ANALYZED FIELDS OF COMPOSITE INDEXES DO NOT RESTRICT THE ESTIMATION
+        continue;
+      }
+      selectivity *= current;
+    }
+    return (long) Math.ceil(selectivity * leading.getTotal());
+  }
 }
@@ -1,21 +1,44 @@
 package com.orientechnologies.orient.core.sql.executor;
 
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.collate.OCollate;
+import com.orientechnologies.orient.core.collate.ODefaultCollate;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OCompositeCollate;
+import com.orientechnologies.orient.core.index.OCompositeIndexDefinition;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.ODirection;
 import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionInE;
+import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionOutE;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
 import com.orientechnologies.orient.core.sql.parser.OMatchPathItem;
 import com.orientechnologies.orient.core.sql.parser.ORid;
 import com.orientechnologies.orient.core.sql.parser.OWhereClause;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /** Created by luigidellaquila on 23/09/16. */
 public class MatchEdgeTraverser {
+  /** context variable which keeps for edge indexes whether they contain all the edges */
+  private static final String EDGE_INDEXES_VARIABLE = "$matchEdgeIndexes";
+
   protected OResult sourceRecord;
   protected EdgeTraversal edge;
   protected OMatchPathItem item;
@@ -134,7 +157,15 @@ public class MatchEdgeTraverser {
             == null) { // in this case starting point is not returned and only one level depth is
       // evaluated
 
-      Iterable<OResultInternal> queryResult = traversePatternEdge(startingPoint, iCommandContext);
+      Iterable<OResultInternal> indexedResult = null;
+      if (className == null && clusterId == null && targetRid == null) {
+        indexedResult = traverseIndexedEdges(startingPoint, filter, iCommandContext);
+      }
+      Iterable<OResultInternal> queryResult =
+          indexedResult != null
+              ? indexedResult
+              : traversePatternEdge(startingPoint, iCommandContext);
+      final boolean theIndexed = indexedResult != null;
       final OWhereClause theFilter = filter;
       final String theClassName = className;
       final Integer theClusterId = clusterId;
@@ -177,6 +208,11 @@ public class MatchEdgeTraverser {
                 }
                 while (iter.hasNext()) {
                   OResultInternal next = iter.next();
+                  if (theIndexed) {
+                    // FILTER IS ALREADY APPLIED TO INDEX KEYS, SO EDGE RECORDS ARE NOT LOADED HERE
+                    nextElement = next;
+                    break;
+                  }
                   OElement elem = next.toElement();
                   iCommandContext.setVariable("$currentMatch", elem);
                   if (matchesFilters(iCommandContext, theFilter, elem)
@@ -248,6 +284,156 @@ public class MatchEdgeTraverser {
     return result;
   }
 
+  /**
+   * Traverses {@code outE(<class>)} and {@code inE(<class>)} items by an index of the edge class
+   * which starts with the vertex field of edges ({@code out} or {@code in}) and contains all the
+   * properties used by the filter. Keys of such an index keep properties of the edges next to the
+   * vertex, so the filter is evaluated without loading of edge records.
+   *
+   * @return edges that match the filter, or null if the index can not be used
+   */
+  protected Iterable<OResultInternal> traverseIndexedEdges(
+      OIdentifiable startingPoint, OWhereClause filter, OCommandContext iCommandContext) {
+    if (startingPoint == null
+        || filter == null
+        || filter.getBaseExpression() == null
+        || item.getMethod() == null) {
+      return null;
+    }
+
+    final ODirection direction;
+    final String methodName = item.getMethod().getMethodName().getStringValue();
+    if (OSQLFunctionOutE.NAME.equalsIgnoreCase(methodName)) {
+      direction = ODirection.OUT;
+    } else if (OSQLFunctionInE.NAME.equalsIgnoreCase(methodName)) {
+      direction = ODirection.IN;
+    } else {
+      return null;
+    }
+
+    final List<OExpression> params = item.getMethod().getParams();
+    if (params.size() != 1 || !params.get(0).isEarlyCalculated(iCommandContext)) {
+      return null;
+    }
+    final Object label = params.get(0).execute((OResult) null, iCommandContext);
+    if (!(label instanceof String)) {
+      return null;
+    }
+
+    final ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) iCommandContext.getDatabase();
+    // CHANGES OF THE CURRENT TRANSACTION ARE NOT IN THE INDEX YET
+    if (db == null || db.getTransaction().isActive()) {
+      return null;
+    }
+    final OClass edgeClass = db.getMetadata().getImmutableSchemaSnapshot().getClass((String) label);
+    if (edgeClass == null || !edgeClass.isEdgeType() || edgeClass.getName().equals("E")) {
+      return null;
+    }
+
+    final ORecord record = startingPoint.getRecord();
+    if (!(record instanceof OElement) || !((OElement) record).isVertex()) {
+      return null;
+    }
+
+    final String vertexField = direction == ODirection.OUT ? "out" : "in";
+    for (OIndex index : edgeClass.getIndexes()) {
+      final OIndexDefinition definition = index.getDefinition();
+      if (!(definition instanceof OCompositeIndexDefinition)
+          || ((OCompositeIndexDefinition) definition).getMultiValueDefinitionIndex() != -1
+          || !vertexField.equals(definition.getFields().get(0))
+          || !hasDefaultCollate(definition)) {
+        continue;
+      }
+
+      final List<String> fields = definition.getFields();
+      final Set<String> properties = new HashSet<>(fields.subList(1, fields.size()));
+      if (!filter.getBaseExpression().refersOnlyTo(properties, iCommandContext)
+          || !indexesAllEdges(db, index, edgeClass, iCommandContext)) {
+        continue;
+      }
+
+      final OCompositeKey key = new OCompositeKey(startingPoint.getIdentity());
+      return () -> {
+        // ENTRIES ARE READ AS EDGES ARE CONSUMED, STREAM IS CLOSED ONCE IT IS EXHAUSTED
+        final Stream<ORawPair<Object, ORID>> stream =
+            index.getInternal().streamEntriesBetween(key, true, key, true, true);
+        final Iterator<OResultInternal> edges =
+            stream
+                .filter(entry -> matchesKeys(entry, fields, filter, iCommandContext))
+                .map(entry -> new OResultInternal(entry.second))
+                .iterator();
+
+        return new Iterator<OResultInternal>() {
+          @Override
+          public boolean hasNext() {
+            if (edges.hasNext()) {
+              return true;
+            }
+            stream.close();
+            return false;
+          }
+
+          @Override
+          public OResultInternal next() {
+            return edges.next();
+          }
+        };
+      };
+    }
+    return null;
+  }
+
+  private static boolean matchesKeys(
+      ORawPair<Object, ORID> entry,
+      List<String> fields,
+      OWhereClause filter,
+      OCommandContext iCommandContext) {
+    final List<Object> keys = ((OCompositeKey) entry.first).getKeys();
+    final OResultInternal edgeProperties = new OResultInternal();
+    for (int i = 1; i < fields.size(); i++) {
+      edgeProperties.setProperty(fields.get(i), keys.get(i));
+    }
+    return filter.matchesFilters(edgeProperties, iCommandContext);
+  }
+
+  /**
+   * Lightweight edges have no records and edges with ignored null values are not indexed, so the
+   * index may be used only if it has an entry for each edge record of the class. Sizes are compared
+   * once per query, the result is kept in the context.
+   */
+  private static boolean indexesAllEdges(
+      ODatabaseDocumentInternal db,
+      OIndex index,
+      OClass edgeClass,
+      OCommandContext iCommandContext) {
+    if (db.isUseLightweightEdges()) {
+      return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    Map<String, Boolean> indexes =
+        (Map<String, Boolean>) iCommandContext.getVariable(EDGE_INDEXES_VARIABLE);
+    if (indexes == null) {
+      indexes = new HashMap<>();
+      iCommandContext.setVariable(EDGE_INDEXES_VARIABLE, indexes);
+    }
+    return indexes.computeIfAbsent(
+        index.getName(), name -> index.getInternal().size() == edgeClass.count(true));
+  }
+
+  private static boolean hasDefaultCollate(OIndexDefinition definition) {
+    final OCollate collate = definition.getCollate();
+    if (!(collate instanceof OCompositeCollate)) {
+      return false;
+    }
+    for (OCollate propertyCollate : ((OCompositeCollate) collate).getCollates()) {
+      if (!(propertyCollate instanceof ODefaultCollate)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   protected OWhereClause getTargetFilter(OMatchPathItem item) {
     return item.getFilter().getFilter();
   }
@@ -37,6 +37,13 @@ public class MatchReverseEdgeTraverser extends MatchEdgeTraverser {
     return edge.getLeftFilter();
   }
 
+  @Override
+  protected Iterable<OResultInternal> traverseIndexedEdges(
+      OIdentifiable startingPoint, OWhereClause filter, OCommandContext iCommandContext) {
+    // THE METHOD IS EXECUTED IN REVERSE, SO THE VERTEX FIELD OF THE INDEX DOES NOT MATCH
+    return null;
+  }
+
   @Override
   protected Iterable<OResultInternal> traversePatternEdge(
       OIdentifiable startingPoint, OCommandContext iCommandContext) {
@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.sql.functions.OSQLFunction;
+import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionMathAbstract;
 import com.orientechnologies.orient.core.sql.parser.OExpression;
 import java.util.ArrayList;
 import java.util.List;
@@ -36,4 +37,18 @@ public class OFuncitonAggregationContext implements AggregationContext {
     }
     aggregateFunction.execute(next, null, null, paramValues.toArray(), ctx);
   }
+
+  @Override
+  public boolean canMerge() {
+    return aggregateFunction instanceof OSQLFunctionMathAbstract
+        && ((OSQLFunctionMathAbstract) aggregateFunction).canMergePartialResult();
+  }
+
+  @Override
+  public void merge(AggregationContext partial, OCommandContext ctx) {
+    ((OSQLFunctionMathAbstract) aggregateFunction)
+        .mergePartialResult(
+            (OSQLFunctionMathAbstract) ((OFuncitonAggregationContext) partial).aggregateFunction,
+            ctx);
+  }
 }
@@ -0,0 +1,238 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordAbstract;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.result.binary.OResultSerializerNetwork;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+
+/**
+ * Temporary file that holds a sequence of query results. It is used by memory intensive steps (eg.
+ * ORDER BY, GROUP BY) to move intermediate results out of the heap when they exceed {@link
+ * com.orientechnologies.orient.core.config.OGlobalConfiguration#QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP}.
+ *
+ * <p>Persistent records are stored with their content as it was when the result was written, so the
+ * results read back are the same even if the records are updated in the meantime. Projections are
+ * stored with the network result serializer. The file is written once, then it can be read
+ * sequentially any number of times; {@link #close()} deletes it.
+ */
+public class OResultSpillFile implements AutoCloseable {
+  private static final byte PROJECTION = 0;
+  private static final byte RECORD = 1;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final OResultSerializerNetwork serializer = new OResultSerializerNetwork();
+  private final Path path;
+  private DataOutputStream output;
+  private long size = 0;
+
+  public OResultSpillFile() {
+    try {
+      Path dir = Paths.get(Orient.getTempPath(), "query");
+      Files.createDirectories(dir);
+      path = Files.createTempFile(dir, "spill", ".tmp");
+      output =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OCommandExecutionException("Cannot create temporary file for query results"), e);
+    }
+  }
+
+  public void write(OResult result) {
+    if (output == null) {
+      throw new IllegalStateException("Spill file " + path + " is already closed for writing");
+    }
+    try {
+      OResultInternal projection = new OResultInternal();
+      ORecord record =
+          result.isElement() || result.isBlob() ? result.getRecord().orElse(null) : null;
+      if (record != null && record.getIdentity().isPersistent()) {
+        ORID rid = record.getIdentity();
+        output.writeByte(RECORD);
+        output.writeByte(ORecordInternal.getRecordType(record));
+        output.writeInt(rid.getClusterId());
+        output.writeLong(rid.getClusterPosition());
+        output.writeInt(record.getVersion());
+        output.writeBoolean(record.isDirty());
+        writeBytes(((ORecordAbstract) record).toStream());
+        if (result instanceof OResultInternal) {
+          projection.content.putAll(((OResultInternal) result).content);
+        }
+      } else {
+        output.writeByte(PROJECTION);
+        for (String name : result.getPropertyNames()) {
+          projection.setProperty(name, result.getProperty(name));
+        }
+      }
+      OResultInternal temporary = new OResultInternal();
+      if (result instanceof OResultInternal) {
+        OResultInternal internal = (OResultInternal) result;
+        for (String key : internal.getMetadataKeys()) {
+          projection.setMetadata(key, internal.getMetadata(key));
+        }
+        for (String name : internal.getTemporaryProperties()) {
+          temporary.setProperty(name, internal.getTemporaryProperty(name));
+        }
+      }
+      writeResult(projection);
+      writeResult(temporary);
+      size++;
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OCommandExecutionException("Cannot write query results to " + path), e);
+    }
+  }
+
+  private void writeResult(OResultInternal result) throws IOException {
+    BytesContainer bytes = new BytesContainer();
+    serializer.serialize(result, bytes);
+    writeBytes(bytes.fitBytes());
+  }
+
+  private void writeBytes(byte[] content) throws IOException {
+    output.writeInt(content.length);
+    output.write(content);
+  }
+
+  /** flushes the written results, no more results can be added after this call */
+  public void finishWriting() {
+    if (output == null) {
+      return;
+    }
+    try {
+      output.close();
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OCommandExecutionException("Cannot write query results to " + path), e);
+    } finally {
+      output = null;
+    }
+  }
+
+  /** @return the number of results written in this file */
+  public long size() {
+    return size;
+  }
+
+  /** opens a new sequential reader on the file, the file has to be completely written */
+  public Reader openReader() {
+    finishWriting();
+    try {
+      return new Reader(
+          new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE)));
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OCommandExecutionException("Cannot read query results from " + path), e);
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      finishWriting();
+    } finally {
+      try {
+        Files.deleteIfExists(path);
+      } catch (IOException e) {
+        OLogManager.instance().warn(this, "Cannot delete temporary file %s", e, path);
+      }
+    }
+  }
+
+  /** Sequential reader of a spill file, results are read back in the order they were written. */
+  public class Reader implements Iterator<OResult>, AutoCloseable {
+    private final DataInputStream input;
+    private long read = 0;
+
+    private Reader(DataInputStream input) {
+      this.input = input;
+    }
+
+    public boolean hasNext() {
+      return read < size;
+    }
+
+    public OResult next() {
+      if (!hasNext()) {
+        throw new IllegalStateException();
+      }
+      try {
+        OResultInternal result;
+        byte type = input.readByte();
+        if (type == RECORD) {
+          byte recordType = input.readByte();
+          int clusterId = input.readInt();
+          long clusterPosition = input.readLong();
+          int version = input.readInt();
+          boolean dirty = input.readBoolean();
+          byte[] content = readBytes();
+          ORecord record =
+              Orient.instance()
+                  .getRecordFactoryManager()
+                  .newInstance(
+                      recordType, clusterId, ODatabaseRecordThreadLocal.instance().getIfDefined());
+          ORecordInternal.fill(
+              record, new ORecordId(clusterId, clusterPosition), version, content, dirty);
+          result = new OResultInternal(record);
+        } else {
+          result = new OResultInternal();
+        }
+        OResultInternal projection = readResult();
+        result.content.putAll(projection.content);
+        for (String key : projection.getMetadataKeys()) {
+          result.setMetadata(key, projection.getMetadata(key));
+        }
+        OResultInternal temporary = readResult();
+        for (String name : temporary.getPropertyNames()) {
+          result.setTemporaryProperty(name, temporary.getProperty(name));
+        }
+        read++;
+        return result;
+      } catch (EOFException e) {
+        throw OException.wrapException(
+            new OCommandExecutionException("Unexpected end of temporary file " + path), e);
+      } catch (IOException e) {
+        throw OException.wrapException(
+            new OCommandExecutionException("Cannot read query results from " + path), e);
+      }
+    }
+
+    private OResultInternal readResult() throws IOException {
+      return serializer.deserialize(new BytesContainer(readBytes()));
+    }
+
+    private byte[] readBytes() throws IOException {
+      byte[] content = new byte[input.readInt()];
+      input.readFully(content);
+      return content;
+    }
+
+    @Override
+    public void close() {
+      try {
+        input.close();
+      } catch (IOException e) {
+        OLogManager.instance().warn(this, "Cannot close temporary file %s", e, path);
+      }
+    }
+  }
+}
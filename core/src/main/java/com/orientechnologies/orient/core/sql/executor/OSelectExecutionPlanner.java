@@ -24,12 +24,15 @@ import com.orientechnologies.orient.core.metadata.schema.OView;
 import com.orientechnologies.orient.core.metadata.security.OSecurityInternal;
 import com.orientechnologies.orient.core.sql.OCommandExecutorSQLAbstract;
 import com.orientechnologies.orient.core.sql.parser.*;
+import com.orientechnologies.orient.core.storage.cluster.OClusterPositionMapBucket;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -42,6 +45,9 @@ import java.util.stream.Collectors;
 /** @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com) */
 public class OSelectExecutionPlanner {
 
+  /** number of cluster chunks created for each worker thread in a parallel class scan */
+  private static final int MORSELS_PER_WORKER = 4;
+
   private QueryPlanningInfo info;
   private OSelectStatement statement;
 
@@ -791,7 +797,7 @@ public class OSelectExecutionPlanner {
       OCommandContext ctx,
       boolean profilingEnabled) {
     if (!info.projectionsCalculated && info.projection != null) {
-      if (info.preAggregateProjection != null) {
+      if (info.preAggregateProjection != null && !info.partialAggregationCalculated) {
         result.chain(
             new ProjectionCalculationStep(info.preAggregateProjection, ctx, profilingEnabled));
       }
@@ -808,6 +814,9 @@ public class OSelectExecutionPlanner {
                 info.aggregateProjection,
                 info.groupBy,
                 aggregationLimit,
+                info.partialAggregationCalculated
+                    ? AggregateProjectionCalculationStep.Mode.MERGE
+                    : AggregateProjectionCalculationStep.Mode.COMPLETE,
                 ctx,
                 info.timeout != null ? info.timeout.getVal().longValue() : -1,
                 profilingEnabled));
@@ -826,6 +835,7 @@ public class OSelectExecutionPlanner {
   protected static void optimizeQuery(QueryPlanningInfo info, OCommandContext ctx) {
     splitLet(info, ctx);
     rewriteIndexChainsAsSubqueries(info, ctx);
+    sortConditionsBySelectivity(info, ctx);
     extractSubQueries(info);
     if (info.projection != null && info.projection.isExpand()) {
       info.expand = true;
@@ -860,6 +870,42 @@ public class OSelectExecutionPlanner {
     }
   }
 
+  /**
+   * sorts the conditions of the top level AND block of the WHERE clause so that the most selective
+   * ones, according to statistics collected by ANALYZE CLASS, are evaluated first
+   */
+  private static void sortConditionsBySelectivity(QueryPlanningInfo info, OCommandContext ctx) {
+    if (ctx == null
+        || ctx.getDatabase() == null
+        || info.whereClause == null
+        || info.target == null
+        || info.target.getItem().getIdentifier() == null) {
+      return;
+    }
+    OClass clazz =
+        getSchemaFromContext(ctx).getClass(info.target.getItem().getIdentifier().getStringValue());
+    if (clazz == null) {
+      return;
+    }
+
+    OBooleanExpression base = info.whereClause.getBaseExpression();
+    if (base instanceof OOrBlock && ((OOrBlock) base).getSubBlocks().size() == 1) {
+      base = ((OOrBlock) base).getSubBlocks().get(0);
+    }
+    if (!(base instanceof OAndBlock) || ((OAndBlock) base).getSubBlocks().size() < 2) {
+      return;
+    }
+
+    List<OBooleanExpression> subBlocks = ((OAndBlock) base).getSubBlocks();
+    Map<OBooleanExpression, Double> selectivities = new IdentityHashMap<>();
+    for (OBooleanExpression exp : subBlocks) {
+      double selectivity = exp.estimateSelectivity(clazz, ctx);
+      // CONDITIONS THAT CANNOT BE ESTIMATED KEEP THEIR RELATIVE ORDER AT THE END
+      selectivities.put(exp, selectivity < 0 ? 1.0 : selectivity);
+    }
+    subBlocks.sort(Comparator.comparingDouble(selectivities::get));
+  }
+
   /** splits LET clauses in global (executed once) and local (executed once per record) */
   private static void splitLet(QueryPlanningInfo info, OCommandContext ctx) {
     if (info.perRecordLetClause != null && info.perRecordLetClause.getItems() != null) {
@@ -1894,6 +1940,13 @@ public class OSelectExecutionPlanner {
     String className = identifier.getStringValue();
     OSchema schema = getSchemaFromContext(ctx);
 
+    if (orderByRidAsc == null
+        && schema.getClass(className) != null
+        && handleClassAsTargetWithParallelScan(
+            plan, schema.getClass(className), filterClusters, info, ctx, profilingEnabled)) {
+      return;
+    }
+
     AbstractExecutionStep fetcher;
     if (schema.getClass(className) != null) {
       fetcher =
@@ -1913,6 +1966,189 @@ public class OSelectExecutionPlanner {
     plan.chain(fetcher);
   }
 
+  /**
+   * splits the scan of the class clusters in ranges of position map pages (morsels) that are
+   * executed in parallel by a {@link ParallelExecStep}. The WHERE condition and, when no
+   * aggregation/unwind/expand/distinct is needed, the projections are calculated by the workers
+   * too. Aggregations that support partial results are calculated by the workers and merged.
+   *
+   * @return true if the parallel scan was chained to the plan
+   */
+  private boolean handleClassAsTargetWithParallelScan(
+      OSelectExecutionPlan plan,
+      OClass clazz,
+      Set<String> filterClusters,
+      QueryPlanningInfo info,
+      OCommandContext ctx,
+      boolean profilingEnabled) {
+    if (!ParallelExecStep.isParallelExecutionAllowed(ctx)
+        || info.serverToClusters.size() != 1
+        || info.perRecordLetClause != null
+        || info.lockRecord != null
+        || (info.limit != null && info.orderBy == null && info.whereClause == null)) {
+      return false;
+    }
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    int[] clusterIds =
+        Arrays.stream(clazz.getPolymorphicClusterIds())
+            .filter(
+                id -> filterClusters == null || filterClusters.contains(db.getClusterNameById(id)))
+            .toArray();
+    if (clusterIds.length == 0
+        || db.countClusterElements(clusterIds)
+            <= db.getConfiguration()
+                .getValueAsLong(OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS)) {
+      return false;
+    }
+
+    long[][] ranges = new long[clusterIds.length][];
+    long totalPositions = 0;
+    for (int i = 0; i < clusterIds.length; i++) {
+      ranges[i] = db.getStorage().getClusterDataRange(clusterIds[i]);
+      if (ranges[i].length == 2 && ranges[i][0] >= 0) {
+        totalPositions += ranges[i][1] - ranges[i][0] + 1;
+      }
+    }
+    // a few morsels per worker to balance the load, aligned to whole position map pages
+    long pageEntries = OClusterPositionMapBucket.MAX_ENTRIES;
+    long morselSize =
+        totalPositions / ((long) ParallelExecStep.getMaxWorkers(ctx) * MORSELS_PER_WORKER);
+    morselSize = Math.max((morselSize + pageEntries - 1) / pageEntries, 1) * pageEntries;
+
+    boolean pushProjections = canCalculateProjectionsOnWorkers(info);
+    boolean pushAggregation = !pushProjections && canAggregateOnWorkers(info, ctx);
+    List<OInternalExecutionPlan> morselPlans = new ArrayList<>();
+    for (int i = 0; i < clusterIds.length; i++) {
+      long from = -1;
+      if (ranges[i].length == 2 && ranges[i][0] >= 0) {
+        for (long boundary = (ranges[i][0] / morselSize + 1) * morselSize;
+            boundary <= ranges[i][1];
+            boundary += morselSize) {
+          morselPlans.add(
+              createMorselPlan(
+                  clusterIds[i],
+                  from,
+                  boundary - 1,
+                  pushProjections,
+                  pushAggregation,
+                  info,
+                  ctx,
+                  profilingEnabled));
+          from = boundary;
+        }
+      }
+      // the last morsel is open ended, it also covers records created after planning
+      morselPlans.add(
+          createMorselPlan(
+              clusterIds[i],
+              from,
+              -1,
+              pushProjections,
+              pushAggregation,
+              info,
+              ctx,
+              profilingEnabled));
+    }
+
+    plan.chain(new ParallelExecStep(morselPlans, ctx, profilingEnabled));
+    // WHERE condition already applied
+    info.whereClause = null;
+    info.flattenedWhereClause = null;
+    if (pushProjections) {
+      info.projectionsCalculated = true;
+    }
+    info.partialAggregationCalculated = pushAggregation;
+    return true;
+  }
+
+  private OSelectExecutionPlan createMorselPlan(
+      int clusterId,
+      long minPosition,
+      long maxPosition,
+      boolean pushProjections,
+      boolean pushAggregation,
+      QueryPlanningInfo info,
+      OCommandContext ctx,
+      boolean profilingEnabled) {
+    OSelectExecutionPlan subPlan = new OSelectExecutionPlan(ctx);
+    FetchFromClusterExecutionStep fetch =
+        new FetchFromClusterExecutionStep(clusterId, info, ctx, profilingEnabled);
+    fetch.setPositionRange(minPosition, maxPosition);
+    subPlan.chain(fetch);
+    if (info.whereClause != null) {
+      subPlan.chain(
+          new FilterStep(
+              info.whereClause.copy(),
+              ctx,
+              info.timeout != null ? info.timeout.getVal().longValue() : -1,
+              profilingEnabled));
+    }
+    if (pushProjections) {
+      subPlan.chain(new ProjectionCalculationStep(info.projection.copy(), ctx, profilingEnabled));
+    }
+    if (pushAggregation) {
+      if (info.preAggregateProjection != null) {
+        subPlan.chain(
+            new ProjectionCalculationStep(
+                info.preAggregateProjection.copy(), ctx, profilingEnabled));
+      }
+      subPlan.chain(
+          new AggregateProjectionCalculationStep(
+              info.aggregateProjection.copy(),
+              info.groupBy == null ? null : info.groupBy.copy(),
+              -1,
+              AggregateProjectionCalculationStep.Mode.PARTIAL,
+              ctx,
+              info.timeout != null ? info.timeout.getVal().longValue() : -1,
+              profilingEnabled));
+    }
+    return subPlan;
+  }
+
+  /** checks if the projections are calculated record by record, so workers can calculate them */
+  private static boolean canCalculateProjectionsOnWorkers(QueryPlanningInfo info) {
+    return info.projection != null
+        && !info.projectionsCalculated
+        && info.preAggregateProjection == null
+        && info.aggregateProjection == null
+        && info.groupBy == null
+        && info.unwind == null
+        && !info.expand
+        && !info.distinct;
+  }
+
+  /**
+   * checks if the workers can calculate partial aggregations, to be merged at the end. All the
+   * aggregate functions have to support partial results, and partial results cannot be spilled to
+   * disk, so the aggregation is not split when spilling is enabled. Projections that are not
+   * aggregated have to be GROUP BY keys: otherwise they take the value of the first record of the
+   * group, and the first record merged depends on the order the workers end
+   */
+  private static boolean canAggregateOnWorkers(QueryPlanningInfo info, OCommandContext ctx) {
+    if (info.aggregateProjection == null
+        || info.projectionsCalculated
+        || OGlobalConfiguration.QUERY_SPILL_TO_DISK.getValueAsBoolean()) {
+      return false;
+    }
+    Set<String> groupByKeys = new HashSet<>();
+    if (info.groupBy != null) {
+      for (OExpression key : info.groupBy.getItems()) {
+        groupByKeys.add(key.toString());
+      }
+    }
+    for (OProjectionItem item : info.aggregateProjection.getItems()) {
+      if (item.isAggregate()) {
+        if (!item.getAggregationContext(ctx).canMerge()) {
+          return false;
+        }
+      } else if (!groupByKeys.contains(item.getExpression().toString())
+          && !groupByKeys.contains(item.getProjectionAliasAsString())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private boolean handleClassAsTargetWithIndexedFunction(
       OSelectExecutionPlan plan,
       Set<String> filterClusters,
@@ -2268,7 +2504,7 @@ public class OSelectExecutionPlanner {
       subclassPlans.add(subPlan);
     }
     if (subclassPlans.size() > 0) {
-      plan.chain(new ParallelExecStep(subclassPlans, ctx, profilingEnabled));
+      plan.chain(new ParallelExecStep(subclassPlans, ctx, info.orderApplied, profilingEnabled));
       return true;
     }
     return false;
@@ -2336,7 +2572,7 @@ public class OSelectExecutionPlanner {
         subclassPlans.add(subPlan);
       }
       if (subclassPlans.size() > 0) {
-        result.add(new ParallelExecStep(subclassPlans, ctx, profilingEnabled));
+        result.add(new ParallelExecStep(subclassPlans, ctx, info.orderApplied, profilingEnabled));
       }
     }
     return result.size() == 0 ? null : result;
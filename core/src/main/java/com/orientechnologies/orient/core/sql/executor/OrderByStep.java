@@ -6,21 +6,42 @@ import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.sql.parser.OOrderBy;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
 
-/** Created by luigidellaquila on 11/07/16. */
+/**
+ * Sorts the upstream results.
+ *
+ * <p>When the number of results needed is known (ORDER BY ... LIMIT) only the best results are
+ * kept, in a bounded heap. Otherwise the results are sorted in heap, unless they exceed {@link
+ * OGlobalConfiguration#QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP}: in this case the query fails or, if
+ * {@link OGlobalConfiguration#QUERY_SPILL_TO_DISK} is enabled, sorted runs are written to temporary
+ * files and merged at the end. At most {@link #MERGE_FAN_IN} runs are merged at once: when more
+ * runs are written, groups of runs of the same size are merged into bigger runs.
+ *
+ * <p>Created by luigidellaquila on 11/07/16.
+ */
 public class OrderByStep extends AbstractExecutionStep {
+  /** maximum number of spilled runs read at the same time */
+  static final int MERGE_FAN_IN = 16;
+
   private final OOrderBy orderBy;
   private final long timeoutMillis;
   private Integer maxResults;
 
   private long cost = 0;
 
-  private List<OResult> cachedResult = null;
-  private int nextElement = 0;
+  private Iterator<OResult> sortedResults = null;
+  private List<OResultSpillFile> spilledRuns = null;
+  /** number of merges each spilled run went through, never increasing from the first run */
+  private List<Integer> runLevels = null;
+
+  private List<OResultSpillFile.Reader> openReaders = null;
 
   public OrderByStep(
       OOrderBy orderBy, OCommandContext ctx, long timeoutMillis, boolean profilingEnabled) {
@@ -44,24 +65,20 @@ public class OrderByStep extends AbstractExecutionStep {
 
   @Override
   public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
-    if (cachedResult == null) {
-      cachedResult = new ArrayList<>();
-      prev.ifPresent(p -> init(p, ctx));
+    if (sortedResults == null) {
+      sortedResults =
+          prev.isPresent() ? init(prev.get(), ctx) : new ArrayList<OResult>().iterator();
     }
 
     return new OResultSet() {
       private int currentBatchReturned = 0;
-      private int offset = nextElement;
 
       @Override
       public boolean hasNext() {
         if (currentBatchReturned >= nRecords) {
           return false;
         }
-        if (cachedResult.size() <= nextElement) {
-          return false;
-        }
-        return true;
+        return sortedResults.hasNext();
       }
 
       @Override
@@ -71,11 +88,10 @@ public class OrderByStep extends AbstractExecutionStep {
           if (currentBatchReturned >= nRecords) {
             throw new IllegalStateException();
           }
-          if (cachedResult.size() <= nextElement) {
+          if (!sortedResults.hasNext()) {
             throw new IllegalStateException();
           }
-          OResult result = cachedResult.get(offset + currentBatchReturned);
-          nextElement++;
+          OResult result = sortedResults.next();
           currentBatchReturned++;
           return result;
         } finally {
@@ -102,11 +118,26 @@ public class OrderByStep extends AbstractExecutionStep {
     };
   }
 
-  private void init(OExecutionStepInternal p, OCommandContext ctx) {
-    long timeoutBegin = System.currentTimeMillis();
+  private Iterator<OResult> init(OExecutionStepInternal p, OCommandContext ctx) {
     final long maxElementsAllowed =
         OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong();
-    boolean sorted = true;
+    if (maxResults != null && (maxElementsAllowed < 0 || maxResults <= maxElementsAllowed)) {
+      return topK(p, ctx);
+    }
+    return fullSort(p, ctx, maxElementsAllowed);
+  }
+
+  /** keeps only the first maxResults results, in a heap with the worst result on top */
+  private Iterator<OResult> topK(OExecutionStepInternal p, OCommandContext ctx) {
+    Comparator<SortEntry> worstFirst =
+        (a, b) -> {
+          int result = orderBy.compare(b.result, a.result, ctx);
+          return result != 0 ? result : Long.compare(b.sequence, a.sequence);
+        };
+    PriorityQueue<SortEntry> heap = new PriorityQueue<>(worstFirst);
+    long sequence = 0;
+
+    long timeoutBegin = System.currentTimeMillis();
     do {
       OResultSet lastBatch = p.syncPull(ctx, 100);
       if (!lastBatch.hasNext()) {
@@ -116,29 +147,18 @@ public class OrderByStep extends AbstractExecutionStep {
         if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
           sendTimeout();
         }
-
         if (this.timedOut) {
           break;
         }
         OResult item = lastBatch.next();
         long begin = profilingEnabled ? System.nanoTime() : 0;
         try {
-          cachedResult.add(item);
-          if (maxElementsAllowed >= 0 && maxElementsAllowed < cachedResult.size()) {
-            this.cachedResult.clear();
-            throw new OCommandExecutionException(
-                "Limit of allowed elements for in-heap ORDER BY in a single query exceeded ("
-                    + maxElementsAllowed
-                    + ") . You can set "
-                    + OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getKey()
-                    + " to increase this limit");
-          }
-          sorted = false;
-          // compact, only at twice as the buffer, to avoid to do it at each add
-          if (this.maxResults != null && maxResults * 2 < cachedResult.size()) {
-            cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
-            cachedResult = new ArrayList<>(cachedResult.subList(0, maxResults));
-            sorted = true;
+          if (heap.size() < maxResults) {
+            heap.add(new SortEntry(item, sequence++));
+          } else if (maxResults > 0 && orderBy.compare(item, heap.peek().result, ctx) < 0) {
+            // on equal values the new item (higher sequence) is worse, as in a stable sort
+            heap.poll();
+            heap.add(new SortEntry(item, sequence++));
           }
         } finally {
           if (profilingEnabled) {
@@ -146,28 +166,77 @@ public class OrderByStep extends AbstractExecutionStep {
           }
         }
       }
-      if (timedOut) {
+    } while (!timedOut);
+
+    long begin = profilingEnabled ? System.nanoTime() : 0;
+    try {
+      OResult[] sorted = new OResult[heap.size()];
+      for (int i = sorted.length - 1; i >= 0; i--) {
+        sorted[i] = heap.poll().result;
+      }
+      List<OResult> result = new ArrayList<>(sorted.length);
+      for (OResult item : sorted) {
+        result.add(item);
+      }
+      return result.iterator();
+    } finally {
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
+      }
+    }
+  }
+
+  private Iterator<OResult> fullSort(
+      OExecutionStepInternal p, OCommandContext ctx, long maxElementsAllowed) {
+    boolean spillToDisk = OGlobalConfiguration.QUERY_SPILL_TO_DISK.getValueAsBoolean();
+    List<OResult> cachedResult = new ArrayList<>();
+
+    long timeoutBegin = System.currentTimeMillis();
+    do {
+      OResultSet lastBatch = p.syncPull(ctx, 100);
+      if (!lastBatch.hasNext()) {
         break;
       }
-      long begin = profilingEnabled ? System.nanoTime() : 0;
-      try {
-        // compact at each batch, if needed
-        if (!sorted && this.maxResults != null && maxResults < cachedResult.size()) {
-          cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
-          cachedResult = new ArrayList<>(cachedResult.subList(0, maxResults));
-          sorted = true;
+      while (lastBatch.hasNext()) {
+        if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
+          sendTimeout();
         }
-      } finally {
-        if (profilingEnabled) {
-          cost += (System.nanoTime() - begin);
+
+        if (this.timedOut) {
+          break;
+        }
+        OResult item = lastBatch.next();
+        long begin = profilingEnabled ? System.nanoTime() : 0;
+        try {
+          cachedResult.add(item);
+          if (maxElementsAllowed >= 0 && maxElementsAllowed < cachedResult.size()) {
+            if (!spillToDisk) {
+              cachedResult.clear();
+              throw new OCommandExecutionException(
+                  "Limit of allowed elements for in-heap ORDER BY in a single query exceeded ("
+                      + maxElementsAllowed
+                      + ") . You can set "
+                      + OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getKey()
+                      + " to increase this limit or enable "
+                      + OGlobalConfiguration.QUERY_SPILL_TO_DISK.getKey());
+            }
+            spill(cachedResult, ctx);
+          }
+        } finally {
+          if (profilingEnabled) {
+            cost += (System.nanoTime() - begin);
+          }
         }
       }
-    } while (true);
+    } while (!timedOut);
+
     long begin = profilingEnabled ? System.nanoTime() : 0;
     try {
-      if (!sorted) {
-        cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
+      cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
+      if (spilledRuns == null) {
+        return cachedResult.iterator();
       }
+      return mergeRuns(cachedResult, ctx);
     } finally {
       if (profilingEnabled) {
         cost += (System.nanoTime() - begin);
@@ -175,6 +244,157 @@ public class OrderByStep extends AbstractExecutionStep {
     }
   }
 
+  /** sorts the results and writes them to a new temporary file, as a sorted run */
+  private void spill(List<OResult> results, OCommandContext ctx) {
+    results.sort((a, b) -> orderBy.compare(a, b, ctx));
+    if (spilledRuns == null) {
+      spilledRuns = new ArrayList<>();
+      runLevels = new ArrayList<>();
+    }
+    OResultSpillFile run = new OResultSpillFile();
+    spilledRuns.add(run);
+    runLevels.add(0);
+    for (OResult item : results) {
+      run.write(item);
+    }
+    run.finishWriting();
+    results.clear();
+
+    // the runs of the same level are always the last ones, merging them keeps the input order
+    int level = 0;
+    while (countLastRuns(level) == MERGE_FAN_IN) {
+      mergeLastRuns(MERGE_FAN_IN, ctx);
+      level++;
+    }
+  }
+
+  private int countLastRuns(int level) {
+    int count = 0;
+    for (int i = runLevels.size() - 1; i >= 0 && runLevels.get(i) == level; i--) {
+      count++;
+    }
+    return count;
+  }
+
+  /** replaces the last spilled runs with a single run that contains their merged results */
+  private void mergeLastRuns(int count, OCommandContext ctx) {
+    int from = spilledRuns.size() - count;
+    List<OResultSpillFile> toMerge = spilledRuns.subList(from, spilledRuns.size());
+    List<Iterator<OResult>> runs = new ArrayList<>();
+    OResultSpillFile merged = new OResultSpillFile();
+    try {
+      for (OResultSpillFile file : toMerge) {
+        runs.add(file.openReader());
+      }
+      Iterator<OResult> results = merge(runs, ctx);
+      while (results.hasNext()) {
+        merged.write(results.next());
+      }
+      merged.finishWriting();
+    } catch (RuntimeException e) {
+      merged.close();
+      throw e;
+    } finally {
+      for (Iterator<OResult> reader : runs) {
+        ((OResultSpillFile.Reader) reader).close();
+      }
+    }
+
+    int level = runLevels.get(from) + 1;
+    for (OResultSpillFile file : toMerge) {
+      file.close();
+    }
+    toMerge.clear();
+    runLevels.subList(from, runLevels.size()).clear();
+    spilledRuns.add(merged);
+    runLevels.add(level);
+  }
+
+  /**
+   * k-way merge of the sorted runs on disk and of the last (in heap) run. On equal values results
+   * of older runs come first, so the merge is stable as the in-heap sort.
+   */
+  private Iterator<OResult> mergeRuns(List<OResult> lastRun, OCommandContext ctx) {
+    // the last run is in heap, so it does not count for the fan-in
+    while (spilledRuns.size() > MERGE_FAN_IN) {
+      mergeLastRuns(Math.min(spilledRuns.size() - MERGE_FAN_IN + 1, MERGE_FAN_IN), ctx);
+    }
+
+    List<Iterator<OResult>> runs = new ArrayList<>();
+    openReaders = new ArrayList<>();
+    for (OResultSpillFile file : spilledRuns) {
+      OResultSpillFile.Reader reader = file.openReader();
+      openReaders.add(reader);
+      runs.add(reader);
+    }
+    runs.add(lastRun.iterator());
+    return merge(runs, ctx);
+  }
+
+  /** k-way merge of sorted runs, listed from the oldest to the newest */
+  private Iterator<OResult> merge(List<Iterator<OResult>> runs, OCommandContext ctx) {
+    PriorityQueue<SortEntry> heads =
+        new PriorityQueue<>(
+            (a, b) -> {
+              int result = orderBy.compare(a.result, b.result, ctx);
+              return result != 0 ? result : Long.compare(a.sequence, b.sequence);
+            });
+    for (int i = 0; i < runs.size(); i++) {
+      if (runs.get(i).hasNext()) {
+        heads.add(new SortEntry(runs.get(i).next(), i));
+      }
+    }
+
+    return new Iterator<OResult>() {
+      @Override
+      public boolean hasNext() {
+        return !heads.isEmpty();
+      }
+
+      @Override
+      public OResult next() {
+        SortEntry head = heads.poll();
+        if (head == null) {
+          throw new IllegalStateException();
+        }
+        Iterator<OResult> run = runs.get((int) head.sequence);
+        if (run.hasNext()) {
+          heads.add(new SortEntry(run.next(), head.sequence));
+        }
+        return head.result;
+      }
+    };
+  }
+
+  @Override
+  public void close() {
+    if (openReaders != null) {
+      for (OResultSpillFile.Reader reader : openReaders) {
+        reader.close();
+      }
+      openReaders = null;
+    }
+    if (spilledRuns != null) {
+      for (OResultSpillFile run : spilledRuns) {
+        run.close();
+      }
+      spilledRuns = null;
+      runLevels = null;
+    }
+    super.close();
+  }
+
+  /** a result with its position in the input (top-K) or the index of its run (merge) */
+  private static class SortEntry {
+    private final OResult result;
+    private final long sequence;
+
+    private SortEntry(OResult result, long sequence) {
+      this.result = result;
+      this.sequence = sequence;
+    }
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String result = OExecutionStepInternal.getIndent(depth, indent) + "+ " + orderBy;
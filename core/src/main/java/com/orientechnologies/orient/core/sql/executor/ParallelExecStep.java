@@ -1,30 +1,88 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.exception.OCommandInterruptedException;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
-/** @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com) */
+/**
+ * Executes a list of sub-plans and returns the union of their results.
+ *
+ * <p>When {@link OGlobalConfiguration#QUERY_PARALLEL_AUTO} is enabled, the database is embedded and
+ * no transaction is active, the sub-plans are executed concurrently on the OrientDB worker pool (at
+ * most {@link OGlobalConfiguration#QUERY_PARALLEL_MAX_WORKERS} threads per query), each one on its
+ * own copy of the database session. Results are handed over to the caller through a bounded queue
+ * of {@link OGlobalConfiguration#QUERY_PARALLEL_RESULT_QUEUE_SIZE} elements, so that workers wait
+ * when the consumer is slower than the producers. If the planner requires the order of the
+ * sub-plans to be preserved, every sub-plan gets its own queue and results are returned one
+ * sub-plan after the other.
+ *
+ * @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com)
+ */
 public class ParallelExecStep extends AbstractExecutionStep {
+  private static final Object PLAN_END = new Object();
+  private static final long POLL_INTERVAL_MS = 100;
+
+  /** prevents nested parallel steps from waiting on the same worker pool they are running on */
+  private static final ThreadLocal<Boolean> RUNNING_IN_WORKER = new ThreadLocal<>();
+
   private final List<OInternalExecutionPlan> subExecutionPlans;
+  private final boolean preserveOrder;
 
   private int current = 0;
   private OResultSet currentResultSet = null;
 
+  private ParallelFetcher parallelFetcher = null;
+  private boolean parallelChecked = false;
+
+  public ParallelExecStep(
+      List<OInternalExecutionPlan> subExecuitonPlans,
+      OCommandContext ctx,
+      boolean profilingEnabled) {
+    this(subExecuitonPlans, ctx, false, profilingEnabled);
+  }
+
   public ParallelExecStep(
       List<OInternalExecutionPlan> subExecuitonPlans,
       OCommandContext ctx,
+      boolean preserveOrder,
       boolean profilingEnabled) {
     super(ctx, profilingEnabled);
     this.subExecutionPlans = subExecuitonPlans;
+    this.preserveOrder = preserveOrder;
   }
 
   @Override
   public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
     getPrev().ifPresent(x -> x.syncPull(ctx, nRecords));
+    if (!parallelChecked) {
+      parallelChecked = true;
+      if (subExecutionPlans.size() > 1 && isParallelExecutionAllowed(ctx)) {
+        parallelFetcher = ParallelFetcher.create(this, ctx, nRecords);
+        if (parallelFetcher != null) {
+          parallelFetcher.start();
+        }
+      }
+    }
     return new OResultSet() {
       private int localCount = 0;
 
@@ -33,6 +91,9 @@ public class ParallelExecStep extends AbstractExecutionStep {
         if (localCount >= nRecords) {
           return false;
         }
+        if (parallelFetcher != null) {
+          return parallelFetcher.hasNext();
+        }
         while (currentResultSet == null || !currentResultSet.hasNext()) {
           fetchNext(ctx, nRecords);
           if (currentResultSet == null) {
@@ -47,6 +108,13 @@ public class ParallelExecStep extends AbstractExecutionStep {
         if (localCount >= nRecords) {
           throw new IllegalStateException();
         }
+        if (parallelFetcher != null) {
+          if (!parallelFetcher.hasNext()) {
+            throw new IllegalStateException();
+          }
+          localCount++;
+          return parallelFetcher.next();
+        }
         while (currentResultSet == null || !currentResultSet.hasNext()) {
           fetchNext(ctx, nRecords);
           if (currentResultSet == null) {
@@ -72,6 +140,53 @@ public class ParallelExecStep extends AbstractExecutionStep {
     };
   }
 
+  /**
+   * checks if the current query can use worker threads: parallel execution has to be enabled, the
+   * database has to be embedded and no transaction can be active (workers use their own sessions,
+   * so they would not see the transaction changes)
+   */
+  static boolean isParallelExecutionAllowed(OCommandContext ctx) {
+    if (Boolean.TRUE.equals(RUNNING_IN_WORKER.get())) {
+      return false;
+    }
+    ODatabase db = ctx.getDatabase();
+    if (!(db instanceof ODatabaseDocumentInternal)) {
+      return false;
+    }
+    ODatabaseDocumentInternal database = (ODatabaseDocumentInternal) db;
+    return !database.isRemote()
+        && !database.getTransaction().isActive()
+        && database.getConfiguration().getValueAsBoolean(OGlobalConfiguration.QUERY_PARALLEL_AUTO);
+  }
+
+  /** returns the maximum number of worker threads a single query can use */
+  static int getMaxWorkers(OCommandContext ctx) {
+    int maxWorkers =
+        ctx.getDatabase()
+            .getConfiguration()
+            .getValueAsInteger(OGlobalConfiguration.QUERY_PARALLEL_MAX_WORKERS);
+    if (maxWorkers <= 0) {
+      maxWorkers = Runtime.getRuntime().availableProcessors();
+    }
+    return maxWorkers;
+  }
+
+  @Override
+  public void sendTimeout() {
+    super.sendTimeout();
+    if (parallelFetcher != null) {
+      parallelFetcher.close();
+    }
+  }
+
+  @Override
+  public void close() {
+    if (parallelFetcher != null) {
+      parallelFetcher.close();
+    }
+    super.close();
+  }
+
   void fetchNext(OCommandContext ctx, int nRecords) {
     do {
       if (current >= subExecutionPlans.size()) {
@@ -214,11 +329,265 @@ public class ParallelExecStep extends AbstractExecutionStep {
     return true;
   }
 
+  public boolean isPreserveOrder() {
+    return preserveOrder;
+  }
+
   @Override
   public OExecutionStep copy(OCommandContext ctx) {
     return new ParallelExecStep(
         subExecutionPlans.stream().map(x -> x.copy(ctx)).collect(Collectors.toList()),
         ctx,
+        preserveOrder,
         profilingEnabled);
   }
+
+  /**
+   * Runs the sub-plans on the worker pool and collects their results. The consumer side ({@link
+   * #hasNext()}, {@link #next()}, {@link #close()}) is only accessed by the thread that executes
+   * the query.
+   */
+  private static class ParallelFetcher {
+    private final OCommandContext ctx;
+    private final List<OInternalExecutionPlan> plans;
+    private final List<OBasicCommandContext> planContexts;
+    private final boolean preserveOrder;
+    private final int batchSize;
+    private final BlockingQueue<Object>[] queues;
+    private final AtomicInteger nextPlan = new AtomicInteger();
+    private final List<Future<?>> workers = new ArrayList<>();
+
+    private volatile boolean closed = false;
+    private volatile Throwable failure = null;
+
+    private int finishedPlans = 0;
+    private OResult nextItem = null;
+
+    /**
+     * copies the sub-plans of the step on dedicated contexts, so that every worker can run them on
+     * its own database session. Returns null if any of the sub-plans does not support copy().
+     */
+    private static ParallelFetcher create(
+        ParallelExecStep step, OCommandContext ctx, int batchSize) {
+      List<OInternalExecutionPlan> plans = new ArrayList<>();
+      List<OBasicCommandContext> planContexts = new ArrayList<>();
+      for (OInternalExecutionPlan plan : step.subExecutionPlans) {
+        OBasicCommandContext planCtx = new OBasicCommandContext();
+        planCtx.setParentWithoutOverridingChild(ctx);
+        try {
+          plans.add(plan.copy(planCtx));
+        } catch (UnsupportedOperationException e) {
+          return null;
+        }
+        planContexts.add(planCtx);
+      }
+      return new ParallelFetcher(ctx, plans, planContexts, step.preserveOrder, batchSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ParallelFetcher(
+        OCommandContext ctx,
+        List<OInternalExecutionPlan> plans,
+        List<OBasicCommandContext> planContexts,
+        boolean preserveOrder,
+        int batchSize) {
+      this.ctx = ctx;
+      this.plans = plans;
+      this.planContexts = planContexts;
+      this.preserveOrder = preserveOrder;
+      this.batchSize = Math.max(batchSize, 1);
+
+      int queueSize =
+          Math.max(
+              ctx.getDatabase()
+                  .getConfiguration()
+                  .getValueAsInteger(OGlobalConfiguration.QUERY_PARALLEL_RESULT_QUEUE_SIZE),
+              1);
+      if (preserveOrder) {
+        queues = new BlockingQueue[plans.size()];
+        int perPlanSize = Math.max(queueSize / plans.size(), 1);
+        for (int i = 0; i < queues.length; i++) {
+          queues[i] = new ArrayBlockingQueue<>(perPlanSize);
+        }
+      } else {
+        queues = new BlockingQueue[] {new ArrayBlockingQueue<>(queueSize)};
+      }
+    }
+
+    private void start() {
+      int nWorkers = Math.min(getMaxWorkers(ctx), plans.size());
+
+      ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+      for (int i = 0; i < nWorkers; i++) {
+        workers.add(Orient.instance().submit(() -> runWorker(db)));
+      }
+    }
+
+    private void runWorker(ODatabaseDocumentInternal db) {
+      RUNNING_IN_WORKER.set(true);
+      ODatabaseDocumentInternal localDatabase = null;
+      try {
+        localDatabase = db.copy();
+        localDatabase.activateOnCurrentThread();
+
+        // plans are claimed in order, so with preserveOrder the plan the consumer is waiting for
+        // is always already running
+        int planIndex;
+        while (!closed && (planIndex = nextPlan.getAndIncrement()) < plans.size()) {
+          BlockingQueue<Object> queue = queues[preserveOrder ? planIndex : 0];
+          try {
+            planContexts.get(planIndex).setDatabase(localDatabase);
+            executePlan(plans.get(planIndex), queue);
+          } catch (Throwable e) {
+            if (failure == null) {
+              failure = e;
+            }
+          } finally {
+            offer(queue, PLAN_END);
+          }
+        }
+      } catch (Throwable e) {
+        if (failure == null) {
+          failure = e;
+        }
+        // wake up the consumer, the failure is reported on the next PLAN_END
+        closed = true;
+      } finally {
+        if (localDatabase != null) {
+          localDatabase.close();
+        }
+        ODatabaseRecordThreadLocal.instance().remove();
+        RUNNING_IN_WORKER.remove();
+      }
+    }
+
+    private void executePlan(OInternalExecutionPlan plan, BlockingQueue<Object> queue) {
+      try {
+        while (!closed) {
+          OResultSet block = plan.fetchNext(batchSize);
+          if (!block.hasNext()) {
+            return;
+          }
+          while (block.hasNext()) {
+            if (!offer(queue, detach(block.next()))) {
+              return;
+            }
+          }
+        }
+      } finally {
+        plan.close();
+      }
+    }
+
+    /**
+     * deserializes the records of the result on the worker, while its database session is still
+     * open: the session is closed when the worker ends, possibly before the consumer reads the
+     * result
+     */
+    private static OResult detach(OResult result) {
+      result.getElement().ifPresent(ParallelFetcher::deserialize);
+      if (!result.isElement()) {
+        for (String name : result.getPropertyNames()) {
+          Object value = result.getProperty(name);
+          if (value instanceof OIdentifiable) {
+            deserialize((OIdentifiable) value);
+          }
+        }
+      }
+      return result;
+    }
+
+    private static void deserialize(OIdentifiable identifiable) {
+      if (identifiable instanceof ODocument) {
+        ((ODocument) identifiable).deserializeFields();
+      }
+    }
+
+    /** blocks until the item is queued (back-pressure) or the fetcher is closed */
+    private boolean offer(BlockingQueue<Object> queue, Object item) {
+      try {
+        while (!closed) {
+          if (queue.offer(item, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+            return true;
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return false;
+    }
+
+    private boolean hasNext() {
+      while (nextItem == null) {
+        if (finishedPlans >= plans.size()) {
+          return false;
+        }
+        Object item = poll();
+        if (item == PLAN_END) {
+          finishedPlans++;
+          checkFailure();
+        } else if (item != null) {
+          nextItem = (OResult) item;
+        } else if (closed) {
+          checkFailure();
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private OResult next() {
+      OResult result = nextItem;
+      nextItem = null;
+      return result;
+    }
+
+    private Object poll() {
+      try {
+        Object item =
+            queues[preserveOrder ? finishedPlans : 0].poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        if (item == null && !ctx.checkTimeout()) {
+          // timeout with RETURN strategy: stop producing and return what was already fetched
+          close();
+        }
+        return item;
+      } catch (InterruptedException e) {
+        close();
+        Thread.currentThread().interrupt();
+        throw new OCommandInterruptedException("The command has been interrupted");
+      } catch (RuntimeException e) {
+        close();
+        throw e;
+      }
+    }
+
+    private void checkFailure() {
+      Throwable e = failure;
+      if (e == null) {
+        return;
+      }
+      close();
+      if (e instanceof RuntimeException) {
+        throw (RuntimeException) e;
+      }
+      throw OException.wrapException(
+          new OCommandExecutionException("Error on executing parallel query"), e);
+    }
+
+    private void close() {
+      if (closed && workers.isEmpty()) {
+        return;
+      }
+      closed = true;
+      for (Future<?> worker : workers) {
+        // not interrupting workers on purpose: an interrupt would close the file channels of the
+        // storage, workers notice the closed flag on their next offer()
+        worker.cancel(false);
+      }
+      workers.clear();
+      for (BlockingQueue<Object> queue : queues) {
+        queue.clear();
+      }
+    }
+  }
 }
@@ -47,6 +47,8 @@ public class QueryPlanningInfo {
 
   protected boolean orderApplied = false;
   protected boolean projectionsCalculated = false;
+  // the aggregate projections were partially calculated by the workers of a parallel scan
+  protected boolean partialAggregationCalculated = false;
 
   protected OAndBlock ridRangeConditions;
   protected OStorage.LOCKING_STRATEGY lockRecord;
@@ -78,6 +80,7 @@ public class QueryPlanningInfo {
     result.limit = this.limit;
     result.orderApplied = this.orderApplied;
     result.projectionsCalculated = this.projectionsCalculated;
+    result.partialAggregationCalculated = this.partialAggregationCalculated;
     result.ridRangeConditions = this.ridRangeConditions;
 
     result.lockRecord = this.lockRecord;
@@ -90,6 +90,20 @@ public class OSQLFunctionAverage extends OSQLFunctionMathAbstract {
     }
   }
 
+  @Override
+  public boolean canMergePartialResult() {
+    return aggregateResults();
+  }
+
+  @Override
+  public void mergePartialResult(OSQLFunctionMathAbstract partial, OCommandContext ctx) {
+    OSQLFunctionAverage other = (OSQLFunctionAverage) partial;
+    if (other.sum != null) {
+      sum = sum == null ? other.sum : OType.increment(sum, other.sum);
+    }
+    total += other.total;
+  }
+
   @SuppressWarnings("unchecked")
   @Override
   public Object mergeDistributedResult(final List<Object> resultsToMerge) {
@@ -19,6 +19,7 @@
  */
 package com.orientechnologies.orient.core.sql.functions.math;
 
+import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.sql.functions.OSQLFunctionConfigurableAbstract;
 import java.math.BigDecimal;
 
@@ -72,4 +73,23 @@ public abstract class OSQLFunctionMathAbstract extends OSQLFunctionConfigurableA
   public boolean shouldMergeDistributedResult() {
     return true;
   }
+
+  /**
+   * @return true if the results aggregated by separate instances of this function, on disjoint
+   *     subsets of the input, can be combined with {@link #mergePartialResult}
+   */
+  public boolean canMergePartialResult() {
+    return false;
+  }
+
+  /**
+   * Adds to this instance the result aggregated so far by another instance of the same function
+   *
+   * @param partial an instance of the same function, configured with the same parameters
+   * @param ctx the context of the command that merges the results
+   */
+  public void mergePartialResult(OSQLFunctionMathAbstract partial, OCommandContext ctx) {
+    throw new UnsupportedOperationException(
+        "Partial results of function " + getName() + " cannot be merged");
+  }
 }
@@ -106,6 +106,19 @@ public class OSQLFunctionMax extends OSQLFunctionMathAbstract {
     return context;
   }
 
+  @Override
+  public boolean canMergePartialResult() {
+    return aggregateResults();
+  }
+
+  @Override
+  public void mergePartialResult(OSQLFunctionMathAbstract partial, OCommandContext ctx) {
+    Object partialResult = partial.getResult();
+    if (partialResult != null) {
+      execute(null, null, null, new Object[] {partialResult}, ctx);
+    }
+  }
+
   @SuppressWarnings("unchecked")
   @Override
   public Object mergeDistributedResult(List<Object> resultsToMerge) {
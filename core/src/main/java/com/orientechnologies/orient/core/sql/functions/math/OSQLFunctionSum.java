@@ -80,6 +80,16 @@ public class OSQLFunctionSum extends OSQLFunctionMathAbstract {
     return sum == null ? 0 : sum;
   }
 
+  @Override
+  public boolean canMergePartialResult() {
+    return aggregateResults();
+  }
+
+  @Override
+  public void mergePartialResult(OSQLFunctionMathAbstract partial, OCommandContext ctx) {
+    sum(((OSQLFunctionSum) partial).sum);
+  }
+
   @Override
   public Object mergeDistributedResult(List<Object> resultsToMerge) {
     Number sum = null;
@@ -69,6 +69,16 @@ public class OSQLFunctionCount extends OSQLFunctionMathAbstract {
     total = ((Number) iResult).longValue();
   }
 
+  @Override
+  public boolean canMergePartialResult() {
+    return true;
+  }
+
+  @Override
+  public void mergePartialResult(OSQLFunctionMathAbstract partial, OCommandContext ctx) {
+    total += ((OSQLFunctionCount) partial).total;
+  }
+
   @Override
   public Object mergeDistributedResult(List<Object> resultsToMerge) {
     long total = 0;
@@ -63,6 +63,10 @@ public class OAlterClusterStatement extends ODDLStatement {
     List<Integer> clustersToUpdate = getClusters(ctx);
 
     Object finalValue = attributeValue.execute((OIdentifiable) null, ctx);
+    if (finalValue == null && attributeValue.isBaseIdentifier()) {
+      // ALLOWS UNQUOTED VALUES, LIKE "STORAGE_TIER cold"
+      finalValue = attributeValue.getDefaultAlias().getStringValue();
+    }
 
     final com.orientechnologies.orient.core.storage.OCluster.ATTRIBUTES attribute =
         Arrays.stream(OCluster.ATTRIBUTES.values())
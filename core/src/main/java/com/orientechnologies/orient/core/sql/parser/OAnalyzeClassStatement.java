@@ -0,0 +1,85 @@
+/* Generated By:JJTree: Do not edit this line. OAnalyzeClassStatement.java Version 4.3 */
+/* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=true,NODE_PREFIX=O,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.statistics.OPropertyStatistics;
+import com.orientechnologies.orient.core.metadata.statistics.OStatisticsManager;
+import com.orientechnologies.orient.core.sql.executor.OInternalResultSet;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.Map;
+
+public class OAnalyzeClassStatement extends ODDLStatement {
+
+  protected OIdentifier className;
+
+  public OAnalyzeClassStatement(int id) {
+    super(id);
+  }
+
+  public OAnalyzeClassStatement(OrientSql p, int id) {
+    super(p, id);
+  }
+
+  @Override
+  public OResultSet executeDDL(OCommandContext ctx) {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    OClass clazz = db.getMetadata().getSchema().getClass(className.getStringValue());
+    if (clazz == null) {
+      throw new OCommandExecutionException("Schema Class not found: " + className);
+    }
+
+    OInternalResultSet rs = new OInternalResultSet();
+    Map<String, OPropertyStatistics> statistics = OStatisticsManager.analyze(db, clazz);
+    for (Map.Entry<String, OPropertyStatistics> entry : statistics.entrySet()) {
+      OPropertyStatistics stats = entry.getValue();
+      OResultInternal result = new OResultInternal();
+      result.setProperty("operation", "analyze class");
+      result.setProperty("className", clazz.getName());
+      result.setProperty("propertyName", entry.getKey());
+      result.setProperty("indexName", stats.getIndexName());
+      result.setProperty("count", stats.getCount());
+      result.setProperty("nulls", stats.getNulls());
+      result.setProperty("distinctValues", stats.getDistinctValues());
+      result.setProperty("buckets", stats.getBuckets());
+      rs.add(result);
+    }
+    return rs;
+  }
+
+  @Override
+  public void toString(Map<Object, Object> params, StringBuilder builder) {
+    builder.append("ANALYZE CLASS ");
+    className.toString(params, builder);
+  }
+
+  @Override
+  public OAnalyzeClassStatement copy() {
+    OAnalyzeClassStatement result = new OAnalyzeClassStatement(-1);
+    result.className = className == null ? null : className.copy();
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    OAnalyzeClassStatement that = (OAnalyzeClassStatement) o;
+
+    if (className != null ? !className.equals(that.className) : that.className != null)
+      return false;
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    return className != null ? className.hashCode() : 0;
+  }
+}
+/* JavaCC - OriginalChecksum=8325cdf186d7c568a30a3932eee1f89b (do not edit this line) */
@@ -271,5 +271,28 @@ public class OAndBlock extends OBooleanExpression {
     }
     return true;
   }
+
+  @Override
+  public double estimateSelectivity(OClass clazz, OCommandContext ctx) {
+    // CONDITIONS ARE ASSUMED TO BE INDEPENDENT, UNKNOWN ONES DO NOT RESTRICT THE ESTIMATION
+    double result = -1;
+    for (OBooleanExpression exp : subBlocks) {
+      double selectivity = exp.estimateSelectivity(clazz, ctx);
+      if (selectivity >= 0) {
+        result = result < 0 ? selectivity : result * selectivity;
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public boolean refersOnlyTo(Set<String> properties, OCommandContext ctx) {
+    for (OBooleanExpression exp : subBlocks) {
+      if (!exp.refersOnlyTo(properties, ctx)) {
+        return false;
+      }
+    }
+    return true;
+  }
 }
 /* JavaCC - OriginalChecksum=cf1f66cc86cfc93d357f9fcdfa4a4604 (do not edit this line) */
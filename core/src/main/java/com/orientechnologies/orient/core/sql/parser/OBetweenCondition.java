@@ -4,7 +4,9 @@ package com.orientechnologies.orient.core.sql.parser;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.statistics.OPropertyStatistics;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -260,5 +262,29 @@ public class OBetweenCondition extends OBooleanExpression {
     }
     return true;
   }
+
+  @Override
+  public double estimateSelectivity(OClass clazz, OCommandContext ctx) {
+    OPropertyStatistics statistics = getStatistics(clazz, first);
+    if (statistics == null) {
+      return -1;
+    }
+    Object from = calculateEarly(second, ctx);
+    Object to = calculateEarly(third, ctx);
+    if (from == UNKNOWN_VALUE || to == UNKNOWN_VALUE) {
+      return -1;
+    }
+    if (from == null || to == null) {
+      return 0;
+    }
+    return statistics.rangeSelectivity(from, true, to, true);
+  }
+
+  @Override
+  public boolean refersOnlyTo(Set<String> properties, OCommandContext ctx) {
+    return refersOnlyTo(first, properties, ctx)
+        && refersOnlyTo(second, properties, ctx)
+        && refersOnlyTo(third, properties, ctx);
+  }
 }
 /* JavaCC - OriginalChecksum=f94f4779c4a6c6d09539446045ceca89 (do not edit this line) */
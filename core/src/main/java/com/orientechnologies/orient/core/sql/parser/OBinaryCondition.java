@@ -9,6 +9,7 @@ import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.statistics.OPropertyStatistics;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import java.util.ArrayList;
@@ -488,5 +489,52 @@ public class OBinaryCondition extends OBooleanExpression {
 
     return result;
   }
+
+  @Override
+  public double estimateSelectivity(OClass clazz, OCommandContext ctx) {
+    OExpression value = right;
+    boolean swapped = false;
+    OPropertyStatistics statistics = getStatistics(clazz, left);
+    if (statistics == null) {
+      statistics = getStatistics(clazz, right);
+      value = left;
+      swapped = true;
+    }
+    if (statistics == null) {
+      return -1;
+    }
+
+    Object key = calculateEarly(value, ctx);
+    if (key == UNKNOWN_VALUE) {
+      return -1;
+    }
+    if (operator instanceof OEqualsCompareOperator) {
+      return statistics.equalsSelectivity(key);
+    }
+    if (operator instanceof ONeqOperator || operator instanceof ONeOperator) {
+      double selectivity = statistics.equalsSelectivity(key);
+      return selectivity < 0 ? -1 : Math.max(0, 1 - selectivity - statistics.nullSelectivity());
+    }
+    if (key == null) {
+      return 0;
+    }
+
+    boolean lower = operator instanceof OLtOperator || operator instanceof OLeOperator;
+    boolean greater = operator instanceof OGtOperator || operator instanceof OGeOperator;
+    if (!lower && !greater) {
+      return -1;
+    }
+    boolean inclusive = operator instanceof OLeOperator || operator instanceof OGeOperator;
+    // "5 < field" IS THE SAME AS "field > 5"
+    if (lower != swapped) {
+      return statistics.rangeSelectivity(null, true, key, inclusive);
+    }
+    return statistics.rangeSelectivity(key, inclusive, null, true);
+  }
+
+  @Override
+  public boolean refersOnlyTo(Set<String> properties, OCommandContext ctx) {
+    return refersOnlyTo(left, properties, ctx) && refersOnlyTo(right, properties, ctx);
+  }
 }
 /* JavaCC - OriginalChecksum=99ed1dd2812eb730de8e1931b1764da5 (do not edit this line) */
@@ -6,6 +6,8 @@ import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.statistics.OPropertyStatistics;
+import com.orientechnologies.orient.core.metadata.statistics.OStatisticsManager;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import java.util.Collections;
@@ -17,6 +19,8 @@ import java.util.Set;
 /** Created by luigidellaquila on 07/11/14. */
 public abstract class OBooleanExpression extends SimpleNode {
 
+  protected static final Object UNKNOWN_VALUE = new Object();
+
   public static final OBooleanExpression TRUE =
       new OBooleanExpression(0) {
         @Override
@@ -286,4 +290,65 @@ public abstract class OBooleanExpression extends SimpleNode {
   public boolean isAlwaysTrue() {
     return false;
   }
+
+  /**
+   * estimates the fraction of records of a class that match this condition, based on statistics
+   * collected by ANALYZE CLASS
+   *
+   * @param clazz the class the condition is applied to
+   * @param ctx the command context
+   * @return a value between 0 and 1, or -1 if the selectivity cannot be estimated
+   */
+  public double estimateSelectivity(OClass clazz, OCommandContext ctx) {
+    return -1;
+  }
+
+  /**
+   * @return statistics of the property the expression refers to, or null if the expression is not a
+   *     plain property or the property was not analyzed
+   */
+  protected static OPropertyStatistics getStatistics(OClass clazz, OExpression expression) {
+    if (clazz == null || expression == null || !expression.isBaseIdentifier()) {
+      return null;
+    }
+    return OStatisticsManager.getStatistics(clazz, expression.getDefaultAlias().getStringValue());
+  }
+
+  /**
+   * @return the value of an expression that does not depend on the current record, or UNKNOWN_VALUE
+   */
+  protected static Object calculateEarly(OExpression expression, OCommandContext ctx) {
+    if (expression == null || !expression.isEarlyCalculated(ctx)) {
+      return UNKNOWN_VALUE;
+    }
+    return expression.execute((OResult) null, ctx);
+  }
+
+  /**
+   * checks if the condition can be evaluated on a result that contains only some properties of the
+   * current record
+   *
+   * @param properties names of the available properties
+   * @param ctx the command context
+   * @return true if the condition depends only on the given properties and on values that do not
+   *     depend on the current record
+   */
+  public boolean refersOnlyTo(Set<String> properties, OCommandContext ctx) {
+    return false;
+  }
+
+  /**
+   * @return true if the expression is one of the given properties or does not depend on the current
+   *     record
+   */
+  protected static boolean refersOnlyTo(
+      OExpression expression, Set<String> properties, OCommandContext ctx) {
+    if (expression == null) {
+      return false;
+    }
+    if (expression.isBaseIdentifier()) {
+      return properties.contains(expression.getDefaultAlias().getStringValue());
+    }
+    return expression.isEarlyCalculated(ctx);
+  }
 }
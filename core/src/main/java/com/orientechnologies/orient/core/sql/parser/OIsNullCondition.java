@@ -4,6 +4,8 @@ package com.orientechnologies.orient.core.sql.parser;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.statistics.OPropertyStatistics;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import java.util.Collections;
 import java.util.List;
@@ -146,5 +148,16 @@ public class OIsNullCondition extends OBooleanExpression {
   public boolean isCacheable() {
     return expression.isCacheable();
   }
+
+  @Override
+  public double estimateSelectivity(OClass clazz, OCommandContext ctx) {
+    OPropertyStatistics statistics = getStatistics(clazz, expression);
+    return statistics == null ? -1 : statistics.nullSelectivity();
+  }
+
+  @Override
+  public boolean refersOnlyTo(Set<String> properties, OCommandContext ctx) {
+    return refersOnlyTo(expression, properties, ctx);
+  }
 }
 /* JavaCC - OriginalChecksum=29ebbc506a98f90953af91a66a03aa1e (do not edit this line) */
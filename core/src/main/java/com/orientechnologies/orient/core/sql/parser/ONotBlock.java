@@ -178,5 +178,19 @@ public class ONotBlock extends OBooleanExpression {
     }
     return sub.isAlwaysTrue();
   }
+
+  @Override
+  public double estimateSelectivity(OClass clazz, OCommandContext ctx) {
+    double selectivity = sub.estimateSelectivity(clazz, ctx);
+    if (negate && selectivity >= 0) {
+      return 1 - selectivity;
+    }
+    return selectivity;
+  }
+
+  @Override
+  public boolean refersOnlyTo(Set<String> properties, OCommandContext ctx) {
+    return sub.refersOnlyTo(properties, ctx);
+  }
 }
 /* JavaCC - OriginalChecksum=1926313b3f854235aaa20811c22d583b (do not edit this line) */
@@ -259,5 +259,31 @@ public class OOrBlock extends OBooleanExpression {
     }
     return false;
   }
+
+  @Override
+  public double estimateSelectivity(OClass clazz, OCommandContext ctx) {
+    if (subBlocks.isEmpty()) {
+      return -1;
+    }
+    double notMatching = 1;
+    for (OBooleanExpression exp : subBlocks) {
+      double selectivity = exp.estimateSelectivity(clazz, ctx);
+      if (selectivity < 0) {
+        return -1;
+      }
+      notMatching *= 1 - selectivity;
+    }
+    return 1 - notMatching;
+  }
+
+  @Override
+  public boolean refersOnlyTo(Set<String> properties, OCommandContext ctx) {
+    for (OBooleanExpression exp : subBlocks) {
+      if (!exp.refersOnlyTo(properties, ctx)) {
+        return false;
+      }
+    }
+    return true;
+  }
 }
 /* JavaCC - OriginalChecksum=98d3077303a598705894dbb7bd4e1573 (do not edit this line) */
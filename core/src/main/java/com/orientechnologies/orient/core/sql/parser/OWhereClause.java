@@ -70,7 +70,8 @@ public class OWhereClause extends SimpleNode {
    *     if and only if sure that no records are returned
    */
   public long estimate(OClass oClass, long threshold, OCommandContext ctx) {
-    long count = oClass.count();
+    final long total = oClass.count();
+    long count = total;
     if (count > 1) {
       count = count / 2;
     }
@@ -123,6 +124,11 @@ public class OWhereClause extends SimpleNode {
           }
         }
       }
+
+      double selectivity = condition.estimateSelectivity(oClass, ctx);
+      if (selectivity >= 0) {
+        conditionEstimation = Math.min(conditionEstimation, (long) Math.ceil(selectivity * total));
+      }
       if (conditionEstimation > count) {
         return count;
       }
@@ -28,7 +28,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
       if (jj_2_1(4)) {
-        jj_consume_token(271);
+        jj_consume_token(272);
         jjtn000.cluster = Integer();
         jj_consume_token(COLON);
         jjtn000.position = Integer();
@@ -229,6 +229,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -300,7 +301,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:;
+          case 272:;
             break;
           default:
             jj_la1[2] = jj_gen;
@@ -636,6 +637,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case OPTIMIZE:
           token = jj_consume_token(OPTIMIZE);
           break;
+        case ANALYZE:
+          token = jj_consume_token(ANALYZE);
+          break;
         case LINK:
           token = jj_consume_token(LINK);
           break;
@@ -1139,6 +1143,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -1208,7 +1213,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:
+          case 272:
             result = ExpressionStatement();
             break;
           default:
@@ -1371,6 +1376,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                   case OPTIMIZE:
                                     result = OptimizeDatabaseStatement();
                                     break;
+                                  case ANALYZE:
+                                    result = AnalyzeClassStatement();
+                                    break;
                                   case GRANT:
                                     result = GrantStatement();
                                     break;
@@ -1829,6 +1837,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -1898,7 +1907,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 272:
           jjtn000.projection = Projection();
           break;
         default:
@@ -2162,6 +2171,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -2757,7 +2767,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 271:
+        case 272:
           jjtn000.rid = Rid();
           break;
         case LBRACKET:
@@ -2766,7 +2776,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 271:
+            case 272:
               lastRid = Rid();
               jjtn000.rids = new ArrayList();
               jjtn000.rids.add(lastRid);
@@ -2910,6 +2920,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -3255,6 +3266,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -3491,6 +3503,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -3560,7 +3573,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case KEY:
             case IDENTIFIER:
             case QUOTED_IDENTIFIER:
-            case 271:
+            case 272:
               jjtn000.returnProjection = Projection();
               break;
             default:
@@ -3788,6 +3801,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -3857,7 +3871,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case KEY:
             case IDENTIFIER:
             case QUOTED_IDENTIFIER:
-            case 271:
+            case 272:
               jjtn000.returnProjection = Projection();
               break;
             default:
@@ -4428,6 +4442,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -5081,6 +5096,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -5381,6 +5397,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -5784,6 +5801,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -5853,7 +5871,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 272:
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
             case BANG:
               jj_consume_token(BANG);
@@ -6319,6 +6337,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -6445,6 +6464,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -6514,7 +6534,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 272:
           lastExpression = Expression();
           jjtn000.params.add(lastExpression);
           label_21:
@@ -6644,6 +6664,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -6713,7 +6734,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 272:
           lastExpression = Expression();
           jjtn000.params.add(lastExpression);
           label_22:
@@ -7483,6 +7504,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -7552,7 +7574,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:
+          case 272:
             jjtn000.expression = Expression();
             break;
           case INSERT:
@@ -7673,6 +7695,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -7982,7 +8005,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 271:
+        case 272:
           lastRid = Rid();
           jjtn000.rids.add(lastRid);
           break;
@@ -8151,6 +8174,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           case ID:
                           case DATABASE:
                           case OPTIMIZE:
+                          case ANALYZE:
                           case LINK:
                           case TYPE:
                           case INVERSE:
@@ -8364,6 +8388,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -8508,8 +8533,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     OIdentifier lastIdentifier;
     try {
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-        case 272:
-          jj_consume_token(272);
+        case 273:
+          jj_consume_token(273);
           builder.append("__@recordmap@___");
           break;
         default:
@@ -8898,6 +8923,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -8967,7 +8993,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 272:
           if (jj_2_113(2147483647)) {
             jjtn000.sub = ConditionBlock();
           } else if (jj_2_114(2147483647)) {
@@ -9824,6 +9850,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -10324,6 +10351,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -10526,6 +10554,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -10931,6 +10960,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -10987,7 +11017,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 272:
           lastItem = new OOrderByItem();
           jjtn000.items.add(lastItem);
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -11051,6 +11081,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -11119,7 +11150,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 271:
+            case 272:
               lastItem.rid = Rid();
               break;
             case RECORD_ATTRIBUTE:
@@ -11228,6 +11259,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -11296,7 +11328,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 271:
+            case 272:
               lastItem.rid = Rid();
               break;
             case RECORD_ATTRIBUTE:
@@ -11417,6 +11449,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -11473,7 +11506,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:
+          case 272:
             lastItem = new OOrderByItem();
             jjtn000.items.add(lastItem);
             switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -11537,6 +11570,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case ID:
               case DATABASE:
               case OPTIMIZE:
+              case ANALYZE:
               case LINK:
               case TYPE:
               case INVERSE:
@@ -11605,7 +11639,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case INTEGER_LITERAL:
               case LBRACE:
               case MINUS:
-              case 271:
+              case 272:
                 lastItem.rid = Rid();
                 break;
               case RECORD_ATTRIBUTE:
@@ -11714,6 +11748,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case ID:
               case DATABASE:
               case OPTIMIZE:
+              case ANALYZE:
               case LINK:
               case TYPE:
               case INVERSE:
@@ -11782,7 +11817,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case INTEGER_LITERAL:
               case LBRACE:
               case MINUS:
-              case 271:
+              case 272:
                 lastItem.rid = Rid();
                 break;
               case RECORD_ATTRIBUTE:
@@ -12412,6 +12447,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -12481,7 +12517,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 272:
           lastExpression = Expression();
           jjtn000.expressions.add(lastExpression);
           label_35:
@@ -12612,6 +12648,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -12783,6 +12820,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13063,6 +13101,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13181,6 +13220,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -13329,6 +13369,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case ID:
               case DATABASE:
               case OPTIMIZE:
+              case ANALYZE:
               case LINK:
               case TYPE:
               case INVERSE:
@@ -14002,6 +14043,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -14253,6 +14295,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -14442,6 +14485,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -14629,6 +14673,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -14816,6 +14861,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -15012,6 +15058,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -15206,6 +15253,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -15499,6 +15547,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15620,7 +15669,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 271:
+        case 272:
           jjtn000.record = Rid();
           break;
         case LBRACKET:
@@ -15630,7 +15679,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 271:
+            case 272:
               lastRecord = Rid();
               jjtn000.records.add(lastRecord);
               label_43:
@@ -15707,7 +15756,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 271:
+        case 272:
           jjtn000.rid = Rid();
           break;
         case LPAREN:
@@ -15785,6 +15834,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -15920,6 +15970,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case ID:
               case DATABASE:
               case OPTIMIZE:
+              case ANALYZE:
               case LINK:
               case TYPE:
               case INVERSE:
@@ -16305,6 +16356,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -16455,6 +16507,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -16585,6 +16638,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -16753,6 +16807,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -16882,6 +16937,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -17038,6 +17094,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -17092,8 +17149,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case QUOTED_IDENTIFIER:
               jjtn000.identifierValue = Identifier();
               break;
-            case 273:
-              jj_consume_token(273);
+            case 274:
+              jj_consume_token(274);
               jjtn000.customString = "round-robin";
               break;
             case RID_STRING:
@@ -17173,6 +17230,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -17301,6 +17359,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -17431,6 +17490,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -17757,6 +17817,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -18011,6 +18072,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -18262,6 +18324,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -18432,6 +18495,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -18596,6 +18660,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -18716,6 +18781,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case ID:
                 case DATABASE:
                 case OPTIMIZE:
+                case ANALYZE:
                 case LINK:
                 case TYPE:
                 case INVERSE:
@@ -18847,6 +18913,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -18964,6 +19031,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case ID:
                 case DATABASE:
                 case OPTIMIZE:
+                case ANALYZE:
                 case LINK:
                 case TYPE:
                 case INVERSE:
@@ -19114,6 +19182,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -19231,6 +19300,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case ID:
                 case DATABASE:
                 case OPTIMIZE:
+                case ANALYZE:
                 case LINK:
                 case TYPE:
                 case INVERSE:
@@ -19425,6 +19495,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -19477,7 +19548,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 272:
+        case 273:
           jjtn000.name = IndexName();
           break;
         case STAR:
@@ -19594,6 +19665,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -19646,7 +19718,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 272:
+        case 273:
           jjtn000.name = IndexName();
           break;
         case STAR:
@@ -19907,6 +19979,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -20091,6 +20164,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -20289,6 +20363,51 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     throw new Error("Missing return statement in function");
   }
 
+  public final OAnalyzeClassStatement AnalyzeClassStatement() throws ParseException {
+    /*@bgen(jjtree) AnalyzeClassStatement */
+    OAnalyzeClassStatement jjtn000 = new OAnalyzeClassStatement(JJTANALYZECLASSSTATEMENT);
+    boolean jjtc000 = true;
+    jjtree.openNodeScope(jjtn000);
+    jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jj_consume_token(ANALYZE);
+      jj_consume_token(CLASS);
+      jjtn000.className = Identifier();
+      jjtree.closeNodeScope(jjtn000, true);
+      jjtc000 = false;
+      jjtn000.jjtSetLastToken(getToken(0));
+      {
+        if (true) return jjtn000;
+      }
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {
+          if (true) throw (RuntimeException) jjte000;
+        }
+      }
+      if (jjte000 instanceof ParseException) {
+        {
+          if (true) throw (ParseException) jjte000;
+        }
+      }
+      {
+        if (true) throw (Error) jjte000;
+      }
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
   public final OCreateLinkStatement CreateLinkStatement() throws ParseException {
     /*@bgen(jjtree) CreateLinkStatement */
     OCreateLinkStatement jjtn000 = new OCreateLinkStatement(JJTCREATELINKSTATEMENT);
@@ -20365,6 +20484,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -20491,6 +20611,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -21056,6 +21177,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -21187,6 +21309,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -21305,6 +21428,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case ID:
                 case DATABASE:
                 case OPTIMIZE:
+                case ANALYZE:
                 case LINK:
                 case TYPE:
                 case INVERSE:
@@ -21496,6 +21620,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -21669,6 +21794,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -21800,6 +21926,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -21918,6 +22045,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case ID:
                 case DATABASE:
                 case OPTIMIZE:
+                case ANALYZE:
                 case LINK:
                 case TYPE:
                 case INVERSE:
@@ -22405,6 +22533,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       case DROP:
                       case REBUILD:
                       case OPTIMIZE:
+                      case ANALYZE:
                       case EXPLAIN:
                       case GRANT:
                       case REVOKE:
@@ -22606,6 +22735,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -22675,7 +22805,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 272:
           jjtn000.expression = Expression();
           break;
         default:
@@ -22804,6 +22934,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -22875,7 +23006,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:;
+          case 272:;
             break;
           default:
             jj_la1[409] = jj_gen;
@@ -23348,49 +23479,49 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       label_62:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case 274:
           case 275:
           case 276:
           case 277:
           case 278:
           case 279:
-          case 280:;
+          case 280:
+          case 281:;
             break;
           default:
             jj_la1[419] = jj_gen;
             break label_62;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case 274:
-            token = jj_consume_token(274);
-            jjtn000.servers = true;
-            break;
           case 275:
             token = jj_consume_token(275);
-            jjtn000.db = true;
+            jjtn000.servers = true;
             break;
           case 276:
             token = jj_consume_token(276);
-            jjtn000.latency = true;
+            jjtn000.db = true;
             break;
           case 277:
             token = jj_consume_token(277);
-            jjtn000.messages = true;
+            jjtn000.latency = true;
             break;
           case 278:
             token = jj_consume_token(278);
-            jjtn000.locks = true;
+            jjtn000.messages = true;
             break;
           case 279:
             token = jj_consume_token(279);
+            jjtn000.locks = true;
+            break;
+          case 280:
+            token = jj_consume_token(280);
             jjtn000.servers = true;
             jjtn000.db = true;
             jjtn000.latency = true;
             jjtn000.messages = true;
             jjtn000.locks = true;
             break;
-          case 280:
-            token = jj_consume_token(280);
+          case 281:
+            token = jj_consume_token(281);
             jjtn000.outputText = true;
             break;
           default:
@@ -23473,20 +23604,20 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       label_63:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case 281:
-          case 282:;
+          case 282:
+          case 283:;
             break;
           default:
             jj_la1[421] = jj_gen;
             break label_63;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case 281:
-            jj_consume_token(281);
-            jjtn000.force = true;
-            break;
           case 282:
             jj_consume_token(282);
+            jjtn000.force = true;
+            break;
+          case 283:
+            jj_consume_token(283);
             jjtn000.full = true;
             break;
           default:
@@ -23522,15 +23653,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jj_consume_token(CLUSTER);
       jjtn000.clusterName = Identifier();
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-        case 283:
         case 284:
+        case 285:
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-            case 283:
-              jj_consume_token(283);
-              jjtn000.modeFull = true;
-              break;
             case 284:
               jj_consume_token(284);
+              jjtn000.modeFull = true;
+              break;
+            case 285:
+              jj_consume_token(285);
               jjtn000.modeMerge = true;
               break;
             default:
@@ -23716,6 +23847,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -23787,7 +23919,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:;
+          case 272:;
             break;
           default:
             jj_la1[425] = jj_gen;
@@ -23943,6 +24075,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -24014,7 +24147,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:;
+          case 272:;
             break;
           default:
             jj_la1[427] = jj_gen;
@@ -24155,6 +24288,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -24806,6 +24940,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -24932,6 +25067,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -25063,6 +25199,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -25181,6 +25318,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case ID:
                 case DATABASE:
                 case OPTIMIZE:
+                case ANALYZE:
                 case LINK:
                 case TYPE:
                 case INVERSE:
@@ -25371,6 +25509,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -25584,6 +25723,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -27696,147 +27836,150 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
   }
 
-  private boolean jj_3_130() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_216() {
-    if (jj_3R_160()) return true;
-    if (jj_3R_437()) return true;
+  private boolean jj_3R_217() {
+    if (jj_3R_161()) return true;
+    if (jj_3R_439()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_130()) {
       jj_scanpos = xsp;
-      if (jj_3R_438()) return true;
+      if (jj_3R_440()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_213() {
-    if (jj_3R_160()) return true;
-    if (jj_3R_435()) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_214() {
+    if (jj_3R_161()) return true;
+    if (jj_3R_437()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_560() {
+  private boolean jj_3R_562() {
     if (jj_scan_token(NOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_387() {
+  private boolean jj_3R_389() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_560()) jj_scanpos = xsp;
-    if (jj_3R_432()) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_562()) jj_scanpos = xsp;
+    if (jj_3R_434()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_386() {
-    if (jj_3R_435()) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_388() {
+    if (jj_3R_437()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_181() {
+  private boolean jj_3R_182() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_386()) {
+    if (jj_3R_388()) {
       jj_scanpos = xsp;
-      if (jj_3R_387()) return true;
+      if (jj_3R_389()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_832() {
+  private boolean jj_3R_834() {
     if (jj_scan_token(EQEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_831() {
+  private boolean jj_3R_833() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_681() {
+  private boolean jj_3R_683() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_831()) {
+    if (jj_3R_833()) {
       jj_scanpos = xsp;
-      if (jj_3R_832()) return true;
+      if (jj_3R_834()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_437() {
+  private boolean jj_3R_439() {
     if (jj_scan_token(CONTAINSVALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_689() {
+  private boolean jj_3R_691() {
     if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_693() {
+  private boolean jj_3R_695() {
     if (jj_scan_token(SC_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_692() {
+  private boolean jj_3R_694() {
     if (jj_scan_token(WITHIN)) return true;
     return false;
   }
 
-  private boolean jj_3R_691() {
+  private boolean jj_3R_693() {
     if (jj_scan_token(NEAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_690() {
+  private boolean jj_3R_692() {
     if (jj_scan_token(LUCENE)) return true;
     return false;
   }
 
-  private boolean jj_3R_688() {
+  private boolean jj_3R_690() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_687() {
+  private boolean jj_3R_689() {
     if (jj_scan_token(LE)) return true;
     return false;
   }
 
-  private boolean jj_3R_686() {
+  private boolean jj_3R_688() {
     if (jj_scan_token(GE)) return true;
     return false;
   }
 
-  private boolean jj_3R_685() {
+  private boolean jj_3R_687() {
     if (jj_scan_token(NEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_684() {
+  private boolean jj_3R_686() {
     if (jj_scan_token(NE)) return true;
     return false;
   }
 
-  private boolean jj_3R_683() {
+  private boolean jj_3R_685() {
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_682() {
+  private boolean jj_3R_684() {
     if (jj_scan_token(LT)) return true;
     return false;
   }
 
+  private boolean jj_3R_602() {
+    if (jj_3R_695()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_601() {
+    if (jj_3R_694()) return true;
+    return false;
+  }
+
   private boolean jj_3R_600() {
     if (jj_3R_693()) return true;
     return false;
@@ -27847,6 +27990,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
+  private boolean jj_3R_590() {
+    if (jj_3R_683()) return true;
+    return false;
+  }
+
   private boolean jj_3R_598() {
     if (jj_3R_691()) return true;
     return false;
@@ -27857,11 +28005,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_588() {
-    if (jj_3R_681()) return true;
-    return false;
-  }
-
   private boolean jj_3R_596() {
     if (jj_3R_689()) return true;
     return false;
@@ -27892,54 +28035,44 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_590() {
-    if (jj_3R_683()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_589() {
-    if (jj_3R_682()) return true;
-    return false;
-  }
-
   private boolean jj_3_129() {
-    if (jj_3R_221()) return true;
+    if (jj_3R_222()) return true;
     return false;
   }
 
   private boolean jj_3_128() {
-    if (jj_3R_220()) return true;
+    if (jj_3R_221()) return true;
     return false;
   }
 
-  private boolean jj_3R_435() {
+  private boolean jj_3R_437() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_588()) {
+    if (jj_3R_590()) {
       jj_scanpos = xsp;
-      if (jj_3R_589()) {
+      if (jj_3R_591()) {
         jj_scanpos = xsp;
-        if (jj_3R_590()) {
+        if (jj_3R_592()) {
           jj_scanpos = xsp;
-          if (jj_3R_591()) {
+          if (jj_3R_593()) {
             jj_scanpos = xsp;
-            if (jj_3R_592()) {
+            if (jj_3R_594()) {
               jj_scanpos = xsp;
-              if (jj_3R_593()) {
+              if (jj_3R_595()) {
                 jj_scanpos = xsp;
-                if (jj_3R_594()) {
+                if (jj_3R_596()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_595()) {
+                  if (jj_3R_597()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_596()) {
+                    if (jj_3R_598()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_597()) {
+                      if (jj_3R_599()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_598()) {
+                        if (jj_3R_600()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_599()) {
+                          if (jj_3R_601()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_600()) return true;
+                            if (jj_3R_602()) return true;
                           }
                         }
                       }
@@ -27956,196 +28089,196 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3_127() {
-    if (jj_3R_219()) return true;
+    if (jj_3R_220()) return true;
     return false;
   }
 
-  private boolean jj_3R_431() {
+  private boolean jj_3R_433() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_429() {
-    if (jj_3R_221()) return true;
+  private boolean jj_3R_431() {
+    if (jj_3R_222()) return true;
     return false;
   }
 
   private boolean jj_3_125() {
-    if (jj_3R_217()) return true;
+    if (jj_3R_218()) return true;
     return false;
   }
 
-  private boolean jj_3R_430() {
+  private boolean jj_3R_432() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
   private boolean jj_3_126() {
-    if (jj_3R_218()) return true;
+    if (jj_3R_219()) return true;
     return false;
   }
 
-  private boolean jj_3R_428() {
-    if (jj_3R_220()) return true;
+  private boolean jj_3R_430() {
+    if (jj_3R_221()) return true;
     return false;
   }
 
   private boolean jj_3_124() {
-    if (jj_3R_216()) return true;
+    if (jj_3R_217()) return true;
     return false;
   }
 
   private boolean jj_3_123() {
-    if (jj_3R_215()) return true;
+    if (jj_3R_216()) return true;
     return false;
   }
 
   private boolean jj_3_122() {
-    if (jj_3R_214()) return true;
+    if (jj_3R_215()) return true;
     return false;
   }
 
-  private boolean jj_3R_427() {
-    if (jj_3R_219()) return true;
+  private boolean jj_3R_429() {
+    if (jj_3R_220()) return true;
     return false;
   }
 
-  private boolean jj_3R_425() {
-    if (jj_3R_217()) return true;
+  private boolean jj_3R_427() {
+    if (jj_3R_218()) return true;
     return false;
   }
 
   private boolean jj_3_121() {
-    if (jj_3R_213()) return true;
+    if (jj_3R_214()) return true;
     return false;
   }
 
-  private boolean jj_3R_426() {
-    if (jj_3R_218()) return true;
+  private boolean jj_3R_428() {
+    if (jj_3R_219()) return true;
     return false;
   }
 
-  private boolean jj_3R_424() {
-    if (jj_3R_216()) return true;
+  private boolean jj_3R_426() {
+    if (jj_3R_217()) return true;
     return false;
   }
 
-  private boolean jj_3R_423() {
-    if (jj_3R_215()) return true;
+  private boolean jj_3R_425() {
+    if (jj_3R_216()) return true;
     return false;
   }
 
   private boolean jj_3_119() {
-    if (jj_3R_211()) return true;
+    if (jj_3R_212()) return true;
     return false;
   }
 
   private boolean jj_3_120() {
-    if (jj_3R_212()) return true;
+    if (jj_3R_213()) return true;
     return false;
   }
 
-  private boolean jj_3R_422() {
-    if (jj_3R_214()) return true;
+  private boolean jj_3R_424() {
+    if (jj_3R_215()) return true;
     return false;
   }
 
   private boolean jj_3_118() {
-    if (jj_3R_210()) return true;
+    if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_421() {
-    if (jj_3R_213()) return true;
+  private boolean jj_3R_423() {
+    if (jj_3R_214()) return true;
     return false;
   }
 
   private boolean jj_3_117() {
-    if (jj_3R_209()) return true;
+    if (jj_3R_210()) return true;
     return false;
   }
 
   private boolean jj_3_116() {
-    if (jj_3R_208()) return true;
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_419() {
-    if (jj_3R_211()) return true;
+  private boolean jj_3R_421() {
+    if (jj_3R_212()) return true;
     return false;
   }
 
   private boolean jj_3_115() {
-    if (jj_3R_207()) return true;
+    if (jj_3R_208()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_422() {
+    if (jj_3R_213()) return true;
     return false;
   }
 
   private boolean jj_3R_420() {
-    if (jj_3R_212()) return true;
+    if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_418() {
+  private boolean jj_3R_419() {
     if (jj_3R_210()) return true;
     return false;
   }
 
-  private boolean jj_3R_417() {
+  private boolean jj_3R_418() {
     if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_416() {
+  private boolean jj_3R_417() {
     if (jj_3R_208()) return true;
     return false;
   }
 
-  private boolean jj_3R_415() {
-    if (jj_3R_207()) return true;
-    return false;
-  }
-
   private boolean jj_3_114() {
-    if (jj_3R_206()) return true;
+    if (jj_3R_207()) return true;
     return false;
   }
 
-  private boolean jj_3R_205() {
+  private boolean jj_3R_206() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_415()) {
+    if (jj_3R_417()) {
       jj_scanpos = xsp;
-      if (jj_3R_416()) {
+      if (jj_3R_418()) {
         jj_scanpos = xsp;
-        if (jj_3R_417()) {
+        if (jj_3R_419()) {
           jj_scanpos = xsp;
-          if (jj_3R_418()) {
+          if (jj_3R_420()) {
             jj_scanpos = xsp;
-            if (jj_3R_419()) {
+            if (jj_3R_421()) {
               jj_scanpos = xsp;
-              if (jj_3R_420()) {
+              if (jj_3R_422()) {
                 jj_scanpos = xsp;
-                if (jj_3R_421()) {
+                if (jj_3R_423()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_422()) {
+                  if (jj_3R_424()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_423()) {
+                    if (jj_3R_425()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_424()) {
+                      if (jj_3R_426()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_425()) {
+                        if (jj_3R_427()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_426()) {
+                          if (jj_3R_428()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_427()) {
+                            if (jj_3R_429()) {
                               jj_scanpos = xsp;
-                              if (jj_3R_428()) {
+                              if (jj_3R_430()) {
                                 jj_scanpos = xsp;
-                                if (jj_3R_429()) {
+                                if (jj_3R_431()) {
                                   jj_scanpos = xsp;
-                                  if (jj_3R_430()) {
+                                  if (jj_3R_432()) {
                                     jj_scanpos = xsp;
-                                    if (jj_3R_431()) return true;
+                                    if (jj_3R_433()) return true;
                                   }
                                 }
                               }
@@ -28166,96 +28299,96 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3_113() {
-    if (jj_3R_205()) return true;
+    if (jj_3R_206()) return true;
     return false;
   }
 
   private boolean jj_3_112() {
-    if (jj_3R_206()) return true;
+    if (jj_3R_207()) return true;
     return false;
   }
 
-  private boolean jj_3R_206() {
+  private boolean jj_3R_207() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_111() {
-    if (jj_3R_205()) return true;
+    if (jj_3R_206()) return true;
     return false;
   }
 
-  private boolean jj_3R_818() {
-    if (jj_3R_206()) return true;
+  private boolean jj_3R_820() {
+    if (jj_3R_207()) return true;
     return false;
   }
 
-  private boolean jj_3R_817() {
-    if (jj_3R_205()) return true;
+  private boolean jj_3R_819() {
+    if (jj_3R_206()) return true;
     return false;
   }
 
-  private boolean jj_3R_816() {
-    if (jj_3R_206()) return true;
+  private boolean jj_3R_818() {
+    if (jj_3R_207()) return true;
     return false;
   }
 
-  private boolean jj_3R_669() {
+  private boolean jj_3R_671() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_817()) {
+    if (jj_3R_819()) {
       jj_scanpos = xsp;
-      if (jj_3R_818()) return true;
+      if (jj_3R_820()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_815() {
-    if (jj_3R_205()) return true;
+  private boolean jj_3R_817() {
+    if (jj_3R_206()) return true;
     return false;
   }
 
-  private boolean jj_3R_668() {
+  private boolean jj_3R_670() {
     if (jj_scan_token(NOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_815()) {
+    if (jj_3R_817()) {
       jj_scanpos = xsp;
-      if (jj_3R_816()) return true;
+      if (jj_3R_818()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_564() {
+  private boolean jj_3R_566() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_668()) {
+    if (jj_3R_670()) {
       jj_scanpos = xsp;
-      if (jj_3R_669()) return true;
+      if (jj_3R_671()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_565() {
+  private boolean jj_3R_567() {
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_564()) return true;
+    if (jj_3R_566()) return true;
     return false;
   }
 
-  private boolean jj_3R_392() {
+  private boolean jj_3R_394() {
     if (jj_scan_token(OR)) return true;
-    if (jj_3R_391()) return true;
+    if (jj_3R_393()) return true;
     return false;
   }
 
-  private boolean jj_3R_391() {
-    if (jj_3R_564()) return true;
+  private boolean jj_3R_393() {
+    if (jj_3R_566()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_565()) {
+      if (jj_3R_567()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28263,12 +28396,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_183() {
-    if (jj_3R_391()) return true;
+  private boolean jj_3R_184() {
+    if (jj_3R_393()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_392()) {
+      if (jj_3R_394()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28276,89 +28409,89 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_474() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_476() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_548() {
+  private boolean jj_3R_550() {
     if (jj_scan_token(INDEXVALUESDESC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_547() {
+  private boolean jj_3R_549() {
     if (jj_scan_token(INDEXVALUESASC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_546() {
+  private boolean jj_3R_548() {
     if (jj_scan_token(INDEXVALUES_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_366() {
+  private boolean jj_3R_368() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_546()) {
+    if (jj_3R_548()) {
       jj_scanpos = xsp;
-      if (jj_3R_547()) {
+      if (jj_3R_549()) {
         jj_scanpos = xsp;
-        if (jj_3R_548()) return true;
+        if (jj_3R_550()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_365() {
+  private boolean jj_3R_367() {
     if (jj_scan_token(INDEX_COLON)) return true;
-    if (jj_3R_545()) return true;
+    if (jj_3R_547()) return true;
     return false;
   }
 
-  private boolean jj_3R_166() {
+  private boolean jj_3R_167() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_365()) {
+    if (jj_3R_367()) {
       jj_scanpos = xsp;
-      if (jj_3R_366()) return true;
+      if (jj_3R_368()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_810() {
+  private boolean jj_3R_812() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_809() {
+  private boolean jj_3R_811() {
     if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_658() {
+  private boolean jj_3R_660() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_809()) {
+    if (jj_3R_811()) {
       jj_scanpos = xsp;
-      if (jj_3R_810()) return true;
+      if (jj_3R_812()) return true;
     }
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_657() {
-    if (jj_scan_token(272)) return true;
+  private boolean jj_3R_659() {
+    if (jj_scan_token(273)) return true;
     return false;
   }
 
-  private boolean jj_3R_545() {
+  private boolean jj_3R_547() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_657()) jj_scanpos = xsp;
-    if (jj_3R_170()) return true;
+    if (jj_3R_659()) jj_scanpos = xsp;
+    if (jj_3R_171()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_658()) {
+      if (jj_3R_660()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28366,18 +28499,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1014() {
+  private boolean jj_3R_1016() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_911() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_913() {
+    if (jj_3R_171()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1014()) {
+      if (jj_3R_1016()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28385,182 +28518,182 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_761() {
+  private boolean jj_3R_763() {
     if (jj_scan_token(METADATA_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_760() {
+  private boolean jj_3R_762() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_911()) jj_scanpos = xsp;
+    if (jj_3R_913()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
   private boolean jj_3_107() {
-    if (jj_3R_186()) return true;
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_370() {
+  private boolean jj_3R_372() {
     if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_369() {
+  private boolean jj_3R_371() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
   private boolean jj_3_106() {
-    if (jj_3R_186()) return true;
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_172() {
+  private boolean jj_3R_173() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_369()) {
+    if (jj_3R_371()) {
       jj_scanpos = xsp;
-      if (jj_3R_370()) return true;
+      if (jj_3R_372()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_764() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_766() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
   private boolean jj_3_105() {
-    if (jj_3R_186()) return true;
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_763() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_765() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_625() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_627() {
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_764()) jj_scanpos = xsp;
+    if (jj_3R_766()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_762() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_764() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
   private boolean jj_3_110() {
-    if (jj_3R_176()) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_763()) jj_scanpos = xsp;
+    if (jj_3R_765()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_624() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_626() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
   private boolean jj_3_109() {
-    if (jj_3R_166()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_623() {
+  private boolean jj_3R_625() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_204()) return true;
+    if (jj_3R_205()) return true;
     if (jj_scan_token(RPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_762()) jj_scanpos = xsp;
+    if (jj_3R_764()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_622() {
-    if (jj_3R_761()) return true;
+  private boolean jj_3R_624() {
+    if (jj_3R_763()) return true;
     return false;
   }
 
-  private boolean jj_3R_621() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3R_623() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_910() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_912() {
+    if (jj_3R_559()) return true;
     return false;
   }
 
-  private boolean jj_3R_620() {
-    if (jj_3R_760()) return true;
+  private boolean jj_3R_622() {
+    if (jj_3R_762()) return true;
     return false;
   }
 
-  private boolean jj_3R_642() {
+  private boolean jj_3R_644() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_641()) return true;
+    if (jj_3R_643()) return true;
     return false;
   }
 
-  private boolean jj_3R_759() {
+  private boolean jj_3R_761() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_909()) {
+    if (jj_3R_911()) {
       jj_scanpos = xsp;
-      if (jj_3R_910()) return true;
+      if (jj_3R_912()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_909() {
+  private boolean jj_3R_911() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_556()) return true;
+    if (jj_3R_558()) return true;
     return false;
   }
 
-  private boolean jj_3R_619() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_621() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_758() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_760() {
+    if (jj_3R_559()) return true;
     return false;
   }
 
-  private boolean jj_3R_757() {
-    if (jj_3R_556()) return true;
+  private boolean jj_3R_759() {
+    if (jj_3R_558()) return true;
     return false;
   }
 
-  private boolean jj_3R_756() {
+  private boolean jj_3R_758() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_174()) return true;
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_618() {
+  private boolean jj_3R_620() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_757()) {
+    if (jj_3R_759()) {
       jj_scanpos = xsp;
-      if (jj_3R_758()) return true;
+      if (jj_3R_760()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_759()) {
+      if (jj_3R_761()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28571,11 +28704,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
 
   private boolean jj_3_108() {
     if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_174()) return true;
+    if (jj_3R_175()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_756()) {
+      if (jj_3R_758()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28584,35 +28717,35 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_617() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_619() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_469() {
+  private boolean jj_3R_471() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_617()) {
+    if (jj_3R_619()) {
       jj_scanpos = xsp;
       if (jj_3_108()) {
         jj_scanpos = xsp;
-        if (jj_3R_618()) {
+        if (jj_3R_620()) {
           jj_scanpos = xsp;
-          if (jj_3R_619()) {
+          if (jj_3R_621()) {
             jj_scanpos = xsp;
-            if (jj_3R_620()) {
+            if (jj_3R_622()) {
               jj_scanpos = xsp;
-              if (jj_3R_621()) {
+              if (jj_3R_623()) {
                 jj_scanpos = xsp;
-                if (jj_3R_622()) {
+                if (jj_3R_624()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_623()) {
+                  if (jj_3R_625()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_624()) {
+                    if (jj_3R_626()) {
                       jj_scanpos = xsp;
                       if (jj_3_110()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_625()) return true;
+                        if (jj_3R_627()) return true;
                       }
                     }
                   }
@@ -28627,46 +28760,46 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3_104() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_787() {
+  private boolean jj_3R_789() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_204()) return true;
+    if (jj_3R_205()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_786() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_788() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_641() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_643() {
+    if (jj_3R_171()) return true;
     if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_786()) {
+    if (jj_3R_788()) {
       jj_scanpos = xsp;
-      if (jj_3R_787()) return true;
+      if (jj_3R_789()) return true;
     }
     return false;
   }
 
   private boolean jj_3_103() {
-    if (jj_3R_186()) return true;
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_530() {
+  private boolean jj_3R_532() {
     if (jj_scan_token(LET)) return true;
-    if (jj_3R_641()) return true;
+    if (jj_3R_643()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_642()) {
+      if (jj_3R_644()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28674,217 +28807,217 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_263() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_264() {
+    if (jj_3R_471()) return true;
     return false;
   }
 
-  private boolean jj_3R_585() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_587() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
   private boolean jj_3_102() {
-    if (jj_3R_186()) return true;
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_584() {
+  private boolean jj_3R_586() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_583() {
-    if (jj_3R_601()) return true;
+  private boolean jj_3R_585() {
+    if (jj_3R_603()) return true;
     return false;
   }
 
   private boolean jj_3_101() {
-    if (jj_3R_186()) return true;
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_582() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_584() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_409() {
+  private boolean jj_3R_411() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_583()) {
+    if (jj_3R_585()) {
       jj_scanpos = xsp;
-      if (jj_3R_584()) return true;
+      if (jj_3R_586()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_585()) jj_scanpos = xsp;
+    if (jj_3R_587()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_581() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_583() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_408() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_410() {
+    if (jj_3R_176()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_582()) jj_scanpos = xsp;
+    if (jj_3R_584()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_407() {
-    if (jj_3R_580()) return true;
+  private boolean jj_3R_409() {
+    if (jj_3R_582()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_581()) jj_scanpos = xsp;
+    if (jj_3R_583()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_406() {
-    if (jj_3R_496()) return true;
+  private boolean jj_3R_408() {
+    if (jj_3R_498()) return true;
     return false;
   }
 
-  private boolean jj_3R_203() {
+  private boolean jj_3R_204() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_406()) {
+    if (jj_3R_408()) {
       jj_scanpos = xsp;
-      if (jj_3R_407()) {
+      if (jj_3R_409()) {
         jj_scanpos = xsp;
-        if (jj_3R_408()) {
+        if (jj_3R_410()) {
           jj_scanpos = xsp;
-          if (jj_3R_409()) return true;
+          if (jj_3R_411()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_404() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_406() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_405() {
-    if (jj_3R_312()) return true;
+  private boolean jj_3R_407() {
+    if (jj_3R_313()) return true;
     return false;
   }
 
   private boolean jj_3_100() {
-    if (jj_3R_204()) return true;
+    if (jj_3R_205()) return true;
     return false;
   }
 
   private boolean jj_3_99() {
-    if (jj_3R_203()) return true;
+    if (jj_3R_204()) return true;
     return false;
   }
 
   private boolean jj_3_98() {
-    if (jj_3R_202()) return true;
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3R_202() {
+  private boolean jj_3R_75() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(DATABASE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_203() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_100()) {
       jj_scanpos = xsp;
-      if (jj_3R_404()) {
+      if (jj_3R_406()) {
         jj_scanpos = xsp;
-        if (jj_3R_405()) return true;
+        if (jj_3R_407()) return true;
       }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_403() {
-    if (jj_3R_203()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_75() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(DATABASE)) return true;
+  private boolean jj_3R_405() {
+    if (jj_3R_204()) return true;
     return false;
   }
 
-  private boolean jj_3R_402() {
-    if (jj_3R_202()) return true;
+  private boolean jj_3R_404() {
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3R_201() {
+  private boolean jj_3R_202() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_402()) {
+    if (jj_3R_404()) {
       jj_scanpos = xsp;
-      if (jj_3R_403()) return true;
+      if (jj_3R_405()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_200() {
+  private boolean jj_3R_201() {
     if (jj_scan_token(XOR)) return true;
     return false;
   }
 
-  private boolean jj_3R_199() {
+  private boolean jj_3R_200() {
     if (jj_scan_token(BIT_OR)) return true;
     return false;
   }
 
-  private boolean jj_3R_198() {
+  private boolean jj_3R_199() {
     if (jj_scan_token(NULL_COALESCING)) return true;
     return false;
   }
 
-  private boolean jj_3R_197() {
+  private boolean jj_3R_198() {
     if (jj_scan_token(BIT_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_196() {
+  private boolean jj_3R_197() {
     if (jj_scan_token(RUNSIGNEDSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_195() {
+  private boolean jj_3R_196() {
     if (jj_scan_token(RSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_194() {
+  private boolean jj_3R_195() {
     if (jj_scan_token(LSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_193() {
+  private boolean jj_3R_194() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_192() {
+  private boolean jj_3R_193() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_191() {
+  private boolean jj_3R_192() {
     if (jj_scan_token(REM)) return true;
     return false;
   }
 
-  private boolean jj_3R_190() {
+  private boolean jj_3R_191() {
     if (jj_scan_token(SLASH)) return true;
     return false;
   }
 
-  private boolean jj_3R_189() {
+  private boolean jj_3R_190() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
@@ -28892,29 +29025,29 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   private boolean jj_3_97() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_189()) {
+    if (jj_3R_190()) {
       jj_scanpos = xsp;
-      if (jj_3R_190()) {
+      if (jj_3R_191()) {
         jj_scanpos = xsp;
-        if (jj_3R_191()) {
+        if (jj_3R_192()) {
           jj_scanpos = xsp;
-          if (jj_3R_192()) {
+          if (jj_3R_193()) {
             jj_scanpos = xsp;
-            if (jj_3R_193()) {
+            if (jj_3R_194()) {
               jj_scanpos = xsp;
-              if (jj_3R_194()) {
+              if (jj_3R_195()) {
                 jj_scanpos = xsp;
-                if (jj_3R_195()) {
+                if (jj_3R_196()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_196()) {
+                  if (jj_3R_197()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_197()) {
+                    if (jj_3R_198()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_198()) {
+                      if (jj_3R_199()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_199()) {
+                        if (jj_3R_200()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_200()) return true;
+                          if (jj_3R_201()) return true;
                         }
                       }
                     }
@@ -28926,90 +29059,75 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         }
       }
     }
-    if (jj_3R_201()) return true;
+    if (jj_3R_202()) return true;
     return false;
   }
 
-  private boolean jj_3R_1054() {
+  private boolean jj_3R_1056() {
     if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1053() {
+  private boolean jj_3R_1055() {
     if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_188() {
-    if (jj_3R_201()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_97()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    return false;
-  }
-
-  private boolean jj_3_96() {
-    if (jj_3R_188()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1052() {
+  private boolean jj_3R_1054() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1051() {
+  private boolean jj_3R_1053() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3_95() {
-    if (jj_3R_174()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1050() {
+  private boolean jj_3R_1052() {
     if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_1049() {
+  private boolean jj_3R_1051() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_579() {
-    if (jj_3R_238()) return true;
+  private boolean jj_3R_189() {
+    if (jj_3R_202()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_97()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_578() {
-    if (jj_3R_188()) return true;
+  private boolean jj_3_96() {
+    if (jj_3R_189()) return true;
     return false;
   }
 
-  private boolean jj_3R_1005() {
+  private boolean jj_3R_1007() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1049()) {
+    if (jj_3R_1051()) {
       jj_scanpos = xsp;
-      if (jj_3R_1050()) {
+      if (jj_3R_1052()) {
         jj_scanpos = xsp;
-        if (jj_3R_1051()) {
+        if (jj_3R_1053()) {
           jj_scanpos = xsp;
-          if (jj_3R_1052()) {
+          if (jj_3R_1054()) {
             jj_scanpos = xsp;
-            if (jj_3R_1053()) {
+            if (jj_3R_1055()) {
               jj_scanpos = xsp;
-              if (jj_3R_1054()) return true;
+              if (jj_3R_1056()) return true;
             }
           }
         }
@@ -29018,139 +29136,126 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_577() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3_95() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_1004() {
+  private boolean jj_3R_1006() {
     if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_576() {
-    if (jj_scan_token(FALSE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1003() {
+  private boolean jj_3R_1005() {
     if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_575() {
-    if (jj_scan_token(TRUE)) return true;
+  private boolean jj_3R_581() {
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_1002() {
+  private boolean jj_3R_1004() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_574() {
-    if (jj_scan_token(NULL)) return true;
+  private boolean jj_3R_580() {
+    if (jj_3R_189()) return true;
     return false;
   }
 
-  private boolean jj_3R_1001() {
+  private boolean jj_3R_1003() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1000() {
+  private boolean jj_3R_1002() {
     if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_400() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_574()) {
-      jj_scanpos = xsp;
-      if (jj_3R_575()) {
-        jj_scanpos = xsp;
-        if (jj_3R_576()) {
-          jj_scanpos = xsp;
-          if (jj_3R_577()) {
-            jj_scanpos = xsp;
-            if (jj_3R_578()) {
-              jj_scanpos = xsp;
-              if (jj_3R_579()) return true;
-            }
-          }
-        }
-      }
-    }
+  private boolean jj_3R_579() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_999() {
+  private boolean jj_3R_1001() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1048() {
+  private boolean jj_3R_578() {
+    if (jj_scan_token(FALSE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1050() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1047() {
+  private boolean jj_3R_577() {
+    if (jj_scan_token(TRUE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1049() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_401() {
-    if (jj_scan_token(SC_OR)) return true;
-    if (jj_3R_400()) return true;
+  private boolean jj_3R_576() {
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_1046() {
+  private boolean jj_3R_1048() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1045() {
+  private boolean jj_3R_1047() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_870() {
+  private boolean jj_3R_872() {
     if (jj_scan_token(REMOVE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_999()) {
+    if (jj_3R_1001()) {
       jj_scanpos = xsp;
-      if (jj_3R_1000()) {
+      if (jj_3R_1002()) {
         jj_scanpos = xsp;
-        if (jj_3R_1001()) {
+        if (jj_3R_1003()) {
           jj_scanpos = xsp;
-          if (jj_3R_1002()) {
+          if (jj_3R_1004()) {
             jj_scanpos = xsp;
-            if (jj_3R_1003()) {
+            if (jj_3R_1005()) {
               jj_scanpos = xsp;
-              if (jj_3R_1004()) return true;
+              if (jj_3R_1006()) return true;
             }
           }
         }
@@ -29158,7 +29263,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1005()) {
+      if (jj_3R_1007()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29166,63 +29271,67 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1044() {
+  private boolean jj_3R_1046() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1043() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_94() {
-    if (jj_3R_188()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_187() {
-    if (jj_3R_400()) return true;
+  private boolean jj_3R_402() {
     Token xsp;
-    if (jj_3R_401()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_401()) {
+    xsp = jj_scanpos;
+    if (jj_3R_576()) {
+      jj_scanpos = xsp;
+      if (jj_3R_577()) {
         jj_scanpos = xsp;
-        break;
+        if (jj_3R_578()) {
+          jj_scanpos = xsp;
+          if (jj_3R_579()) {
+            jj_scanpos = xsp;
+            if (jj_3R_580()) {
+              jj_scanpos = xsp;
+              if (jj_3R_581()) return true;
+            }
+          }
+        }
       }
     }
     return false;
   }
 
-  private boolean jj_3_93() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_1045() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_184()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_998() {
+  private boolean jj_3R_403() {
+    if (jj_scan_token(SC_OR)) return true;
+    if (jj_3R_402()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1000() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1043()) {
+    if (jj_3R_1045()) {
       jj_scanpos = xsp;
-      if (jj_3R_1044()) {
+      if (jj_3R_1046()) {
         jj_scanpos = xsp;
-        if (jj_3R_1045()) {
+        if (jj_3R_1047()) {
           jj_scanpos = xsp;
-          if (jj_3R_1046()) {
+          if (jj_3R_1048()) {
             jj_scanpos = xsp;
-            if (jj_3R_1047()) {
+            if (jj_3R_1049()) {
               jj_scanpos = xsp;
-              if (jj_3R_1048()) return true;
+              if (jj_3R_1050()) return true;
             }
           }
         }
@@ -29231,137 +29340,131 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_997() {
+  private boolean jj_3R_999() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_996() {
+  private boolean jj_3R_998() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_346() {
-    if (jj_3R_238()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_995() {
+  private boolean jj_3R_997() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_345() {
-    if (jj_3R_188()) return true;
+  private boolean jj_3_94() {
+    if (jj_3R_189()) return true;
     return false;
   }
 
-  private boolean jj_3R_994() {
+  private boolean jj_3R_188() {
+    if (jj_3R_402()) return true;
+    Token xsp;
+    if (jj_3R_403()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_403()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_996() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_92() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3_93() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_993() {
+  private boolean jj_3R_995() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_344() {
-    if (jj_3R_174()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_992() {
+  private boolean jj_3R_994() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_343() {
-    if (jj_scan_token(FALSE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_342() {
-    if (jj_scan_token(TRUE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_341() {
-    if (jj_scan_token(NULL)) return true;
+  private boolean jj_3R_348() {
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3_91() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_347() {
+    if (jj_3R_189()) return true;
     return false;
   }
 
-  private boolean jj_3R_340() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3_92() {
+    if (jj_3R_188()) return true;
     return false;
   }
 
-  private boolean jj_3_89() {
-    if (jj_3R_184()) return true;
+  private boolean jj_3R_346() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_733() {
+  private boolean jj_3R_735() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_869()) {
+    if (jj_3R_871()) {
       jj_scanpos = xsp;
-      if (jj_3R_870()) return true;
+      if (jj_3R_872()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_869() {
+  private boolean jj_3R_871() {
     if (jj_scan_token(SET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_992()) {
+    if (jj_3R_994()) {
       jj_scanpos = xsp;
-      if (jj_3R_993()) {
+      if (jj_3R_995()) {
         jj_scanpos = xsp;
-        if (jj_3R_994()) {
+        if (jj_3R_996()) {
           jj_scanpos = xsp;
-          if (jj_3R_995()) {
+          if (jj_3R_997()) {
             jj_scanpos = xsp;
-            if (jj_3R_996()) {
+            if (jj_3R_998()) {
               jj_scanpos = xsp;
-              if (jj_3R_997()) return true;
+              if (jj_3R_999()) return true;
             }
           }
         }
@@ -29369,7 +29472,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_998()) {
+      if (jj_3R_1000()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29377,48 +29480,28 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_90() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_345() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3_88() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_344() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_160() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_340()) {
-      jj_scanpos = xsp;
-      if (jj_3R_341()) {
-        jj_scanpos = xsp;
-        if (jj_3R_342()) {
-          jj_scanpos = xsp;
-          if (jj_3R_343()) {
-            jj_scanpos = xsp;
-            if (jj_3R_344()) {
-              jj_scanpos = xsp;
-              if (jj_3R_345()) {
-                jj_scanpos = xsp;
-                if (jj_3R_346()) return true;
-              }
-            }
-          }
-        }
-      }
-    }
+  private boolean jj_3R_343() {
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3_87() {
-    if (jj_3R_182()) return true;
+  private boolean jj_3_91() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_399() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_342() {
+    if (jj_3R_188()) return true;
     return false;
   }
 
@@ -29426,12 +29509,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(SECURITY)) return true;
     if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
-    if (jj_3R_733()) return true;
+    if (jj_3R_735()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_733()) {
+      if (jj_3R_735()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29439,122 +29522,167 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_86() {
-    if (jj_3R_181()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_398() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_180()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_991() {
+  private boolean jj_3R_993() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_573() {
-    if (jj_3R_184()) return true;
+  private boolean jj_3_89() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3R_990() {
+  private boolean jj_3_90() {
+    if (jj_3R_186()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_992() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_397() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3_88() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_989() {
+  private boolean jj_3R_161() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_342()) {
+      jj_scanpos = xsp;
+      if (jj_3R_343()) {
+        jj_scanpos = xsp;
+        if (jj_3R_344()) {
+          jj_scanpos = xsp;
+          if (jj_3R_345()) {
+            jj_scanpos = xsp;
+            if (jj_3R_346()) {
+              jj_scanpos = xsp;
+              if (jj_3R_347()) {
+                jj_scanpos = xsp;
+                if (jj_3R_348()) return true;
+              }
+            }
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_991() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_572() {
-    if (jj_3R_183()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_988() {
+  private boolean jj_3R_990() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_571() {
-    if (jj_3R_182()) return true;
+  private boolean jj_3_87() {
+    if (jj_3R_183()) return true;
     return false;
   }
 
-  private boolean jj_3R_987() {
+  private boolean jj_3R_401() {
+    if (jj_3R_187()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_989() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_986() {
+  private boolean jj_3_86() {
+    if (jj_3R_182()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_400() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_181()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_988() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_570() {
-    if (jj_3R_181()) return true;
+  private boolean jj_3R_575() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3R_867() {
+  private boolean jj_3R_399() {
+    if (jj_3R_186()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_574() {
+    if (jj_3R_184()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_573() {
+    if (jj_3R_183()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_869() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_868() {
+  private boolean jj_3R_870() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_986()) {
+    if (jj_3R_988()) {
       jj_scanpos = xsp;
-      if (jj_3R_987()) {
+      if (jj_3R_989()) {
         jj_scanpos = xsp;
-        if (jj_3R_988()) {
+        if (jj_3R_990()) {
           jj_scanpos = xsp;
-          if (jj_3R_989()) {
+          if (jj_3R_991()) {
             jj_scanpos = xsp;
-            if (jj_3R_990()) {
+            if (jj_3R_992()) {
               jj_scanpos = xsp;
-              if (jj_3R_991()) return true;
+              if (jj_3R_993()) return true;
             }
           }
         }
@@ -29563,117 +29691,102 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_396() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_570()) {
-      jj_scanpos = xsp;
-      if (jj_3R_571()) {
-        jj_scanpos = xsp;
-        if (jj_3R_572()) {
-          jj_scanpos = xsp;
-          if (jj_3R_573()) return true;
-        }
-      }
-    }
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_572() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_866() {
+  private boolean jj_3R_868() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_558() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_865() {
+  private boolean jj_3R_867() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_85() {
-    if (jj_3R_180()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_864() {
+  private boolean jj_3R_866() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_863() {
+  private boolean jj_3R_865() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_84() {
-    if (jj_3R_179()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_862() {
+  private boolean jj_3R_864() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_186() {
+  private boolean jj_3R_398() {
+    if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_396()) {
+    if (jj_3R_572()) {
       jj_scanpos = xsp;
-      if (jj_3R_397()) {
+      if (jj_3R_573()) {
         jj_scanpos = xsp;
-        if (jj_3R_398()) return true;
+        if (jj_3R_574()) {
+          jj_scanpos = xsp;
+          if (jj_3R_575()) return true;
+        }
       }
     }
-    xsp = jj_scanpos;
-    if (jj_3R_399()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_732() {
+  private boolean jj_3R_560() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_161()) return true;
+    return false;
+  }
+
+  private boolean jj_3_85() {
+    if (jj_3R_181()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_734() {
     if (jj_scan_token(SET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_862()) {
+    if (jj_3R_864()) {
       jj_scanpos = xsp;
-      if (jj_3R_863()) {
+      if (jj_3R_865()) {
         jj_scanpos = xsp;
-        if (jj_3R_864()) {
+        if (jj_3R_866()) {
           jj_scanpos = xsp;
-          if (jj_3R_865()) {
+          if (jj_3R_867()) {
             jj_scanpos = xsp;
-            if (jj_3R_866()) {
+            if (jj_3R_868()) {
               jj_scanpos = xsp;
-              if (jj_3R_867()) return true;
+              if (jj_3R_869()) return true;
             }
           }
         }
@@ -29681,7 +29794,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_868()) {
+      if (jj_3R_870()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29689,18 +29802,23 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_678() {
+  private boolean jj_3_84() {
     if (jj_3R_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_677() {
-    if (jj_3R_179()) return true;
-    return false;
-  }
-
-  private boolean jj_3_83() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_187() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_398()) {
+      jj_scanpos = xsp;
+      if (jj_3R_399()) {
+        jj_scanpos = xsp;
+        if (jj_3R_400()) return true;
+      }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_401()) jj_scanpos = xsp;
     return false;
   }
 
@@ -29708,233 +29826,235 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(SECURITY)) return true;
     if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_732()) jj_scanpos = xsp;
+    if (jj_3R_734()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_82() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_905() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_754()) return true;
     return false;
   }
 
-  private boolean jj_3R_580() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_677()) {
-      jj_scanpos = xsp;
-      if (jj_3R_678()) return true;
-    }
+  private boolean jj_3R_904() {
+    if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_903() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_752()) return true;
+  private boolean jj_3R_680() {
+    if (jj_3R_181()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_903() {
+    if (jj_scan_token(CONTAINSVALUE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_679() {
+    if (jj_3R_180()) return true;
     return false;
   }
 
   private boolean jj_3R_902() {
-    if (jj_scan_token(FROM)) return true;
+    if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_901() {
-    if (jj_scan_token(CONTAINSVALUE)) return true;
+  private boolean jj_3_83() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_385() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_901() {
+    if (jj_scan_token(CONTAINSANY)) return true;
     return false;
   }
 
   private boolean jj_3R_900() {
-    if (jj_scan_token(CONTAINSKEY)) return true;
+    if (jj_scan_token(CONTAINSALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_899() {
-    if (jj_scan_token(CONTAINSANY)) return true;
+  private boolean jj_3_82() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_384() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_582() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_679()) {
+      jj_scanpos = xsp;
+      if (jj_3R_680()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_898() {
-    if (jj_scan_token(CONTAINSALL)) return true;
+  private boolean jj_3R_899() {
+    if (jj_scan_token(CONTAINS)) return true;
     return false;
   }
 
-  private boolean jj_3_81() {
-    if (jj_3R_177()) return true;
+  private boolean jj_3R_898() {
+    if (jj_scan_token(EDGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_383() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_387() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
   private boolean jj_3R_897() {
-    if (jj_scan_token(CONTAINS)) return true;
+    if (jj_scan_token(VERTEX)) return true;
     return false;
   }
 
   private boolean jj_3R_896() {
-    if (jj_scan_token(EDGE)) return true;
+    if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3_80() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_386() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
   private boolean jj_3R_895() {
-    if (jj_scan_token(VERTEX)) return true;
+    if (jj_scan_token(SELECT)) return true;
     return false;
   }
 
-  private boolean jj_3R_180() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_383()) {
-      jj_scanpos = xsp;
-      if (jj_3R_384()) {
-        jj_scanpos = xsp;
-        if (jj_3R_385()) return true;
-      }
-    }
+  private boolean jj_3_81() {
+    if (jj_3R_178()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_385() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
   private boolean jj_3R_894() {
-    if (jj_scan_token(LIKE)) return true;
+    if (jj_scan_token(INSERT)) return true;
     return false;
   }
 
   private boolean jj_3R_893() {
-    if (jj_scan_token(SELECT)) return true;
+    if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_382() {
+  private boolean jj_3_80() {
     if (jj_3R_177()) return true;
     return false;
   }
 
   private boolean jj_3R_892() {
-    if (jj_scan_token(INSERT)) return true;
+    if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_381() {
-    if (jj_scan_token(THIS)) return true;
+  private boolean jj_3R_181() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_385()) {
+      jj_scanpos = xsp;
+      if (jj_3R_386()) {
+        jj_scanpos = xsp;
+        if (jj_3R_387()) return true;
+      }
+    }
     return false;
   }
 
   private boolean jj_3R_891() {
-    if (jj_scan_token(DELETE)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
   private boolean jj_3R_890() {
-    if (jj_scan_token(CREATE)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_380() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_384() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
   private boolean jj_3R_889() {
-    if (jj_scan_token(CLUSTER)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_888() {
-    if (jj_3R_170()) return true;
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_569() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_383() {
+    if (jj_scan_token(THIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_179() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_380()) {
-      jj_scanpos = xsp;
-      if (jj_3R_381()) {
-        jj_scanpos = xsp;
-        if (jj_3R_382()) return true;
-      }
-    }
+  private boolean jj_3R_382() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_887() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_571() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_395() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_180() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_569()) {
+    xsp = jj_scanpos;
+    if (jj_3R_382()) {
+      jj_scanpos = xsp;
+      if (jj_3R_383()) {
         jj_scanpos = xsp;
-        break;
+        if (jj_3R_384()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_752() {
+  private boolean jj_3R_754() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_887()) {
+    if (jj_3R_889()) {
       jj_scanpos = xsp;
-      if (jj_3R_888()) {
+      if (jj_3R_890()) {
         jj_scanpos = xsp;
-        if (jj_3R_889()) {
+        if (jj_3R_891()) {
           jj_scanpos = xsp;
-          if (jj_3R_890()) {
+          if (jj_3R_892()) {
             jj_scanpos = xsp;
-            if (jj_3R_891()) {
+            if (jj_3R_893()) {
               jj_scanpos = xsp;
-              if (jj_3R_892()) {
+              if (jj_3R_894()) {
                 jj_scanpos = xsp;
-                if (jj_3R_893()) {
+                if (jj_3R_895()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_894()) {
+                  if (jj_3R_896()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_895()) {
+                    if (jj_3R_897()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_896()) {
+                      if (jj_3R_898()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_897()) {
+                        if (jj_3R_899()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_898()) {
+                          if (jj_3R_900()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_899()) {
+                            if (jj_3R_901()) {
                               jj_scanpos = xsp;
-                              if (jj_3R_900()) {
+                              if (jj_3R_902()) {
                                 jj_scanpos = xsp;
-                                if (jj_3R_901()) {
+                                if (jj_3R_903()) {
                                   jj_scanpos = xsp;
-                                  if (jj_3R_902()) return true;
+                                  if (jj_3R_904()) return true;
                                 }
                               }
                             }
@@ -29951,32 +30071,16 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_903()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_185() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_395()) jj_scanpos = xsp;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3_167() {
-    if (jj_3R_73()) return true;
+    if (jj_3R_905()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_378() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_397() {
+    if (jj_3R_161()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_558()) {
+      if (jj_3R_571()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29984,48 +30088,54 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1071() {
-    if (jj_3R_1012()) return true;
+  private boolean jj_3_167() {
+    if (jj_3R_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_1070() {
-    if (jj_3R_1013()) return true;
+  private boolean jj_3R_1073() {
+    if (jj_3R_1014()) return true;
     return false;
   }
 
-  private boolean jj_3R_1069() {
-    if (jj_3R_324()) return true;
+  private boolean jj_3R_1072() {
+    if (jj_3R_1015()) return true;
     return false;
   }
 
-  private boolean jj_3R_377() {
-    if (jj_scan_token(DISTINCT)) return true;
+  private boolean jj_3R_1071() {
+    if (jj_3R_326()) return true;
     return false;
   }
 
-  private boolean jj_3R_376() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_186() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_171()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_397()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1068() {
+  private boolean jj_3R_1070() {
     if (jj_3R_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_1059() {
+  private boolean jj_3R_1061() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1068()) {
+    if (jj_3R_1070()) {
       jj_scanpos = xsp;
-      if (jj_3R_1069()) {
+      if (jj_3R_1071()) {
         jj_scanpos = xsp;
-        if (jj_3R_1070()) {
+        if (jj_3R_1072()) {
           jj_scanpos = xsp;
-          if (jj_3R_1071()) {
+          if (jj_3R_1073()) {
             jj_scanpos = xsp;
-            if (jj_scan_token(198)) return true;
+            if (jj_scan_token(199)) return true;
           }
         }
       }
@@ -30033,16 +30143,34 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1012() {
+  private boolean jj_3R_380() {
+    if (jj_3R_161()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_560()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_379() {
+    if (jj_scan_token(DISTINCT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1014() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1059()) {
+      if (jj_3R_1061()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30051,17 +30179,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_176() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_376()) {
-      jj_scanpos = xsp;
-      if (jj_3R_377()) return true;
-    }
-    if (jj_scan_token(LPAREN)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_378()) jj_scanpos = xsp;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_378() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
@@ -30070,48 +30189,52 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1075() {
-    if (jj_3R_1012()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_178() {
-    if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
+  private boolean jj_3R_1077() {
+    if (jj_3R_1014()) return true;
     return false;
   }
 
-  private boolean jj_3R_1074() {
-    if (jj_3R_1013()) return true;
+  private boolean jj_3R_177() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_378()) {
+      jj_scanpos = xsp;
+      if (jj_3R_379()) return true;
+    }
+    if (jj_scan_token(LPAREN)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_380()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1073() {
-    if (jj_3R_324()) return true;
+  private boolean jj_3R_1076() {
+    if (jj_3R_1015()) return true;
     return false;
   }
 
-  private boolean jj_3R_555() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_1075() {
+    if (jj_3R_326()) return true;
     return false;
   }
 
-  private boolean jj_3R_1072() {
+  private boolean jj_3R_1074() {
     if (jj_3R_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_1060() {
+  private boolean jj_3R_1062() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1072()) {
+    if (jj_3R_1074()) {
       jj_scanpos = xsp;
-      if (jj_3R_1073()) {
+      if (jj_3R_1075()) {
         jj_scanpos = xsp;
-        if (jj_3R_1074()) {
+        if (jj_3R_1076()) {
           jj_scanpos = xsp;
-          if (jj_3R_1075()) {
+          if (jj_3R_1077()) {
             jj_scanpos = xsp;
-            if (jj_scan_token(198)) return true;
+            if (jj_scan_token(199)) return true;
           }
         }
       }
@@ -30119,28 +30242,28 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_563() {
-    if (jj_scan_token(ELLIPSIS)) return true;
+  private boolean jj_3R_179() {
+    if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_562() {
-    if (jj_scan_token(RANGE)) return true;
+  private boolean jj_3R_557() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_1013() {
+  private boolean jj_3R_1015() {
     if (jj_scan_token(FOREACH)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(IN)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1060()) {
+      if (jj_3R_1062()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30149,74 +30272,65 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_390() {
-    if (jj_3R_561()) return true;
+  private boolean jj_3R_565() {
+    if (jj_scan_token(ELLIPSIS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_564() {
+    if (jj_scan_token(RANGE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_392() {
+    if (jj_3R_563()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_562()) {
+    if (jj_3R_564()) {
       jj_scanpos = xsp;
-      if (jj_3R_563()) return true;
+      if (jj_3R_565()) return true;
     }
-    if (jj_3R_561()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_389() {
-    if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
+    if (jj_3R_563()) return true;
     return false;
   }
 
   private boolean jj_3R_121() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_171()) return true;
+    if (jj_3R_161()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_522() {
-    if (jj_scan_token(284)) return true;
+  private boolean jj_3R_524() {
+    if (jj_scan_token(285)) return true;
     return false;
   }
 
-  private boolean jj_3R_311() {
+  private boolean jj_3R_312() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_521()) {
+    if (jj_3R_523()) {
       jj_scanpos = xsp;
-      if (jj_3R_522()) return true;
+      if (jj_3R_524()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_521() {
-    if (jj_scan_token(283)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_388() {
-    if (jj_scan_token(INTEGER_RANGE)) return true;
+  private boolean jj_3R_523() {
+    if (jj_scan_token(284)) return true;
     return false;
   }
 
-  private boolean jj_3R_182() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_388()) {
-      jj_scanpos = xsp;
-      if (jj_3R_389()) {
-        jj_scanpos = xsp;
-        if (jj_3R_390()) return true;
-      }
-    }
+  private boolean jj_3R_391() {
+    if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_394() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_393()) return true;
+  private boolean jj_3R_390() {
+    if (jj_scan_token(INTEGER_RANGE)) return true;
     return false;
   }
 
@@ -30224,53 +30338,49 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(SYNC)) return true;
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_311()) jj_scanpos = xsp;
+    if (jj_3R_312()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_520() {
-    if (jj_scan_token(282)) return true;
+  private boolean jj_3R_522() {
+    if (jj_scan_token(283)) return true;
     return false;
   }
 
-  private boolean jj_3R_310() {
+  private boolean jj_3R_311() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_519()) {
+    if (jj_3R_521()) {
       jj_scanpos = xsp;
-      if (jj_3R_520()) return true;
+      if (jj_3R_522()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_519() {
-    if (jj_scan_token(281)) return true;
-    return false;
-  }
-
-  private boolean jj_3_79() {
-    if (jj_3R_72()) return true;
+  private boolean jj_3R_521() {
+    if (jj_scan_token(282)) return true;
     return false;
   }
 
-  private boolean jj_3R_184() {
-    if (jj_3R_393()) return true;
+  private boolean jj_3R_183() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_394()) {
+    xsp = jj_scanpos;
+    if (jj_3R_390()) {
+      jj_scanpos = xsp;
+      if (jj_3R_391()) {
         jj_scanpos = xsp;
-        break;
+        if (jj_3R_392()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3_78() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_396() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_395()) return true;
     return false;
   }
 
@@ -30281,7 +30391,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_310()) {
+      if (jj_3R_311()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30289,23 +30399,26 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_667() {
-    if (jj_scan_token(INTEGER_LITERAL)) return true;
-    return false;
-  }
-
-  private boolean jj_3_77() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3_79() {
+    if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_666() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_185() {
+    if (jj_3R_395()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_396()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3_76() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3_78() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
@@ -30313,99 +30426,101 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(REMOVE)) return true;
     if (jj_scan_token(SERVER)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3_75() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_520() {
+    if (jj_scan_token(281)) return true;
     return false;
   }
 
-  private boolean jj_3R_561() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_666()) {
-      jj_scanpos = xsp;
-      if (jj_3R_667()) return true;
-    }
+  private boolean jj_3R_669() {
+    if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_518() {
-    if (jj_scan_token(280)) return true;
+  private boolean jj_3_77() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_568() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_668() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_567() {
+  private boolean jj_3_76() {
+    if (jj_3R_176()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_519() {
+    if (jj_scan_token(280)) return true;
+    return false;
+  }
+
+  private boolean jj_3_75() {
     if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_517() {
-    if (jj_scan_token(279)) return true;
+  private boolean jj_3R_563() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_668()) {
+      jj_scanpos = xsp;
+      if (jj_3R_669()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_516() {
-    if (jj_scan_token(278)) return true;
+  private boolean jj_3R_518() {
+    if (jj_scan_token(279)) return true;
     return false;
   }
 
-  private boolean jj_3R_566() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_517() {
+    if (jj_scan_token(278)) return true;
     return false;
   }
 
-  private boolean jj_3R_515() {
+  private boolean jj_3R_516() {
     if (jj_scan_token(277)) return true;
     return false;
   }
 
-  private boolean jj_3R_514() {
-    if (jj_scan_token(276)) return true;
+  private boolean jj_3R_570() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_393() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_566()) {
-      jj_scanpos = xsp;
-      if (jj_3R_567()) {
-        jj_scanpos = xsp;
-        if (jj_3R_568()) return true;
-      }
-    }
+  private boolean jj_3R_515() {
+    if (jj_scan_token(276)) return true;
     return false;
   }
 
-  private boolean jj_3R_513() {
-    if (jj_scan_token(275)) return true;
+  private boolean jj_3R_569() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_309() {
+  private boolean jj_3R_310() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_512()) {
+    if (jj_3R_514()) {
       jj_scanpos = xsp;
-      if (jj_3R_513()) {
+      if (jj_3R_515()) {
         jj_scanpos = xsp;
-        if (jj_3R_514()) {
+        if (jj_3R_516()) {
           jj_scanpos = xsp;
-          if (jj_3R_515()) {
+          if (jj_3R_517()) {
             jj_scanpos = xsp;
-            if (jj_3R_516()) {
+            if (jj_3R_518()) {
               jj_scanpos = xsp;
-              if (jj_3R_517()) {
+              if (jj_3R_519()) {
                 jj_scanpos = xsp;
-                if (jj_3R_518()) return true;
+                if (jj_3R_520()) return true;
               }
             }
           }
@@ -30415,29 +30530,26 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_512() {
-    if (jj_scan_token(274)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_948() {
-    if (jj_scan_token(STAR)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_814() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_514() {
+    if (jj_scan_token(275)) return true;
     return false;
   }
 
-  private boolean jj_3R_813() {
-    if (jj_3R_554()) return true;
+  private boolean jj_3R_568() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_947() {
-    if (jj_scan_token(BANG)) return true;
+  private boolean jj_3R_395() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_568()) {
+      jj_scanpos = xsp;
+      if (jj_3R_569()) {
+        jj_scanpos = xsp;
+        if (jj_3R_570()) return true;
+      }
+    }
     return false;
   }
 
@@ -30447,7 +30559,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_309()) {
+      if (jj_3R_310()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30455,157 +30567,162 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_755() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_950() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_812() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_947()) jj_scanpos = xsp;
-    if (jj_3R_160()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_948()) jj_scanpos = xsp;
+  private boolean jj_3R_816() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_811() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_743() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_741() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_815() {
+    if (jj_3R_556()) return true;
     return false;
   }
 
-  private boolean jj_3R_660() {
+  private boolean jj_3R_949() {
+    if (jj_scan_token(BANG)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_757() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_174()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_814() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_811()) {
-      jj_scanpos = xsp;
-      if (jj_3R_812()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_813()) jj_scanpos = xsp;
+    if (jj_3R_949()) jj_scanpos = xsp;
+    if (jj_3R_161()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_814()) jj_scanpos = xsp;
+    if (jj_3R_950()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_754() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_813() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
   private boolean jj_3R_108() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_741()) jj_scanpos = xsp;
+    if (jj_3R_743()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_885() {
+  private boolean jj_3R_887() {
     if (jj_scan_token(NOLIMIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_884() {
-    if (jj_scan_token(DESC)) return true;
+  private boolean jj_3R_662() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_813()) {
+      jj_scanpos = xsp;
+      if (jj_3R_814()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_815()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_816()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1009() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_886() {
+    if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_883() {
-    if (jj_scan_token(ASC)) return true;
+  private boolean jj_3R_756() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_882() {
+  private boolean jj_3R_1011() {
+    if (jj_scan_token(FALSE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_885() {
+    if (jj_scan_token(ASC)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_884() {
     if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_1008() {
+  private boolean jj_3R_1010() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_661() {
+  private boolean jj_3R_663() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_660()) return true;
+    if (jj_3R_662()) return true;
     return false;
   }
 
-  private boolean jj_3R_881() {
+  private boolean jj_3R_883() {
     if (jj_scan_token(CYCLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1008()) {
+    if (jj_3R_1010()) {
       jj_scanpos = xsp;
-      if (jj_3R_1009()) return true;
+      if (jj_3R_1011()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_880() {
+  private boolean jj_3R_882() {
     if (jj_scan_token(LIMIT)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_879() {
+  private boolean jj_3R_881() {
     if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_160()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_554() {
-    if (jj_scan_token(COLON)) return true;
-    if (jj_scan_token(LBRACE)) return true;
-    if (jj_3R_660()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_661()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    if (jj_scan_token(RBRACE)) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_740() {
+  private boolean jj_3R_742() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_878()) {
+    if (jj_3R_880()) {
       jj_scanpos = xsp;
-      if (jj_3R_879()) {
+      if (jj_3R_881()) {
         jj_scanpos = xsp;
-        if (jj_3R_880()) {
+        if (jj_3R_882()) {
           jj_scanpos = xsp;
-          if (jj_3R_881()) {
+          if (jj_3R_883()) {
             jj_scanpos = xsp;
-            if (jj_3R_882()) {
+            if (jj_3R_884()) {
               jj_scanpos = xsp;
-              if (jj_3R_883()) {
+              if (jj_3R_885()) {
                 jj_scanpos = xsp;
-                if (jj_3R_884()) {
+                if (jj_3R_886()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_885()) return true;
+                  if (jj_3R_887()) return true;
                 }
               }
             }
@@ -30616,31 +30733,36 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_878() {
+  private boolean jj_3R_880() {
     if (jj_scan_token(START)) return true;
-    if (jj_3R_160()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_372() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_555()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_371() {
-    if (jj_3R_554()) return true;
+  private boolean jj_3R_556() {
+    if (jj_scan_token(COLON)) return true;
+    if (jj_scan_token(LBRACE)) return true;
+    if (jj_3R_662()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_663()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
   private boolean jj_3R_106() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_740()) {
+      if (jj_3R_742()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30648,67 +30770,65 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_173() {
-    if (jj_3R_160()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_371()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_372()) jj_scanpos = xsp;
+  private boolean jj_3R_374() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_557()) return true;
     return false;
   }
 
-  private boolean jj_3R_877() {
+  private boolean jj_3R_879() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_1007() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_373() {
+    if (jj_3R_556()) return true;
     return false;
   }
 
-  private boolean jj_3_74() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_1009() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_876() {
+  private boolean jj_3R_878() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_875() {
+  private boolean jj_3R_877() {
     if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_1006() {
+  private boolean jj_3R_1008() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_614() {
-    if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_174() {
+    if (jj_3R_161()) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_755()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+    xsp = jj_scanpos;
+    if (jj_3R_373()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_374()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_613() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3_74() {
+    if (jj_3R_174()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_616() {
+    if (jj_scan_token(DISTINCT)) return true;
+    if (jj_3R_174()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_754()) {
+      if (jj_3R_757()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30716,55 +30836,58 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_464() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_613()) {
-      jj_scanpos = xsp;
-      if (jj_3R_614()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_874() {
+  private boolean jj_3R_876() {
     if (jj_scan_token(CYCLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1006()) {
+    if (jj_3R_1008()) {
       jj_scanpos = xsp;
-      if (jj_3R_1007()) return true;
+      if (jj_3R_1009()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_873() {
+  private boolean jj_3R_875() {
     if (jj_scan_token(LIMIT)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_872() {
+  private boolean jj_3R_874() {
     if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_735() {
+  private boolean jj_3R_615() {
+    if (jj_3R_174()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_756()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_737() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_871()) {
+    if (jj_3R_873()) {
       jj_scanpos = xsp;
-      if (jj_3R_872()) {
+      if (jj_3R_874()) {
         jj_scanpos = xsp;
-        if (jj_3R_873()) {
+        if (jj_3R_875()) {
           jj_scanpos = xsp;
-          if (jj_3R_874()) {
+          if (jj_3R_876()) {
             jj_scanpos = xsp;
-            if (jj_3R_875()) {
+            if (jj_3R_877()) {
               jj_scanpos = xsp;
-              if (jj_3R_876()) {
+              if (jj_3R_878()) {
                 jj_scanpos = xsp;
-                if (jj_3R_877()) return true;
+                if (jj_3R_879()) return true;
               }
             }
           }
@@ -30774,74 +30897,61 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_871() {
+  private boolean jj_3R_873() {
     if (jj_scan_token(START)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_663() {
-    if (jj_scan_token(SKIP2)) return true;
+  private boolean jj_3R_466() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_615()) {
+      jj_scanpos = xsp;
+      if (jj_3R_616()) return true;
+    }
     return false;
   }
 
   private boolean jj_3R_665() {
-    if (jj_scan_token(FROM)) return true;
+    if (jj_scan_token(SKIP2)) return true;
     return false;
   }
 
-  private boolean jj_3R_662() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_667() {
+    if (jj_scan_token(FROM)) return true;
     return false;
   }
 
   private boolean jj_3R_664() {
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_666() {
     if (jj_scan_token(LIMIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_734() {
+  private boolean jj_3R_736() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_557() {
-    if (jj_scan_token(COLON)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_662()) {
-      jj_scanpos = xsp;
-      if (jj_3R_663()) {
-        jj_scanpos = xsp;
-        if (jj_3R_664()) {
-          jj_scanpos = xsp;
-          if (jj_3R_665()) return true;
-        }
-      }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_465() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_170()) return true;
-    return false;
-  }
-
   private boolean jj_3R_95() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_734()) jj_scanpos = xsp;
+    if (jj_3R_736()) jj_scanpos = xsp;
     if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_735()) {
+      if (jj_3R_737()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30849,50 +30959,63 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_556() {
-    if (jj_scan_token(HOOK)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_375() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_559() {
+    if (jj_scan_token(COLON)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_664()) {
+      jj_scanpos = xsp;
+      if (jj_3R_665()) {
+        jj_scanpos = xsp;
+        if (jj_3R_666()) {
+          jj_scanpos = xsp;
+          if (jj_3R_667()) return true;
+        }
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_374() {
-    if (jj_3R_556()) return true;
+  private boolean jj_3R_467() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_1067() {
+  private boolean jj_3R_1069() {
     if (jj_scan_token(FAIL)) return true;
     return false;
   }
 
-  private boolean jj_3R_323() {
+  private boolean jj_3R_325() {
     if (jj_scan_token(CONSOLE)) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_171()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_1058() {
+  private boolean jj_3R_558() {
+    if (jj_scan_token(HOOK)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1060() {
     if (jj_scan_token(FAIL)) return true;
     return false;
   }
 
-  private boolean jj_3R_175() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_374()) {
-      jj_scanpos = xsp;
-      if (jj_3R_375()) return true;
-    }
+  private boolean jj_3R_377() {
+    if (jj_3R_559()) return true;
     return false;
   }
 
-  private boolean jj_3R_322() {
+  private boolean jj_3R_376() {
+    if (jj_3R_558()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_324() {
     if (jj_scan_token(SLEEP)) return true;
     if (jj_3R_72()) return true;
     return false;
@@ -30903,88 +31026,98 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_262() {
-    if (jj_3R_468()) return true;
+  private boolean jj_3R_910() {
+    if (jj_3R_1015()) return true;
     return false;
   }
 
-  private boolean jj_3R_261() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_909() {
+    if (jj_3R_1014()) return true;
     return false;
   }
 
-  private boolean jj_3R_908() {
-    if (jj_3R_1013()) return true;
+  private boolean jj_3R_176() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_376()) {
+      jj_scanpos = xsp;
+      if (jj_3R_377()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_260() {
-    if (jj_3R_466()) return true;
+  private boolean jj_3R_908() {
+    if (jj_3R_326()) return true;
     return false;
   }
 
-  private boolean jj_3R_259() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_755() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_907()) {
+      jj_scanpos = xsp;
+      if (jj_3R_908()) {
+        jj_scanpos = xsp;
+        if (jj_3R_909()) {
+          jj_scanpos = xsp;
+          if (jj_3R_910()) {
+            jj_scanpos = xsp;
+            if (jj_scan_token(199)) return true;
+          }
+        }
+      }
+    }
     return false;
   }
 
   private boolean jj_3R_907() {
-    if (jj_3R_1012()) return true;
+    if (jj_3R_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_906() {
-    if (jj_3R_324()) return true;
+  private boolean jj_3R_263() {
+    if (jj_3R_470()) return true;
     return false;
   }
 
-  private boolean jj_3R_258() {
-    if (jj_scan_token(UPSERT)) return true;
+  private boolean jj_3R_262() {
+    if (jj_3R_469()) return true;
     return false;
   }
 
-  private boolean jj_3R_753() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_905()) {
-      jj_scanpos = xsp;
-      if (jj_3R_906()) {
-        jj_scanpos = xsp;
-        if (jj_3R_907()) {
-          jj_scanpos = xsp;
-          if (jj_3R_908()) {
-            jj_scanpos = xsp;
-            if (jj_scan_token(198)) return true;
-          }
-        }
-      }
-    }
+  private boolean jj_3R_261() {
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_905() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_260() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_257() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_259() {
+    if (jj_scan_token(UPSERT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_258() {
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_465()) jj_scanpos = xsp;
+    if (jj_3R_467()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_324() {
+  private boolean jj_3R_326() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_753()) {
+      if (jj_3R_755()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30993,239 +31126,257 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
+  private boolean jj_3R_531() {
+    if (jj_3R_161()) return true;
+    return false;
+  }
+
   private boolean jj_3R_99() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_257()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_258()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_160()) return true;
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_160()) return true;
     xsp = jj_scanpos;
     if (jj_3R_259()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_161()) return true;
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_161()) return true;
     xsp = jj_scanpos;
     if (jj_3R_260()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_261()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_262()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_263()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_529() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_1068() {
+    if (jj_scan_token(CONTINUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_739() {
-    if (jj_3R_468()) return true;
+  private boolean jj_3R_323() {
+    if (jj_scan_token(RETURN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_531()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_738() {
+  private boolean jj_3R_741() {
     if (jj_3R_470()) return true;
     return false;
   }
 
-  private boolean jj_3R_737() {
-    if (jj_scan_token(CLASS)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_740() {
+    if (jj_3R_472()) return true;
     return false;
   }
 
-  private boolean jj_3R_1066() {
+  private boolean jj_3R_1059() {
     if (jj_scan_token(CONTINUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_736() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_1058() {
+    if (jj_scan_token(AND)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1068()) {
+      jj_scanpos = xsp;
+      if (jj_3R_1069()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_321() {
-    if (jj_scan_token(RETURN)) return true;
+  private boolean jj_3R_1013() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_529()) jj_scanpos = xsp;
+    if (jj_3R_1059()) {
+      jj_scanpos = xsp;
+      if (jj_3R_1060()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_1057() {
-    if (jj_scan_token(CONTINUE)) return true;
+  private boolean jj_3R_739() {
+    if (jj_scan_token(CLASS)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_1056() {
-    if (jj_scan_token(AND)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1066()) {
-      jj_scanpos = xsp;
-      if (jj_3R_1067()) return true;
-    }
+  private boolean jj_3R_322() {
+    if (jj_scan_token(ROLLBACK)) return true;
     return false;
   }
 
-  private boolean jj_3R_1011() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1057()) {
-      jj_scanpos = xsp;
-      if (jj_3R_1058()) return true;
-    }
+  private boolean jj_3R_738() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_320() {
-    if (jj_scan_token(ROLLBACK)) return true;
+  private boolean jj_3R_1057() {
+    if (jj_3R_79()) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_313() {
+  private boolean jj_3R_1012() {
+    if (jj_scan_token(LBRACE)) return true;
+    Token xsp;
+    if (jj_3R_1057()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_1057()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    if (jj_scan_token(RBRACE)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_1058()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_314() {
     if (jj_scan_token(MOVE)) return true;
     if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_469()) return true;
+    if (jj_3R_471()) return true;
     if (jj_scan_token(TO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_736()) {
+    if (jj_3R_738()) {
       jj_scanpos = xsp;
-      if (jj_3R_737()) return true;
+      if (jj_3R_739()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_738()) jj_scanpos = xsp;
+    if (jj_3R_740()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_739()) jj_scanpos = xsp;
+    if (jj_3R_741()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_73() {
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
   private boolean jj_3_72() {
-    if (jj_3R_172()) return true;
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_1055() {
-    if (jj_3R_79()) return true;
-    if (jj_scan_token(SEMICOLON)) return true;
+  private boolean jj_3R_906() {
+    if (jj_scan_token(ELSE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1012()) {
+      jj_scanpos = xsp;
+      if (jj_3R_1013()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_463() {
+  private boolean jj_3R_465() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_1010() {
-    if (jj_scan_token(LBRACE)) return true;
+  private boolean jj_3R_530() {
+    if (jj_scan_token(RETRY)) return true;
+    if (jj_3R_72()) return true;
     Token xsp;
-    if (jj_3R_1055()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_1055()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    if (jj_scan_token(RBRACE)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1056()) jj_scanpos = xsp;
+    if (jj_3R_906()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_256() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_257() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
   private boolean jj_3_71() {
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_255() {
+  private boolean jj_3R_256() {
     if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_464()) return true;
+    if (jj_3R_466()) return true;
     return false;
   }
 
-  private boolean jj_3R_254() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_255() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
   private boolean jj_3R_96() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_904() {
-    if (jj_scan_token(ELSE)) return true;
+  private boolean jj_3R_321() {
+    if (jj_scan_token(COMMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1010()) {
-      jj_scanpos = xsp;
-      if (jj_3R_1011()) return true;
-    }
+    if (jj_3R_530()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_528() {
-    if (jj_scan_token(RETRY)) return true;
-    if (jj_3R_72()) return true;
+  private boolean jj_3R_254() {
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_904()) jj_scanpos = xsp;
+    if (jj_3R_465()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_253() {
-    if (jj_3R_170()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_463()) jj_scanpos = xsp;
+  private boolean jj_3_164() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_319() {
-    if (jj_scan_token(COMMIT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_528()) jj_scanpos = xsp;
+  private boolean jj_3R_529() {
+    if (jj_scan_token(ISOLATION)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3_164() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3_163() {
+    if (jj_3R_240()) return true;
     return false;
   }
 
-  private boolean jj_3R_527() {
-    if (jj_scan_token(ISOLATION)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_320() {
+    if (jj_scan_token(BEGIN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_529()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_163() {
-    if (jj_3R_239()) return true;
+  private boolean jj_3R_614() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_553() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_613() {
+    if (jj_3R_79()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_555() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
@@ -31234,14 +31385,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_253()) {
+    if (jj_3R_254()) {
       jj_scanpos = xsp;
-      if (jj_3R_254()) return true;
+      if (jj_3R_255()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_255()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_256()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_257()) jj_scanpos = xsp;
     return false;
   }
 
@@ -31251,76 +31402,58 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_552() {
-    if (jj_3R_238()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_318() {
-    if (jj_scan_token(BEGIN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_527()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_612() {
-    if (jj_3R_160()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_611() {
-    if (jj_3R_79()) return true;
+  private boolean jj_3R_554() {
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_367() {
+  private boolean jj_3R_369() {
     if (jj_scan_token(CONTENT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_552()) {
+    if (jj_3R_554()) {
       jj_scanpos = xsp;
-      if (jj_3R_553()) return true;
+      if (jj_3R_555()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_551() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_160()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_462() {
+  private boolean jj_3R_464() {
     if (jj_scan_token(LET)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_611()) {
+    if (jj_3R_613()) {
       jj_scanpos = xsp;
-      if (jj_3R_612()) return true;
+      if (jj_3R_614()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_659() {
+  private boolean jj_3R_553() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_171()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_161()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_661() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
   private boolean jj_3_70() {
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_551()) {
+      if (jj_3R_553()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31328,14 +31461,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_550() {
+  private boolean jj_3R_552() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_659()) {
+      if (jj_3R_661()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31344,12 +31477,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_549() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
-    return false;
-  }
-
   private boolean jj_3R_77() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(SYSTEM)) return true;
@@ -31357,46 +31484,68 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_171() {
+  private boolean jj_3R_551() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_861() {
+  private boolean jj_3R_863() {
     if (jj_scan_token(REMOVE)) return true;
     if (jj_scan_token(POLICY)) return true;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_752()) return true;
+    if (jj_3R_754()) return true;
     return false;
   }
 
-  private boolean jj_3R_731() {
+  private boolean jj_3R_172() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_733() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_860()) {
+    if (jj_3R_862()) {
       jj_scanpos = xsp;
-      if (jj_3R_861()) return true;
+      if (jj_3R_863()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_860() {
+  private boolean jj_3R_862() {
     if (jj_scan_token(SET)) return true;
     if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_752()) return true;
+    if (jj_3R_754()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_92() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(ROLE)) return true;
+    if (jj_3R_171()) return true;
+    Token xsp;
+    if (jj_3R_733()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_733()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
   private boolean jj_3_69() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_171()) {
+      if (jj_3R_172()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31404,10 +31553,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(VALUES)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_549()) {
+      if (jj_3R_551()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31415,7 +31564,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(RPAREN)) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_550()) {
+      if (jj_3R_552()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31424,93 +31573,86 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3_67() {
-    if (jj_3R_158()) return true;
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_92() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(ROLE)) return true;
-    if (jj_3R_170()) return true;
-    Token xsp;
-    if (jj_3R_731()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_731()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+  private boolean jj_3R_1044() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_819() {
+  private boolean jj_3R_91() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(USER)) return true;
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_821() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_167() {
+  private boolean jj_3R_168() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_69()) {
       jj_scanpos = xsp;
       if (jj_3_70()) {
         jj_scanpos = xsp;
-        if (jj_3R_367()) return true;
+        if (jj_3R_369()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_169() {
-    if (jj_3R_368()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_168() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3R_987() {
+    if (jj_3R_171()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_1044()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_1042() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_170() {
+    if (jj_3R_370()) return true;
     return false;
   }
 
-  private boolean jj_3R_91() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(USER)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_169() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
   private boolean jj_3_66() {
-    if (jj_3R_158()) return true;
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_676() {
+  private boolean jj_3R_678() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_985() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_861() {
+    if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_1042()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+    xsp = jj_scanpos;
+    if (jj_3R_987()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_963() {
-    if (jj_3R_368()) return true;
+  private boolean jj_3R_965() {
+    if (jj_3R_370()) return true;
     return false;
   }
 
@@ -31518,180 +31660,162 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_168()) {
+    if (jj_3R_169()) {
       jj_scanpos = xsp;
-      if (jj_3R_169()) return true;
+      if (jj_3R_170()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_962() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3R_860() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_859() {
-    if (jj_scan_token(LBRACKET)) return true;
+  private boolean jj_3R_964() {
+    if (jj_3R_159()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_732() {
+    if (jj_scan_token(ROLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_985()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
+    if (jj_3R_860()) {
+      jj_scanpos = xsp;
+      if (jj_3R_861()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_821() {
+  private boolean jj_3R_731() {
+    if (jj_3R_176()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_823() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_962()) {
+    if (jj_3R_964()) {
       jj_scanpos = xsp;
-      if (jj_3R_963()) return true;
+      if (jj_3R_965()) return true;
     }
     return false;
   }
 
+  private boolean jj_3R_730() {
+    if (jj_3R_603()) return true;
+    return false;
+  }
+
   private boolean jj_3_65() {
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_858() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_729() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
   private boolean jj_3_64() {
-    if (jj_3R_166()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_820() {
+  private boolean jj_3R_822() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_919() {
+  private boolean jj_3R_921() {
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_675() {
+  private boolean jj_3R_677() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_820()) jj_scanpos = xsp;
+    if (jj_3R_822()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_821()) {
+    if (jj_3R_823()) {
       jj_scanpos = xsp;
       if (jj_3_68()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_730() {
-    if (jj_scan_token(ROLE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_858()) {
-      jj_scanpos = xsp;
-      if (jj_3R_859()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_729() {
-    if (jj_3R_175()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_672() {
-    if (jj_3R_172()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_728() {
-    if (jj_3R_601()) return true;
+  private boolean jj_3R_674() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_671() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_673() {
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_819()) jj_scanpos = xsp;
+    if (jj_3R_821()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_674() {
+  private boolean jj_3R_676() {
     if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_464()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_673() {
-    if (jj_3R_167()) return true;
+    if (jj_3R_466()) return true;
     return false;
   }
 
-  private boolean jj_3R_727() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_675() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_670() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3R_672() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
   private boolean jj_3R_90() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(USER)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(IDENTIFIED)) return true;
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_727()) {
+    if (jj_3R_729()) {
       jj_scanpos = xsp;
-      if (jj_3R_728()) {
+      if (jj_3R_730()) {
         jj_scanpos = xsp;
-        if (jj_3R_729()) return true;
+        if (jj_3R_731()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_730()) jj_scanpos = xsp;
+    if (jj_3R_732()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_312() {
+  private boolean jj_3R_313() {
     if (jj_scan_token(INSERT)) return true;
     if (jj_scan_token(INTO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_670()) {
+    if (jj_3R_672()) {
       jj_scanpos = xsp;
-      if (jj_3R_671()) {
+      if (jj_3R_673()) {
         jj_scanpos = xsp;
-        if (jj_3R_672()) return true;
+        if (jj_3R_674()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_673()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_674()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_675()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_676()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_767() {
-    if (jj_3R_170()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_160()) return true;
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_677()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_678()) jj_scanpos = xsp;
     return false;
   }
 
@@ -31702,113 +31826,149 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_775() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_769() {
+    if (jj_3R_171()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_161()) return true;
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_161()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_777() {
+    if (jj_3R_161()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_919()) jj_scanpos = xsp;
+    if (jj_3R_921()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_918() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_920() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_773() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_775() {
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_918()) jj_scanpos = xsp;
+    if (jj_3R_920()) jj_scanpos = xsp;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_917() {
+  private boolean jj_3R_919() {
     if (jj_scan_token(SLASHASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_914() {
+  private boolean jj_3R_916() {
     if (jj_scan_token(PLUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_916() {
+  private boolean jj_3R_918() {
     if (jj_scan_token(STARASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_913() {
+  private boolean jj_3R_915() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_915() {
+  private boolean jj_3R_917() {
     if (jj_scan_token(MINUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_483() {
+  private boolean jj_3R_485() {
     if (jj_scan_token(COUNT)) return true;
     return false;
   }
 
-  private boolean jj_3R_912() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_914() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_776() {
+  private boolean jj_3R_76() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(SYSTEM)) return true;
+    if (jj_scan_token(USER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_778() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_775()) return true;
+    if (jj_3R_777()) return true;
     return false;
   }
 
-  private boolean jj_3R_765() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_728() {
+    if (jj_scan_token(LANGUAGE)) return true;
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_859() {
+    if (jj_scan_token(FALSE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_767() {
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_912()) jj_scanpos = xsp;
+    if (jj_3R_914()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_913()) {
+    if (jj_3R_915()) {
       jj_scanpos = xsp;
-      if (jj_3R_914()) {
+      if (jj_3R_916()) {
         jj_scanpos = xsp;
-        if (jj_3R_915()) {
+        if (jj_3R_917()) {
           jj_scanpos = xsp;
-          if (jj_3R_916()) {
+          if (jj_3R_918()) {
             jj_scanpos = xsp;
-            if (jj_3R_917()) return true;
+            if (jj_3R_919()) return true;
           }
         }
       }
     }
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_76() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(SYSTEM)) return true;
-    if (jj_scan_token(USER)) return true;
+  private boolean jj_3R_858() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_774() {
+  private boolean jj_3R_776() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_773()) return true;
+    if (jj_3R_775()) return true;
     return false;
   }
 
-  private boolean jj_3R_630() {
+  private boolean jj_3R_727() {
+    if (jj_scan_token(IDEMPOTENT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_858()) {
+      jj_scanpos = xsp;
+      if (jj_3R_859()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_632() {
     if (jj_scan_token(REMOVE)) return true;
-    if (jj_3R_775()) return true;
+    if (jj_3R_777()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_776()) {
+      if (jj_3R_778()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31816,70 +31976,59 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_772() {
+  private boolean jj_3R_774() {
     if (jj_scan_token(ADD)) return true;
     return false;
   }
 
-  private boolean jj_3R_726() {
-    if (jj_scan_token(LANGUAGE)) return true;
-    if (jj_3R_170()) return true;
-    return false;
-  }
-
   private boolean jj_3R_857() {
-    if (jj_scan_token(FALSE)) return true;
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_771() {
+  private boolean jj_3R_773() {
     if (jj_scan_token(INCREMENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_856() {
-    if (jj_scan_token(TRUE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_725() {
-    if (jj_scan_token(IDEMPOTENT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_856()) {
-      jj_scanpos = xsp;
-      if (jj_3R_857()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_770() {
+  private boolean jj_3R_772() {
     if (jj_scan_token(CONTENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_855() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_771() {
+    if (jj_scan_token(MERGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_769() {
-    if (jj_scan_token(MERGE)) return true;
+  private boolean jj_3R_726() {
+    if (jj_scan_token(PARAMETERS)) return true;
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_3R_171()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_857()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_629() {
+  private boolean jj_3R_631() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_771()) {
+    if (jj_3R_773()) {
       jj_scanpos = xsp;
-      if (jj_3R_772()) return true;
+      if (jj_3R_774()) return true;
     }
-    if (jj_3R_773()) return true;
+    if (jj_3R_775()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_774()) {
+      if (jj_3R_776()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31887,57 +32036,56 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_768() {
+  private boolean jj_3R_770() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_767()) return true;
+    if (jj_3R_769()) return true;
     return false;
   }
 
-  private boolean jj_3R_482() {
+  private boolean jj_3R_484() {
     if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_628() {
+  private boolean jj_3R_630() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_769()) {
+    if (jj_3R_771()) {
       jj_scanpos = xsp;
-      if (jj_3R_770()) return true;
+      if (jj_3R_772()) return true;
     }
-    if (jj_3R_238()) return true;
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_724() {
-    if (jj_scan_token(PARAMETERS)) return true;
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_170()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_855()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_768() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_767()) return true;
     return false;
   }
 
-  private boolean jj_3R_766() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_765()) return true;
+  private boolean jj_3R_89() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(FUNCTION)) return true;
+    if (jj_3R_171()) return true;
+    if (jj_3R_603()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_726()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_727()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_728()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_627() {
+  private boolean jj_3R_629() {
     if (jj_scan_token(PUT)) return true;
-    if (jj_3R_767()) return true;
+    if (jj_3R_769()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_768()) {
+      if (jj_3R_770()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31945,13 +32093,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_626() {
+  private boolean jj_3R_528() {
+    if (jj_3R_642()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_628() {
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_765()) return true;
+    if (jj_3R_767()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_766()) {
+      if (jj_3R_768()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31959,33 +32112,23 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_89() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(FUNCTION)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_3R_601()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_724()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_725()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_726()) jj_scanpos = xsp;
+  private boolean jj_3R_527() {
+    if (jj_scan_token(POLICY)) return true;
     return false;
   }
 
-  private boolean jj_3R_470() {
+  private boolean jj_3R_472() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_626()) {
+    if (jj_3R_628()) {
       jj_scanpos = xsp;
-      if (jj_3R_627()) {
+      if (jj_3R_629()) {
         jj_scanpos = xsp;
-        if (jj_3R_628()) {
+        if (jj_3R_630()) {
           jj_scanpos = xsp;
-          if (jj_3R_629()) {
+          if (jj_3R_631()) {
             jj_scanpos = xsp;
-            if (jj_3R_630()) return true;
+            if (jj_3R_632()) return true;
           }
         }
       }
@@ -31993,166 +32136,169 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_526() {
-    if (jj_3R_640()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_488() {
+  private boolean jj_3R_490() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_525() {
-    if (jj_scan_token(POLICY)) return true;
+  private boolean jj_3R_319() {
+    if (jj_scan_token(REVOKE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_527()) {
+      jj_scanpos = xsp;
+      if (jj_3R_528()) return true;
+    }
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_754()) return true;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_277() {
-    if (jj_3R_480()) return true;
+  private boolean jj_3R_278() {
+    if (jj_3R_482()) return true;
     return false;
   }
 
-  private boolean jj_3R_472() {
+  private boolean jj_3R_474() {
     if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_487() {
+  private boolean jj_3R_489() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_276() {
-    if (jj_3R_479()) return true;
+  private boolean jj_3R_277() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_486() {
+  private boolean jj_3R_488() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_485() {
+  private boolean jj_3R_487() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_317() {
-    if (jj_scan_token(REVOKE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_525()) {
-      jj_scanpos = xsp;
-      if (jj_3R_526()) return true;
-    }
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_752()) return true;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_526() {
+    if (jj_3R_642()) return true;
     return false;
   }
 
-  private boolean jj_3R_484() {
-    if (jj_3R_464()) return true;
+  private boolean jj_3R_525() {
+    if (jj_scan_token(POLICY)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_275() {
+  private boolean jj_3R_486() {
+    if (jj_3R_466()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_276() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_485()) {
+    if (jj_3R_487()) {
       jj_scanpos = xsp;
-      if (jj_3R_486()) {
+      if (jj_3R_488()) {
         jj_scanpos = xsp;
-        if (jj_3R_487()) {
+        if (jj_3R_489()) {
           jj_scanpos = xsp;
-          if (jj_3R_488()) return true;
+          if (jj_3R_490()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_274() {
+  private boolean jj_3R_275() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_474()) return true;
+    if (jj_3R_476()) return true;
     return false;
   }
 
-  private boolean jj_3R_481() {
+  private boolean jj_3R_483() {
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_524() {
-    if (jj_3R_640()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_273() {
+  private boolean jj_3R_274() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_481()) {
+    if (jj_3R_483()) {
       jj_scanpos = xsp;
-      if (jj_3R_482()) {
+      if (jj_3R_484()) {
         jj_scanpos = xsp;
-        if (jj_3R_483()) return true;
+        if (jj_3R_485()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_484()) jj_scanpos = xsp;
+    if (jj_3R_486()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_523() {
-    if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_318() {
+    if (jj_scan_token(GRANT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_525()) {
+      jj_scanpos = xsp;
+      if (jj_3R_526()) return true;
+    }
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_754()) return true;
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_272() {
+  private boolean jj_3R_273() {
     if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_271() {
-    if (jj_3R_470()) return true;
+  private boolean jj_3R_272() {
+    if (jj_3R_472()) return true;
     return false;
   }
 
-  private boolean jj_3R_316() {
-    if (jj_scan_token(GRANT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_523()) {
-      jj_scanpos = xsp;
-      if (jj_3R_524()) return true;
-    }
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_752()) return true;
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_787() {
+    if (jj_scan_token(NONE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_786() {
+    if (jj_scan_token(ALL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_785() {
+    if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
   private boolean jj_3R_101() {
     if (jj_scan_token(UPDATE)) return true;
-    if (jj_3R_263()) return true;
+    if (jj_3R_264()) return true;
     Token xsp;
-    if (jj_3R_271()) return true;
+    if (jj_3R_272()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_271()) {
+      if (jj_3R_272()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_272()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_273()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_274()) jj_scanpos = xsp;
@@ -32162,177 +32308,183 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_3R_276()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_277()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_278()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_270() {
-    if (jj_3R_480()) return true;
+  private boolean jj_3R_784() {
+    if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_269() {
-    if (jj_3R_479()) return true;
+  private boolean jj_3R_783() {
+    if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_785() {
-    if (jj_scan_token(NONE)) return true;
+  private boolean jj_3R_271() {
+    if (jj_3R_482()) return true;
     return false;
   }
 
-  private boolean jj_3R_473() {
-    if (jj_3R_464()) return true;
+  private boolean jj_3R_270() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_478() {
-    if (jj_scan_token(DEFAULT_)) return true;
+  private boolean jj_3R_782() {
+    if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_784() {
-    if (jj_scan_token(ALL)) return true;
+  private boolean jj_3R_475() {
+    if (jj_3R_466()) return true;
     return false;
   }
 
-  private boolean jj_3R_477() {
-    if (jj_scan_token(SHARED)) return true;
+  private boolean jj_3R_480() {
+    if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_783() {
-    if (jj_scan_token(EXECUTE)) return true;
+  private boolean jj_3R_781() {
+    if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_476() {
-    if (jj_scan_token(NONE)) return true;
+  private boolean jj_3R_479() {
+    if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_782() {
-    if (jj_scan_token(DELETE)) return true;
+  private boolean jj_3R_478() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_475() {
+  private boolean jj_3R_477() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_781() {
-    if (jj_scan_token(UPDATE)) return true;
+  private boolean jj_3R_642() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_781()) {
+      jj_scanpos = xsp;
+      if (jj_3R_782()) {
+        jj_scanpos = xsp;
+        if (jj_3R_783()) {
+          jj_scanpos = xsp;
+          if (jj_3R_784()) {
+            jj_scanpos = xsp;
+            if (jj_3R_785()) {
+              jj_scanpos = xsp;
+              if (jj_3R_786()) {
+                jj_scanpos = xsp;
+                if (jj_3R_787()) return true;
+              }
+            }
+          }
+        }
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_471() {
+  private boolean jj_3R_473() {
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_780() {
-    if (jj_scan_token(READ)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_268() {
+  private boolean jj_3R_269() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_475()) {
+    if (jj_3R_477()) {
       jj_scanpos = xsp;
-      if (jj_3R_476()) {
+      if (jj_3R_478()) {
         jj_scanpos = xsp;
-        if (jj_3R_477()) {
+        if (jj_3R_479()) {
           jj_scanpos = xsp;
-          if (jj_3R_478()) return true;
+          if (jj_3R_480()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_267() {
+  private boolean jj_3R_268() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_474()) return true;
+    if (jj_3R_476()) return true;
     return false;
   }
 
-  private boolean jj_3R_266() {
+  private boolean jj_3R_267() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_471()) {
+    if (jj_3R_473()) {
       jj_scanpos = xsp;
-      if (jj_3R_472()) return true;
+      if (jj_3R_474()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_473()) jj_scanpos = xsp;
+    if (jj_3R_475()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_779() {
-    if (jj_scan_token(CREATE)) return true;
+  private boolean jj_3R_158() {
+    if (jj_scan_token(PROFILE)) return true;
+    if (jj_3R_79()) return true;
     return false;
   }
 
-  private boolean jj_3R_640() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_779()) {
-      jj_scanpos = xsp;
-      if (jj_3R_780()) {
-        jj_scanpos = xsp;
-        if (jj_3R_781()) {
-          jj_scanpos = xsp;
-          if (jj_3R_782()) {
-            jj_scanpos = xsp;
-            if (jj_3R_783()) {
-              jj_scanpos = xsp;
-              if (jj_3R_784()) {
-                jj_scanpos = xsp;
-                if (jj_3R_785()) return true;
-              }
-            }
-          }
-        }
-      }
-    }
+  private boolean jj_3R_266() {
+    if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
   private boolean jj_3R_265() {
-    if (jj_scan_token(UPSERT)) return true;
+    if (jj_3R_472()) return true;
     return false;
   }
 
-  private boolean jj_3R_264() {
-    if (jj_3R_470()) return true;
+  private boolean jj_3R_463() {
+    if (jj_scan_token(EXPLAIN)) return true;
+    if (jj_3R_79()) return true;
     return false;
   }
 
-  private boolean jj_3R_157() {
-    if (jj_scan_token(PROFILE)) return true;
-    if (jj_3R_79()) return true;
+  private boolean jj_3R_724() {
+    if (jj_3R_179()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_725() {
+    if (jj_scan_token(INVERSE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_723() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
   private boolean jj_3R_100() {
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_263()) return true;
-    Token xsp;
     if (jj_3R_264()) return true;
+    Token xsp;
+    if (jj_3R_265()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_264()) {
+      if (jj_3R_265()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_265()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_266()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_267()) jj_scanpos = xsp;
@@ -32342,163 +32494,151 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_3R_269()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_270()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_271()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_364() {
-    if (jj_3R_468()) return true;
+  private boolean jj_3R_366() {
+    if (jj_3R_470()) return true;
     return false;
   }
 
-  private boolean jj_3R_363() {
-    if (jj_3R_479()) return true;
+  private boolean jj_3R_365() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_362() {
+  private boolean jj_3R_364() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_474()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_461() {
-    if (jj_scan_token(EXPLAIN)) return true;
-    if (jj_3R_79()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_361() {
-    if (jj_3R_170()) return true;
+    if (jj_3R_476()) return true;
     return false;
   }
 
   private boolean jj_3R_722() {
-    if (jj_3R_178()) return true;
+    if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_723() {
-    if (jj_scan_token(INVERSE)) return true;
+  private boolean jj_3R_363() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
   private boolean jj_3R_721() {
-    if (jj_3R_170()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_720() {
-    if (jj_3R_178()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_165() {
+  private boolean jj_3R_166() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_361()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_362()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_363()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_364()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_365()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_366()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_719() {
-    if (jj_3R_170()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_357() {
-    if (jj_3R_468()) return true;
+  private boolean jj_3R_359() {
+    if (jj_3R_470()) return true;
     return false;
   }
 
-  private boolean jj_3R_356() {
-    if (jj_3R_479()) return true;
+  private boolean jj_3R_358() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_355() {
+  private boolean jj_3R_357() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_474()) return true;
+    if (jj_3R_476()) return true;
     return false;
   }
 
   private boolean jj_3R_88() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(LINK)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(DOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_719()) {
+    if (jj_3R_721()) {
       jj_scanpos = xsp;
-      if (jj_3R_720()) return true;
+      if (jj_3R_722()) return true;
     }
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(DOT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_721()) {
+    if (jj_3R_723()) {
       jj_scanpos = xsp;
-      if (jj_3R_722()) return true;
+      if (jj_3R_724()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_723()) jj_scanpos = xsp;
+    if (jj_3R_725()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_751() {
-    if (jj_3R_886()) return true;
+  private boolean jj_3R_317() {
+    if (jj_scan_token(ANALYZE)) return true;
+    if (jj_scan_token(CLASS)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_163() {
+  private boolean jj_3R_753() {
+    if (jj_3R_888()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_164() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_355()) jj_scanpos = xsp;
+    if (jj_3R_357()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_356()) jj_scanpos = xsp;
+    if (jj_3R_358()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_357()) jj_scanpos = xsp;
+    if (jj_3R_359()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_360() {
-    if (jj_3R_468()) return true;
+  private boolean jj_3R_362() {
+    if (jj_3R_470()) return true;
     return false;
   }
 
-  private boolean jj_3R_359() {
-    if (jj_3R_479()) return true;
+  private boolean jj_3R_361() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_358() {
+  private boolean jj_3R_360() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_474()) return true;
+    if (jj_3R_476()) return true;
     return false;
   }
 
-  private boolean jj_3R_315() {
+  private boolean jj_3R_316() {
     if (jj_scan_token(OPTIMIZE)) return true;
     if (jj_scan_token(DATABASE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_751()) {
+      if (jj_3R_753()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32506,61 +32646,61 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_886() {
+  private boolean jj_3R_888() {
     if (jj_scan_token(MINUS)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_164() {
+  private boolean jj_3R_165() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_358()) jj_scanpos = xsp;
+    if (jj_3R_360()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_359()) jj_scanpos = xsp;
+    if (jj_3R_361()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_360()) jj_scanpos = xsp;
+    if (jj_3R_362()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_750() {
-    if (jj_3R_170()) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_752() {
+    if (jj_3R_171()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_354() {
-    if (jj_3R_468()) return true;
+  private boolean jj_3R_356() {
+    if (jj_3R_470()) return true;
     return false;
   }
 
-  private boolean jj_3R_353() {
-    if (jj_3R_479()) return true;
+  private boolean jj_3R_355() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
   private boolean jj_3_162() {
     if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_352() {
+  private boolean jj_3R_354() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_474()) return true;
+    if (jj_3R_476()) return true;
     return false;
   }
 
-  private boolean jj_3R_351() {
+  private boolean jj_3R_353() {
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
@@ -32571,29 +32711,29 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     xsp = jj_scanpos;
     if (jj_3_162()) {
       jj_scanpos = xsp;
-      if (jj_3R_750()) return true;
+      if (jj_3R_752()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_748() {
+  private boolean jj_3R_750() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_747() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_749() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_749() {
+  private boolean jj_3R_751() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_350() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_352() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
@@ -32602,68 +32742,68 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_747()) {
+    if (jj_3R_749()) {
       jj_scanpos = xsp;
-      if (jj_3R_748()) return true;
+      if (jj_3R_750()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_749()) jj_scanpos = xsp;
+    if (jj_3R_751()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_656() {
+  private boolean jj_3R_658() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_174()) return true;
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_308() {
+  private boolean jj_3R_309() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_162() {
+  private boolean jj_3R_163() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_350()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_160()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_351()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_352()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_161()) return true;
     xsp = jj_scanpos;
     if (jj_3R_353()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_354()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_355()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_356()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_349() {
-    if (jj_3R_468()) return true;
+  private boolean jj_3R_351() {
+    if (jj_3R_470()) return true;
     return false;
   }
 
   private boolean jj_3R_114() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_308()) jj_scanpos = xsp;
-    if (jj_3R_170()) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_309()) jj_scanpos = xsp;
+    if (jj_3R_171()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_544() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_546() {
+    if (jj_3R_175()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_656()) {
+      if (jj_3R_658()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32671,36 +32811,36 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_718() {
+  private boolean jj_3R_720() {
     if (jj_scan_token(ID)) return true;
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_717() {
+  private boolean jj_3R_719() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_252() {
+  private boolean jj_3R_253() {
     if (jj_scan_token(BLOB)) return true;
     if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_348() {
+  private boolean jj_3R_350() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_544()) jj_scanpos = xsp;
+    if (jj_3R_546()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_347() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_349() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
@@ -32708,80 +32848,80 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(CREATE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(259)) {
+    if (jj_scan_token(260)) {
       jj_scanpos = xsp;
-      if (jj_3R_252()) return true;
+      if (jj_3R_253()) return true;
     }
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_717()) jj_scanpos = xsp;
+    if (jj_3R_719()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_718()) jj_scanpos = xsp;
+    if (jj_3R_720()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_63() {
-    if (jj_3R_165()) return true;
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_745() {
+  private boolean jj_3R_747() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_746() {
+  private boolean jj_3R_748() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_744() {
-    if (jj_3R_545()) return true;
+  private boolean jj_3R_746() {
+    if (jj_3R_547()) return true;
     return false;
   }
 
   private boolean jj_3_62() {
-    if (jj_3R_164()) return true;
+    if (jj_3R_165()) return true;
     return false;
   }
 
   private boolean jj_3_61() {
-    if (jj_3R_163()) return true;
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_161() {
+  private boolean jj_3R_162() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_347()) {
+    if (jj_3R_349()) {
       jj_scanpos = xsp;
-      if (jj_3R_348()) return true;
+      if (jj_3R_350()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_349()) jj_scanpos = xsp;
+    if (jj_3R_351()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_60() {
-    if (jj_3R_162()) return true;
+    if (jj_3R_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_251() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3R_252() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
   private boolean jj_3_59() {
-    if (jj_3R_161()) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_250() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_251() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
@@ -32790,64 +32930,64 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_744()) {
+    if (jj_3R_746()) {
       jj_scanpos = xsp;
-      if (jj_3R_745()) return true;
+      if (jj_3R_747()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_746()) jj_scanpos = xsp;
+    if (jj_3R_748()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_743() {
+  private boolean jj_3R_745() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_249() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_250() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_742() {
-    if (jj_3R_545()) return true;
+  private boolean jj_3R_744() {
+    if (jj_3R_547()) return true;
     return false;
   }
 
-  private boolean jj_3R_248() {
-    if (jj_3R_162()) return true;
+  private boolean jj_3R_249() {
+    if (jj_3R_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_1041() {
+  private boolean jj_3R_1043() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_238()) return true;
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_1040() {
+  private boolean jj_3R_1042() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_247() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_248() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
   private boolean jj_3R_82() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_247()) {
+    if (jj_3R_248()) {
       jj_scanpos = xsp;
-      if (jj_3R_248()) {
+      if (jj_3R_249()) {
         jj_scanpos = xsp;
-        if (jj_3R_249()) {
+        if (jj_3R_250()) {
           jj_scanpos = xsp;
-          if (jj_3R_250()) {
+          if (jj_3R_251()) {
             jj_scanpos = xsp;
-            if (jj_3R_251()) return true;
+            if (jj_3R_252()) return true;
           }
         }
       }
@@ -32855,101 +32995,101 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_314() {
+  private boolean jj_3R_315() {
     if (jj_scan_token(REBUILD)) return true;
     if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_742()) {
+    if (jj_3R_744()) {
       jj_scanpos = xsp;
-      if (jj_3R_743()) return true;
+      if (jj_3R_745()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_702() {
+  private boolean jj_3R_704() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_474()) return true;
+    if (jj_3R_476()) return true;
     return false;
   }
 
-  private boolean jj_3R_701() {
+  private boolean jj_3R_703() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_984() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_986() {
+    if (jj_3R_171()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1040()) {
+      if (jj_3R_1042()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_1041()) jj_scanpos = xsp;
+    if (jj_3R_1043()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_704() {
-    if (jj_3R_468()) return true;
+  private boolean jj_3R_706() {
+    if (jj_3R_470()) return true;
     return false;
   }
 
-  private boolean jj_3R_700() {
+  private boolean jj_3R_702() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_703() {
-    if (jj_3R_479()) return true;
+  private boolean jj_3R_705() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
   private boolean jj_3_160() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_238()) return true;
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_854() {
+  private boolean jj_3R_856() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_160()) {
       jj_scanpos = xsp;
-      if (jj_3R_984()) return true;
+      if (jj_3R_986()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1039() {
+  private boolean jj_3R_1041() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_238()) return true;
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_1038() {
+  private boolean jj_3R_1040() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_699() {
+  private boolean jj_3R_701() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_698() {
-    if (jj_3R_479()) return true;
+  private boolean jj_3R_700() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_697() {
+  private boolean jj_3R_699() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_474()) return true;
+    if (jj_3R_476()) return true;
     return false;
   }
 
@@ -32958,137 +33098,137 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_700()) jj_scanpos = xsp;
-    if (jj_3R_263()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_701()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_702()) jj_scanpos = xsp;
+    if (jj_3R_264()) return true;
     xsp = jj_scanpos;
     if (jj_3R_703()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_704()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_705()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_706()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_696() {
+  private boolean jj_3R_698() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_716() {
+  private boolean jj_3R_718() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_854()) jj_scanpos = xsp;
+    if (jj_3R_856()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_983() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_985() {
+    if (jj_3R_171()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1038()) {
+      if (jj_3R_1040()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_1039()) jj_scanpos = xsp;
+    if (jj_3R_1041()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_159() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_238()) return true;
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_853() {
+  private boolean jj_3R_855() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_159()) {
       jj_scanpos = xsp;
-      if (jj_3R_983()) return true;
+      if (jj_3R_985()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_961() {
-    if (jj_3R_479()) return true;
+  private boolean jj_3R_963() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_960() {
-    if (jj_3R_648()) return true;
+  private boolean jj_3R_962() {
+    if (jj_3R_650()) return true;
     return false;
   }
 
-  private boolean jj_3R_959() {
-    if (jj_3R_533()) return true;
+  private boolean jj_3R_961() {
+    if (jj_3R_535()) return true;
     return false;
   }
 
-  private boolean jj_3R_958() {
-    if (jj_3R_532()) return true;
+  private boolean jj_3R_960() {
+    if (jj_3R_534()) return true;
     return false;
   }
 
   private boolean jj_3R_80() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_263()) return true;
+    if (jj_3R_264()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_696()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_697()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_698()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_699()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_700()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_701()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_957() {
-    if (jj_3R_531()) return true;
+  private boolean jj_3R_959() {
+    if (jj_3R_533()) return true;
     return false;
   }
 
-  private boolean jj_3R_1033() {
+  private boolean jj_3R_1035() {
     if (jj_scan_token(AS)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_1032() {
-    if (jj_3R_554()) return true;
+  private boolean jj_3R_1034() {
+    if (jj_3R_556()) return true;
     return false;
   }
 
   private boolean jj_3_161() {
     if (jj_scan_token(ENGINE)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_853()) jj_scanpos = xsp;
+    if (jj_3R_855()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_852() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_854() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_956() {
+  private boolean jj_3R_958() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1032()) jj_scanpos = xsp;
+    if (jj_3R_1034()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1033()) jj_scanpos = xsp;
+    if (jj_3R_1035()) jj_scanpos = xsp;
     return false;
   }
 
@@ -33096,166 +33236,166 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_1037() {
+  private boolean jj_3R_1039() {
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_982() {
+  private boolean jj_3R_984() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_1036() {
+  private boolean jj_3R_1038() {
     if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_715() {
+  private boolean jj_3R_717() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_157()) {
       jj_scanpos = xsp;
-      if (jj_3R_852()) return true;
+      if (jj_3R_854()) return true;
     }
     return false;
   }
 
   private boolean jj_3_58() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_1031() {
-    if (jj_3R_554()) return true;
+  private boolean jj_3R_1033() {
+    if (jj_3R_556()) return true;
     return false;
   }
 
-  private boolean jj_3R_955() {
+  private boolean jj_3R_957() {
     if (jj_scan_token(AS)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_981() {
+  private boolean jj_3R_983() {
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1036()) {
+    if (jj_3R_1038()) {
       jj_scanpos = xsp;
-      if (jj_3R_1037()) return true;
+      if (jj_3R_1039()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1030() {
-    if (jj_3R_554()) return true;
+  private boolean jj_3R_1032() {
+    if (jj_3R_556()) return true;
     return false;
   }
 
-  private boolean jj_3R_954() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_956() {
+    if (jj_3R_161()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1031()) jj_scanpos = xsp;
+    if (jj_3R_1033()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_980() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_982() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
   private boolean jj_3_57() {
     if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1030()) jj_scanpos = xsp;
+    if (jj_3R_1032()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_979() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_981() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_1029() {
+  private boolean jj_3R_1031() {
     if (jj_scan_token(NOT)) return true;
-    if (jj_3R_680()) return true;
+    if (jj_3R_682()) return true;
     return false;
   }
 
-  private boolean jj_3R_1028() {
-    if (jj_3R_680()) return true;
+  private boolean jj_3R_1030() {
+    if (jj_3R_682()) return true;
     return false;
   }
 
-  private boolean jj_3R_851() {
+  private boolean jj_3R_853() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_979()) {
+    if (jj_3R_981()) {
       jj_scanpos = xsp;
-      if (jj_3R_980()) return true;
+      if (jj_3R_982()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_981()) jj_scanpos = xsp;
+    if (jj_3R_983()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_982()) jj_scanpos = xsp;
+    if (jj_3R_984()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_953() {
+  private boolean jj_3R_955() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1028()) {
+    if (jj_3R_1030()) {
       jj_scanpos = xsp;
-      if (jj_3R_1029()) return true;
+      if (jj_3R_1031()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_978() {
+  private boolean jj_3R_980() {
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_850() {
+  private boolean jj_3R_852() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_977() {
+  private boolean jj_3R_979() {
     if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_849() {
+  private boolean jj_3R_851() {
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_977()) {
+    if (jj_3R_979()) {
       jj_scanpos = xsp;
-      if (jj_3R_978()) return true;
+      if (jj_3R_980()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_587() {
+  private boolean jj_3R_589() {
     if (jj_scan_token(MATCH)) return true;
-    if (jj_3R_680()) return true;
+    if (jj_3R_682()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_953()) {
+      if (jj_3R_955()) {
         jj_scanpos = xsp;
         break;
       }
@@ -33264,97 +33404,97 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     xsp = jj_scanpos;
     if (jj_3_57()) {
       jj_scanpos = xsp;
-      if (jj_3R_954()) return true;
+      if (jj_3R_956()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_955()) jj_scanpos = xsp;
+    if (jj_3R_957()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_956()) {
+      if (jj_3R_958()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_957()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_958()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_959()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_960()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_961()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_962()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_963()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1026() {
+  private boolean jj_3R_1028() {
     if (jj_scan_token(BREADTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_1025() {
+  private boolean jj_3R_1027() {
     if (jj_scan_token(DEPTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_237() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_238() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_236() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_237() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_952() {
+  private boolean jj_3R_954() {
     if (jj_scan_token(STRATEGY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1025()) {
+    if (jj_3R_1027()) {
       jj_scanpos = xsp;
-      if (jj_3R_1026()) return true;
+      if (jj_3R_1028()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_951() {
-    if (jj_3R_479()) return true;
+  private boolean jj_3R_953() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_950() {
+  private boolean jj_3R_952() {
     if (jj_scan_token(WHILE)) return true;
-    if (jj_3R_474()) return true;
+    if (jj_3R_476()) return true;
     return false;
   }
 
-  private boolean jj_3R_1024() {
+  private boolean jj_3R_1026() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_822()) return true;
+    if (jj_3R_824()) return true;
     return false;
   }
 
-  private boolean jj_3R_949() {
+  private boolean jj_3R_951() {
     if (jj_scan_token(MAXDEPTH)) return true;
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_235() {
+  private boolean jj_3R_236() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_679() {
-    if (jj_3R_822()) return true;
+  private boolean jj_3R_681() {
+    if (jj_3R_824()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1024()) {
+      if (jj_3R_1026()) {
         jj_scanpos = xsp;
         break;
       }
@@ -33362,262 +33502,258 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_650() {
-    if (jj_3R_648()) return true;
+  private boolean jj_3R_652() {
+    if (jj_3R_650()) return true;
     return false;
   }
 
-  private boolean jj_3R_649() {
-    if (jj_3R_479()) return true;
+  private boolean jj_3R_651() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
   private boolean jj_3_158() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_235()) jj_scanpos = xsp;
+    if (jj_3R_236()) jj_scanpos = xsp;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(LPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_236()) {
+    if (jj_3R_237()) {
       jj_scanpos = xsp;
-      if (jj_3R_237()) return true;
+      if (jj_3R_238()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_849()) jj_scanpos = xsp;
+    if (jj_3R_851()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_850()) jj_scanpos = xsp;
+    if (jj_3R_852()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_851()) {
+      if (jj_3R_853()) {
         jj_scanpos = xsp;
         break;
       }
     }
     if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_586() {
+  private boolean jj_3R_588() {
     if (jj_scan_token(TRAVERSE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_679()) jj_scanpos = xsp;
+    if (jj_3R_681()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_263()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_949()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_950()) jj_scanpos = xsp;
+    if (jj_3R_264()) return true;
     xsp = jj_scanpos;
     if (jj_3R_951()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_952()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_953()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_954()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_86() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(INDEX)) return true;
-    if (jj_3R_545()) return true;
+    if (jj_3R_547()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_158()) {
       jj_scanpos = xsp;
-      if (jj_3R_715()) return true;
+      if (jj_3R_717()) return true;
     }
     xsp = jj_scanpos;
     if (jj_3_161()) {
       jj_scanpos = xsp;
-      if (jj_3R_716()) return true;
+      if (jj_3R_718()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_540() {
+  private boolean jj_3R_542() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_336() {
+  private boolean jj_3R_338() {
     if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
 
-  private boolean jj_3R_539() {
+  private boolean jj_3R_541() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_335() {
+  private boolean jj_3R_337() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_538() {
+  private boolean jj_3R_540() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_537() {
+  private boolean jj_3R_539() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_307() {
+  private boolean jj_3R_308() {
     if (jj_scan_token(FORCE)) return true;
     return false;
   }
 
-  private boolean jj_3R_306() {
+  private boolean jj_3R_307() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_1035() {
-    if (jj_3R_648()) return true;
+  private boolean jj_3R_1037() {
+    if (jj_3R_650()) return true;
     return false;
   }
 
-  private boolean jj_3R_535() {
-    if (jj_3R_479()) return true;
+  private boolean jj_3R_537() {
+    if (jj_3R_481()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_650()) jj_scanpos = xsp;
+    if (jj_3R_652()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_334() {
+  private boolean jj_3R_336() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_537()) {
+    if (jj_3R_539()) {
       jj_scanpos = xsp;
-      if (jj_3R_538()) {
+      if (jj_3R_540()) {
         jj_scanpos = xsp;
-        if (jj_3R_539()) {
+        if (jj_3R_541()) {
           jj_scanpos = xsp;
-          if (jj_3R_540()) return true;
+          if (jj_3R_542()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_305() {
-    if (jj_3R_170()) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_306() {
+    if (jj_3R_171()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
   private boolean jj_3R_112() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_306()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_307()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_308()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_333() {
-    if (jj_3R_480()) return true;
+  private boolean jj_3R_335() {
+    if (jj_3R_482()) return true;
     return false;
   }
 
-  private boolean jj_3R_331() {
+  private boolean jj_3R_333() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_534()) {
+    if (jj_3R_536()) {
       jj_scanpos = xsp;
-      if (jj_3R_535()) return true;
+      if (jj_3R_537()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_534() {
-    if (jj_3R_648()) return true;
+  private boolean jj_3R_536() {
+    if (jj_3R_650()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_649()) jj_scanpos = xsp;
+    if (jj_3R_651()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_332() {
-    if (jj_3R_536()) return true;
+  private boolean jj_3R_334() {
+    if (jj_3R_538()) return true;
     return false;
   }
 
-  private boolean jj_3R_1034() {
-    if (jj_3R_479()) return true;
+  private boolean jj_3R_1036() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
   private boolean jj_3_156() {
     if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_330() {
-    if (jj_3R_533()) return true;
+  private boolean jj_3R_332() {
+    if (jj_3R_535()) return true;
     return false;
   }
 
-  private boolean jj_3R_329() {
-    if (jj_3R_532()) return true;
+  private boolean jj_3R_331() {
+    if (jj_3R_534()) return true;
     return false;
   }
 
-  private boolean jj_3R_328() {
-    if (jj_3R_531()) return true;
+  private boolean jj_3R_330() {
+    if (jj_3R_533()) return true;
     return false;
   }
 
-  private boolean jj_3R_327() {
+  private boolean jj_3R_329() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_474()) return true;
+    if (jj_3R_476()) return true;
     return false;
   }
 
-  private boolean jj_3R_326() {
-    if (jj_3R_530()) return true;
+  private boolean jj_3R_328() {
+    if (jj_3R_532()) return true;
     return false;
   }
 
-  private boolean jj_3R_325() {
-    if (jj_3R_464()) return true;
+  private boolean jj_3R_327() {
+    if (jj_3R_466()) return true;
     return false;
   }
 
-  private boolean jj_3R_965() {
-    if (jj_3R_479()) return true;
+  private boolean jj_3R_967() {
+    if (jj_3R_481()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1035()) jj_scanpos = xsp;
+    if (jj_3R_1037()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_158() {
+  private boolean jj_3R_159() {
     if (jj_scan_token(SELECT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_325()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_263()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_326()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_327()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_264()) return true;
     xsp = jj_scanpos;
     if (jj_3R_328()) jj_scanpos = xsp;
     xsp = jj_scanpos;
@@ -33636,122 +33772,126 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_3R_335()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_336()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_337()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_338()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_111() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_156()) {
       jj_scanpos = xsp;
-      if (jj_3R_305()) return true;
+      if (jj_3R_306()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_964() {
-    if (jj_3R_648()) return true;
+  private boolean jj_3R_966() {
+    if (jj_3R_650()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1034()) jj_scanpos = xsp;
+    if (jj_3R_1036()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_825() {
+  private boolean jj_3R_827() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_964()) {
+    if (jj_3R_966()) {
       jj_scanpos = xsp;
-      if (jj_3R_965()) return true;
+      if (jj_3R_967()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_969() {
+  private boolean jj_3R_971() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_968() {
+  private boolean jj_3R_970() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_830() {
+  private boolean jj_3R_832() {
     if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
 
-  private boolean jj_3R_829() {
+  private boolean jj_3R_831() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_967() {
+  private boolean jj_3R_969() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_976() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_978() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_966() {
+  private boolean jj_3R_968() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_714() {
+  private boolean jj_3R_716() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_848() {
+  private boolean jj_3R_850() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_847()) return true;
+    if (jj_3R_849()) return true;
     return false;
   }
 
-  private boolean jj_3R_828() {
+  private boolean jj_3R_830() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_966()) {
+    if (jj_3R_968()) {
       jj_scanpos = xsp;
-      if (jj_3R_967()) {
+      if (jj_3R_969()) {
         jj_scanpos = xsp;
-        if (jj_3R_968()) {
+        if (jj_3R_970()) {
           jj_scanpos = xsp;
-          if (jj_3R_969()) return true;
+          if (jj_3R_971()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_712() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_714() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_827() {
-    if (jj_3R_480()) return true;
+  private boolean jj_3R_829() {
+    if (jj_3R_482()) return true;
     return false;
   }
 
-  private boolean jj_3R_713() {
+  private boolean jj_3R_715() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_847()) return true;
+    if (jj_3R_849()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_848()) {
+      if (jj_3R_850()) {
         jj_scanpos = xsp;
         break;
       }
@@ -33760,48 +33900,44 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_826() {
-    if (jj_3R_536()) return true;
+  private boolean jj_3R_828() {
+    if (jj_3R_538()) return true;
     return false;
   }
 
-  private boolean jj_3R_847() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_849() {
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_976()) jj_scanpos = xsp;
+    if (jj_3R_978()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_155() {
-    if (jj_3R_234()) return true;
+    if (jj_3R_235()) return true;
     return false;
   }
 
-  private boolean jj_3R_824() {
-    if (jj_3R_533()) return true;
+  private boolean jj_3R_826() {
+    if (jj_3R_535()) return true;
     return false;
   }
 
-  private boolean jj_3R_823() {
-    if (jj_3R_530()) return true;
+  private boolean jj_3R_825() {
+    if (jj_3R_532()) return true;
     return false;
   }
 
   private boolean jj_3_56() {
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_368() {
+  private boolean jj_3R_370() {
     if (jj_scan_token(SELECT)) return true;
-    if (jj_3R_464()) return true;
+    if (jj_3R_466()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_823()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_824()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_825()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_826()) jj_scanpos = xsp;
@@ -33813,77 +33949,81 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_3R_829()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_830()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_831()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_832()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_55() {
-    if (jj_3R_158()) return true;
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_414() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_416() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_413() {
-    if (jj_3R_587()) return true;
+  private boolean jj_3R_415() {
+    if (jj_3R_589()) return true;
     return false;
   }
 
   private boolean jj_3R_85() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_155()) jj_scanpos = xsp;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_712()) jj_scanpos = xsp;
+    if (jj_3R_714()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_713()) jj_scanpos = xsp;
+    if (jj_3R_715()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_714()) jj_scanpos = xsp;
+    if (jj_3R_716()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_412() {
-    if (jj_3R_586()) return true;
+  private boolean jj_3R_414() {
+    if (jj_3R_588()) return true;
     return false;
   }
 
-  private boolean jj_3R_411() {
-    if (jj_3R_368()) return true;
+  private boolean jj_3R_413() {
+    if (jj_3R_370()) return true;
     return false;
   }
 
-  private boolean jj_3R_410() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3R_412() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_234() {
+  private boolean jj_3R_235() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_204() {
+  private boolean jj_3R_205() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_410()) {
+    if (jj_3R_412()) {
       jj_scanpos = xsp;
-      if (jj_3R_411()) {
+      if (jj_3R_413()) {
         jj_scanpos = xsp;
-        if (jj_3R_412()) {
+        if (jj_3R_414()) {
           jj_scanpos = xsp;
-          if (jj_3R_413()) {
+          if (jj_3R_415()) {
             jj_scanpos = xsp;
-            if (jj_3R_414()) return true;
+            if (jj_3R_416()) return true;
           }
         }
       }
@@ -33891,7 +34031,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_304() {
+  private boolean jj_3R_305() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
@@ -33900,14 +34040,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   private boolean jj_3R_110() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(VIEW)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_304()) jj_scanpos = xsp;
+    if (jj_3R_305()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_303() {
+  private boolean jj_3R_304() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
@@ -33917,19 +34057,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_302() {
+  private boolean jj_3R_303() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
   private boolean jj_3_54() {
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_460() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_462() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
@@ -33938,20 +34078,20 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_509() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_511() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
   private boolean jj_3R_109() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_302()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_303()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_304()) jj_scanpos = xsp;
     return false;
   }
 
@@ -33960,13 +34100,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_246() {
-    if (jj_3R_462()) return true;
+  private boolean jj_3R_247() {
+    if (jj_3R_464()) return true;
     return false;
   }
 
-  private boolean jj_3R_511() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_513() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
@@ -33975,23 +34115,23 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_156() {
+  private boolean jj_3R_157() {
     if (jj_3R_121()) return true;
     return false;
   }
 
-  private boolean jj_3R_301() {
+  private boolean jj_3R_302() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_510() {
+  private boolean jj_3R_512() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_245() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_246() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
@@ -34000,163 +34140,168 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_508() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_510() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_244() {
-    if (jj_3R_461()) return true;
+  private boolean jj_3R_245() {
+    if (jj_3R_463()) return true;
     return false;
   }
 
-  private boolean jj_3R_155() {
+  private boolean jj_3R_156() {
     if (jj_3R_120()) return true;
     return false;
   }
 
-  private boolean jj_3R_154() {
+  private boolean jj_3R_155() {
     if (jj_3R_119()) return true;
     return false;
   }
 
-  private boolean jj_3R_153() {
+  private boolean jj_3R_154() {
     if (jj_3R_118()) return true;
     return false;
   }
 
-  private boolean jj_3R_507() {
-    if (jj_3R_601()) return true;
+  private boolean jj_3R_509() {
+    if (jj_3R_603()) return true;
     return false;
   }
 
-  private boolean jj_3R_300() {
+  private boolean jj_3R_301() {
     if (jj_scan_token(DEFAULTCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_510()) {
+    if (jj_3R_512()) {
       jj_scanpos = xsp;
-      if (jj_3R_511()) return true;
+      if (jj_3R_513()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_506() {
-    if (jj_scan_token(273)) return true;
+  private boolean jj_3R_508() {
+    if (jj_scan_token(274)) return true;
     return false;
   }
 
-  private boolean jj_3R_152() {
+  private boolean jj_3R_153() {
     if (jj_3R_117()) return true;
     return false;
   }
 
-  private boolean jj_3R_299() {
+  private boolean jj_3R_300() {
     if (jj_scan_token(ENCRYPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_509()) {
+    if (jj_3R_511()) {
       jj_scanpos = xsp;
       if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_505() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_507() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_151() {
-    if (jj_3R_324()) return true;
+  private boolean jj_3R_152() {
+    if (jj_3R_326()) return true;
     return false;
   }
 
-  private boolean jj_3R_150() {
-    if (jj_3R_323()) return true;
+  private boolean jj_3R_151() {
+    if (jj_3R_325()) return true;
     return false;
   }
 
-  private boolean jj_3R_149() {
-    if (jj_3R_322()) return true;
+  private boolean jj_3R_150() {
+    if (jj_3R_324()) return true;
     return false;
   }
 
-  private boolean jj_3R_148() {
-    if (jj_3R_321()) return true;
+  private boolean jj_3R_149() {
+    if (jj_3R_323()) return true;
     return false;
   }
 
-  private boolean jj_3R_298() {
+  private boolean jj_3R_299() {
     if (jj_scan_token(DESCRIPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_508()) {
+    if (jj_3R_510()) {
       jj_scanpos = xsp;
       if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_147() {
-    if (jj_3R_320()) return true;
+  private boolean jj_3R_148() {
+    if (jj_3R_322()) return true;
     return false;
   }
 
-  private boolean jj_3R_504() {
+  private boolean jj_3R_506() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_146() {
-    if (jj_3R_319()) return true;
+  private boolean jj_3R_147() {
+    if (jj_3R_321()) return true;
     return false;
   }
 
-  private boolean jj_3R_145() {
-    if (jj_3R_318()) return true;
+  private boolean jj_3R_146() {
+    if (jj_3R_320()) return true;
     return false;
   }
 
-  private boolean jj_3R_503() {
+  private boolean jj_3R_505() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_144() {
-    if (jj_3R_317()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_143() {
-    if (jj_3R_316()) return true;
+  private boolean jj_3R_145() {
+    if (jj_3R_319()) return true;
     return false;
   }
 
-  private boolean jj_3_45() {
-    if (jj_3R_114()) return true;
+  private boolean jj_3R_144() {
+    if (jj_3R_318()) return true;
     return false;
   }
 
-  private boolean jj_3R_142() {
-    if (jj_3R_315()) return true;
+  private boolean jj_3R_143() {
+    if (jj_3R_317()) return true;
     return false;
   }
 
-  private boolean jj_3R_297() {
+  private boolean jj_3R_298() {
     if (jj_scan_token(CLUSTERSELECTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_505()) {
+    if (jj_3R_507()) {
       jj_scanpos = xsp;
-      if (jj_3R_506()) {
+      if (jj_3R_508()) {
         jj_scanpos = xsp;
-        if (jj_3R_507()) return true;
+        if (jj_3R_509()) return true;
       }
     }
     return false;
   }
 
+  private boolean jj_3_45() {
+    if (jj_3R_114()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_142() {
+    if (jj_3R_316()) return true;
+    return false;
+  }
+
   private boolean jj_3_47() {
     if (jj_3R_116()) return true;
     return false;
@@ -34167,13 +34312,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
+  private boolean jj_3R_504() {
+    if (jj_3R_72()) return true;
+    return false;
+  }
+
   private boolean jj_3_43() {
     if (jj_3R_112()) return true;
     return false;
   }
 
-  private boolean jj_3R_502() {
-    if (jj_3R_72()) return true;
+  private boolean jj_3R_503() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
@@ -34187,8 +34337,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_501() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_297() {
+    if (jj_scan_token(ABSTRACT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_505()) {
+      jj_scanpos = xsp;
+      if (jj_3R_506()) return true;
+    }
     return false;
   }
 
@@ -34202,19 +34358,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_296() {
-    if (jj_scan_token(ABSTRACT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_503()) {
-      jj_scanpos = xsp;
-      if (jj_3R_504()) return true;
-    }
+  private boolean jj_3R_140() {
+    if (jj_3R_315()) return true;
     return false;
   }
 
-  private boolean jj_3R_140() {
-    if (jj_3R_314()) return true;
+  private boolean jj_3R_502() {
+    if (jj_3R_72()) return true;
     return false;
   }
 
@@ -34228,13 +34378,16 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_500() {
-    if (jj_3R_72()) return true;
+  private boolean jj_3R_501() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_499() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_296() {
+    if (jj_scan_token(CUSTOM)) return true;
+    if (jj_3R_171()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
@@ -34243,14 +34396,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_295() {
-    if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_160()) return true;
-    return false;
-  }
-
   private boolean jj_3_38() {
     if (jj_3R_107()) return true;
     return false;
@@ -34266,50 +34411,50 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_36() {
-    if (jj_3R_105()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_498() {
+  private boolean jj_3R_500() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3_39() {
-    if (jj_3R_108()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_294() {
+  private boolean jj_3R_295() {
     if (jj_scan_token(REMOVECLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_501()) {
+    if (jj_3R_503()) {
       jj_scanpos = xsp;
-      if (jj_3R_502()) return true;
+      if (jj_3R_504()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_35() {
-    if (jj_3R_104()) return true;
+  private boolean jj_3_36() {
+    if (jj_3R_105()) return true;
     return false;
   }
 
-  private boolean jj_3R_135() {
-    if (jj_3R_107()) return true;
+  private boolean jj_3_39() {
+    if (jj_3R_108()) return true;
     return false;
   }
 
-  private boolean jj_3R_497() {
+  private boolean jj_3R_499() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_637() {
+  private boolean jj_3_35() {
+    if (jj_3R_104()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_639() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_135() {
+    if (jj_3R_107()) return true;
     return false;
   }
 
@@ -34323,6 +34468,17 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
+  private boolean jj_3R_294() {
+    if (jj_scan_token(ADDCLUSTER)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_501()) {
+      jj_scanpos = xsp;
+      if (jj_3R_502()) return true;
+    }
+    return false;
+  }
+
   private boolean jj_3_33() {
     if (jj_3R_102()) return true;
     return false;
@@ -34333,17 +34489,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_293() {
-    if (jj_scan_token(ADDCLUSTER)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_499()) {
-      jj_scanpos = xsp;
-      if (jj_3R_500()) return true;
-    }
-    return false;
-  }
-
   private boolean jj_3R_133() {
     if (jj_3R_104()) return true;
     return false;
@@ -34354,13 +34499,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_132() {
-    if (jj_3R_103()) return true;
+  private boolean jj_3R_497() {
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_495() {
-    if (jj_scan_token(NULL)) return true;
+  private boolean jj_3R_132() {
+    if (jj_3R_103()) return true;
     return false;
   }
 
@@ -34380,37 +34525,27 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3R_130() {
-    if (jj_3R_313()) return true;
-    return false;
-  }
-
-  private boolean jj_3_29() {
-    if (jj_3R_98()) return true;
+    if (jj_3R_314()) return true;
     return false;
   }
 
-  private boolean jj_3R_292() {
+  private boolean jj_3R_293() {
     if (jj_scan_token(STRICTMODE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_497()) {
+    if (jj_3R_499()) {
       jj_scanpos = xsp;
-      if (jj_3R_498()) return true;
+      if (jj_3R_500()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_129() {
-    if (jj_3R_101()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_494() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_496() {
+    if (jj_3R_171()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_637()) {
+      if (jj_3R_639()) {
         jj_scanpos = xsp;
         break;
       }
@@ -34418,19 +34553,29 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
+  private boolean jj_3_29() {
+    if (jj_3R_98()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_129() {
+    if (jj_3R_101()) return true;
+    return false;
+  }
+
   private boolean jj_3_28() {
     if (jj_3R_97()) return true;
     return false;
   }
 
-  private boolean jj_3R_128() {
-    if (jj_3R_100()) return true;
+  private boolean jj_3R_292() {
+    if (jj_scan_token(OVERSIZE)) return true;
+    if (jj_3R_498()) return true;
     return false;
   }
 
-  private boolean jj_3R_291() {
-    if (jj_scan_token(OVERSIZE)) return true;
-    if (jj_3R_496()) return true;
+  private boolean jj_3R_128() {
+    if (jj_3R_100()) return true;
     return false;
   }
 
@@ -34444,13 +34589,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
+  private boolean jj_3R_495() {
+    if (jj_scan_token(NULL)) return true;
+    return false;
+  }
+
   private boolean jj_3R_126() {
     if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_493() {
-    if (jj_scan_token(NULL)) return true;
+  private boolean jj_3R_494() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
@@ -34459,17 +34609,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_492() {
-    if (jj_3R_170()) return true;
-    return false;
-  }
-
   private boolean jj_3R_124() {
     if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3R_636() {
+  private boolean jj_3R_638() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
@@ -34479,37 +34624,37 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_25() {
-    if (jj_3R_94()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_491() {
+  private boolean jj_3R_493() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_635()) {
+    if (jj_3R_637()) {
       jj_scanpos = xsp;
-      if (jj_3R_636()) return true;
+      if (jj_3R_638()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_635() {
+  private boolean jj_3R_637() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_290() {
+  private boolean jj_3R_291() {
     if (jj_scan_token(SUPERCLASSES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_494()) {
+    if (jj_3R_496()) {
       jj_scanpos = xsp;
-      if (jj_3R_495()) return true;
+      if (jj_3R_497()) return true;
     }
     return false;
   }
 
+  private boolean jj_3_25() {
+    if (jj_3R_94()) return true;
+    return false;
+  }
+
   private boolean jj_3_24() {
     if (jj_3R_93()) return true;
     return false;
@@ -34520,13 +34665,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_22() {
-    if (jj_3R_91()) return true;
+  private boolean jj_3R_492() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_490() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3_22() {
+    if (jj_3R_91()) return true;
     return false;
   }
 
@@ -34540,24 +34685,24 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_19() {
-    if (jj_3R_88()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_289() {
+  private boolean jj_3R_290() {
     if (jj_scan_token(SUPERCLASS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_491()) jj_scanpos = xsp;
+    if (jj_3R_493()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_492()) {
+    if (jj_3R_494()) {
       jj_scanpos = xsp;
-      if (jj_3R_493()) return true;
+      if (jj_3R_495()) return true;
     }
     return false;
   }
 
+  private boolean jj_3_19() {
+    if (jj_3R_88()) return true;
+    return false;
+  }
+
   private boolean jj_3_18() {
     if (jj_3R_87()) return true;
     return false;
@@ -34568,40 +34713,40 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_16() {
-    if (jj_3R_85()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_288() {
+  private boolean jj_3R_289() {
     if (jj_scan_token(SHORTNAME)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_490()) {
+    if (jj_3R_492()) {
       jj_scanpos = xsp;
       if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
+  private boolean jj_3_16() {
+    if (jj_3R_85()) return true;
+    return false;
+  }
+
   private boolean jj_3_15() {
     if (jj_3R_84()) return true;
     return false;
   }
 
-  private boolean jj_3_14() {
-    if (jj_3R_83()) return true;
+  private boolean jj_3R_288() {
+    if (jj_scan_token(NAME)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_287() {
-    if (jj_scan_token(NAME)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3_14() {
+    if (jj_3R_83()) return true;
     return false;
   }
 
   private boolean jj_3R_123() {
-    if (jj_3R_312()) return true;
+    if (jj_3R_313()) return true;
     return false;
   }
 
@@ -34615,44 +34760,39 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_11() {
-    if (jj_3R_80()) return true;
-    return false;
-  }
-
   private boolean jj_3R_107() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_287()) {
+    if (jj_3R_288()) {
       jj_scanpos = xsp;
-      if (jj_3R_288()) {
+      if (jj_3R_289()) {
         jj_scanpos = xsp;
-        if (jj_3R_289()) {
+        if (jj_3R_290()) {
           jj_scanpos = xsp;
-          if (jj_3R_290()) {
+          if (jj_3R_291()) {
             jj_scanpos = xsp;
-            if (jj_3R_291()) {
+            if (jj_3R_292()) {
               jj_scanpos = xsp;
-              if (jj_3R_292()) {
+              if (jj_3R_293()) {
                 jj_scanpos = xsp;
-                if (jj_3R_293()) {
+                if (jj_3R_294()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_294()) {
+                  if (jj_3R_295()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_295()) {
+                    if (jj_3R_296()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_296()) {
+                      if (jj_3R_297()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_297()) {
+                        if (jj_3R_298()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_298()) {
+                          if (jj_3R_299()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_299()) {
+                            if (jj_3R_300()) {
                               jj_scanpos = xsp;
-                              if (jj_3R_300()) return true;
+                              if (jj_3R_301()) return true;
                             }
                           }
                         }
@@ -34667,29 +34807,34 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_301()) jj_scanpos = xsp;
+    if (jj_3R_302()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3_11() {
+    if (jj_3R_80()) return true;
     return false;
   }
 
   private boolean jj_3R_122() {
-    if (jj_3R_204()) return true;
+    if (jj_3R_205()) return true;
     return false;
   }
 
-  private boolean jj_3R_711() {
+  private boolean jj_3R_713() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_238()) return true;
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_710() {
+  private boolean jj_3R_712() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_846() {
+  private boolean jj_3R_848() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_72()) return true;
     return false;
@@ -34824,8 +34969,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                                                                 if (jj_3R_155()) {
                                                                                                                   jj_scanpos =
                                                                                                                       xsp;
-                                                                                                                  if (jj_3R_156())
-                                                                                                                    return true;
+                                                                                                                  if (jj_3R_156()) {
+                                                                                                                    jj_scanpos =
+                                                                                                                        xsp;
+                                                                                                                    if (jj_3R_157())
+                                                                                                                      return true;
+                                                                                                                  }
                                                                                                                 }
                                                                                                               }
                                                                                                             }
@@ -34884,9 +35033,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_845() {
+  private boolean jj_3R_847() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_711() {
+    if (jj_scan_token(ABSTRACT)) return true;
     return false;
   }
 
@@ -34900,11 +35054,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     xsp = jj_scanpos;
     if (jj_3_53()) {
       jj_scanpos = xsp;
-      if (jj_3R_244()) {
+      if (jj_3R_245()) {
         jj_scanpos = xsp;
-        if (jj_3R_245()) {
+        if (jj_3R_246()) {
           jj_scanpos = xsp;
-          if (jj_3R_246()) return true;
+          if (jj_3R_247()) return true;
         }
       }
     }
@@ -34912,17 +35066,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3R_709() {
-    if (jj_scan_token(ABSTRACT)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_707() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_3R_72()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_846()) {
+      if (jj_3R_848()) {
         jj_scanpos = xsp;
         break;
       }
@@ -34930,7 +35079,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_708() {
+  private boolean jj_3R_710() {
     if (jj_scan_token(CLUSTERS)) return true;
     if (jj_3R_72()) return true;
     return false;
@@ -34939,31 +35088,31 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   private boolean jj_3R_84() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VIEW)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_710()) jj_scanpos = xsp;
+    if (jj_3R_712()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_204()) return true;
+    if (jj_3R_205()) return true;
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_711()) jj_scanpos = xsp;
+    if (jj_3R_713()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_242() {
-    if (jj_3R_460()) return true;
+  private boolean jj_3R_243() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3R_706() {
+  private boolean jj_3R_708() {
     if (jj_scan_token(EXTENDS)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_845()) {
+      if (jj_3R_847()) {
         jj_scanpos = xsp;
         break;
       }
@@ -34971,7 +35120,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_241() {
+  private boolean jj_3R_242() {
     if (jj_3R_79()) return true;
     return false;
   }
@@ -34979,54 +35128,54 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   private boolean jj_3R_73() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_241()) {
+    if (jj_3R_242()) {
       jj_scanpos = xsp;
-      if (jj_3R_242()) return true;
+      if (jj_3R_243()) return true;
     }
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_705() {
+  private boolean jj_3R_707() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_654() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_656() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_653() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_655() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_239() {
+  private boolean jj_3R_240() {
     if (jj_3R_79()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(198)) jj_scanpos = xsp;
+    if (jj_scan_token(199)) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_83() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_705()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_706()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_707()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_708()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_709()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_710()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_711()) jj_scanpos = xsp;
     return false;
   }
 
@@ -35045,13 +35194,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_543() {
+  private boolean jj_3R_545() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_653()) {
+    if (jj_3R_655()) {
       jj_scanpos = xsp;
-      if (jj_3R_654()) return true;
+      if (jj_3R_656()) return true;
     }
     return false;
   }
@@ -35066,43 +35215,38 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_4() {
-    if (jj_3R_72()) return true;
+  private boolean jj_3R_544() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_542() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3_4() {
+    if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_634() {
+  private boolean jj_3R_636() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_174()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_541() {
-    if (jj_3R_170()) return true;
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_639() {
-    if (jj_3R_74()) return true;
+  private boolean jj_3R_543() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_339() {
+  private boolean jj_3R_341() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_541()) {
+    if (jj_3R_543()) {
       jj_scanpos = xsp;
-      if (jj_3R_542()) return true;
+      if (jj_3R_544()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_543()) {
+      if (jj_3R_545()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35111,17 +35255,17 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_638() {
-    if (jj_3R_72()) return true;
+  private boolean jj_3R_641() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_489() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_491() {
+    if (jj_3R_175()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_634()) {
+      if (jj_3R_636()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35129,70 +35273,75 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_496() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_638()) {
-      jj_scanpos = xsp;
-      if (jj_3R_639()) return true;
-    }
+  private boolean jj_3R_640() {
+    if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_338() {
+  private boolean jj_3R_340() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_79()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_243() {
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3R_498() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_640()) {
+      jj_scanpos = xsp;
+      if (jj_3R_641()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_337() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_339() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_159() {
+  private boolean jj_3R_244() {
+    if (jj_scan_token(MINUS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_160() {
     if (jj_scan_token(FIND)) return true;
     if (jj_scan_token(REFERENCES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_337()) {
+    if (jj_3R_339()) {
       jj_scanpos = xsp;
-      if (jj_3R_338()) return true;
+      if (jj_3R_340()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_339()) jj_scanpos = xsp;
+    if (jj_3R_341()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_74() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_243()) jj_scanpos = xsp;
+    if (jj_3R_244()) jj_scanpos = xsp;
     if (jj_scan_token(FLOATING_POINT_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_286() {
+  private boolean jj_3R_287() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_489()) jj_scanpos = xsp;
+    if (jj_3R_491()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_285() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_286() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_240() {
+  private boolean jj_3R_241() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
@@ -35202,32 +35351,32 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(RECORD)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_285()) {
+    if (jj_3R_286()) {
       jj_scanpos = xsp;
-      if (jj_3R_286()) return true;
+      if (jj_3R_287()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_283() {
+  private boolean jj_3R_284() {
     if (jj_3R_72()) return true;
     return false;
   }
 
+  private boolean jj_3R_283() {
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
   private boolean jj_3R_72() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_240()) jj_scanpos = xsp;
+    if (jj_3R_241()) jj_scanpos = xsp;
     if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_282() {
-    if (jj_3R_170()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_284() {
+  private boolean jj_3R_285() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
@@ -35237,26 +35386,26 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_282()) {
+    if (jj_3R_283()) {
       jj_scanpos = xsp;
-      if (jj_3R_283()) return true;
+      if (jj_3R_284()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_284()) jj_scanpos = xsp;
+    if (jj_3R_285()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_281() {
+  private boolean jj_3R_282() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_280() {
+  private boolean jj_3R_281() {
     if (jj_scan_token(POLYMORPHIC)) return true;
     return false;
   }
 
-  private boolean jj_3R_279() {
+  private boolean jj_3R_280() {
     if (jj_scan_token(OFF)) return true;
     return false;
   }
@@ -35264,16 +35413,16 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   private boolean jj_3R_103() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_280()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_281()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_282()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_278() {
+  private boolean jj_3R_279() {
     if (jj_scan_token(ON)) return true;
     return false;
   }
@@ -35283,227 +35432,234 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(STORAGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_278()) {
+    if (jj_3R_279()) {
       jj_scanpos = xsp;
-      if (jj_3R_279()) return true;
+      if (jj_3R_280()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_610() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_612() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_459() {
-    if (jj_3R_451()) return true;
+  private boolean jj_3R_461() {
+    if (jj_3R_453()) return true;
     return false;
   }
 
-  private boolean jj_3R_458() {
+  private boolean jj_3R_460() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_610()) jj_scanpos = xsp;
+    if (jj_3R_612()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_233() {
+  private boolean jj_3R_234() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_458()) {
+    if (jj_3R_460()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(219)) return true;
+      if (jj_scan_token(220)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_459()) jj_scanpos = xsp;
+    if (jj_3R_461()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_609() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_611() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_457() {
-    if (jj_3R_451()) return true;
+  private boolean jj_3R_459() {
+    if (jj_3R_453()) return true;
     return false;
   }
 
-  private boolean jj_3R_456() {
+  private boolean jj_3R_458() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_609()) jj_scanpos = xsp;
+    if (jj_3R_611()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_232() {
+  private boolean jj_3R_233() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_456()) {
+    if (jj_3R_458()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(219)) return true;
+      if (jj_scan_token(220)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_457()) jj_scanpos = xsp;
+    if (jj_3R_459()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_608() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_610() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_455() {
-    if (jj_3R_451()) return true;
+  private boolean jj_3R_457() {
+    if (jj_3R_453()) return true;
     return false;
   }
 
-  private boolean jj_3R_454() {
+  private boolean jj_3R_456() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_608()) jj_scanpos = xsp;
+    if (jj_3R_610()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_231() {
+  private boolean jj_3R_232() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_454()) {
+    if (jj_3R_456()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(219)) return true;
+      if (jj_scan_token(220)) return true;
     }
     if (jj_scan_token(GT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_455()) jj_scanpos = xsp;
+    if (jj_3R_457()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_607() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_609() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_452() {
+  private boolean jj_3R_454() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_607()) jj_scanpos = xsp;
+    if (jj_3R_609()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_230() {
+  private boolean jj_3R_231() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_452()) {
+    if (jj_3R_454()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(219)) return true;
+      if (jj_scan_token(220)) return true;
     }
-    if (jj_3R_451()) return true;
+    if (jj_3R_453()) return true;
     return false;
   }
 
-  private boolean jj_3R_1084() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_1086() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_1081() {
+  private boolean jj_3R_1083() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1084()) jj_scanpos = xsp;
+    if (jj_3R_1086()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_1076() {
+  private boolean jj_3R_1078() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1081()) {
+    if (jj_3R_1083()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(219)) return true;
+      if (jj_scan_token(220)) return true;
     }
-    if (jj_3R_451()) return true;
+    if (jj_3R_453()) return true;
     return false;
   }
 
-  private boolean jj_3R_605() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_607() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_450() {
+  private boolean jj_3R_452() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_605()) jj_scanpos = xsp;
+    if (jj_3R_607()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_229() {
+  private boolean jj_3R_230() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_450()) {
+    if (jj_3R_452()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(219)) return true;
+      if (jj_scan_token(220)) return true;
     }
     if (jj_scan_token(GT)) return true;
-    if (jj_3R_451()) return true;
+    if (jj_3R_453()) return true;
     return false;
   }
 
-  private boolean jj_3R_975() {
+  private boolean jj_3R_977() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_844() {
+  private boolean jj_3R_846() {
     if (jj_scan_token(PATH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_974() {
+  private boolean jj_3R_976() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_843() {
+  private boolean jj_3R_845() {
     if (jj_scan_token(DEPTH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_842() {
+  private boolean jj_3R_844() {
     if (jj_scan_token(OPTIONAL)) return true;
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_974()) {
+    if (jj_3R_976()) {
       jj_scanpos = xsp;
-      if (jj_3R_975()) return true;
+      if (jj_3R_977()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_170() {
+  private boolean jj_3R_843() {
+    if (jj_scan_token(MAXDEPTH)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_72()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_171() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(260)) {
+    if (jj_scan_token(261)) {
       jj_scanpos = xsp;
-      if (jj_scan_token(246)) {
+      if (jj_scan_token(247)) {
         jj_scanpos = xsp;
         if (jj_scan_token(28)) {
           jj_scanpos = xsp;
@@ -35519,7 +35675,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     jj_scanpos = xsp;
                     if (jj_scan_token(39)) {
                       jj_scanpos = xsp;
-                      if (jj_scan_token(257)) {
+                      if (jj_scan_token(258)) {
                         jj_scanpos = xsp;
                         if (jj_scan_token(45)) {
                           jj_scanpos = xsp;
@@ -35774,23 +35930,23 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                                                                                                                                   jj_scanpos =
                                                                                                                                                                                       xsp;
                                                                                                                                                                                   if (jj_scan_token(
-                                                                                                                                                                                      59)) {
+                                                                                                                                                                                      143)) {
                                                                                                                                                                                     jj_scanpos =
                                                                                                                                                                                         xsp;
                                                                                                                                                                                     if (jj_scan_token(
-                                                                                                                                                                                        60)) {
+                                                                                                                                                                                        59)) {
                                                                                                                                                                                       jj_scanpos =
                                                                                                                                                                                           xsp;
                                                                                                                                                                                       if (jj_scan_token(
-                                                                                                                                                                                          62)) {
+                                                                                                                                                                                          60)) {
                                                                                                                                                                                         jj_scanpos =
                                                                                                                                                                                             xsp;
                                                                                                                                                                                         if (jj_scan_token(
-                                                                                                                                                                                            63)) {
+                                                                                                                                                                                            62)) {
                                                                                                                                                                                           jj_scanpos =
                                                                                                                                                                                               xsp;
                                                                                                                                                                                           if (jj_scan_token(
-                                                                                                                                                                                              143)) {
+                                                                                                                                                                                              63)) {
                                                                                                                                                                                             jj_scanpos =
                                                                                                                                                                                                 xsp;
                                                                                                                                                                                             if (jj_scan_token(
@@ -35802,7 +35958,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                                                                                                                                                 jj_scanpos =
                                                                                                                                                                                                     xsp;
                                                                                                                                                                                                 if (jj_scan_token(
-                                                                                                                                                                                                    147)) {
+                                                                                                                                                                                                    146)) {
                                                                                                                                                                                                   jj_scanpos =
                                                                                                                                                                                                       xsp;
                                                                                                                                                                                                   if (jj_scan_token(
@@ -35822,7 +35978,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                                                                                                                                                           jj_scanpos =
                                                                                                                                                                                                               xsp;
                                                                                                                                                                                                           if (jj_scan_token(
-                                                                                                                                                                                                              153)) {
+                                                                                                                                                                                                              152)) {
                                                                                                                                                                                                             jj_scanpos =
                                                                                                                                                                                                                 xsp;
                                                                                                                                                                                                             if (jj_scan_token(
@@ -35854,11 +36010,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                                                                                                                                                                           jj_scanpos =
                                                                                                                                                                                                                               xsp;
                                                                                                                                                                                                                           if (jj_scan_token(
-                                                                                                                                                                                                                              163)) {
+                                                                                                                                                                                                                              161)) {
                                                                                                                                                                                                                             jj_scanpos =
                                                                                                                                                                                                                                 xsp;
                                                                                                                                                                                                                             if (jj_scan_token(
-                                                                                                                                                                                                                                161)) {
+                                                                                                                                                                                                                                164)) {
                                                                                                                                                                                                                               jj_scanpos =
                                                                                                                                                                                                                                   xsp;
                                                                                                                                                                                                                               if (jj_scan_token(
@@ -35866,12 +36022,17 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                                                                                                                                                                                 jj_scanpos =
                                                                                                                                                                                                                                     xsp;
                                                                                                                                                                                                                                 if (jj_scan_token(
-                                                                                                                                                                                                                                    164)) {
+                                                                                                                                                                                                                                    163)) {
                                                                                                                                                                                                                                   jj_scanpos =
                                                                                                                                                                                                                                       xsp;
                                                                                                                                                                                                                                   if (jj_scan_token(
-                                                                                                                                                                                                                                      261))
-                                                                                                                                                                                                                                    return true;
+                                                                                                                                                                                                                                      165)) {
+                                                                                                                                                                                                                                    jj_scanpos =
+                                                                                                                                                                                                                                        xsp;
+                                                                                                                                                                                                                                    if (jj_scan_token(
+                                                                                                                                                                                                                                        262))
+                                                                                                                                                                                                                                      return true;
+                                                                                                                                                                                                                                  }
                                                                                                                                                                                                                                 }
                                                                                                                                                                                                                               }
                                                                                                                                                                                                                             }
@@ -35986,148 +36147,141 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_841() {
-    if (jj_scan_token(MAXDEPTH)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_72()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_840() {
+  private boolean jj_3R_842() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_474()) return true;
+    if (jj_3R_476()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_601() {
+  private boolean jj_3R_603() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(187)) {
+    if (jj_scan_token(188)) {
       jj_scanpos = xsp;
-      if (jj_scan_token(168)) return true;
+      if (jj_scan_token(169)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_839() {
+  private boolean jj_3R_841() {
     if (jj_scan_token(WHERE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_474()) return true;
+    if (jj_3R_476()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_973() {
+  private boolean jj_3R_975() {
     if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_838() {
+  private boolean jj_3R_840() {
     if (jj_scan_token(AS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_972() {
+  private boolean jj_3R_974() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_837() {
+  private boolean jj_3R_839() {
     if (jj_scan_token(RID)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_174()) return true;
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3_3() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_973() {
+    if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_971() {
-    if (jj_3R_72()) return true;
+  private boolean jj_3_3() {
+    if (jj_3R_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_970() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_972() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_836() {
+  private boolean jj_3R_838() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_972()) {
+    if (jj_3R_974()) {
       jj_scanpos = xsp;
-      if (jj_3R_973()) return true;
+      if (jj_3R_975()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_835() {
+  private boolean jj_3R_837() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_970()) {
+    if (jj_3R_972()) {
       jj_scanpos = xsp;
-      if (jj_3R_971()) return true;
+      if (jj_3R_973()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_834() {
+  private boolean jj_3R_836() {
     if (jj_scan_token(CLASSES)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_695() {
+  private boolean jj_3R_697() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_694()) return true;
+    if (jj_3R_696()) return true;
     return false;
   }
 
-  private boolean jj_3R_833() {
+  private boolean jj_3R_835() {
     if (jj_scan_token(CLASS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_694() {
+  private boolean jj_3R_696() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_833()) {
+    if (jj_3R_835()) {
       jj_scanpos = xsp;
-      if (jj_3R_834()) {
+      if (jj_3R_836()) {
         jj_scanpos = xsp;
-        if (jj_3R_835()) {
+        if (jj_3R_837()) {
           jj_scanpos = xsp;
-          if (jj_3R_836()) {
+          if (jj_3R_838()) {
             jj_scanpos = xsp;
-            if (jj_3R_837()) {
+            if (jj_3R_839()) {
               jj_scanpos = xsp;
-              if (jj_3R_838()) {
+              if (jj_3R_840()) {
                 jj_scanpos = xsp;
-                if (jj_3R_839()) {
+                if (jj_3R_841()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_840()) {
+                  if (jj_3R_842()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_841()) {
+                    if (jj_3R_843()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_842()) {
+                      if (jj_3R_844()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_843()) {
+                        if (jj_3R_845()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_844()) return true;
+                          if (jj_3R_846()) return true;
                         }
                       }
                     }
@@ -36142,12 +36296,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_606() {
-    if (jj_3R_694()) return true;
+  private boolean jj_3R_608() {
+    if (jj_3R_696()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_695()) {
+      if (jj_3R_697()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36156,45 +36310,50 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3_154() {
-    if (jj_3R_233()) return true;
+    if (jj_3R_234()) return true;
     return false;
   }
 
   private boolean jj_3_153() {
+    if (jj_3R_233()) return true;
+    return false;
+  }
+
+  private boolean jj_3_152() {
     if (jj_3R_232()) return true;
     return false;
   }
 
-  private boolean jj_3R_373() {
+  private boolean jj_3R_453() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(167)) {
-      jj_scanpos = xsp;
-      if (jj_scan_token(168)) return true;
-    }
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_608()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3_152() {
-    if (jj_3R_231()) return true;
+  private boolean jj_3R_1080() {
+    if (jj_3R_453()) return true;
     return false;
   }
 
-  private boolean jj_3R_451() {
+  private boolean jj_3R_375() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_606()) jj_scanpos = xsp;
+    if (jj_scan_token(168)) {
+      jj_scanpos = xsp;
+      if (jj_scan_token(169)) return true;
+    }
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_161()) return true;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1078() {
-    if (jj_3R_451()) return true;
+  private boolean jj_3R_606() {
+    if (jj_3R_234()) return true;
     return false;
   }
 
@@ -36205,192 +36364,187 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_604() {
+  private boolean jj_3R_605() {
     if (jj_3R_233()) return true;
     return false;
   }
 
   private boolean jj_3_1() {
-    if (jj_scan_token(271)) return true;
+    if (jj_scan_token(272)) return true;
     if (jj_3R_72()) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_603() {
+  private boolean jj_3R_604() {
     if (jj_3R_232()) return true;
     return false;
   }
 
-  private boolean jj_3R_602() {
-    if (jj_3R_231()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_174() {
+  private boolean jj_3R_450() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1()) {
+    if (jj_3R_604()) {
       jj_scanpos = xsp;
-      if (jj_3_2()) {
+      if (jj_3R_605()) {
         jj_scanpos = xsp;
-        if (jj_3R_373()) return true;
+        if (jj_3R_606()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_448() {
+  private boolean jj_3R_175() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_602()) {
+    if (jj_3_1()) {
       jj_scanpos = xsp;
-      if (jj_3R_603()) {
+      if (jj_3_2()) {
         jj_scanpos = xsp;
-        if (jj_3R_604()) return true;
+        if (jj_3R_375()) return true;
       }
     }
     return false;
   }
 
   private boolean jj_3_151() {
-    if (jj_3R_226()) return true;
+    if (jj_3R_227()) return true;
     return false;
   }
 
-  private boolean jj_3R_227() {
+  private boolean jj_3R_228() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
-    if (jj_3R_448()) return true;
+    if (jj_3R_450()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_448()) {
+      if (jj_3R_450()) {
         jj_scanpos = xsp;
         break;
       }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1078()) jj_scanpos = xsp;
+    if (jj_3R_1080()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1080() {
-    if (jj_3R_451()) return true;
+  private boolean jj_3R_1082() {
+    if (jj_3R_453()) return true;
     return false;
   }
 
-  private boolean jj_3R_1079() {
-    if (jj_3R_226()) return true;
+  private boolean jj_3R_1081() {
+    if (jj_3R_227()) return true;
     return false;
   }
 
-  private boolean jj_3R_228() {
+  private boolean jj_3R_229() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_449()) return true;
+    if (jj_3R_451()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1079()) {
+      if (jj_3R_1081()) {
         jj_scanpos = xsp;
         break;
       }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1080()) jj_scanpos = xsp;
+    if (jj_3R_1082()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1083() {
-    if (jj_3R_451()) return true;
+  private boolean jj_3R_1085() {
+    if (jj_3R_453()) return true;
     return false;
   }
 
-  private boolean jj_3R_449() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_451() {
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1083()) jj_scanpos = xsp;
+    if (jj_3R_1085()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1082() {
-    if (jj_3R_451()) return true;
+  private boolean jj_3R_1084() {
+    if (jj_3R_453()) return true;
     return false;
   }
 
-  private boolean jj_3R_1077() {
+  private boolean jj_3R_1079() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1082()) jj_scanpos = xsp;
+    if (jj_3R_1084()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_150() {
-    if (jj_3R_230()) return true;
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_453() {
-    if (jj_3R_451()) return true;
+  private boolean jj_3R_455() {
+    if (jj_3R_453()) return true;
     return false;
   }
 
   private boolean jj_3_149() {
-    if (jj_3R_229()) return true;
+    if (jj_3R_230()) return true;
     return false;
   }
 
-  private boolean jj_3R_1065() {
-    if (jj_3R_1077()) return true;
+  private boolean jj_3R_1067() {
+    if (jj_3R_1079()) return true;
     return false;
   }
 
-  private boolean jj_3R_226() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_227() {
+    if (jj_3R_186()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_453()) jj_scanpos = xsp;
+    if (jj_3R_455()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1064() {
-    if (jj_3R_230()) return true;
+  private boolean jj_3R_1066() {
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_1063() {
-    if (jj_3R_1076()) return true;
+  private boolean jj_3R_1065() {
+    if (jj_3R_1078()) return true;
     return false;
   }
 
-  private boolean jj_3R_1062() {
-    if (jj_3R_229()) return true;
+  private boolean jj_3R_1064() {
+    if (jj_3R_230()) return true;
     return false;
   }
 
   private boolean jj_3_148() {
-    if (jj_3R_228()) return true;
+    if (jj_3R_229()) return true;
     return false;
   }
 
   private boolean jj_3_147() {
-    if (jj_3R_227()) return true;
+    if (jj_3R_228()) return true;
     return false;
   }
 
   private boolean jj_3_146() {
-    if (jj_3R_226()) return true;
+    if (jj_3R_227()) return true;
     return false;
   }
 
-  private boolean jj_3R_1027() {
+  private boolean jj_3R_1029() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_146()) {
@@ -36399,13 +36553,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         jj_scanpos = xsp;
         if (jj_3_148()) {
           jj_scanpos = xsp;
-          if (jj_3R_1062()) {
+          if (jj_3R_1064()) {
             jj_scanpos = xsp;
-            if (jj_3R_1063()) {
+            if (jj_3R_1065()) {
               jj_scanpos = xsp;
-              if (jj_3R_1064()) {
+              if (jj_3R_1066()) {
                 jj_scanpos = xsp;
-                if (jj_3R_1065()) return true;
+                if (jj_3R_1067()) return true;
               }
             }
           }
@@ -36415,22 +36569,22 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1023() {
+  private boolean jj_3R_1025() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_946() {
+  private boolean jj_3R_948() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_680() {
-    if (jj_3R_451()) return true;
+  private boolean jj_3R_682() {
+    if (jj_3R_453()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1027()) {
+      if (jj_3R_1029()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36438,83 +36592,83 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_945() {
-    if (jj_3R_601()) return true;
+  private boolean jj_3R_947() {
+    if (jj_3R_603()) return true;
     return false;
   }
 
-  private boolean jj_3R_944() {
+  private boolean jj_3R_946() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_943() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_945() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_808() {
+  private boolean jj_3R_810() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_943()) {
+    if (jj_3R_945()) {
       jj_scanpos = xsp;
-      if (jj_3R_944()) {
+      if (jj_3R_946()) {
         jj_scanpos = xsp;
-        if (jj_3R_945()) {
+        if (jj_3R_947()) {
           jj_scanpos = xsp;
-          if (jj_3R_946()) return true;
+          if (jj_3R_948()) return true;
         }
       }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_807() {
+  private boolean jj_3R_809() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_941() {
+  private boolean jj_3R_943() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_806() {
-    if (jj_3R_601()) return true;
+  private boolean jj_3R_808() {
+    if (jj_3R_603()) return true;
     return false;
   }
 
-  private boolean jj_3R_805() {
+  private boolean jj_3R_807() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_804() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_806() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_655() {
+  private boolean jj_3R_657() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_804()) {
+    if (jj_3R_806()) {
       jj_scanpos = xsp;
-      if (jj_3R_805()) {
+      if (jj_3R_807()) {
         jj_scanpos = xsp;
-        if (jj_3R_806()) {
+        if (jj_3R_808()) {
           jj_scanpos = xsp;
-          if (jj_3R_807()) return true;
+          if (jj_3R_809()) return true;
         }
       }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_808()) {
+      if (jj_3R_810()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36523,73 +36677,73 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3_145() {
-    if (jj_3R_186()) return true;
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_238() {
+  private boolean jj_3R_239() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_655()) jj_scanpos = xsp;
+    if (jj_3R_657()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1061() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_1063() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_822() {
-    if (jj_3R_580()) return true;
+  private boolean jj_3R_824() {
+    if (jj_3R_582()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1061()) jj_scanpos = xsp;
+    if (jj_3R_1063()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_942() {
+  private boolean jj_3R_944() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1023()) jj_scanpos = xsp;
+    if (jj_3R_1025()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1022() {
+  private boolean jj_3R_1024() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_1021() {
+  private boolean jj_3R_1023() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_940() {
+  private boolean jj_3R_942() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1021()) {
+    if (jj_3R_1023()) {
       jj_scanpos = xsp;
-      if (jj_3R_1022()) return true;
+      if (jj_3R_1024()) return true;
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_803() {
+  private boolean jj_3R_805() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_940()) jj_scanpos = xsp;
-    if (jj_3R_170()) return true;
+    if (jj_3R_942()) jj_scanpos = xsp;
+    if (jj_3R_171()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_941()) jj_scanpos = xsp;
+    if (jj_3R_943()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_942()) {
+      if (jj_3R_944()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36597,35 +36751,35 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_802() {
+  private boolean jj_3R_804() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_651() {
+  private boolean jj_3R_653() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_802()) {
+    if (jj_3R_804()) {
       jj_scanpos = xsp;
-      if (jj_3R_803()) return true;
+      if (jj_3R_805()) return true;
     }
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_652() {
-    if (jj_3R_651()) return true;
+  private boolean jj_3R_654() {
+    if (jj_3R_653()) return true;
     return false;
   }
 
-  private boolean jj_3R_536() {
+  private boolean jj_3R_538() {
     if (jj_scan_token(FETCHPLAN)) return true;
-    if (jj_3R_651()) return true;
+    if (jj_3R_653()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_652()) {
+      if (jj_3R_654()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36633,18 +36787,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_559() {
+  private boolean jj_3R_561() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_379() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_381() {
+    if (jj_3R_161()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_559()) {
+      if (jj_3R_561()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36652,179 +36806,179 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_177() {
+  private boolean jj_3R_178() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_379()) jj_scanpos = xsp;
+    if (jj_3R_381()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_466() {
+  private boolean jj_3R_468() {
     if (jj_scan_token(RETRY)) return true;
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_778() {
+  private boolean jj_3R_780() {
     if (jj_scan_token(EXCEPTION)) return true;
     return false;
   }
 
-  private boolean jj_3R_467() {
+  private boolean jj_3R_469() {
     if (jj_scan_token(WAIT)) return true;
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_633() {
+  private boolean jj_3R_635() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_777()) {
+    if (jj_3R_779()) {
       jj_scanpos = xsp;
-      if (jj_3R_778()) return true;
+      if (jj_3R_780()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_777() {
+  private boolean jj_3R_779() {
     if (jj_scan_token(RETURN)) return true;
     return false;
   }
 
-  private boolean jj_3R_480() {
+  private boolean jj_3R_482() {
     if (jj_scan_token(TIMEOUT)) return true;
     if (jj_3R_72()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_633()) jj_scanpos = xsp;
+    if (jj_3R_635()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_616() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_618() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_615() {
+  private boolean jj_3R_617() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_939() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_941() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_938() {
+  private boolean jj_3R_940() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_468() {
+  private boolean jj_3R_470() {
     if (jj_scan_token(BATCH)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_615()) {
+    if (jj_3R_617()) {
       jj_scanpos = xsp;
-      if (jj_3R_616()) return true;
+      if (jj_3R_618()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_937() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_939() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_936() {
+  private boolean jj_3R_938() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_801() {
+  private boolean jj_3R_803() {
     if (jj_scan_token(OFFSET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_938()) {
+    if (jj_3R_940()) {
       jj_scanpos = xsp;
-      if (jj_3R_939()) return true;
+      if (jj_3R_941()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1020() {
+  private boolean jj_3R_1022() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_800() {
+  private boolean jj_3R_802() {
     if (jj_scan_token(SKIP2)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_936()) {
+    if (jj_3R_938()) {
       jj_scanpos = xsp;
-      if (jj_3R_937()) return true;
+      if (jj_3R_939()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_648() {
+  private boolean jj_3R_650() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_800()) {
+    if (jj_3R_802()) {
       jj_scanpos = xsp;
-      if (jj_3R_801()) return true;
+      if (jj_3R_803()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_632() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_634() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_631() {
+  private boolean jj_3R_633() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_1017() {
+  private boolean jj_3R_1019() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_479() {
+  private boolean jj_3R_481() {
     if (jj_scan_token(LIMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_631()) {
+    if (jj_3R_633()) {
       jj_scanpos = xsp;
-      if (jj_3R_632()) return true;
+      if (jj_3R_634()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_647() {
+  private boolean jj_3R_649() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_643() {
+  private boolean jj_3R_645() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_533() {
+  private boolean jj_3R_535() {
     if (jj_scan_token(UNWIND)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_647()) {
+      if (jj_3R_649()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36832,63 +36986,63 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1018() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_1020() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_933() {
+  private boolean jj_3R_935() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_932() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_934() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_935() {
+  private boolean jj_3R_937() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_1019() {
+  private boolean jj_3R_1021() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_934() {
+  private boolean jj_3R_936() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1019()) {
+    if (jj_3R_1021()) {
       jj_scanpos = xsp;
-      if (jj_3R_1020()) return true;
+      if (jj_3R_1022()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_925() {
+  private boolean jj_3R_927() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_931() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_933() {
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1018()) jj_scanpos = xsp;
+    if (jj_3R_1020()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_531() {
+  private boolean jj_3R_533() {
     if (jj_scan_token(GROUP)) return true;
     if (jj_scan_token(BY)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_643()) {
+      if (jj_3R_645()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36896,238 +37050,238 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1015() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_1017() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_928() {
+  private boolean jj_3R_930() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_927() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_929() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_930() {
+  private boolean jj_3R_932() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_1016() {
+  private boolean jj_3R_1018() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_929() {
+  private boolean jj_3R_931() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1016()) {
+    if (jj_3R_1018()) {
       jj_scanpos = xsp;
-      if (jj_3R_1017()) return true;
+      if (jj_3R_1019()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_799() {
+  private boolean jj_3R_801() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_931()) {
+    if (jj_3R_933()) {
       jj_scanpos = xsp;
-      if (jj_3R_932()) {
+      if (jj_3R_934()) {
         jj_scanpos = xsp;
-        if (jj_3R_933()) return true;
+        if (jj_3R_935()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_934()) jj_scanpos = xsp;
+    if (jj_3R_936()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_935()) jj_scanpos = xsp;
+    if (jj_3R_937()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_922() {
+  private boolean jj_3R_924() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_926() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_928() {
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1015()) jj_scanpos = xsp;
+    if (jj_3R_1017()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_798() {
+  private boolean jj_3R_800() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_926()) {
+    if (jj_3R_928()) {
       jj_scanpos = xsp;
-      if (jj_3R_927()) {
+      if (jj_3R_929()) {
         jj_scanpos = xsp;
-        if (jj_3R_928()) return true;
+        if (jj_3R_930()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_929()) jj_scanpos = xsp;
+    if (jj_3R_931()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_930()) jj_scanpos = xsp;
+    if (jj_3R_932()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_646() {
+  private boolean jj_3R_648() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_798()) {
+    if (jj_3R_800()) {
       jj_scanpos = xsp;
-      if (jj_3R_799()) return true;
+      if (jj_3R_801()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_923() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_925() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_795() {
+  private boolean jj_3R_797() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_794() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_796() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_797() {
+  private boolean jj_3R_799() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_796() {
+  private boolean jj_3R_798() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_924()) {
+    if (jj_3R_926()) {
       jj_scanpos = xsp;
-      if (jj_3R_925()) return true;
+      if (jj_3R_927()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_924() {
+  private boolean jj_3R_926() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_793() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_795() {
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_923()) jj_scanpos = xsp;
+    if (jj_3R_925()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_920() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_922() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_790() {
+  private boolean jj_3R_792() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_789() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_791() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_792() {
+  private boolean jj_3R_794() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_791() {
+  private boolean jj_3R_793() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_921()) {
+    if (jj_3R_923()) {
       jj_scanpos = xsp;
-      if (jj_3R_922()) return true;
+      if (jj_3R_924()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_921() {
+  private boolean jj_3R_923() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_645() {
+  private boolean jj_3R_647() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_793()) {
+    if (jj_3R_795()) {
       jj_scanpos = xsp;
-      if (jj_3R_794()) {
+      if (jj_3R_796()) {
         jj_scanpos = xsp;
-        if (jj_3R_795()) return true;
+        if (jj_3R_797()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_796()) jj_scanpos = xsp;
+    if (jj_3R_798()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_797()) jj_scanpos = xsp;
+    if (jj_3R_799()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_788() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_790() {
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_920()) jj_scanpos = xsp;
+    if (jj_3R_922()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_644() {
+  private boolean jj_3R_646() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_788()) {
+    if (jj_3R_790()) {
       jj_scanpos = xsp;
-      if (jj_3R_789()) {
+      if (jj_3R_791()) {
         jj_scanpos = xsp;
-        if (jj_3R_790()) return true;
+        if (jj_3R_792()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_791()) jj_scanpos = xsp;
+    if (jj_3R_793()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_792()) jj_scanpos = xsp;
+    if (jj_3R_794()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_532() {
+  private boolean jj_3R_534() {
     if (jj_scan_token(ORDER)) return true;
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_644()) {
+    if (jj_3R_646()) {
       jj_scanpos = xsp;
-      if (jj_3R_645()) return true;
+      if (jj_3R_647()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_646()) {
+      if (jj_3R_648()) {
         jj_scanpos = xsp;
         break;
       }
@@ -37136,137 +37290,137 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3_144() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_444() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_446() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_443() {
+  private boolean jj_3R_445() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_442() {
-    if (jj_3R_601()) return true;
+  private boolean jj_3R_444() {
+    if (jj_3R_603()) return true;
     return false;
   }
 
-  private boolean jj_3R_441() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_443() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
   private boolean jj_3_143() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_220() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_221() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(MATCHES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_441()) {
+    if (jj_3R_443()) {
       jj_scanpos = xsp;
-      if (jj_3R_442()) {
+      if (jj_3R_444()) {
         jj_scanpos = xsp;
-        if (jj_3R_443()) {
+        if (jj_3R_445()) {
           jj_scanpos = xsp;
-          if (jj_3R_444()) return true;
+          if (jj_3R_446()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_440() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_442() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_219() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_220() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(CONTAINSTEXT)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
   private boolean jj_3_142() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_141() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_439() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_441() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_218() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_219() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(CONTAINSANY)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_142()) {
       jj_scanpos = xsp;
-      if (jj_3R_440()) return true;
+      if (jj_3R_442()) return true;
     }
     return false;
   }
 
   private boolean jj_3_140() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_137() {
-    if (jj_3R_158()) return true;
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_217() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_218() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(CONTAINSALL)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_140()) {
       jj_scanpos = xsp;
-      if (jj_3R_439()) return true;
+      if (jj_3R_441()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_434() {
-    if (jj_3R_188()) return true;
+  private boolean jj_3R_436() {
+    if (jj_3R_189()) return true;
     return false;
   }
 
-  private boolean jj_3R_225() {
-    if (jj_3R_368()) return true;
+  private boolean jj_3R_226() {
+    if (jj_3R_370()) return true;
     return false;
   }
 
   private boolean jj_3_139() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_175()) return true;
+    if (jj_3R_176()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_224() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3R_225() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
@@ -37274,54 +37428,54 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_224()) {
+    if (jj_3R_225()) {
       jj_scanpos = xsp;
-      if (jj_3R_225()) return true;
+      if (jj_3R_226()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_134() {
-    if (jj_3R_158()) return true;
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_212() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_213() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(NOT)) return true;
-    if (jj_3R_432()) return true;
+    if (jj_3R_434()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_138()) {
       jj_scanpos = xsp;
       if (jj_3_139()) {
         jj_scanpos = xsp;
-        if (jj_3R_434()) return true;
+        if (jj_3R_436()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_223() {
-    if (jj_3R_368()) return true;
+  private boolean jj_3R_224() {
+    if (jj_3R_370()) return true;
     return false;
   }
 
   private boolean jj_3_136() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_175()) return true;
+    if (jj_3R_176()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_433() {
-    if (jj_3R_188()) return true;
+  private boolean jj_3R_435() {
+    if (jj_3R_189()) return true;
     return false;
   }
 
-  private boolean jj_3R_222() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3R_223() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
@@ -37329,139 +37483,146 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_222()) {
+    if (jj_3R_223()) {
       jj_scanpos = xsp;
-      if (jj_3R_223()) return true;
+      if (jj_3R_224()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_133() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_211() {
-    if (jj_3R_160()) return true;
-    if (jj_3R_432()) return true;
+  private boolean jj_3R_212() {
+    if (jj_3R_161()) return true;
+    if (jj_3R_434()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_135()) {
       jj_scanpos = xsp;
       if (jj_3_136()) {
         jj_scanpos = xsp;
-        if (jj_3R_433()) return true;
+        if (jj_3R_435()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_432() {
+  private boolean jj_3R_434() {
     if (jj_scan_token(IN)) return true;
     return false;
   }
 
-  private boolean jj_3R_436() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_438() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
   private boolean jj_3_132() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_215() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_216() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(CONTAINS)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_132()) {
       jj_scanpos = xsp;
-      if (jj_3R_436()) return true;
+      if (jj_3R_438()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_209() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_210() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_210() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_211() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_207() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_208() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_208() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_209() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_447() {
+  private boolean jj_3R_449() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_446() {
-    if (jj_3R_601()) return true;
+  private boolean jj_3R_448() {
+    if (jj_3R_603()) return true;
     return false;
   }
 
-  private boolean jj_3R_445() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_447() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_214() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_215() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(BETWEEN)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
   private boolean jj_3_131() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_221() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_222() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(INSTANCEOF)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_445()) {
+    if (jj_3R_447()) {
       jj_scanpos = xsp;
-      if (jj_3R_446()) {
+      if (jj_3R_448()) {
         jj_scanpos = xsp;
-        if (jj_3R_447()) return true;
+        if (jj_3R_449()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_438() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_440() {
+    if (jj_3R_161()) return true;
+    return false;
+  }
+
+  private boolean jj_3_130() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_184()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
@@ -38903,8 +39064,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x8000,
-          0x1840000,
-          0x400000,
+          0x30c0000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -38915,7 +39076,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x10000000,
+          0x20000000,
           0x0,
           0x0,
           0x0,
@@ -38931,7 +39092,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x10000000,
+          0x20000000,
           0x0,
           0x0,
           0x0,
@@ -38989,7 +39150,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0xffffffff,
           0x0,
           0x0,
-          0x10000000,
+          0x20000000,
           0x0,
           0x0,
           0x0,
@@ -38999,7 +39160,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0xffffffff,
           0x0,
           0x0,
-          0x10000000,
+          0x20000000,
           0x0,
           0x0,
           0x0,
@@ -39264,15 +39425,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0xffffffff,
           0xffffffff,
-          0x200000,
-          0x1e000000,
-          0x1e000000,
-          0x1e000000,
-          0x0,
-          0x40000000,
+          0x400000,
+          0x3c000000,
+          0x3c000000,
+          0x3c000000,
           0x0,
           0x80000000,
           0x0,
+          0x0,
+          0x0,
           0xffffffff,
           0x0,
           0xffffffff,
@@ -39289,7 +39450,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x1c48100,
+          0x38c8100,
           0x0,
           0x0,
           0x0,
@@ -39319,16 +39480,16 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0xffffffff,
           0x0,
-          0x6000000,
+          0xc000000,
           0x0,
-          0x6000000,
+          0xc000000,
           0x0,
-          0x6000000,
+          0xc000000,
           0x0,
-          0x6000000,
-          0x6000000,
+          0xc000000,
+          0xc000000,
           0x0,
-          0x6000000,
+          0xc000000,
           0x0,
           0x0,
           0xffffffff,
@@ -39353,19 +39514,20 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0xffffffff,
-          0x1000010,
+          0x2000020,
           0x0,
-          0xfefbffff,
+          0xfdf7ffff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
+          0xfdffffff,
           0x0,
           0x0,
-          0x2000000,
+          0x4000000,
+          0x0,
+          0xc3c,
           0x0,
-          0x61e,
           0x0,
           0x0,
           0x0,
@@ -39376,12 +39538,155 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x6000,
+          0x0,
+          0x0,
+          0x0,
+          0xfdffffff,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x6000,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdffffff,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdf7ffff,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdf7ffff,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdffffff,
+          0x0,
+          0x0,
+          0x6000,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x40000,
+          0xfdffffff,
+          0x0,
+          0x0,
+          0x6000,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdf7ffff,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdf7ffff,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdf7ffff,
+          0x0,
+          0x0,
+          0x80000,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xfdffffff,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
           0x0,
-          0x3000,
+          0xfdffffff,
           0x0,
+          0xfdffffff,
           0x0,
+          0xfdffffff,
           0x0,
-          0xfeffffff,
           0x0,
           0x0,
           0x0,
@@ -39391,20 +39696,22 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xfdffffff,
           0x0,
+          0xfdffffff,
           0x0,
-          0x3000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfdf7ffff,
           0x0,
           0x0,
+          0xfdf7ffff,
           0x0,
           0x0,
           0x0,
@@ -39412,132 +39719,65 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xfdffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfdf7ffff,
           0x0,
+          0xfdffffff,
           0x0,
+          0xfdffffff,
           0x0,
           0x0,
+          0xfdf7ffff,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfdf7ffff,
           0x0,
           0x0,
           0x0,
+          0xfdf7ffff,
           0x0,
           0x0,
-          0xfefbffff,
+          0xfdf7ffff,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfdf7ffff,
           0x0,
           0x0,
           0x0,
+          0xfdf7ffff,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
-          0x0,
-          0x0,
-          0x3000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x20000,
-          0xfeffffff,
-          0x0,
-          0x0,
-          0x3000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfefbffff,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfefbffff,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfefbffff,
-          0x0,
-          0x0,
-          0x40000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfeffffff,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfeffffff,
-          0x0,
-          0xfeffffff,
-          0x0,
-          0xfeffffff,
-          0x0,
-          0x0,
           0x0,
+          0xfdffffff,
+          0xfdf7ffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfdf7ffff,
+          0xfdf7ffff,
           0x0,
+          0xfdf7ffff,
+          0xfdf7ffff,
           0x0,
-          0xfeffffff,
           0x0,
-          0xfeffffff,
           0x0,
           0x0,
           0x0,
@@ -39546,187 +39786,107 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x18020000,
+          0xfdf7ffff,
           0x0,
-          0xfefbffff,
           0x0,
+          0x18020000,
+          0xfdf7ffff,
           0x0,
-          0xfefbffff,
+          0xfdf7ffff,
           0x0,
+          0xfdf7ffff,
           0x0,
+          0xfdf7ffff,
           0x0,
           0x0,
+          0xfdf7ffff,
           0x0,
           0x0,
+          0xfdf7ffff,
           0x0,
-          0xfeffffff,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfdf7ffff,
           0x0,
-          0xfefbffff,
           0x0,
-          0xfeffffff,
           0x0,
-          0xfeffffff,
           0x0,
           0x0,
-          0xfefbffff,
+          0xfdf7ffff,
           0x0,
+          0xfdf7ffff,
           0x0,
-          0x0,
-          0x0,
-          0xfefbffff,
-          0x0,
-          0x0,
-          0x0,
-          0xfefbffff,
-          0x0,
-          0x0,
-          0xfefbffff,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfefbffff,
-          0x0,
-          0x0,
-          0x0,
-          0xfefbffff,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfeffffff,
-          0xfefbffff,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xc010000,
-          0xfefbffff,
-          0x0,
-          0x0,
-          0xc010000,
-          0xfefbffff,
-          0x0,
-          0xfefbffff,
-          0x0,
-          0xfefbffff,
-          0x0,
-          0xfefbffff,
-          0x0,
-          0x0,
-          0xfefbffff,
-          0x0,
-          0x0,
-          0xfefbffff,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfefbffff,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfefbffff,
-          0x0,
-          0xfefbffff,
-          0x0,
-          0x10,
-          0x0,
+          0x20,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x10,
           0x0,
-          0xfefbffff,
+          0x20,
           0x0,
+          0xfdf7ffff,
           0x0,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
+          0xfdf7ffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
+          0xfdf7ffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0xfefbffff,
-          0xfefbffff,
+          0xfdf7ffff,
+          0xfdf7ffff,
           0x0,
+          0xfdf7ffff,
+          0xfdf7ffff,
+          0xfdf7ffff,
+          0xfdf7ffff,
           0x0,
-          0x10,
           0x0,
-          0x10,
-          0xfefbffff,
+          0x20,
           0x0,
+          0x20,
+          0xfdf7ffff,
           0x0,
           0x0,
-          0xfefbffff,
-          0x10,
           0x0,
-          0x10,
-          0xfefbffff,
+          0xfdf7ffff,
+          0x20,
           0x0,
+          0x20,
+          0xfdf7ffff,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
+          0xfdf7ffff,
           0x0,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
           0x0,
+          0xfdf7ffff,
+          0xfdf7ffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
           0x0,
+          0xfdf7ffff,
+          0xfdf7ffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0xfefbffff,
-          0xfefbffff,
-          0x10,
-          0x800,
-          0x10,
           0x0,
+          0xfdf7ffff,
+          0xfdf7ffff,
+          0xfdf7ffff,
+          0xfdf7ffff,
+          0x20,
+          0x1000,
+          0x20,
           0x0,
-          0xfefbffff,
-          0x10,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
+          0xfdf7ffff,
+          0x20,
+          0xfdf7ffff,
           0x0,
+          0xfdf7ffff,
+          0xfdf7ffff,
           0x0,
           0x0,
           0x0,
@@ -39735,40 +39895,41 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x1,
-          0xfefbffff,
+          0x2,
+          0xfdf7ffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0x20000000,
-          0xfefbffff,
-          0xfefbffff,
+          0xfdf7ffff,
+          0xfdf7ffff,
+          0x40000000,
+          0xfdf7ffff,
+          0xfdf7ffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0x20000000,
+          0xfdf7ffff,
+          0xfdf7ffff,
+          0x40000000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x100,
-          0x208061e,
-          0xc0,
+          0x200,
+          0x4100c3c,
+          0x180,
           0x0,
-          0xc0,
-          0xc0,
-          0x20,
+          0x180,
+          0x180,
+          0x40,
           0x0,
-          0xfeffffff,
+          0xfdffffff,
           0xffffffff,
-          0x1000010,
-          0x10,
-          0x8000,
+          0x2000020,
+          0x20,
+          0x10000,
           0x0,
-          0x8000,
-          0x8000,
+          0x10000,
+          0x10000,
           0x0,
-          0x8000,
-          0x10,
+          0x10000,
+          0x20,
           0x0,
           0x0,
           0x0,
@@ -39776,10 +39937,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0xffffffff,
-          0x1000010,
+          0x2000020,
           0xffffffff,
-          0x1000010,
-          0xfefbffff,
+          0x2000020,
+          0xfdf7ffff,
           0x0,
           0x0,
           0x0,
@@ -39793,37 +39954,36 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
+          0xfdf7ffff,
+          0xfdf7ffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0x20000000,
-          0xfefbffff,
-          0x10,
+          0xfdf7ffff,
+          0xfdf7ffff,
+          0x40000000,
+          0xfdf7ffff,
+          0x20,
           0x0,
-          0x80000000,
           0x0,
-          0xfefbffff,
-          0x10,
+          0x0,
+          0xfdf7ffff,
+          0x20,
         };
   }
 
   private static void jj_la1_init_5() {
     jj_la1_5 =
         new int[] {
-          0x180,
-          0x0,
-          0xcc22017f,
+          0x300,
           0x0,
-          0x8000100,
-          0x1f,
+          0x984402ff,
           0x0,
+          0x10000200,
+          0x3f,
           0x0,
           0x0,
           0x0,
-          0xcc22017f,
           0x0,
+          0x984402ff,
           0x0,
           0x0,
           0x0,
@@ -39843,8 +40003,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xcc22017f,
           0x0,
+          0x984402ff,
           0x0,
           0x0,
           0x0,
@@ -39860,8 +40020,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x7f,
           0x0,
+          0xff,
           0x0,
           0x0,
           0x0,
@@ -39889,11 +40049,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x20000,
-          0x20000,
           0x0,
-          0x1f,
+          0x40000,
+          0x40000,
           0x0,
+          0x3f,
           0x0,
           0x0,
           0x0,
@@ -39903,15 +40063,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x1f,
           0x0,
+          0x3f,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xcc22017f,
           0x0,
+          0x984402ff,
           0x0,
           0x0,
           0x0,
@@ -39920,8 +40080,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xcc22017f,
           0x0,
+          0x984402ff,
           0x0,
           0x0,
           0x0,
@@ -39939,8 +40099,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x1f,
           0x0,
+          0x3f,
           0x0,
           0x0,
           0x0,
@@ -39960,15 +40120,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x1f,
           0x0,
+          0x3f,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x1f,
           0x0,
+          0x3f,
           0x0,
           0x0,
           0x0,
@@ -39976,108 +40136,108 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xcc22017f,
           0x0,
+          0x984402ff,
           0x0,
           0x0,
           0x0,
-          0x30020000,
-          0x1f,
           0x0,
-          0xcc22017f,
+          0x60040000,
+          0x3f,
           0x0,
-          0xcc22017f,
-          0x20,
+          0x984402ff,
           0x0,
+          0x984402ff,
+          0x40,
           0x0,
           0x0,
-          0xc0000000,
           0x0,
+          0x80000000,
           0x0,
-          0xc0000000,
           0x0,
+          0x80000000,
           0x0,
-          0xcc22017f,
-          0xc000100,
-          0xc22017f,
           0x0,
+          0x984402ff,
+          0x18000200,
+          0x184402ff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x20000,
           0x0,
+          0x40000,
           0x0,
-          0x1f,
           0x0,
+          0x3f,
           0x0,
-          0x1f,
           0x0,
+          0x3f,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xcc22017f,
-          0xc0000000,
           0x0,
+          0x984402ff,
+          0x80000000,
           0x0,
           0x0,
           0x0,
-          0xc00011f,
           0x0,
-          0xc22017f,
+          0x1800023f,
           0x0,
-          0xc22017f,
-          0xc000100,
+          0x184402ff,
           0x0,
-          0x2005f,
+          0x184402ff,
+          0x18000200,
           0x0,
+          0x400bf,
           0x0,
           0x0,
           0x0,
-          0x2005f,
           0x0,
+          0x400bf,
           0x0,
           0x0,
-          0x2005f,
           0x0,
+          0x400bf,
           0x0,
-          0x2005f,
           0x0,
+          0x400bf,
           0x0,
           0x0,
           0x0,
-          0x2005f,
           0x0,
+          0x400bf,
           0x0,
           0x0,
-          0x2005f,
           0x0,
+          0x400bf,
           0x0,
-          0x20000,
-          0x20000,
-          0x20000,
           0x0,
-          0x20000,
+          0x40000,
+          0x40000,
+          0x40000,
           0x0,
+          0x40000,
           0x0,
           0x0,
-          0xcc22017f,
-          0x1f,
-          0x20000,
           0x0,
+          0x984402ff,
+          0x3f,
+          0x40000,
           0x0,
           0x0,
           0x0,
-          0x1f,
-          0xc00015f,
           0x0,
-          0xc00015f,
-          0xc00015f,
+          0x3f,
+          0x180002bf,
           0x0,
+          0x180002bf,
+          0x180002bf,
           0x0,
           0x0,
           0x0,
@@ -40087,39 +40247,39 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x1,
-          0x2001f,
           0x0,
-          0xc0000000,
-          0x1,
-          0x1f,
+          0x2,
+          0x4003f,
           0x0,
-          0x1f,
+          0x80000000,
+          0x2,
+          0x3f,
           0x0,
-          0x1f,
+          0x3f,
           0x0,
-          0x1f,
+          0x3f,
           0x0,
+          0x3f,
           0x0,
-          0x1f,
           0x0,
+          0x3f,
           0x0,
-          0x1f,
           0x0,
+          0x3f,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x2001f,
           0x0,
+          0x4003f,
           0x0,
-          0x20000,
-          0x20000,
-          0x20000,
-          0x1f,
           0x0,
-          0x1f,
+          0x40000,
+          0x40000,
+          0x40000,
+          0x3f,
           0x0,
+          0x3f,
           0x0,
           0x0,
           0x0,
@@ -40129,85 +40289,85 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x1f,
           0x0,
+          0x3f,
           0x0,
-          0x1f,
           0x0,
-          0x1f,
-          0xc0000000,
-          0x2001f,
-          0x2001f,
-          0xc0000000,
-          0x800011f,
-          0x1f,
-          0x1f,
-          0x2001f,
-          0x8,
+          0x3f,
           0x0,
+          0x3f,
+          0x80000000,
+          0x4003f,
+          0x4003f,
+          0x80000000,
+          0x1000023f,
+          0x3f,
+          0x3f,
+          0x4003f,
+          0x10,
           0x0,
           0x0,
           0x0,
-          0x1f,
           0x0,
+          0x3f,
           0x0,
           0x0,
-          0x1f,
           0x0,
+          0x3f,
           0x0,
           0x0,
-          0x5f,
           0x0,
+          0xbf,
           0x0,
           0x0,
           0x0,
-          0x5f,
           0x0,
+          0xbf,
           0x0,
           0x0,
-          0x1f,
-          0x1f,
           0x0,
+          0x3f,
+          0x3f,
           0x0,
-          0x1f,
-          0x1f,
           0x0,
+          0x3f,
+          0x3f,
           0x0,
-          0x1f,
-          0x1f,
-          0x1f,
-          0x1f,
           0x0,
+          0x3f,
+          0x3f,
+          0x3f,
+          0x3f,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x2001f,
           0x0,
-          0x1f,
+          0x4003f,
           0x0,
-          0x5f,
-          0x5f,
+          0x3f,
           0x0,
+          0xbf,
+          0xbf,
           0x0,
-          0x4,
-          0x4,
           0x0,
+          0x8,
+          0x8,
           0x0,
-          0xc0000000,
           0x0,
+          0x80000000,
           0x0,
-          0x800011f,
           0x0,
-          0x1f,
-          0x1f,
+          0x1000023f,
           0x0,
-          0x1f,
-          0x800011f,
+          0x3f,
+          0x3f,
           0x0,
-          0x1f,
-          0x1f,
+          0x3f,
+          0x1000023f,
           0x0,
+          0x3f,
+          0x3f,
           0x0,
           0x0,
           0x0,
@@ -40220,16 +40380,16 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xcc22017f,
-          0xcc22017f,
           0x0,
+          0x984402ff,
+          0x984402ff,
           0x0,
           0x0,
-          0xc0000000,
           0x0,
+          0x80000000,
           0x0,
-          0xc0000000,
           0x0,
+          0x80000000,
           0x0,
           0x0,
           0x0,
@@ -40237,12 +40397,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xcc22017f,
           0x0,
-          0xcc22017f,
+          0x984402ff,
           0x0,
-          0x1f,
+          0x984402ff,
           0x0,
+          0x3f,
           0x0,
           0x0,
           0x0,
@@ -40255,18 +40415,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x1f,
-          0x800011f,
           0x0,
-          0x1f,
-          0x1f,
+          0x3f,
+          0x1000023f,
           0x0,
-          0x1f,
+          0x3f,
+          0x3f,
           0x0,
+          0x3f,
           0x0,
           0x0,
+          0x1,
           0x0,
-          0x1f,
+          0x3f,
           0x0,
         };
   }
@@ -40275,21 +40436,16 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jj_la1_6 =
         new int[] {
           0x0,
-          0x4,
-          0x600c0055,
-          0x40,
-          0x0,
-          0x0,
-          0x20000000,
-          0x20000000,
-          0x0,
-          0x40,
-          0x600c0015,
-          0x0,
-          0x0,
+          0x8,
+          0xc01800ab,
+          0x80,
           0x0,
           0x0,
+          0x40000000,
+          0x40000000,
           0x0,
+          0x80,
+          0xc018002b,
           0x0,
           0x0,
           0x0,
@@ -40305,12 +40461,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x600c0015,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xc018002b,
           0x0,
           0x0,
           0x0,
@@ -40321,26 +40477,25 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x80,
-          0x40000010,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x80,
-          0x4,
-          0x80000,
-          0x80000,
-          0x0,
-          0x80,
-          0x80000,
+          0x100,
+          0x80000020,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x100,
+          0x8,
+          0x100000,
+          0x100000,
           0x0,
+          0x100,
+          0x100000,
           0x0,
           0x0,
           0x0,
@@ -40350,15 +40505,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x80,
-          0x20000004,
-          0x20000014,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x100,
+          0x40000008,
+          0x40000028,
           0x0,
           0x0,
           0x0,
@@ -40372,247 +40527,253 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x600c0015,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xc018002b,
           0x0,
           0x0,
           0x0,
-          0x600c0015,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x80,
-          0x80,
+          0xc018002b,
           0x0,
           0x0,
-          0x80,
-          0x80,
           0x0,
-          0x110,
-          0x1000,
-          0x110,
-          0x1000,
           0x0,
           0x0,
           0x0,
+          0x100,
+          0x100,
           0x0,
           0x0,
+          0x100,
+          0x100,
           0x0,
+          0x220,
+          0x2000,
+          0x220,
+          0x2000,
           0x0,
-          0x1,
           0x0,
-          0x80,
-          0x80,
-          0x80,
-          0x80,
-          0x80,
-          0xc0004,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x2,
           0x0,
+          0x100,
+          0x100,
+          0x100,
+          0x100,
+          0x100,
+          0x180008,
           0x0,
           0x0,
           0x0,
-          0x1,
           0x0,
           0x0,
           0x0,
-          0xc0000,
           0x0,
-          0x80,
-          0x80,
           0x0,
-          0x80000,
           0x0,
-          0x80,
-          0x10000,
-          0x40000000,
-          0x600d0015,
-          0x80000,
+          0x2,
           0x0,
-          0x80,
           0x0,
-          0xc0000,
           0x0,
-          0x80,
-          0x600c0015,
-          0x80,
-          0x600c0015,
+          0x180000,
           0x0,
-          0x40000000,
-          0x10,
+          0x100,
           0x100,
           0x0,
-          0x4,
-          0x1000000,
+          0x100000,
           0x0,
-          0x4,
-          0xf0000000,
-          0x600c0015,
+          0x100,
+          0x20000,
+          0x80000000,
+          0xc01a002b,
+          0x100000,
           0x0,
-          0x600c0010,
-          0x80,
-          0x1,
-          0x80,
-          0xc0000,
-          0x80080,
-          0x80080,
-          0x20000004,
-          0x10,
-          0xc0001,
+          0x100,
           0x0,
+          0x180000,
           0x0,
-          0x80,
+          0x100,
+          0xc018002b,
+          0x100,
+          0xc018002b,
           0x0,
+          0x80000000,
+          0x20,
+          0x200,
+          0x1,
+          0x8,
+          0x2000000,
+          0x1,
+          0x8,
+          0xe0000000,
+          0xc018002b,
           0x0,
-          0x20000100,
-          0x20000100,
+          0xc0180020,
+          0x100,
+          0x2,
+          0x100,
+          0x180000,
+          0x100100,
+          0x100100,
+          0x40000008,
+          0x20,
+          0x180002,
           0x0,
           0x0,
+          0x100,
           0x0,
           0x0,
-          0x600c0015,
+          0x40000200,
+          0x40000200,
           0x0,
-          0x2f0f000,
-          0x3000,
           0x0,
-          0x2f0f000,
           0x0,
           0x0,
-          0x600c0011,
+          0xc018002b,
+          0x1,
+          0x5e1e000,
+          0x6000,
           0x0,
-          0x600c0011,
-          0xc0000,
-          0x110,
-          0x20000004,
+          0x5e1e000,
           0x0,
           0x0,
+          0xc0180022,
           0x0,
-          0x110,
-          0x20000004,
+          0xc0180022,
+          0x180000,
+          0x220,
+          0x40000008,
           0x0,
           0x0,
           0x0,
-          0x20000005,
-          0x80,
-          0x110,
-          0x20000004,
+          0x220,
+          0x40000008,
           0x0,
           0x0,
           0x0,
-          0x110,
-          0x20000004,
+          0x4000000a,
+          0x100,
+          0x220,
+          0x40000008,
           0x0,
           0x0,
           0x0,
-          0x20000005,
-          0x80,
-          0x80,
-          0x200c0000,
-          0x200c0000,
-          0x200c0000,
+          0x220,
+          0x40000008,
           0x0,
-          0x200c0000,
           0x0,
           0x0,
-          0x80,
-          0x600c0015,
-          0x40000010,
-          0x60000000,
-          0x10,
-          0x40000000,
+          0x4000000a,
           0x100,
-          0x40000000,
-          0x40000010,
+          0x100,
+          0x40180000,
+          0x40180000,
+          0x40180000,
           0x0,
-          0x80,
+          0x40180000,
           0x0,
           0x0,
-          0x28004100,
-          0x4000,
           0x100,
-          0x4,
-          0x4,
-          0x4,
-          0x4,
-          0x28004000,
-          0x4,
-          0x80,
+          0xc018002b,
+          0x80000020,
+          0xc0000000,
+          0x20,
+          0x80000000,
+          0x200,
+          0x80000000,
+          0x80000020,
           0x0,
-          0x20000000,
+          0x100,
           0x0,
           0x0,
+          0x50008200,
+          0x8000,
+          0x200,
+          0x8,
+          0x8,
+          0x8,
+          0x8,
+          0x50008000,
+          0x8,
+          0x100,
           0x0,
+          0x40000000,
           0x0,
-          0x28000000,
+          0x1,
           0x0,
-          0x28000000,
           0x0,
-          0x28000000,
+          0x50000000,
           0x0,
-          0x28000000,
-          0x4,
+          0x50000000,
           0x0,
-          0x28000000,
-          0x4,
+          0x50000000,
           0x0,
-          0x28000000,
-          0x4,
+          0x50000000,
+          0x8,
           0x0,
+          0x50000000,
+          0x8,
           0x0,
+          0x50000000,
+          0x8,
           0x0,
-          0x20000000,
           0x0,
-          0x80,
-          0x20000004,
-          0x20000014,
-          0x20000005,
           0x0,
-          0x80,
+          0x40000000,
           0x0,
-          0x10,
+          0x100,
+          0x40000008,
+          0x40000028,
+          0x4000000a,
           0x0,
-          0x80,
+          0x100,
           0x0,
-          0x80,
+          0x20,
           0x0,
+          0x100,
           0x0,
+          0x100,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x30000000,
-          0x30000000,
           0x0,
-          0x80,
           0x0,
+          0x60000000,
+          0x60000000,
           0x0,
-          0x20000000,
-          0x20000000,
+          0x100,
           0x0,
+          0x1,
+          0x40000000,
+          0x40000000,
+          0x1,
           0x0,
           0x0,
           0x0,
-          0x20000000,
+          0x40000000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x80,
-          0x1,
+          0x100,
+          0x2,
           0x0,
           0x0,
           0x0,
@@ -40622,54 +40783,53 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x80,
+          0x100,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x80,
+          0x100,
           0x0,
           0x0,
           0x0,
-          0x80,
+          0x100,
           0x0,
           0x0,
           0x0,
-          0x40000000,
-          0x40000000,
+          0x80000000,
+          0x80000000,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x80000000,
           0x40000000,
-          0x20000000,
-          0x0,
-          0x0,
-          0x20000000,
           0x0,
           0x0,
+          0x40000000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x80,
           0x0,
           0x0,
+          0x100,
           0x0,
+          0x1,
           0x0,
-          0xc0000,
-          0x80,
           0x0,
-          0x10,
+          0x180000,
+          0x100,
           0x0,
-          0xc0000,
-          0xc0000,
-          0x80,
+          0x20,
           0x0,
-          0x10,
+          0x180000,
+          0x180000,
+          0x100,
           0x0,
+          0x20,
           0x0,
           0x0,
           0x0,
@@ -40679,17 +40839,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x4,
           0x0,
+          0x8,
           0x0,
-          0x600c0015,
-          0x600c0055,
-          0x40,
           0x0,
+          0xc018002b,
+          0xc01800ab,
+          0x80,
           0x0,
           0x0,
+          0x1,
           0x0,
           0x0,
+          0x1,
           0x0,
           0x0,
           0x0,
@@ -40698,37 +40860,36 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xc01800ab,
+          0x80,
+          0xc01800ab,
+          0x80,
+          0x80000000,
+          0x200,
           0x0,
-          0x600c0055,
-          0x40,
-          0x600c0055,
-          0x40,
-          0x40000000,
           0x100,
           0x0,
-          0x80,
           0x0,
           0x0,
-          0x0,
-          0x80,
+          0x100,
           0x0,
           0x0,
-          0x80,
+          0x100,
           0x0,
           0x0,
           0x0,
-          0xc0000,
-          0xc0000,
-          0x80,
+          0x180000,
+          0x180000,
+          0x100,
           0x0,
-          0x10,
+          0x20,
           0x0,
-          0xc0000,
+          0x180000,
           0x0,
-          0x80,
+          0x100,
           0x0,
-          0x4,
-          0xc0000,
+          0x8,
+          0x180000,
           0x0,
         };
   }
@@ -40738,15 +40899,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         new int[] {
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -40767,7 +40928,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -40784,14 +40945,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x200000,
+          0x400000,
           0x0,
           0x0,
           0x0,
@@ -40816,7 +40977,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -40827,14 +40988,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -40844,7 +41005,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -40859,11 +41020,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x3c0,
+          0x780,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -40884,14 +41045,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -40900,17 +41061,17 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
-          0x180000,
+          0x300000,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -40920,10 +41081,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x6003f,
-          0x400000,
+          0xc007f,
+          0x800000,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -40933,10 +41094,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -40944,41 +41105,41 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x600000,
+          0xc00000,
           0x0,
-          0x20800000,
+          0x41000000,
           0x0,
-          0x200000,
-          0x20e00000,
           0x400000,
+          0x41c00000,
+          0x800000,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -40989,18 +41150,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
-          0x400000,
+          0x800000,
+          0x800000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
-          0x400000,
+          0x800000,
+          0x800000,
           0x0,
-          0x400000,
-          0x400000,
+          0x800000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -41012,37 +41173,37 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -41053,65 +41214,65 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
-          0x400000,
-          0x400000,
+          0x800000,
+          0x800000,
           0x0,
-          0x400000,
-          0x400000,
-          0x400000,
-          0x400000,
+          0x800000,
+          0x800000,
+          0x800000,
+          0x800000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
-          0x400000,
-          0x400000,
+          0x800000,
+          0x800000,
           0x0,
           0x0,
-          0x400000,
-          0x400000,
+          0x800000,
+          0x800000,
           0x0,
           0x0,
-          0x400000,
-          0x400000,
-          0x400000,
-          0x400000,
+          0x800000,
+          0x800000,
+          0x800000,
+          0x800000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
-          0x400000,
-          0x400000,
+          0x800000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -41121,16 +41282,16 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
-          0x400000,
-          0x400000,
+          0x800000,
+          0x800000,
           0x0,
-          0x400000,
-          0x400000,
+          0x800000,
+          0x800000,
           0x0,
-          0x400000,
-          0x400000,
+          0x800000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -41144,8 +41305,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
-          0x400000,
+          0x800000,
+          0x800000,
           0x0,
           0x0,
           0x0,
@@ -41161,11 +41322,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
-          0x7cc00000,
+          0xf9800000,
           0x0,
           0x0,
           0x0,
@@ -41179,18 +41340,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
-          0x400000,
+          0x800000,
+          0x800000,
           0x0,
-          0x400000,
-          0x400000,
+          0x800000,
+          0x800000,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x800000,
           0x0,
         };
   }
@@ -41200,15 +41361,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         new int[] {
           0x0,
           0x0,
-          0x8032,
+          0x10064,
           0x0,
           0x0,
-          0x32,
+          0x64,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x8032,
+          0x10064,
           0x0,
           0x0,
           0x0,
@@ -41229,7 +41390,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8032,
+          0x10064,
           0x0,
           0x0,
           0x0,
@@ -41246,7 +41407,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x32,
+          0x64,
           0x0,
           0x0,
           0x0,
@@ -41275,11 +41436,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8000,
-          0x8000,
-          0x0,
-          0x32,
+          0x10000,
+          0x10000,
           0x0,
+          0x64,
           0x0,
           0x0,
           0x0,
@@ -41289,15 +41449,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x32,
           0x0,
+          0x64,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x8032,
           0x0,
+          0x10064,
           0x0,
           0x0,
           0x0,
@@ -41306,8 +41466,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8032,
           0x0,
+          0x10064,
           0x0,
           0x0,
           0x0,
@@ -41324,9 +41484,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8,
-          0xc32,
           0x0,
+          0x10,
+          0x1864,
           0x0,
           0x0,
           0x0,
@@ -41340,21 +41500,21 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8,
           0x0,
-          0xc00,
+          0x10,
           0x0,
+          0x1800,
           0x0,
-          0x8,
-          0x32,
           0x0,
+          0x10,
+          0x64,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x32,
           0x0,
+          0x64,
           0x0,
           0x0,
           0x0,
@@ -41362,18 +41522,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8032,
           0x0,
+          0x10064,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x32,
           0x0,
-          0x8032,
+          0x64,
           0x0,
-          0x8032,
+          0x10064,
           0x0,
+          0x10064,
           0x0,
           0x0,
           0x0,
@@ -41383,65 +41543,65 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8032,
           0x0,
-          0x32,
+          0x10064,
           0x0,
+          0x64,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x8000,
-          0xc08,
-          0x1000,
-          0x32,
-          0xc00,
           0x0,
-          0x32,
           0x10000,
+          0x1810,
+          0x2000,
+          0x64,
+          0x1800,
           0x0,
+          0x64,
+          0x20000,
           0x0,
-          0x380,
-          0x3c0,
           0x0,
+          0x700,
+          0x780,
           0x0,
-          0x8032,
           0x0,
+          0x10064,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x32,
           0x0,
-          0x32,
+          0x64,
           0x0,
-          0x32,
+          0x64,
           0x0,
+          0x64,
           0x0,
-          0x8032,
           0x0,
+          0x10064,
           0x0,
           0x0,
           0x0,
-          0x8032,
           0x0,
+          0x10064,
           0x0,
           0x0,
-          0x8032,
           0x0,
+          0x10064,
           0x0,
-          0x8032,
           0x0,
+          0x10064,
           0x0,
           0x0,
           0x0,
-          0x8032,
           0x0,
+          0x10064,
           0x0,
           0x0,
-          0x8032,
           0x0,
+          0x10064,
           0x0,
           0x0,
           0x0,
@@ -41451,19 +41611,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8032,
-          0x32,
           0x0,
+          0x10064,
+          0x64,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x32,
-          0x32,
           0x0,
-          0x32,
-          0x32,
+          0x64,
+          0x64,
           0x0,
+          0x64,
+          0x64,
           0x0,
           0x0,
           0x0,
@@ -41473,107 +41633,108 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xc08,
-          0x32,
-          0xc00,
           0x0,
-          0xc08,
-          0x32,
+          0x1810,
+          0x64,
+          0x1800,
           0x0,
-          0x32,
+          0x1810,
+          0x64,
           0x0,
-          0x32,
+          0x64,
           0x0,
-          0x32,
+          0x64,
           0x0,
+          0x64,
           0x0,
-          0x32,
           0x0,
+          0x64,
           0x0,
-          0x32,
           0x0,
+          0x64,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x32,
           0x0,
+          0x64,
           0x0,
-          0x8000,
-          0x8000,
-          0x8000,
-          0xc32,
           0x0,
-          0xc32,
+          0x10000,
+          0x10000,
+          0x10000,
+          0x1864,
+          0x0,
+          0x1864,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x8,
+          0x10,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x32,
+          0x64,
           0x0,
           0x0,
-          0x32,
+          0x64,
           0x0,
-          0x32,
+          0x64,
           0x0,
-          0x32,
-          0x32,
+          0x64,
+          0x64,
           0x0,
-          0x20032,
-          0x32,
-          0x32,
-          0x32,
+          0x40064,
+          0x64,
+          0x64,
+          0x64,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x32,
+          0x64,
           0x0,
           0x0,
           0x0,
-          0x32,
+          0x64,
           0x0,
           0x0,
           0x0,
-          0x32,
-          0x2,
+          0x64,
+          0x4,
           0x0,
           0x0,
           0x0,
-          0x32,
-          0x2,
+          0x64,
+          0x4,
           0x0,
           0x0,
-          0x32,
-          0x32,
+          0x64,
+          0x64,
           0x0,
           0x0,
-          0x32,
-          0x32,
+          0x64,
+          0x64,
           0x0,
           0x0,
-          0x32,
-          0x32,
-          0x10032,
-          0x10032,
+          0x64,
+          0x64,
+          0x20064,
+          0x20064,
           0x0,
-          0x8,
+          0x10,
           0x0,
           0x0,
           0x0,
-          0x32,
+          0x64,
           0x0,
-          0x32,
+          0x64,
           0x0,
-          0x32,
-          0x32,
+          0x64,
+          0x64,
           0x0,
           0x0,
           0x0,
@@ -41583,16 +41744,16 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x32,
+          0x64,
           0x0,
-          0x32,
-          0x32,
+          0x64,
+          0x64,
           0x0,
-          0x32,
-          0x32,
+          0x64,
+          0x64,
           0x0,
-          0x32,
-          0x32,
+          0x64,
+          0x64,
           0x0,
           0x0,
           0x0,
@@ -41606,8 +41767,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8032,
-          0x8032,
+          0x10064,
+          0x10064,
           0x0,
           0x0,
           0x0,
@@ -41617,17 +41778,17 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x1fc0000,
-          0x1fc0000,
-          0x6000000,
-          0x6000000,
-          0x18000000,
-          0x18000000,
-          0x8032,
+          0x3f80000,
+          0x3f80000,
+          0xc000000,
+          0xc000000,
+          0x30000000,
+          0x30000000,
+          0x10064,
           0x0,
-          0x8032,
+          0x10064,
           0x0,
-          0x3a,
+          0x74,
           0x0,
           0x0,
           0x0,
@@ -41641,18 +41802,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x32,
-          0x32,
+          0x64,
+          0x64,
           0x0,
-          0x32,
-          0x32,
+          0x64,
+          0x64,
           0x0,
-          0x32,
+          0x64,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x32,
+          0x64,
           0x0,
         };
   }
@@ -41816,7 +41977,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   /** Generate ParseException. */
   public ParseException generateParseException() {
     jj_expentries.clear();
-    boolean[] la1tokens = new boolean[285];
+    boolean[] la1tokens = new boolean[286];
     if (jj_kind >= 0) {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
@@ -41854,7 +42015,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         }
       }
     }
-    for (int i = 0; i < 285; i++) {
+    for (int i = 0; i < 286; i++) {
       if (la1tokens[i]) {
         jj_expentry = new int[1];
         jj_expentry[0] = i;
@@ -219,317 +219,319 @@ public interface OrientSqlConstants {
   /** RegularExpression Id. */
   int OPTIMIZE = 114;
   /** RegularExpression Id. */
-  int LINK = 115;
+  int ANALYZE = 115;
   /** RegularExpression Id. */
-  int TYPE = 116;
+  int LINK = 116;
   /** RegularExpression Id. */
-  int INVERSE = 117;
+  int TYPE = 117;
   /** RegularExpression Id. */
-  int EXPLAIN = 118;
+  int INVERSE = 118;
   /** RegularExpression Id. */
-  int GRANT = 119;
+  int EXPLAIN = 119;
   /** RegularExpression Id. */
-  int REVOKE = 120;
+  int GRANT = 120;
   /** RegularExpression Id. */
-  int READ = 121;
+  int REVOKE = 121;
   /** RegularExpression Id. */
-  int EXECUTE = 122;
+  int READ = 122;
   /** RegularExpression Id. */
-  int ALL = 123;
+  int EXECUTE = 123;
   /** RegularExpression Id. */
-  int NONE = 124;
+  int ALL = 124;
   /** RegularExpression Id. */
-  int FUNCTION = 125;
+  int NONE = 125;
   /** RegularExpression Id. */
-  int PARAMETERS = 126;
+  int FUNCTION = 126;
   /** RegularExpression Id. */
-  int IDEMPOTENT = 127;
+  int PARAMETERS = 127;
   /** RegularExpression Id. */
-  int LANGUAGE = 128;
+  int IDEMPOTENT = 128;
   /** RegularExpression Id. */
-  int BEGIN = 129;
+  int LANGUAGE = 129;
   /** RegularExpression Id. */
-  int COMMIT = 130;
+  int BEGIN = 130;
   /** RegularExpression Id. */
-  int ROLLBACK = 131;
+  int COMMIT = 131;
   /** RegularExpression Id. */
-  int IF = 132;
+  int ROLLBACK = 132;
   /** RegularExpression Id. */
-  int ELSE = 133;
+  int IF = 133;
   /** RegularExpression Id. */
-  int CONTINUE = 134;
+  int ELSE = 134;
   /** RegularExpression Id. */
-  int FAIL = 135;
+  int CONTINUE = 135;
   /** RegularExpression Id. */
-  int ISOLATION = 136;
+  int FAIL = 136;
   /** RegularExpression Id. */
-  int SLEEP = 137;
+  int ISOLATION = 137;
   /** RegularExpression Id. */
-  int CONSOLE = 138;
+  int SLEEP = 138;
   /** RegularExpression Id. */
-  int BLOB = 139;
+  int CONSOLE = 139;
   /** RegularExpression Id. */
-  int SHARED = 140;
+  int BLOB = 140;
   /** RegularExpression Id. */
-  int DEFAULT_ = 141;
+  int SHARED = 141;
   /** RegularExpression Id. */
-  int SEQUENCE = 142;
+  int DEFAULT_ = 142;
   /** RegularExpression Id. */
-  int START = 143;
+  int SEQUENCE = 143;
   /** RegularExpression Id. */
-  int OPTIONAL = 144;
+  int START = 144;
   /** RegularExpression Id. */
-  int COUNT = 145;
+  int OPTIONAL = 145;
   /** RegularExpression Id. */
-  int DISTINCT = 146;
+  int COUNT = 146;
   /** RegularExpression Id. */
-  int HA = 147;
+  int DISTINCT = 147;
   /** RegularExpression Id. */
-  int STATUS = 148;
+  int HA = 148;
   /** RegularExpression Id. */
-  int SERVER = 149;
+  int STATUS = 149;
   /** RegularExpression Id. */
-  int SYNC = 150;
+  int SERVER = 150;
   /** RegularExpression Id. */
-  int EXISTS = 151;
+  int SYNC = 151;
   /** RegularExpression Id. */
-  int FOREACH = 152;
+  int EXISTS = 152;
   /** RegularExpression Id. */
-  int MOVE = 153;
+  int FOREACH = 153;
   /** RegularExpression Id. */
-  int DEPTH_ALIAS = 154;
+  int MOVE = 154;
   /** RegularExpression Id. */
-  int PATH_ALIAS = 155;
+  int DEPTH_ALIAS = 155;
   /** RegularExpression Id. */
-  int IDENTIFIED = 156;
+  int PATH_ALIAS = 156;
   /** RegularExpression Id. */
-  int ROLE = 157;
+  int IDENTIFIED = 157;
   /** RegularExpression Id. */
-  int USER = 158;
+  int ROLE = 158;
   /** RegularExpression Id. */
-  int USERS = 159;
+  int USER = 159;
   /** RegularExpression Id. */
-  int RID = 160;
+  int USERS = 160;
   /** RegularExpression Id. */
-  int SECURITY = 161;
+  int RID = 161;
   /** RegularExpression Id. */
-  int POLICY = 162;
+  int SECURITY = 162;
   /** RegularExpression Id. */
-  int DEFAULTCLUSTER = 163;
+  int POLICY = 163;
   /** RegularExpression Id. */
-  int SYSTEM = 164;
+  int DEFAULTCLUSTER = 164;
   /** RegularExpression Id. */
-  int THIS = 165;
+  int SYSTEM = 165;
   /** RegularExpression Id. */
-  int RECORD_ATTRIBUTE = 166;
+  int THIS = 166;
   /** RegularExpression Id. */
-  int RID_ATTR = 167;
+  int RECORD_ATTRIBUTE = 167;
   /** RegularExpression Id. */
-  int RID_STRING = 168;
+  int RID_ATTR = 168;
   /** RegularExpression Id. */
-  int CLASS_ATTR = 169;
+  int RID_STRING = 169;
   /** RegularExpression Id. */
-  int VERSION_ATTR = 170;
+  int CLASS_ATTR = 170;
   /** RegularExpression Id. */
-  int SIZE_ATTR = 171;
+  int VERSION_ATTR = 171;
   /** RegularExpression Id. */
-  int TYPE_ATTR = 172;
+  int SIZE_ATTR = 172;
   /** RegularExpression Id. */
-  int RAW_ATTR = 173;
+  int TYPE_ATTR = 173;
   /** RegularExpression Id. */
-  int RID_ID_ATTR = 174;
+  int RAW_ATTR = 174;
   /** RegularExpression Id. */
-  int RID_POS_ATTR = 175;
+  int RID_ID_ATTR = 175;
   /** RegularExpression Id. */
-  int FIELDS_ATTR = 176;
+  int RID_POS_ATTR = 176;
   /** RegularExpression Id. */
-  int INTEGER_LITERAL = 177;
+  int FIELDS_ATTR = 177;
   /** RegularExpression Id. */
-  int DECIMAL_LITERAL = 178;
+  int INTEGER_LITERAL = 178;
   /** RegularExpression Id. */
-  int HEX_LITERAL = 179;
+  int DECIMAL_LITERAL = 179;
   /** RegularExpression Id. */
-  int OCTAL_LITERAL = 180;
+  int HEX_LITERAL = 180;
   /** RegularExpression Id. */
-  int FLOATING_POINT_LITERAL = 181;
+  int OCTAL_LITERAL = 181;
   /** RegularExpression Id. */
-  int DECIMAL_FLOATING_POINT_LITERAL = 182;
+  int FLOATING_POINT_LITERAL = 182;
   /** RegularExpression Id. */
-  int DECIMAL_EXPONENT = 183;
+  int DECIMAL_FLOATING_POINT_LITERAL = 183;
   /** RegularExpression Id. */
-  int HEXADECIMAL_FLOATING_POINT_LITERAL = 184;
+  int DECIMAL_EXPONENT = 184;
   /** RegularExpression Id. */
-  int HEXADECIMAL_EXPONENT = 185;
+  int HEXADECIMAL_FLOATING_POINT_LITERAL = 185;
   /** RegularExpression Id. */
-  int CHARACTER_LITERAL = 186;
+  int HEXADECIMAL_EXPONENT = 186;
   /** RegularExpression Id. */
-  int STRING_LITERAL = 187;
+  int CHARACTER_LITERAL = 187;
   /** RegularExpression Id. */
-  int INTEGER_RANGE = 188;
+  int STRING_LITERAL = 188;
   /** RegularExpression Id. */
-  int ELLIPSIS_INTEGER_RANGE = 189;
+  int INTEGER_RANGE = 189;
   /** RegularExpression Id. */
-  int TRUE = 190;
+  int ELLIPSIS_INTEGER_RANGE = 190;
   /** RegularExpression Id. */
-  int FALSE = 191;
+  int TRUE = 191;
   /** RegularExpression Id. */
-  int LPAREN = 192;
+  int FALSE = 192;
   /** RegularExpression Id. */
-  int RPAREN = 193;
+  int LPAREN = 193;
   /** RegularExpression Id. */
-  int LBRACE = 194;
+  int RPAREN = 194;
   /** RegularExpression Id. */
-  int RBRACE = 195;
+  int LBRACE = 195;
   /** RegularExpression Id. */
-  int LBRACKET = 196;
+  int RBRACE = 196;
   /** RegularExpression Id. */
-  int RBRACKET = 197;
+  int LBRACKET = 197;
   /** RegularExpression Id. */
-  int SEMICOLON = 198;
+  int RBRACKET = 198;
   /** RegularExpression Id. */
-  int COMMA = 199;
+  int SEMICOLON = 199;
   /** RegularExpression Id. */
-  int DOT = 200;
+  int COMMA = 200;
   /** RegularExpression Id. */
-  int AT = 201;
+  int DOT = 201;
   /** RegularExpression Id. */
-  int DOLLAR = 202;
+  int AT = 202;
   /** RegularExpression Id. */
-  int BACKTICK = 203;
+  int DOLLAR = 203;
   /** RegularExpression Id. */
-  int EQ = 204;
+  int BACKTICK = 204;
   /** RegularExpression Id. */
-  int EQEQ = 205;
+  int EQ = 205;
   /** RegularExpression Id. */
-  int LT = 206;
+  int EQEQ = 206;
   /** RegularExpression Id. */
-  int GT = 207;
+  int LT = 207;
   /** RegularExpression Id. */
-  int BANG = 208;
+  int GT = 208;
   /** RegularExpression Id. */
-  int TILDE = 209;
+  int BANG = 209;
   /** RegularExpression Id. */
-  int HOOK = 210;
+  int TILDE = 210;
   /** RegularExpression Id. */
-  int COLON = 211;
+  int HOOK = 211;
   /** RegularExpression Id. */
-  int LE = 212;
+  int COLON = 212;
   /** RegularExpression Id. */
-  int GE = 213;
+  int LE = 213;
   /** RegularExpression Id. */
-  int NE = 214;
+  int GE = 214;
   /** RegularExpression Id. */
-  int NEQ = 215;
+  int NE = 215;
   /** RegularExpression Id. */
-  int SC_OR = 216;
+  int NEQ = 216;
   /** RegularExpression Id. */
-  int SC_AND = 217;
+  int SC_OR = 217;
   /** RegularExpression Id. */
-  int INCR = 218;
+  int SC_AND = 218;
   /** RegularExpression Id. */
-  int DECR = 219;
+  int INCR = 219;
   /** RegularExpression Id. */
-  int PLUS = 220;
+  int DECR = 220;
   /** RegularExpression Id. */
-  int MINUS = 221;
+  int PLUS = 221;
   /** RegularExpression Id. */
-  int STAR = 222;
+  int MINUS = 222;
   /** RegularExpression Id. */
-  int SLASH = 223;
+  int STAR = 223;
   /** RegularExpression Id. */
-  int BIT_AND = 224;
+  int SLASH = 224;
   /** RegularExpression Id. */
-  int NULL_COALESCING = 225;
+  int BIT_AND = 225;
   /** RegularExpression Id. */
-  int BIT_OR = 226;
+  int NULL_COALESCING = 226;
   /** RegularExpression Id. */
-  int XOR = 227;
+  int BIT_OR = 227;
   /** RegularExpression Id. */
-  int REM = 228;
+  int XOR = 228;
   /** RegularExpression Id. */
-  int LSHIFT = 229;
+  int REM = 229;
   /** RegularExpression Id. */
-  int PLUSASSIGN = 230;
+  int LSHIFT = 230;
   /** RegularExpression Id. */
-  int MINUSASSIGN = 231;
+  int PLUSASSIGN = 231;
   /** RegularExpression Id. */
-  int STARASSIGN = 232;
+  int MINUSASSIGN = 232;
   /** RegularExpression Id. */
-  int SLASHASSIGN = 233;
+  int STARASSIGN = 233;
   /** RegularExpression Id. */
-  int ANDASSIGN = 234;
+  int SLASHASSIGN = 234;
   /** RegularExpression Id. */
-  int ORASSIGN = 235;
+  int ANDASSIGN = 235;
   /** RegularExpression Id. */
-  int XORASSIGN = 236;
+  int ORASSIGN = 236;
   /** RegularExpression Id. */
-  int REMASSIGN = 237;
+  int XORASSIGN = 237;
   /** RegularExpression Id. */
-  int LSHIFTASSIGN = 238;
+  int REMASSIGN = 238;
   /** RegularExpression Id. */
-  int RSIGNEDSHIFTASSIGN = 239;
+  int LSHIFTASSIGN = 239;
   /** RegularExpression Id. */
-  int RUNSIGNEDSHIFTASSIGN = 240;
+  int RSIGNEDSHIFTASSIGN = 240;
   /** RegularExpression Id. */
-  int RSHIFT = 241;
+  int RUNSIGNEDSHIFTASSIGN = 241;
   /** RegularExpression Id. */
-  int RUNSIGNEDSHIFT = 242;
+  int RSHIFT = 242;
   /** RegularExpression Id. */
-  int ELLIPSIS = 243;
+  int RUNSIGNEDSHIFT = 243;
   /** RegularExpression Id. */
-  int RANGE = 244;
+  int ELLIPSIS = 244;
   /** RegularExpression Id. */
-  int NOT = 245;
+  int RANGE = 245;
   /** RegularExpression Id. */
-  int IN = 246;
+  int NOT = 246;
   /** RegularExpression Id. */
-  int LIKE = 247;
+  int IN = 247;
   /** RegularExpression Id. */
-  int IS = 248;
+  int LIKE = 248;
   /** RegularExpression Id. */
-  int BETWEEN = 249;
+  int IS = 249;
   /** RegularExpression Id. */
-  int CONTAINS = 250;
+  int BETWEEN = 250;
   /** RegularExpression Id. */
-  int CONTAINSALL = 251;
+  int CONTAINS = 251;
   /** RegularExpression Id. */
-  int CONTAINSANY = 252;
+  int CONTAINSALL = 252;
   /** RegularExpression Id. */
-  int CONTAINSKEY = 253;
+  int CONTAINSANY = 253;
   /** RegularExpression Id. */
-  int CONTAINSVALUE = 254;
+  int CONTAINSKEY = 254;
   /** RegularExpression Id. */
-  int CONTAINSTEXT = 255;
+  int CONTAINSVALUE = 255;
   /** RegularExpression Id. */
-  int MATCHES = 256;
+  int CONTAINSTEXT = 256;
   /** RegularExpression Id. */
-  int KEY = 257;
+  int MATCHES = 257;
   /** RegularExpression Id. */
-  int INSTANCEOF = 258;
+  int KEY = 258;
   /** RegularExpression Id. */
-  int CLUSTER = 259;
+  int INSTANCEOF = 259;
   /** RegularExpression Id. */
-  int IDENTIFIER = 260;
+  int CLUSTER = 260;
   /** RegularExpression Id. */
-  int QUOTED_IDENTIFIER = 261;
+  int IDENTIFIER = 261;
   /** RegularExpression Id. */
-  int INDEX_COLON = 262;
+  int QUOTED_IDENTIFIER = 262;
   /** RegularExpression Id. */
-  int INDEXVALUES_IDENTIFIER = 263;
+  int INDEX_COLON = 263;
   /** RegularExpression Id. */
-  int INDEXVALUESASC_IDENTIFIER = 264;
+  int INDEXVALUES_IDENTIFIER = 264;
   /** RegularExpression Id. */
-  int INDEXVALUESDESC_IDENTIFIER = 265;
+  int INDEXVALUESASC_IDENTIFIER = 265;
   /** RegularExpression Id. */
-  int CLUSTER_IDENTIFIER = 266;
+  int INDEXVALUESDESC_IDENTIFIER = 266;
   /** RegularExpression Id. */
-  int CLUSTER_NUMBER_IDENTIFIER = 267;
+  int CLUSTER_IDENTIFIER = 267;
   /** RegularExpression Id. */
-  int METADATA_IDENTIFIER = 268;
+  int CLUSTER_NUMBER_IDENTIFIER = 268;
   /** RegularExpression Id. */
-  int LETTER = 269;
+  int METADATA_IDENTIFIER = 269;
   /** RegularExpression Id. */
-  int PART_LETTER = 270;
+  int LETTER = 270;
+  /** RegularExpression Id. */
+  int PART_LETTER = 271;
 
   /** Lexical state. */
   int DEFAULT = 0;
@@ -655,6 +657,7 @@ public interface OrientSqlConstants {
     "<ID>",
     "<DATABASE>",
     "<OPTIMIZE>",
+    "<ANALYZE>",
     "<LINK>",
     "<TYPE>",
     "<INVERSE>",
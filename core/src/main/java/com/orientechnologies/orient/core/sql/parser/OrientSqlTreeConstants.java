@@ -168,43 +168,44 @@ public interface OrientSqlTreeConstants {
   public int JJTALTERDATABASESTATEMENT = 163;
   public int JJTCOMMANDLINEOPTION = 164;
   public int JJTOPTIMIZEDATABASESTATEMENT = 165;
-  public int JJTCREATELINKSTATEMENT = 166;
-  public int JJTEXPLAINSTATEMENT = 167;
-  public int JJTPROFILESTATEMENT = 168;
-  public int JJTPERMISSION = 169;
-  public int JJTGRANTSTATEMENT = 170;
-  public int JJTREVOKESTATEMENT = 171;
-  public int JJTCREATEFUNCTIONSTATEMENT = 172;
-  public int JJTCREATESYSTEMUSERSTATEMENT = 173;
-  public int JJTEXISTSSYSTEMUSERSTATEMENT = 174;
-  public int JJTCREATEUSERSTATEMENT = 175;
-  public int JJTDROPUSERSTATEMENT = 176;
-  public int JJTALTERROLESTATEMENT = 177;
-  public int JJTALTERSYSTEMROLESTATEMENT = 178;
-  public int JJTLETSTATEMENT = 179;
-  public int JJTBEGINSTATEMENT = 180;
-  public int JJTCOMMITSTATEMENT = 181;
-  public int JJTROLLBACKSTATEMENT = 182;
-  public int JJTRETURNSTATEMENT = 183;
-  public int JJTIFSTATEMENT = 184;
-  public int JJTSLEEPSTATEMENT = 185;
-  public int JJTCONSOLESTATEMENT = 186;
-  public int JJTCREATESEQUENCESTATEMENT = 187;
-  public int JJTALTERSEQUENCESTATEMENT = 188;
-  public int JJTDROPSEQUENCESTATEMENT = 189;
-  public int JJTHASTATUSSTATEMENT = 190;
-  public int JJTHAREMOVESERVERSTATEMENT = 191;
-  public int JJTHASYNCDATABASESTATEMENT = 192;
-  public int JJTHASYNCCLUSTERSTATEMENT = 193;
-  public int JJTHASETSTATEMENT = 194;
-  public int JJTFOREACHBLOCK = 195;
-  public int JJTWHILEBLOCK = 196;
-  public int JJTSECURITYRESOURCESEGMENT = 197;
-  public int JJTCREATESECURITYPOLICYSTATEMENT = 198;
-  public int JJTALTERSECURITYPOLICYSTATEMENT = 199;
-  public int JJTDATABASEUSERDATA = 200;
-  public int JJTCREATEDATABASESTATEMENT = 201;
-  public int JJTDROPDATABASESTATEMENT = 202;
+  public int JJTANALYZECLASSSTATEMENT = 166;
+  public int JJTCREATELINKSTATEMENT = 167;
+  public int JJTEXPLAINSTATEMENT = 168;
+  public int JJTPROFILESTATEMENT = 169;
+  public int JJTPERMISSION = 170;
+  public int JJTGRANTSTATEMENT = 171;
+  public int JJTREVOKESTATEMENT = 172;
+  public int JJTCREATEFUNCTIONSTATEMENT = 173;
+  public int JJTCREATESYSTEMUSERSTATEMENT = 174;
+  public int JJTEXISTSSYSTEMUSERSTATEMENT = 175;
+  public int JJTCREATEUSERSTATEMENT = 176;
+  public int JJTDROPUSERSTATEMENT = 177;
+  public int JJTALTERROLESTATEMENT = 178;
+  public int JJTALTERSYSTEMROLESTATEMENT = 179;
+  public int JJTLETSTATEMENT = 180;
+  public int JJTBEGINSTATEMENT = 181;
+  public int JJTCOMMITSTATEMENT = 182;
+  public int JJTROLLBACKSTATEMENT = 183;
+  public int JJTRETURNSTATEMENT = 184;
+  public int JJTIFSTATEMENT = 185;
+  public int JJTSLEEPSTATEMENT = 186;
+  public int JJTCONSOLESTATEMENT = 187;
+  public int JJTCREATESEQUENCESTATEMENT = 188;
+  public int JJTALTERSEQUENCESTATEMENT = 189;
+  public int JJTDROPSEQUENCESTATEMENT = 190;
+  public int JJTHASTATUSSTATEMENT = 191;
+  public int JJTHAREMOVESERVERSTATEMENT = 192;
+  public int JJTHASYNCDATABASESTATEMENT = 193;
+  public int JJTHASYNCCLUSTERSTATEMENT = 194;
+  public int JJTHASETSTATEMENT = 195;
+  public int JJTFOREACHBLOCK = 196;
+  public int JJTWHILEBLOCK = 197;
+  public int JJTSECURITYRESOURCESEGMENT = 198;
+  public int JJTCREATESECURITYPOLICYSTATEMENT = 199;
+  public int JJTALTERSECURITYPOLICYSTATEMENT = 200;
+  public int JJTDATABASEUSERDATA = 201;
+  public int JJTCREATEDATABASESTATEMENT = 202;
+  public int JJTDROPDATABASESTATEMENT = 203;
 
   public String[] jjtNodeName = {
     "Rid",
@@ -373,6 +374,7 @@ public interface OrientSqlTreeConstants {
     "AlterDatabaseStatement",
     "CommandLineOption",
     "OptimizeDatabaseStatement",
+    "AnalyzeClassStatement",
     "CreateLinkStatement",
     "ExplainStatement",
     "ProfileStatement",
@@ -412,4 +414,4 @@ public interface OrientSqlTreeConstants {
     "DropDatabaseStatement",
   };
 }
-/* JavaCC - OriginalChecksum=7771c9acdfb66453b7257763d2933bb2 (do not edit this line) */
+/* JavaCC - OriginalChecksum=4a6ba1193805754795902a291934a175 (do not edit this line) */
@@ -332,6 +332,8 @@ public interface OrientSqlVisitor {
 
   public Object visit(OOptimizeDatabaseStatement node, Object data);
 
+  public Object visit(OAnalyzeClassStatement node, Object data);
+
   public Object visit(OCreateLinkStatement node, Object data);
 
   public Object visit(OExplainStatement node, Object data);
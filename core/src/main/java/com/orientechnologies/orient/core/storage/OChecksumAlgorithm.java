@@ -0,0 +1,113 @@
+package com.orientechnologies.orient.core.storage;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+import net.jpountz.xxhash.XXHash64;
+import net.jpountz.xxhash.XXHashFactory;
+
+/**
+ * Algorithms of per-page checksums supported by {@link
+ * com.orientechnologies.orient.core.storage.cache.OWriteCache write caches}. Algorithm which was
+ * used to calculate the checksum is recorded in the page, so pages written using different
+ * algorithms may be stored in the same file and algorithm may be changed at any time.
+ */
+public enum OChecksumAlgorithm {
+  /** CRC32, the only algorithm used by previous versions. */
+  CRC32 {
+    @Override
+    public int calculate(final ByteBuffer buffer) {
+      final java.util.zip.CRC32 crc32 = new java.util.zip.CRC32();
+      crc32.update(buffer);
+      return (int) crc32.getValue();
+    }
+  },
+
+  /**
+   * CRC32C which is calculated by dedicated CPU instructions on modern hardware, available only if
+   * database runs on Java 9 or newer.
+   */
+  CRC32C {
+    @Override
+    public int calculate(final ByteBuffer buffer) {
+      if (!isSupported()) {
+        throw new IllegalStateException("CRC32C checksums require Java 9 or newer");
+      }
+
+      try {
+        final Checksum checksum = (Checksum) Crc32c.CONSTRUCTOR.invokeExact();
+        Crc32c.UPDATE.invokeExact(checksum, buffer);
+        return (int) checksum.getValue();
+      } catch (final RuntimeException | Error e) {
+        throw e;
+      } catch (final Throwable t) {
+        throw new IllegalStateException("Error during calculation of CRC32C checksum", t);
+      }
+    }
+
+    @Override
+    public boolean isSupported() {
+      return Crc32c.CONSTRUCTOR != null;
+    }
+  },
+
+  /** 64-bit xxHash folded to 32 bits. */
+  XXHASH64 {
+    @Override
+    public int calculate(final ByteBuffer buffer) {
+      final long hash =
+          XxHash.HASH.hash(buffer, buffer.position(), buffer.remaining(), XxHash.SEED);
+      buffer.position(buffer.limit());
+      return (int) (hash ^ (hash >>> 32));
+    }
+  };
+
+  /**
+   * Calculates checksum of the content of the buffer between its position and limit. Position of
+   * the buffer is moved to its limit.
+   */
+  public abstract int calculate(ByteBuffer buffer);
+
+  /** @return {@code true} if algorithm can be used in current JVM */
+  public boolean isSupported() {
+    return true;
+  }
+
+  private static final class Crc32c {
+    private static final MethodHandle CONSTRUCTOR;
+    private static final MethodHandle UPDATE;
+
+    static {
+      MethodHandle constructor = null;
+      MethodHandle update = null;
+
+      try {
+        final Class<?> crc32c = Class.forName("java.util.zip.CRC32C");
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+        constructor =
+            lookup
+                .findConstructor(crc32c, MethodType.methodType(void.class))
+                .asType(MethodType.methodType(Checksum.class));
+        update =
+            lookup
+                .findVirtual(crc32c, "update", MethodType.methodType(void.class, ByteBuffer.class))
+                .asType(MethodType.methodType(void.class, Checksum.class, ByteBuffer.class));
+      } catch (final ReflectiveOperationException e) {
+        // CRC32C IS AVAILABLE SINCE JAVA 9
+        constructor = null;
+        update = null;
+      }
+
+      CONSTRUCTOR = constructor;
+      UPDATE = update;
+    }
+  }
+
+  private static final class XxHash {
+    private static final XXHash64 HASH = XXHashFactory.fastestInstance().hash64();
+    private static final long SEED = 0x3C8E_A2F1L;
+  }
+}
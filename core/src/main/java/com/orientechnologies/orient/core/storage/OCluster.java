@@ -33,7 +33,8 @@ public interface OCluster {
     CONFLICTSTRATEGY,
     STATUS,
     @Deprecated
-    ENCRYPTION
+    ENCRYPTION,
+    STORAGE_TIER
   }
 
   void configure(int iId, String iClusterName) throws IOException;
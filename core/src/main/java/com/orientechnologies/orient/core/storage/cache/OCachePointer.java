@@ -20,7 +20,9 @@
 package com.orientechnologies.orient.core.storage.cache;
 
 import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator.Intention;
 import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.orient.core.storage.fs.MappedRange;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -54,9 +56,16 @@ public final class OCachePointer {
 
   private volatile WritersListener writersListener;
 
-  private final OPointer pointer;
+  private volatile OPointer pointer;
   private final OByteBufferPool bufferPool;
 
+  /**
+   * read only range of memory mapped file which contains the page, it is replaced by the copy of
+   * the page allocated from the buffer pool once the page is locked for modification, and released
+   * with the pointer
+   */
+  private volatile MappedRange mappedRange;
+
   private long version;
 
   private final long fileId;
@@ -71,7 +80,25 @@ public final class OCachePointer {
       final OByteBufferPool bufferPool,
       final long fileId,
       final int pageIndex) {
+    this(pointer, null, bufferPool, fileId, pageIndex);
+  }
+
+  public OCachePointer(
+      final MappedRange mappedRange,
+      final OByteBufferPool bufferPool,
+      final long fileId,
+      final int pageIndex) {
+    this(null, mappedRange, bufferPool, fileId, pageIndex);
+  }
+
+  private OCachePointer(
+      final OPointer pointer,
+      final MappedRange mappedRange,
+      final OByteBufferPool bufferPool,
+      final long fileId,
+      final int pageIndex) {
     this.pointer = pointer;
+    this.mappedRange = mappedRange;
     this.bufferPool = bufferPool;
 
     if (fileId < 0) {
@@ -210,8 +237,17 @@ public final class OCachePointer {
 
   public void decrementReferrer() {
     final int rf = REFERRERS_COUNT_UPDATER.decrementAndGet(this);
-    if (rf == 0 && pointer != null) {
-      bufferPool.release(pointer);
+    if (rf == 0) {
+      final OPointer pointer = this.pointer;
+      if (pointer != null) {
+        bufferPool.release(pointer);
+      }
+
+      final MappedRange mappedRange = this.mappedRange;
+      if (mappedRange != null) {
+        this.mappedRange = null;
+        mappedRange.release();
+      }
     }
 
     if (rf < 0) {
@@ -221,8 +257,10 @@ public final class OCachePointer {
   }
 
   public ByteBuffer getBuffer() {
+    final OPointer pointer = this.pointer;
     if (pointer == null) {
-      return null;
+      final MappedRange mappedRange = this.mappedRange;
+      return mappedRange != null ? mappedRange.getBuffer() : null;
     }
 
     return pointer.getNativeByteBuffer();
@@ -233,11 +271,11 @@ public final class OCachePointer {
   }
 
   public ByteBuffer getBufferDuplicate() {
-    if (pointer == null) {
+    final ByteBuffer buffer = getBuffer();
+    if (buffer == null) {
       return null;
     }
-    final ByteBuffer duplicate =
-        pointer.getNativeByteBuffer().duplicate().order(ByteOrder.nativeOrder());
+    final ByteBuffer duplicate = buffer.duplicate().order(ByteOrder.nativeOrder());
     duplicate.rewind();
     return duplicate;
   }
@@ -245,6 +283,36 @@ public final class OCachePointer {
   public void acquireExclusiveLock() {
     readWriteLock.writeLock().lock();
     version++;
+
+    if (mappedRange != null) {
+      copyMappedPage();
+    }
+  }
+
+  /** @return true if content of the page is served from the memory mapped file */
+  public boolean isMapped() {
+    return mappedRange != null;
+  }
+
+  /**
+   * Page may be modified only inside of the direct memory controlled by the cache, so content of
+   * the memory mapped page is copied before the first modification of the page. Called under
+   * exclusive lock so readers do not access the page during the switch.
+   */
+  private void copyMappedPage() {
+    final OPointer copy = bufferPool.acquireDirect(false, Intention.COPY_MAPPED_PAGE);
+    final ByteBuffer buffer = copy.getNativeByteBuffer();
+    assert buffer.position() == 0;
+
+    final MappedRange mappedRange = this.mappedRange;
+    final ByteBuffer mapped = mappedRange.getBuffer().duplicate();
+    mapped.position(0);
+    buffer.put(mapped);
+    buffer.position(0);
+
+    pointer = copy;
+    this.mappedRange = null;
+    mappedRange.release();
   }
 
   public long getVersion() {
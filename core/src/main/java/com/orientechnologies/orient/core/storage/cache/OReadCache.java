@@ -63,6 +63,20 @@ public interface OReadCache {
       boolean verifyChecksums)
       throws IOException;
 
+  /**
+   * Loads page read by a scan, such pages are not supposed to be read again soon and should not
+   * evict the pages which are used often.
+   */
+  default OCacheEntry loadForScan(
+      long fileId,
+      long pageIndex,
+      boolean checkPinnedPages,
+      OWriteCache writeCache,
+      boolean verifyChecksums)
+      throws IOException {
+    return loadForRead(fileId, pageIndex, checkPinnedPages, writeCache, verifyChecksums);
+  }
+
   OCacheEntry silentLoadForRead(
       final long extFileId,
       final int pageIndex,
@@ -96,4 +110,14 @@ public interface OReadCache {
   void closeStorage(OWriteCache writeCache) throws IOException;
 
   void changeMaximumAmountOfMemory(long calculateReadCacheMaxMemory);
+
+  /**
+   * Sets the share of the cache used by the pages of the storage.
+   *
+   * @param minShare percent of the cache reserved for the pages of the storage, they are not
+   *     evicted to make room for pages of other storages while the storage uses less memory
+   * @param maxShare maximum percent of the cache which may be used by the pages of the storage
+   */
+  default void registerStorage(
+      OWriteCache writeCache, String storageName, int minShare, int maxShare) {}
 }
@@ -0,0 +1,12 @@
+package com.orientechnologies.orient.core.storage.cache;
+
+/**
+ * Location of the files of storage component. Files of hot tier are stored in the storage
+ * directory, files of cold tier are stored in the directory configured by {@link
+ * com.orientechnologies.orient.core.config.OGlobalConfiguration#STORAGE_COLD_TIER_PATH}, which is
+ * usually located on cheaper and slower disks.
+ */
+public enum OStorageTier {
+  HOT,
+  COLD
+}
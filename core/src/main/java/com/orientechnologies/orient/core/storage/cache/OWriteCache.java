@@ -108,6 +108,18 @@ public interface OWriteCache {
 
   void renameFile(long fileId, String newFileName) throws IOException;
 
+  /** Returns storage tier where the file is located. */
+  OStorageTier getFileTier(long fileId);
+
+  /**
+   * Moves the file to the given storage tier. File stays registered in the cache and is accessible
+   * during the move, only IO operations on this file are blocked till its content is copied.
+   */
+  void moveFileToTier(long fileId, OStorageTier tier) throws IOException;
+
+  /** Returns amount of pages of the file which were read from disk since the cache was opened. */
+  long getFilePageReads(long fileId);
+
   long[] close() throws IOException;
 
   void close(long fileId, boolean flush);
@@ -5,6 +5,7 @@ import com.orientechnologies.common.directmemory.OByteBufferPool;
 import com.orientechnologies.common.directmemory.ODirectMemoryAllocator.Intention;
 import com.orientechnologies.common.directmemory.OPointer;
 import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.types.OModifiableBoolean;
 import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.exception.OStorageException;
@@ -19,6 +20,7 @@ import com.orientechnologies.orient.core.storage.cache.chm.readbuffer.Buffer;
 import com.orientechnologies.orient.core.storage.cache.chm.writequeue.MPSCLinkedQueue;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -28,6 +30,9 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 /**
  * Disk cache based on ConcurrentHashMap and eviction policy which is asynchronously processed by
@@ -39,8 +44,14 @@ import java.util.concurrent.locks.ReentrantLock;
  * additional pages from write cache to disk cache. Window TinyLFU policy is used as cache eviction
  * policy because it prevents usage of ghost entries and as result considerably decrease usage of
  * heap memory.
+ *
+ * <p>Pages of each storage form a partition of the cache which may have minimum and maximum share
+ * of the cache, statistics of partitions are provided as MBeans. Pages loaded by scans do not
+ * change frequency and recency of the pages so they do not evict pages which are used often.
  */
 public final class AsyncReadCache implements OReadCache {
+  private static final String PARTITION_MBEAN_NAME =
+      "com.orientechnologies.orient.core.storage.cache:type=ReadCachePartition,name=";
 
   private static final int N_CPU = Runtime.getRuntime().availableProcessors();
   private static final int WRITE_BUFFER_MAX_BATCH = 128 * ceilingPowerOfTwo(N_CPU);
@@ -49,6 +60,7 @@ public final class AsyncReadCache implements OReadCache {
   private final Lock evictionLock = new ReentrantLock();
 
   private final WTinyLFUPolicy policy;
+  private final ConcurrentHashMap<Integer, CachePartition> partitions = new ConcurrentHashMap<>();
 
   private final Buffer<OCacheEntry> readBuffer = new BoundedBuffer<>();
   private final MPSCLinkedQueue<Runnable> writeBuffer = new MPSCLinkedQueue<>();
@@ -80,7 +92,7 @@ public final class AsyncReadCache implements OReadCache {
       this.trackHitRate = trackHitRate;
       this.maxCacheSize = (int) (maxCacheSizeInBytes / pageSize);
       this.data = new ConcurrentHashMap<>(this.maxCacheSize);
-      policy = new WTinyLFUPolicy(data, new FrequencySketch(), cacheSize);
+      policy = new WTinyLFUPolicy(data, new FrequencySketch(), cacheSize, partitions);
       policy.setMaxSize(this.maxCacheSize);
     } finally {
       evictionLock.unlock();
@@ -108,7 +120,8 @@ public final class AsyncReadCache implements OReadCache {
       final OWriteCache writeCache,
       final boolean verifyChecksums,
       final OLogSequenceNumber startLSN) {
-    final OCacheEntry cacheEntry = doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums);
+    final OCacheEntry cacheEntry =
+        doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums, false);
 
     if (cacheEntry != null) {
       cacheEntry.acquireExclusiveLock();
@@ -125,7 +138,17 @@ public final class AsyncReadCache implements OReadCache {
       final boolean checkPinnedPages,
       final OWriteCache writeCache,
       final boolean verifyChecksums) {
-    return doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums);
+    return doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums, false);
+  }
+
+  @Override
+  public final OCacheEntry loadForScan(
+      final long fileId,
+      final long pageIndex,
+      final boolean checkPinnedPages,
+      final OWriteCache writeCache,
+      final boolean verifyChecksums) {
+    return doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums, true);
   }
 
   @Override
@@ -190,9 +213,11 @@ public final class AsyncReadCache implements OReadCache {
       final long extFileId,
       final int pageIndex,
       final OWriteCache writeCache,
-      final boolean verifyChecksums) {
+      final boolean verifyChecksums,
+      final boolean scan) {
     final long fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), extFileId);
     final PageKey pageKey = new PageKey(fileId, pageIndex);
+    final CachePartition partition = policy.partition(writeCache.getId());
 
     if (trackHitRate) {
       requests.increment();
@@ -207,12 +232,15 @@ public final class AsyncReadCache implements OReadCache {
 
       if (cacheEntry != null) {
         if (cacheEntry.acquireEntry()) {
-          afterRead(cacheEntry);
+          if (!scan) {
+            afterRead(cacheEntry);
+          }
 
           if (trackHitRate) {
             hits.increment();
           }
 
+          partition.onLoad(true, scan);
           return cacheEntry;
         }
       } else {
@@ -251,14 +279,18 @@ public final class AsyncReadCache implements OReadCache {
         }
 
         if (cacheEntry.acquireEntry()) {
+          partition.onLoad(read[0], scan);
+
           if (read[0]) {
             if (trackHitRate) {
               hits.increment();
             }
 
-            afterRead(cacheEntry);
+            if (!scan) {
+              afterRead(cacheEntry);
+            }
           } else {
-            afterAdd(cacheEntry);
+            afterAdd(cacheEntry, scan);
 
             try {
               writeCache.checkCacheOverflow();
@@ -305,6 +337,61 @@ public final class AsyncReadCache implements OReadCache {
     }
   }
 
+  @Override
+  public final void registerStorage(
+      final OWriteCache writeCache,
+      final String storageName,
+      final int minShare,
+      final int maxShare) {
+    final CachePartition partition = policy.partition(writeCache.getId());
+    partition.configure(storageName, minShare, maxShare);
+
+    try {
+      final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      final ObjectName name = partitionMBeanName(partition);
+      if (server.isRegistered(name)) {
+        server.unregisterMBean(name);
+      }
+      server.registerMBean(partition, name);
+    } catch (final JMException e) {
+      OLogManager.instance()
+          .warn(this, "Cannot register MBean of disk cache partition of %s", e, storageName);
+    }
+  }
+
+  private void removePartition(final OWriteCache writeCache) {
+    final CachePartition partition;
+    evictionLock.lock();
+    try {
+      partition = partitions.remove(writeCache.getId());
+    } finally {
+      evictionLock.unlock();
+    }
+
+    if (partition == null || partition.getStorageName() == null) {
+      return;
+    }
+
+    try {
+      final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      final ObjectName name = partitionMBeanName(partition);
+      if (server.isRegistered(name)) {
+        server.unregisterMBean(name);
+      }
+    } catch (final JMException e) {
+      OLogManager.instance()
+          .warn(
+              this,
+              "Cannot unregister MBean of disk cache partition of %s",
+              e,
+              partition.getStorageName());
+    }
+  }
+
+  private static ObjectName partitionMBeanName(final CachePartition partition) throws JMException {
+    return new ObjectName(PARTITION_MBEAN_NAME + ObjectName.quote(partition.getStorageName()));
+  }
+
   @Override
   public final void releaseFromRead(final OCacheEntry cacheEntry, final OWriteCache writeCache) {
     cacheEntry.releaseEntry();
@@ -384,7 +471,11 @@ public final class AsyncReadCache implements OReadCache {
   }
 
   private void afterAdd(final OCacheEntry entry) {
-    afterWrite(() -> policy.onAdd(entry));
+    afterAdd(entry, false);
+  }
+
+  private void afterAdd(final OCacheEntry entry, final boolean scan) {
+    afterWrite(() -> policy.onAdd(entry, scan));
   }
 
   private void afterWrite(final Runnable command) {
@@ -518,9 +609,10 @@ public final class AsyncReadCache implements OReadCache {
     fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
 
     final int filledUpTo = (int) writeCache.getFilledUpTo(fileId);
-    writeCache.truncateFile(fileId);
-
+    // PAGES MAY BE MAPPED INTO MEMORY, THEY ARE RELEASED BEFORE THE FILE IS TRUNCATED
     clearFile(fileId, filledUpTo, writeCache);
+
+    writeCache.truncateFile(fileId);
   }
 
   @Override
@@ -552,6 +644,7 @@ public final class AsyncReadCache implements OReadCache {
       clearFile(entry.first, entry.second, writeCache);
     }
 
+    removePartition(writeCache);
     writeCache.delete();
   }
 
@@ -567,6 +660,7 @@ public final class AsyncReadCache implements OReadCache {
       clearFile(entry.first, entry.second, writeCache);
     }
 
+    removePartition(writeCache);
     writeCache.close();
   }
 
@@ -0,0 +1,135 @@
+package com.orientechnologies.orient.core.storage.cache.chm;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pages of a single storage contained in {@link AsyncReadCache}. Partition may reserve a share of
+ * the cache for its pages and may limit the share of the cache used by them, see {@link
+ * WTinyLFUPolicy} for details.
+ */
+final class CachePartition implements CachePartitionMXBean {
+  private final int storageId;
+  private volatile String storageName;
+
+  private volatile int minShare;
+  private volatile int maxShare = 100;
+
+  /** amount of pages contained in the policy lists, it is changed only under eviction lock */
+  private volatile int pages;
+
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder scanRequests = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  CachePartition(final int storageId) {
+    this.storageId = storageId;
+  }
+
+  void configure(final String storageName, final int minShare, final int maxShare) {
+    if (minShare < 0 || maxShare > 100 || minShare > maxShare) {
+      throw new IllegalArgumentException(
+          "Invalid shares of the disk cache for storage "
+              + storageName
+              + ", minimum share "
+              + minShare
+              + ", maximum share "
+              + maxShare);
+    }
+
+    this.storageName = storageName;
+    this.minShare = minShare;
+    this.maxShare = maxShare;
+  }
+
+  int getStorageId() {
+    return storageId;
+  }
+
+  /** @return true if other partitions may take pages of this partition */
+  boolean isAboveMinShare(final int cacheSize) {
+    return pages > (long) cacheSize * minShare / 100;
+  }
+
+  /** @return true if the partition can not take pages of other partitions */
+  boolean isAboveMaxShare(final int cacheSize) {
+    return maxShare < 100 && pages >= (long) cacheSize * maxShare / 100;
+  }
+
+  @SuppressWarnings("NonAtomicOperationOnVolatileField")
+  void onPageAdded() {
+    pages++;
+  }
+
+  @SuppressWarnings("NonAtomicOperationOnVolatileField")
+  void onPageRemoved() {
+    pages--;
+  }
+
+  void onPageEvicted() {
+    onPageRemoved();
+    evictions.increment();
+  }
+
+  void onLoad(final boolean hit, final boolean scan) {
+    requests.increment();
+
+    if (hit) {
+      hits.increment();
+    }
+
+    if (scan) {
+      scanRequests.increment();
+    }
+  }
+
+  @Override
+  public String getStorageName() {
+    return storageName;
+  }
+
+  @Override
+  public int getMinShare() {
+    return minShare;
+  }
+
+  @Override
+  public int getMaxShare() {
+    return maxShare;
+  }
+
+  @Override
+  public int getPages() {
+    return pages;
+  }
+
+  @Override
+  public long getRequests() {
+    return requests.sum();
+  }
+
+  @Override
+  public long getHits() {
+    return hits.sum();
+  }
+
+  @Override
+  public int getHitRate() {
+    final long requests = this.requests.sum();
+    if (requests == 0) {
+      return -1;
+    }
+
+    return (int) (hits.sum() * 100 / requests);
+  }
+
+  @Override
+  public long getScanRequests() {
+    return scanRequests.sum();
+  }
+
+  @Override
+  public long getEvictions() {
+    return evictions.sum();
+  }
+}
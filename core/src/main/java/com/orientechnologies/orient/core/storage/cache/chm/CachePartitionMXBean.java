@@ -0,0 +1,31 @@
+package com.orientechnologies.orient.core.storage.cache.chm;
+
+/** Provides an MBean for the pages of a single storage in {@link AsyncReadCache}. */
+public interface CachePartitionMXBean {
+  /** @return Name of the storage whose pages are contained in the partition */
+  String getStorageName();
+
+  /** @return Percent of the cache reserved for the partition */
+  int getMinShare();
+
+  /** @return Maximum percent of the cache which may be used by the partition */
+  int getMaxShare();
+
+  /** @return Amount of pages of the partition contained in the cache */
+  int getPages();
+
+  /** @return Amount of page loads */
+  long getRequests();
+
+  /** @return Amount of page loads served without reading of the page from the write cache */
+  long getHits();
+
+  /** @return Percent of page loads served without reading of the page from the write cache */
+  int getHitRate();
+
+  /** @return Amount of page loads done by scans */
+  long getScanRequests();
+
+  /** @return Amount of pages evicted from the cache */
+  long getEvictions();
+}
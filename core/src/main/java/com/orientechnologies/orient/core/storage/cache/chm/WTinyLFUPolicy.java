@@ -1,21 +1,33 @@
 package com.orientechnologies.orient.core.storage.cache.chm;
 
+import com.orientechnologies.orient.core.storage.cache.OAbstractWriteCache;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import java.util.Iterator;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
-/** Window TinyLFU eviction policy https://arxiv.org/pdf/1512.00727.pdf. */
+/**
+ * Window TinyLFU eviction policy https://arxiv.org/pdf/1512.00727.pdf.
+ *
+ * <p>Pages of each storage form a {@link CachePartition}. Pages of a partition which uses its
+ * maximum share of the cache are not admitted into the main space of the cache, and pages of a
+ * partition which uses less than its minimum share are not chosen as victims to admit pages of
+ * other partitions.
+ */
 final class WTinyLFUPolicy {
   private static final int EDEN_PERCENT = 20;
   private static final int PROBATIONARY_PERCENT = 20;
 
+  /** Amount of the least recently used pages of probation queue checked to find a victim */
+  private static final int VICTIM_SEARCH_DEPTH = 16;
+
   private volatile int maxSize;
   private final ConcurrentHashMap<PageKey, OCacheEntry> data;
   private final Admittor admittor;
 
   private final AtomicInteger cacheSize;
+  private final ConcurrentHashMap<Integer, CachePartition> partitions;
 
   private final LRUList eden = new LRUList();
   private final LRUList probation = new LRUList();
@@ -29,9 +41,18 @@ final class WTinyLFUPolicy {
       final ConcurrentHashMap<PageKey, OCacheEntry> data,
       final Admittor admittor,
       final AtomicInteger cacheSize) {
+    this(data, admittor, cacheSize, new ConcurrentHashMap<>());
+  }
+
+  WTinyLFUPolicy(
+      final ConcurrentHashMap<PageKey, OCacheEntry> data,
+      final Admittor admittor,
+      final AtomicInteger cacheSize,
+      final ConcurrentHashMap<Integer, CachePartition> partitions) {
     this.data = data;
     this.admittor = admittor;
     this.cacheSize = cacheSize;
+    this.partitions = partitions;
   }
 
   public void setMaxSize(final int maxSize) {
@@ -78,7 +99,17 @@ final class WTinyLFUPolicy {
   }
 
   void onAdd(final OCacheEntry cacheEntry) {
-    admittor.increment(PageKey.hashCode(cacheEntry.getFileId(), (int) cacheEntry.getPageIndex()));
+    onAdd(cacheEntry, false);
+  }
+
+  /**
+   * @param scan page is loaded by a scan, its frequency is not incremented so it is admitted into
+   *     the main space of the cache only instead of pages which are used as rare as it
+   */
+  void onAdd(final OCacheEntry cacheEntry, final boolean scan) {
+    if (!scan) {
+      admittor.increment(PageKey.hashCode(cacheEntry.getFileId(), (int) cacheEntry.getPageIndex()));
+    }
 
     if (cacheEntry.isAlive()) {
       assert !eden.contains(cacheEntry);
@@ -86,6 +117,7 @@ final class WTinyLFUPolicy {
       assert !protection.contains(cacheEntry);
 
       eden.moveToTheTail(cacheEntry);
+      partition(cacheEntry).onPageAdded();
 
       purgeEden();
     }
@@ -100,55 +132,40 @@ final class WTinyLFUPolicy {
       final OCacheEntry candidate = eden.poll();
       assert candidate != null;
 
+      final CachePartition candidatePartition = partition(candidate);
+      if (candidatePartition.isAboveMaxShare(maxSize) && evict(candidate)) {
+        continue;
+      }
+
       if (probation.size() + protection.size() < maxSecondLevelSize) {
         probation.moveToTheTail(candidate);
       } else {
-        final OCacheEntry victim = probation.peek();
-
-        final int candidateKeyHashCode =
-            PageKey.hashCode(candidate.getFileId(), (int) candidate.getPageIndex());
-        final int victimKeyHashCode =
-            PageKey.hashCode(victim.getFileId(), (int) victim.getPageIndex());
+        final OCacheEntry victim = findVictim(candidatePartition);
 
-        final int candidateFrequency = admittor.frequency(candidateKeyHashCode);
-        final int victimFrequency = admittor.frequency(victimKeyHashCode);
-
-        if (candidateFrequency >= victimFrequency) {
-          probation.poll();
-          probation.moveToTheTail(candidate);
+        final boolean admit;
+        if (victim == null) {
+          admit = false;
+        } else {
+          final int candidateKeyHashCode =
+              PageKey.hashCode(candidate.getFileId(), (int) candidate.getPageIndex());
+          final int victimKeyHashCode =
+              PageKey.hashCode(victim.getFileId(), (int) victim.getPageIndex());
 
-          if (victim.freeze()) {
-            final boolean removed =
-                data.remove(new PageKey(victim.getFileId(), (int) victim.getPageIndex()), victim);
-            victim.makeDead();
+          final int candidateFrequency = admittor.frequency(candidateKeyHashCode);
+          final int victimFrequency = admittor.frequency(victimKeyHashCode);
 
-            if (removed) {
-              cacheSize.decrementAndGet();
-            }
+          admit = candidateFrequency >= victimFrequency;
+        }
 
-            final OCachePointer pointer = victim.getCachePointer();
+        if (admit) {
+          probation.remove(victim);
+          probation.moveToTheTail(candidate);
 
-            pointer.decrementReadersReferrer();
-            victim.clearCachePointer();
-          } else {
+          if (!evict(victim)) {
             eden.moveToTheTail(victim);
           }
         } else {
-          if (candidate.freeze()) {
-            final boolean removed =
-                data.remove(
-                    new PageKey(candidate.getFileId(), (int) candidate.getPageIndex()), candidate);
-            candidate.makeDead();
-
-            if (removed) {
-              cacheSize.decrementAndGet();
-            }
-
-            final OCachePointer pointer = candidate.getCachePointer();
-
-            pointer.decrementReadersReferrer();
-            candidate.clearCachePointer();
-          } else {
+          if (!evict(candidate)) {
             eden.moveToTheTail(candidate);
           }
         }
@@ -158,15 +175,66 @@ final class WTinyLFUPolicy {
     assert protection.size() <= maxProtectedSize;
   }
 
+  /**
+   * @return the least recently used page of probation queue which may be evicted to admit page of
+   *     the given partition, or null if such page is not found
+   */
+  private OCacheEntry findVictim(final CachePartition candidatePartition) {
+    OCacheEntry victim = probation.peek();
+    for (int i = 0; victim != null && i < VICTIM_SEARCH_DEPTH; i++) {
+      final CachePartition victimPartition = partition(victim);
+      if (victimPartition == candidatePartition || victimPartition.isAboveMinShare(maxSize)) {
+        return victim;
+      }
+
+      victim = victim.getNext();
+    }
+
+    return null;
+  }
+
+  private boolean evict(final OCacheEntry entry) {
+    if (!entry.freeze()) {
+      return false;
+    }
+
+    final boolean removed =
+        data.remove(new PageKey(entry.getFileId(), (int) entry.getPageIndex()), entry);
+    entry.makeDead();
+
+    if (removed) {
+      cacheSize.decrementAndGet();
+    }
+
+    final OCachePointer pointer = entry.getCachePointer();
+
+    pointer.decrementReadersReferrer();
+    entry.clearCachePointer();
+
+    partition(entry).onPageEvicted();
+    return true;
+  }
+
+  CachePartition partition(final int storageId) {
+    return partitions.computeIfAbsent(storageId, CachePartition::new);
+  }
+
+  private CachePartition partition(final OCacheEntry entry) {
+    return partition(OAbstractWriteCache.extractStorageId(entry.getFileId()));
+  }
+
   void onRemove(final OCacheEntry cacheEntry) {
     assert cacheEntry.isFrozen();
 
     if (probation.contains(cacheEntry)) {
       probation.remove(cacheEntry);
+      partition(cacheEntry).onPageRemoved();
     } else if (protection.contains(cacheEntry)) {
       protection.remove(cacheEntry);
+      partition(cacheEntry).onPageRemoved();
     } else if (eden.contains(cacheEntry)) {
       eden.remove(cacheEntry);
+      partition(cacheEntry).onPageRemoved();
     }
 
     cacheEntry.makeDead();
@@ -0,0 +1,53 @@
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Set of pages whose checksums were verified since storage was opened. It is used to defer
+ * verification of pages which are loaded again after eviction from the cache. Pages are marked in
+ * bitmaps without locks, a mark may be lost if bitmap of the file grows concurrently, which only
+ * causes one more verification of the page.
+ */
+final class OVerifiedPages {
+  private final ConcurrentMap<Integer, AtomicReference<AtomicLongArray>> files =
+      new ConcurrentHashMap<>();
+
+  boolean contains(final int fileId, final long pageIndex) {
+    final AtomicReference<AtomicLongArray> bitmapRef = files.get(fileId);
+    if (bitmapRef == null) {
+      return false;
+    }
+
+    final AtomicLongArray bitmap = bitmapRef.get();
+    final int word = (int) (pageIndex >>> 6);
+    return word < bitmap.length() && (bitmap.get(word) & (1L << pageIndex)) != 0;
+  }
+
+  void add(final int fileId, final long pageIndex) {
+    final AtomicReference<AtomicLongArray> bitmapRef =
+        files.computeIfAbsent(fileId, (id) -> new AtomicReference<>(new AtomicLongArray(16)));
+    final int word = (int) (pageIndex >>> 6);
+
+    AtomicLongArray bitmap = bitmapRef.get();
+    while (word >= bitmap.length()) {
+      final AtomicLongArray grown = new AtomicLongArray(Math.max(word + 1, 2 * bitmap.length()));
+      for (int i = 0; i < bitmap.length(); i++) {
+        grown.set(i, bitmap.get(i));
+      }
+
+      bitmapRef.compareAndSet(bitmap, grown);
+      bitmap = bitmapRef.get();
+    }
+
+    final long mask = 1L << pageIndex;
+    bitmap.accumulateAndGet(word, mask, (value, bit) -> value | bit);
+  }
+
+  /** Forgets all pages of the file, called once the file is truncated or deleted. */
+  void clear(final int fileId) {
+    files.remove(fileId);
+  }
+}
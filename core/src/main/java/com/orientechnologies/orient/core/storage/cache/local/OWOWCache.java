@@ -30,6 +30,7 @@ import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
 import com.orientechnologies.common.directmemory.ODirectMemoryAllocator.Intention;
 import com.orientechnologies.common.directmemory.OPointer;
 import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.io.OFileUtils;
 import com.orientechnologies.common.io.OIOUtils;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
@@ -48,15 +49,19 @@ import com.orientechnologies.orient.core.exception.OInvalidStorageEncryptionKeyE
 import com.orientechnologies.orient.core.exception.OSecurityException;
 import com.orientechnologies.orient.core.exception.OStorageException;
 import com.orientechnologies.orient.core.exception.OWriteCacheException;
+import com.orientechnologies.orient.core.storage.OChecksumAlgorithm;
 import com.orientechnologies.orient.core.storage.OChecksumMode;
 import com.orientechnologies.orient.core.storage.OStorageAbstract;
 import com.orientechnologies.orient.core.storage.cache.OAbstractWriteCache;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import com.orientechnologies.orient.core.storage.cache.OPageDataVerificationError;
+import com.orientechnologies.orient.core.storage.cache.OStorageTier;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.cache.local.doublewritelog.DoubleWriteLog;
 import com.orientechnologies.orient.core.storage.fs.AsyncFile;
 import com.orientechnologies.orient.core.storage.fs.IOResult;
+import com.orientechnologies.orient.core.storage.fs.IOUringFile;
+import com.orientechnologies.orient.core.storage.fs.MappedRange;
 import com.orientechnologies.orient.core.storage.fs.OFile;
 import com.orientechnologies.orient.core.storage.impl.local.OPageIsBrokenListener;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.MetaDataRecord;
@@ -74,6 +79,7 @@ import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.FileStore;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.security.InvalidAlgorithmParameterException;
@@ -101,14 +107,15 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
-import java.util.zip.CRC32;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
@@ -117,6 +124,10 @@ import javax.crypto.SecretKey;
 import javax.crypto.ShortBufferException;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
 import net.jpountz.xxhash.XXHash64;
 import net.jpountz.xxhash.XXHashFactory;
 
@@ -156,6 +167,10 @@ public final class OWOWCache extends OAbstractWriteCache
   private static final XXHash64 XX_HASH_64 = XX_HASH_FACTORY.hash64();
   private static final long XX_HASH_SEED = 0xAEF5634;
 
+  private static final LZ4Factory LZ_4_FACTORY = LZ4Factory.fastestInstance();
+  private static final LZ4Compressor PAGE_COMPRESSOR = LZ_4_FACTORY.fastCompressor();
+  private static final LZ4SafeDecompressor PAGE_DECOMPRESSOR = LZ_4_FACTORY.safeDecompressor();
+
   private static final String ALGORITHM_NAME = "AES";
   private static final String TRANSFORMATION = "AES/CTR/NoPadding";
 
@@ -215,12 +230,30 @@ public final class OWOWCache extends OAbstractWriteCache
   /** Marks pages which have a checksum stored and data encrypted */
   public static final long MAGIC_NUMBER_WITH_CHECKSUM_ENCRYPTED = 0x1L;
 
+  /** Marks pages which have a CRC32C checksum stored. */
+  private static final long MAGIC_NUMBER_WITH_CRC32C_CHECKSUM = 0xFACB03C3L;
+
+  /** Marks pages which have a CRC32C checksum stored and data encrypted */
+  private static final long MAGIC_NUMBER_WITH_CRC32C_CHECKSUM_ENCRYPTED = 0x3L;
+
+  /** Marks pages which have a xxHash checksum stored. */
+  private static final long MAGIC_NUMBER_WITH_XXHASH_CHECKSUM = 0xFACB03E4L;
+
+  /** Marks pages which have a xxHash checksum stored and data encrypted */
+  private static final long MAGIC_NUMBER_WITH_XXHASH_CHECKSUM_ENCRYPTED = 0x4L;
+
   /** Marks pages which have no checksum stored. */
   private static final long MAGIC_NUMBER_WITHOUT_CHECKSUM = 0xEF30BCAFL;
 
   /** Marks pages which have no checksum stored but have data encrypted */
   private static final long MAGIC_NUMBER_WITHOUT_CHECKSUM_ENCRYPTED = 0x2L;
 
+  /**
+   * Marks pages which are stored compressed by LZ4, compressed image of the page (with its magic
+   * number, checksum and data) follows the length of the image.
+   */
+  public static final long MAGIC_NUMBER_COMPRESSED = 0x6C7A3450L;
+
   private static final int MAGIC_NUMBER_OFFSET = 0;
 
   public static final int CHECKSUM_OFFSET = MAGIC_NUMBER_OFFSET + OLongSerializer.LONG_SIZE;
@@ -228,11 +261,37 @@ public final class OWOWCache extends OAbstractWriteCache
   private static final int PAGE_OFFSET_TO_CHECKSUM_FROM =
       OLongSerializer.LONG_SIZE + OIntegerSerializer.INT_SIZE;
 
+  private static final int COMPRESSED_LENGTH_OFFSET =
+      MAGIC_NUMBER_OFFSET + OLongSerializer.LONG_SIZE;
+
+  private static final int COMPRESSED_DATA_OFFSET =
+      COMPRESSED_LENGTH_OFFSET + OIntegerSerializer.INT_SIZE;
+
+  /**
+   * Page is stored compressed only if it releases at least this amount of disk space, that is a
+   * block of the file system.
+   */
+  private static final int MIN_COMPRESSION_GAIN = 4 * 1024;
+
   private static final int CHUNK_SIZE = 64 * 1024 * 1024;
 
+  /**
+   * Maximum multiplier of amount of pages which are flushed by single iteration of periodic flush.
+   * Amount of pages flushed at once is limited because all of them are copied into memory before
+   * the write.
+   */
+  private static final int MAX_FLUSH_BOOST = 4;
+
   /** Executor which runs in single thread all tasks are related to flush of write cache data. */
   private static final OScheduledThreadPoolExecutorWithLogging commitExecutor;
 
+  /**
+   * Executor which prepares chunks of pages for the write in parallel with flush thread. It is
+   * shared by all storages, each storage limits the amount of chunks prepared at once by its own
+   * {@link #flushThreads}.
+   */
+  private static final ExecutorService flushWorkers;
+
   /** Executor which is used to call event listeners in background thread */
   private static final ExecutorService cacheEventsPublisher;
 
@@ -248,6 +307,18 @@ public final class OWOWCache extends OAbstractWriteCache
 
     commitExecutor = new OScheduledThreadPoolExecutorWithLogging(1, new FlushThreadFactory());
     commitExecutor.setMaximumPoolSize(1);
+
+    final int flushWorkerThreads = Runtime.getRuntime().availableProcessors();
+    final OThreadPoolExecutorWithLogging workers =
+        new OThreadPoolExecutorWithLogging(
+            flushWorkerThreads,
+            flushWorkerThreads,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new FlushWorkerThreadFactory());
+    workers.allowCoreThreadTimeOut(true);
+    flushWorkers = workers;
   }
 
   /** Limit of free space on disk after which database will be switched to "read only" mode */
@@ -373,6 +444,9 @@ public final class OWOWCache extends OAbstractWriteCache
    */
   private final ConcurrentMap<Integer, String> idNameMap = new ConcurrentHashMap<>();
 
+  /** Amount of pages read from disk for each file, used to find files which are rarely accessed */
+  private final ConcurrentMap<Integer, LongAdder> pageReads = new ConcurrentHashMap<>();
+
   private final Random fileIdGen = new Random();
 
   /** Path to the file which contains metadata for the files registered in storage. */
@@ -404,9 +478,54 @@ public final class OWOWCache extends OAbstractWriteCache
 
   private final boolean callFsync;
 
+  /** Extensions of the files whose pages are stored compressed */
+  private final Set<String> compressedFileExtensions;
+
+  /**
+   * Pages loaded from disk are served from memory mapped files and copied into direct memory only
+   * when they are modified
+   */
+  private final boolean memoryMappedReads;
+
+  /** Files are accessed through io_uring, see {@link IOUringFile} */
+  private final boolean ioUring;
+
+  /** Flushed pages bypass OS page cache, chunks of pages are aligned for that */
+  private final boolean directIO;
+
+  /** Directory of files moved to {@link OStorageTier#COLD}, {@code null} if it is not configured */
+  private final Path coldTierPath;
+
+  /** Algorithm of checksums of flushed pages, loaded pages are verified by their own algorithm */
+  private final OChecksumAlgorithm checksumAlgorithm;
+
+  /**
+   * Pages which were verified since the cache was opened, {@code null} if verification of such
+   * pages is not deferred.
+   */
+  private final OVerifiedPages verifiedPages;
+
+  // POSITION OF THE NEXT PAGE CHECKED BY #scrubPages, IT IS ACCESSED ONLY BY THE SCRUBBER
+  private int scrubFileId;
+  private long scrubPageIndex;
+
   private final int chunkSize;
 
   private final long pagesFlushInterval;
+
+  /**
+   * Multiplier of amount of pages flushed by periodic flush. It grows while flush falls behind WAL
+   * or writers wait for the flush, and shrinks back once flush keeps up. Accessed only by flush
+   * thread.
+   */
+  private int flushBoost = 1;
+
+  /** Amount of WAL segments which contained dirty pages during previous periodic flush */
+  private long lastDirtySegments;
+
+  /** Value of {@link #cacheOverflowCountSum} during previous periodic flush */
+  private long lastCacheOverflowCount;
+
   private volatile boolean stopFlush;
   private volatile Future<?> flushFuture;
 
@@ -415,6 +534,9 @@ public final class OWOWCache extends OAbstractWriteCache
 
   private final int shutdownTimeout;
 
+  /** Amount of threads which prepare chunks of pages of this storage for the write */
+  private final int flushThreads;
+
   /** Listeners which are called when exception in background data flush thread is happened. */
   private final List<WeakReference<OBackgroundExceptionListener>> backgroundExceptionListeners =
       new CopyOnWriteArrayList<>();
@@ -441,6 +563,58 @@ public final class OWOWCache extends OAbstractWriteCache
       final byte[] iv,
       final byte[] aesKey,
       final boolean callFsync) {
+    this(
+        pageSize,
+        bufferPool,
+        writeAheadLog,
+        doubleWriteLog,
+        pagesFlushInterval,
+        shutdownTimeout,
+        exclusiveWriteCacheMaxSize,
+        storagePath,
+        storageName,
+        stringSerializer,
+        files,
+        id,
+        checksumMode,
+        iv,
+        aesKey,
+        callFsync,
+        Collections.emptySet(),
+        false,
+        false,
+        false,
+        OGlobalConfiguration.DISK_WRITE_CACHE_FLUSH_THREADS.getValueAsInteger(),
+        null,
+        OChecksumAlgorithm.CRC32,
+        false);
+  }
+
+  public OWOWCache(
+      final int pageSize,
+      final OByteBufferPool bufferPool,
+      final OWriteAheadLog writeAheadLog,
+      final DoubleWriteLog doubleWriteLog,
+      final long pagesFlushInterval,
+      final int shutdownTimeout,
+      final long exclusiveWriteCacheMaxSize,
+      final Path storagePath,
+      final String storageName,
+      final OBinarySerializer<String> stringSerializer,
+      final OClosableLinkedContainer<Long, OFile> files,
+      final int id,
+      final OChecksumMode checksumMode,
+      final byte[] iv,
+      final byte[] aesKey,
+      final boolean callFsync,
+      final Set<String> compressedFileExtensions,
+      final boolean memoryMappedReads,
+      final boolean ioUring,
+      final boolean directIO,
+      final int flushThreads,
+      final Path coldTierPath,
+      final OChecksumAlgorithm checksumAlgorithm,
+      final boolean deferredChecksumVerification) {
 
     if (aesKey != null && aesKey.length != 16 && aesKey.length != 24 && aesKey.length != 32) {
       throw new OInvalidStorageEncryptionKeyException(
@@ -452,10 +626,31 @@ public final class OWOWCache extends OAbstractWriteCache
     }
 
     this.shutdownTimeout = shutdownTimeout;
+    this.flushThreads = flushThreads;
     this.pagesFlushInterval = pagesFlushInterval;
     this.iv = iv;
     this.aesKey = aesKey;
     this.callFsync = callFsync;
+    this.compressedFileExtensions = compressedFileExtensions;
+    this.memoryMappedReads = memoryMappedReads && aesKey == null;
+
+    this.ioUring = ioUring && IOUringFile.isSupported();
+    this.directIO = this.ioUring && directIO;
+
+    if (checksumAlgorithm.isSupported()) {
+      this.checksumAlgorithm = checksumAlgorithm;
+    } else {
+      OLogManager.instance()
+          .warnNoDb(
+              this,
+              "Checksum algorithm %s is not supported by current JVM, %s is used instead",
+              checksumAlgorithm,
+              OChecksumAlgorithm.CRC32);
+      this.checksumAlgorithm = OChecksumAlgorithm.CRC32;
+    }
+
+    this.verifiedPages =
+        deferredChecksumVerification && aesKey == null ? new OVerifiedPages() : null;
 
     filesLock.acquireWriteLock();
     try {
@@ -471,6 +666,7 @@ public final class OWOWCache extends OAbstractWriteCache
       this.exclusiveWriteCacheMaxSize = normalizeMemory(exclusiveWriteCacheMaxSize, pageSize);
 
       this.storagePath = storagePath;
+      this.coldTierPath = coldTierPath;
       try {
         this.fileStore = Files.getFileStore(this.storagePath);
       } catch (final IOException e) {
@@ -494,6 +690,20 @@ public final class OWOWCache extends OAbstractWriteCache
     }
   }
 
+  /**
+   * Returns directory where files of the storage are stored if they are moved to the {@link
+   * OStorageTier#COLD} tier, or {@code null} if directory of cold tier is not configured.
+   *
+   * @param coldPath value of {@link OGlobalConfiguration#STORAGE_COLD_TIER_PATH} of the storage
+   */
+  public static Path coldTierDirectory(final Path storagePath, final String coldPath) {
+    if (coldPath == null || coldPath.isEmpty()) {
+      return null;
+    }
+
+    return Paths.get(coldPath).resolve(storagePath.getFileName());
+  }
+
   /** Loads files already registered in storage. Has to be called before usage of this cache */
   public void loadRegisteredFiles() throws IOException, InterruptedException {
     filesLock.acquireWriteLock();
@@ -993,6 +1203,8 @@ public final class OWOWCache extends OAbstractWriteCache
   @Override
   public void checkCacheOverflow() throws InterruptedException {
     while (exclusiveWriteCacheSize.get() > exclusiveWriteCacheMaxSize) {
+      cacheOverflowCountSum.increment();
+
       final CountDownLatch cacheBoundaryLatch = new CountDownLatch(1);
       final CountDownLatch completionLatch = new CountDownLatch(1);
       final ExclusiveFlushTask exclusiveFlushTask =
@@ -1078,6 +1290,8 @@ public final class OWOWCache extends OAbstractWriteCache
       // page is not cached load it from file
       if (pagePointer == null) {
         try {
+          pageReads.computeIfAbsent(intId, (fileIntId) -> new LongAdder()).increment();
+
           // load requested page and preload requested amount of pages
           final OCachePointer filePagePointer =
               loadFileContent(intId, startPageIndex, verifyChecksums);
@@ -1232,6 +1446,10 @@ public final class OWOWCache extends OAbstractWriteCache
     filesLock.acquireWriteLock();
     try {
       removeCachedPages(intId);
+      if (verifiedPages != null) {
+        verifiedPages.clear(intId);
+      }
+
       final OClosableEntry<Long, OFile> entry = files.acquire(fileId);
       try {
         entry.get().shrink(0);
@@ -1273,7 +1491,7 @@ public final class OWOWCache extends OAbstractWriteCache
         final OFile file = entry.get();
         oldOsFileName = file.getName();
 
-        final Path newFile = storagePath.resolve(newOsFileName);
+        final Path newFile = resolveFilePath(oldOsFileName).resolveSibling(newOsFileName);
         file.renameTo(newFile);
       } finally {
         files.release(entry);
@@ -1295,6 +1513,77 @@ public final class OWOWCache extends OAbstractWriteCache
     }
   }
 
+  @Override
+  public OStorageTier getFileTier(final long fileId) {
+    final int intId = extractFileId(fileId);
+
+    filesLock.acquireReadLock();
+    try {
+      final OFile file = files.get(composeFileId(id, intId));
+      if (file == null) {
+        throw new OStorageException(
+            "File with id " + intId + " does not exist in storage " + storageName);
+      }
+
+      return fileTier(file.getName());
+    } finally {
+      filesLock.releaseReadLock();
+    }
+  }
+
+  private OStorageTier fileTier(final String osFileName) {
+    if (coldTierPath != null && Files.exists(coldTierPath.resolve(osFileName))) {
+      return OStorageTier.COLD;
+    }
+
+    return OStorageTier.HOT;
+  }
+
+  @Override
+  public void moveFileToTier(long fileId, final OStorageTier tier) throws IOException {
+    final int intId = extractFileId(fileId);
+    fileId = composeFileId(id, intId);
+
+    final Path directory = tierDirectory(tier);
+
+    filesLock.acquireReadLock();
+    try {
+      final OClosableEntry<Long, OFile> entry = files.acquire(fileId);
+      if (entry == null) {
+        throw new OStorageException(
+            "File with id " + intId + " does not exist in storage " + storageName);
+      }
+
+      try {
+        final OFile file = entry.get();
+        final String osFileName = file.getName();
+
+        if (fileTier(osFileName) == tier) {
+          return;
+        }
+
+        Files.createDirectories(directory);
+
+        // PAGES WHICH ARE FLUSHED DURING THE MOVE WAIT FOR ITS COMPLETION AND ARE WRITTEN INTO THE
+        // NEW LOCATION
+        file.moveTo(directory.resolve(osFileName));
+      } finally {
+        files.release(entry);
+      }
+    } catch (final InterruptedException e) {
+      throw OException.wrapException(
+          new OStorageException("Move of file to another storage tier was interrupted"), e);
+    } finally {
+      filesLock.releaseReadLock();
+    }
+  }
+
+  @Override
+  public long getFilePageReads(final long fileId) {
+    final LongAdder reads = pageReads.get(extractFileId(fileId));
+    return reads == null ? 0 : reads.sum();
+  }
+
   private void stopFlush() {
     stopFlush = true;
 
@@ -1471,6 +1760,117 @@ public final class OWOWCache extends OAbstractWriteCache
     }
   }
 
+  /**
+   * Verifies magic numbers and checksums of up to {@code pages} pages stored in files. Pages are
+   * read directly from the files, so they do not displace pages of the read cache. Check is
+   * continued from the page where the previous call stopped. Pages which are changed in the write
+   * cache are skipped because their images in the files are going to be overwritten. Broken pages
+   * are reported to {@link OPageIsBrokenListener}s.
+   *
+   * @return number of checked pages, value less than {@code pages} means that all files are checked
+   *     and the next call starts from the first file again
+   */
+  public int scrubPages(final int pages) throws IOException {
+    int checked = 0;
+
+    while (checked < pages) {
+      filesLock.acquireReadLock();
+      try {
+        final int intId = nextScrubbedFile();
+        if (intId < 0) {
+          scrubFileId = 0;
+          scrubPageIndex = 0;
+          return checked;
+        }
+
+        if (intId != scrubFileId) {
+          scrubFileId = intId;
+          scrubPageIndex = 0;
+        }
+
+        final OClosableEntry<Long, OFile> entry = files.acquire(composeFileId(id, intId));
+        try {
+          final OFile fileClassic = entry.get();
+          final long pagesCount = fileClassic.getFileSize() / pageSize;
+
+          while (checked < pages && scrubPageIndex < pagesCount) {
+            scrubPage(fileClassic, intId, scrubPageIndex);
+
+            scrubPageIndex++;
+            checked++;
+          }
+
+          if (scrubPageIndex >= pagesCount) {
+            scrubFileId = intId + 1;
+            scrubPageIndex = 0;
+          }
+        } finally {
+          files.release(entry);
+        }
+      } catch (final InterruptedException e) {
+        throw OException.wrapException(
+            new OStorageException("Scrubbing of pages was interrupted"), e);
+      } finally {
+        filesLock.releaseReadLock();
+      }
+    }
+
+    return checked;
+  }
+
+  /** @return id of the first file starting from the file which is scrubbed, or -1 if none */
+  private int nextScrubbedFile() {
+    int next = -1;
+    for (final int intId : nameIdMap.values()) {
+      if (intId >= scrubFileId && (next < 0 || intId < next)) {
+        next = intId;
+      }
+    }
+
+    return next;
+  }
+
+  private void scrubPage(final OFile fileClassic, final int intId, final long pageIndex)
+      throws IOException {
+    if (writeCachePages.containsKey(new PageKey(intId, pageIndex))) {
+      return;
+    }
+
+    final OPointer pointer = bufferPool.acquireDirect(false, Intention.CHECK_FILE_STORAGE);
+    try {
+      final ByteBuffer buffer = pointer.getNativeByteBuffer();
+
+      // PAGE MAY BE READ WHILE IT IS WRITTEN, SO ONLY PAGE WHICH IS BROKEN TWICE IS REPORTED
+      for (int attempt = 0; attempt < 2; attempt++) {
+        buffer.clear();
+        fileClassic.read(pageIndex * pageSize, buffer, true);
+
+        // SPACE OF THE PAGE IS ALLOCATED BUT PAGE IS NOT WRITTEN YET
+        if (buffer.getLong(MAGIC_NUMBER_OFFSET) == 0 && buffer.getInt(CHECKSUM_OFFSET) == 0) {
+          return;
+        }
+
+        if (decompressPage(buffer) && verifyMagicChecksumAndDecryptPage(buffer, intId, pageIndex)) {
+          markPageAsVerified(intId, pageIndex);
+          return;
+        }
+      }
+    } finally {
+      bufferPool.release(pointer);
+    }
+
+    final String fileName = idNameMap.get(intId);
+    OLogManager.instance()
+        .errorNoDb(
+            this,
+            "Page %d of file '%s' of storage '%s' is broken",
+            null,
+            pageIndex,
+            fileName,
+            storageName);
+    callPageIsBrokenListeners(fileName, pageIndex);
+  }
+
   private void checkFileStoredPages(
       final OCommandOutputListener commandOutputListener,
       @SuppressWarnings("SameParameterValue") final int notificationTimeOut,
@@ -1510,6 +1910,8 @@ public final class OWOWCache extends OAbstractWriteCache
         try {
           final ByteBuffer byteBuffer = pointer.getNativeByteBuffer();
           fileClassic.read(pos, byteBuffer, true);
+          // BROKEN COMPRESSED PAGE IS REPORTED AS PAGE WITH WRONG MAGIC NUMBER
+          decompressPage(byteBuffer);
           byteBuffer.rewind();
           byteBuffer.get(data);
         } finally {
@@ -1519,7 +1921,8 @@ public final class OWOWCache extends OAbstractWriteCache
         final long magicNumber =
             OLongSerializer.INSTANCE.deserializeNative(data, MAGIC_NUMBER_OFFSET);
 
-        if (magicNumber != MAGIC_NUMBER_WITH_CHECKSUM
+        final OChecksumAlgorithm algorithm = checksumAlgorithm(magicNumber);
+        if (algorithm == null
             && magicNumber != MAGIC_NUMBER_WITHOUT_CHECKSUM
             && magicNumber != MAGIC_NUMBER_WITH_CHECKSUM_ENCRYPTED
             && magicNumber != MAGIC_NUMBER_WITHOUT_CHECKSUM_ENCRYPTED) {
@@ -1539,10 +1942,11 @@ public final class OWOWCache extends OAbstractWriteCache
           final int storedCRC32 =
               OIntegerSerializer.INSTANCE.deserializeNative(data, CHECKSUM_OFFSET);
 
-          final CRC32 crc32 = new CRC32();
-          crc32.update(
-              data, PAGE_OFFSET_TO_CHECKSUM_FROM, data.length - PAGE_OFFSET_TO_CHECKSUM_FROM);
-          final int calculatedCRC32 = (int) crc32.getValue();
+          final ByteBuffer checksumData =
+              ByteBuffer.wrap(
+                  data, PAGE_OFFSET_TO_CHECKSUM_FROM, data.length - PAGE_OFFSET_TO_CHECKSUM_FROM);
+          final int calculatedCRC32 =
+              (algorithm != null ? algorithm : OChecksumAlgorithm.CRC32).calculate(checksumData);
 
           if (storedCRC32 != calculatedCRC32) {
             checkSumIncorrect = true;
@@ -1635,6 +2039,10 @@ public final class OWOWCache extends OAbstractWriteCache
 
         nameIdMapHolderPath = null;
       }
+
+      if (coldTierPath != null && Files.exists(coldTierPath)) {
+        OFileUtils.deleteFolderIfEmpty(coldTierPath.toFile());
+      }
     } finally {
       filesLock.releaseWriteLock();
     }
@@ -1797,9 +2205,56 @@ public final class OWOWCache extends OAbstractWriteCache
     }
   }
 
-  private OFile createFileInstance(final String fileName, final int fileId) {
+  private OFile createFileInstance(final String fileName, final int fileId) throws IOException {
     final String internalFileName = createInternalFileName(fileName, fileId);
-    return new AsyncFile(storagePath.resolve(internalFileName), pageSize);
+    return createFile(resolveFilePath(internalFileName));
+  }
+
+  /**
+   * Finds location of the file in storage tiers. Incomplete copies and duplicates of the file left
+   * if storage was closed abnormally during the move between tiers are removed, see {@link
+   * OFileUtils#durableMove(Path, Path)}.
+   */
+  private Path resolveFilePath(final String osFileName) throws IOException {
+    final Path hotPath = storagePath.resolve(osFileName);
+    if (coldTierPath == null) {
+      return hotPath;
+    }
+
+    final Path coldPath = coldTierPath.resolve(osFileName);
+    Files.deleteIfExists(hotPath.resolveSibling(osFileName + OFileUtils.MOVE_SUFFIX));
+    Files.deleteIfExists(coldPath.resolveSibling(osFileName + OFileUtils.MOVE_SUFFIX));
+
+    if (Files.exists(coldPath)) {
+      // BOTH COPIES ARE COMPLETE AND EQUAL IF SOURCE WAS NOT DELETED DURING THE MOVE
+      Files.deleteIfExists(hotPath);
+      return coldPath;
+    }
+
+    return hotPath;
+  }
+
+  private Path tierDirectory(final OStorageTier tier) {
+    if (tier == OStorageTier.HOT) {
+      return storagePath;
+    }
+
+    if (coldTierPath == null) {
+      throw new OStorageException(
+          "Directory of cold storage tier is not configured, please set '"
+              + OGlobalConfiguration.STORAGE_COLD_TIER_PATH.getKey()
+              + "' property");
+    }
+
+    return coldTierPath;
+  }
+
+  private OFile createFile(final Path path) {
+    if (ioUring) {
+      return new IOUringFile(path, pageSize, directIO);
+    }
+
+    return new AsyncFile(path, pageSize);
   }
 
   private static String createInternalFileName(final String fileName, final int fileId) {
@@ -1875,8 +2330,8 @@ public final class OWOWCache extends OAbstractWriteCache
         final long externalId = composeFileId(id, nameIdEntry.getValue());
 
         if (files.get(externalId) == null) {
-          final Path path = storagePath.resolve(idFileNameMap.get((nameIdEntry.getValue())));
-          final AsyncFile file = new AsyncFile(path, pageSize);
+          final Path path = resolveFilePath(idFileNameMap.get((nameIdEntry.getValue())));
+          final OFile file = createFile(path);
 
           if (file.exists()) {
             file.open();
@@ -1935,8 +2390,8 @@ public final class OWOWCache extends OAbstractWriteCache
         final long externalId = composeFileId(id, nameIdEntry.getValue());
 
         if (files.get(externalId) == null) {
-          final Path path = storagePath.resolve(idFileNameMap.get((nameIdEntry.getValue())));
-          final AsyncFile file = new AsyncFile(path, pageSize);
+          final Path path = resolveFilePath(idFileNameMap.get((nameIdEntry.getValue())));
+          final OFile file = createFile(path);
 
           if (file.exists()) {
             file.open();
@@ -2009,8 +2464,7 @@ public final class OWOWCache extends OAbstractWriteCache
         final long externalId = composeFileId(id, nameIdEntry.getValue());
 
         if (files.get(externalId) == null) {
-          final OFile fileClassic =
-              new AsyncFile(storagePath.resolve(nameIdEntry.getKey()), pageSize);
+          final OFile fileClassic = createFile(resolveFilePath(nameIdEntry.getKey()));
 
           if (fileClassic.exists()) {
             fileClassic.open();
@@ -2259,6 +2713,14 @@ public final class OWOWCache extends OAbstractWriteCache
 
         // if page is not stored in the file may be page is stored in double write log
         if (fileClassic.getFileSize() >= pageEndPosition) {
+          if (memoryMappedReads) {
+            final OCachePointer mappedPointer =
+                loadMappedPage(fileClassic, fileId, internalFileId, pageIndex, verifyChecksums);
+            if (mappedPointer != null) {
+              return mappedPointer;
+            }
+          }
+
           OPointer pointer = bufferPool.acquireDirect(true, Intention.LOAD_PAGE_FROM_DISK);
           ByteBuffer buffer = pointer.getNativeByteBuffer();
 
@@ -2267,27 +2729,22 @@ public final class OWOWCache extends OAbstractWriteCache
 
           fileClassic.read(pagePosition, buffer, false);
 
-          if (verifyChecksums
-              && (checksumMode == OChecksumMode.StoreAndVerify
-                  || checksumMode == OChecksumMode.StoreAndThrow
-                  || checksumMode == OChecksumMode.StoreAndSwitchReadOnlyMode)) {
-            // if page is broken inside of data file we check double write log
-            if (!verifyMagicChecksumAndDecryptPage(buffer, internalFileId, pageIndex)) {
-              final OPointer doubleWritePointer =
-                  doubleWriteLog.loadPage(internalFileId, (int) pageIndex, bufferPool);
+          // if page is broken inside of data file we check double write log
+          if (!decompressAndVerifyPage(buffer, internalFileId, pageIndex, verifyChecksums)) {
+            final OPointer doubleWritePointer =
+                doubleWriteLog.loadPage(internalFileId, (int) pageIndex, bufferPool);
 
-              if (doubleWritePointer == null) {
-                assertPageIsBroken(pageIndex, fileId, pointer);
-              } else {
-                bufferPool.release(pointer);
+            if (doubleWritePointer == null) {
+              assertPageIsBroken(pageIndex, fileId, pointer);
+            } else {
+              bufferPool.release(pointer);
 
-                buffer = doubleWritePointer.getNativeByteBuffer();
-                assert buffer.position() == 0;
-                pointer = doubleWritePointer;
+              buffer = doubleWritePointer.getNativeByteBuffer();
+              assert buffer.position() == 0;
+              pointer = doubleWritePointer;
 
-                if (!verifyMagicChecksumAndDecryptPage(buffer, internalFileId, pageIndex)) {
-                  assertPageIsBroken(pageIndex, fileId, pointer);
-                }
+              if (!decompressAndVerifyPage(buffer, internalFileId, pageIndex, verifyChecksums)) {
+                assertPageIsBroken(pageIndex, fileId, pointer);
               }
             }
           }
@@ -2321,6 +2778,81 @@ public final class OWOWCache extends OAbstractWriteCache
     }
   }
 
+  /**
+   * @return pointer to the page inside of memory mapped file, or null if the page should be copied
+   *     into direct memory because it is compressed, is not written to the file yet or is broken
+   */
+  private OCachePointer loadMappedPage(
+      final OFile file,
+      final long fileId,
+      final int internalFileId,
+      final long pageIndex,
+      final boolean verifyChecksums)
+      throws IOException {
+    final MappedRange range = file.map(pageIndex * pageSize, pageSize);
+    if (range == null) {
+      return null;
+    }
+
+    final ByteBuffer buffer = range.getBuffer();
+    if (buffer.getLong(MAGIC_NUMBER_OFFSET) == MAGIC_NUMBER_COMPRESSED) {
+      range.release();
+      return null;
+    }
+
+    if (isVerificationRequired(verifyChecksums, internalFileId, pageIndex)) {
+      // PAGES ARE NOT ENCRYPTED SO VERIFICATION DOES NOT CHANGE THE CONTENT OF THE PAGE
+      final ByteBuffer duplicate = buffer.duplicate().order(ByteOrder.nativeOrder());
+      if (!verifyMagicChecksumAndDecryptPage(duplicate, internalFileId, pageIndex)) {
+        range.release();
+        return null;
+      }
+
+      markPageAsVerified(internalFileId, pageIndex);
+    }
+
+    return new OCachePointer(range, bufferPool, fileId, (int) pageIndex);
+  }
+
+  private boolean decompressAndVerifyPage(
+      final ByteBuffer buffer,
+      final int internalFileId,
+      final long pageIndex,
+      final boolean verifyChecksums) {
+    if (!decompressPage(buffer)) {
+      return false;
+    }
+
+    if (isVerificationRequired(verifyChecksums, internalFileId, pageIndex)) {
+      if (!verifyMagicChecksumAndDecryptPage(buffer, internalFileId, pageIndex)) {
+        return false;
+      }
+
+      markPageAsVerified(internalFileId, pageIndex);
+    }
+
+    return true;
+  }
+
+  /**
+   * Verification of pages which were already verified since the cache was opened is skipped if it
+   * is deferred, such pages are checked only by {@link #scrubPages} and {@link #checkStoredPages}.
+   */
+  private boolean isVerificationRequired(
+      final boolean verifyChecksums, final int internalFileId, final long pageIndex) {
+    return verifyChecksums
+        && (checksumMode == OChecksumMode.StoreAndVerify
+            || checksumMode == OChecksumMode.StoreAndThrow
+            || checksumMode == OChecksumMode.StoreAndSwitchReadOnlyMode)
+        && (verifiedPages == null || !verifiedPages.contains(internalFileId, pageIndex));
+  }
+
+  private void markPageAsVerified(final int internalFileId, final long pageIndex) {
+    if (verifiedPages != null) {
+      verifiedPages.add(internalFileId, pageIndex);
+    }
+  }
+
   private void assertPageIsBroken(long pageIndex, long fileId, OPointer pointer) {
     final String message =
         "Magic number verification failed for page `"
@@ -2345,9 +2877,7 @@ public final class OWOWCache extends OAbstractWriteCache
 
     if (checksumMode != OChecksumMode.Off) {
       buffer.position(PAGE_OFFSET_TO_CHECKSUM_FROM);
-      final CRC32 crc32 = new CRC32();
-      crc32.update(buffer);
-      final int computedChecksum = (int) crc32.getValue();
+      final int computedChecksum = checksumAlgorithm.calculate(buffer);
 
       buffer.position(CHECKSUM_OFFSET);
       buffer.putInt(computedChecksum);
@@ -2362,7 +2892,7 @@ public final class OWOWCache extends OAbstractWriteCache
       if (checksumMode == OChecksumMode.Off) {
         magicNumber = (updateCounter << 8) | MAGIC_NUMBER_WITHOUT_CHECKSUM_ENCRYPTED;
       } else {
-        magicNumber = (updateCounter << 8) | MAGIC_NUMBER_WITH_CHECKSUM_ENCRYPTED;
+        magicNumber = (updateCounter << 8) | encryptedMagicNumber(checksumAlgorithm);
       }
 
       buffer.putLong(MAGIC_NUMBER_OFFSET, magicNumber);
@@ -2372,7 +2902,154 @@ public final class OWOWCache extends OAbstractWriteCache
           MAGIC_NUMBER_OFFSET,
           checksumMode == OChecksumMode.Off
               ? MAGIC_NUMBER_WITHOUT_CHECKSUM
-              : MAGIC_NUMBER_WITH_CHECKSUM);
+              : magicNumber(checksumAlgorithm));
+    }
+  }
+
+  private static long magicNumber(final OChecksumAlgorithm algorithm) {
+    switch (algorithm) {
+      case CRC32C:
+        return MAGIC_NUMBER_WITH_CRC32C_CHECKSUM;
+      case XXHASH64:
+        return MAGIC_NUMBER_WITH_XXHASH_CHECKSUM;
+      default:
+        return MAGIC_NUMBER_WITH_CHECKSUM;
+    }
+  }
+
+  private static long encryptedMagicNumber(final OChecksumAlgorithm algorithm) {
+    switch (algorithm) {
+      case CRC32C:
+        return MAGIC_NUMBER_WITH_CRC32C_CHECKSUM_ENCRYPTED;
+      case XXHASH64:
+        return MAGIC_NUMBER_WITH_XXHASH_CHECKSUM_ENCRYPTED;
+      default:
+        return MAGIC_NUMBER_WITH_CHECKSUM_ENCRYPTED;
+    }
+  }
+
+  /** @return algorithm of the checksum of not encrypted page, or null if page has no checksum */
+  private static OChecksumAlgorithm checksumAlgorithm(final long magicNumber) {
+    if (magicNumber == MAGIC_NUMBER_WITH_CHECKSUM) {
+      return OChecksumAlgorithm.CRC32;
+    }
+    if (magicNumber == MAGIC_NUMBER_WITH_CRC32C_CHECKSUM) {
+      return OChecksumAlgorithm.CRC32C;
+    }
+    if (magicNumber == MAGIC_NUMBER_WITH_XXHASH_CHECKSUM) {
+      return OChecksumAlgorithm.XXHASH64;
+    }
+
+    return null;
+  }
+
+  /** @return algorithm of the checksum of encrypted page, or null if page has no checksum */
+  private static OChecksumAlgorithm encryptedChecksumAlgorithm(final long magicNumber) {
+    final long type = magicNumber & 0xFF;
+    if (type == MAGIC_NUMBER_WITH_CHECKSUM_ENCRYPTED) {
+      return OChecksumAlgorithm.CRC32;
+    }
+    if (type == MAGIC_NUMBER_WITH_CRC32C_CHECKSUM_ENCRYPTED) {
+      return OChecksumAlgorithm.CRC32C;
+    }
+    if (type == MAGIC_NUMBER_WITH_XXHASH_CHECKSUM_ENCRYPTED) {
+      return OChecksumAlgorithm.XXHASH64;
+    }
+
+    return null;
+  }
+
+  private boolean isCompressedFile(final int intId) {
+    if (compressedFileExtensions.isEmpty() || aesKey != null) {
+      // ENCRYPTED PAGES CAN NOT BE COMPRESSED
+      return false;
+    }
+
+    final String fileName = idNameMap.get(intId);
+    if (fileName == null) {
+      return false;
+    }
+
+    final int extensionIndex = fileName.lastIndexOf('.');
+    return extensionIndex >= 0
+        && compressedFileExtensions.contains(fileName.substring(extensionIndex));
+  }
+
+  /**
+   * Puts compressed image of the page at the current position of the container, the rest of the
+   * page is filled by zeros so it can be released by {@link OFile#punchHoles(List)}.
+   *
+   * @return amount of bytes used by the compressed page or -1 if the page is not compressed because
+   *     it would not release at least {@link #MIN_COMPRESSION_GAIN} bytes, in such case nothing is
+   *     written.
+   */
+  private int compressPage(final ByteBuffer buffer, final ByteBuffer containerBuffer) {
+    final int pagePosition = containerBuffer.position();
+    final int maxCompressedLength = pageSize - COMPRESSED_DATA_OFFSET - MIN_COMPRESSION_GAIN;
+    if (maxCompressedLength <= 0) {
+      return -1;
+    }
+
+    final int compressedLength;
+    try {
+      compressedLength =
+          PAGE_COMPRESSOR.compress(
+              buffer,
+              0,
+              pageSize,
+              containerBuffer,
+              pagePosition + COMPRESSED_DATA_OFFSET,
+              maxCompressedLength);
+    } catch (final LZ4Exception e) {
+      // COMPRESSED PAGE DOES NOT FIT INTO THE LIMIT
+      return -1;
+    }
+
+    containerBuffer.putLong(pagePosition + MAGIC_NUMBER_OFFSET, MAGIC_NUMBER_COMPRESSED);
+    containerBuffer.putInt(pagePosition + COMPRESSED_LENGTH_OFFSET, compressedLength);
+
+    final int usedBytes = COMPRESSED_DATA_OFFSET + compressedLength;
+    final int pageEnd = pagePosition + pageSize;
+    int position = pagePosition + usedBytes;
+    for (; position < pageEnd && (position & 7) != 0; position++) {
+      containerBuffer.put(position, (byte) 0);
+    }
+    for (; position < pageEnd; position += OLongSerializer.LONG_SIZE) {
+      containerBuffer.putLong(position, 0);
+    }
+
+    containerBuffer.position(pageEnd);
+    return usedBytes;
+  }
+
+  /**
+   * Replaces compressed image of the page by its content, pages which are not compressed are not
+   * changed.
+   *
+   * @return false if compressed image is broken
+   */
+  private boolean decompressPage(final ByteBuffer buffer) {
+    if (buffer.getLong(MAGIC_NUMBER_OFFSET) != MAGIC_NUMBER_COMPRESSED) {
+      return true;
+    }
+
+    final int compressedLength = buffer.getInt(COMPRESSED_LENGTH_OFFSET);
+    if (compressedLength <= 0 || compressedLength > pageSize - COMPRESSED_DATA_OFFSET) {
+      return false;
+    }
+
+    final ByteBuffer compressed = ByteBuffer.allocate(compressedLength);
+    buffer.position(COMPRESSED_DATA_OFFSET);
+    buffer.limit(COMPRESSED_DATA_OFFSET + compressedLength);
+    compressed.put(buffer);
+    buffer.clear();
+
+    try {
+      final int pageLength =
+          PAGE_DECOMPRESSOR.decompress(compressed, 0, compressedLength, buffer, 0, pageSize);
+      return pageLength == pageSize;
+    } catch (final LZ4Exception e) {
+      return false;
     }
   }
 
@@ -2433,9 +3110,14 @@ public final class OWOWCache extends OAbstractWriteCache
     buffer.position(MAGIC_NUMBER_OFFSET);
     final long magicNumber = OLongSerializer.INSTANCE.deserializeFromByteBufferObject(buffer);
 
-    if ((aesKey == null && magicNumber != MAGIC_NUMBER_WITH_CHECKSUM)
-        || (magicNumber != MAGIC_NUMBER_WITH_CHECKSUM
-            && (magicNumber & 0xFF) != MAGIC_NUMBER_WITH_CHECKSUM_ENCRYPTED)) {
+    OChecksumAlgorithm algorithm = checksumAlgorithm(magicNumber);
+    boolean encrypted = false;
+    if (algorithm == null && aesKey != null) {
+      algorithm = encryptedChecksumAlgorithm(magicNumber);
+      encrypted = algorithm != null;
+    }
+
+    if (algorithm == null) {
       if ((aesKey == null && magicNumber != MAGIC_NUMBER_WITHOUT_CHECKSUM)
           || (magicNumber != MAGIC_NUMBER_WITHOUT_CHECKSUM
               && (magicNumber & 0xFF) != MAGIC_NUMBER_WITHOUT_CHECKSUM_ENCRYPTED)) {
@@ -2450,7 +3132,7 @@ public final class OWOWCache extends OAbstractWriteCache
       return true;
     }
 
-    if (aesKey != null && (magicNumber & 0xFF) == MAGIC_NUMBER_WITH_CHECKSUM_ENCRYPTED) {
+    if (encrypted) {
       doEncryptionDecryption(
           intId, (int) pageIndex, Cipher.DECRYPT_MODE, buffer, magicNumber >>> 8);
     }
@@ -2459,9 +3141,7 @@ public final class OWOWCache extends OAbstractWriteCache
     final int storedChecksum = OIntegerSerializer.INSTANCE.deserializeFromByteBufferObject(buffer);
 
     buffer.position(PAGE_OFFSET_TO_CHECKSUM_FROM);
-    final CRC32 crc32 = new CRC32();
-    crc32.update(buffer);
-    final int computedChecksum = (int) crc32.getValue();
+    final int computedChecksum = algorithm.calculate(buffer);
 
     return computedChecksum == storedChecksum;
   }
@@ -2770,9 +3450,13 @@ public final class OWOWCache extends OAbstractWriteCache
             return;
           }
 
+          final long cacheOverflowCount = cacheOverflowCountSum.sum();
+          final boolean writersWaited = cacheOverflowCount != lastCacheOverflowCount;
+          lastCacheOverflowCount = cacheOverflowCount;
+
           long ewcSize = exclusiveWriteCacheSize.get();
           if (ewcSize >= 0) {
-            flushExclusiveWriteCache(null, Math.min(ewcSize, 4 * chunkSize));
+            flushExclusiveWriteCache(null, Math.min(ewcSize, 4L * chunkSize * flushBoost));
 
             if (exclusiveWriteCacheSize.get() > 0) {
               flushInterval = 1;
@@ -2783,6 +3467,7 @@ public final class OWOWCache extends OAbstractWriteCache
           final OLogSequenceNumber end = writeAheadLog.end();
           final long segments = end.getSegment() - begin.getSegment() + 1;
 
+          long dirtySegments = 0;
           if (segments > 1) {
             convertSharedDirtyPagesToLocal();
 
@@ -2790,7 +3475,9 @@ public final class OWOWCache extends OAbstractWriteCache
             if (firstSegment != null) {
               final long firstSegmentIndex = firstSegment.getKey();
               if (firstSegmentIndex < end.getSegment()) {
-                flushWriteCacheFromMinLSN(firstSegmentIndex, firstSegmentIndex + 1, chunkSize);
+                dirtySegments = end.getSegment() - firstSegmentIndex;
+                flushWriteCacheFromMinLSN(
+                    firstSegmentIndex, firstSegmentIndex + 1, chunkSize * flushBoost);
               }
             }
 
@@ -2799,6 +3486,8 @@ public final class OWOWCache extends OAbstractWriteCache
               flushInterval = 1;
             }
           }
+
+          adjustFlushBoost(dirtySegments, writersWaited);
         } catch (final Error | Exception t) {
           OLogManager.instance().error(this, "Exception during data flush", t);
           OWOWCache.this.fireBackgroundDataFlushExceptionEvent(t);
@@ -2812,6 +3501,21 @@ public final class OWOWCache extends OAbstractWriteCache
     }
   }
 
+  /**
+   * Flush speeds up if the amount of WAL segments which contain dirty pages does not decrease, so
+   * WAL can not be truncated, or if writers were blocked by the limit of exclusive write cache.
+   * Otherwise it slows down to decrease the load on disk caused by flush.
+   */
+  private void adjustFlushBoost(final long dirtySegments, final boolean writersWaited) {
+    if (writersWaited || (dirtySegments > 1 && dirtySegments >= lastDirtySegments)) {
+      flushBoost = Math.min(flushBoost << 1, MAX_FLUSH_BOOST);
+    } else if (flushBoost > 1) {
+      flushBoost >>>= 1;
+    }
+
+    lastDirtySegments = dirtySegments;
+  }
+
   final class FindMinDirtySegment implements Callable<Long> {
     @Override
     public Long call() {
@@ -3028,6 +3732,121 @@ public final class OWOWCache extends OAbstractWriteCache
     }
   }
 
+  /**
+   * Adds checksums to the pages, encrypts and compresses them and copies them into containers which
+   * are written to the disk. Chunks are split into continuous ranges, and each range is prepared by
+   * separate thread if several {@link #flushThreads} are configured. Chunks are sorted by file and
+   * page index, so threads mostly work on different files.
+   */
+  private void prepareChunks(
+      final List<List<OQuarto<Long, ByteBuffer, OPointer, OCachePointer>>> chunks,
+      final OPointer[] containerPointers,
+      final ByteBuffer[] containerBuffers,
+      final Map<Long, List<ORawPair<Long, Integer>>> holesByFileId) {
+    if (flushThreads <= 1 || chunks.size() == 1) {
+      holesByFileId.putAll(
+          prepareChunks(chunks, 0, chunks.size(), containerPointers, containerBuffers));
+      return;
+    }
+
+    final int ranges = Math.min(flushThreads, chunks.size());
+    final List<Future<Map<Long, List<ORawPair<Long, Integer>>>>> futures = new ArrayList<>(ranges);
+
+    for (int range = 0; range < ranges; range++) {
+      final int from = (int) ((long) chunks.size() * range / ranges);
+      final int to = (int) ((long) chunks.size() * (range + 1) / ranges);
+
+      futures.add(
+          flushWorkers.submit(
+              () -> prepareChunks(chunks, from, to, containerPointers, containerBuffers)));
+    }
+
+    // ALL RANGES ARE AWAITED EVEN IF ONE OF THEM FAILED OR THREAD IS INTERRUPTED, SO CONTAINERS ARE
+    // NOT IN USE WHEN THEY ARE RELEASED BY CALLER
+    Throwable error = null;
+    boolean interrupted = false;
+    for (final Future<Map<Long, List<ORawPair<Long, Integer>>>> future : futures) {
+      while (true) {
+        try {
+          for (final Map.Entry<Long, List<ORawPair<Long, Integer>>> entry :
+              future.get().entrySet()) {
+            holesByFileId
+                .computeIfAbsent(entry.getKey(), (id) -> new ArrayList<>())
+                .addAll(entry.getValue());
+          }
+          break;
+        } catch (final InterruptedException e) {
+          interrupted = true;
+        } catch (final ExecutionException e) {
+          if (error == null) {
+            error = e.getCause();
+          }
+          break;
+        }
+      }
+    }
+
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+
+    if (error != null) {
+      throw OException.wrapException(
+          new OStorageException("Error during preparation of pages for flush"), error);
+    }
+  }
+
+  private Map<Long, List<ORawPair<Long, Integer>>> prepareChunks(
+      final List<List<OQuarto<Long, ByteBuffer, OPointer, OCachePointer>>> chunks,
+      final int from,
+      final int to,
+      final OPointer[] containerPointers,
+      final ByteBuffer[] containerBuffers) {
+    final Map<Long, List<ORawPair<Long, Integer>>> holesByFileId = new HashMap<>();
+
+    for (int i = from; i < to; i++) {
+      final List<OQuarto<Long, ByteBuffer, OPointer, OCachePointer>> chunk = chunks.get(i);
+
+      final OPointer containerPointer =
+          ODirectMemoryAllocator.instance()
+              .allocate(
+                  chunk.size() * pageSize,
+                  directIO ? IOUringFile.DIRECT_IO_ALIGNMENT : -1,
+                  false,
+                  Intention.ALLOCATE_CHUNK_TO_WRITE_DATA_IN_BATCH);
+      final ByteBuffer containerBuffer = containerPointer.getNativeByteBuffer();
+      assert containerBuffer.position() == 0;
+
+      containerPointers[i] = containerPointer;
+      containerBuffers[i] = containerBuffer;
+
+      for (final OQuarto<Long, ByteBuffer, OPointer, OCachePointer> quarto : chunk) {
+        final ByteBuffer buffer = quarto.two;
+
+        final OCachePointer pointer = quarto.four;
+        final int intId = extractFileId(pointer.getFileId());
+
+        addMagicChecksumAndEncryption(intId, pointer.getPageIndex(), buffer);
+
+        final int compressedBytes =
+            isCompressedFile(intId) ? compressPage(buffer, containerBuffer) : -1;
+        if (compressedBytes >= 0) {
+          holesByFileId
+              .computeIfAbsent(pointer.getFileId(), (id) -> new ArrayList<>())
+              .add(
+                  new ORawPair<>(
+                      ((long) pointer.getPageIndex()) * pageSize + compressedBytes,
+                      pageSize - compressedBytes));
+        } else {
+          buffer.position(0);
+          containerBuffer.put(buffer);
+        }
+      }
+    }
+
+    return holesByFileId;
+  }
+
   private int flushPages(
       final List<List<OQuarto<Long, ByteBuffer, OPointer, OCachePointer>>> chunks,
       final OLogSequenceNumber fullLogLSN)
@@ -3056,37 +3875,16 @@ public final class OWOWCache extends OAbstractWriteCache
     final int[] chunkFileIds = new int[chunks.size()];
 
     final Map<Long, List<ORawPair<Long, ByteBuffer>>> buffersByFileId = new HashMap<>();
+    final Map<Long, List<ORawPair<Long, Integer>>> holesByFileId = new HashMap<>();
     try {
+      prepareChunks(chunks, containerPointers, containerBuffers, holesByFileId);
+
       for (int i = 0; i < chunks.size(); i++) {
         final List<OQuarto<Long, ByteBuffer, OPointer, OCachePointer>> chunk = chunks.get(i);
+        final ByteBuffer containerBuffer = containerBuffers[i];
 
         flushedPages += chunk.size();
 
-        final OPointer containerPointer =
-            ODirectMemoryAllocator.instance()
-                .allocate(
-                    chunk.size() * pageSize,
-                    -1,
-                    false,
-                    Intention.ALLOCATE_CHUNK_TO_WRITE_DATA_IN_BATCH);
-        final ByteBuffer containerBuffer = containerPointer.getNativeByteBuffer();
-        assert containerBuffer.position() == 0;
-
-        containerPointers[i] = containerPointer;
-        containerBuffers[i] = containerBuffer;
-
-        for (final OQuarto<Long, ByteBuffer, OPointer, OCachePointer> quarto : chunk) {
-          final ByteBuffer buffer = quarto.two;
-
-          final OCachePointer pointer = quarto.four;
-
-          addMagicChecksumAndEncryption(
-              extractFileId(pointer.getFileId()), pointer.getPageIndex(), buffer);
-
-          buffer.position(0);
-          containerBuffer.put(buffer);
-        }
-
         final OQuarto<Long, ByteBuffer, OPointer, OCachePointer> firstPage = chunk.get(0);
         final OCachePointer firstCachePointer = firstPage.four;
 
@@ -3162,9 +3960,21 @@ public final class OWOWCache extends OAbstractWriteCache
         }
       }
 
+      // zeros after compressed pages are already written, their space is released
+      for (final Map.Entry<Long, List<ORawPair<Long, Integer>>> holes : holesByFileId.entrySet()) {
+        final OClosableEntry<Long, OFile> fileEntry = files.acquire(holes.getKey());
+        try {
+          fileEntry.get().punchHoles(holes.getValue());
+        } finally {
+          files.release(fileEntry);
+        }
+      }
+
     } finally {
       for (final OPointer containerPointer : containerPointers) {
-        ODirectMemoryAllocator.instance().deallocate(containerPointer);
+        if (containerPointer != null) {
+          ODirectMemoryAllocator.instance().deallocate(containerPointer);
+        }
       }
     }
 
@@ -3493,6 +4303,10 @@ public final class OWOWCache extends OAbstractWriteCache
       doRemoveCachePages(internalFileId);
 
       final OFile fileClassic = files.remove(fileId);
+      pageReads.remove(internalFileId);
+      if (verifiedPages != null) {
+        verifiedPages.clear(internalFileId);
+      }
 
       if (fileClassic != null) {
         if (fileClassic.exists()) {
@@ -3527,6 +4341,21 @@ public final class OWOWCache extends OAbstractWriteCache
     }
   }
 
+  private static final class FlushWorkerThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private FlushWorkerThreadFactory() {}
+
+    @Override
+    public final Thread newThread(final Runnable r) {
+      final Thread thread = new Thread(OStorageAbstract.storageThreadGroup, r);
+      thread.setDaemon(true);
+      thread.setName("OrientDB Write Cache Flush Worker " + counter.incrementAndGet());
+      thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+      return thread;
+    }
+  }
+
   private static final class CacheEventsPublisherFactory implements ThreadFactory {
 
     private CacheEventsPublisherFactory() {}
@@ -31,7 +31,10 @@ import com.orientechnologies.common.io.OIOUtils;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.parser.OSystemVariableResolver;
 import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.common.thread.OScheduledThreadPoolExecutorWithLogging;
 import com.orientechnologies.common.thread.OThreadPoolExecutorWithLogging;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.common.util.OUncaughtExceptionHandler;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.compression.impl.OZIPCompressionUtil;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
@@ -39,6 +42,7 @@ import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.engine.local.OEngineLocalPaginated;
 import com.orientechnologies.orient.core.exception.OStorageException;
 import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeMultiValueIndexEngine;
+import com.orientechnologies.orient.core.storage.OChecksumAlgorithm;
 import com.orientechnologies.orient.core.storage.OChecksumMode;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
@@ -74,13 +78,17 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -144,11 +152,15 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
   private static final int ONE_KB = 1024;
 
   private static final OThreadPoolExecutorWithLogging segmentAdderExecutor;
+  private static final OScheduledThreadPoolExecutorWithLogging scrubberExecutor;
 
   static {
     segmentAdderExecutor =
         new OThreadPoolExecutorWithLogging(
             0, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new SegmentAppenderFactory());
+
+    scrubberExecutor = new OScheduledThreadPoolExecutorWithLogging(1, new ScrubberFactory());
+    scrubberExecutor.setMaximumPoolSize(1);
   }
 
   private final int deleteMaxRetries;
@@ -157,9 +169,17 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
   private final StorageStartupMetadata startupMetadata;
 
   private final Path storagePath;
+
+  /**
+   * Directory of the files moved to the cold storage tier, it is set when the storage is opened and
+   * is {@code null} if the tier is not configured
+   */
+  private volatile Path coldTierPath;
+
   private final OClosableLinkedContainer<Long, OFile> files;
 
   private Future<?> fuzzyCheckpointTask;
+  private Future<?> scrubberTask;
 
   private final long walMaxSegSize;
   private final long doubleWriteLogMaxSegSize;
@@ -300,6 +320,18 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
                       zos,
                       new String[] {".fl", ".lock", DoubleWriteLogGL.EXTENSION},
                       iOutput);
+
+              // FILES OF COLD STORAGE TIER ARE RESTORED INTO STORAGE DIRECTORY
+              final Path coldTierPath = this.coldTierPath;
+              if (coldTierPath != null && Files.exists(coldTierPath)) {
+                names.addAll(
+                    OZIPCompressionUtil.compressDirectory(
+                        coldTierPath.toString(),
+                        zos,
+                        new String[] {OFileUtils.MOVE_SUFFIX},
+                        iOutput));
+              }
+
               startupMetadata.addFileToArchive(zos, "dirty.fl");
               names.add("dirty.fl");
               return names;
@@ -328,6 +360,22 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     }
   }
 
+  private static void deleteStorageFiles(final java.io.File dbDir) {
+    final java.io.File[] storageFiles = dbDir.listFiles();
+    if (storageFiles != null) {
+      // TRY TO DELETE ALL THE FILES
+      for (final java.io.File f : storageFiles) {
+        // DELETE ONLY THE SUPPORTED FILES
+        for (final String ext : ALL_FILE_EXTENSIONS)
+          if (f.getPath().endsWith(ext)) {
+            //noinspection ResultOfMethodCallIgnored
+            f.delete();
+            break;
+          }
+      }
+    }
+  }
+
   @Override
   public final void restore(
       final InputStream in,
@@ -342,18 +390,12 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
             new java.io.File(
                 OIOUtils.getPathFromDatabaseName(
                     OSystemVariableResolver.resolveSystemVariables(url)));
-        final java.io.File[] storageFiles = dbDir.listFiles();
-        if (storageFiles != null) {
-          // TRY TO DELETE ALL THE FILES
-          for (final java.io.File f : storageFiles) {
-            // DELETE ONLY THE SUPPORTED FILES
-            for (final String ext : ALL_FILE_EXTENSIONS)
-              if (f.getPath().endsWith(ext)) {
-                //noinspection ResultOfMethodCallIgnored
-                f.delete();
-                break;
-              }
-          }
+        deleteStorageFiles(dbDir);
+
+        // FILES OF COLD STORAGE TIER WOULD SHADOW RESTORED FILES OTHERWISE
+        final Path coldTierPath = this.coldTierPath;
+        if (coldTierPath != null) {
+          deleteStorageFiles(coldTierPath.toFile());
         }
 
         OZIPCompressionUtil.uncompressDirectory(in, storagePath.toString(), iListener);
@@ -519,7 +561,8 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
         contextConfiguration.getValueAsBoolean(
             OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_STATISTICS),
         contextConfiguration.getValueAsInteger(
-            OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_INTERVAL));
+            OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_INTERVAL),
+        contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_GROUP_COMMIT_DELAY));
   }
 
   @Override
@@ -566,6 +609,10 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       fuzzyCheckpointTask.cancel(false);
     }
 
+    if (scrubberTask != null) {
+      scrubberTask.cancel(false);
+    }
+
     return params;
   }
 
@@ -680,6 +727,11 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     return true;
   }
 
+  @Override
+  public boolean supportIncremental() {
+    return true;
+  }
+
   @Override
   protected void initIv() throws IOException {
     try (final RandomAccessFile ivFile =
@@ -784,7 +836,8 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
             contextConfiguration.getValueAsBoolean(
                 OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_STATISTICS),
             contextConfiguration.getValueAsInteger(
-                OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_INTERVAL));
+                OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_INTERVAL),
+            contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_GROUP_COMMIT_DELAY));
 
     writeAheadLog = diskWriteAheadLog;
     writeAheadLog.addCheckpointListener(this);
@@ -825,6 +878,11 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       doubleWriteLog = new DoubleWriteLogNoOP();
     }
 
+    coldTierPath =
+        OWOWCache.coldTierDirectory(
+            storagePath,
+            contextConfiguration.getValueAsString(OGlobalConfiguration.STORAGE_COLD_TIER_PATH));
+
     final OWOWCache wowCache =
         new OWOWCache(
             pageSize,
@@ -844,13 +902,66 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
                 OGlobalConfiguration.STORAGE_CHECKSUM_MODE, OChecksumMode.class),
             iv,
             aesKey,
-            contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_CALL_FSYNC));
+            contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_CALL_FSYNC),
+            compressedFileExtensions(contextConfiguration),
+            contextConfiguration.getValueAsBoolean(OGlobalConfiguration.DISK_CACHE_MEMORY_MAPPED),
+            contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_FILE_IO_URING),
+            contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_FILE_DIRECT_IO),
+            contextConfiguration.getValueAsInteger(
+                OGlobalConfiguration.DISK_WRITE_CACHE_FLUSH_THREADS),
+            coldTierPath,
+            contextConfiguration.getValueAsEnum(
+                OGlobalConfiguration.STORAGE_CHECKSUM_ALGORITHM, OChecksumAlgorithm.class),
+            contextConfiguration.getValueAsBoolean(
+                OGlobalConfiguration.STORAGE_CHECKSUM_DEFERRED_VERIFICATION));
 
     wowCache.loadRegisteredFiles();
     wowCache.addBackgroundExceptionListener(this);
     wowCache.addPageIsBrokenListener(this);
 
     writeCache = wowCache;
+
+    final int scrubbedPages =
+        contextConfiguration.getValueAsInteger(
+            OGlobalConfiguration.STORAGE_SCRUBBER_PAGES_PER_SECOND);
+    if (scrubbedPages > 0) {
+      scrubberTask =
+          scrubberExecutor.scheduleWithFixedDelay(
+              new PageScrubber(wowCache, diskWriteAheadLog, scrubbedPages), 1, 1, TimeUnit.SECONDS);
+    }
+
+    readCache.registerStorage(
+        writeCache,
+        getName(),
+        contextConfiguration.getValueAsInteger(OGlobalConfiguration.DISK_CACHE_MIN_SHARE),
+        contextConfiguration.getValueAsInteger(OGlobalConfiguration.DISK_CACHE_MAX_SHARE));
+  }
+
+  private static Set<String> compressedFileExtensions(
+      final OContextConfiguration contextConfiguration) {
+    final String method =
+        contextConfiguration.getValueAsString(OGlobalConfiguration.STORAGE_PAGE_COMPRESSION_METHOD);
+    if (method == null || method.isEmpty() || method.equalsIgnoreCase("nothing")) {
+      return Collections.emptySet();
+    }
+
+    if (!method.equalsIgnoreCase("lz4")) {
+      throw new OStorageException(
+          "Page compression method '" + method + "' is not supported, use 'lz4' or 'nothing'");
+    }
+
+    final Set<String> extensions = new HashSet<>();
+    final String files =
+        contextConfiguration.getValueAsString(OGlobalConfiguration.STORAGE_PAGE_COMPRESSION_FILES);
+    if (files != null) {
+      for (final String extension : files.split(",")) {
+        final String trimmed = extension.trim();
+        if (!trimmed.isEmpty()) {
+          extensions.add(trimmed.startsWith(".") ? trimmed : "." + trimmed);
+        }
+      }
+    }
+    return extensions;
   }
 
   public static boolean exists(final Path path) {
@@ -934,6 +1045,78 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     }
   }
 
+  /**
+   * Checks pages of data files and then pages of WAL segments in cycle. Amount of pages checked
+   * during each run is limited, so scrubbing does not saturate the disk.
+   */
+  private final class PageScrubber implements Runnable {
+    private final OWOWCache wowCache;
+    private final CASDiskWriteAheadLog wal;
+    private final int pages;
+
+    private boolean scrubWAL;
+
+    private PageScrubber(
+        final OWOWCache wowCache, final CASDiskWriteAheadLog wal, final int pages) {
+      this.wowCache = wowCache;
+      this.wal = wal;
+      this.pages = pages;
+    }
+
+    @Override
+    public void run() {
+      final List<ORawPair<String, Long>> brokenWALPages = new ArrayList<>();
+
+      stateLock.acquireReadLock();
+      try {
+        if (status != STATUS.OPEN) {
+          return;
+        }
+
+        int remaining = pages;
+        // EACH PART IS STARTED AT MOST ONCE PER RUN, SO EMPTY STORAGE DOES NOT SPIN
+        for (int switches = 0; remaining > 0 && switches < 2; switches++) {
+          if (scrubWAL) {
+            remaining -=
+                wal.scrubPages(
+                    remaining,
+                    (fileName, pageIndex) ->
+                        brokenWALPages.add(new ORawPair<>(fileName, pageIndex)));
+          } else {
+            remaining -= wowCache.scrubPages(remaining);
+          }
+
+          if (remaining > 0) {
+            scrubWAL = !scrubWAL;
+          }
+        }
+      } catch (final IOException | RuntimeException e) {
+        OLogManager.instance().error(this, "Error during scrubbing of storage %s", e, getName());
+      } finally {
+        stateLock.releaseReadLock();
+      }
+
+      // STORAGE STATE IS CHANGED UNDER EXCLUSIVE LOCK
+      for (final ORawPair<String, Long> page : brokenWALPages) {
+        pageIsBroken(page.first, page.second);
+      }
+    }
+  }
+
+  private static final class ScrubberFactory implements ThreadFactory {
+    private ScrubberFactory() {}
+
+    @Override
+    public Thread newThread(final Runnable r) {
+      final Thread thread =
+          new Thread(OAbstractPaginatedStorage.storageThreadGroup, r, "OrientDB Page Scrubber");
+      thread.setDaemon(true);
+      thread.setPriority(Thread.MIN_PRIORITY);
+      thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+      return thread;
+    }
+  }
+
   private static final class SegmentAppenderFactory implements ThreadFactory {
     private SegmentAppenderFactory() {}
 
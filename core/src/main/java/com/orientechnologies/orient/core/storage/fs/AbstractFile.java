@@ -0,0 +1,377 @@
+package com.orientechnologies.orient.core.storage.fs;
+
+import com.kenai.jffi.Platform;
+import com.orientechnologies.common.concur.lock.ScalableRWLock;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.jnr.LastErrorException;
+import com.orientechnologies.common.jnr.ONative;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Life cycle, size and space management of the files, implementations provide the channels through
+ * which the content of the file is read and written.
+ */
+abstract class AbstractFile implements OFile {
+  /** holes are aligned to the usual size of the blocks of the file systems */
+  private static final int HOLE_ALIGNMENT = 4 * 1024;
+
+  final ScalableRWLock lock = new ScalableRWLock();
+  volatile Path osFile;
+
+  final AtomicLong dirtyCounter = new AtomicLong();
+  private final Object flushSemaphore = new Object();
+
+  private final AtomicLong size = new AtomicLong(-1);
+
+  private final int pageSize;
+
+  private volatile boolean punchHoles = Platform.getPlatform().getOS() == Platform.OS.LINUX;
+
+  private final FileMappings mappings = new FileMappings();
+
+  AbstractFile(final Path osFile, final int pageSize) {
+    this.osFile = osFile;
+    this.pageSize = pageSize;
+  }
+
+  /** Opens the channels of the file, called under exclusive lock. */
+  abstract void openChannel() throws IOException;
+
+  /** Closes the channels of the file if they are opened, called under exclusive lock. */
+  abstract void closeChannel() throws IOException;
+
+  abstract boolean isChannelOpen();
+
+  /** @return physical size of the file including its header */
+  abstract long channelSize() throws IOException;
+
+  abstract void truncateChannel(long size) throws IOException;
+
+  /** Flushes the content written through all the channels of the file to the device. */
+  abstract void forceChannel() throws IOException;
+
+  /** @return amount of bytes written from the current position of the buffer */
+  abstract int writeChannel(ByteBuffer buffer, long position) throws IOException;
+
+  /** @return native descriptor of the file used to punch holes */
+  abstract int getHolesFd() throws LastErrorException;
+
+  /** @return false if the pages of the file can not be mapped into memory at the moment */
+  boolean isMappingAllowed() {
+    return true;
+  }
+
+  @Override
+  public void create() throws IOException {
+    lock.exclusiveLock();
+    try {
+      if (isChannelOpen()) {
+        throw new OStorageException("File " + osFile + " is already opened.");
+      }
+
+      Files.createFile(osFile);
+
+      doOpen();
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  private void initSize() throws IOException {
+    if (channelSize() < HEADER_SIZE) {
+      final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE);
+
+      int written = 0;
+      do {
+        buffer.position(written);
+        written += writeChannel(buffer, written);
+      } while (written < HEADER_SIZE);
+
+      dirtyCounter.incrementAndGet();
+    }
+
+    long currentSize = channelSize() - HEADER_SIZE;
+
+    if (currentSize % pageSize != 0) {
+      final long initialSize = currentSize;
+
+      currentSize = (currentSize / pageSize) * pageSize;
+      truncateChannel(currentSize + HEADER_SIZE);
+
+      OLogManager.instance()
+          .warnNoDb(
+              this,
+              "Data page in file {} was partially written and will be truncated, "
+                  + "initial size {}, truncated size {}",
+              osFile,
+              initialSize,
+              currentSize);
+    }
+
+    if (size.get() < 0) {
+      size.set(currentSize);
+    } else {
+      if (channelSize() - HEADER_SIZE > size.get()) {
+        throw new IllegalStateException(
+            "Physical size of the file "
+                + (channelSize() - HEADER_SIZE)
+                + " but logical size is "
+                + size.get());
+      }
+    }
+  }
+
+  @Override
+  public void open() {
+    lock.exclusiveLock();
+    try {
+      doOpen();
+    } catch (IOException e) {
+      throw OException.wrapException(new OStorageException("Can not open file " + osFile), e);
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  private void doOpen() throws IOException {
+    if (isChannelOpen()) {
+      throw new OStorageException("File " + osFile + " is already opened.");
+    }
+
+    openChannel();
+
+    initSize();
+  }
+
+  @Override
+  public long getFileSize() {
+    return size.get();
+  }
+
+  @Override
+  public String getName() {
+    return osFile.getFileName().toString();
+  }
+
+  @Override
+  public boolean isOpen() {
+    lock.sharedLock();
+    try {
+      return isChannelOpen();
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  @Override
+  public boolean exists() {
+    return Files.exists(osFile);
+  }
+
+  @Override
+  public void punchHoles(final List<ORawPair<Long, Integer>> holes) {
+    if (!punchHoles) {
+      return;
+    }
+
+    lock.sharedLock();
+    try {
+      checkForClose();
+
+      final ONative nativeLib = ONative.instance();
+      final int fd = getHolesFd();
+      for (final ORawPair<Long, Integer> hole : holes) {
+        final long position = hole.first + HEADER_SIZE;
+        final long start = (position + HOLE_ALIGNMENT - 1) / HOLE_ALIGNMENT * HOLE_ALIGNMENT;
+        final long end = (position + hole.second) / HOLE_ALIGNMENT * HOLE_ALIGNMENT;
+
+        if (end > start) {
+          nativeLib.punchHole(fd, start, end - start);
+        }
+      }
+
+      dirtyCounter.incrementAndGet();
+    } catch (final LastErrorException e) {
+      // HOLES ARE NOT SUPPORTED, RANGES STAY ALLOCATED AND FILLED BY ZEROS
+      punchHoles = false;
+      OLogManager.instance()
+          .warnNoDb(
+              this,
+              "File system of file %s does not support hole punching (error %d), "
+                  + "space of compressed pages will not be released",
+              osFile,
+              e.getErrorCode());
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  @Override
+  public MappedRange map(final long offset, final int length) throws IOException {
+    lock.sharedLock();
+    try {
+      checkForClose();
+      checkPosition(offset);
+
+      if (!isMappingAllowed()) {
+        return null;
+      }
+
+      return mappings.map(osFile, channelSize(), offset, length);
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  @Override
+  public long allocateSpace(int size) {
+    return this.size.getAndAdd(size);
+  }
+
+  @Override
+  public void shrink(long size) throws IOException {
+    lock.exclusiveLock();
+    try {
+      checkForClose();
+
+      // MAPPED PAGES ARE NOT ACCESSIBLE AFTER THE END OF THE FILE
+      mappings.close();
+      this.size.set(0);
+      truncateChannel(size + HEADER_SIZE);
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  @Override
+  public void synch() {
+    lock.sharedLock();
+    try {
+      doSynch();
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  private void doSynch() {
+    synchronized (flushSemaphore) {
+      long dirtyCounterValue = dirtyCounter.get();
+      if (dirtyCounterValue > 0) {
+        try {
+          forceChannel();
+        } catch (final IOException e) {
+          OLogManager.instance()
+              .warn(
+                  this,
+                  "Error during flush of file %s. Data may be lost in case of power failure",
+                  e,
+                  getName());
+        }
+
+        dirtyCounter.addAndGet(-dirtyCounterValue);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    lock.exclusiveLock();
+    try {
+      doSynch();
+      doClose();
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OStorageException("Error during closing the file " + osFile), e);
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  private void doClose() throws IOException {
+    mappings.close();
+    closeChannel();
+  }
+
+  @Override
+  public void delete() throws IOException {
+    lock.exclusiveLock();
+    try {
+      doClose();
+
+      Files.delete(osFile);
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  @Override
+  public void renameTo(Path newFile) throws IOException {
+    lock.exclusiveLock();
+    try {
+      doClose();
+
+      //noinspection NonAtomicOperationOnVolatileField
+      osFile = Files.move(osFile, newFile);
+
+      doOpen();
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  @Override
+  public void moveTo(final Path newFile) throws IOException {
+    lock.exclusiveLock();
+    try {
+      doClose();
+
+      OFileUtils.durableMove(osFile, newFile);
+      osFile = newFile;
+
+      doOpen();
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  @Override
+  public void replaceContentWith(final Path newContentFile) throws IOException {
+    lock.exclusiveLock();
+    try {
+      doClose();
+
+      Files.copy(newContentFile, osFile, StandardCopyOption.REPLACE_EXISTING);
+
+      doOpen();
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  void checkPosition(long offset) {
+    final long fileSize = size.get();
+    if (offset < 0 || offset >= fileSize) {
+      throw new OStorageException(
+          "You are going to access region outside of allocated file position. File size = "
+              + fileSize
+              + ", requested position "
+              + offset);
+    }
+  }
+
+  void checkForClose() {
+    if (!isChannelOpen()) {
+      throw new OStorageException("File " + osFile + " is closed");
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package com.orientechnologies.orient.core.storage.fs;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Regions of the file mapped into memory by {@link OFile#map(long, int)}. Every region counts the
+ * ranges which reference it, a region is unmapped only when it is not referenced anymore: access to
+ * a mapped region after the end of the file crashes the JVM, so the file can not be truncated while
+ * its ranges are in use.
+ */
+final class FileMappings {
+  /** file is mapped into memory by regions of this size, size is a multiple of any page size */
+  private static final int REGION_SIZE = 64 * 1024 * 1024;
+
+  private static final Unmapper UNMAPPER = createUnmapper();
+
+  // ACCESSED UNDER THE MONITOR OF THE MAPPINGS
+  private final Map<Long, Region> regions = new HashMap<>();
+  /** regions replaced by bigger ones but still referenced */
+  private final List<Region> retired = new ArrayList<>();
+
+  private Path path;
+  private FileChannel channel;
+
+  /**
+   * @param fileSize physical size of the file including its header
+   * @return read only range, or null if the range is not written yet
+   */
+  synchronized MappedRange map(
+      final Path path, final long fileSize, final long offset, final int length)
+      throws IOException {
+    final long regionIndex = offset / REGION_SIZE;
+    final long regionStart = regionIndex * REGION_SIZE;
+    final int regionOffset = (int) (offset - regionStart);
+
+    if (regionOffset + length > REGION_SIZE) {
+      return null;
+    }
+
+    Region region = regions.get(regionIndex);
+    if (region == null || region.buffer.capacity() < regionOffset + length) {
+      final long regionLength = Math.min(REGION_SIZE, fileSize - OFile.HEADER_SIZE - regionStart);
+      if (regionLength < regionOffset + length) {
+        // RANGE IS ALLOCATED BUT IS NOT WRITTEN YET, MAPPING WOULD EXTEND THE FILE
+        return null;
+      }
+
+      if (channel == null) {
+        this.path = path;
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+      }
+
+      if (region != null) {
+        retire(region);
+      }
+      region =
+          new Region(
+              channel.map(
+                  FileChannel.MapMode.READ_ONLY, regionStart + OFile.HEADER_SIZE, regionLength));
+      regions.put(regionIndex, region);
+    }
+
+    final ByteBuffer buffer = region.buffer.duplicate();
+    buffer.position(regionOffset);
+    buffer.limit(regionOffset + length);
+
+    region.referrers++;
+    return new MappedRange(buffer.slice().order(ByteOrder.nativeOrder()), region);
+  }
+
+  private void retire(final Region region) {
+    if (region.referrers == 0) {
+      UNMAPPER.unmap(region.buffer);
+    } else {
+      retired.add(region);
+    }
+  }
+
+  private synchronized void release(final Region region) {
+    region.referrers--;
+    assert region.referrers >= 0;
+
+    if (region.referrers == 0 && retired.remove(region)) {
+      UNMAPPER.unmap(region.buffer);
+    }
+  }
+
+  /**
+   * Unmaps all the regions and closes the channel used to map them, it has to be called before the
+   * file is truncated.
+   *
+   * @throws OStorageException if ranges of the file are still in use
+   */
+  synchronized void close() throws IOException {
+    int referrers = 0;
+    for (final Region region : regions.values()) {
+      referrers += region.referrers;
+    }
+    for (final Region region : retired) {
+      referrers += region.referrers;
+    }
+    if (referrers > 0) {
+      throw new OStorageException(
+          "File " + path + " can not be unmapped, " + referrers + " mapped pages are in use");
+    }
+
+    for (final Region region : regions.values()) {
+      UNMAPPER.unmap(region.buffer);
+    }
+    regions.clear();
+
+    if (channel != null) {
+      channel.close();
+      channel = null;
+    }
+  }
+
+  final class Region {
+    private final MappedByteBuffer buffer;
+    private int referrers;
+
+    private Region(final MappedByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    void release() {
+      FileMappings.this.release(this);
+    }
+  }
+
+  private interface Unmapper {
+    void unmap(MappedByteBuffer buffer);
+  }
+
+  /**
+   * Mapped buffers are unmapped by GC, the cleaner of the buffer is called to release the mapping
+   * as soon as it is not used anymore. Cleaners are not public API so they are found by reflection,
+   * if none is found the regions are left to GC.
+   */
+  private static Unmapper createUnmapper() {
+    try {
+      // JAVA 9 AND LATER
+      final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+      final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+      final Object unsafe = theUnsafe.get(null);
+      return buffer -> invoke(invokeCleaner, unsafe, buffer);
+    } catch (final ReflectiveOperationException | RuntimeException e) {
+      // JAVA 8
+    }
+
+    try {
+      final Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+      final Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+      return buffer -> {
+        final Object bufferCleaner = invoke(cleaner, buffer);
+        if (bufferCleaner != null) {
+          invoke(clean, bufferCleaner);
+        }
+      };
+    } catch (final ReflectiveOperationException | RuntimeException e) {
+      OLogManager.instance()
+          .warnNoDb(FileMappings.class, "Mapped files can not be unmapped, they are left to GC");
+      return buffer -> {};
+    }
+  }
+
+  private static Object invoke(final Method method, final Object target, final Object... args) {
+    try {
+      return method.invoke(target, args);
+    } catch (final ReflectiveOperationException e) {
+      throw new IllegalStateException("Error during unmapping of file region", e);
+    }
+  }
+}
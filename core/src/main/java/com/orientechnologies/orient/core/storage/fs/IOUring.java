@@ -0,0 +1,319 @@
+package com.orientechnologies.orient.core.storage.fs;
+
+import com.kenai.jffi.MemoryIO;
+import com.kenai.jffi.Platform;
+import com.orientechnologies.common.jnr.LastErrorException;
+import com.orientechnologies.common.jnr.ONative;
+import com.orientechnologies.common.log.OLogManager;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Linux io_uring instance which is used to submit batches of reads and writes of the file pages by
+ * a single system call. Rings are accessed directly through the memory shared with the kernel.
+ *
+ * <p>Instance is used by a single thread at once, instances are reused through {@link #acquire()}
+ * and {@link #release(IOUring)}. Requests are submitted and awaited by the same call so completion
+ * queue never contains results of requests of other threads.
+ *
+ * <p>Rings are accessed by {@link MemoryIO} whose accesses are not ordered, so a memory barrier
+ * separates the accesses to the entries from the accesses to the heads and tails of the queues.
+ */
+final class IOUring {
+  private static final MemoryIO MEMORY = MemoryIO.getInstance();
+
+  private static final int ENTRIES = 64;
+
+  private static final int PARAMS_SIZE = 120;
+  private static final int PARAMS_SQ_ENTRIES = 0;
+  private static final int PARAMS_CQ_ENTRIES = 4;
+  private static final int PARAMS_FEATURES = 20;
+  private static final int PARAMS_SQ_OFF = 40;
+  private static final int PARAMS_CQ_OFF = 80;
+
+  private static final int SQ_OFF_HEAD = 0;
+  private static final int SQ_OFF_TAIL = 4;
+  private static final int SQ_OFF_RING_MASK = 8;
+  private static final int SQ_OFF_ARRAY = 24;
+
+  private static final int CQ_OFF_HEAD = 0;
+  private static final int CQ_OFF_TAIL = 4;
+  private static final int CQ_OFF_RING_MASK = 8;
+  private static final int CQ_OFF_CQES = 20;
+
+  private static final int SQE_SIZE = 64;
+  private static final int SQE_OPCODE = 0;
+  private static final int SQE_FD = 4;
+  private static final int SQE_OFF = 8;
+  private static final int SQE_ADDR = 16;
+  private static final int SQE_LEN = 24;
+  private static final int SQE_USER_DATA = 32;
+
+  private static final int CQE_SIZE = 16;
+  private static final int CQE_USER_DATA = 0;
+  private static final int CQE_RES = 8;
+
+  private static final long IORING_OFF_SQ_RING = 0L;
+  private static final long IORING_OFF_CQ_RING = 0x8000000L;
+  private static final long IORING_OFF_SQES = 0x10000000L;
+
+  private static final int IORING_ENTER_GETEVENTS = 1;
+
+  /** presented since Linux 5.6 together with read and write requests */
+  private static final int IORING_FEAT_RW_CUR_POS = 1 << 3;
+
+  static final byte IORING_OP_READ = 22;
+  static final byte IORING_OP_WRITE = 23;
+
+  private static final ConcurrentLinkedQueue<IOUring> RINGS = new ConcurrentLinkedQueue<>();
+
+  private static volatile Boolean supported;
+
+  private final int ringFd;
+  private final int entries;
+
+  private final long sqRing;
+  private final long sqRingSize;
+  private final long sqHead;
+  private final long sqTail;
+  private final int sqMask;
+  private final long sqArray;
+  private final long sqes;
+
+  private final long cqRing;
+  private final long cqRingSize;
+  private final long cqHead;
+  private final long cqTail;
+  private final int cqMask;
+  private final long cqes;
+
+  /** atomic update of this value is used as a full memory barrier */
+  private final AtomicInteger barrier = new AtomicInteger();
+
+  /** ring can not be reused if it is closed after a failure */
+  private boolean closed;
+
+  private IOUring() throws LastErrorException {
+    final ONative nativeLib = ONative.instance();
+
+    final long params = MEMORY.allocateMemory(PARAMS_SIZE, true);
+    if (params == 0) {
+      throw new OutOfMemoryError("Can not allocate parameters of io_uring instance");
+    }
+    try {
+      ringFd = nativeLib.ioUringSetup(ENTRIES, params);
+
+      try {
+        if ((MEMORY.getInt(params + PARAMS_FEATURES) & IORING_FEAT_RW_CUR_POS) == 0) {
+          throw new IllegalStateException("Kernel does not support io_uring read/write requests");
+        }
+
+        entries = MEMORY.getInt(params + PARAMS_SQ_ENTRIES);
+        final int cqEntries = MEMORY.getInt(params + PARAMS_CQ_ENTRIES);
+
+        final long sqOff = params + PARAMS_SQ_OFF;
+        final long cqOff = params + PARAMS_CQ_OFF;
+
+        sqRingSize = MEMORY.getInt(sqOff + SQ_OFF_ARRAY) + (long) entries * Integer.BYTES;
+        cqRingSize = MEMORY.getInt(cqOff + CQ_OFF_CQES) + (long) cqEntries * CQE_SIZE;
+
+        final int protection = ONative.PROT_READ | ONative.PROT_WRITE;
+        final int flags = ONative.MAP_SHARED | ONative.MAP_POPULATE;
+
+        sqRing = nativeLib.mmap(sqRingSize, protection, flags, ringFd, IORING_OFF_SQ_RING);
+        cqRing = nativeLib.mmap(cqRingSize, protection, flags, ringFd, IORING_OFF_CQ_RING);
+        sqes =
+            nativeLib.mmap((long) entries * SQE_SIZE, protection, flags, ringFd, IORING_OFF_SQES);
+
+        sqHead = sqRing + MEMORY.getInt(sqOff + SQ_OFF_HEAD);
+        sqTail = sqRing + MEMORY.getInt(sqOff + SQ_OFF_TAIL);
+        sqMask = MEMORY.getInt(sqRing + MEMORY.getInt(sqOff + SQ_OFF_RING_MASK));
+        sqArray = sqRing + MEMORY.getInt(sqOff + SQ_OFF_ARRAY);
+
+        cqHead = cqRing + MEMORY.getInt(cqOff + CQ_OFF_HEAD);
+        cqTail = cqRing + MEMORY.getInt(cqOff + CQ_OFF_TAIL);
+        cqMask = MEMORY.getInt(cqRing + MEMORY.getInt(cqOff + CQ_OFF_RING_MASK));
+        cqes = cqRing + MEMORY.getInt(cqOff + CQ_OFF_CQES);
+      } catch (final RuntimeException e) {
+        nativeLib.close(ringFd);
+        throw e;
+      }
+    } finally {
+      MEMORY.freeMemory(params);
+    }
+  }
+
+  /** @return true if io_uring is supported by the kernel and can be used by the process */
+  static boolean isSupported() {
+    if (supported != null) {
+      return supported;
+    }
+
+    synchronized (RINGS) {
+      if (supported == null) {
+        final Platform platform = Platform.getPlatform();
+        if (platform.getOS() != Platform.OS.LINUX || platform.addressSize() != 64) {
+          supported = false;
+        } else {
+          try {
+            RINGS.add(new IOUring());
+            supported = true;
+          } catch (final RuntimeException | LinkageError e) {
+            OLogManager.instance()
+                .warn(IOUring.class, "io_uring is not supported by the system", e);
+            supported = false;
+          }
+        }
+      }
+
+      return supported;
+    }
+  }
+
+  static IOUring acquire() {
+    final IOUring ring = RINGS.poll();
+    if (ring != null) {
+      return ring;
+    }
+
+    return new IOUring();
+  }
+
+  static void release(final IOUring ring) {
+    if (!ring.closed) {
+      RINGS.add(ring);
+    }
+  }
+
+  private void close() {
+    closed = true;
+
+    final ONative nativeLib = ONative.instance();
+    nativeLib.munmap(sqes, (long) entries * SQE_SIZE);
+    nativeLib.munmap(cqRing, cqRingSize);
+    nativeLib.munmap(sqRing, sqRingSize);
+    nativeLib.close(ringFd);
+  }
+
+  /** @return maximum amount of requests which can be passed to {@link #execute} at once */
+  int getEntries() {
+    return entries;
+  }
+
+  /**
+   * Submits requests and waits for their completion. If the ring fails it waits for the requests
+   * already accepted by the kernel, so their memory can be released once the call returns, and the
+   * ring is closed.
+   *
+   * @param results amount of transferred bytes for each request, or negated error code
+   */
+  void execute(
+      final byte opcode,
+      final int[] fds,
+      final long[] offsets,
+      final long[] addresses,
+      final int[] lengths,
+      final int count,
+      final int[] results) {
+    assert count <= entries;
+    assert !closed;
+
+    final int start = MEMORY.getInt(sqTail);
+    assert start - MEMORY.getInt(sqHead) == 0;
+
+    int tail = start;
+    for (int i = 0; i < count; i++) {
+      final int index = tail & sqMask;
+      final long sqe = sqes + (long) index * SQE_SIZE;
+
+      MEMORY.setMemory(sqe, SQE_SIZE, (byte) 0);
+      MEMORY.putByte(sqe + SQE_OPCODE, opcode);
+      MEMORY.putInt(sqe + SQE_FD, fds[i]);
+      MEMORY.putLong(sqe + SQE_OFF, offsets[i]);
+      MEMORY.putLong(sqe + SQE_ADDR, addresses[i]);
+      MEMORY.putInt(sqe + SQE_LEN, lengths[i]);
+      MEMORY.putLong(sqe + SQE_USER_DATA, i);
+
+      MEMORY.putInt(sqArray + (long) index * Integer.BYTES, index);
+      tail++;
+    }
+
+    // KERNEL READS ENTRIES ONLY AFTER IT SEES THE NEW TAIL
+    fullFence();
+    MEMORY.putInt(sqTail, tail);
+
+    final ONative nativeLib = ONative.instance();
+
+    int submitted = 0;
+    int completed = 0;
+    try {
+      while (completed < count) {
+        try {
+          submitted +=
+              nativeLib.ioUringEnter(
+                  ringFd, count - submitted, count - completed, IORING_ENTER_GETEVENTS);
+        } catch (final LastErrorException e) {
+          if (e.getErrorCode() != ONative.EINTR) {
+            throw e;
+          }
+        }
+
+        completed += reapCompletions(results);
+      }
+    } catch (final RuntimeException e) {
+      // KERNEL STILL TRANSFERS DATA OF ACCEPTED REQUESTS, THEIR MEMORY CAN NOT BE RELEASED YET
+      awaitAccepted(start, completed, results);
+      close();
+      throw e;
+    }
+  }
+
+  /** @return amount of the completions moved from the completion queue to the results */
+  private int reapCompletions(final int[] results) {
+    int head = MEMORY.getInt(cqHead);
+    final int cqTailValue = MEMORY.getInt(cqTail);
+    // ENTRIES ARE READ ONLY AFTER THE TAIL WHICH PUBLISHES THEM
+    fullFence();
+
+    int reaped = 0;
+    while (head != cqTailValue) {
+      final long cqe = cqes + (long) (head & cqMask) * CQE_SIZE;
+      results[(int) MEMORY.getLong(cqe + CQE_USER_DATA)] = MEMORY.getInt(cqe + CQE_RES);
+
+      head++;
+      reaped++;
+    }
+
+    // KERNEL REUSES ENTRIES ONLY AFTER THEY ARE READ
+    fullFence();
+    MEMORY.putInt(cqHead, head);
+    return reaped;
+  }
+
+  private void awaitAccepted(final int start, int completed, final int[] results) {
+    final ONative nativeLib = ONative.instance();
+    final int accepted = MEMORY.getInt(sqHead) - start;
+
+    while (completed < accepted) {
+      try {
+        nativeLib.ioUringEnter(ringFd, 0, accepted - completed, IORING_ENTER_GETEVENTS);
+      } catch (final LastErrorException e) {
+        if (e.getErrorCode() != ONative.EINTR) {
+          OLogManager.instance()
+              .errorNoDb(
+                  this,
+                  "Error during waiting for completion of io_uring requests (error %d)",
+                  e,
+                  e.getErrorCode());
+          return;
+        }
+      }
+
+      completed += reapCompletions(results);
+    }
+  }
+
+  private void fullFence() {
+    barrier.incrementAndGet();
+  }
+}
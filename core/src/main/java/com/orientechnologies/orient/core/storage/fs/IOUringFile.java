@@ -0,0 +1,337 @@
+package com.orientechnologies.orient.core.storage.fs;
+
+import com.kenai.jffi.MemoryIO;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.jnr.LastErrorException;
+import com.orientechnologies.common.jnr.ONative;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Linux implementation of {@link OFile} which reads and writes pages through io_uring, so all pages
+ * passed to {@link #write(List)} are submitted to the kernel by a single system call instead of a
+ * call per page made by the thread pool of {@link AsyncFile}.
+ *
+ * <p>If direct IO is requested, requests whose memory, offset and length are aligned bypass OS page
+ * cache, other requests and all the requests on file systems which do not support direct IO use OS
+ * page cache.
+ */
+public final class IOUringFile extends AbstractFile {
+  /** memory, offset and length of requests which bypass OS page cache are aligned to this value */
+  public static final int DIRECT_IO_ALIGNMENT = 512;
+
+  private static final int EINVAL = 22;
+
+  private static final IOResult COMPLETED = () -> {};
+
+  private FileChannel fileChannel;
+  private int fd = -1;
+  private volatile int directFd = -1;
+
+  private final boolean directIO;
+
+  public IOUringFile(final Path osFile, final int pageSize, final boolean directIO) {
+    super(osFile, pageSize);
+    this.directIO = directIO;
+  }
+
+  /** @return true if io_uring is supported by the system */
+  public static boolean isSupported() {
+    return IOUring.isSupported();
+  }
+
+  @Override
+  void openChannel() throws IOException {
+    fileChannel = FileChannel.open(osFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+    final ONative nativeLib = ONative.instance();
+    final String path = osFile.toAbsolutePath().toString();
+    try {
+      fd = nativeLib.open(path, ONative.O_RDWR);
+    } catch (final LastErrorException e) {
+      closeChannel();
+      throw new IOException("Can not open file " + osFile + ", error " + e.getErrorCode(), e);
+    }
+
+    if (directIO) {
+      try {
+        directFd = nativeLib.open(path, ONative.O_RDWR | ONative.O_DIRECT);
+      } catch (final LastErrorException e) {
+        OLogManager.instance()
+            .warnNoDb(
+                this,
+                "File system of file %s does not support direct IO (error %d), "
+                    + "OS page cache will be used",
+                osFile,
+                e.getErrorCode());
+      }
+    }
+  }
+
+  @Override
+  void closeChannel() throws IOException {
+    final ONative nativeLib = ONative.instance();
+    if (fd >= 0) {
+      nativeLib.close(fd);
+      fd = -1;
+    }
+
+    final int directFd = this.directFd;
+    if (directFd != -1) {
+      // DISABLED DESCRIPTOR IS STORED AS NEGATIVE VALUE
+      nativeLib.close(directFd >= 0 ? directFd : -directFd - 1);
+      this.directFd = -1;
+    }
+
+    // ignore if closed
+    if (fileChannel != null) {
+      fileChannel.close();
+      fileChannel = null;
+    }
+  }
+
+  @Override
+  boolean isChannelOpen() {
+    return fileChannel != null;
+  }
+
+  @Override
+  long channelSize() throws IOException {
+    return fileChannel.size();
+  }
+
+  @Override
+  void truncateChannel(final long size) throws IOException {
+    fileChannel.truncate(size);
+  }
+
+  @Override
+  void forceChannel() throws IOException {
+    // FLUSHES DATA WRITTEN THROUGH ALL DESCRIPTORS OF THE FILE
+    fileChannel.force(false);
+  }
+
+  @Override
+  int writeChannel(final ByteBuffer buffer, final long position) throws IOException {
+    return fileChannel.write(buffer, position);
+  }
+
+  @Override
+  int getHolesFd() {
+    return fd;
+  }
+
+  @Override
+  boolean isMappingAllowed() {
+    // DIRECT WRITES DO NOT UPDATE PAGES WHICH ARE ALREADY MAPPED
+    return directFd < 0;
+  }
+
+  @Override
+  public void write(long offset, ByteBuffer buffer) throws IOException {
+    write(Collections.singletonList(new ORawPair<>(offset, buffer)));
+  }
+
+  @Override
+  public IOResult write(List<ORawPair<Long, ByteBuffer>> buffers) throws IOException {
+    lock.sharedLock();
+    try {
+      checkForClose();
+
+      for (final ORawPair<Long, ByteBuffer> pair : buffers) {
+        checkPosition(pair.first);
+        checkPosition(pair.first + pair.second.limit() - 1);
+      }
+
+      execute(IOUring.IORING_OP_WRITE, buffers, true);
+      dirtyCounter.incrementAndGet();
+    } finally {
+      lock.sharedUnlock();
+    }
+
+    return COMPLETED;
+  }
+
+  @Override
+  public void read(long offset, ByteBuffer buffer, boolean throwOnEof) throws IOException {
+    lock.sharedLock();
+    try {
+      checkForClose();
+      checkPosition(offset);
+
+      execute(
+          IOUring.IORING_OP_READ,
+          Collections.singletonList(new ORawPair<>(offset, buffer)),
+          throwOnEof);
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  /**
+   * Transfers content of the buffers, from the start of each buffer till its limit, by batches of
+   * the size of the ring. Requests which are completed partially are submitted again with the rest
+   * of the content.
+   */
+  private void execute(
+      final byte opcode, final List<ORawPair<Long, ByteBuffer>> requests, final boolean throwOnEof)
+      throws IOException {
+    final int count = requests.size();
+
+    final ByteBuffer[] buffers = new ByteBuffer[count];
+    final long[] addresses = new long[count];
+    final int[] transferred = new int[count];
+    final boolean[] completed = new boolean[count];
+
+    final MemoryIO memoryIO = MemoryIO.getInstance();
+    for (int i = 0; i < count; i++) {
+      final ByteBuffer buffer = requests.get(i).second;
+      buffer.rewind();
+
+      if (buffer.isDirect()) {
+        buffers[i] = buffer;
+      } else {
+        // KERNEL ACCESSES ONLY NATIVE MEMORY
+        buffers[i] = ByteBuffer.allocateDirect(buffer.limit());
+        if (opcode == IOUring.IORING_OP_WRITE) {
+          buffers[i].put(buffer);
+          buffer.rewind();
+        }
+      }
+
+      addresses[i] = memoryIO.getDirectBufferAddress(buffers[i]);
+    }
+
+    final IOUring ring = acquireRing();
+    try {
+      final int entries = ring.getEntries();
+      final int[] fds = new int[entries];
+      final long[] offsets = new long[entries];
+      final long[] batchAddresses = new long[entries];
+      final int[] lengths = new int[entries];
+      final int[] indexes = new int[entries];
+      final int[] results = new int[entries];
+
+      int pending = count;
+      while (pending > 0) {
+        int batchSize = 0;
+        for (int i = 0; i < count && batchSize < entries; i++) {
+          if (completed[i]) {
+            continue;
+          }
+
+          final long position = requests.get(i).first + HEADER_SIZE + transferred[i];
+          final long address = addresses[i] + transferred[i];
+          final int length = buffers[i].limit() - transferred[i];
+
+          fds[batchSize] = chooseFd(position, address, length);
+          offsets[batchSize] = position;
+          batchAddresses[batchSize] = address;
+          lengths[batchSize] = length;
+          indexes[batchSize] = i;
+          batchSize++;
+        }
+
+        ring.execute(opcode, fds, offsets, batchAddresses, lengths, batchSize, results);
+
+        for (int n = 0; n < batchSize; n++) {
+          final int i = indexes[n];
+          final int result = results[n];
+
+          if (result < 0) {
+            if (-result == EINVAL && fds[n] == directFd) {
+              // DIRECT IO IS NOT SUPPORTED FOR THIS ALIGNMENT, REQUEST IS REPEATED BY PAGE CACHE
+              disableDirectIO(-result);
+              continue;
+            }
+
+            throw new IOException(
+                "Error during IO operation on the file " + osFile + ", error " + (-result));
+          }
+
+          if (result == 0) {
+            if (opcode == IOUring.IORING_OP_WRITE) {
+              throw new IOException("Data were not written to the file " + osFile);
+            }
+
+            if (throwOnEof) {
+              throw new EOFException("End of file " + osFile + " is reached.");
+            }
+
+            completed[i] = true;
+            pending--;
+            continue;
+          }
+
+          transferred[i] += result;
+          if (transferred[i] == buffers[i].limit()) {
+            completed[i] = true;
+            pending--;
+          }
+        }
+      }
+    } finally {
+      // RING WAITS FOR ALL SUBMITTED REQUESTS EVEN IF IT FAILS, SO BUFFERS ARE NOT USED ANYMORE
+      IOUring.release(ring);
+    }
+
+    for (int i = 0; i < count; i++) {
+      final ByteBuffer buffer = requests.get(i).second;
+      if (buffers[i] != buffer && opcode == IOUring.IORING_OP_READ) {
+        buffers[i].position(0);
+        buffers[i].limit(transferred[i]);
+        buffer.put(buffers[i]);
+      }
+
+      buffer.position(transferred[i]);
+    }
+  }
+
+  private static IOUring acquireRing() {
+    try {
+      return IOUring.acquire();
+    } catch (final LastErrorException e) {
+      throw OException.wrapException(
+          new OStorageException("Can not create io_uring instance, error " + e.getErrorCode()), e);
+    }
+  }
+
+  private int chooseFd(final long position, final long address, final int length) {
+    final int directFd = this.directFd;
+    if (directFd >= 0
+        && position % DIRECT_IO_ALIGNMENT == 0
+        && address % DIRECT_IO_ALIGNMENT == 0
+        && length % DIRECT_IO_ALIGNMENT == 0) {
+      return directFd;
+    }
+
+    return fd;
+  }
+
+  private void disableDirectIO(final int errorCode) {
+    final int directFd = this.directFd;
+    if (directFd < 0) {
+      return;
+    }
+
+    // DESCRIPTOR IS CLOSED TOGETHER WITH THE FILE, CONCURRENT REQUESTS MAY STILL USE IT
+    this.directFd = -directFd - 1;
+    OLogManager.instance()
+        .warnNoDb(
+            this,
+            "Device of file %s does not support direct IO with alignment %d (error %d), "
+                + "OS page cache will be used",
+            osFile,
+            DIRECT_IO_ALIGNMENT,
+            errorCode);
+  }
+}
@@ -0,0 +1,35 @@
+package com.orientechnologies.orient.core.storage.fs;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Range of a file mapped into memory by {@link OFile#map(long, int)}. The mapping is kept while the
+ * range is referenced, so the range has to be released once its buffer is not used anymore.
+ */
+public final class MappedRange {
+  private final ByteBuffer buffer;
+  private final FileMappings.Region region;
+  private boolean released;
+
+  MappedRange(final ByteBuffer buffer, final FileMappings.Region region) {
+    this.buffer = buffer;
+    this.region = region;
+  }
+
+  /** @return read only buffer which contains the range */
+  public ByteBuffer getBuffer() {
+    return buffer;
+  }
+
+  /** Releases the range, its buffer can not be accessed anymore. */
+  public void release() {
+    synchronized (this) {
+      if (released) {
+        return;
+      }
+      released = true;
+    }
+
+    region.release();
+  }
+}
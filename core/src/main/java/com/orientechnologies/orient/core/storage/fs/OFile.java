@@ -22,6 +22,20 @@ public interface OFile extends OClosableItem {
 
   IOResult write(List<ORawPair<Long, ByteBuffer>> buffers) throws IOException;
 
+  /**
+   * releases the disk space of the given ranges (offset and length) which are already filled by
+   * zeros, the size of the file is not changed. Nothing is released if the file system does not
+   * support it.
+   */
+  void punchHoles(List<ORawPair<Long, Integer>> holes) throws IOException;
+
+  /**
+   * @return read only range of the file mapped into memory, or null if the range is not written to
+   *     the file yet. The range stays valid until it is released, the file can not be shrunk or
+   *     closed while its ranges are not released.
+   */
+  MappedRange map(long offset, int length) throws IOException;
+
   void synch();
 
   void create() throws IOException;
@@ -65,6 +79,12 @@ public interface OFile extends OClosableItem {
 
   void renameTo(Path newFile) throws IOException, InterruptedException;
 
+  /**
+   * Moves file to another directory, which may be located on another file system. Unlike {@link
+   * #renameTo(Path)} original file is removed only after its copy is forced to the disk.
+   */
+  void moveTo(Path newFile) throws IOException, InterruptedException;
+
   void replaceContentWith(Path newContentFile) throws IOException, InterruptedException;
 
   /*
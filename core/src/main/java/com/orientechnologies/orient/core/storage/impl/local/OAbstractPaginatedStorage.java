@@ -30,6 +30,7 @@ import com.orientechnologies.common.concur.lock.OPartitionedLockManager;
 import com.orientechnologies.common.concur.lock.OSimpleRWLockManager;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.exception.OHighLevelException;
+import com.orientechnologies.common.io.OFileUtils;
 import com.orientechnologies.common.io.OIOException;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.profiler.ModifiableLongProfileHookValue;
@@ -82,12 +83,14 @@ import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.index.*;
 import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
+import com.orientechnologies.orient.core.index.engine.OIndexBulkLoader;
 import com.orientechnologies.orient.core.index.engine.OIndexEngine;
 import com.orientechnologies.orient.core.index.engine.OMultiValueIndexEngine;
 import com.orientechnologies.orient.core.index.engine.OSingleValueIndexEngine;
 import com.orientechnologies.orient.core.index.engine.OV1IndexEngine;
 import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeMultiValueIndexEngine;
 import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeSingleValueIndexEngine;
+import com.orientechnologies.orient.core.index.engine.v1.ONormalizedKeyIndexEngine;
 import com.orientechnologies.orient.core.metadata.OMetadataDefault;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
@@ -115,6 +118,7 @@ import com.orientechnologies.orient.core.storage.OStorageOperationResult;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.cache.OPageDataVerificationError;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.OStorageTier;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.cache.local.OBackgroundExceptionListener;
 import com.orientechnologies.orient.core.storage.cluster.OOfflineCluster;
@@ -152,6 +156,7 @@ import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeCollection
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeCollectionManagerAbstract;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeCollectionManagerShared;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeRidBag;
+import com.orientechnologies.orient.core.tx.OTransaction;
 import com.orientechnologies.orient.core.tx.OTransactionAbstract;
 import com.orientechnologies.orient.core.tx.OTransactionData;
 import com.orientechnologies.orient.core.tx.OTransactionId;
@@ -160,16 +165,29 @@ import com.orientechnologies.orient.core.tx.OTransactionIndexChangesPerKey;
 import com.orientechnologies.orient.core.tx.OTransactionInternal;
 import com.orientechnologies.orient.core.tx.OTxMetadataHolder;
 import com.orientechnologies.orient.core.tx.OTxMetadataHolderImpl;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
@@ -188,14 +206,20 @@ import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.UUID;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
 /**
@@ -210,6 +234,16 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         OPageIsBrokenListener {
   private static final int WAL_RESTORE_REPORT_INTERVAL = 30 * 1000; // milliseconds
 
+  // AMOUNT OF INDEX PAGES WRITTEN IN SINGLE ATOMIC OPERATION DURING BULK LOAD
+  private static final int BULK_LOAD_PAGES = 256;
+
+  private static final String IBU_EXTENSION = ".ibu";
+  private static final String IBU_DATE_FORMAT = "yyyy-MM-dd-HH-mm-ss";
+  private static final String IBU_HEADER_ENTRY = "backup.header";
+  private static final String IBU_PAGES_ENTRY = "backup.pages";
+  private static final String IBU_END_ENTRY = "backup.end";
+  private static final int IBU_VERSION = 1;
+
   private static final Comparator<ORecordOperation> COMMIT_RECORD_OPERATION_COMPARATOR =
       Comparator.comparing(o -> o.getRecord().getIdentity());
 
@@ -280,6 +314,11 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
   private final Set<Thread> blockedThreads = Collections.newSetFromMap(new WeakHashMap<>());
 
+  // SHARED LOCK IS HELD BY EACH COMMIT, SO CAPTURE OF CHANGES OF INDEXES WHICH ARE BUILT ONLINE IS
+  // STARTED AND STOPPED BETWEEN COMMITS
+  private final ReadWriteLock indexBuildLock = new ReentrantReadWriteLock();
+  private final Map<String, OIndexAbstract> indexBuilds = new ConcurrentHashMap<>();
+
   public OAbstractPaginatedStorage(
       final String name, final String filePath, final String mode, final int id) {
     super(name, filePath, mode);
@@ -2327,6 +2366,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       }
 
       final List<ORecordOperation> result = new ArrayList<>(8);
+      OLogSequenceNumber commitLsn = null;
+      indexBuildLock.readLock().lock();
       stateLock.acquireReadLock();
       try {
         interruptionManager.enterCriticalPath();
@@ -2355,6 +2396,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           makeStorageDirty();
 
           Throwable error = null;
+          Map<OIndexAbstract, Map<ORID, List<Object>>> indexBuildChanges = Collections.emptyMap();
           startStorageTx(transaction);
           try {
             final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
@@ -2409,6 +2451,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
                 transaction.updateIdentityAfterCommit(oldRID, rid);
               }
             }
+            indexBuildChanges = collectIndexBuildChanges(indexOperations, recordOperations);
             lockRidBags(clustersToLock, indexOperations, indexManager, database);
 
             for (final ORecordOperation recordOperation : recordOperations) {
@@ -2434,7 +2477,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
             if (error != null) {
               rollback(transaction, error);
             } else {
-              endStorageTx(transaction, recordOperations);
+              commitLsn = endStorageTx(transaction, recordOperations);
+              captureIndexBuildChanges(indexBuildChanges);
             }
             this.transaction.set(null);
           }
@@ -2463,10 +2507,14 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           }
         } finally {
           stateLock.releaseReadLock();
+          indexBuildLock.readLock().unlock();
           interruptionManager.exitCriticalPath();
         }
       }
 
+      // LOCKS ARE ALREADY RELEASED, SO CONCURRENT TRANSACTIONS CAN JOIN THE SAME FSYNC
+      waitForDurability(commitLsn, transaction.getDurability());
+
       if (OLogManager.instance().isDebugEnabled()) {
         OLogManager.instance()
             .debug(
@@ -2488,6 +2536,74 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Starts capture of changes of the index which is built online. Method returns once all commits
+   * which are not captured are completed.
+   */
+  public void startIndexBuild(final OIndexAbstract index) {
+    indexBuildLock.writeLock().lock();
+    try {
+      indexBuilds.put(index.getName(), index);
+    } finally {
+      indexBuildLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Stops capture of changes of the index which is built online. Commits are paused while the
+   * passed action, if any, applies the last captured changes to the index.
+   */
+  public void finishIndexBuild(final OIndexAbstract index, final Runnable action) {
+    indexBuildLock.writeLock().lock();
+    try {
+      if (action != null) {
+        action.run();
+      }
+    } finally {
+      indexBuilds.remove(index.getName());
+      indexBuildLock.writeLock().unlock();
+    }
+  }
+
+  private Map<OIndexAbstract, Map<ORID, List<Object>>> collectIndexBuildChanges(
+      final Map<String, OTransactionIndexChanges> indexOperations,
+      final Collection<ORecordOperation> recordOperations) {
+    if (indexBuilds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    final Map<OIndexAbstract, Map<ORID, List<Object>>> result = new HashMap<>();
+    for (final OIndexAbstract index : indexBuilds.values()) {
+      // INDEX IS UPDATED BY ITS BUILDER, WHICH RE-READS RECORDS WHOSE KEYS ARE CAPTURED
+      indexOperations.remove(index.getName());
+      final Map<ORID, List<Object>> changes =
+          index.collectChanges(recordOperations, this::readStoredDocument);
+      if (changes != null) {
+        result.put(index, changes);
+      }
+    }
+    return result;
+  }
+
+  private ODocument readStoredDocument(final ORID rid) {
+    final ORawBuffer buffer =
+        doReadRecord(doGetAndCheckCluster(rid.getClusterId()), (ORecordId) rid, false);
+    if (buffer == null || buffer.recordType != ODocument.RECORD_TYPE) {
+      return null;
+    }
+
+    final ODocument document = new ODocument();
+    ORecordInternal.fill(document, rid, buffer.version, buffer.buffer, false);
+    return document;
+  }
+
+  private static void captureIndexBuildChanges(
+      final Map<OIndexAbstract, Map<ORID, List<Object>>> changes) {
+    for (final Map.Entry<OIndexAbstract, Map<ORID, List<Object>>> entry : changes.entrySet()) {
+      entry.getKey().captureChanges(entry.getValue());
+    }
+  }
+
   private void commitIndexes(final Map<String, OTransactionIndexChanges> indexesToCommit) {
     for (final OTransactionIndexChanges changes : indexesToCommit.values()) {
       final OIndexInternal index = changes.getAssociatedIndex();
@@ -3603,6 +3719,129 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Creates loader which fills the empty index in bulk. Entries passed to the sinks of the loader
+   * are written by {@link #bulkLoadIndex(int, OIndexBulkLoader)}.
+   *
+   * @return loader or {@code null} if index can not be filled in bulk
+   */
+  public OIndexBulkLoader createIndexBulkLoader(
+      final int indexId, final OBaseIndexEngine.Validator<Object, ORID> validator)
+      throws OInvalidIndexEngineIdException {
+    final int internalIndexId = extractInternalId(indexId);
+
+    try {
+      // PAGES ARE WRITTEN IN SEPARATE ATOMIC OPERATIONS WHICH CAN NOT BE NESTED
+      if (transaction.get() != null || atomicOperationsManager.getCurrentOperation() != null) {
+        return null;
+      }
+
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+        checkIndexId(internalIndexId);
+
+        final OBaseIndexEngine engine = indexEngines.get(internalIndexId);
+        if (!(engine instanceof OV1IndexEngine)) {
+          return null;
+        }
+
+        final String tempPath = OGlobalConfiguration.INDEX_BULK_BUILD_TEMP_PATH.getValueAsString();
+        final Path tempDirectory =
+            Paths.get(tempPath != null ? tempPath : System.getProperty("java.io.tmpdir"));
+
+        return ((OV1IndexEngine) engine)
+            .createBulkLoader(
+                tempDirectory,
+                OGlobalConfiguration.INDEX_BULK_BUILD_SORT_BUFFER_SIZE.getValueAsInteger(),
+                validator);
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (final IOException e) {
+      // TEMPORARY FILES ARE PLACED OUTSIDE OF STORAGE, SO STORAGE ITSELF IS NOT BROKEN
+      throw logAndPrepareForRethrow(
+          OException.wrapException(
+              new OStorageException("Cannot create bulk loader of index " + indexId), e),
+          false);
+    } catch (final OInvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  /**
+   * Writes pages of the index filled by the loader. Pages are written by portions, each portion in
+   * its own atomic operation, so each page is logged once and lock of the storage is not held
+   * during the whole load. If the load fails, pages of the portions which are already written are
+   * freed and the index is left empty.
+   */
+  public void bulkLoadIndex(final int indexId, final OIndexBulkLoader loader)
+      throws OInvalidIndexEngineIdException {
+    final int internalIndexId = extractInternalId(indexId);
+
+    try {
+      boolean loaded = false;
+      try {
+        boolean hasPages = true;
+        while (hasPages) {
+          stateLock.acquireReadLock();
+          try {
+            interruptionManager.enterCriticalPath();
+            checkOpenness();
+            checkIfThreadIsBlocked();
+            checkIndexId(internalIndexId);
+
+            makeStorageDirty();
+
+            hasPages =
+                atomicOperationsManager.calculateInsideAtomicOperation(
+                    null, atomicOperation -> loader.load(atomicOperation, BULK_LOAD_PAGES));
+            loaded = true;
+          } finally {
+            stateLock.releaseReadLock();
+            interruptionManager.exitCriticalPath();
+          }
+        }
+      } catch (final Throwable t) {
+        if (loaded) {
+          rollbackBulkLoad(internalIndexId, loader);
+        }
+        throw t;
+      }
+    } catch (final OInvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  private void rollbackBulkLoad(final int internalIndexId, final OIndexBulkLoader loader) {
+    try {
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+        checkIndexId(internalIndexId);
+
+        atomicOperationsManager.executeInsideAtomicOperation(null, loader::rollback);
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (final Exception e) {
+      OLogManager.instance()
+          .error(this, "Error during rollback of bulk load of index %d", e, internalIndexId);
+    }
+  }
+
   public Stream<ORawPair<Object, ORID>> iterateIndexEntriesBetween(
       int indexId,
       final Object rangeFrom,
@@ -5178,14 +5417,34 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
-  private void endStorageTx(
+  private OLogSequenceNumber endStorageTx(
       final OTransactionInternal txi, final Collection<ORecordOperation> recordOperations)
       throws IOException {
-    atomicOperationsManager.endAtomicOperation(null);
+    final OLogSequenceNumber lsn = atomicOperationsManager.endAtomicOperation(null);
     assert atomicOperationsManager.getCurrentOperation() == null;
 
     OTransactionAbstract.updateCacheFromEntries(txi.getDatabase(), recordOperations, true);
     txCommit.increment();
+
+    return lsn;
+  }
+
+  private void waitForDurability(
+      final OLogSequenceNumber lsn, final OTransaction.DURABILITY durability) {
+    if (lsn == null) {
+      return;
+    }
+
+    switch (durability) {
+      case GROUP_FSYNC:
+        writeAheadLog.groupSync(lsn);
+        break;
+      case IMMEDIATE:
+        writeAheadLog.flush();
+        break;
+      default:
+        // WAL IS FORCED TO THE DISK IN BACKGROUND
+    }
   }
 
   private void startStorageTx(final OTransactionInternal clientTx) throws IOException {
@@ -5578,6 +5837,10 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   @Override
   public boolean setClusterAttribute(
       final int id, final OCluster.ATTRIBUTES attribute, final Object value) {
+    if (attribute == OCluster.ATTRIBUTES.STORAGE_TIER) {
+      return moveClusterToStorageTier(id, value);
+    }
+
     stateLock.acquireWriteLock();
     try {
       interruptionManager.enterCriticalPath();
@@ -5616,6 +5879,15 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       String clusterName, OCluster.ATTRIBUTES attribute, Object value) {
     Objects.requireNonNull(clusterName);
 
+    if (attribute == OCluster.ATTRIBUTES.STORAGE_TIER) {
+      final int clusterId = getClusterIdByName(clusterName);
+      if (clusterId < 0) {
+        throwClusterDoesNotExist(clusterName);
+      }
+
+      return moveClusterToStorageTier(clusterId, value);
+    }
+
     try {
       interruptionManager.enterCriticalPath();
       stateLock.acquireWriteLock();
@@ -5648,6 +5920,171 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Files are moved under shared lock, so storage stays available during the move, which may take a
+   * long time for big clusters.
+   */
+  private boolean moveClusterToStorageTier(final int id, final Object value) {
+    try {
+      stateLock.acquireReadLock();
+      try {
+        interruptionManager.enterCriticalPath();
+        checkOpenness();
+        checkIfThreadIsBlocked();
+
+        if (id < 0 || id >= clusters.size()) {
+          return false;
+        }
+
+        final OCluster cluster = clusters.get(id);
+        if (cluster == null) {
+          return false;
+        }
+
+        if (value == null) {
+          throw new IllegalStateException("Value of attribute is null");
+        }
+
+        doMoveToStorageTier(
+            cluster.getName(),
+            OStorageTier.valueOf(value.toString().toUpperCase(configuration.getLocaleInstance())));
+        return true;
+      } finally {
+        stateLock.releaseReadLock();
+        interruptionManager.exitCriticalPath();
+      }
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  /**
+   * Moves files of the cluster or index with given name to the storage tier. Storage stays
+   * available during the move, only operations which access pages of moved file wait till its
+   * content is copied.
+   */
+  public final void moveToStorageTier(final String componentName, final OStorageTier tier) {
+    try {
+      stateLock.acquireReadLock();
+      try {
+        interruptionManager.enterCriticalPath();
+        checkOpenness();
+        checkIfThreadIsBlocked();
+
+        doMoveToStorageTier(componentName, tier);
+      } finally {
+        stateLock.releaseReadLock();
+        interruptionManager.exitCriticalPath();
+      }
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  /**
+   * Returns storage tier of the cluster or index with given name. Component belongs to the cold
+   * tier only if all its files are moved there.
+   */
+  public final OStorageTier getStorageTier(final String componentName) {
+    try {
+      stateLock.acquireReadLock();
+      try {
+        interruptionManager.enterCriticalPath();
+        checkOpenness();
+        checkIfThreadIsBlocked();
+
+        for (final long fileId : existingComponentFileIds(componentName)) {
+          if (writeCache.getFileTier(fileId) == OStorageTier.HOT) {
+            return OStorageTier.HOT;
+          }
+        }
+
+        return OStorageTier.COLD;
+      } finally {
+        stateLock.releaseReadLock();
+        interruptionManager.exitCriticalPath();
+      }
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  /**
+   * Returns amount of pages of the cluster or index with given name which were read from disk since
+   * storage was opened. Components with small amount of reads are candidates to be moved to the
+   * cold storage tier, and cold components with big amount of reads should be moved back.
+   */
+  public final long getDiskPageReads(final String componentName) {
+    try {
+      stateLock.acquireReadLock();
+      try {
+        interruptionManager.enterCriticalPath();
+        checkOpenness();
+        checkIfThreadIsBlocked();
+
+        long reads = 0;
+        for (final long fileId : componentFileIds(componentName)) {
+          reads += writeCache.getFilePageReads(fileId);
+        }
+
+        return reads;
+      } finally {
+        stateLock.releaseReadLock();
+        interruptionManager.exitCriticalPath();
+      }
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  private void doMoveToStorageTier(final String componentName, final OStorageTier tier)
+      throws IOException {
+    for (final long fileId : existingComponentFileIds(componentName)) {
+      writeCache.moveFileToTier(fileId, tier);
+    }
+  }
+
+  private List<Long> existingComponentFileIds(final String componentName) {
+    final List<Long> fileIds = componentFileIds(componentName);
+    if (fileIds.isEmpty()) {
+      throw new OStorageException(
+          "Cluster or index with name '" + componentName + "' does not exist in storage " + name);
+    }
+
+    return fileIds;
+  }
+
+  /** Files of clusters and indexes have name of the component and a single extension. */
+  private List<Long> componentFileIds(final String componentName) {
+    final String prefix = componentName + ".";
+    final List<Long> fileIds = new ArrayList<>();
+
+    for (final Map.Entry<String, Long> file : writeCache.files().entrySet()) {
+      final String fileName = file.getKey();
+      if (fileName.startsWith(prefix) && fileName.indexOf('.', prefix.length()) < 0) {
+        fileIds.add(file.getValue());
+      }
+    }
+
+    return fileIds;
+  }
+
   private boolean doSetClusterAttributed(
       final OAtomicOperation atomicOperation,
       final OCluster.ATTRIBUTES attribute,
@@ -5757,6 +6194,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
                           || engine instanceof OHashTableIndexEngine
                           || engine instanceof OCellBTreeSingleValueIndexEngine
                           || engine instanceof OCellBTreeMultiValueIndexEngine
+                          || engine instanceof ONormalizedKeyIndexEngine
                           || engine instanceof OAutoShardingIndexEngine)) {
                     engine.close();
                   }
@@ -5770,6 +6208,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
                     || engine instanceof OHashTableIndexEngine
                     || engine instanceof OCellBTreeSingleValueIndexEngine
                     || engine instanceof OCellBTreeMultiValueIndexEngine
+                    || engine instanceof ONormalizedKeyIndexEngine
                     || engine instanceof OAutoShardingIndexEngine)) {
               // delete method is implemented only in non native indexes, so they do not use ODB
               // atomic operation
@@ -6056,38 +6495,558 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Writes a new incremental backup file in the given directory. The first backup of the directory
+   * contains all the pages of the storage, the next ones only the pages whose LSN is bigger than
+   * the last LSN of the previous backup. Pages are copied while the storage is working, so each
+   * backup also contains the WAL segments logged during the copy, which are replayed on restore to
+   * bring the copied pages to a consistent state.
+   *
+   * @return name of the created backup file
+   */
   @SuppressWarnings("CanBeFinal")
   @Override
   public String incrementalBackup(final String backupDirectory, final OCallable<Void, Void> started)
       throws UnsupportedOperationException {
-    throw new UnsupportedOperationException(
-        "Incremental backup is supported only in enterprise version");
-  }
+    if (!supportIncremental()) {
+      throw new UnsupportedOperationException(
+          "Incremental backup is not supported by storage " + name);
+    }
 
-  @Override
-  public boolean supportIncremental() {
-    return false;
-  }
+    try {
+      final File directory = new File(backupDirectory);
+      if (!directory.exists() && !directory.mkdirs()) {
+        throw new OStorageException(
+            "Can not create directory " + directory.getAbsolutePath() + " for incremental backup");
+      }
+      if (!directory.isDirectory()) {
+        throw new OStorageException(
+            "Path " + directory.getAbsolutePath() + " of incremental backup is not a directory");
+      }
 
-  @Override
-  public void fullIncrementalBackup(final OutputStream stream)
-      throws UnsupportedOperationException {
-    throw new UnsupportedOperationException(
-        "Incremental backup is supported only in enterprise version");
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+
+        final File[] backups = fetchIncrementalBackupFiles(directory);
+        OLogSequenceNumber fromLsn = null;
+        if (backups.length > 0) {
+          fromLsn = readIncrementalBackupEndLsn(backups[backups.length - 1]);
+        }
+
+        final String fileName =
+            new SimpleDateFormat(IBU_DATE_FORMAT).format(new Date())
+                + "_"
+                + backups.length
+                + IBU_EXTENSION;
+        final File backupFile = new File(directory, fileName);
+        final File tempFile = new File(directory, fileName + ".tmp");
+        try {
+          try (final OutputStream stream =
+              new BufferedOutputStream(new FileOutputStream(tempFile))) {
+            incrementalBackup(stream, fromLsn, started);
+          }
+          Files.move(tempFile.toPath(), backupFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+          Files.deleteIfExists(tempFile.toPath());
+        }
+
+        return fileName;
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (final IOException e) {
+      throw OException.wrapException(
+          new OStorageException("Error during incremental backup of storage " + name), e);
+    } catch (final RuntimeException e) {
+      throw logAndPrepareForRethrow(e);
+    } catch (final Error e) {
+      throw logAndPrepareForRethrow(e);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  @Override
+  public boolean supportIncremental() {
+    return false;
+  }
+
+  /** Writes a backup that contains all the pages of the storage, in incremental backup format. */
+  @Override
+  public void fullIncrementalBackup(final OutputStream stream)
+      throws UnsupportedOperationException {
+    if (!supportIncremental()) {
+      throw new UnsupportedOperationException(
+          "Incremental backup is not supported by storage " + name);
+    }
+
+    try {
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+        incrementalBackup(stream, null, null);
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (final IOException e) {
+      throw OException.wrapException(
+          new OStorageException("Error during incremental backup of storage " + name), e);
+    } catch (final RuntimeException e) {
+      throw logAndPrepareForRethrow(e);
+    } catch (final Error e) {
+      throw logAndPrepareForRethrow(e);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
   }
 
+  /**
+   * Replaces the content of the storage with the content of the incremental backups of the given
+   * directory, the storage is reopened once the backups are restored.
+   */
   @SuppressWarnings("CanBeFinal")
   @Override
   public void restoreFromIncrementalBackup(final String filePath) {
-    throw new UnsupportedOperationException(
-        "Incremental backup is supported only in enterprise version");
+    if (!supportIncremental()) {
+      throw new UnsupportedOperationException(
+          "Incremental backup is not supported by storage " + name);
+    }
+
+    final File path = new File(filePath);
+    final File[] backups;
+    if (path.isDirectory()) {
+      backups = fetchIncrementalBackupFiles(path);
+    } else {
+      backups = new File[] {path};
+    }
+    if (backups.length == 0 || !backups[0].exists()) {
+      throw new OStorageException("There are no incremental backups to restore in " + filePath);
+    }
+
+    restoreFromIncrementalBackup(backups, null);
   }
 
   @Override
   public void restoreFullIncrementalBackup(final InputStream stream)
       throws UnsupportedOperationException {
-    throw new UnsupportedOperationException(
-        "Incremental backup is supported only in enterprise version");
+    if (!supportIncremental()) {
+      throw new UnsupportedOperationException(
+          "Incremental backup is not supported by storage " + name);
+    }
+
+    restoreFromIncrementalBackup(null, stream);
+  }
+
+  private OLogSequenceNumber incrementalBackup(
+      final OutputStream stream,
+      final OLogSequenceNumber fromLsn,
+      final OCallable<Void, Void> started)
+      throws IOException {
+    // all the changes that may be missing from the copied pages are logged after this LSN, atomic
+    // operations are frozen only to start a new WAL segment, pages are copied while the storage is
+    // working
+    final OLogSequenceNumber startLsn;
+    final long freezeId = atomicOperationsManager.freezeAtomicOperations(null, null);
+    try {
+      writeAheadLog.appendNewSegment();
+      startLsn = writeAheadLog.end();
+      writeAheadLog.addCutTillLimit(startLsn);
+    } finally {
+      atomicOperationsManager.releaseAtomicOperations(freezeId);
+    }
+
+    try {
+      if (started != null) {
+        started.call(null);
+      }
+
+      final ZipOutputStream zipOutputStream = new ZipOutputStream(stream);
+      final DataOutputStream output = new DataOutputStream(zipOutputStream);
+
+      final Map<String, Long> files = writeCache.files();
+      final List<IncrementalBackupFile> backupFiles = new ArrayList<>(files.size());
+      for (final Map.Entry<String, Long> entry : files.entrySet()) {
+        backupFiles.add(
+            new IncrementalBackupFile(
+                entry.getKey(), entry.getValue(), writeCache.getFilledUpTo(entry.getValue())));
+      }
+
+      zipOutputStream.putNextEntry(new ZipEntry(IBU_HEADER_ENTRY));
+      output.writeInt(IBU_VERSION);
+      output.writeUTF(configuration.getUuid());
+      output.writeBoolean(fromLsn == null);
+      if (fromLsn != null) {
+        fromLsn.toStream(output);
+      }
+      output.writeInt(writeCache.pageSize());
+      final byte[] iv = getIv();
+      if (iv == null) {
+        output.writeInt(-1);
+      } else {
+        output.writeInt(iv.length);
+        output.write(iv);
+      }
+      output.writeInt(backupFiles.size());
+      for (final IncrementalBackupFile file : backupFiles) {
+        output.writeUTF(file.name);
+        output.writeLong(file.fileId);
+        output.writeLong(file.filledUpTo);
+      }
+      output.flush();
+      zipOutputStream.closeEntry();
+
+      zipOutputStream.putNextEntry(new ZipEntry(IBU_PAGES_ENTRY));
+      long copiedPages = 0;
+      for (final IncrementalBackupFile file : backupFiles) {
+        copiedPages += backupChangedPages(output, file, fromLsn);
+      }
+      output.writeLong(-1);
+      output.flush();
+      zipOutputStream.closeEntry();
+
+      final OLogSequenceNumber endLsn =
+          copyWALToIncrementalBackup(zipOutputStream, startLsn.getSegment());
+
+      zipOutputStream.putNextEntry(new ZipEntry(IBU_END_ENTRY));
+      endLsn.toStream(output);
+      output.writeLong(idGen.getLastId());
+      output.flush();
+      zipOutputStream.closeEntry();
+      zipOutputStream.finish();
+
+      OLogManager.instance()
+          .info(
+              this,
+              "Incremental backup of storage %s: %d pages changed since LSN %s were copied",
+              name,
+              copiedPages,
+              fromLsn);
+      return endLsn;
+    } finally {
+      writeAheadLog.removeCutTillLimit(startLsn);
+    }
+  }
+
+  /**
+   * copies the pages of the file changed after the given LSN, pages are loaded without putting them
+   * in the read cache
+   *
+   * @return number of copied pages
+   */
+  private long backupChangedPages(
+      final DataOutputStream output,
+      final IncrementalBackupFile file,
+      final OLogSequenceNumber fromLsn)
+      throws IOException {
+    final byte[] page = new byte[writeCache.pageSize()];
+    long copiedPages = 0;
+
+    for (long pageIndex = 0; pageIndex < file.filledUpTo; pageIndex++) {
+      // the file was deleted after the start of the backup, the deletion is logged in the WAL
+      if (!writeCache.exists(file.fileId)) {
+        break;
+      }
+
+      final OCacheEntry cacheEntry =
+          readCache.silentLoadForRead(file.fileId, (int) pageIndex, writeCache, true);
+      if (cacheEntry == null) {
+        break;
+      }
+      try {
+        cacheEntry.acquireSharedLock();
+        try {
+          final ByteBuffer buffer = cacheEntry.getCachePointer().getBufferDuplicate();
+          if (fromLsn != null
+              && ODurablePage.getLogSequenceNumberFromPage(buffer).compareTo(fromLsn) <= 0) {
+            continue;
+          }
+          buffer.get(page);
+        } finally {
+          cacheEntry.releaseSharedLock();
+        }
+      } finally {
+        readCache.releaseFromRead(cacheEntry, writeCache);
+      }
+
+      output.writeLong(file.fileId);
+      output.writeLong(pageIndex);
+      output.write(page);
+      copiedPages++;
+    }
+
+    return copiedPages;
+  }
+
+  private void restoreFromIncrementalBackup(final File[] backups, final InputStream stream) {
+    try {
+      final OContextConfiguration contextConfiguration;
+      final Locale locale;
+
+      stateLock.acquireWriteLock();
+      try {
+        checkOpenness();
+        contextConfiguration = configuration.getContextConfiguration();
+        locale = configuration.getLocaleInstance();
+
+        doClose(true, false);
+
+        // only the caches and the WAL are opened, components are loaded from the restored pages
+        readIv();
+        initWalAndDiskCache(contextConfiguration);
+        checkIfStorageDirty();
+        makeStorageDirty();
+        try {
+          writeCache.restoreModeOn();
+          try {
+            OLogSequenceNumber lastLsn = null;
+            if (stream != null) {
+              lastLsn = restoreFromIncrementalBackup(stream, true, contextConfiguration, locale);
+            } else {
+              for (int i = 0; i < backups.length; i++) {
+                OLogManager.instance()
+                    .info(this, "Restore of incremental backup %s is started", backups[i]);
+                try (final InputStream backupStream =
+                    new BufferedInputStream(new FileInputStream(backups[i]))) {
+                  lastLsn =
+                      restoreFromIncrementalBackup(
+                          backupStream, i == 0, contextConfiguration, locale);
+                }
+              }
+            }
+
+            // LSNs of the restored pages come from the WAL of the backed up storage
+            if (lastLsn != null) {
+              writeAheadLog.moveLsnAfter(lastLsn);
+            }
+          } finally {
+            writeCache.restoreModeOff();
+          }
+        } finally {
+          preCloseSteps();
+          readCache.closeStorage(writeCache);
+          writeAheadLog.close();
+          postCloseSteps(false, false, idGen.getLastId());
+          lastMetadata = null;
+        }
+      } finally {
+        stateLock.releaseWriteLock();
+      }
+
+      open(contextConfiguration);
+    } catch (final IOException e) {
+      throw OException.wrapException(
+          new OStorageException("Error during restore of incremental backup of storage " + name),
+          e);
+    } catch (final RuntimeException e) {
+      throw logAndPrepareForRethrow(e);
+    } catch (final Error e) {
+      throw logAndPrepareForRethrow(e);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  /**
+   * restores the pages contained in a single backup file, then replays the WAL segments of the
+   * backup on them
+   *
+   * @return last LSN of the backed up storage contained in the backup
+   */
+  private OLogSequenceNumber restoreFromIncrementalBackup(
+      final InputStream stream,
+      final boolean first,
+      final OContextConfiguration contextConfiguration,
+      final Locale locale)
+      throws IOException {
+    final ZipInputStream zipInputStream = new ZipInputStream(stream);
+    final DataInputStream input = new DataInputStream(zipInputStream);
+    final File walDirectory = createWalTempDirectory();
+    try {
+      byte[] iv = null;
+      int pageSize = -1;
+      OLogSequenceNumber endLsn = null;
+
+      ZipEntry entry;
+      while ((entry = zipInputStream.getNextEntry()) != null) {
+        final String entryName = entry.getName();
+        if (entryName.equals(IBU_HEADER_ENTRY)) {
+          final int version = input.readInt();
+          if (version != IBU_VERSION) {
+            throw new OStorageException("Unsupported version of incremental backup " + version);
+          }
+          input.readUTF();
+          final boolean full = input.readBoolean();
+          if (!full) {
+            if (first) {
+              throw new OStorageException(
+                  "First incremental backup to restore does not contain all the pages");
+            }
+            new OLogSequenceNumber(input);
+          }
+          pageSize = input.readInt();
+          if (pageSize != writeCache.pageSize()) {
+            throw new OStorageException(
+                "Page size of incremental backup "
+                    + pageSize
+                    + " is different from page size of storage "
+                    + writeCache.pageSize());
+          }
+          final int ivLength = input.readInt();
+          if (ivLength >= 0) {
+            iv = new byte[ivLength];
+            input.readFully(iv);
+          }
+          final int filesCount = input.readInt();
+          final List<IncrementalBackupFile> files = new ArrayList<>(filesCount);
+          for (int i = 0; i < filesCount; i++) {
+            files.add(
+                new IncrementalBackupFile(input.readUTF(), input.readLong(), input.readLong()));
+          }
+          restoreIncrementalBackupFiles(files, full);
+        } else if (entryName.equals(IBU_PAGES_ENTRY)) {
+          if (pageSize < 0) {
+            throw new OStorageException("Pages of incremental backup precede its header");
+          }
+          final byte[] page = new byte[pageSize];
+          long fileId;
+          while ((fileId = input.readLong()) >= 0) {
+            final long pageIndex = input.readLong();
+            input.readFully(page);
+            restoreIncrementalBackupPage(fileId, pageIndex, page);
+          }
+        } else if (entryName.equals(IBU_END_ENTRY)) {
+          endLsn = new OLogSequenceNumber(input);
+          final long lastTxId = input.readLong();
+          if (lastTxId > idGen.getLastId()) {
+            idGen.setStartId(lastTxId);
+          }
+        } else if (entryName.endsWith(OWriteAheadLog.WAL_SEGMENT_EXTENSION)) {
+          // WAL segments are named after the backed up storage
+          final int segmentIndex =
+              entryName.lastIndexOf(
+                  ".", entryName.length() - OWriteAheadLog.WAL_SEGMENT_EXTENSION.length() - 1);
+          addFileToDirectory(
+              name + entryName.substring(segmentIndex), zipInputStream, walDirectory);
+        }
+        zipInputStream.closeEntry();
+      }
+
+      if (endLsn == null) {
+        throw new OStorageException("Incremental backup is incomplete, its end is missing");
+      }
+
+      final OWriteAheadLog restoreLog =
+          createWalFromIBUFiles(walDirectory, contextConfiguration, locale, iv);
+      try {
+        final OLogSequenceNumber beginLsn = restoreLog.begin();
+        if (beginLsn != null) {
+          restoreFrom(restoreLog, beginLsn, Integer.MIN_VALUE);
+        }
+      } finally {
+        restoreLog.close(false);
+      }
+
+      return endLsn;
+    } finally {
+      OFileUtils.deleteRecursively(walDirectory);
+    }
+  }
+
+  /**
+   * makes the files of the storage match the files of the backup, file ids have to be the same
+   * because the WAL records of the backup refer to them
+   */
+  private void restoreIncrementalBackupFiles(
+      final List<IncrementalBackupFile> files, final boolean full) throws IOException {
+    final Map<String, IncrementalBackupFile> filesByName = new HashMap<>(files.size());
+    for (final IncrementalBackupFile file : files) {
+      filesByName.put(file.name, file);
+    }
+
+    for (final Map.Entry<String, Long> entry : writeCache.files().entrySet()) {
+      final IncrementalBackupFile file = filesByName.get(entry.getKey());
+      if (full || file == null || !writeCache.fileIdsAreEqual(entry.getValue(), file.fileId)) {
+        readCache.deleteFile(entry.getValue(), writeCache);
+      }
+    }
+
+    for (final IncrementalBackupFile file : files) {
+      if (!writeCache.exists(file.name)) {
+        readCache.addFile(file.name, file.fileId, writeCache);
+      }
+
+      final long fileId = writeCache.externalFileId(writeCache.internalFileId(file.fileId));
+      while (writeCache.getFilledUpTo(fileId) < file.filledUpTo) {
+        final OCacheEntry cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
+        readCache.releaseFromWrite(cacheEntry, writeCache, true);
+      }
+    }
+  }
+
+  private void restoreIncrementalBackupPage(
+      final long backupFileId, final long pageIndex, final byte[] page) throws IOException {
+    final long fileId = writeCache.externalFileId(writeCache.internalFileId(backupFileId));
+    final OCacheEntry cacheEntry = loadOrAddPageForRestore(fileId, pageIndex);
+    try {
+      cacheEntry.getCachePointer().getBufferDuplicate().put(page);
+    } finally {
+      readCache.releaseFromWrite(cacheEntry, writeCache, true);
+    }
+  }
+
+  /** @return backup files of the directory, in the order they were created */
+  private static File[] fetchIncrementalBackupFiles(final File directory) {
+    final File[] files =
+        directory.listFiles(
+            (dir, fileName) ->
+                fileName.endsWith(IBU_EXTENSION) && new File(dir, fileName).isFile());
+    if (files == null) {
+      return new File[0];
+    }
+
+    Arrays.sort(files, Comparator.comparingLong(OAbstractPaginatedStorage::incrementalBackupIndex));
+    return files;
+  }
+
+  private static long incrementalBackupIndex(final File file) {
+    final String fileName = file.getName();
+    final String index =
+        fileName.substring(
+            fileName.lastIndexOf('_') + 1, fileName.length() - IBU_EXTENSION.length());
+    try {
+      return Long.parseLong(index);
+    } catch (final NumberFormatException e) {
+      throw OException.wrapException(
+          new OStorageException("Invalid name of incremental backup file " + file), e);
+    }
+  }
+
+  private OLogSequenceNumber readIncrementalBackupEndLsn(final File file) throws IOException {
+    try (final ZipFile zipFile = new ZipFile(file)) {
+      final ZipEntry headerEntry = zipFile.getEntry(IBU_HEADER_ENTRY);
+      final ZipEntry endEntry = zipFile.getEntry(IBU_END_ENTRY);
+      if (headerEntry == null || endEntry == null) {
+        throw new OStorageException("Incremental backup " + file + " is incomplete");
+      }
+
+      try (final DataInputStream input = new DataInputStream(zipFile.getInputStream(headerEntry))) {
+        input.readInt();
+        final String uuid = input.readUTF();
+        if (!uuid.equals(configuration.getUuid())) {
+          throw new OStorageException(
+              "Incremental backup "
+                  + file
+                  + " belongs to another database, backups of storage "
+                  + name
+                  + " have to be stored in a different directory");
+        }
+      }
+
+      try (final DataInputStream input = new DataInputStream(zipFile.getInputStream(endEntry))) {
+        return new OLogSequenceNumber(input);
+      }
+    }
   }
 
   private OLogSequenceNumber restoreFromBeginning() throws IOException {
@@ -6142,127 +7101,137 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
             + "Required operation id %d operation id contained into the WAL %d."
             + " Please create issue in bug tracker";
 
-    try {
-      List<WriteableWALRecord> records = writeAheadLog.read(lsn, 1_000);
+    final int batchSize = OGlobalConfiguration.WAL_RESTORE_BATCH_SIZE.getValueAsInteger();
+    try (final OPageRestoreExecutor restoreExecutor =
+        new OPageRestoreExecutor(
+            name,
+            OGlobalConfiguration.WAL_RESTORE_THREADS.getValueAsInteger(),
+            this::restorePageChanges)) {
+      try {
+        List<WriteableWALRecord> records = writeAheadLog.read(lsn, batchSize);
 
-      if (nextOperationId >= 0) {
-        if (records.isEmpty()) {
-          final int lastOperationId = writeAheadLog.lastOperationId();
-          if (nextOperationId - 1 != lastOperationId) {
-            OLogManager.instance()
-                .errorNoDb(this, errorMessage, null, name, nextOperationId - 1, lastOperationId);
-          }
+        if (nextOperationId >= 0) {
+          if (records.isEmpty()) {
+            final int lastOperationId = writeAheadLog.lastOperationId();
+            if (nextOperationId - 1 != lastOperationId) {
+              OLogManager.instance()
+                  .errorNoDb(this, errorMessage, null, name, nextOperationId - 1, lastOperationId);
+            }
 
-          return null;
-        } else {
-          final WriteableWALRecord writeableWALRecord = records.get(0);
-          final int firstOperationId = writeableWALRecord.getOperationIdLSN().operationId;
+            return null;
+          } else {
+            final WriteableWALRecord writeableWALRecord = records.get(0);
+            final int firstOperationId = writeableWALRecord.getOperationIdLSN().operationId;
 
-          if (firstOperationId > nextOperationId) {
-            OLogManager.instance()
-                .errorNoDb(this, errorMessage, null, name, nextOperationId, firstOperationId);
+            if (firstOperationId > nextOperationId) {
+              OLogManager.instance()
+                  .errorNoDb(this, errorMessage, null, name, nextOperationId, firstOperationId);
+            }
           }
         }
-      }
-
-      while (!records.isEmpty()) {
-        for (final WriteableWALRecord walRecord : records) {
-          logSequenceNumber = walRecord.getLsn();
 
-          if (walRecord instanceof OAtomicUnitEndRecord) {
-            final OAtomicUnitEndRecord atomicUnitEndRecord = (OAtomicUnitEndRecord) walRecord;
-            final List<OWALRecord> atomicUnit =
-                operationUnits.remove(atomicUnitEndRecord.getOperationUnitId());
+        while (!records.isEmpty()) {
+          for (final WriteableWALRecord walRecord : records) {
+            logSequenceNumber = walRecord.getLsn();
+
+            if (walRecord instanceof OAtomicUnitEndRecord) {
+              final OAtomicUnitEndRecord atomicUnitEndRecord = (OAtomicUnitEndRecord) walRecord;
+              final List<OWALRecord> atomicUnit =
+                  operationUnits.remove(atomicUnitEndRecord.getOperationUnitId());
+
+              // in case of data restore from fuzzy checkpoint part of operations may be already
+              // flushed to the disk
+              if (atomicUnit != null) {
+                atomicUnit.add(walRecord);
+                restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, restoreExecutor);
+              }
+              byte[] metadata = operationMetadata.remove(atomicUnitEndRecord.getOperationUnitId());
+              if (metadata != null) {
+                this.lastMetadata = metadata;
+              }
+            } else if (walRecord instanceof OAtomicUnitStartRecord) {
+              if (walRecord instanceof OAtomicUnitStartMetadataRecord) {
+                byte[] metadata = ((OAtomicUnitStartMetadataRecord) walRecord).getMetadata();
+                operationMetadata.put(
+                    ((OAtomicUnitStartRecord) walRecord).getOperationUnitId(), metadata);
+              }
 
-            // in case of data restore from fuzzy checkpoint part of operations may be already
-            // flushed to the disk
-            if (atomicUnit != null) {
-              atomicUnit.add(walRecord);
-              restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate);
-            }
-            byte[] metadata = operationMetadata.remove(atomicUnitEndRecord.getOperationUnitId());
-            if (metadata != null) {
-              this.lastMetadata = metadata;
-            }
-          } else if (walRecord instanceof OAtomicUnitStartRecord) {
-            if (walRecord instanceof OAtomicUnitStartMetadataRecord) {
-              byte[] metadata = ((OAtomicUnitStartMetadataRecord) walRecord).getMetadata();
-              operationMetadata.put(
-                  ((OAtomicUnitStartRecord) walRecord).getOperationUnitId(), metadata);
-            }
+              final List<OWALRecord> operationList = new ArrayList<>(1024);
 
-            final List<OWALRecord> operationList = new ArrayList<>(1024);
+              assert !operationUnits.containsKey(
+                  ((OAtomicUnitStartRecord) walRecord).getOperationUnitId());
 
-            assert !operationUnits.containsKey(
-                ((OAtomicUnitStartRecord) walRecord).getOperationUnitId());
+              operationUnits.put(
+                  ((OAtomicUnitStartRecord) walRecord).getOperationUnitId(), operationList);
+              operationList.add(walRecord);
+            } else if (walRecord instanceof OOperationUnitRecord) {
+              final OOperationUnitRecord operationUnitRecord = (OOperationUnitRecord) walRecord;
 
-            operationUnits.put(
-                ((OAtomicUnitStartRecord) walRecord).getOperationUnitId(), operationList);
-            operationList.add(walRecord);
-          } else if (walRecord instanceof OOperationUnitRecord) {
-            final OOperationUnitRecord operationUnitRecord = (OOperationUnitRecord) walRecord;
+              List<OWALRecord> operationList =
+                  operationUnits.get(operationUnitRecord.getOperationUnitId());
 
-            List<OWALRecord> operationList =
-                operationUnits.get(operationUnitRecord.getOperationUnitId());
+              if (operationList == null || operationList.isEmpty()) {
+                OLogManager.instance()
+                    .errorNoDb(
+                        this, "'Start transaction' record is absent for atomic operation", null);
 
-            if (operationList == null || operationList.isEmpty()) {
-              OLogManager.instance()
-                  .errorNoDb(
-                      this, "'Start transaction' record is absent for atomic operation", null);
+                if (operationList == null) {
+                  operationList = new ArrayList<>(1024);
+                  operationUnits.put(operationUnitRecord.getOperationUnitId(), operationList);
+                }
+              }
 
-              if (operationList == null) {
-                operationList = new ArrayList<>(1024);
-                operationUnits.put(operationUnitRecord.getOperationUnitId(), operationList);
+              operationList.add(operationUnitRecord);
+            } else if (walRecord instanceof ONonTxOperationPerformedWALRecord) {
+              if (!wereNonTxOperationsPerformedInPreviousOpen) {
+                OLogManager.instance()
+                    .warnNoDb(
+                        this,
+                        "Non tx operation was used during data modification we will need index rebuild.");
+                wereNonTxOperationsPerformedInPreviousOpen = true;
               }
+            } else if (walRecord instanceof MetaDataRecord) {
+              final MetaDataRecord metaDataRecord = (MetaDataRecord) walRecord;
+              this.lastMetadata = metaDataRecord.getMetadata();
+            } else {
+              OLogManager.instance()
+                  .warnNoDb(this, "Record %s will be skipped during data restore", walRecord);
             }
 
-            operationList.add(operationUnitRecord);
-          } else if (walRecord instanceof ONonTxOperationPerformedWALRecord) {
-            if (!wereNonTxOperationsPerformedInPreviousOpen) {
+            recordsProcessed++;
+
+            final long currentTime = System.currentTimeMillis();
+            if (reportBatchSize > 0 && recordsProcessed % reportBatchSize == 0
+                || currentTime - lastReportTime > WAL_RESTORE_REPORT_INTERVAL) {
               OLogManager.instance()
-                  .warnNoDb(
+                  .infoNoDb(
                       this,
-                      "Non tx operation was used during data modification we will need index rebuild.");
-              wereNonTxOperationsPerformedInPreviousOpen = true;
+                      "%d operations were processed, current LSN is %s last LSN is %s",
+                      recordsProcessed,
+                      lsn,
+                      writeAheadLog.end());
+              lastReportTime = currentTime;
             }
-          } else if (walRecord instanceof MetaDataRecord) {
-            final MetaDataRecord metaDataRecord = (MetaDataRecord) walRecord;
-            this.lastMetadata = metaDataRecord.getMetadata();
-          } else {
-            OLogManager.instance()
-                .warnNoDb(this, "Record %s will be skipped during data restore", walRecord);
           }
 
-          recordsProcessed++;
-
-          final long currentTime = System.currentTimeMillis();
-          if (reportBatchSize > 0 && recordsProcessed % reportBatchSize == 0
-              || currentTime - lastReportTime > WAL_RESTORE_REPORT_INTERVAL) {
-            OLogManager.instance()
-                .infoNoDb(
-                    this,
-                    "%d operations were processed, current LSN is %s last LSN is %s",
-                    recordsProcessed,
-                    lsn,
-                    writeAheadLog.end());
-            lastReportTime = currentTime;
-          }
+          restoreExecutor.flush();
+          records = writeAheadLog.next(records.get(records.size() - 1).getLsn(), batchSize);
         }
 
-        records = writeAheadLog.next(records.get(records.size() - 1).getLsn(), 1_000);
+        restoreExecutor.await();
+      } catch (final OWALPageBrokenException e) {
+        OLogManager.instance()
+            .errorNoDb(
+                this,
+                "Data restore was paused because broken WAL page was found. The rest of changes will be rolled back.",
+                e);
+      } catch (final RuntimeException e) {
+        OLogManager.instance()
+            .errorNoDb(
+                this,
+                "Data restore was paused because of exception. The rest of changes will be rolled back.",
+                e);
       }
-    } catch (final OWALPageBrokenException e) {
-      OLogManager.instance()
-          .errorNoDb(
-              this,
-              "Data restore was paused because broken WAL page was found. The rest of changes will be rolled back.",
-              e);
-    } catch (final RuntimeException e) {
-      OLogManager.instance()
-          .errorNoDb(
-              this,
-              "Data restore was paused because of exception. The rest of changes will be rolled back.",
-              e);
     }
 
     if (atLeastOnePageUpdate.getValue()) {
@@ -6275,10 +7244,28 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   protected final void restoreAtomicUnit(
       final List<OWALRecord> atomicUnit, final OModifiableBoolean atLeastOnePageUpdate)
       throws IOException {
+    try (final OPageRestoreExecutor restoreExecutor =
+        new OPageRestoreExecutor(name, 1, this::restorePageChanges)) {
+      restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, restoreExecutor);
+    }
+  }
+
+  /**
+   * Restores atomic operation, changes of pages are passed to the executor and may be applied
+   * asynchronously, file operations are performed by the caller.
+   */
+  private void restoreAtomicUnit(
+      final List<OWALRecord> atomicUnit,
+      final OModifiableBoolean atLeastOnePageUpdate,
+      final OPageRestoreExecutor restoreExecutor)
+      throws IOException {
     assert atomicUnit.get(atomicUnit.size() - 1) instanceof OAtomicUnitEndRecord;
 
     for (final OWALRecord walRecord : atomicUnit) {
       if (walRecord instanceof OFileDeletedWALRecord) {
+        // PAGES OF THE FILE MAY BE STILL UPDATED BY RESTORE THREADS
+        restoreExecutor.await();
+
         final OFileDeletedWALRecord fileDeletedWALRecord = (OFileDeletedWALRecord) walRecord;
         if (writeCache.exists(fileDeletedWALRecord.getFileId())) {
           readCache.deleteFile(fileDeletedWALRecord.getFileId(), writeCache);
@@ -6314,30 +7301,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           }
         }
 
-        final long pageIndex = updatePageRecord.getPageIndex();
         fileId = writeCache.externalFileId(writeCache.internalFileId(fileId));
-
-        OCacheEntry cacheEntry =
-            readCache.loadForWrite(fileId, pageIndex, true, writeCache, false, null);
-        if (cacheEntry == null) {
-          do {
-            if (cacheEntry != null) {
-              readCache.releaseFromWrite(cacheEntry, writeCache, true);
-            }
-
-            cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
-          } while (cacheEntry.getPageIndex() != pageIndex);
-        }
-
-        try {
-          final ODurablePage durablePage = new ODurablePage(cacheEntry);
-          if (durablePage.getLSN().compareTo(walRecord.getLsn()) < 0) {
-            durablePage.restoreChanges(updatePageRecord.getChanges());
-            durablePage.setOperationIdLSN(updatePageRecord.getOperationIdLSN());
-          }
-        } finally {
-          readCache.releaseFromWrite(cacheEntry, writeCache, true);
-        }
+        restoreExecutor.submit(fileId, updatePageRecord);
 
         atLeastOnePageUpdate.setValue(true);
       } else if (walRecord instanceof OAtomicUnitStartRecord) {
@@ -6362,6 +7327,42 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /** applies changes of the page if they are not applied yet, may be called by several threads */
+  private void restorePageChanges(final long fileId, final OUpdatePageRecord updatePageRecord)
+      throws IOException {
+    final OCacheEntry cacheEntry = loadOrAddPageForRestore(fileId, updatePageRecord.getPageIndex());
+    try {
+      final ODurablePage durablePage = new ODurablePage(cacheEntry);
+      if (durablePage.getLSN().compareTo(updatePageRecord.getLsn()) < 0) {
+        durablePage.restoreChanges(updatePageRecord.getChanges());
+        durablePage.setOperationIdLSN(updatePageRecord.getOperationIdLSN());
+      }
+    } finally {
+      readCache.releaseFromWrite(cacheEntry, writeCache, true);
+    }
+  }
+
+  /** loads the page for write, the file is extended if the page is not allocated yet */
+  private OCacheEntry loadOrAddPageForRestore(final long fileId, final long pageIndex)
+      throws IOException {
+    OCacheEntry cacheEntry =
+        readCache.loadForWrite(fileId, pageIndex, true, writeCache, false, null);
+    while (cacheEntry == null) {
+      final OCacheEntry newEntry = readCache.allocateNewPage(fileId, writeCache, null);
+      if (newEntry.getPageIndex() == pageIndex) {
+        cacheEntry = newEntry;
+      } else {
+        readCache.releaseFromWrite(newEntry, writeCache, true);
+
+        // FILE IS EXTENDED CONCURRENTLY BY OTHER RESTORE THREADS, SO PAGE MAY BE ALREADY ADDED
+        if (newEntry.getPageIndex() > pageIndex) {
+          cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, false, null);
+        }
+      }
+    }
+    return cacheEntry;
+  }
+
   private int fetchNextOperationId() throws IOException {
     int lastOperationId = 0;
 
@@ -7138,6 +8139,19 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     return Optional.ofNullable(lastMetadata);
   }
 
+  /** file of the storage as it is recorded in an incremental backup */
+  private static final class IncrementalBackupFile {
+    private final String name;
+    private final long fileId;
+    private final long filledUpTo;
+
+    private IncrementalBackupFile(final String name, final long fileId, final long filledUpTo) {
+      this.name = name;
+      this.fileId = fileId;
+      this.filledUpTo = filledUpTo;
+    }
+  }
+
   private static final class FuzzyCheckpointThreadFactory implements ThreadFactory {
     @Override
     public final Thread newThread(final Runnable r) {
@@ -207,7 +207,8 @@ public final class OMicroTransaction implements OBasicTransaction, OTransactionI
     final ODatabaseDocumentInternal database = getDatabase();
     final OIndexManagerAbstract indexManager = database.getMetadata().getIndexManagerInternal();
     for (Map.Entry<String, OTransactionIndexChanges> entry : indexOperations.entrySet()) {
-      final OIndex index = indexManager.getIndex(database, entry.getKey());
+      final OIndex index =
+          entry.getValue().resolveAssociatedIndex(entry.getKey(), indexManager, database);
       if (index == null)
         throw new OTransactionException(
             "Cannot find index '" + entry.getValue() + "' while committing transaction");
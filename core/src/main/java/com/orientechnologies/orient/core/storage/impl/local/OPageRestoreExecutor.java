@@ -0,0 +1,222 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.thread.OThreadPoolExecutorWithLogging;
+import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Applies page changes read from WAL during data restore by several threads. Changes of the same
+ * page are always applied by the same thread in the order in which they were submitted, so result
+ * of the restore does not depend on the amount of threads. Atomic operations and file operations
+ * are still processed by the thread which reads WAL, it calls {@link #await()} if all submitted
+ * changes should be applied before the next step.
+ *
+ * <p>Changes of different pages may be applied in another order than they are logged, even inside
+ * of an atomic operation, so several threads are used only if they are enabled by {@link
+ * OGlobalConfiguration#WAL_RESTORE_THREADS}.
+ */
+final class OPageRestoreExecutor implements AutoCloseable {
+  /** applies changes of a single page */
+  interface PageRestorer {
+    void restore(long fileId, OUpdatePageRecord record) throws IOException;
+  }
+
+  private final PageRestorer restorer;
+  private final ExecutorService[] workers;
+  private final List<List<PageChange>> batches;
+
+  /** tasks which were submitted to the workers, oldest first */
+  private final ArrayDeque<Future<?>> pending = new ArrayDeque<>();
+
+  private final AtomicReference<Throwable> error = new AtomicReference<>();
+  /** error of the workers is already thrown to the caller */
+  private boolean errorThrown;
+
+  OPageRestoreExecutor(final String storageName, final int threads, final PageRestorer restorer) {
+    this.restorer = restorer;
+
+    if (threads > 1) {
+      workers = new ExecutorService[threads];
+      batches = new ArrayList<>(threads);
+
+      for (int i = 0; i < threads; i++) {
+        final int workerIndex = i;
+        workers[i] =
+            new OThreadPoolExecutorWithLogging(
+                1,
+                1,
+                0,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                  final Thread thread = new Thread(OStorageAbstract.storageThreadGroup, r);
+                  thread.setDaemon(true);
+                  thread.setName(
+                      "OrientDB WAL Restore Task (" + storageName + ", " + workerIndex + ")");
+                  thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+                  return thread;
+                });
+        batches.add(new ArrayList<>());
+      }
+    } else {
+      workers = null;
+      batches = null;
+    }
+  }
+
+  /**
+   * Schedules changes of the page. Changes are applied immediately by the caller if restore is
+   * performed by single thread.
+   */
+  void submit(final long fileId, final OUpdatePageRecord record) throws IOException {
+    if (workers == null) {
+      restorer.restore(fileId, record);
+      return;
+    }
+
+    final long pageIndex = record.getPageIndex();
+    final int hash = Long.hashCode(fileId * 31 + pageIndex);
+    final int workerIndex = ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % workers.length;
+
+    batches.get(workerIndex).add(new PageChange(fileId, record));
+  }
+
+  /**
+   * Passes submitted changes to the workers. Caller is blocked if workers are too far behind, to
+   * limit the amount of WAL records kept in memory.
+   */
+  void flush() {
+    if (workers == null) {
+      return;
+    }
+
+    checkError();
+
+    for (int i = 0; i < workers.length; i++) {
+      final List<PageChange> batch = batches.get(i);
+      if (batch.isEmpty()) {
+        continue;
+      }
+
+      batches.set(i, new ArrayList<>());
+      pending.add(workers[i].submit(() -> restoreBatch(batch)));
+    }
+
+    while (pending.size() > 2 * workers.length) {
+      waitFor(pending.poll());
+    }
+  }
+
+  /** Waits till all submitted changes are applied. */
+  void await() {
+    if (workers == null) {
+      return;
+    }
+
+    flush();
+
+    while (!pending.isEmpty()) {
+      waitFor(pending.poll());
+    }
+
+    checkError();
+  }
+
+  /**
+   * Waits for the changes passed to the workers and stops them.
+   *
+   * @throws OStorageException if the changes could not be applied and the error was not thrown by
+   *     the previous calls
+   */
+  @Override
+  public void close() {
+    if (workers == null) {
+      return;
+    }
+
+    // SUBMITTED CHANGES ARE APPLIED EVEN IF RESTORE IS INTERRUPTED BY EXCEPTION, SO PAGES ARE NOT
+    // MODIFIED BY WORKERS ONCE RESTORE IS FINISHED
+    RuntimeException firstError = null;
+    while (!pending.isEmpty()) {
+      try {
+        waitFor(pending.poll());
+      } catch (final RuntimeException e) {
+        if (firstError == null) {
+          firstError = e;
+        }
+      }
+    }
+
+    for (final ExecutorService worker : workers) {
+      worker.shutdown();
+    }
+
+    if (firstError != null) {
+      throw firstError;
+    }
+    if (!errorThrown) {
+      checkError();
+    }
+  }
+
+  private void restoreBatch(final List<PageChange> batch) {
+    // THE REST OF CHANGES ARE NOT APPLIED IF ANY OF THE WORKERS FAILED
+    if (error.get() != null) {
+      return;
+    }
+
+    try {
+      for (final PageChange change : batch) {
+        restorer.restore(change.fileId, change.record);
+      }
+    } catch (final IOException | RuntimeException e) {
+      error.compareAndSet(null, e);
+    }
+  }
+
+  private void checkError() {
+    final Throwable e = error.get();
+    if (e != null) {
+      errorThrown = true;
+      throw OException.wrapException(
+          new OStorageException("Error during restore of page changes from WAL"), e);
+    }
+  }
+
+  private static void waitFor(final Future<?> future) {
+    try {
+      future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(
+          new OStorageException("Restore of page changes from WAL was interrupted"), e);
+    } catch (final ExecutionException e) {
+      throw OException.wrapException(
+          new OStorageException("Error during restore of page changes from WAL"), e);
+    }
+  }
+
+  private static final class PageChange {
+    private final long fileId;
+    private final OUpdatePageRecord record;
+
+    private PageChange(final long fileId, final OUpdatePageRecord record) {
+      this.fileId = fileId;
+      this.record = record;
+    }
+  }
+}
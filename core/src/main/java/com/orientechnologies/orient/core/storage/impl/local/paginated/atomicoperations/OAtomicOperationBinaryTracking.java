@@ -19,6 +19,7 @@
  */
 package com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations;
 
+import com.orientechnologies.common.directmemory.OPointer;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.exception.OStorageException;
@@ -165,6 +166,9 @@ final class OAtomicOperationBinaryTracking implements OAtomicOperation {
 
     final FileChanges changesContainer = fileChanges.get(fileId);
     if (changesContainer == null) {
+      if (pageCount > 1) {
+        return readCache.loadForScan(fileId, pageIndex, checkPinnedPages, writeCache, true);
+      }
       return readCache.loadForRead(fileId, pageIndex, checkPinnedPages, writeCache, true);
     }
 
@@ -257,7 +261,7 @@ final class OAtomicOperationBinaryTracking implements OAtomicOperation {
         new OCacheEntryImpl(
             fileId,
             (int) filledUpTo,
-            new OCachePointer(null, null, fileId, (int) filledUpTo),
+            new OCachePointer((OPointer) null, null, fileId, (int) filledUpTo),
             false);
     return pageChangesContainer;
   }
@@ -78,6 +78,9 @@ final class OAtomicOperationPageOperationsTracking implements OAtomicOperation {
   @Override
   public OCacheEntry loadPageForRead(
       long fileId, long pageIndex, boolean checkPinnedPages, int pageCount) throws IOException {
+    if (pageCount > 1) {
+      return readCache.loadForScan(fileId, pageIndex, checkPinnedPages, writeCache, true);
+    }
     return readCache.loadForRead(fileId, pageIndex, checkPinnedPages, writeCache, true);
   }
 
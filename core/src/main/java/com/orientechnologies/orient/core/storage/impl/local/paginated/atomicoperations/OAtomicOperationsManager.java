@@ -309,8 +309,13 @@ public class OAtomicOperationsManager {
     return currentOperation.get();
   }
 
-  /** Ends the current atomic operation on this manager. */
-  public void endAtomicOperation(final Throwable error) throws IOException {
+  /**
+   * Ends the current atomic operation on this manager.
+   *
+   * @return LSN of the record which commits the operation or <code>null</code> if the operation was
+   *     rolled back.
+   */
+  public OLogSequenceNumber endAtomicOperation(final Throwable error) throws IOException {
     final OAtomicOperation operation = currentOperation.get();
 
     if (operation == null) {
@@ -325,8 +330,8 @@ public class OAtomicOperationsManager {
         operation.rollbackInProgress();
       }
 
+      final OLogSequenceNumber lsn;
       try {
-        final OLogSequenceNumber lsn;
         if (trackPageOperations) {
           lsn = operation.commitChanges(writeAheadLog);
         } else if (!operation.isRollbackInProgress()) {
@@ -342,7 +347,6 @@ public class OAtomicOperationsManager {
           atomicOperationsTable.commitOperation(operationId);
           writeAheadLog.addEventAt(lsn, () -> atomicOperationsTable.persistOperation(operationId));
         }
-
       } finally {
         final Iterator<String> lockedObjectIterator = operation.lockedObjects().iterator();
 
@@ -358,6 +362,7 @@ public class OAtomicOperationsManager {
         }
       }
 
+      return error == null ? lsn : null;
     } finally {
       atomicOperationsFreezer.endOperation();
     }
@@ -141,6 +141,9 @@ public abstract class ODurableComponent extends OSharedResourceAdaptive {
       final int pageCount)
       throws IOException {
     if (atomicOperation == null) {
+      if (pageCount > 1) {
+        return readCache.loadForScan(fileId, pageIndex, checkPinnedPages, writeCache, true);
+      }
       return readCache.loadForRead(fileId, pageIndex, checkPinnedPages, writeCache, true);
     }
     return atomicOperation.loadPageForRead(fileId, pageIndex, checkPinnedPages, pageCount);
@@ -138,6 +138,15 @@ public interface OWriteAheadLog {
    */
   void addEventAt(OLogSequenceNumber lsn, Runnable event);
 
+  /**
+   * Waits till the record with the given LSN is forced to the disk. Unlike {@link #flush()} the
+   * call does not issue fsync by itself, concurrent callers wait for the same fsync which is issued
+   * by the background WAL writer as soon as it is requested.
+   *
+   * @param lsn the LSN of the record which should be durable.
+   */
+  void groupSync(OLogSequenceNumber lsn);
+
   /**
    * Adds new segment so all subsequent log entries will be added to this new segment. New segment
    * can not be appended if:
@@ -20,6 +20,7 @@ import com.orientechnologies.orient.core.exception.OSecurityException;
 import com.orientechnologies.orient.core.exception.OStorageException;
 import com.orientechnologies.orient.core.storage.OStorageAbstract;
 import com.orientechnologies.orient.core.storage.impl.local.OCheckpointRequestListener;
+import com.orientechnologies.orient.core.storage.impl.local.OPageIsBrokenListener;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationMetadata;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OAtomicUnitEndRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OAtomicUnitStartMetadataRecord;
@@ -43,6 +44,7 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
@@ -149,6 +151,13 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
 
   private volatile long currentSegment;
 
+  /** Segments written before the WAL was opened may have broken tail, they are not scrubbed. */
+  private final long firstScrubbedSegment;
+
+  // POSITION OF THE NEXT PAGE CHECKED BY #scrubPages, IT IS ACCESSED ONLY BY THE SCRUBBER
+  private long scrubSegment;
+  private long scrubPageIndex;
+
   private final AtomicLong segmentSize = new AtomicLong();
   private final AtomicLong logSize = new AtomicLong();
   private final AtomicLong queueSize = new AtomicLong();
@@ -178,6 +187,16 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
   private final ConcurrentNavigableMap<OLogSequenceNumber, EventWrapper> events =
       new ConcurrentSkipListMap<>();
 
+  /** threads which wait in {@link #groupSync(OLogSequenceNumber)} till their records are synced */
+  private final ConcurrentNavigableMap<OLogSequenceNumber, CountDownLatch> syncWaiters =
+      new ConcurrentSkipListMap<>();
+
+  /** whether the writer which will sync records of current waiters is already scheduled */
+  private final AtomicBoolean groupSyncScheduled = new AtomicBoolean();
+
+  /** interval in microseconds during which fsync is delayed to let more transactions join it */
+  private final int groupCommitDelay;
+
   private final ScalableRWLock segmentLock = new ScalableRWLock();
 
   private final ConcurrentNavigableMap<OLogSequenceNumber, Integer> cutTillLimits =
@@ -254,6 +273,49 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
       boolean printPerformanceStatistic,
       int statisticPrintInterval)
       throws IOException {
+    this(
+        storageName,
+        storagePath,
+        walPath,
+        maxPagesCacheSize,
+        bufferSize,
+        aesKey,
+        iv,
+        segmentsInterval,
+        maxSegmentSize,
+        commitDelay,
+        filterWALFiles,
+        locale,
+        walSizeHardLimit,
+        fsyncInterval,
+        keepSingleWALSegment,
+        callFsync,
+        printPerformanceStatistic,
+        statisticPrintInterval,
+        0);
+  }
+
+  public CASDiskWriteAheadLog(
+      final String storageName,
+      final Path storagePath,
+      final Path walPath,
+      final int maxPagesCacheSize,
+      final int bufferSize,
+      byte[] aesKey,
+      byte[] iv,
+      long segmentsInterval,
+      final long maxSegmentSize,
+      final int commitDelay,
+      final boolean filterWALFiles,
+      final Locale locale,
+      final long walSizeHardLimit,
+      final int fsyncInterval,
+      boolean keepSingleWALSegment,
+      boolean callFsync,
+      boolean printPerformanceStatistic,
+      int statisticPrintInterval,
+      int groupCommitDelay)
+      throws IOException {
 
     if (aesKey != null && aesKey.length != 16 && aesKey.length != 24 && aesKey.length != 32) {
       throw new OInvalidStorageEncryptionKeyException(
@@ -276,6 +338,7 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     this.statisticPrintInterval = statisticPrintInterval;
 
     this.fsyncInterval = fsyncInterval;
+    this.groupCommitDelay = groupCommitDelay;
 
     walSizeLimit = walSizeHardLimit;
 
@@ -311,6 +374,8 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     }
 
     currentSegment = nextSegmentId;
+    firstScrubbedSegment = nextSegmentId;
+    scrubSegment = nextSegmentId;
     this.maxSegmentSize =
         maxSegmentSize < Integer.MAX_VALUE / 4 ? maxSegmentSize : Integer.MAX_VALUE / 4;
     this.segmentAdditionTs = System.nanoTime();
@@ -916,6 +981,86 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     }
   }
 
+  @Override
+  public void groupSync(final OLogSequenceNumber lsn) {
+    if (isSynced(lsn)) {
+      return;
+    }
+
+    // ALL THREADS WHICH WAIT FOR THE SAME OR SMALLER LSN ARE RELEASED BY THE SAME FSYNC
+    final CountDownLatch latch = syncWaiters.computeIfAbsent(lsn, l -> new CountDownLatch(1));
+
+    // FSYNC COULD BE FINISHED BEFORE LATCH WAS REGISTERED
+    if (isSynced(lsn)) {
+      releaseSyncWaiters(flushedLSN);
+      return;
+    }
+
+    scheduleGroupSync();
+
+    try {
+      while (!latch.await(fsyncInterval, TimeUnit.MILLISECONDS)) {
+        checkWriteFailure();
+
+        if (isSynced(lsn)) {
+          releaseSyncWaiters(flushedLSN);
+          return;
+        }
+
+        scheduleGroupSync();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(
+          new OStorageException(
+              "Waiting for WAL fsync in storage '" + storageName + "' was interrupted"),
+          e);
+    }
+  }
+
+  private boolean isSynced(final OLogSequenceNumber lsn) {
+    final OLogSequenceNumber flushed = flushedLSN;
+    return flushed != null && lsn.compareTo(flushed) <= 0;
+  }
+
+  private void scheduleGroupSync() {
+    if (groupSyncScheduled.compareAndSet(false, true)) {
+      commitExecutor.schedule(
+          new RecordsWriter(true, true, true), groupCommitDelay, TimeUnit.MICROSECONDS);
+    }
+  }
+
+  private void checkWriteFailure() {
+    if (recordsWriterFuture.isDone()) {
+      throw new OStorageException(
+          "WAL records write task for storage '" + storageName + "' is finished");
+    }
+
+    final Future<?> future = writeFuture;
+    if (future != null && future.isDone()) {
+      try {
+        future.get();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw OException.wrapException(
+            new OStorageException(
+                "Waiting for WAL fsync in storage '" + storageName + "' was interrupted"),
+            e);
+      } catch (final ExecutionException e) {
+        throw OException.wrapException(
+            new OStorageException("Error during fsync of WAL in storage '" + storageName + "'"), e);
+      }
+    }
+  }
+
+  private void releaseSyncWaiters(final OLogSequenceNumber lsn) {
+    final Iterator<CountDownLatch> waiters = syncWaiters.headMap(lsn, true).values().iterator();
+    while (waiters.hasNext()) {
+      waiters.next().countDown();
+      waiters.remove();
+    }
+  }
+
   public void delete() throws IOException {
     final List<Long> segmentsToDelete = new ArrayList<>(this.segments.size());
     segmentsToDelete.addAll(segments);
@@ -929,6 +1074,84 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     }
   }
 
+  /**
+   * Verifies magic numbers and checksums of up to {@code pages} pages of segments which were
+   * written since the WAL was opened and are completely flushed to the disk. Check is continued
+   * from the page where the previous call stopped. Broken pages are reported to the passed in
+   * listener.
+   *
+   * @return number of checked pages, value less than {@code pages} means that all segments are
+   *     checked and the next call starts from the first segment again
+   */
+  public int scrubPages(final int pages, final OPageIsBrokenListener listener) throws IOException {
+    final OLogSequenceNumber flushed = flushedLSN;
+    if (flushed == null) {
+      return 0;
+    }
+
+    final ByteBuffer buffer = ByteBuffer.allocate(pageSize).order(ByteOrder.nativeOrder());
+    int checked = 0;
+
+    while (checked < pages) {
+      final Long segment = segments.ceiling(scrubSegment);
+      if (segment == null || segment >= flushed.getSegment()) {
+        scrubSegment = firstScrubbedSegment;
+        scrubPageIndex = 0;
+        return checked;
+      }
+
+      if (segment != scrubSegment) {
+        scrubSegment = segment;
+        scrubPageIndex = 0;
+      }
+
+      final String segmentName = getSegmentName(segment);
+      long pagesCount = 0;
+      try (final FileChannel channel =
+          FileChannel.open(walLocation.resolve(segmentName), StandardOpenOption.READ)) {
+        pagesCount = channel.size() / pageSize;
+
+        while (checked < pages && scrubPageIndex < pagesCount) {
+          buffer.clear();
+          OIOUtils.readByteBuffer(buffer, channel, scrubPageIndex * pageSize, false);
+          buffer.rewind();
+
+          boolean broken;
+          try {
+            broken = checkPageIsBrokenAndDecrypt(buffer, segment, scrubPageIndex, pageSize);
+          } catch (final EncryptionKeyAbsentException e) {
+            // PAGE CAN NOT BE CHECKED WITHOUT THE KEY
+            broken = false;
+          }
+
+          if (broken) {
+            OLogManager.instance()
+                .errorNoDb(
+                    this,
+                    "Page %d of WAL segment '%s' of storage '%s' is broken",
+                    null,
+                    scrubPageIndex,
+                    segmentName,
+                    storageName);
+            listener.pageIsBroken(segmentName, scrubPageIndex);
+          }
+
+          scrubPageIndex++;
+          checked++;
+        }
+      } catch (final NoSuchFileException e) {
+        // SEGMENT WAS REMOVED BY WAL CUT
+      }
+
+      if (scrubPageIndex >= pagesCount) {
+        scrubSegment = segment + 1;
+        scrubPageIndex = 0;
+      }
+    }
+
+    return checked;
+  }
+
   private boolean checkPageIsBrokenAndDecrypt(
       final ByteBuffer buffer, final long segmentId, final long pageIndex, final int walPageSize) {
     final long magicNumber = buffer.getLong(CASWALPage.MAGIC_NUMBER_OFFSET);
@@ -1775,14 +1998,27 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
   private final class RecordsWriter implements Runnable {
     private final boolean forceSync;
     private final boolean fullWrite;
+    private final boolean groupSync;
 
     private RecordsWriter(final boolean forceSync, final boolean fullWrite) {
+      this(forceSync, fullWrite, false);
+    }
+
+    private RecordsWriter(
+        final boolean forceSync, final boolean fullWrite, final boolean groupSync) {
       this.forceSync = forceSync;
       this.fullWrite = fullWrite;
+      this.groupSync = groupSync;
     }
 
     @Override
     public void run() {
+      if (groupSync) {
+        // RECORDS OF THREADS WHICH START WAITING AFTER THIS POINT MAY BE LOGGED AFTER THE MILESTONE
+        // RECORD, SO THEY SCHEDULE THE NEXT SYNC
+        groupSyncScheduled.set(false);
+      }
+
       try {
         if (printPerformanceStatistic) {
           printReport();
@@ -2100,6 +2336,7 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
                             flushedLSN = writtenUpTo.get().lsn;
 
                             fireEventsFor(flushedLSN);
+                            releaseSyncWaiters(flushedLSN);
 
                             if (printPerformanceStatistic) {
                               final long endTs = System.nanoTime();
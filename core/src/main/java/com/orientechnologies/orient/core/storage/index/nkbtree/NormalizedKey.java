@@ -0,0 +1,156 @@
+package com.orientechnologies.orient.core.storage.index.nkbtree;
+
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.OBinaryTypeSerializer;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALChanges;
+import java.nio.ByteBuffer;
+
+/**
+ * Key stored in the tree of a {@link NormalizedKeyBTreeValue}: the normalized key, followed by the
+ * key serialized with the index key serializer and by the size of the serialized key. Keys are
+ * compared by their normalized part only, as unsigned bytes.
+ */
+final class NormalizedKey implements Comparable<NormalizedKey> {
+  private final byte[] bytes;
+
+  NormalizedKey(final byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  NormalizedKey(final byte[] normalizedKey, final byte[] serializedKey) {
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(normalizedKey.length + serializedKey.length + Integer.BYTES);
+    buffer.put(normalizedKey);
+    buffer.put(serializedKey);
+    buffer.putInt(serializedKey.length);
+    this.bytes = buffer.array();
+  }
+
+  byte[] getSerializedKey() {
+    final int serializedSize = getSerializedSize();
+    final byte[] serializedKey = new byte[serializedSize];
+    System.arraycopy(
+        bytes, bytes.length - Integer.BYTES - serializedSize, serializedKey, 0, serializedSize);
+    return serializedKey;
+  }
+
+  private int getSerializedSize() {
+    return ByteBuffer.wrap(bytes, bytes.length - Integer.BYTES, Integer.BYTES).getInt();
+  }
+
+  private int getNormalizedSize() {
+    return bytes.length - Integer.BYTES - getSerializedSize();
+  }
+
+  @Override
+  public int compareTo(final NormalizedKey other) {
+    final int size = getNormalizedSize();
+    final int otherSize = other.getNormalizedSize();
+    final int commonSize = Math.min(size, otherSize);
+    for (int i = 0; i < commonSize; i++) {
+      final int diff = (bytes[i] & 0xFF) - (other.bytes[i] & 0xFF);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return size - otherSize;
+  }
+
+  /** Stores the keys as binary strings. */
+  static final class Serializer implements OBinarySerializer<NormalizedKey> {
+    static final Serializer INSTANCE = new Serializer();
+
+    private static final OBinaryTypeSerializer BINARY = OBinaryTypeSerializer.INSTANCE;
+
+    @Override
+    public int getObjectSize(final NormalizedKey object, final Object... hints) {
+      return BINARY.getObjectSize(object.bytes);
+    }
+
+    @Override
+    public int getObjectSize(final byte[] stream, final int startPosition) {
+      return BINARY.getObjectSize(stream, startPosition);
+    }
+
+    @Override
+    public void serialize(
+        final NormalizedKey object,
+        final byte[] stream,
+        final int startPosition,
+        final Object... hints) {
+      BINARY.serialize(object.bytes, stream, startPosition);
+    }
+
+    @Override
+    public NormalizedKey deserialize(final byte[] stream, final int startPosition) {
+      return new NormalizedKey(BINARY.deserialize(stream, startPosition));
+    }
+
+    @Override
+    public byte getId() {
+      return -1;
+    }
+
+    @Override
+    public boolean isFixedLength() {
+      return false;
+    }
+
+    @Override
+    public int getFixedLength() {
+      return 0;
+    }
+
+    @Override
+    public void serializeNativeObject(
+        final NormalizedKey object,
+        final byte[] stream,
+        final int startPosition,
+        final Object... hints) {
+      BINARY.serializeNativeObject(object.bytes, stream, startPosition);
+    }
+
+    @Override
+    public NormalizedKey deserializeNativeObject(final byte[] stream, final int startPosition) {
+      return new NormalizedKey(BINARY.deserializeNativeObject(stream, startPosition));
+    }
+
+    @Override
+    public int getObjectSizeNative(final byte[] stream, final int startPosition) {
+      return BINARY.getObjectSizeNative(stream, startPosition);
+    }
+
+    @Override
+    public NormalizedKey preprocess(final NormalizedKey value, final Object... hints) {
+      return value;
+    }
+
+    @Override
+    public void serializeInByteBufferObject(
+        final NormalizedKey object, final ByteBuffer buffer, final Object... hints) {
+      BINARY.serializeInByteBufferObject(object.bytes, buffer);
+    }
+
+    @Override
+    public NormalizedKey deserializeFromByteBufferObject(final ByteBuffer buffer) {
+      return new NormalizedKey(BINARY.deserializeFromByteBufferObject(buffer));
+    }
+
+    @Override
+    public int getObjectSizeInByteBuffer(final ByteBuffer buffer) {
+      return BINARY.getObjectSizeInByteBuffer(buffer);
+    }
+
+    @Override
+    public NormalizedKey deserializeFromByteBufferObject(
+        final ByteBuffer buffer, final OWALChanges walChanges, final int offset) {
+      return new NormalizedKey(BINARY.deserializeFromByteBufferObject(buffer, walChanges, offset));
+    }
+
+    @Override
+    public int getObjectSizeInByteBuffer(
+        final ByteBuffer buffer, final OWALChanges walChanges, final int offset) {
+      return BINARY.getObjectSizeInByteBuffer(buffer, walChanges, offset);
+    }
+  }
+}
@@ -1,9 +1,66 @@
-package com.orientechnologies.orient.core.storage.index.nkbtree;
-
-import com.orientechnologies.orient.core.index.OCompositeKey;
-
-public interface NormalizedKeyBTree<K> {
-  byte[] get(final OCompositeKey key);
-
-  void put(final OCompositeKey key, final byte[] value);
-}
+package com.orientechnologies.orient.core.storage.index.nkbtree;
+
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.encryption.OEncryption;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import java.io.IOException;
+import java.util.stream.Stream;
+
+/**
+ * Single value tree whose keys are stored as normalized, byte-comparable, binary strings. Keys are
+ * compared byte by byte without deserialization; the order of the normalized keys is the SQL order
+ * of the keys, so the tree supports range scans. Range bounds can be partial composite keys.
+ */
+public interface NormalizedKeyBTree<K> {
+  void create(
+      OAtomicOperation atomicOperation,
+      OBinarySerializer<K> keySerializer,
+      OType[] keyTypes,
+      int keySize,
+      OEncryption encryption)
+      throws IOException;
+
+  void load(
+      String name,
+      int keySize,
+      OType[] keyTypes,
+      OBinarySerializer<K> keySerializer,
+      OEncryption encryption);
+
+  ORID get(K key);
+
+  void put(OAtomicOperation atomicOperation, K key, ORID value) throws IOException;
+
+  boolean validatedPut(
+      OAtomicOperation atomicOperation,
+      K key,
+      ORID value,
+      OBaseIndexEngine.Validator<K, ORID> validator)
+      throws IOException;
+
+  ORID remove(OAtomicOperation atomicOperation, K key) throws IOException;
+
+  long size();
+
+  /** @return all the not null keys, in the order of the normalized keys */
+  Stream<ORawPair<K, ORID>> allEntries(boolean ascSortOrder);
+
+  Stream<ORawPair<K, ORID>> iterateEntriesBetween(
+      K keyFrom, boolean fromInclusive, K keyTo, boolean toInclusive, boolean ascSortOrder);
+
+  Stream<ORawPair<K, ORID>> iterateEntriesMajor(K key, boolean inclusive, boolean ascSortOrder);
+
+  Stream<ORawPair<K, ORID>> iterateEntriesMinor(K key, boolean inclusive, boolean ascSortOrder);
+
+  Stream<K> keyStream();
+
+  void close();
+
+  void delete(OAtomicOperation atomicOperation) throws IOException;
+
+  void acquireAtomicExclusiveLock();
+}
@@ -1,31 +1,298 @@
 package com.orientechnologies.orient.core.storage.index.nkbtree;
 
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.encryption.OEncryption;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.index.OIndexException;
+import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
+import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
-import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurableComponent;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import com.orientechnologies.orient.core.storage.index.nkbtree.normalizers.OrderPreservingKeyNormalizer;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueV3;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
-public class NormalizedKeyBTreeValue<K> extends ODurableComponent implements NormalizedKeyBTree<K> {
-  private final String nullFileExtension;
+/**
+ * {@link NormalizedKeyBTree} stored in a {@link CellBTreeSingleValueV3} with binary keys, so pages,
+ * atomic operations and WAL records are the ones of the cell B-tree.
+ *
+ * <p>Each key is stored as a {@link NormalizedKey}: the key normalized by {@link
+ * OrderPreservingKeyNormalizer}, followed by the key serialized with the index key serializer and
+ * by the size of the serialized key. Keys are compared by their normalized part, so lookups and
+ * range scans are plain byte comparisons; the serialized key is only read back when the entries are
+ * iterated.
+ */
+public class NormalizedKeyBTreeValue<K> implements NormalizedKeyBTree<K> {
+  /** types of the key fields that can be normalized */
+  public static final Set<OType> SUPPORTED_TYPES =
+      EnumSet.of(
+          OType.BOOLEAN,
+          OType.BYTE,
+          OType.SHORT,
+          OType.INTEGER,
+          OType.LONG,
+          OType.FLOAT,
+          OType.DOUBLE,
+          OType.DECIMAL,
+          OType.STRING,
+          OType.DATE,
+          OType.DATETIME,
+          OType.BINARY);
+
+  private static final OType[] TREE_KEY_TYPES = new OType[] {OType.BINARY};
+
+  private static final OrderPreservingKeyNormalizer KEY_NORMALIZER =
+      new OrderPreservingKeyNormalizer();
+
+  private final CellBTreeSingleValueV3<NormalizedKey> tree;
+  private final String name;
+
+  private OBinarySerializer<K> keySerializer;
+  private OType[] keyTypes;
 
   public NormalizedKeyBTreeValue(
       final String name,
       final String dataFileExtension,
       final String nullFileExtension,
       final OAbstractPaginatedStorage storage) {
-    super(storage, name, dataFileExtension, name + dataFileExtension);
-    acquireExclusiveLock();
-    try {
-      this.nullFileExtension = nullFileExtension;
-    } finally {
-      releaseExclusiveLock();
+    this.name = name;
+    this.tree = new CellBTreeSingleValueV3<>(name, dataFileExtension, nullFileExtension, storage);
+  }
+
+  @Override
+  public void create(
+      final OAtomicOperation atomicOperation,
+      final OBinarySerializer<K> keySerializer,
+      final OType[] keyTypes,
+      final int keySize,
+      final OEncryption encryption)
+      throws IOException {
+    checkKeyTypes(keyTypes);
+    this.keySerializer = keySerializer;
+    this.keyTypes = keyTypes;
+    tree.create(atomicOperation, NormalizedKey.Serializer.INSTANCE, TREE_KEY_TYPES, 1, encryption);
+  }
+
+  @Override
+  public void load(
+      final String name,
+      final int keySize,
+      final OType[] keyTypes,
+      final OBinarySerializer<K> keySerializer,
+      final OEncryption encryption) {
+    this.keySerializer = keySerializer;
+    this.keyTypes = keyTypes;
+    tree.load(name, 1, TREE_KEY_TYPES, NormalizedKey.Serializer.INSTANCE, encryption);
+  }
+
+  private void checkKeyTypes(final OType[] keyTypes) {
+    if (keyTypes == null) {
+      throw new OIndexException("Key types of normalized key index " + name + " are not defined");
     }
+    for (final OType keyType : keyTypes) {
+      if (!SUPPORTED_TYPES.contains(keyType)) {
+        throw new OIndexException(
+            "Type "
+                + keyType
+                + " is not supported by normalized key index "
+                + name
+                + ", supported types are "
+                + SUPPORTED_TYPES);
+      }
+    }
+  }
+
+  @Override
+  public ORID get(final K key) {
+    return tree.get(encodeKey(key));
+  }
+
+  @Override
+  public void put(final OAtomicOperation atomicOperation, final K key, final ORID value)
+      throws IOException {
+    tree.put(atomicOperation, encodeKey(key), value);
+  }
+
+  @Override
+  public boolean validatedPut(
+      final OAtomicOperation atomicOperation,
+      final K key,
+      final ORID value,
+      final OBaseIndexEngine.Validator<K, ORID> validator)
+      throws IOException {
+    return tree.validatedPut(
+        atomicOperation,
+        encodeKey(key),
+        value,
+        (normalizedKey, oldValue, newValue) -> validator.validate(key, oldValue, newValue));
+  }
+
+  @Override
+  public ORID remove(final OAtomicOperation atomicOperation, final K key) throws IOException {
+    return tree.remove(atomicOperation, encodeKey(key));
+  }
+
+  @Override
+  public long size() {
+    return tree.size();
+  }
+
+  @Override
+  public Stream<ORawPair<K, ORID>> allEntries(final boolean ascSortOrder) {
+    final NormalizedKey firstKey = ascSortOrder ? tree.firstKey() : tree.lastKey();
+    if (firstKey == null) {
+      return Stream.empty();
+    }
+    return decodeEntries(
+        ascSortOrder
+            ? tree.iterateEntriesMajor(firstKey, true, true)
+            : tree.iterateEntriesMinor(firstKey, true, false));
+  }
+
+  @Override
+  public Stream<ORawPair<K, ORID>> iterateEntriesBetween(
+      final K keyFrom,
+      final boolean fromInclusive,
+      final K keyTo,
+      final boolean toInclusive,
+      final boolean ascSortOrder) {
+    return decodeEntries(
+        tree.iterateEntriesBetween(
+            lowerBound(keyFrom, fromInclusive),
+            true,
+            upperBound(keyTo, toInclusive),
+            false,
+            ascSortOrder));
+  }
+
+  @Override
+  public Stream<ORawPair<K, ORID>> iterateEntriesMajor(
+      final K key, final boolean inclusive, final boolean ascSortOrder) {
+    return decodeEntries(tree.iterateEntriesMajor(lowerBound(key, inclusive), true, ascSortOrder));
   }
 
   @Override
-  public byte[] get(final OCompositeKey key) {
-    return new byte[0];
+  public Stream<ORawPair<K, ORID>> iterateEntriesMinor(
+      final K key, final boolean inclusive, final boolean ascSortOrder) {
+    return decodeEntries(tree.iterateEntriesMinor(upperBound(key, inclusive), false, ascSortOrder));
+  }
+
+  /**
+   * @return the lowest key of the range: keys that start with an inclusive bound are greater than
+   *     the bound, keys that start with an exclusive bound are lower than the key after the bound
+   */
+  private NormalizedKey lowerBound(final K key, final boolean inclusive) {
+    final byte[] prefix = normalize(key);
+    return new NormalizedKey(
+        inclusive ? prefix : OrderPreservingKeyNormalizer.afterPrefix(prefix), new byte[0]);
+  }
+
+  /** @return the first key after the range, as for {@link #lowerBound(Object, boolean)} */
+  private NormalizedKey upperBound(final K key, final boolean inclusive) {
+    final byte[] prefix = normalize(key);
+    return new NormalizedKey(
+        inclusive ? OrderPreservingKeyNormalizer.afterPrefix(prefix) : prefix, new byte[0]);
+  }
+
+  private Stream<ORawPair<K, ORID>> decodeEntries(
+      final Stream<ORawPair<NormalizedKey, ORID>> entries) {
+    return entries.map(entry -> new ORawPair<>(decodeKey(entry.first), entry.second));
   }
 
   @Override
-  public void put(final OCompositeKey key, final byte[] value) {}
+  public Stream<K> keyStream() {
+    return tree.keyStream().map(this::decodeKey);
+  }
+
+  @Override
+  public void close() {
+    tree.close();
+  }
+
+  @Override
+  public void delete(final OAtomicOperation atomicOperation) throws IOException {
+    tree.delete(atomicOperation);
+  }
+
+  @Override
+  public void acquireAtomicExclusiveLock() {
+    tree.acquireAtomicExclusiveLock();
+  }
+
+  /** @return the key stored in the tree, null keys are kept in the null bucket */
+  private NormalizedKey encodeKey(final K key) {
+    if (key == null) {
+      return null;
+    }
+    final K canonicalKey = canonicalize(keySerializer.preprocess(key, (Object[]) keyTypes));
+    final byte[] normalizedKey = normalize(canonicalKey);
+    if (getFields(canonicalKey).size() != keyTypes.length) {
+      throw new OIndexException(
+          "Normalized key index "
+              + name
+              + " supports only complete keys, key "
+              + key
+              + " has "
+              + getFields(canonicalKey).size()
+              + " of "
+              + keyTypes.length
+              + " fields");
+    }
+    return new NormalizedKey(
+        normalizedKey, keySerializer.serializeNativeAsWhole(canonicalKey, (Object[]) keyTypes));
+  }
+
+  /**
+   * replaces the fields that are equal for SQL but have different serialized forms (decimals with
+   * different scales, negative zeros) with a single value, so equal keys are stored the same way
+   */
+  @SuppressWarnings("unchecked")
+  private K canonicalize(final K key) {
+    if (key instanceof OCompositeKey) {
+      final OCompositeKey result = new OCompositeKey();
+      for (final Object field : ((OCompositeKey) key).getKeys()) {
+        result.addKey(canonicalizeField(field));
+      }
+      return (K) result;
+    }
+    return (K) canonicalizeField(key);
+  }
+
+  private static Object canonicalizeField(final Object field) {
+    if (field instanceof BigDecimal) {
+      final BigDecimal decimal = (BigDecimal) field;
+      return decimal.signum() == 0 ? BigDecimal.ZERO : decimal.stripTrailingZeros();
+    }
+    if (field instanceof Double && (Double) field == 0.0) {
+      return 0.0d;
+    }
+    if (field instanceof Float && (Float) field == 0.0f) {
+      return 0.0f;
+    }
+    return field;
+  }
+
+  /** @return the normalized key, partial composite keys are normalized as a prefix */
+  private byte[] normalize(final K key) {
+    return KEY_NORMALIZER.normalize(new OCompositeKey(getFields(key)), keyTypes);
+  }
+
+  private static List<Object> getFields(final Object key) {
+    if (key instanceof OCompositeKey) {
+      return ((OCompositeKey) key).getKeys();
+    }
+    return Collections.singletonList(key);
+  }
+
+  private K decodeKey(final NormalizedKey key) {
+    return keySerializer.deserializeNativeObject(key.getSerializedKey(), 0);
+  }
 }
@@ -0,0 +1,166 @@
+package com.orientechnologies.orient.core.storage.index.nkbtree.normalizers;
+
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Normalizes keys to binary strings whose unsigned lexicographic order is the SQL order of the keys
+ * (the order of {@link OCompositeKey#compareTo(OCompositeKey)} with the default collate). Values
+ * that are equal for SQL but not for {@link Object#equals(Object)}, as decimals with different
+ * scales or positive and negative zeros, have the same normalized form.
+ *
+ * <p>Every field starts with a marker byte, {@link #NULL} for null and {@link #NOT_NULL} otherwise,
+ * and the encoding of every field is prefix free. So the normalized form of a partial composite key
+ * is a prefix of the normalized form of all the keys that start with it, and no normalized key
+ * contains a byte greater than {@link #NOT_NULL} right after a complete field: {@link
+ * #afterPrefix(byte[])} uses this to find the end of a prefix range.
+ */
+public class OrderPreservingKeyNormalizer {
+  public static final byte NULL = 0;
+  public static final byte NOT_NULL = 1;
+
+  private static final byte NEGATIVE_DECIMAL = 1;
+  private static final byte ZERO_DECIMAL = 2;
+  private static final byte POSITIVE_DECIMAL = 3;
+
+  /**
+   * @param key the key to normalize, it may contain less fields than the key types
+   * @param keyTypes the types of the fields of the key
+   */
+  public byte[] normalize(final OCompositeKey key, final OType[] keyTypes) {
+    final List<Object> fields = key.getKeys();
+    if (fields.size() > keyTypes.length) {
+      throw new IllegalArgumentException(
+          "Key " + key + " has more than " + keyTypes.length + " fields");
+    }
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (int i = 0; i < fields.size(); i++) {
+      final Object field = fields.get(i);
+      if (field == null) {
+        out.write(NULL);
+      } else {
+        out.write(NOT_NULL);
+        normalizeField(out, OType.convert(field, keyTypes[i].getDefaultJavaType()), keyTypes[i]);
+      }
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * @return a binary string greater than the normalized form of all the keys that start with the
+   *     given normalized prefix, and lower than any other greater key
+   */
+  public static byte[] afterPrefix(final byte[] prefix) {
+    final byte[] result = new byte[prefix.length + 1];
+    System.arraycopy(prefix, 0, result, 0, prefix.length);
+    result[prefix.length] = NOT_NULL + 1;
+    return result;
+  }
+
+  private static void normalizeField(
+      final ByteArrayOutputStream out, final Object value, final OType type) {
+    switch (type) {
+      case BOOLEAN:
+        out.write((Boolean) value ? 1 : 0);
+        break;
+      case BYTE:
+      case SHORT:
+      case INTEGER:
+      case LONG:
+        writeLong(out, ((Number) value).longValue());
+        break;
+      case FLOAT:
+      case DOUBLE:
+        writeDouble(out, ((Number) value).doubleValue());
+        break;
+      case DATE:
+      case DATETIME:
+        writeLong(out, ((Date) value).getTime());
+        break;
+      case DECIMAL:
+        writeDecimal(out, (BigDecimal) value);
+        break;
+      case STRING:
+        writeString(out, (String) value);
+        break;
+      case BINARY:
+        writeBinary(out, (byte[]) value);
+        break;
+      default:
+        throw new UnsupportedOperationException("Type " + type + " is currently not supported");
+    }
+  }
+
+  /** big endian with the sign bit flipped, so negative values come first */
+  private static void writeLong(final ByteArrayOutputStream out, final long value) {
+    final long unsigned = value ^ Long.MIN_VALUE;
+    for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+      out.write((int) (unsigned >>> shift));
+    }
+  }
+
+  /** IEEE 754 bits with all the bits of negative values flipped, then as a long */
+  private static void writeDouble(final ByteArrayOutputStream out, double value) {
+    if (value == 0.0) {
+      // -0.0 == 0.0
+      value = 0.0;
+    }
+    final long bits = Double.doubleToLongBits(value);
+    writeLong(out, bits ^ ((bits >> (Long.SIZE - 1)) & Long.MAX_VALUE));
+  }
+
+  /**
+   * sign, then the decimal exponent of 0.d1d2...dn and the digits of the unscaled value without
+   * trailing zeros, terminated by a byte lower than any digit. Exponent and digits of negative
+   * values are inverted, so the greater the magnitude the lower the key.
+   */
+  private static void writeDecimal(final ByteArrayOutputStream out, final BigDecimal value) {
+    final int signum = value.signum();
+    if (signum == 0) {
+      out.write(ZERO_DECIMAL);
+      return;
+    }
+    final BigDecimal stripped = value.stripTrailingZeros();
+    final String digits = stripped.unscaledValue().abs().toString();
+    final long exponent = (long) digits.length() - stripped.scale();
+
+    out.write(signum > 0 ? POSITIVE_DECIMAL : NEGATIVE_DECIMAL);
+    writeLong(out, signum > 0 ? exponent : -exponent);
+    for (int i = 0; i < digits.length(); i++) {
+      final int digit = digits.charAt(i) - '0';
+      out.write(signum > 0 ? digit + 1 : 10 - digit);
+    }
+    out.write(signum > 0 ? 0 : 0xFF);
+  }
+
+  /**
+   * UTF-16 big endian, the order of {@link String#compareTo(String)}. Zero bytes are escaped as
+   * 0x00 0xFF and the string is terminated by 0x00 0x00.
+   */
+  private static void writeString(final ByteArrayOutputStream out, final String value) {
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      writeEscaped(out, c >>> Byte.SIZE);
+      writeEscaped(out, c & 0xFF);
+    }
+    out.write(0);
+    out.write(0);
+  }
+
+  private static void writeEscaped(final ByteArrayOutputStream out, final int value) {
+    out.write(value);
+    if (value == 0) {
+      out.write(0xFF);
+    }
+  }
+
+  /** length first, as byte arrays are compared by {@link OCompositeKey} */
+  private static void writeBinary(final ByteArrayOutputStream out, final byte[] value) {
+    writeLong(out, value.length);
+    out.write(value, 0, value.length);
+  }
+}
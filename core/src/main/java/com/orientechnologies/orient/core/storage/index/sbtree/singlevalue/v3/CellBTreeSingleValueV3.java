@@ -36,6 +36,7 @@ import com.orientechnologies.orient.core.index.OAlwaysGreaterKey;
 import com.orientechnologies.orient.core.index.OAlwaysLessKey;
 import com.orientechnologies.orient.core.index.OCompositeKey;
 import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
+import com.orientechnologies.orient.core.index.engine.OIndexBulkLoader;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
@@ -44,6 +45,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODura
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -737,6 +739,24 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
     atomicOperationsManager.acquireExclusiveLockTillOperationComplete(this);
   }
 
+  /**
+   * Creates loader which fills the empty tree in bulk. Entries are sorted using temporary files,
+   * then leaf buckets are filled from left to right and non-leaf buckets are built level by level
+   * from the bottom, so each page is written only once. Root bucket and size of the tree are
+   * written last.
+   *
+   * @param tempDirectory directory where temporary files are placed
+   * @param sortBufferSize amount of entries which are sorted in memory by each sink
+   * @param validator validator of entries with equal keys, if it is absent the last entry wins
+   */
+  public BulkLoader bulkLoader(
+      final Path tempDirectory,
+      final int sortBufferSize,
+      final OBaseIndexEngine.Validator<K, ORID> validator)
+      throws IOException {
+    return new BulkLoader(tempDirectory, sortBufferSize, validator);
+  }
+
   private void updateSize(final long diffSize, final OAtomicOperation atomicOperation)
       throws IOException {
     final OCacheEntry entryPointCacheEntry =
@@ -1452,6 +1472,435 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
     LOWEST_BOUNDARY
   }
 
+  public final class BulkLoader implements OIndexBulkLoader {
+    private final CellBTreeSingleValueV3Sorter<K> sorter;
+    private final OBaseIndexEngine.Validator<K, ORID> validator;
+
+    private boolean hasNullValue;
+    private ORID nullValue;
+
+    private Iterator<CellBTreeSingleValueV3Sorter.Entry<K>> entries;
+    private CellBTreeSingleValueV3Sorter.Entry<K> pending;
+    private CellBTreeSingleValueV3Sorter.Entry<K> unwritten;
+
+    private long treeSize;
+    private long nextPageIndex = ROOT_INDEX + 1;
+    private long lastLeafIndex = -1;
+
+    // FIRST KEY AND PAGE OF EACH BUCKET OF THE LEVEL WHICH IS BUILT NOW
+    private List<ORawPair<byte[], Integer>> level = new ArrayList<>();
+    // BUCKETS OF THE LEVEL BELOW, NULL WHILE LEAVES ARE WRITTEN
+    private List<ORawPair<byte[], Integer>> children;
+    private int childIndex;
+
+    private boolean completed;
+
+    private BulkLoader(
+        final Path tempDirectory,
+        final int sortBufferSize,
+        final OBaseIndexEngine.Validator<K, ORID> validator)
+        throws IOException {
+      this.sorter =
+          new CellBTreeSingleValueV3Sorter<>(
+              tempDirectory, getName(), sortBufferSize, keySerializer, comparator);
+      this.validator = validator;
+    }
+
+    @Override
+    public Sink sink() {
+      final CellBTreeSingleValueV3Sorter<K>.Sink sink = sorter.sink();
+
+      return new Sink() {
+        @Override
+        public void add(final Object k, final ORID value) throws IOException {
+          if (k == null) {
+            addNullValue(value);
+            return;
+          }
+
+          @SuppressWarnings("unchecked")
+          final K key = keySerializer.preprocess((K) k, (Object[]) keyTypes);
+          sink.add(
+              new CellBTreeSingleValueV3Sorter.Entry<>(
+                  key, keySerializer.serializeNativeAsWhole(key, (Object[]) keyTypes), value));
+        }
+
+        @Override
+        public void close() {
+          sink.close();
+        }
+      };
+    }
+
+    private synchronized void addNullValue(final ORID value) {
+      ORID newValue = value;
+      if (hasNullValue && validator != null) {
+        final Object result = validator.validate(null, nullValue, value);
+        if (result == OBaseIndexEngine.Validator.IGNORE) {
+          return;
+        }
+
+        newValue = (ORID) result;
+      }
+
+      nullValue = newValue;
+      hasNullValue = true;
+    }
+
+    @Override
+    public boolean load(final OAtomicOperation atomicOperation, final int pages) {
+      return calculateInsideComponentOperation(
+          atomicOperation,
+          operation -> {
+            acquireExclusiveLock();
+            try {
+              if (completed) {
+                return false;
+              }
+
+              if (entries == null) {
+                checkEmpty(atomicOperation);
+
+                entries = sorter.merge();
+              }
+
+              int written = 0;
+              if (children == null) {
+                written = writeLeaves(atomicOperation, pages);
+                if (children == null) {
+                  return true;
+                }
+              }
+
+              while (children.size() > 1) {
+                if (written >= pages) {
+                  return true;
+                }
+
+                written += writeNonLeafBuckets(atomicOperation, pages - written);
+              }
+
+              writeRoot(atomicOperation);
+              completed = true;
+              return false;
+            } finally {
+              releaseExclusiveLock();
+            }
+          });
+    }
+
+    @Override
+    public void rollback(final OAtomicOperation atomicOperation) {
+      executeInsideComponentOperation(
+          atomicOperation,
+          operation -> {
+            acquireExclusiveLock();
+            try {
+              // NOTHING IS WRITTEN YET OR ROOT ALREADY REFERENCES ALL WRITTEN PAGES
+              if (entries == null || completed) {
+                return;
+              }
+
+              // PAGES OF THE CLEARED TREE MAY BE OVERWRITTEN, SO ROOT CAN NOT REFERENCE THEM
+              final OCacheEntry rootCacheEntry =
+                  loadPageForWrite(atomicOperation, fileId, ROOT_INDEX, false, true);
+              try {
+                new CellBTreeSingleValueBucketV3<K>(rootCacheEntry).init(true);
+              } finally {
+                releasePageFromWrite(atomicOperation, rootCacheEntry);
+              }
+
+              // ALL PAGES AFTER THE ROOT ARE REUSED BY SPLITS OF BUCKETS
+              final OCacheEntry entryPointCacheEntry =
+                  loadPageForWrite(atomicOperation, fileId, ENTRY_POINT_INDEX, false, true);
+              try {
+                new CellBTreeSingleValueEntryPointV3<K>(entryPointCacheEntry)
+                    .setPagesSize((int) ROOT_INDEX);
+              } finally {
+                releasePageFromWrite(atomicOperation, entryPointCacheEntry);
+              }
+
+              completed = true;
+            } finally {
+              releaseExclusiveLock();
+            }
+          });
+    }
+
+    @Override
+    public void close() throws IOException {
+      sorter.close();
+    }
+
+    private void checkEmpty(final OAtomicOperation atomicOperation) throws IOException {
+      final OCacheEntry entryPointCacheEntry =
+          loadPageForRead(atomicOperation, fileId, ENTRY_POINT_INDEX, false);
+      try {
+        final CellBTreeSingleValueEntryPointV3<K> entryPoint =
+            new CellBTreeSingleValueEntryPointV3<>(entryPointCacheEntry);
+        if (entryPoint.getTreeSize() > 0) {
+          throw new CellBTreeSingleValueV3Exception(
+              "Only empty tree can be filled in bulk", CellBTreeSingleValueV3.this);
+        }
+      } finally {
+        releasePageFromRead(atomicOperation, entryPointCacheEntry);
+      }
+    }
+
+    private int writeLeaves(final OAtomicOperation atomicOperation, final int pages)
+        throws IOException {
+      OCacheEntry cacheEntry = null;
+      int written = 0;
+      try {
+        CellBTreeSingleValueBucketV3<K> bucket = null;
+        CellBTreeSingleValueV3Sorter.Entry<K> entry;
+
+        while ((entry = nextEntry()) != null) {
+          final byte[] serializedValue = serializeValue(entry.value);
+
+          if (bucket == null
+              || !bucket.addLeafEntry(bucket.size(), entry.serializedKey, serializedValue)) {
+            if (written >= pages) {
+              unwritten = entry;
+              return written;
+            }
+
+            if (cacheEntry != null) {
+              releasePageFromWrite(atomicOperation, cacheEntry);
+            }
+
+            cacheEntry = allocatePage(atomicOperation);
+            written++;
+
+            bucket = new CellBTreeSingleValueBucketV3<>(cacheEntry);
+            bucket.init(true);
+
+            if (lastLeafIndex >= 0) {
+              bucket.setLeftSibling(lastLeafIndex);
+              linkLeaf(atomicOperation, lastLeafIndex, cacheEntry.getPageIndex());
+            }
+            lastLeafIndex = cacheEntry.getPageIndex();
+
+            if (!bucket.addLeafEntry(0, entry.serializedKey, serializedValue)) {
+              throw new OTooBigIndexKeyException(
+                  "Key size is more than allowed, operation was canceled. Current key size "
+                      + entry.serializedKey.length,
+                  getName());
+            }
+            level.add(new ORawPair<>(entry.serializedKey, (int) cacheEntry.getPageIndex()));
+          }
+
+          treeSize++;
+        }
+
+        children = level;
+        level = new ArrayList<>();
+        childIndex = 0;
+
+        return written;
+      } finally {
+        if (cacheEntry != null) {
+          releasePageFromWrite(atomicOperation, cacheEntry);
+        }
+      }
+    }
+
+    private void linkLeaf(
+        final OAtomicOperation atomicOperation, final long leftIndex, final long rightIndex)
+        throws IOException {
+      final OCacheEntry cacheEntry =
+          loadPageForWrite(atomicOperation, fileId, leftIndex, false, true);
+      try {
+        new CellBTreeSingleValueBucketV3<K>(cacheEntry).setRightSibling(rightIndex);
+      } finally {
+        releasePageFromWrite(atomicOperation, cacheEntry);
+      }
+    }
+
+    private int writeNonLeafBuckets(final OAtomicOperation atomicOperation, final int pages)
+        throws IOException {
+      OCacheEntry cacheEntry = null;
+      int written = 0;
+      try {
+        CellBTreeSingleValueBucketV3<K> bucket = null;
+
+        while (childIndex < children.size()) {
+          if (bucket != null) {
+            final ORawPair<byte[], Integer> child = children.get(childIndex);
+            final int leftChild = children.get(childIndex - 1).second;
+
+            if (bucket.addNonLeafEntry(
+                bucket.size(), leftChild, child.second, child.first, false)) {
+              childIndex++;
+              continue;
+            }
+
+            if (childIndex == children.size() - 1) {
+              // BUCKET CAN NOT HAVE SINGLE CHILD, SO LAST CHILD OF THE FULL BUCKET IS MOVED TO THE
+              // NEXT ONE
+              bucket.shrink(bucket.size() - 1, keySerializer);
+              childIndex--;
+            }
+
+            releasePageFromWrite(atomicOperation, cacheEntry);
+            cacheEntry = null;
+            bucket = null;
+          }
+
+          if (written >= pages) {
+            return written;
+          }
+
+          cacheEntry = allocatePage(atomicOperation);
+          written++;
+
+          bucket = new CellBTreeSingleValueBucketV3<>(cacheEntry);
+          bucket.init(false);
+
+          level.add(
+              new ORawPair<>(children.get(childIndex).first, (int) cacheEntry.getPageIndex()));
+          childIndex++;
+        }
+
+        children = level;
+        level = new ArrayList<>();
+        childIndex = 0;
+
+        return written;
+      } finally {
+        if (cacheEntry != null) {
+          releasePageFromWrite(atomicOperation, cacheEntry);
+        }
+      }
+    }
+
+    private void writeRoot(final OAtomicOperation atomicOperation) throws IOException {
+      boolean isLeaf = true;
+      final List<byte[]> rawEntries = new ArrayList<>();
+
+      if (!children.isEmpty()) {
+        // TOP BUCKET IS COPIED TO THE ROOT, ITS PAGE IS REUSED BY LATER SPLITS
+        final OCacheEntry topCacheEntry =
+            loadPageForRead(atomicOperation, fileId, children.get(0).second, false);
+        try {
+          final CellBTreeSingleValueBucketV3<K> top =
+              new CellBTreeSingleValueBucketV3<>(topCacheEntry);
+          isLeaf = top.isLeaf();
+
+          final int size = top.size();
+          for (int i = 0; i < size; i++) {
+            rawEntries.add(top.getRawEntry(i, keySerializer));
+          }
+        } finally {
+          releasePageFromRead(atomicOperation, topCacheEntry);
+        }
+
+        nextPageIndex = children.get(0).second;
+      }
+
+      final OCacheEntry rootCacheEntry =
+          loadPageForWrite(atomicOperation, fileId, ROOT_INDEX, false, true);
+      try {
+        final CellBTreeSingleValueBucketV3<K> root =
+            new CellBTreeSingleValueBucketV3<>(rootCacheEntry);
+        root.init(isLeaf);
+        root.addAll(rawEntries, keySerializer);
+      } finally {
+        releasePageFromWrite(atomicOperation, rootCacheEntry);
+      }
+
+      if (hasNullValue) {
+        final OCacheEntry nullCacheEntry =
+            loadPageForWrite(atomicOperation, nullBucketFileId, 0, false, true);
+        try {
+          new CellBTreeSingleValueV3NullBucket(nullCacheEntry).setValue(nullValue);
+        } finally {
+          releasePageFromWrite(atomicOperation, nullCacheEntry);
+        }
+
+        treeSize++;
+      }
+
+      final OCacheEntry entryPointCacheEntry =
+          loadPageForWrite(atomicOperation, fileId, ENTRY_POINT_INDEX, false, true);
+      try {
+        final CellBTreeSingleValueEntryPointV3<K> entryPoint =
+            new CellBTreeSingleValueEntryPointV3<>(entryPointCacheEntry);
+        entryPoint.setTreeSize(treeSize);
+        entryPoint.setPagesSize((int) nextPageIndex - 1);
+      } finally {
+        releasePageFromWrite(atomicOperation, entryPointCacheEntry);
+      }
+    }
+
+    private OCacheEntry allocatePage(final OAtomicOperation atomicOperation) throws IOException {
+      final OCacheEntry cacheEntry;
+      // PAGES LEFT BY THE CLEARED TREE ARE REUSED
+      if (nextPageIndex < getFilledUpTo(atomicOperation, fileId)) {
+        cacheEntry = loadPageForWrite(atomicOperation, fileId, nextPageIndex, false, false);
+      } else {
+        cacheEntry = addPage(atomicOperation, fileId);
+        assert cacheEntry.getPageIndex() == nextPageIndex;
+      }
+
+      nextPageIndex++;
+      return cacheEntry;
+    }
+
+    private CellBTreeSingleValueV3Sorter.Entry<K> nextEntry() {
+      if (unwritten != null) {
+        final CellBTreeSingleValueV3Sorter.Entry<K> entry = unwritten;
+        unwritten = null;
+        return entry;
+      }
+
+      while (entries.hasNext()) {
+        final CellBTreeSingleValueV3Sorter.Entry<K> entry = entries.next();
+        if (pending == null) {
+          pending = entry;
+          continue;
+        }
+
+        if (comparator.compare(pending.key, entry.key) != 0) {
+          final CellBTreeSingleValueV3Sorter.Entry<K> result = pending;
+          pending = entry;
+          return result;
+        }
+
+        pending = resolveDuplicate(pending, entry);
+      }
+
+      final CellBTreeSingleValueV3Sorter.Entry<K> result = pending;
+      pending = null;
+      return result;
+    }
+
+    private CellBTreeSingleValueV3Sorter.Entry<K> resolveDuplicate(
+        final CellBTreeSingleValueV3Sorter.Entry<K> previous,
+        final CellBTreeSingleValueV3Sorter.Entry<K> entry) {
+      if (validator == null) {
+        return entry;
+      }
+
+      final Object result = validator.validate(entry.key, previous.value, entry.value);
+      if (result == OBaseIndexEngine.Validator.IGNORE) {
+        return previous;
+      }
+
+      return new CellBTreeSingleValueV3Sorter.Entry<>(
+          entry.key, entry.serializedKey, (ORID) result);
+    }
+
+    private byte[] serializeValue(final ORID value) {
+      final byte[] serializedValue =
+          new byte[OShortSerializer.SHORT_SIZE + OLongSerializer.LONG_SIZE];
+      OShortSerializer.INSTANCE.serializeNative((short) value.getClusterId(), serializedValue, 0);
+      OLongSerializer.INSTANCE.serializeNative(
+          value.getClusterPosition(), serializedValue, OShortSerializer.SHORT_SIZE);
+      return serializedValue;
+    }
+  }
+
   private static final class BucketSearchResult {
     private final int itemIndex;
     private final long pageIndex;
@@ -0,0 +1,286 @@
+package com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * External sort of entries of the tree which is filled by {@link
+ * CellBTreeSingleValueV3.BulkLoader}. Each sink sorts entries in memory and spills them into
+ * temporary file once buffer is full, sorted runs are merged during iteration.
+ */
+final class CellBTreeSingleValueV3Sorter<K> implements Closeable {
+  private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+  private final Path directory;
+  private final int bufferSize;
+  private final OBinarySerializer<K> keySerializer;
+  private final Comparator<? super K> comparator;
+
+  private final List<Run> fileRuns = new ArrayList<>();
+  private final List<List<Entry<K>>> memoryRuns = new ArrayList<>();
+  private final List<Closeable> readers = new ArrayList<>();
+
+  CellBTreeSingleValueV3Sorter(
+      final Path tempDirectory,
+      final String name,
+      final int bufferSize,
+      final OBinarySerializer<K> keySerializer,
+      final Comparator<? super K> comparator)
+      throws IOException {
+    Files.createDirectories(tempDirectory);
+
+    this.directory = Files.createTempDirectory(tempDirectory, name + "-sort");
+    this.bufferSize = bufferSize;
+    this.keySerializer = keySerializer;
+    this.comparator = comparator;
+  }
+
+  Sink sink() {
+    return new Sink();
+  }
+
+  /**
+   * @return iterator over entries passed to all closed sinks in ascending order of keys, entries
+   *     with equal keys passed to the same sink are returned in the order in which they are passed
+   */
+  Iterator<Entry<K>> merge() throws IOException {
+    final PriorityQueue<RunCursor<K>> queue;
+    synchronized (this) {
+      queue =
+          new PriorityQueue<>(
+              Math.max(1, fileRuns.size() + memoryRuns.size()),
+              (first, second) -> {
+                final int result = comparator.compare(first.current.key, second.current.key);
+                return result != 0 ? result : Integer.compare(first.order, second.order);
+              });
+
+      // RUNS OF THE SINK ARE ORDERED BY THE TIME THEY ARE SPILLED, LAST PARTIAL RUN IS THE LATEST
+      int order = 0;
+      for (final Run run : fileRuns) {
+        final FileRunCursor cursor = new FileRunCursor(run, order++);
+        readers.add(cursor);
+        if (cursor.advance()) {
+          queue.add(cursor);
+        }
+      }
+
+      for (final List<Entry<K>> run : memoryRuns) {
+        final MemoryRunCursor<K> cursor = new MemoryRunCursor<>(run, order++);
+        if (cursor.advance()) {
+          queue.add(cursor);
+        }
+      }
+    }
+
+    return new Iterator<Entry<K>>() {
+      @Override
+      public boolean hasNext() {
+        return !queue.isEmpty();
+      }
+
+      @Override
+      public Entry<K> next() {
+        final RunCursor<K> cursor = queue.poll();
+        if (cursor == null) {
+          throw new NoSuchElementException();
+        }
+
+        final Entry<K> entry = cursor.current;
+        try {
+          if (cursor.advance()) {
+            queue.add(cursor);
+          }
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+
+        return entry;
+      }
+    };
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    for (final Closeable reader : readers) {
+      reader.close();
+    }
+
+    readers.clear();
+    fileRuns.clear();
+    memoryRuns.clear();
+
+    OFileUtils.deleteRecursively(directory.toFile());
+  }
+
+  private synchronized Path newRunFile() throws IOException {
+    return Files.createTempFile(directory, "run", ".tmp");
+  }
+
+  private synchronized void addRun(final Run run) {
+    fileRuns.add(run);
+  }
+
+  private synchronized void addRun(final List<Entry<K>> run) {
+    memoryRuns.add(run);
+  }
+
+  static final class Entry<K> {
+    final K key;
+    final byte[] serializedKey;
+    final ORID value;
+
+    Entry(final K key, final byte[] serializedKey, final ORID value) {
+      this.key = key;
+      this.serializedKey = serializedKey;
+      this.value = value;
+    }
+  }
+
+  final class Sink implements Closeable {
+    private List<Entry<K>> buffer = new ArrayList<>();
+
+    void add(final Entry<K> entry) throws IOException {
+      buffer.add(entry);
+
+      if (buffer.size() >= bufferSize) {
+        spill();
+      }
+    }
+
+    private void spill() throws IOException {
+      buffer.sort((first, second) -> comparator.compare(first.key, second.key));
+
+      final Path file = newRunFile();
+      try (final DataOutputStream output =
+          new DataOutputStream(
+              new BufferedOutputStream(Files.newOutputStream(file), STREAM_BUFFER_SIZE))) {
+        for (final Entry<K> entry : buffer) {
+          output.writeInt(entry.serializedKey.length);
+          output.write(entry.serializedKey);
+          output.writeShort(entry.value.getClusterId());
+          output.writeLong(entry.value.getClusterPosition());
+        }
+      }
+
+      addRun(new Run(file, buffer.size()));
+      buffer = new ArrayList<>();
+    }
+
+    @Override
+    public void close() {
+      if (buffer == null) {
+        return;
+      }
+
+      if (!buffer.isEmpty()) {
+        // LAST PARTIALLY FILLED BUFFER IS KEPT IN MEMORY
+        buffer.sort((first, second) -> comparator.compare(first.key, second.key));
+        addRun(buffer);
+      }
+
+      buffer = null;
+    }
+  }
+
+  private static final class Run {
+    private final Path file;
+    private final int size;
+
+    private Run(final Path file, final int size) {
+      this.file = file;
+      this.size = size;
+    }
+  }
+
+  private abstract static class RunCursor<K> {
+    /** position of the run in the order of the passed entries */
+    final int order;
+
+    Entry<K> current;
+
+    RunCursor(final int order) {
+      this.order = order;
+    }
+
+    abstract boolean advance() throws IOException;
+  }
+
+  private static final class MemoryRunCursor<K> extends RunCursor<K> {
+    private final Iterator<Entry<K>> iterator;
+
+    private MemoryRunCursor(final List<Entry<K>> run, final int order) {
+      super(order);
+      this.iterator = run.iterator();
+    }
+
+    @Override
+    boolean advance() {
+      if (!iterator.hasNext()) {
+        current = null;
+        return false;
+      }
+
+      current = iterator.next();
+      return true;
+    }
+  }
+
+  private final class FileRunCursor extends RunCursor<K> implements Closeable {
+    private final DataInputStream input;
+    private int remaining;
+
+    private FileRunCursor(final Run run, final int order) throws IOException {
+      super(order);
+      this.input =
+          new DataInputStream(
+              new BufferedInputStream(Files.newInputStream(run.file), STREAM_BUFFER_SIZE));
+      this.remaining = run.size;
+    }
+
+    @Override
+    boolean advance() throws IOException {
+      if (remaining == 0) {
+        current = null;
+        input.close();
+        return false;
+      }
+
+      final byte[] serializedKey = new byte[input.readInt()];
+      input.readFully(serializedKey);
+
+      final int clusterId = input.readShort();
+      final long clusterPosition = input.readLong();
+
+      current =
+          new Entry<>(
+              keySerializer.deserializeNativeObject(serializedKey, 0),
+              serializedKey,
+              new ORecordId(clusterId, clusterPosition));
+      remaining--;
+
+      return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+      input.close();
+    }
+  }
+}
@@ -33,6 +33,7 @@ import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import com.orientechnologies.orient.core.storage.cache.OPageDataVerificationError;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.OStorageTier;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.cache.local.OBackgroundExceptionListener;
 import com.orientechnologies.orient.core.storage.impl.local.OPageIsBrokenListener;
@@ -326,6 +327,23 @@ public final class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache
     }
   }
 
+  @Override
+  public final OStorageTier getFileTier(final long fileId) {
+    return OStorageTier.HOT;
+  }
+
+  @Override
+  public final void moveFileToTier(final long fileId, final OStorageTier tier) {
+    if (tier != OStorageTier.HOT) {
+      throw new OStorageException("Storage tiers are not supported by in-memory storage");
+    }
+  }
+
+  @Override
+  public final long getFilePageReads(final long fileId) {
+    return 0;
+  }
+
   @Override
   public final void renameFile(final long fileId, final String newFileName) {
     final int intId = extractFileId(fileId);
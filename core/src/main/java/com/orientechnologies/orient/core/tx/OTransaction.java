@@ -19,6 +19,8 @@
  */
 package com.orientechnologies.orient.core.tx;
 
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.db.record.ORecordOperation;
@@ -30,6 +32,7 @@ import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.storage.OBasicTransaction;
 import com.orientechnologies.orient.core.storage.OStorage;
 import java.util.List;
+import java.util.Locale;
 
 public interface OTransaction extends OBasicTransaction {
   enum TXTYPE {
@@ -52,6 +55,36 @@ public interface OTransaction extends OBasicTransaction {
     REPEATABLE_READ
   }
 
+  /** Guarantee which is provided by the commit once it returns. */
+  enum DURABILITY {
+    /** Commit returns once changes are logged, WAL is forced to the disk in background. */
+    ASYNC,
+    /** Commit waits for fsync of WAL which is shared with concurrently committed transactions. */
+    GROUP_FSYNC,
+    /** Commit forces WAL to the disk by itself. */
+    IMMEDIATE;
+
+    /** @return durability set by {@link OGlobalConfiguration#TX_COMMIT_DURABILITY} */
+    public static DURABILITY fromConfiguration(final OContextConfiguration configuration) {
+      final String value =
+          configuration.getValueAsString(OGlobalConfiguration.TX_COMMIT_DURABILITY);
+      if (value == null || value.isEmpty()) {
+        return ASYNC;
+      }
+
+      switch (value.toLowerCase(Locale.ENGLISH)) {
+        case "async":
+          return ASYNC;
+        case "group":
+          return GROUP_FSYNC;
+        case "immediate":
+          return IMMEDIATE;
+        default:
+          throw new IllegalArgumentException("Invalid transaction durability '" + value + "'");
+      }
+    }
+  }
+
   void begin();
 
   void commit();
@@ -73,6 +106,20 @@ public interface OTransaction extends OBasicTransaction {
    */
   OTransaction setIsolationLevel(ISOLATION_LEVEL iIsolationLevel);
 
+  /** Returns durability of the transaction commit. */
+  DURABILITY getDurability();
+
+  /**
+   * Changes durability of the transaction commit. Default value is set by {@link
+   * OGlobalConfiguration#TX_COMMIT_DURABILITY}. Group fsync provides the same guarantee as
+   * immediate durability but concurrent commits share the same fsync, so it gives much higher
+   * throughput of durable commits.
+   *
+   * @param durability Durability to set
+   * @return Current object to allow call in chain
+   */
+  OTransaction setDurability(DURABILITY durability);
+
   void rollback(boolean force, int commitLevelDiff);
 
   ODatabaseDocument getDatabase();
@@ -38,6 +38,7 @@ public abstract class OTransactionAbstract implements OTransaction {
   protected ODatabaseDocumentInternal database;
   protected TXSTATUS status = TXSTATUS.INVALID;
   protected ISOLATION_LEVEL isolationLevel = ISOLATION_LEVEL.READ_COMMITTED;
+  protected DURABILITY durability;
   protected Map<ORID, LockedRecordMetadata> locks = new HashMap<ORID, LockedRecordMetadata>();
 
   public static final class LockedRecordMetadata {
@@ -92,6 +93,21 @@ public abstract class OTransactionAbstract implements OTransaction {
     return this;
   }
 
+  @Override
+  public DURABILITY getDurability() {
+    if (durability == null) {
+      durability = DURABILITY.fromConfiguration(getDatabase().getConfiguration());
+    }
+
+    return durability;
+  }
+
+  @Override
+  public OTransaction setDurability(final DURABILITY durability) {
+    this.durability = durability;
+    return this;
+  }
+
   public boolean isActive() {
     return status != TXSTATUS.INVALID
         && status != TXSTATUS.COMPLETED
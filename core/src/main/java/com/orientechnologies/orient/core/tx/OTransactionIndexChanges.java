@@ -111,6 +111,7 @@ public class OTransactionIndexChanges {
     if (resolvedIndex == null) {
       final OIndex index = indexManager.getIndex(db, indexName);
       if (index != null) resolvedIndex = index.getInternal();
+      else resolvedIndex = indexManager.getBuildingIndex(indexName);
     }
 
     return resolvedIndex;
@@ -114,6 +114,10 @@ public interface OTransactionInternal extends OBasicTransaction {
 
   default void storageBegun() {}
 
+  default OTransaction.DURABILITY getDurability() {
+    return OTransaction.DURABILITY.fromConfiguration(getDatabase().getConfiguration());
+  }
+
   void prepareSerializedOperations() throws IOException;
 
   Iterator<byte[]> getSerializedOperations();
@@ -328,7 +328,8 @@ public abstract class OTransactionRealAbstract extends OTransactionAbstract
     final ODatabaseDocumentInternal database = getDatabase();
     final OIndexManagerAbstract indexManager = database.getMetadata().getIndexManagerInternal();
     for (Entry<String, OTransactionIndexChanges> entry : indexEntries.entrySet()) {
-      final OIndex index = indexManager.getIndex(database, entry.getKey());
+      final OIndex index =
+          entry.getValue().resolveAssociatedIndex(entry.getKey(), indexManager, database);
       if (index == null)
         throw new OTransactionException(
             "Cannot find index '" + entry.getValue() + "' while committing transaction");
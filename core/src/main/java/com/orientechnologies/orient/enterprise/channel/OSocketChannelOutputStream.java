@@ -0,0 +1,104 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.enterprise.channel;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Output stream of a socket channel that is switched to non-blocking mode while its connection is
+ * idle and registered to a selector: push messages can be written in any moment, so when the socket
+ * send buffer is full the writer waits on a selector for the channel to become writable instead of
+ * failing.
+ *
+ * <p>Only plain socket channels are supported: SSL sockets have no channel and keep writing through
+ * their own blocking output stream.
+ */
+public class OSocketChannelOutputStream extends OutputStream {
+  /** interval of the check of the interruption of a writer waiting for the channel */
+  private static final long WRITE_WAIT_TIMEOUT = 1000;
+
+  private final SocketChannel channel;
+  private final byte[] single = new byte[1];
+  private Selector writeSelector;
+
+  public OSocketChannelOutputStream(final SocketChannel channel) {
+    this.channel = channel;
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    single[0] = (byte) b;
+    write(single, 0, 1);
+  }
+
+  @Override
+  public void write(final byte[] b, final int off, final int len) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+    while (buffer.hasRemaining()) {
+      if (channel.write(buffer) == 0) {
+        awaitWritable();
+      }
+    }
+  }
+
+  /**
+   * Holds the blocking lock of the channel while it waits, so the channel is not switched to
+   * blocking mode by a worker while it is registered to the write selector.
+   */
+  private void awaitWritable() throws IOException {
+    synchronized (channel.blockingLock()) {
+      if (channel.isBlocking()) {
+        return;
+      }
+      if (writeSelector == null) {
+        writeSelector = Selector.open();
+      }
+      final SelectionKey key = channel.register(writeSelector, SelectionKey.OP_WRITE);
+      try {
+        writeSelector.select(WRITE_WAIT_TIMEOUT);
+      } finally {
+        key.cancel();
+        writeSelector.selectNow();
+        writeSelector.selectedKeys().clear();
+      }
+    }
+    if (Thread.interrupted()) {
+      throw new InterruptedIOException("Write on " + channel + " interrupted");
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      channel.close();
+    } finally {
+      if (writeSelector != null) {
+        writeSelector.close();
+      }
+    }
+  }
+}
@@ -436,4 +436,13 @@ public abstract class OChannelBinary extends OChannel
     final Socket s = socket;
     if (s != null) s.setSoTimeout(networkTimeout);
   }
+
+  /**
+   * Limits the time waited for the rest of a request once its first byte has been read, see {@link
+   * #setReadRequestTimeout()}. A timeout of 0 or less leaves the current one unchanged.
+   */
+  public void limitReadRequestTimeout(final int timeout) {
+    if (timeout > 0)
+      networkTimeout = networkTimeout > 0 ? Math.min(networkTimeout, timeout) : timeout;
+  }
 }
@@ -21,12 +21,15 @@
 package com.orientechnologies.orient.enterprise.channel.binary;
 
 import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.enterprise.channel.OSocketChannelOutputStream;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.Socket;
+import javax.net.ssl.SSLSocket;
 
 public class OChannelBinaryServer extends OChannelBinary {
 
@@ -34,12 +37,18 @@ public class OChannelBinaryServer extends OChannelBinary {
       throws IOException {
     super(iSocket, iConfig);
 
+    // SOCKETS WITH A CHANNEL ARE SERVED BY AN EVENT LOOP AND CAN BE IN NON-BLOCKING MODE, SSL
+    // SOCKETS ARE ALWAYS IN BLOCKING MODE
+    final OutputStream socketOut =
+        socket.getChannel() != null && !(socket instanceof SSLSocket)
+            ? new OSocketChannelOutputStream(socket.getChannel())
+            : socket.getOutputStream();
     if (socketBufferSize > 0) {
       inStream = new BufferedInputStream(socket.getInputStream(), socketBufferSize);
-      outStream = new BufferedOutputStream(socket.getOutputStream(), socketBufferSize);
+      outStream = new BufferedOutputStream(socketOut, socketBufferSize);
     } else {
       inStream = new BufferedInputStream(socket.getInputStream());
-      outStream = new BufferedOutputStream(socket.getOutputStream());
+      outStream = new BufferedOutputStream(socketOut);
     }
 
     out = new DataOutputStream(outStream);
@@ -0,0 +1,270 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.OCreateDatabaseUtil;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.engine.OIndexBulkLoader;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndexBulkBuildTest {
+  private static final String DB_NAME = IndexBulkBuildTest.class.getSimpleName();
+  private static final String CLASS_NAME = "Person";
+  // LONG KEYS MAKE TREE OF SEVERAL LEVELS WITH SMALL AMOUNT OF RECORDS
+  private static final int RECORDS = 5_000;
+  private static final int TEAMS = 10;
+
+  private OrientDB orientDB;
+  private ODatabaseSession db;
+  private final List<ORID> rids = new ArrayList<>();
+
+  @Before
+  public void before() {
+    OGlobalConfiguration.INDEX_BULK_BUILD.setValue(true);
+    OGlobalConfiguration.INDEX_BULK_BUILD_THREADS.setValue(2);
+    OGlobalConfiguration.INDEX_BULK_BUILD_SORT_BUFFER_SIZE.setValue(1_000);
+
+    orientDB =
+        OCreateDatabaseUtil.createDatabase(DB_NAME, "embedded:", OCreateDatabaseUtil.TYPE_MEMORY);
+    db = orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD);
+
+    final OClass cls = db.createClass(CLASS_NAME);
+    cls.createProperty("name", OType.STRING);
+    cls.createProperty("team", OType.INTEGER);
+
+    for (int i = 0; i < RECORDS; i++) {
+      final ODocument document = new ODocument(CLASS_NAME);
+      document.field("name", name(i));
+      document.field("team", i % TEAMS);
+      db.save(document);
+
+      rids.add(document.getIdentity());
+    }
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.drop(DB_NAME);
+    orientDB.close();
+
+    OGlobalConfiguration.INDEX_BULK_BUILD.setValue(false);
+    OGlobalConfiguration.INDEX_BULK_BUILD_THREADS.setValue(
+        OGlobalConfiguration.INDEX_BULK_BUILD_THREADS.getDefValue());
+    OGlobalConfiguration.INDEX_BULK_BUILD_SORT_BUFFER_SIZE.setValue(
+        OGlobalConfiguration.INDEX_BULK_BUILD_SORT_BUFFER_SIZE.getDefValue());
+  }
+
+  @Test
+  public void testUniqueIndex() {
+    final ODocument nullName = new ODocument(CLASS_NAME);
+    db.save(nullName);
+
+    db.command("create index Person.name on Person (name) unique").close();
+    assertUniqueIndex(nullName.getIdentity());
+
+    db.command("rebuild index Person.name").close();
+    assertUniqueIndex(nullName.getIdentity());
+
+    // TREE BUILT IN BULK IS MODIFIED AS USUAL
+    final ODocument document = new ODocument(CLASS_NAME);
+    document.field("name", name(RECORDS));
+    db.save(document);
+
+    try {
+      final ODocument duplicate = new ODocument(CLASS_NAME);
+      duplicate.field("name", name(RECORDS / 2));
+      db.save(duplicate);
+      Assert.fail();
+    } catch (final ORecordDuplicatedException e) {
+      // EXPECTED
+    }
+
+    final OIndexInternal index = index("Person.name");
+    Assert.assertEquals(RECORDS + 2, index.size());
+    try (final Stream<ORID> stream = index.getRids(name(RECORDS))) {
+      Assert.assertEquals(document.getIdentity(), stream.findFirst().orElse(null));
+    }
+  }
+
+  @Test
+  public void testNotUniqueIndexes() {
+    db.command("create index Person.team on Person (team) notunique").close();
+    db.command("create index Person.team_name on Person (team, name) notunique").close();
+
+    final OIndexInternal teamIndex = index("Person.team");
+    Assert.assertEquals(RECORDS, teamIndex.size());
+    for (int i = 0; i < TEAMS; i++) {
+      try (final Stream<ORID> stream = teamIndex.getRids(i)) {
+        Assert.assertEquals(RECORDS / TEAMS, stream.count());
+      }
+    }
+
+    final OIndexInternal compositeIndex = index("Person.team_name");
+    Assert.assertEquals(RECORDS, compositeIndex.size());
+    for (int i = 0; i < RECORDS; i += 7) {
+      try (final Stream<ORID> stream =
+          compositeIndex.getRids(new OCompositeKey(i % TEAMS, name(i)))) {
+        Assert.assertEquals(rids.get(i), stream.findFirst().orElse(null));
+      }
+    }
+  }
+
+  @Test
+  public void testDuplicatesFailBuildOfUniqueIndex() {
+    final ODocument duplicate = new ODocument(CLASS_NAME);
+    duplicate.field("name", name(RECORDS / 3));
+    db.save(duplicate);
+
+    try {
+      db.command("create index Person.name on Person (name) unique").close();
+      Assert.fail();
+    } catch (final RuntimeException e) {
+      Throwable cause = e;
+      while (cause != null && !(cause instanceof ORecordDuplicatedException)) {
+        cause = cause.getCause();
+      }
+      Assert.assertNotNull(cause);
+    }
+  }
+
+  @Test
+  public void testLastPutWinsInDictionaryIndex() {
+    final OClass cls = db.getClass(CLASS_NAME);
+    final String clusterName = CLASS_NAME.toLowerCase() + "_dictionary";
+    cls.addCluster(clusterName);
+    for (int i = 0; i < RECORDS; i++) {
+      final ODocument document = new ODocument(CLASS_NAME);
+      document.field("name", name(i));
+      document.field("team", i % TEAMS);
+      db.save(document, clusterName);
+    }
+
+    OGlobalConfiguration.INDEX_BULK_BUILD.setValue(false);
+    db.command("create index Person.team on Person (team) dictionary").close();
+    final Map<Object, ORID> expected = entries(index("Person.team"));
+    Assert.assertEquals(TEAMS, expected.size());
+
+    OGlobalConfiguration.INDEX_BULK_BUILD.setValue(true);
+    db.command("rebuild index Person.team").close();
+    Assert.assertEquals(expected, entries(index("Person.team")));
+  }
+
+  @Test
+  public void testFailedLoadLeavesIndexEmpty() throws Exception {
+    db.command("create index Person.name on Person (name) unique").close();
+    final OIndexInternal index = index("Person.name");
+    final int indexId = index.getIndexId();
+
+    final OAbstractPaginatedStorage storage =
+        (OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) db).getStorage();
+    // PAGES OF THE EMPTIED TREE ARE STILL REFERENCED BY ITS ROOT AND ARE OVERWRITTEN BY THE LOAD
+    db.command("delete from Person").close();
+    Assert.assertEquals(0, index.size());
+
+    final OIndexBulkLoader loader =
+        storage.createIndexBulkLoader(
+            indexId,
+            (key, oldValue, newValue) -> {
+              throw new ORecordDuplicatedException(
+                  "Duplicate key " + key, index.getName(), oldValue, key);
+            });
+    try {
+      // LONG KEYS FILL SEVERAL PORTIONS OF PAGES, DUPLICATE OF THE LAST KEY FAILS THE LAST ONE
+      final int keys = 4_000;
+      try (final OIndexBulkLoader.Sink sink = loader.sink()) {
+        for (int i = 0; i < keys; i++) {
+          sink.add(String.format("%08000d", i), rids.get(i % RECORDS));
+        }
+        sink.add(String.format("%08000d", keys - 1), rids.get(0));
+      }
+
+      storage.bulkLoadIndex(indexId, loader);
+      Assert.fail();
+    } catch (final ORecordDuplicatedException e) {
+      // EXPECTED
+    } finally {
+      loader.close();
+    }
+
+    Assert.assertEquals(0, index.size());
+    try (final Stream<ORawPair<Object, ORID>> stream = index.stream()) {
+      Assert.assertEquals(0, stream.count());
+    }
+
+    // FREED PAGES ARE REUSED BY SPLITS OF THE BUCKETS
+    final List<ORID> added = new ArrayList<>();
+    for (int i = 0; i < RECORDS / 10; i++) {
+      final ODocument document = new ODocument(CLASS_NAME);
+      document.field("name", name(RECORDS + i));
+      db.save(document);
+      added.add(document.getIdentity());
+    }
+
+    Assert.assertEquals(added.size(), index.size());
+    final List<ORawPair<Object, ORID>> entries;
+    try (final Stream<ORawPair<Object, ORID>> stream = index.stream()) {
+      entries = stream.collect(Collectors.toList());
+    }
+    Assert.assertEquals(added.size(), entries.size());
+    for (int i = 0; i < added.size(); i++) {
+      Assert.assertEquals(name(RECORDS + i), entries.get(i).first);
+      Assert.assertEquals(added.get(i), entries.get(i).second);
+    }
+  }
+
+  private void assertUniqueIndex(final ORID nullNameRid) {
+    final OIndexInternal index = index("Person.name");
+    Assert.assertEquals(RECORDS + 1, index.size());
+
+    for (int i = 0; i < RECORDS; i++) {
+      try (final Stream<ORID> stream = index.getRids(name(i))) {
+        Assert.assertEquals(rids.get(i), stream.findFirst().orElse(null));
+      }
+    }
+
+    try (final Stream<ORID> stream = index.getRids(null)) {
+      Assert.assertEquals(nullNameRid, stream.findFirst().orElse(null));
+    }
+
+    final List<Object> keys;
+    try (final Stream<ORawPair<Object, ORID>> stream = index.stream()) {
+      keys = stream.map(pair -> pair.first).collect(Collectors.toList());
+    }
+    Assert.assertEquals(RECORDS, keys.size());
+    for (int i = 0; i < RECORDS; i++) {
+      Assert.assertEquals(name(i), keys.get(i));
+    }
+  }
+
+  private static Map<Object, ORID> entries(final OIndexInternal index) {
+    try (final Stream<ORawPair<Object, ORID>> stream = index.stream()) {
+      return stream.collect(Collectors.toMap(pair -> pair.first, pair -> pair.second));
+    }
+  }
+
+  private OIndexInternal index(final String name) {
+    final ODatabaseDocumentInternal database = (ODatabaseDocumentInternal) db;
+    return database.getMetadata().getIndexManagerInternal().getIndex(database, name).getInternal();
+  }
+
+  private static String name(final int index) {
+    return String.format("%01500d", index);
+  }
+}
@@ -0,0 +1,212 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.orient.core.OCreateDatabaseUtil;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndexOnlineBuildTest {
+  private static final String DB_NAME = IndexOnlineBuildTest.class.getSimpleName();
+  private static final String CLASS_NAME = "Person";
+  private static final int RECORDS = 20_000;
+  private static final int TEAMS = 10;
+
+  private OrientDB orientDB;
+  private ODatabaseSession db;
+
+  @Before
+  public void before() {
+    OGlobalConfiguration.INDEX_ONLINE_BUILD.setValue(true);
+
+    orientDB =
+        OCreateDatabaseUtil.createDatabase(DB_NAME, "embedded:", OCreateDatabaseUtil.TYPE_MEMORY);
+    db = orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD);
+
+    final OClass cls = db.createClass(CLASS_NAME);
+    cls.createProperty("name", OType.STRING);
+    cls.createProperty("team", OType.INTEGER);
+
+    for (int i = 0; i < RECORDS; i++) {
+      final ODocument document = new ODocument(CLASS_NAME);
+      document.field("name", name(i));
+      document.field("team", i % TEAMS);
+      db.save(document);
+    }
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.drop(DB_NAME);
+    orientDB.close();
+
+    OGlobalConfiguration.INDEX_ONLINE_BUILD.setValue(false);
+  }
+
+  @Test
+  public void testIndexesAreBuiltDuringConcurrentWrites() throws Exception {
+    final AtomicBoolean stop = new AtomicBoolean();
+    final CountDownLatch started = new CountDownLatch(1);
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final Future<Integer> writer =
+        executor.submit(
+            () -> {
+              try (final ODatabaseSession session =
+                  orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+                final Random random = new Random(42);
+                final List<ORID> rids = new ArrayList<>();
+                for (final ODocument document : session.browseClass(CLASS_NAME)) {
+                  rids.add(document.getIdentity());
+                }
+
+                int counter = RECORDS;
+                while (!stop.get()) {
+                  final int position = random.nextInt(rids.size());
+                  final ORID rid = rids.get(position);
+
+                  switch (random.nextInt(4)) {
+                    case 0:
+                      {
+                        final ODocument document = new ODocument(CLASS_NAME);
+                        document.field("name", name(counter));
+                        document.field("team", counter % TEAMS);
+                        session.save(document);
+                        rids.add(document.getIdentity());
+                      }
+                      break;
+                    case 1:
+                      session.delete(rid);
+                      rids.set(position, rids.get(rids.size() - 1));
+                      rids.remove(rids.size() - 1);
+                      break;
+                    default:
+                      {
+                        final ODocument document = session.load(rid);
+                        document.field("name", name(counter));
+                        document.field("team", counter % TEAMS);
+                        session.save(document);
+                      }
+                  }
+
+                  counter++;
+                  if (counter == RECORDS + 100) {
+                    started.countDown();
+                  }
+                }
+
+                return counter - RECORDS;
+              }
+            });
+
+    try {
+      Assert.assertTrue(started.await(1, TimeUnit.MINUTES));
+
+      db.command("create index Person.name on Person (name) unique").close();
+      db.command("create index Person.team on Person (team) notunique").close();
+    } finally {
+      stop.set(true);
+      executor.shutdown();
+    }
+
+    Assert.assertTrue(writer.get() > 100);
+
+    final ODatabaseDocumentInternal database = (ODatabaseDocumentInternal) db;
+    database.getLocalCache().clear();
+
+    final OIndexInternal nameIndex = index("Person.name");
+    final OIndexInternal teamIndex = index("Person.team");
+
+    long documents = 0;
+    for (final ODocument document : db.browseClass(CLASS_NAME)) {
+      documents++;
+
+      try (final Stream<ORID> stream = nameIndex.getRids(document.field("name"))) {
+        Assert.assertEquals(document.getIdentity(), stream.findFirst().orElse(null));
+      }
+
+      try (final Stream<ORID> stream = teamIndex.getRids(document.field("team"))) {
+        Assert.assertTrue(stream.collect(Collectors.toSet()).contains(document.getIdentity()));
+      }
+    }
+
+    Assert.assertEquals(documents, nameIndex.size());
+    Assert.assertEquals(documents, teamIndex.size());
+  }
+
+  @Test
+  public void testDuplicatesFailOnlineBuild() {
+    OGlobalConfiguration.INDEX_ONLINE_BUILD.setValue(false);
+
+    final ODocument duplicate = new ODocument(CLASS_NAME);
+    duplicate.field("name", name(RECORDS / 2));
+    db.save(duplicate);
+
+    try {
+      db.command("create index Person.name on Person (name) unique metadata {online: true}")
+          .close();
+      Assert.fail();
+    } catch (final RuntimeException e) {
+      Throwable cause = e;
+      while (cause != null && !(cause instanceof ORecordDuplicatedException)) {
+        cause = cause.getCause();
+      }
+      Assert.assertNotNull(cause);
+    }
+
+    final ODatabaseDocumentInternal database = (ODatabaseDocumentInternal) db;
+    Assert.assertNull(
+        database.getMetadata().getIndexManagerInternal().getIndex(database, "Person.name"));
+
+    // INDEX MAY BE CREATED ONCE DUPLICATE IS REMOVED
+    db.delete(duplicate);
+    db.command("create index Person.name on Person (name) unique metadata {online: true}").close();
+    Assert.assertEquals(RECORDS, index("Person.name").size());
+  }
+
+  @Test
+  public void testPropertyIndexIsBuiltOnline() {
+    final ODatabaseDocumentInternal database = (ODatabaseDocumentInternal) db;
+    final int version = database.getSharedContext().getSchema().getVersion();
+
+    // PROPERTY DOES NOT HOLD THE SCHEMA LOCK WHILE THE INDEX IS BUILT
+    db.getMetadata()
+        .getSchema()
+        .getClass(CLASS_NAME)
+        .getProperty("name")
+        .createIndex(OClass.INDEX_TYPE.UNIQUE);
+
+    Assert.assertEquals(RECORDS, index("Person.name").size());
+    Assert.assertTrue(database.getSharedContext().getSchema().getVersion() > version);
+  }
+
+  private OIndexInternal index(final String name) {
+    final ODatabaseDocumentInternal database = (ODatabaseDocumentInternal) db;
+    return database.getMetadata().getIndexManagerInternal().getIndex(database, name).getInternal();
+  }
+
+  private static String name(final int index) {
+    return String.format("%08d", index);
+  }
+}
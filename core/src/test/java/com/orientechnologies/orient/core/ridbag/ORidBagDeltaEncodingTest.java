@@ -0,0 +1,130 @@
+package com.orientechnologies.orient.core.ridbag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.db.record.ridbag.embedded.OEmbeddedRidBag;
+import com.orientechnologies.orient.core.db.record.ridbag.embedded.ORidBagDeltaEncoding;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ORidBagDeltaEncodingTest {
+  private ODatabaseDocumentTx db;
+  private boolean deltaEncoding;
+
+  @Before
+  public void before() {
+    deltaEncoding = OGlobalConfiguration.RID_BAG_EMBEDDED_DELTA_ENCODING.getValueAsBoolean();
+    OGlobalConfiguration.RID_BAG_EMBEDDED_DELTA_ENCODING.setValue(true);
+
+    db = new ODatabaseDocumentTx("memory:" + ORidBagDeltaEncodingTest.class.getSimpleName());
+    db.create();
+  }
+
+  @After
+  public void after() {
+    db.drop();
+    OGlobalConfiguration.RID_BAG_EMBEDDED_DELTA_ENCODING.setValue(deltaEncoding);
+  }
+
+  @Test
+  public void testEncodeDecode() {
+    final List<ORID> rids = new ArrayList<>();
+    rids.add(new ORecordId(12, 5));
+    rids.add(new ORecordId(3, Long.MAX_VALUE));
+    rids.add(new ORecordId(12, 5));
+    rids.add(new ORecordId(3, 0));
+    rids.add(new ORecordId(-2, -7));
+    rids.add(new ORecordId(12, 1L << 40));
+    rids.add(new ORecordId(3, 128));
+
+    final byte[] encoded =
+        ORidBagDeltaEncoding.encode(rids.toArray(new ORID[rids.size() + 2]), rids.size());
+
+    Collections.sort(rids);
+    final ORidBagDeltaEncoding.Decoder decoder = new ORidBagDeltaEncoding.Decoder(encoded);
+    for (ORID rid : rids) {
+      assertTrue(decoder.hasNext());
+      decoder.next();
+      assertEquals(rid.getClusterId(), decoder.getClusterId());
+      assertEquals(rid.getClusterPosition(), decoder.getClusterPosition());
+    }
+    assertFalse(decoder.hasNext());
+  }
+
+  @Test
+  public void testSaveAndLoad() {
+    ORidBag bag = new ORidBag();
+    for (int i = 0; i < 10; i++) {
+      bag.add(new ORecordId(20 + i % 3, 1000 - i * 7));
+    }
+    bag.add(new ORecordId(21, 993));
+
+    ODocument doc = new ODocument();
+    doc.field("bag", bag);
+    final ORID id = db.save(doc, db.getClusterNameById(db.getDefaultClusterId())).getIdentity();
+
+    bag = reload(id);
+    assertNotNull(((OEmbeddedRidBag) bag.getDelegate()).getEncodedEntries());
+    assertEquals(11, bag.size());
+    assertTrue(bag.contains(new ORecordId(21, 993)));
+    assertFalse(bag.contains(new ORecordId(22, 993)));
+
+    final List<OIdentifiable> loaded = new ArrayList<>();
+    final Iterator<OIdentifiable> links = bag.rawIterator();
+    while (links.hasNext()) {
+      loaded.add(links.next());
+    }
+    assertEquals(11, loaded.size());
+    assertEquals(new ORecordId(20, 937), loaded.get(0));
+    assertEquals(new ORecordId(21, 993), loaded.get(6));
+    assertEquals(new ORecordId(21, 993), loaded.get(7));
+
+    bag.remove(new ORecordId(21, 993));
+    bag.add(new ORecordId(5, 1));
+    assertNull(((OEmbeddedRidBag) bag.getDelegate()).getEncodedEntries());
+    db.save((ODocument) bag.getOwner());
+
+    bag = reload(id);
+    assertEquals(11, bag.size());
+    assertTrue(bag.contains(new ORecordId(5, 1)));
+    assertTrue(bag.contains(new ORecordId(21, 993)));
+
+    final Iterator<OIdentifiable> iterator = bag.rawIterator();
+    assertEquals(new ORecordId(5, 1), iterator.next());
+    iterator.remove();
+    while (iterator.hasNext()) {
+      if (iterator.next().equals(new ORecordId(21, 993))) {
+        iterator.remove();
+      }
+    }
+    assertEquals(9, bag.size());
+    db.save((ODocument) bag.getOwner());
+
+    bag = reload(id);
+    assertEquals(9, bag.size());
+    assertFalse(bag.contains(new ORecordId(5, 1)));
+    assertFalse(bag.contains(new ORecordId(21, 993)));
+  }
+
+  private ORidBag reload(ORID id) {
+    db.getLocalCache().clear();
+    final ODocument doc = db.load(id);
+    return doc.field("bag");
+  }
+}
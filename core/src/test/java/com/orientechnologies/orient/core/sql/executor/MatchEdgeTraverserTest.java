@@ -0,0 +1,150 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.OCreateDatabaseUtil;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.OEdge;
+import com.orientechnologies.orient.core.record.OVertex;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MatchEdgeTraverserTest {
+  private OrientDB orientDB;
+  private ODatabaseDocument db;
+  private final List<ORID> edges = new ArrayList<>();
+
+  @Before
+  public void before() {
+    orientDB =
+        OCreateDatabaseUtil.createDatabase(
+            "test", "embedded:./target/databases", OCreateDatabaseUtil.TYPE_MEMORY);
+    db = orientDB.open("test", "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD);
+
+    db.command("create class Person extends V");
+    db.command("create class Movie extends V");
+    db.command("create class Rated extends E");
+    db.command("create property Rated.out LINK");
+    db.command("create property Rated.in LINK");
+    db.command("create property Rated.score INTEGER");
+
+    OVertex person = db.newVertex("Person");
+    person.setProperty("name", "p");
+    db.save(person);
+    for (int i = 0; i < 6; i++) {
+      OVertex movie = db.newVertex("Movie");
+      movie.setProperty("name", "m" + i);
+      db.save(movie);
+
+      OEdge edge = person.addEdge(movie, "Rated");
+      // THE LAST EDGE HAS NO SCORE
+      if (i < 5) {
+        edge.setProperty("score", i);
+      }
+      edge.setProperty("comment", "c" + i);
+      db.save(edge);
+      edges.add(edge.getIdentity());
+    }
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.close();
+  }
+
+  @Test
+  public void testFilterByIndexedProperties() {
+    db.command(
+        "create index Rated.out_score on Rated (out, score) notunique metadata"
+            + " {ignoreNullValues: false}");
+
+    Assert.assertEquals(set("m3", "m4"), matchMovies("score > 2"));
+    // FILTERED OUT EDGES ARE NOT LOADED
+    Assert.assertFalse(isLoaded(edges.get(0)));
+    Assert.assertFalse(isLoaded(edges.get(2)));
+    Assert.assertTrue(isLoaded(edges.get(3)));
+
+    Assert.assertEquals(set("m5"), matchMovies("score is null"));
+    Assert.assertFalse(isLoaded(edges.get(3)));
+
+    Assert.assertEquals(set("m1", "m2"), matchMovies("score between 1 and 2"));
+    // NULL SCORE IS NOT LESS THAN 4, AS FOR LOADED EDGES
+    Assert.assertEquals(set("m0", "m4", "m5"), matchMovies("score = 0 or not (score < 4)"));
+  }
+
+  @Test
+  public void testFilterByNotIndexedProperties() {
+    db.command(
+        "create index Rated.out_score on Rated (out, score) notunique metadata"
+            + " {ignoreNullValues: false}");
+
+    Assert.assertEquals(set("m1"), matchMovies("score > 0 and comment = 'c1'"));
+    Assert.assertTrue(isLoaded(edges.get(0)));
+  }
+
+  @Test
+  public void testIgnoredNullValues() {
+    db.command(
+        "create index Rated.out_score on Rated (out, score) notunique metadata"
+            + " {ignoreNullValues: true}");
+
+    // EDGE WITHOUT SCORE IS NOT IN THE INDEX, SO EDGES ARE LOADED
+    Assert.assertEquals(set("m5"), matchMovies("score is null"));
+    Assert.assertTrue(isLoaded(edges.get(0)));
+  }
+
+  @Test
+  public void testNewEdgesAreFilteredByIndex() {
+    db.command(
+        "create index Rated.out_score on Rated (out, score) notunique metadata"
+            + " {ignoreNullValues: false}");
+    Assert.assertEquals(set("m4"), matchMovies("score > 3"));
+
+    OVertex person = db.query("select from Person").next().getVertex().get();
+    OVertex movie = db.newVertex("Movie");
+    movie.setProperty("name", "m6");
+    db.save(movie);
+    OEdge edge = person.addEdge(movie, "Rated");
+    edge.setProperty("score", 6);
+    db.save(edge);
+
+    Assert.assertEquals(set("m4", "m6"), matchMovies("score > 3"));
+    Assert.assertFalse(isLoaded(edges.get(0)));
+  }
+
+  private Set<String> matchMovies(String edgeFilter) {
+    ((ODatabaseDocumentInternal) db).getLocalCache().clear();
+
+    Set<String> result = new HashSet<>();
+    try (OResultSet rs =
+        db.query(
+            "match {class: Person, as: p}.outE('Rated'){where: ("
+                + edgeFilter
+                + ")}.inV(){as: m} return m.name as name")) {
+      while (rs.hasNext()) {
+        result.add(rs.next().getProperty("name"));
+      }
+    }
+    return result;
+  }
+
+  private boolean isLoaded(ORID rid) {
+    return ((ODatabaseDocumentInternal) db).getLocalCache().findRecord(rid) != null;
+  }
+
+  private static Set<String> set(String... values) {
+    Set<String> result = new HashSet<>();
+    for (String value : values) {
+      result.add(value);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,185 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.OCreateDatabaseUtil;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.statistics.OPropertyStatistics;
+import com.orientechnologies.orient.core.metadata.statistics.OStatisticsManager;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OAnalyzeClassStatementExecutionTest {
+  private static final String DB_NAME = OAnalyzeClassStatementExecutionTest.class.getSimpleName();
+  private static final int RECORDS = 10_000;
+  private static final int BANNED = 10;
+  private static final int AGES = 100;
+
+  private OrientDB orientDB;
+  private ODatabaseSession db;
+
+  @Before
+  public void before() {
+    orientDB =
+        OCreateDatabaseUtil.createDatabase(DB_NAME, "embedded:", OCreateDatabaseUtil.TYPE_MEMORY);
+    db = orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD);
+
+    final OClass cls = db.createClass("Person");
+    cls.createProperty("status", OType.STRING);
+    cls.createProperty("age", OType.INTEGER);
+    cls.createProperty("name", OType.STRING);
+    db.command("create index Person.status on Person (status) notunique").close();
+    db.command("create index Person.age on Person (age) notunique").close();
+
+    for (int i = 0; i < RECORDS; i++) {
+      final ODocument document = new ODocument("Person");
+      document.field("status", i < RECORDS - BANNED ? "active" : "banned");
+      document.field("age", i % AGES);
+      document.field("name", "name" + i);
+      db.save(document);
+    }
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.drop(DB_NAME);
+    orientDB.close();
+  }
+
+  @Test
+  public void testAnalyze() {
+    final Map<String, OResult> rows = new HashMap<>();
+    try (final OResultSet result = db.command("analyze class Person")) {
+      while (result.hasNext()) {
+        final OResult row = result.next();
+        Assert.assertEquals("analyze class", row.getProperty("operation"));
+        rows.put(row.getProperty("propertyName"), row);
+      }
+    }
+
+    // NAME IS NOT INDEXED, SO IT IS NOT ANALYZED
+    Assert.assertEquals(2, rows.size());
+    Assert.assertEquals("Person.status", rows.get("status").getProperty("indexName"));
+    Assert.assertEquals(RECORDS, (long) rows.get("status").getProperty("count"));
+    Assert.assertEquals(0, (long) rows.get("status").getProperty("nulls"));
+    Assert.assertEquals(2, (long) rows.get("status").getProperty("distinctValues"));
+    Assert.assertEquals(AGES, (long) rows.get("age").getProperty("distinctValues"), AGES / 20);
+
+    // STATISTICS ARE STORED IN THE SCHEMA
+    db.getMetadata().getSchema().reload();
+    final OPropertyStatistics statistics = statistics("age");
+    Assert.assertNotNull(statistics);
+    Assert.assertEquals(RECORDS, statistics.getCount());
+    Assert.assertEquals(0.01, statistics.equalsSelectivity(5), 0.005);
+    Assert.assertEquals(0.5, statistics.rangeSelectivity(null, true, 50, false), 0.05);
+    Assert.assertNull(statistics("name"));
+  }
+
+  @Test
+  public void testStatisticsAreMaintainedOnCommit() {
+    db.command("analyze class Person").close();
+
+    db.begin();
+    for (int i = 0; i < BANNED; i++) {
+      final ODocument document = new ODocument("Person");
+      document.field("status", "banned");
+      document.field("age", i);
+      db.save(document);
+    }
+    db.commit();
+
+    db.command("delete from Person where status = 'active' and age = 0").close();
+
+    final OPropertyStatistics statistics = statistics("status");
+    Assert.assertEquals(RECORDS + BANNED - RECORDS / AGES, statistics.getCount());
+    Assert.assertEquals(RECORDS + BANNED - RECORDS / AGES, statistics("age").getCount());
+  }
+
+  @Test
+  public void testStatisticsAreMaintainedByConcurrentCommits() throws Exception {
+    db.command("analyze class Person").close();
+
+    final int writers = 4;
+    final ExecutorService executor = Executors.newFixedThreadPool(writers);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int writer = 0; writer < writers; writer++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  try (final ODatabaseSession session =
+                      orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+                    for (int i = 0; i < RECORDS; i++) {
+                      final ODocument document = new ODocument("Person");
+                      document.field("status", "banned");
+                      document.field("age", AGES + i % AGES);
+                      session.save(document);
+                    }
+                  }
+                }));
+      }
+
+      for (final Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    final OPropertyStatistics statistics = statistics("age");
+    Assert.assertEquals((writers + 1) * RECORDS, statistics.getCount());
+
+    // HISTOGRAM ACCOUNTS ALL THE VALUES ONCE CHANGES OF ALL THE STRIPES ARE FOLDED
+    statistics.flush();
+    Assert.assertEquals(1.0, statistics.rangeSelectivity(null, true, null, true), 0.001);
+    Assert.assertEquals(0.8, statistics.rangeSelectivity(AGES, true, null, true), 0.05);
+    Assert.assertEquals(2 * AGES, statistics.getDistinctValues(), 2 * AGES / 20);
+  }
+
+  @Test
+  public void testSelectiveIndexIsUsed() {
+    db.command("analyze class Person").close();
+
+    Assert.assertEquals(
+        "Person.status", usedIndex("select from Person where age = 5 and status = 'banned'"));
+    Assert.assertEquals(
+        "Person.age", usedIndex("select from Person where status = 'active' and age = 5"));
+
+    try (final OResultSet result =
+        db.query("select from Person where age = 5 and status = 'banned'")) {
+      Assert.assertEquals(0, result.stream().count());
+    }
+    try (final OResultSet result =
+        db.query("select from Person where age = 90 and status = 'banned'")) {
+      Assert.assertEquals(1, result.stream().count());
+    }
+  }
+
+  private OPropertyStatistics statistics(final String property) {
+    return OStatisticsManager.getStatistics(
+        db.getMetadata().getSchema().getClass("Person"), property);
+  }
+
+  private String usedIndex(final String query) {
+    try (final OResultSet result = db.query(query)) {
+      final OExecutionPlan plan = result.getExecutionPlan().get();
+      return plan.getSteps().stream()
+          .filter(step -> step instanceof FetchFromIndexStep)
+          .map(step -> ((FetchFromIndexStep) step).indexName)
+          .findFirst()
+          .orElse(null);
+    }
+  }
+}
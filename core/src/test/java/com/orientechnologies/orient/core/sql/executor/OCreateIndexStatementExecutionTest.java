@@ -1,10 +1,26 @@
 package com.orientechnologies.orient.core.sql.executor;
 
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.OCreateDatabaseUtil;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OCompositeKey;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -77,4 +93,206 @@ public class OCreateIndexStatementExecutionTest {
     Assert.assertFalse(result.hasNext());
     result.close();
   }
+
+  @Test
+  public void testNormalizedKeyEngine() {
+    String className = "testNormalizedKeyEngine";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("num", OType.INTEGER);
+
+    db.command(
+            "create index "
+                + className
+                + ".name_num on "
+                + className
+                + " (name, num) unique ENGINE NKBTREE")
+        .close();
+    OIndex idx = db.getMetadata().getIndexManagerInternal().getIndex(db, className + ".name_num");
+    Assert.assertNotNull(idx);
+    Assert.assertTrue(idx.isUnique());
+    Assert.assertEquals("NKBTREE", idx.getAlgorithm());
+
+    for (int i = 0; i < 100; i++) {
+      db.command("insert into " + className + " set name = ?, num = ?", "name" + (i % 10), i)
+          .close();
+    }
+    Assert.assertEquals(100, idx.getInternal().size());
+
+    try (OResultSet result =
+        db.query("select from " + className + " where name = 'name3' and num = 43")) {
+      Assert.assertTrue(result.hasNext());
+      Assert.assertEquals(43, (int) result.next().getProperty("num"));
+      Assert.assertFalse(result.hasNext());
+    }
+
+    try {
+      db.command("insert into " + className + " set name = 'name3', num = 43").close();
+      Assert.fail();
+    } catch (ORecordDuplicatedException e) {
+      // expected
+    }
+
+    db.command("delete from " + className + " where num < 50").close();
+    Assert.assertEquals(50, idx.getInternal().size());
+    db.command("insert into " + className + " set name = 'name3', num = 43").close();
+    Assert.assertEquals(51, idx.getInternal().size());
+  }
+
+  @Test
+  public void testNormalizedKeyEngineRanges() {
+    String className = "testNormalizedKeyEngineRanges";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("num", OType.DOUBLE);
+    clazz.createProperty("amount", OType.DECIMAL);
+    db.command(
+            "create index "
+                + className
+                + ".name_num on "
+                + className
+                + " (name, num) unique"
+                + " ENGINE NKBTREE")
+        .close();
+    db.command(
+            "create index "
+                + className
+                + ".amount on "
+                + className
+                + " (amount) unique"
+                + " ENGINE NKBTREE")
+        .close();
+
+    double[] nums = {-1e10, -2.5, -1, -0.5, 0, 0.25, 1, 7.5, 1e10};
+    for (int i = 0; i < nums.length; i++) {
+      db.command(
+              "insert into " + className + " set name = ?, num = ?, amount = ?",
+              i % 2 == 0 ? "a" : "b",
+              nums[i],
+              new BigDecimal(nums[i]).setScale(2))
+          .close();
+    }
+
+    OIndex idx = db.getMetadata().getIndexManagerInternal().getIndex(db, className + ".name_num");
+    Assert.assertTrue(idx.supportsOrderedIterations());
+    // PARTIAL KEYS SELECT ALL THE ENTRIES WITH THE SAME PREFIX
+    Assert.assertEquals(
+        Arrays.asList(-1e10, -1.0, 0.0, 1.0, 1e10),
+        nums(idx.getInternal().streamEntriesBetween(key("a"), true, key("a"), true, true)));
+    Assert.assertEquals(
+        Arrays.asList(7.5, 0.25, -0.5, -2.5),
+        nums(idx.getInternal().streamEntriesMajor(key("a"), false, false)));
+    Assert.assertEquals(
+        Arrays.asList(-1.0, 0.0),
+        nums(
+            idx.getInternal()
+                .streamEntriesBetween(key("a", -2.5), true, key("a", 1.0), false, true)));
+    Assert.assertEquals(
+        Arrays.asList(-1e10, -1.0),
+        nums(idx.getInternal().streamEntriesMinor(key("a", -1.0), true, true)));
+
+    try (OResultSet result =
+        db.query("select num from " + className + " where name = 'b' and num > -1 order by num")) {
+      Assert.assertEquals(-0.5, (double) result.next().getProperty("num"), 0.0);
+      Assert.assertEquals(0.25, (double) result.next().getProperty("num"), 0.0);
+      Assert.assertEquals(7.5, (double) result.next().getProperty("num"), 0.0);
+      Assert.assertFalse(result.hasNext());
+    }
+
+    // EQUAL NUMBERS WITH DIFFERENT REPRESENTATIONS ARE THE SAME KEY
+    try {
+      db.command(
+              "insert into " + className + " set name = 'a', num = ?, amount = ?",
+              -0.0,
+              new BigDecimal("100"))
+          .close();
+      Assert.fail();
+    } catch (ORecordDuplicatedException e) {
+      // expected
+    }
+    try {
+      db.command(
+              "insert into " + className + " set name = 'c', num = 0, amount = ?",
+              new BigDecimal("7.5"))
+          .close();
+      Assert.fail();
+    } catch (ORecordDuplicatedException e) {
+      // expected
+    }
+
+    OIndex amountIdx =
+        db.getMetadata().getIndexManagerInternal().getIndex(db, className + ".amount");
+    Assert.assertEquals(
+        4,
+        amountIdx
+            .getInternal()
+            .streamEntriesBetween(new BigDecimal("-1.000"), true, new BigDecimal("0.3"), true, true)
+            .count());
+  }
+
+  @Test
+  public void testNormalizedKeyEngineOnCloseAndDrop() {
+    for (String type :
+        new String[] {OCreateDatabaseUtil.TYPE_PLOCAL, OCreateDatabaseUtil.TYPE_MEMORY}) {
+      String dbName = "testNormalizedKeyEngineOnCloseAndDrop" + type;
+      OFileUtils.deleteRecursively(new File("./target/databases", dbName));
+      OrientDB orientDB =
+          OCreateDatabaseUtil.createDatabase(dbName, "embedded:./target/databases", type);
+      try {
+        try (ODatabaseSession session =
+            orientDB.open(dbName, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+          OClass clazz = session.getMetadata().getSchema().createClass("Person");
+          clazz.createProperty("name", OType.STRING);
+          session
+              .command("create index Person.name on Person (name) unique ENGINE NKBTREE")
+              .close();
+          for (int i = 0; i < 10; i++) {
+            session.command("insert into Person set name = ?", "name" + i).close();
+          }
+        }
+
+        if (OCreateDatabaseUtil.TYPE_PLOCAL.equals(type)) {
+          // STORAGE IS CLOSED AND THE INDEX IS LOADED ON REOPEN
+          orientDB.close();
+          orientDB = new OrientDB("embedded:./target/databases", OrientDBConfig.defaultConfig());
+          try (ODatabaseSession session =
+              orientDB.open(dbName, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+            try (OResultSet result = session.query("select from Person where name = 'name3'")) {
+              Assert.assertEquals(1, result.stream().count());
+            }
+          }
+        }
+
+        orientDB.drop(dbName);
+      } finally {
+        orientDB.close();
+        db.activateOnCurrentThread();
+      }
+    }
+  }
+
+  private static OCompositeKey key(Object... fields) {
+    return new OCompositeKey(fields);
+  }
+
+  private static List<Double> nums(Stream<ORawPair<Object, ORID>> entries) {
+    return entries
+        .map(entry -> (Double) ((OCompositeKey) entry.first).getKeys().get(1))
+        .collect(Collectors.toList());
+  }
+
+  @Test(expected = OException.class)
+  public void testNormalizedKeyEngineNotUnique() {
+    String className = "testNormalizedKeyEngineNotUnique";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+
+    db.command(
+            "create index "
+                + className
+                + ".name on "
+                + className
+                + " (name) notunique ENGINE NKBTREE")
+        .close();
+  }
 }
@@ -24,15 +24,18 @@ import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.OCommandSQL;
 import com.orientechnologies.orient.core.sql.OSQLEngine;
 import com.orientechnologies.orient.core.sql.functions.OSQLFunction;
+import com.orientechnologies.orient.core.storage.cluster.OClusterPositionMapBucket;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import org.junit.AfterClass;
 import org.junit.Assert;
@@ -2112,6 +2115,195 @@ public class OSelectStatementExecutionTest {
     result.close();
   }
 
+  @Test
+  public void testFetchFromSubclassIndexesParallel() {
+    String parent = "testFetchFromSubclassIndexesParallel_parent";
+    OClass parentClass = db.getMetadata().getSchema().createClass(parent);
+    parentClass.createProperty("name", OType.STRING);
+    for (int i = 0; i < 4; i++) {
+      String child = "testFetchFromSubclassIndexesParallel_child" + i;
+      OClass childClass = db.getMetadata().getSchema().createClass(child, parentClass);
+      childClass.createIndex(child + ".name", OClass.INDEX_TYPE.NOTUNIQUE, "name");
+      for (int j = 0; j < 100; j++) {
+        ODocument doc = db.newInstance(child);
+        doc.setProperty("name", "name" + (j % 10));
+        doc.save();
+      }
+    }
+
+    boolean oldValue = OGlobalConfiguration.QUERY_PARALLEL_AUTO.getValueAsBoolean();
+    OGlobalConfiguration.QUERY_PARALLEL_AUTO.setValue(true);
+    try {
+      try (OResultSet result = db.query("select from " + parent + " where name = 'name1'")) {
+        OInternalExecutionPlan plan = (OInternalExecutionPlan) result.getExecutionPlan().get();
+        Assert.assertTrue(plan.getSteps().get(0) instanceof ParallelExecStep);
+        List<OResult> items = new ArrayList<>();
+        while (result.hasNext()) {
+          items.add(result.next());
+        }
+        Assert.assertEquals(40, items.size());
+        // THE WORKER SESSIONS ARE CLOSED HERE, RECORDS ARE READ WITHOUT THEM
+        for (OResult item : items) {
+          Assert.assertEquals("name1", item.getProperty("name"));
+        }
+      }
+
+      try (OResultSet result =
+          db.query("select from " + parent + " where name = 'name1' limit 5")) {
+        for (int i = 0; i < 5; i++) {
+          Assert.assertTrue(result.hasNext());
+          result.next();
+        }
+        Assert.assertFalse(result.hasNext());
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_PARALLEL_AUTO.setValue(oldValue);
+    }
+  }
+
+  @Test
+  public void testParallelClassScan() {
+    String className = "testParallelClassScan";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.addCluster(className + "_extra");
+    for (int i = 0; i < 1000; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "name" + i);
+      doc.setProperty("val", i);
+      doc.save();
+    }
+
+    boolean oldAuto = OGlobalConfiguration.QUERY_PARALLEL_AUTO.getValueAsBoolean();
+    long oldMinimum = OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.getValueAsLong();
+    OGlobalConfiguration.QUERY_PARALLEL_AUTO.setValue(true);
+    OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.setValue(10);
+    try {
+      try (OResultSet result =
+          db.query("select name, val * 2 as twice from " + className + " where val < 100")) {
+        OInternalExecutionPlan plan = (OInternalExecutionPlan) result.getExecutionPlan().get();
+        Assert.assertTrue(plan.getSteps().get(0) instanceof ParallelExecStep);
+        int count = 0;
+        while (result.hasNext()) {
+          OResult item = result.next();
+          int val = item.getProperty("twice");
+          Assert.assertTrue(val < 200);
+          Assert.assertEquals("name" + (val / 2), item.getProperty("name"));
+          count++;
+        }
+        Assert.assertEquals(100, count);
+      }
+
+      try (OResultSet result =
+          db.query("select from " + className + " where val >= 100 order by val desc limit 3")) {
+        for (int i = 0; i < 3; i++) {
+          Assert.assertTrue(result.hasNext());
+          Assert.assertEquals(999 - i, (int) result.next().getProperty("val"));
+        }
+        Assert.assertFalse(result.hasNext());
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_PARALLEL_AUTO.setValue(oldAuto);
+      OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.setValue(oldMinimum);
+    }
+  }
+
+  @Test
+  public void testParallelClassScanMorsels() {
+    String className = "testParallelClassScanMorsels";
+    db.getMetadata().getSchema().createClass(className, 1);
+    // ENOUGH RECORDS TO FILL THREE POSITION MAP PAGES OF THE ONLY CLUSTER
+    int records = OClusterPositionMapBucket.MAX_ENTRIES * 2 + 10;
+    for (int i = 0; i < records; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("val", i);
+      doc.save();
+    }
+
+    boolean oldAuto = OGlobalConfiguration.QUERY_PARALLEL_AUTO.getValueAsBoolean();
+    long oldMinimum = OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.getValueAsLong();
+    OGlobalConfiguration.QUERY_PARALLEL_AUTO.setValue(true);
+    OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.setValue(10);
+    try (OResultSet result = db.query("select val from " + className + " where val >= 0")) {
+      OInternalExecutionPlan plan = (OInternalExecutionPlan) result.getExecutionPlan().get();
+      ParallelExecStep parallel = (ParallelExecStep) plan.getSteps().get(0);
+      Assert.assertTrue(parallel.getSubExecutionPlans().size() > 1);
+
+      Set<Integer> values = new HashSet<>();
+      while (result.hasNext()) {
+        Assert.assertTrue(values.add(result.next().getProperty("val")));
+      }
+      Assert.assertEquals(records, values.size());
+    } finally {
+      OGlobalConfiguration.QUERY_PARALLEL_AUTO.setValue(oldAuto);
+      OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.setValue(oldMinimum);
+    }
+  }
+
+  @Test
+  public void testParallelGroupBy() {
+    String className = "testParallelGroupBy";
+    db.getMetadata().getSchema().createClass(className);
+    for (int i = 0; i < 1000; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("type", "type" + (i % 10));
+      doc.setProperty("val", i);
+      doc.save();
+    }
+
+    boolean oldAuto = OGlobalConfiguration.QUERY_PARALLEL_AUTO.getValueAsBoolean();
+    long oldMinimum = OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.getValueAsLong();
+    OGlobalConfiguration.QUERY_PARALLEL_AUTO.setValue(true);
+    OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.setValue(10);
+    try {
+      try (OResultSet result =
+          db.query(
+              "select type, count(*) as c, sum(val) as s, avg(val) as a, min(val) as mn,"
+                  + " max(val) + 1 as mx from "
+                  + className
+                  + " group by type")) {
+        printExecutionPlan(result);
+        OInternalExecutionPlan plan = (OInternalExecutionPlan) result.getExecutionPlan().get();
+        Assert.assertTrue(plan.getSteps().get(0) instanceof ParallelExecStep);
+        Assert.assertTrue(plan.prettyPrint(0, 2).contains("PARTIAL"));
+        int count = 0;
+        while (result.hasNext()) {
+          OResult item = result.next();
+          int type = Integer.parseInt(((String) item.getProperty("type")).substring(4));
+          Assert.assertEquals(100L, (long) item.getProperty("c"));
+          Assert.assertEquals(49500 + type * 100, ((Number) item.getProperty("s")).intValue());
+          Assert.assertEquals(495 + type, ((Number) item.getProperty("a")).intValue());
+          Assert.assertEquals(type, (int) item.getProperty("mn"));
+          Assert.assertEquals(990 + type + 1, (int) item.getProperty("mx"));
+          count++;
+        }
+        Assert.assertEquals(10, count);
+      }
+
+      // VAL IS NOT A GROUP KEY, SO THE AGGREGATION IS NOT SPLIT ON THE WORKERS
+      try (OResultSet result =
+          db.query("select type, val, count(*) as c from " + className + " group by type")) {
+        OInternalExecutionPlan plan = (OInternalExecutionPlan) result.getExecutionPlan().get();
+        Assert.assertFalse(plan.prettyPrint(0, 2).contains("PARTIAL"));
+        int count = 0;
+        while (result.hasNext()) {
+          Assert.assertEquals(100L, (long) result.next().getProperty("c"));
+          count++;
+        }
+        Assert.assertEquals(10, count);
+      }
+
+      try (OResultSet result =
+          db.query("select count(*) as c from " + className + " where val >= 500")) {
+        Assert.assertTrue(result.hasNext());
+        Assert.assertEquals(500L, (long) result.next().getProperty("c"));
+        Assert.assertFalse(result.hasNext());
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_PARALLEL_AUTO.setValue(oldAuto);
+      OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.setValue(oldMinimum);
+    }
+  }
+
   @Test
   public void testFetchFromSubclassIndexes2() {
     String parent = "testFetchFromSubclassIndexes2_parent";
@@ -3990,6 +4182,107 @@ public class OSelectStatementExecutionTest {
     }
   }
 
+  @Test
+  public void testSpillToDiskForOrderBy() {
+    Long oldValue = OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong();
+    Boolean oldSpill = OGlobalConfiguration.QUERY_SPILL_TO_DISK.getValueAsBoolean();
+    try {
+      OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.setValue(3);
+      OGlobalConfiguration.QUERY_SPILL_TO_DISK.setValue(true);
+
+      String className = "testSpillToDiskForOrderBy";
+
+      db.createClassIfNotExist(className);
+
+      // MORE RUNS THAN OrderByStep.MERGE_FAN_IN
+      int records = 300;
+      for (int i = 0; i < records; i++) {
+        db.command(
+                "INSERT INTO " + className + " set name = ?, surname = ?",
+                (i * 7) % records,
+                "s" + i)
+            .close();
+      }
+
+      try (OResultSet result = db.query("select from " + className + " ORDER BY name")) {
+        for (int i = 0; i < records; i++) {
+          Assert.assertTrue(result.hasNext());
+          OResult item = result.next();
+          Assert.assertEquals(i, (int) item.getProperty("name"));
+          Assert.assertTrue(((String) item.getProperty("surname")).startsWith("s"));
+          Assert.assertTrue(item.getIdentity().get().isPersistent());
+          if (i == 0) {
+            // SPILLED RECORDS ARE RETURNED AS THEY WERE WHEN THEY WERE SORTED
+            db.command("UPDATE " + className + " set surname = 'changed'").close();
+          }
+        }
+        Assert.assertFalse(result.hasNext());
+      }
+
+      try (OResultSet result =
+          db.query("select name, surname from " + className + " ORDER BY name desc")) {
+        for (int i = records - 1; i >= 0; i--) {
+          Assert.assertTrue(result.hasNext());
+          OResult item = result.next();
+          Assert.assertEquals(i, (int) item.getProperty("name"));
+        }
+        Assert.assertFalse(result.hasNext());
+      }
+
+      // top-K: only LIMIT elements are kept in heap, no spill needed
+      try (OResultSet result =
+          db.query("select from " + className + " ORDER BY name desc LIMIT 3")) {
+        for (int i = records - 1; i >= records - 3; i--) {
+          Assert.assertTrue(result.hasNext());
+          Assert.assertEquals(i, (int) result.next().getProperty("name"));
+        }
+        Assert.assertFalse(result.hasNext());
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.setValue(oldValue);
+      OGlobalConfiguration.QUERY_SPILL_TO_DISK.setValue(oldSpill);
+    }
+  }
+
+  @Test
+  public void testSpillToDiskForGroupBy() {
+    Long oldValue = OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong();
+    Boolean oldSpill = OGlobalConfiguration.QUERY_SPILL_TO_DISK.getValueAsBoolean();
+    try {
+      OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.setValue(3);
+      OGlobalConfiguration.QUERY_SPILL_TO_DISK.setValue(true);
+
+      String className = "testSpillToDiskForGroupBy";
+
+      db.createClassIfNotExist(className);
+
+      for (int i = 0; i < 100; i++) {
+        db.command("INSERT INTO " + className + " set name = ?, val = ?", "name" + (i % 20), i)
+            .close();
+      }
+
+      try (OResultSet result =
+          db.query(
+              "select name, count(*) as c, sum(val) as s from "
+                  + className
+                  + " group by name order by name")) {
+        Set<String> names = new HashSet<>();
+        while (result.hasNext()) {
+          OResult item = result.next();
+          String name = item.getProperty("name");
+          int group = Integer.parseInt(name.substring(4));
+          Assert.assertTrue(names.add(name));
+          Assert.assertEquals(5L, (long) item.getProperty("c"));
+          Assert.assertEquals(group * 5 + 200, ((Number) item.getProperty("s")).intValue());
+        }
+        Assert.assertEquals(20, names.size());
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.setValue(oldValue);
+      OGlobalConfiguration.QUERY_SPILL_TO_DISK.setValue(oldSpill);
+    }
+  }
+
   @Test
   public void testXor() {
     try (OResultSet result = db.query("select 15 ^ 4 as foo")) {
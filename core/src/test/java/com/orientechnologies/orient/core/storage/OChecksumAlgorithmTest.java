@@ -0,0 +1,56 @@
+package com.orientechnologies.orient.core.storage;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.zip.CRC32;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class OChecksumAlgorithmTest {
+  private static final int PAGE_SIZE = 8 * 1024;
+
+  @Test
+  public void testCrc32IsCompatibleWithPreviousVersions() {
+    final byte[] data = randomPage();
+    final CRC32 crc32 = new CRC32();
+    crc32.update(data, 16, data.length - 16);
+
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(PAGE_SIZE);
+    buffer.put(data);
+    buffer.position(16);
+
+    Assert.assertEquals((int) crc32.getValue(), OChecksumAlgorithm.CRC32.calculate(buffer));
+    Assert.assertEquals(buffer.limit(), buffer.position());
+  }
+
+  @Test
+  public void testXxHashDetectsChanges() {
+    assertDetectsChanges(OChecksumAlgorithm.XXHASH64);
+  }
+
+  @Test
+  public void testCrc32cDetectsChanges() {
+    Assume.assumeTrue(OChecksumAlgorithm.CRC32C.isSupported());
+    assertDetectsChanges(OChecksumAlgorithm.CRC32C);
+  }
+
+  private static void assertDetectsChanges(final OChecksumAlgorithm algorithm) {
+    final byte[] data = randomPage();
+
+    final int checksum = algorithm.calculate(ByteBuffer.wrap(data));
+    final ByteBuffer direct = ByteBuffer.allocateDirect(PAGE_SIZE);
+    direct.put(data).flip();
+    Assert.assertEquals(checksum, algorithm.calculate(direct));
+    Assert.assertEquals(direct.limit(), direct.position());
+
+    data[PAGE_SIZE / 2] ^= 1;
+    Assert.assertNotEquals(checksum, algorithm.calculate(ByteBuffer.wrap(data)));
+  }
+
+  private static byte[] randomPage() {
+    final byte[] data = new byte[PAGE_SIZE];
+    new Random(42).nextBytes(data);
+    return data;
+  }
+}
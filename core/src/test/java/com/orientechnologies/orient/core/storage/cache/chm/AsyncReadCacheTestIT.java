@@ -9,6 +9,7 @@ import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import com.orientechnologies.orient.core.storage.cache.OPageDataVerificationError;
+import com.orientechnologies.orient.core.storage.cache.OStorageTier;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.cache.local.OBackgroundExceptionListener;
 import com.orientechnologies.orient.core.storage.impl.local.OPageIsBrokenListener;
@@ -451,6 +452,19 @@ public class AsyncReadCacheTestIT {
     @Override
     public void renameFile(final long fileId, final String newFileName) {}
 
+    @Override
+    public OStorageTier getFileTier(final long fileId) {
+      return OStorageTier.HOT;
+    }
+
+    @Override
+    public void moveFileToTier(final long fileId, final OStorageTier tier) {}
+
+    @Override
+    public long getFilePageReads(final long fileId) {
+      return 0;
+    }
+
     @Override
     public long[] close() {
       return new long[0];
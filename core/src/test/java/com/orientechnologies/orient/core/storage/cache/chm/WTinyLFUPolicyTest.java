@@ -6,6 +6,7 @@ import static org.mockito.Mockito.when;
 import com.orientechnologies.common.directmemory.OByteBufferPool;
 import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
 import com.orientechnologies.common.directmemory.ODirectMemoryAllocator.Intention;
+import com.orientechnologies.orient.core.storage.cache.OAbstractWriteCache;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
@@ -664,6 +665,107 @@ public class WTinyLFUPolicyTest {
     clearPointers(wTinyLFU);
   }
 
+  @Test
+  public void testPartitionAboveMaxShareIsEvictedFromEden() {
+    ODirectMemoryAllocator memoryAllocator = new ODirectMemoryAllocator();
+    OByteBufferPool pool = new OByteBufferPool(1, memoryAllocator, 0);
+
+    ConcurrentHashMap<PageKey, OCacheEntry> data = new ConcurrentHashMap<>();
+    Admittor admittor = mock(Admittor.class);
+
+    AtomicInteger cacheSize = new AtomicInteger();
+    WTinyLFUPolicy wTinyLFU = new WTinyLFUPolicy(data, admittor, cacheSize);
+    wTinyLFU.setMaxSize(15);
+    wTinyLFU.partition(0).configure("storage", 0, 20);
+
+    OCacheEntry[] cacheEntries = new OCacheEntry[16];
+    OCachePointer[] cachePointers = new OCachePointer[16];
+
+    generateEntries(cacheEntries, cachePointers, pool);
+
+    for (int i = 0; i < 16; i++) {
+      cacheSize.incrementAndGet();
+      data.put(new PageKey(1, i), cacheEntries[i]);
+      wTinyLFU.onAdd(cacheEntries[i]);
+    }
+
+    Assert.assertEquals(3, cacheSize.get());
+    Assert.assertEquals(3, wTinyLFU.partition(0).getPages());
+    Assert.assertEquals(13, wTinyLFU.partition(0).getEvictions());
+    wTinyLFU.assertSize();
+    wTinyLFU.assertConsistency();
+
+    Assert.assertEquals(3, memoryAllocator.getMemoryConsumption());
+
+    Assert.assertFalse(wTinyLFU.probation().hasNext());
+    Assert.assertFalse(wTinyLFU.protection().hasNext());
+    Assert.assertArrayEquals(
+        new OCacheEntry[] {cacheEntries[15], cacheEntries[14], cacheEntries[13]},
+        toArray(wTinyLFU.eden()));
+
+    clearPointers(wTinyLFU);
+  }
+
+  @Test
+  public void testPartitionBelowMinShareIsNotVictim() {
+    ODirectMemoryAllocator memoryAllocator = new ODirectMemoryAllocator();
+    OByteBufferPool pool = new OByteBufferPool(1, memoryAllocator, 0);
+
+    ConcurrentHashMap<PageKey, OCacheEntry> data = new ConcurrentHashMap<>();
+    Admittor admittor = mock(Admittor.class);
+
+    AtomicInteger cacheSize = new AtomicInteger();
+    WTinyLFUPolicy wTinyLFU = new WTinyLFUPolicy(data, admittor, cacheSize);
+    wTinyLFU.setMaxSize(15);
+    wTinyLFU.partition(0).configure("first", 100, 100);
+
+    final long secondFileId = OAbstractWriteCache.composeFileId(1, 1);
+
+    OCacheEntry[] cacheEntries = new OCacheEntry[12];
+    OCachePointer[] cachePointers = new OCachePointer[12];
+    generateEntries(cacheEntries, cachePointers, pool, 1);
+
+    OCacheEntry[] secondCacheEntries = new OCacheEntry[4];
+    OCachePointer[] secondCachePointers = new OCachePointer[4];
+    generateEntries(secondCacheEntries, secondCachePointers, pool, secondFileId);
+
+    for (int i = 0; i < 4; i++) {
+      when(admittor.frequency(PageKey.hashCode(secondFileId, i))).thenReturn(10);
+    }
+
+    for (int i = 0; i < 12; i++) {
+      cacheSize.incrementAndGet();
+      data.put(new PageKey(1, i), cacheEntries[i]);
+      wTinyLFU.onAdd(cacheEntries[i]);
+    }
+
+    for (int i = 0; i < 4; i++) {
+      cacheSize.incrementAndGet();
+      data.put(new PageKey(secondFileId, i), secondCacheEntries[i]);
+      wTinyLFU.onAdd(secondCacheEntries[i]);
+    }
+
+    Assert.assertEquals(15, cacheSize.get());
+    Assert.assertEquals(12, wTinyLFU.partition(0).getPages());
+    Assert.assertEquals(3, wTinyLFU.partition(1).getPages());
+    wTinyLFU.assertSize();
+    wTinyLFU.assertConsistency();
+
+    Assert.assertFalse(secondCacheEntries[0].isAlive());
+
+    Iterator<OCacheEntry> probationIterator = wTinyLFU.probation();
+    for (int i = 11; i >= 0; i--) {
+      final OCacheEntry cacheEntry = probationIterator.next();
+      Assert.assertSame(cacheEntry, cacheEntries[i]);
+    }
+
+    Assert.assertArrayEquals(
+        new OCacheEntry[] {secondCacheEntries[3], secondCacheEntries[2], secondCacheEntries[1]},
+        toArray(wTinyLFU.eden()));
+
+    clearPointers(wTinyLFU);
+  }
+
   private static OCacheEntry[] toArray(Iterator<OCacheEntry> iterator) {
     final List<OCacheEntry> entries = new ArrayList<>();
     while (iterator.hasNext()) {
@@ -676,10 +778,18 @@ public class WTinyLFUPolicyTest {
 
   private static void generateEntries(
       OCacheEntry[] cacheEntries, OCachePointer[] cachePointers, OByteBufferPool pool) {
+    generateEntries(cacheEntries, cachePointers, pool, 1);
+  }
+
+  private static void generateEntries(
+      OCacheEntry[] cacheEntries,
+      OCachePointer[] cachePointers,
+      OByteBufferPool pool,
+      long fileId) {
     for (int i = 0; i < cacheEntries.length; i++) {
       final OCachePointer cachePointer =
-          new OCachePointer(pool.acquireDirect(true, Intention.TEST), pool, 1, i);
-      final OCacheEntry cacheEntry = new OCacheEntryImpl(1, i, cachePointer, false);
+          new OCachePointer(pool.acquireDirect(true, Intention.TEST), pool, fileId, i);
+      final OCacheEntry cacheEntry = new OCacheEntryImpl(fileId, i, cachePointer, false);
 
       cachePointer.incrementReadersReferrer();
       cacheEntries[i] = cacheEntry;
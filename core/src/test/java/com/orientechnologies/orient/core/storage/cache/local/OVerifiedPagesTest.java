@@ -0,0 +1,30 @@
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OVerifiedPagesTest {
+  @Test
+  public void testPagesAreTrackedPerFile() {
+    final OVerifiedPages verifiedPages = new OVerifiedPages();
+
+    verifiedPages.add(1, 0);
+    verifiedPages.add(1, 63);
+    verifiedPages.add(1, 100_000);
+    verifiedPages.add(2, 64);
+
+    Assert.assertTrue(verifiedPages.contains(1, 0));
+    Assert.assertTrue(verifiedPages.contains(1, 63));
+    Assert.assertTrue(verifiedPages.contains(1, 100_000));
+    Assert.assertTrue(verifiedPages.contains(2, 64));
+
+    Assert.assertFalse(verifiedPages.contains(1, 64));
+    Assert.assertFalse(verifiedPages.contains(1, 1_000_000));
+    Assert.assertFalse(verifiedPages.contains(2, 0));
+    Assert.assertFalse(verifiedPages.contains(3, 0));
+
+    verifiedPages.clear(1);
+    Assert.assertFalse(verifiedPages.contains(1, 0));
+    Assert.assertTrue(verifiedPages.contains(2, 64));
+  }
+}
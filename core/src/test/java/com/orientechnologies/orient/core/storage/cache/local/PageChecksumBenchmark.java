@@ -0,0 +1,70 @@
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import com.orientechnologies.orient.core.storage.OChecksumAlgorithm;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** Measures cost of calculation of page checksums by each of supported algorithms. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 5, time = 1)
+@Warmup(iterations = 3, time = 1)
+@Fork(1)
+public class PageChecksumBenchmark {
+  @Param({"8192", "65536"})
+  int pageSize;
+
+  @Param({"CRC32", "CRC32C", "XXHASH64"})
+  OChecksumAlgorithm algorithm;
+
+  // MAGIC NUMBER AND CHECKSUM ARE NOT COVERED BY THE CHECKSUM
+  private static final int CHECKSUM_FROM = 12;
+
+  private ByteBuffer page;
+
+  public static void main(String[] args) throws RunnerException {
+    final Options opt =
+        new OptionsBuilder()
+            .include("PageChecksumBenchmark.*")
+            .jvmArgs("-server", "-Xmx1G", "-Xms1G")
+            .build();
+    new Runner(opt).run();
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    if (!algorithm.isSupported()) {
+      throw new IllegalStateException(algorithm + " is not supported by current JVM");
+    }
+
+    final byte[] data = new byte[pageSize];
+    ThreadLocalRandom.current().nextBytes(data);
+
+    page = ByteBuffer.allocateDirect(pageSize);
+    page.put(data);
+  }
+
+  @Benchmark
+  public int checksum() {
+    page.position(CHECKSUM_FROM);
+    return algorithm.calculate(page);
+  }
+}
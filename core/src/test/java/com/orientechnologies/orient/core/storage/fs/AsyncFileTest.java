@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.storage.fs;
 
 import com.orientechnologies.common.io.OFileUtils;
 import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.exception.OStorageException;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -286,4 +287,34 @@ public class AsyncFileTest {
     file.close();
     Assert.assertFalse(file.isOpen());
   }
+
+  @Test
+  public void testMappedRangesAreReleasedBeforeShrink() throws Exception {
+    final AsyncFile file = new AsyncFile(buildDirectoryPath, 1);
+    file.create();
+
+    final long position = file.allocateSpace(1024);
+    final byte[] data = new byte[1024];
+    new Random().nextBytes(data);
+    file.write(position, ByteBuffer.wrap(data));
+
+    final MappedRange range = file.map(position, 1024);
+    final byte[] mapped = new byte[1024];
+    range.getBuffer().get(mapped);
+    Assert.assertArrayEquals(data, mapped);
+
+    // THE FILE IS NOT TRUNCATED WHILE ITS MAPPED RANGES ARE IN USE
+    try {
+      file.shrink(0);
+      Assert.fail();
+    } catch (OStorageException e) {
+      // expected
+    }
+    Assert.assertEquals(1024, file.getFileSize());
+
+    range.release();
+    file.shrink(0);
+    Assert.assertEquals(0, file.getFileSize());
+    file.close();
+  }
 }
@@ -0,0 +1,157 @@
+package com.orientechnologies.orient.core.storage.fs;
+
+import com.kenai.jffi.MemoryIO;
+import com.kenai.jffi.Platform;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator.Intention;
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.jnr.LastErrorException;
+import com.orientechnologies.common.jnr.ONative;
+import com.orientechnologies.common.util.ORawPair;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class IOUringFileTest {
+  private static final int PAGE_SIZE = 4 * 1024;
+
+  private static Path buildDirectoryPath;
+
+  @BeforeClass
+  public static void beforeClass() {
+    // KERNEL IS PROBED DIRECTLY, SO FAILURE TO INITIALIZE THE RING IS NOT REPORTED AS SKIPPED TEST
+    Assume.assumeTrue(isSupportedByKernel());
+    Assert.assertTrue(
+        "io_uring is supported by the kernel but can not be initialized",
+        IOUringFile.isSupported());
+
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null || buildDirectory.isEmpty()) buildDirectory = ".";
+
+    buildDirectory += File.separator + "ioUringFileTest";
+    buildDirectoryPath = Paths.get(buildDirectory);
+  }
+
+  private static boolean isSupportedByKernel() {
+    final Platform platform = Platform.getPlatform();
+    if (platform.getOS() != Platform.OS.LINUX || platform.addressSize() != 64) {
+      return false;
+    }
+
+    final MemoryIO memory = MemoryIO.getInstance();
+    // SIZE OF io_uring_params STRUCTURE
+    final long params = memory.allocateMemory(120, true);
+    try {
+      final ONative nativeLib = ONative.instance();
+      nativeLib.close(nativeLib.ioUringSetup(1, params));
+      return true;
+    } catch (final LastErrorException e) {
+      return false;
+    } finally {
+      memory.freeMemory(params);
+    }
+  }
+
+  @Before
+  public void before() {
+    OFileUtils.deleteRecursively(buildDirectoryPath.toFile());
+  }
+
+  @Test
+  public void testOpenWriteSeveralChunks() throws Exception {
+    IOUringFile file = new IOUringFile(buildDirectoryPath, 1, false);
+    file.create();
+
+    final long position1 = file.allocateSpace(128);
+    final long position2 = file.allocateSpace(256);
+    final long position3 = file.allocateSpace(1024);
+
+    final byte[] data1 = new byte[128];
+    final byte[] data2 = new byte[256];
+    final byte[] data3 = new byte[1024];
+
+    final Random random = new Random();
+
+    random.nextBytes(data1);
+    random.nextBytes(data2);
+    random.nextBytes(data3);
+
+    final List<ORawPair<Long, ByteBuffer>> buffers = new ArrayList<>();
+
+    buffers.add(new ORawPair<>(position1, ByteBuffer.wrap(data1)));
+    buffers.add(new ORawPair<>(position2, ByteBuffer.wrap(data2)));
+    buffers.add(new ORawPair<>(position3, ByteBuffer.wrap(data3)));
+
+    final IOResult result = file.write(buffers);
+    result.await();
+
+    file.close();
+    file = new IOUringFile(buildDirectoryPath, 1, false);
+    file.open();
+
+    Assert.assertEquals(128 + 256 + 1024, file.getFileSize());
+
+    final ByteBuffer result1 = ByteBuffer.allocate(128);
+    final ByteBuffer result2 = ByteBuffer.allocate(256);
+    final ByteBuffer result3 = ByteBuffer.allocate(1024);
+
+    file.read(position1, result1, true);
+    file.read(position2, result2, true);
+    file.read(position3, result3, true);
+
+    Assert.assertArrayEquals(data1, result1.array());
+    Assert.assertArrayEquals(data2, result2.array());
+    Assert.assertArrayEquals(data3, result3.array());
+
+    file.close();
+  }
+
+  @Test
+  public void testDirectWriteOfManyPages() throws Exception {
+    final IOUringFile file = new IOUringFile(buildDirectoryPath, PAGE_SIZE, true);
+    file.create();
+
+    // MORE PAGES THAN THE RING CAN ACCEPT AT ONCE, SO THEY ARE SUBMITTED BY SEVERAL BATCHES
+    final int pages = 200;
+    final ODirectMemoryAllocator allocator = ODirectMemoryAllocator.instance();
+    final OPointer pointer =
+        allocator.allocate(pages * PAGE_SIZE, PAGE_SIZE, false, Intention.TEST);
+    try {
+      final ByteBuffer chunk = pointer.getNativeByteBuffer();
+      final byte[] data = new byte[pages * PAGE_SIZE];
+      new Random().nextBytes(data);
+      chunk.put(data);
+
+      final List<ORawPair<Long, ByteBuffer>> buffers = new ArrayList<>();
+      for (int i = 0; i < pages; i++) {
+        final long position = file.allocateSpace(PAGE_SIZE);
+        chunk.limit((i + 1) * PAGE_SIZE).position(i * PAGE_SIZE);
+        buffers.add(new ORawPair<>(position, chunk.slice()));
+      }
+
+      file.write(buffers).await();
+
+      for (int i = 0; i < pages; i++) {
+        final ByteBuffer page = ByteBuffer.allocate(PAGE_SIZE);
+        file.read((long) i * PAGE_SIZE, page, true);
+
+        final byte[] expected = new byte[PAGE_SIZE];
+        System.arraycopy(data, i * PAGE_SIZE, expected, 0, PAGE_SIZE);
+        Assert.assertArrayEquals(expected, page.array());
+      }
+    } finally {
+      allocator.deallocate(pointer);
+      file.close();
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OPageRestoreExecutorTest {
+  private static final int FILES = 3;
+  private static final int PAGES = 50;
+  private static final int CHANGES_PER_PAGE = 20;
+
+  @Test
+  public void testChangesOfPageAreAppliedInOrder() {
+    final Map<String, List<Integer>> applied = new ConcurrentHashMap<>();
+    final Map<String, Thread> threads = new ConcurrentHashMap<>();
+
+    try (final OPageRestoreExecutor executor =
+        new OPageRestoreExecutor(
+            "test",
+            4,
+            (fileId, record) -> {
+              final String key = fileId + ":" + record.getPageIndex();
+              final Thread thread = Thread.currentThread();
+              // CHANGES OF THE SAME PAGE ARE APPLIED BY THE SAME THREAD
+              Assert.assertSame(thread, threads.computeIfAbsent(key, k -> thread));
+              applied
+                  .computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>()))
+                  .add(record.getLsn().getPosition());
+            })) {
+      int position = 0;
+      for (int change = 0; change < CHANGES_PER_PAGE; change++) {
+        for (int fileId = 0; fileId < FILES; fileId++) {
+          for (int pageIndex = 0; pageIndex < PAGES; pageIndex++) {
+            executor.submit(fileId, record(fileId, pageIndex, position++));
+          }
+        }
+        executor.flush();
+      }
+
+      executor.await();
+    } catch (final IOException e) {
+      throw new AssertionError(e);
+    }
+
+    Assert.assertEquals(FILES * PAGES, applied.size());
+    for (final List<Integer> positions : applied.values()) {
+      Assert.assertEquals(CHANGES_PER_PAGE, positions.size());
+      for (int i = 1; i < positions.size(); i++) {
+        Assert.assertTrue(positions.get(i - 1) < positions.get(i));
+      }
+    }
+  }
+
+  @Test
+  public void testChangesAreAppliedByCallerInSingleThreadMode() throws IOException {
+    final List<Thread> threads = new ArrayList<>();
+    try (final OPageRestoreExecutor executor =
+        new OPageRestoreExecutor(
+            "test", 1, (fileId, record) -> threads.add(Thread.currentThread()))) {
+      executor.submit(1, record(1, 0, 0));
+      Assert.assertEquals(Collections.singletonList(Thread.currentThread()), threads);
+    }
+  }
+
+  @Test(expected = OStorageException.class)
+  public void testErrorOfWorkerIsRethrown() throws IOException {
+    try (final OPageRestoreExecutor executor =
+        new OPageRestoreExecutor(
+            "test",
+            2,
+            (fileId, record) -> {
+              throw new IOException("Page can not be loaded");
+            })) {
+      executor.submit(1, record(1, 0, 0));
+      executor.await();
+    }
+  }
+
+  @Test(expected = OStorageException.class)
+  public void testErrorOfWorkerIsRethrownByClose() throws IOException {
+    try (final OPageRestoreExecutor executor =
+        new OPageRestoreExecutor(
+            "test",
+            2,
+            (fileId, record) -> {
+              throw new IOException("Page can not be loaded");
+            })) {
+      executor.submit(1, record(1, 0, 0));
+      executor.flush();
+    }
+  }
+
+  private static OUpdatePageRecord record(
+      final long fileId, final long pageIndex, final int position) {
+    final OUpdatePageRecord record = new OUpdatePageRecord(pageIndex, fileId, 0, null);
+    record.setOperationIdLsn(new OLogSequenceNumber(1, position), 0);
+    return record;
+  }
+}
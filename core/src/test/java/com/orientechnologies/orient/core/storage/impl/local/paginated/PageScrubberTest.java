@@ -0,0 +1,164 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.OCreateDatabaseUtil;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
+import com.orientechnologies.orient.core.storage.cluster.OPaginatedCluster;
+import com.orientechnologies.orient.core.storage.fs.OFile;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.OPageIsBrokenListener;
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PageScrubberTest {
+  private static final String DB_NAME = PageScrubberTest.class.getSimpleName();
+  private static final String CLUSTER_NAME = "scrubbed";
+  private static final int RECORDS = 1_000;
+  private static final long BROKEN_PAGE = 1;
+  private static final int PAGES_PER_SECOND = 10_000;
+
+  private String buildDirectory;
+  private OrientDB orientDB;
+
+  private final BlockingQueue<String> brokenPages = new ArrayBlockingQueue<>(1024);
+
+  // WRITE CACHE KEEPS ONLY WEAK REFERENCES TO THE LISTENERS
+  private final OPageIsBrokenListener listener =
+      (brokenFileName, pageIndex) -> brokenPages.offer(brokenFileName + ":" + pageIndex);
+
+  @Before
+  public void before() throws Exception {
+    buildDirectory =
+        new File(System.getProperty("buildDirectory", "./target"), DB_NAME).getAbsolutePath();
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+
+    orientDB = open(0);
+    OCreateDatabaseUtil.createDatabase(DB_NAME, orientDB, OCreateDatabaseUtil.TYPE_PLOCAL);
+
+    final StringBuilder value = new StringBuilder();
+    for (int i = 0; i < 1024; i++) {
+      value.append((char) ('a' + i % 26));
+    }
+
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      db.addCluster(CLUSTER_NAME);
+
+      for (int i = 0; i < RECORDS; i++) {
+        final OElement element = new ODocument();
+        element.setProperty("value", value.toString());
+        db.save(element, CLUSTER_NAME);
+      }
+    }
+    orientDB.close();
+  }
+
+  @After
+  public void after() {
+    orientDB.close();
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+  }
+
+  @Test
+  public void testBrokenPageIsReported() throws Exception {
+    breakPage();
+
+    orientDB = open(PAGES_PER_SECOND);
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      final OWOWCache writeCache = writeCache(db);
+      writeCache.addPageIsBrokenListener(listener);
+      try {
+        // SCRUBBER REPORTS THE PAGE WITHOUT ANY ACCESS TO THE CORRUPTED RECORDS
+        Assert.assertEquals(
+            CLUSTER_NAME + OPaginatedCluster.DEF_EXTENSION + ":" + BROKEN_PAGE,
+            brokenPages.poll(30, TimeUnit.SECONDS));
+      } finally {
+        writeCache.removePageIsBrokenListener(listener);
+      }
+    }
+  }
+
+  @Test
+  public void testBrokenPageIsNotReportedIfScrubberIsDisabled() throws Exception {
+    breakPage();
+
+    orientDB = open(0);
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      final OWOWCache writeCache = writeCache(db);
+      writeCache.addPageIsBrokenListener(listener);
+      try {
+        Assert.assertNull(brokenPages.poll(3, TimeUnit.SECONDS));
+      } finally {
+        writeCache.removePageIsBrokenListener(listener);
+      }
+    }
+  }
+
+  @Test
+  public void testIntactPagesAreNotReported() throws Exception {
+    orientDB = open(PAGES_PER_SECOND);
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      final OWOWCache writeCache = writeCache(db);
+      writeCache.addPageIsBrokenListener(listener);
+      try {
+        // ALL THE FILES ARE SCRUBBED SEVERAL TIMES IN THE MEANTIME
+        Assert.assertNull(brokenPages.poll(3, TimeUnit.SECONDS));
+      } finally {
+        writeCache.removePageIsBrokenListener(listener);
+      }
+    }
+  }
+
+  private void breakPage() throws Exception {
+    final int pageSize = OGlobalConfiguration.DISK_CACHE_PAGE_SIZE.getValueAsInteger() * 1024;
+    // FILES ARE STORED UNDER NAMES WHICH CONTAIN ID OF THE FILE
+    final File[] files =
+        new File(buildDirectory, DB_NAME)
+            .listFiles(
+                (dir, name) ->
+                    name.startsWith(CLUSTER_NAME + "_")
+                        && name.endsWith(OPaginatedCluster.DEF_EXTENSION));
+    Assert.assertNotNull(files);
+    Assert.assertEquals(1, files.length);
+
+    try (RandomAccessFile file = new RandomAccessFile(files[0], "rw")) {
+      final long position = OFile.HEADER_SIZE + BROKEN_PAGE * pageSize + pageSize / 2;
+      file.seek(position);
+      final int content = file.read();
+      file.seek(position);
+      file.write(content ^ 0xFF);
+    }
+  }
+
+  private OrientDB open(final int pagesPerSecond) {
+    return new OrientDB(
+        "embedded:" + buildDirectory,
+        OrientDBConfig.builder()
+            .addConfig(OGlobalConfiguration.CREATE_DEFAULT_USERS, false)
+            .addConfig(OGlobalConfiguration.STORAGE_SCRUBBER_PAGES_PER_SECOND, pagesPerSecond)
+            .build());
+  }
+
+  private static OWOWCache writeCache(final ODatabaseSession db) {
+    final OAbstractPaginatedStorage storage =
+        (OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) db).getStorage();
+    return (OWOWCache) storage.getWriteCache();
+  }
+}
@@ -0,0 +1,131 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.OCreateDatabaseUtil;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StorageFlushThreadsTest {
+  private static final String DB_NAME = StorageFlushThreadsTest.class.getSimpleName();
+  private static final int[] FLUSH_THREADS = {1, 4};
+  private static final int WRITERS = 4;
+  private static final int ITEMS = 5000;
+
+  private String buildDirectory;
+  private final List<OrientDB> contexts = new ArrayList<>();
+
+  @Before
+  public void before() {
+    buildDirectory =
+        new File(System.getProperty("buildDirectory", "./target"), DB_NAME).getAbsolutePath();
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+
+    for (final int flushThreads : FLUSH_THREADS) {
+      final OrientDB orientDB = open(flushThreads);
+      OCreateDatabaseUtil.createDatabase(DB_NAME, orientDB, OCreateDatabaseUtil.TYPE_PLOCAL);
+      contexts.add(orientDB);
+    }
+  }
+
+  @After
+  public void after() {
+    for (final OrientDB orientDB : contexts) {
+      orientDB.close();
+    }
+    contexts.clear();
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+  }
+
+  @Test
+  public void testConcurrentFlushesOfStoragesWithDifferentFlushThreads() throws Exception {
+    for (final OrientDB orientDB : contexts) {
+      try (ODatabaseSession db =
+          orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+        final OClass clazz = db.createClass("Item");
+        clazz.createProperty("id", OType.INTEGER);
+        clazz.createIndex("Item.id", OClass.INDEX_TYPE.UNIQUE, "id");
+      }
+    }
+
+    // WRITERS OF ALL STORAGES RUN TOGETHER, SO PAGES OF BOTH STORAGES ARE FLUSHED IN BETWEEN
+    final ExecutorService executor = Executors.newFixedThreadPool(WRITERS * contexts.size());
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (final OrientDB orientDB : contexts) {
+        for (int writer = 0; writer < WRITERS; writer++) {
+          final int first = writer;
+          futures.add(
+              executor.submit(
+                  () -> {
+                    try (ODatabaseSession db =
+                        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+                      for (int i = first; i < ITEMS; i += WRITERS) {
+                        final OElement item = db.newElement("Item");
+                        item.setProperty("id", i);
+                        item.setProperty("value", value(i));
+                        db.save(item);
+                      }
+                    }
+                  }));
+        }
+      }
+
+      for (final Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    // PAGES ARE FLUSHED ON CLOSE AND LOADED FROM DISK AFTER REOPEN
+    for (int i = 0; i < contexts.size(); i++) {
+      contexts.get(i).close();
+      contexts.set(i, open(FLUSH_THREADS[i]));
+    }
+
+    for (final OrientDB orientDB : contexts) {
+      try (ODatabaseSession db =
+          orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+        Assert.assertEquals(ITEMS, db.countClass("Item"));
+        for (int i = 0; i < ITEMS; i += 97) {
+          try (OResultSet result = db.query("select from Item where id = ?", i)) {
+            final OResult item = result.next();
+            Assert.assertEquals(value(i), item.getProperty("value"));
+            Assert.assertFalse(result.hasNext());
+          }
+        }
+      }
+    }
+  }
+
+  private OrientDB open(final int flushThreads) {
+    return new OrientDB(
+        "embedded:" + buildDirectory + File.separator + flushThreads,
+        OrientDBConfig.builder()
+            .addConfig(OGlobalConfiguration.CREATE_DEFAULT_USERS, false)
+            .addConfig(OGlobalConfiguration.DISK_WRITE_CACHE_FLUSH_THREADS, flushThreads)
+            .addConfig(OGlobalConfiguration.STORAGE_PAGE_COMPRESSION_METHOD, "lz4")
+            .build());
+  }
+
+  private static String value(final int i) {
+    return "{\"name\": \"item\", \"description\": \"item number " + i + "\"}";
+  }
+}
@@ -0,0 +1,119 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.OCreateDatabaseUtil;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.tx.OTransaction;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StorageGroupCommitTest {
+  private static final String DB_NAME = StorageGroupCommitTest.class.getSimpleName();
+  private static final int THREADS = 8;
+  private static final int TRANSACTIONS = 200;
+
+  private String buildDirectory;
+  private OrientDB orientDB;
+
+  @Before
+  public void before() {
+    buildDirectory =
+        new File(System.getProperty("buildDirectory", "./target"), DB_NAME).getAbsolutePath();
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+
+    orientDB =
+        OCreateDatabaseUtil.createDatabase(
+            DB_NAME, "embedded:" + buildDirectory, OCreateDatabaseUtil.TYPE_PLOCAL);
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      db.createClass("Item");
+    }
+  }
+
+  @After
+  public void after() {
+    orientDB.close();
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+
+    OGlobalConfiguration.TX_COMMIT_DURABILITY.setValue("async");
+  }
+
+  @Test
+  public void testConcurrentGroupFsyncCommits() throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int n = 0; n < THREADS; n++) {
+        final int thread = n;
+        futures.add(
+            executor.submit(
+                () -> {
+                  try (ODatabaseSession db =
+                      orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+                    for (int i = 0; i < TRANSACTIONS; i++) {
+                      db.begin();
+                      db.getTransaction().setDurability(OTransaction.DURABILITY.GROUP_FSYNC);
+
+                      final OElement item = db.newElement("Item");
+                      item.setProperty("thread", thread);
+                      item.setProperty("index", i);
+                      db.save(item);
+
+                      db.commit();
+                    }
+                  }
+                  return null;
+                }));
+      }
+
+      for (final Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    orientDB.close();
+    orientDB = new OrientDB("embedded:" + buildDirectory, OrientDBConfig.defaultConfig());
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      Assert.assertEquals(THREADS * TRANSACTIONS, db.countClass("Item"));
+    }
+  }
+
+  @Test
+  public void testDurabilityFromConfiguration() {
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      db.begin();
+      Assert.assertEquals(OTransaction.DURABILITY.ASYNC, db.getTransaction().getDurability());
+      db.rollback();
+    }
+
+    OGlobalConfiguration.TX_COMMIT_DURABILITY.setValue("immediate");
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      db.begin();
+      Assert.assertEquals(OTransaction.DURABILITY.IMMEDIATE, db.getTransaction().getDurability());
+
+      final OElement item = db.newElement("Item");
+      item.setProperty("index", 0);
+      db.save(item);
+      db.commit();
+
+      Assert.assertEquals(1, db.countClass("Item"));
+    }
+  }
+}
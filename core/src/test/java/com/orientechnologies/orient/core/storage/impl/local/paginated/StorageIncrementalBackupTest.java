@@ -0,0 +1,113 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.OCreateDatabaseUtil;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.OrientDBInternal;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StorageIncrementalBackupTest {
+  private static final String DB_NAME = StorageIncrementalBackupTest.class.getSimpleName();
+  private static final String RESTORED_DB_NAME = DB_NAME + "Restored";
+
+  private String buildDirectory;
+  private File backupDirectory;
+  private OrientDB orientDB;
+
+  @Before
+  public void before() {
+    buildDirectory =
+        new File(System.getProperty("buildDirectory", "./target"), DB_NAME).getAbsolutePath();
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+    backupDirectory = new File(buildDirectory, "backup");
+
+    orientDB =
+        OCreateDatabaseUtil.createDatabase(
+            DB_NAME, "embedded:" + buildDirectory, OCreateDatabaseUtil.TYPE_PLOCAL);
+  }
+
+  @After
+  public void after() {
+    orientDB.close();
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+  }
+
+  @Test
+  public void testIncrementalBackupRestore() {
+    final List<String> expected;
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      final OClass clazz = db.createClass("Item");
+      clazz.createProperty("id", OType.INTEGER);
+      for (int i = 0; i < 1000; i++) {
+        final OElement item = db.newElement("Item");
+        item.setProperty("id", i);
+        item.setProperty("value", "first " + i);
+        db.save(item);
+      }
+      db.incrementalBackup(backupDirectory.getAbsolutePath());
+
+      db.command("update Item set value = 'second ' + id where id < 300").close();
+      db.command("delete from Item where id >= 900").close();
+      clazz.createIndex("Item.id", OClass.INDEX_TYPE.UNIQUE, "id");
+      db.incrementalBackup(backupDirectory.getAbsolutePath());
+
+      for (int i = 1000; i < 1500; i++) {
+        final OElement item = db.newElement("Item");
+        item.setProperty("id", i);
+        item.setProperty("value", "third " + i);
+        db.save(item);
+      }
+      db.incrementalBackup(backupDirectory.getAbsolutePath());
+
+      expected = fetchItems(db);
+    }
+
+    final File[] backups = backupDirectory.listFiles((dir, name) -> name.endsWith(".ibu"));
+    Assert.assertNotNull(backups);
+    Assert.assertEquals(3, backups.length);
+
+    OrientDBInternal.extract(orientDB)
+        .restore(
+            RESTORED_DB_NAME,
+            null,
+            null,
+            ODatabaseType.PLOCAL,
+            backupDirectory.getAbsolutePath(),
+            OrientDBConfig.defaultConfig());
+
+    try (ODatabaseSession db =
+        orientDB.open(RESTORED_DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      Assert.assertEquals(expected, fetchItems(db));
+      Assert.assertNotNull(db.getClass("Item").getClassIndex("Item.id"));
+      try (OResultSet result = db.query("select value from Item where id = ?", 1200)) {
+        Assert.assertEquals("third 1200", result.next().getProperty("value"));
+      }
+    }
+  }
+
+  private static List<String> fetchItems(ODatabaseSession db) {
+    final List<String> items = new ArrayList<>();
+    try (OResultSet result = db.query("select id, value from Item order by id")) {
+      while (result.hasNext()) {
+        final OResult item = result.next();
+        items.add(item.getProperty("id") + ":" + item.getProperty("value"));
+      }
+    }
+    return items;
+  }
+}
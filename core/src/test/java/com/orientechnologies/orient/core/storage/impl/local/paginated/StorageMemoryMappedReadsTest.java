@@ -0,0 +1,152 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.OCreateDatabaseUtil;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import java.io.File;
+import java.io.IOException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StorageMemoryMappedReadsTest {
+  private static final String DB_NAME = StorageMemoryMappedReadsTest.class.getSimpleName();
+  private static final int ITEMS = 5000;
+
+  private String buildDirectory;
+  private OrientDB orientDB;
+
+  @Before
+  public void before() {
+    OGlobalConfiguration.DISK_CACHE_MEMORY_MAPPED.setValue(true);
+
+    buildDirectory =
+        new File(System.getProperty("buildDirectory", "./target"), DB_NAME).getAbsolutePath();
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+
+    orientDB =
+        OCreateDatabaseUtil.createDatabase(
+            DB_NAME, "embedded:" + buildDirectory, OCreateDatabaseUtil.TYPE_PLOCAL);
+  }
+
+  @After
+  public void after() {
+    orientDB.close();
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+
+    OGlobalConfiguration.DISK_CACHE_MEMORY_MAPPED.setValue(false);
+  }
+
+  @Test
+  public void testMappedPagesAreReadAndUpdated() throws IOException {
+    createItems();
+
+    // PAGES ARE LOADED FROM MAPPED FILES AFTER REOPEN AND COPIED ON UPDATE
+    reopen();
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      assertItems(db, "item ");
+      Assert.assertTrue(isFirstPageMapped(db));
+
+      db.command("update Item set value = 'updated ' + id").close();
+      assertItems(db, "updated ");
+      Assert.assertFalse(isFirstPageMapped(db));
+    }
+
+    reopen();
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      assertItems(db, "updated ");
+    }
+  }
+
+  @Test
+  public void testMappedPagesAreReleasedBeforeTruncate() throws IOException {
+    createItems();
+
+    reopen();
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      assertItems(db, "item ");
+      Assert.assertTrue(isFirstPageMapped(db));
+
+      // MAPPED PAGES ARE RELEASED BEFORE THE FILES ARE SHRUNK, THEN THEY CAN BE MAPPED AGAIN
+      db.command("truncate class Item").close();
+      Assert.assertEquals(0, db.countClass("Item"));
+
+      db.command("insert into Item set id = 0, value = 'item 0'").close();
+    }
+
+    reopen();
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      try (OResultSet result = db.query("select from Item")) {
+        Assert.assertEquals("item 0", result.next().getProperty("value"));
+        Assert.assertFalse(result.hasNext());
+      }
+      Assert.assertTrue(isFirstPageMapped(db));
+    }
+  }
+
+  private void createItems() {
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      final OClass clazz = db.getMetadata().getSchema().createClass("Item", 1);
+      clazz.createProperty("id", OType.INTEGER);
+      clazz.createIndex("Item.id", OClass.INDEX_TYPE.UNIQUE, "id");
+      for (int i = 0; i < ITEMS; i++) {
+        final OElement item = db.newElement("Item");
+        item.setProperty("id", i);
+        item.setProperty("value", "item " + i);
+        db.save(item);
+      }
+    }
+  }
+
+  /** @return true if the first page of the cluster of the items is served from a mapped file */
+  private static boolean isFirstPageMapped(final ODatabaseSession db) throws IOException {
+    final OAbstractPaginatedStorage storage =
+        (OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) db).getStorage();
+    final OReadCache readCache = storage.getReadCache();
+    final OWriteCache writeCache = storage.getWriteCache();
+
+    final int clusterId = db.getMetadata().getSchema().getClass("Item").getDefaultClusterId();
+    final long fileId = writeCache.fileIdByName(db.getClusterNameById(clusterId) + ".pcl");
+    final OCacheEntry cacheEntry = readCache.loadForRead(fileId, 0, false, writeCache, true);
+    try {
+      return cacheEntry.getCachePointer().isMapped();
+    } finally {
+      readCache.releaseFromRead(cacheEntry, writeCache);
+    }
+  }
+
+  private void reopen() {
+    orientDB.close();
+    orientDB = new OrientDB("embedded:" + buildDirectory, OrientDBConfig.defaultConfig());
+  }
+
+  private static void assertItems(final ODatabaseSession db, final String prefix) {
+    Assert.assertEquals(ITEMS, db.countClass("Item"));
+    for (int i = 0; i < ITEMS; i += 97) {
+      try (OResultSet result = db.query("select from Item where id = ?", i)) {
+        final OResult item = result.next();
+        Assert.assertEquals(prefix + i, item.getProperty("value"));
+        Assert.assertFalse(result.hasNext());
+      }
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.kenai.jffi.Platform;
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.OCreateDatabaseUtil;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
+import com.orientechnologies.orient.core.storage.fs.OFile;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import jnr.posix.POSIXFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StoragePageCompressionTest {
+  private static final String DB_NAME = StoragePageCompressionTest.class.getSimpleName();
+
+  private String buildDirectory;
+  private OrientDB orientDB;
+
+  @Before
+  public void before() {
+    OGlobalConfiguration.STORAGE_PAGE_COMPRESSION_METHOD.setValue("lz4");
+
+    buildDirectory =
+        new File(System.getProperty("buildDirectory", "./target"), DB_NAME).getAbsolutePath();
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+
+    orientDB =
+        OCreateDatabaseUtil.createDatabase(
+            DB_NAME, "embedded:" + buildDirectory, OCreateDatabaseUtil.TYPE_PLOCAL);
+  }
+
+  @After
+  public void after() {
+    orientDB.close();
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+
+    OGlobalConfiguration.STORAGE_PAGE_COMPRESSION_METHOD.setValue("nothing");
+  }
+
+  @Test
+  public void testCompressedPagesAreReadAfterReopen() throws IOException {
+    final int items = 5000;
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      final OClass clazz = db.createClass("Item");
+      clazz.createProperty("id", OType.INTEGER);
+      clazz.createIndex("Item.id", OClass.INDEX_TYPE.UNIQUE, "id");
+      for (int i = 0; i < items; i++) {
+        final OElement item = db.newElement("Item");
+        item.setProperty("id", i);
+        item.setProperty(
+            "value", "{\"name\": \"item\", \"description\": \"item number " + i + "\"}");
+        db.save(item);
+      }
+    }
+
+    // PAGES ARE FLUSHED ON CLOSE AND LOADED FROM DISK AFTER REOPEN
+    orientDB.close();
+    assertPagesAreCompressed();
+    orientDB = new OrientDB("embedded:" + buildDirectory, OrientDBConfig.defaultConfig());
+
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      Assert.assertEquals(items, db.countClass("Item"));
+      for (int i = 0; i < items; i += 97) {
+        try (OResultSet result = db.query("select from Item where id = ?", i)) {
+          final OResult item = result.next();
+          Assert.assertEquals(
+              "{\"name\": \"item\", \"description\": \"item number " + i + "\"}",
+              item.getProperty("value"));
+          Assert.assertFalse(result.hasNext());
+        }
+      }
+    }
+  }
+
+  private void assertPagesAreCompressed() throws IOException {
+    final int pageSize = OGlobalConfiguration.DISK_CACHE_PAGE_SIZE.getValueAsInteger() * 1024;
+    final ByteBuffer magicNumber =
+        ByteBuffer.allocate(OLongSerializer.LONG_SIZE).order(ByteOrder.nativeOrder());
+
+    long compressedPages = 0;
+    long logicalSize = 0;
+    long allocatedSize = 0;
+    try (DirectoryStream<Path> files =
+        Files.newDirectoryStream(Paths.get(buildDirectory, DB_NAME), "item*.pcl")) {
+      for (Path file : files) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+          for (long position = OFile.HEADER_SIZE; position < channel.size(); position += pageSize) {
+            magicNumber.clear();
+            channel.read(magicNumber, position);
+            if (magicNumber.getLong(0) == OWOWCache.MAGIC_NUMBER_COMPRESSED) {
+              compressedPages++;
+            }
+          }
+          logicalSize += channel.size();
+        }
+        allocatedSize += POSIXFactory.getNativePOSIX().stat(file.toString()).blocks() * 512;
+      }
+    }
+
+    Assert.assertTrue(compressedPages > 0);
+    if (Platform.getPlatform().getOS() == Platform.OS.LINUX) {
+      // THE SPACE RELEASED BY THE COMPRESSED PAGES IS NOT ALLOCATED
+      Assert.assertTrue(allocatedSize < logicalSize);
+    }
+  }
+}
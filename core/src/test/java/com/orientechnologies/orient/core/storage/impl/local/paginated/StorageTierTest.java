@@ -0,0 +1,183 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.OCreateDatabaseUtil;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.cache.OStorageTier;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StorageTierTest {
+  private static final String DB_NAME = StorageTierTest.class.getSimpleName();
+  private static final String CLUSTER_NAME = "history";
+  private static final int RECORDS = 1_000;
+
+  private String buildDirectory;
+  private Path coldDirectory;
+  private OrientDB orientDB;
+
+  @Before
+  public void before() {
+    final String directory = System.getProperty("buildDirectory", "./target");
+    buildDirectory = new File(directory, DB_NAME).getAbsolutePath();
+    coldDirectory = Paths.get(directory, DB_NAME + "Cold").toAbsolutePath();
+
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+    OFileUtils.deleteRecursively(coldDirectory.toFile());
+
+    orientDB = open();
+    OCreateDatabaseUtil.createDatabase(DB_NAME, orientDB, OCreateDatabaseUtil.TYPE_PLOCAL);
+  }
+
+  @After
+  public void after() {
+    orientDB.close();
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+    OFileUtils.deleteRecursively(coldDirectory.toFile());
+  }
+
+  @Test
+  public void testMoveClusterBetweenTiers() throws IOException {
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      db.addCluster(CLUSTER_NAME);
+
+      for (int i = 0; i < RECORDS; i++) {
+        final OElement element = new ODocument();
+        element.setProperty("index", i);
+        db.save(element, CLUSTER_NAME);
+      }
+
+      final OAbstractPaginatedStorage storage = storage(db);
+      Assert.assertEquals(OStorageTier.HOT, storage.getStorageTier(CLUSTER_NAME));
+
+      db.command("alter cluster " + CLUSTER_NAME + " storage_tier cold").close();
+
+      Assert.assertEquals(OStorageTier.COLD, storage.getStorageTier(CLUSTER_NAME));
+      assertClusterFiles(hotDirectory(), coldDirectory());
+
+      // RECORDS ARE ACCESSIBLE AND MODIFIABLE AFTER THE MOVE
+      for (int i = 0; i < RECORDS; i++) {
+        final OElement element = new ODocument();
+        element.setProperty("index", RECORDS + i);
+        db.save(element, CLUSTER_NAME);
+      }
+      Assert.assertEquals(2 * RECORDS, db.countClusterElements(CLUSTER_NAME));
+    }
+
+    orientDB.close();
+    orientDB = open();
+
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      final OAbstractPaginatedStorage storage = storage(db);
+      Assert.assertEquals(OStorageTier.COLD, storage.getStorageTier(CLUSTER_NAME));
+      Assert.assertEquals(2 * RECORDS, db.countClusterElements(CLUSTER_NAME));
+
+      storage.moveToStorageTier(CLUSTER_NAME, OStorageTier.HOT);
+      Assert.assertEquals(OStorageTier.HOT, storage.getStorageTier(CLUSTER_NAME));
+      assertClusterFiles(coldDirectory(), hotDirectory());
+
+      long sum = 0;
+      for (final ODocument document : db.<ODocument>browseCluster(CLUSTER_NAME)) {
+        sum += document.<Integer>getProperty("index");
+      }
+      Assert.assertEquals((long) 2 * RECORDS * (2 * RECORDS - 1) / 2, sum);
+    }
+  }
+
+  @Test
+  public void testInterruptedMovesAreCompletedOnOpen() throws IOException {
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      db.addCluster(CLUSTER_NAME);
+      for (int i = 0; i < RECORDS; i++) {
+        final OElement element = new ODocument();
+        element.setProperty("index", i);
+        db.save(element, CLUSTER_NAME);
+      }
+      db.command("alter cluster " + CLUSTER_NAME + " storage_tier cold").close();
+    }
+    orientDB.close();
+
+    // STORAGE IS CLOSED BEFORE THE COPY IS RENAMED OR BEFORE THE SOURCE IS DELETED
+    final List<Path> clusterFiles = clusterFiles(coldDirectory());
+    Assert.assertFalse(clusterFiles.isEmpty());
+    for (final Path file : clusterFiles) {
+      final Path hotFile = hotDirectory().resolve(file.getFileName());
+      Files.copy(file, hotFile);
+      Files.copy(file, hotFile.resolveSibling(hotFile.getFileName() + OFileUtils.MOVE_SUFFIX));
+    }
+
+    orientDB = open();
+    try (ODatabaseSession db =
+        orientDB.open(DB_NAME, "admin", OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+      Assert.assertEquals(OStorageTier.COLD, storage(db).getStorageTier(CLUSTER_NAME));
+      Assert.assertEquals(RECORDS, db.countClusterElements(CLUSTER_NAME));
+    }
+
+    assertClusterFiles(hotDirectory(), coldDirectory());
+    try (Stream<Path> files = Files.list(hotDirectory())) {
+      Assert.assertFalse(
+          files.anyMatch(file -> file.getFileName().toString().endsWith(OFileUtils.MOVE_SUFFIX)));
+    }
+  }
+
+  private OrientDB open() {
+    return new OrientDB(
+        "embedded:" + buildDirectory,
+        OrientDBConfig.builder()
+            .addConfig(OGlobalConfiguration.CREATE_DEFAULT_USERS, false)
+            .addConfig(OGlobalConfiguration.STORAGE_COLD_TIER_PATH, coldDirectory.toString())
+            .build());
+  }
+
+  private Path hotDirectory() {
+    return Paths.get(buildDirectory, DB_NAME);
+  }
+
+  private Path coldDirectory() {
+    return coldDirectory.resolve(DB_NAME);
+  }
+
+  /** files of the cluster are only in the target directory */
+  private static void assertClusterFiles(final Path source, final Path target) throws IOException {
+    Assert.assertTrue(clusterFiles(source).isEmpty());
+    Assert.assertFalse(clusterFiles(target).isEmpty());
+  }
+
+  /** files of the cluster are named as {@code <cluster>_<file id>.<extension>} */
+  private static List<Path> clusterFiles(final Path directory) throws IOException {
+    if (!Files.exists(directory)) {
+      return Collections.emptyList();
+    }
+
+    try (Stream<Path> files = Files.list(directory)) {
+      return files
+          .filter(file -> file.getFileName().toString().startsWith(CLUSTER_NAME + "_"))
+          .collect(Collectors.toList());
+    }
+  }
+
+  private static OAbstractPaginatedStorage storage(final ODatabaseSession db) {
+    return (OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) db).getStorage();
+  }
+}
@@ -10,6 +10,7 @@ import com.orientechnologies.common.serialization.types.OStringSerializer;
 import com.orientechnologies.common.types.OModifiableBoolean;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.OChecksumAlgorithm;
 import com.orientechnologies.orient.core.storage.OChecksumMode;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
@@ -29,6 +30,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NavigableMap;
@@ -128,6 +130,11 @@ public class WOWCacheTestIT {
   }
 
   private void initBuffer() throws IOException, InterruptedException {
+    initBuffer(OChecksumAlgorithm.CRC32);
+  }
+
+  private void initBuffer(final OChecksumAlgorithm checksumAlgorithm)
+      throws IOException, InterruptedException {
     Files.createDirectories(storagePath);
 
     writeAheadLog =
@@ -167,6 +174,14 @@ public class WOWCacheTestIT {
             OChecksumMode.StoreAndVerify,
             null,
             null,
+            false,
+            Collections.emptySet(),
+            false,
+            false,
+            false,
+            1,
+            null,
+            checksumAlgorithm,
             false);
 
     wowCache.loadRegisteredFiles();
@@ -717,6 +732,91 @@ public class WOWCacheTestIT {
     }
   }
 
+  @Test
+  public void testChecksumRoundTripCRC32C() throws Exception {
+    assertChecksumRoundTrip(OChecksumAlgorithm.CRC32C);
+  }
+
+  @Test
+  public void testChecksumRoundTripXXHASH64() throws Exception {
+    assertChecksumRoundTrip(OChecksumAlgorithm.XXHASH64);
+  }
+
+  private void assertChecksumRoundTrip(final OChecksumAlgorithm algorithm) throws Exception {
+    wowCache.close();
+    writeAheadLog.close();
+
+    initBuffer(algorithm);
+    wowCache.setChecksumMode(OChecksumMode.StoreAndThrow);
+
+    final Random random = new Random();
+    final byte[][] pageData = new byte[20][];
+    long fileId = wowCache.addFile(fileName);
+    final String nativeFileName = wowCache.nativeFileNameById(fileId);
+    assert nativeFileName != null;
+
+    for (int i = 0; i < pageData.length; i++) {
+      final byte[] data = new byte[8];
+      random.nextBytes(data);
+      pageData[i] = data;
+
+      Assert.assertEquals(i, wowCache.allocateNewPage(fileId));
+      final OCachePointer cachePointer = wowCache.load(fileId, i, new OModifiableBoolean(), false);
+      cachePointer.acquireExclusiveLock();
+
+      final ByteBuffer buffer = cachePointer.getBufferDuplicate();
+      assert buffer != null;
+
+      buffer.position(ODurablePage.NEXT_FREE_POSITION);
+      buffer.put(data);
+      cachePointer.releaseExclusiveLock();
+
+      wowCache.store(fileId, i, cachePointer);
+      cachePointer.decrementReadersReferrer();
+    }
+
+    wowCache.close();
+    writeAheadLog.close();
+
+    final int corruptedPage = pageData.length - 1;
+    final OFile file = new AsyncFile(storagePath.resolve(nativeFileName), pageSize);
+    file.open();
+    if (algorithm.isSupported()) {
+      final ByteBuffer magic = ByteBuffer.allocate(8).order(ByteOrder.nativeOrder());
+      file.read(0, magic, true);
+      Assert.assertNotEquals(OWOWCache.MAGIC_NUMBER_WITH_CHECKSUM, magic.getLong(0));
+    }
+    file.write(
+        (long) corruptedPage * pageSize + ODurablePage.NEXT_FREE_POSITION,
+        ByteBuffer.wrap(new byte[] {(byte) ~pageData[corruptedPage][0]}));
+    file.close();
+
+    // ALGORITHM IS RECORDED IN THE PAGES, SO CACHE WHICH USES DEFAULT ONE VERIFIES THEM TOO
+    initBuffer();
+    wowCache.setChecksumMode(OChecksumMode.StoreAndThrow);
+    fileId = wowCache.loadFile(fileName);
+
+    for (int i = 0; i < corruptedPage; i++) {
+      final OCachePointer cachePointer = wowCache.load(fileId, i, new OModifiableBoolean(), true);
+      final ByteBuffer buffer = cachePointer.getBufferDuplicate();
+      assert buffer != null;
+
+      final byte[] data = new byte[8];
+      buffer.position(ODurablePage.NEXT_FREE_POSITION);
+      buffer.get(data);
+      cachePointer.decrementReadersReferrer();
+
+      Assert.assertArrayEquals(pageData[i], data);
+    }
+
+    try {
+      wowCache.load(fileId, corruptedPage, new OModifiableBoolean(), true);
+      Assert.fail();
+    } catch (OStorageException e) {
+      // ok
+    }
+  }
+
   @Test
   public void testMagicFailure() throws IOException {
     wowCache.setChecksumMode(OChecksumMode.StoreAndThrow);
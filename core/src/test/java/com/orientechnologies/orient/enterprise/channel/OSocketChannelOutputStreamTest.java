@@ -0,0 +1,57 @@
+package com.orientechnologies.orient.enterprise.channel;
+
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OSocketChannelOutputStreamTest {
+
+  @Test
+  public void testWriteMoreThanSendBuffer() throws Exception {
+    final byte[] data = new byte[8 * 1024 * 1024];
+    new Random(42).nextBytes(data);
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try (ServerSocketChannel server = ServerSocketChannel.open()) {
+      server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+      try (SocketChannel client = SocketChannel.open(server.getLocalAddress());
+          SocketChannel accepted = server.accept()) {
+        accepted.configureBlocking(false);
+
+        final Future<byte[]> received =
+            executor.submit(
+                () -> {
+                  // THE WRITER FILLS THE SEND BUFFER BEFORE THE READER STARTS
+                  Thread.sleep(200);
+                  final byte[] result = new byte[data.length];
+                  final InputStream in = client.socket().getInputStream();
+                  int read = 0;
+                  while (read < result.length) {
+                    final int n = in.read(result, read, result.length - read);
+                    Assert.assertTrue(n > 0);
+                    read += n;
+                  }
+                  return result;
+                });
+
+        final OSocketChannelOutputStream out = new OSocketChannelOutputStream(accepted);
+        out.write(data, 0, data.length);
+
+        Assert.assertArrayEquals(data, received.get());
+        // THE CHANNEL IS NOT LEFT REGISTERED TO THE WRITE SELECTOR
+        accepted.configureBlocking(true);
+        out.close();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,263 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.thread.OSoftThread;
+import com.orientechnologies.common.thread.OThreadPoolExecutorWithLogging;
+import com.orientechnologies.orient.enterprise.channel.OChannel;
+import com.orientechnologies.orient.server.network.protocol.binary.ONetworkProtocolBinary;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves the connections of the binary protocol without a thread per connection: idle connections
+ * are watched by a few selector threads (epoll on Linux) and, when a connection becomes readable,
+ * it is handed to a worker that executes its requests with {@link
+ * ONetworkProtocolBinary#executeAvailableRequests()} and then gives it back to its selector.
+ *
+ * <p>Binary requests are not length prefixed, their layout is known only by the request that reads
+ * them, so the requests are decoded by the workers in blocking mode: while a connection is served
+ * by a worker it is not registered to its selector. A worker waits for the rest of a partially
+ * received request at most {@code network.binary.eventLoop.readTimeout} ms, then the connection is
+ * closed: the bytes already consumed by the request can not be given back to the selector.
+ */
+public class OServerNetworkEventLoop {
+  /** interval of the check of the connections closed by the client connection manager */
+  private static final long SWEEP_INTERVAL = 1000;
+
+  private final SelectorThread[] selectors;
+  private final ExecutorService workers;
+  private final AtomicInteger nextSelector = new AtomicInteger();
+  private volatile boolean active = true;
+
+  public OServerNetworkEventLoop(
+      final ThreadGroup threadGroup, final String name, final int selectors, final int workers)
+      throws IOException {
+    this.workers = createWorkers(threadGroup, name, workers);
+    this.selectors = new SelectorThread[Math.max(1, selectors)];
+    for (int i = 0; i < this.selectors.length; i++) {
+      this.selectors[i] = new SelectorThread(threadGroup, name + " selector " + i);
+    }
+    for (SelectorThread selector : this.selectors) {
+      selector.start();
+    }
+  }
+
+  private static ExecutorService createWorkers(
+      final ThreadGroup threadGroup, final String name, final int workers) {
+    if (workers <= 0) {
+      try {
+        final ExecutorService virtualThreads =
+            (ExecutorService)
+                Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        OLogManager.instance().info(OServerNetworkEventLoop.class, "%s uses virtual threads", name);
+        return virtualThreads;
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        // VIRTUAL THREADS ARE NOT AVAILABLE IN THIS JVM
+      }
+    }
+
+    final int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors() * 2;
+    return new OThreadPoolExecutorWithLogging(
+        threads,
+        threads,
+        60,
+        TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
+        new WorkerThreadFactory(threadGroup, name));
+  }
+
+  /** starts to serve a connection accepted by the protocol */
+  public void register(final ONetworkProtocolBinary protocol) {
+    final int index = Math.floorMod(nextSelector.getAndIncrement(), selectors.length);
+    selectors[index].register(protocol);
+  }
+
+  public void shutdown() {
+    active = false;
+    for (SelectorThread selector : selectors) {
+      selector.sendShutdown();
+      selector.selector.wakeup();
+    }
+    workers.shutdown();
+  }
+
+  private void serve(final SelectorThread selector, final ONetworkProtocolBinary protocol) {
+    final SocketChannel channel = socketChannel(protocol);
+    if (channel == null) {
+      protocol.shutdown();
+      return;
+    }
+
+    try {
+      channel.configureBlocking(true);
+    } catch (IOException e) {
+      OLogManager.instance().debug(this, "Error on switching %s to blocking mode", e, channel);
+      protocol.shutdown();
+      return;
+    }
+
+    if (protocol.executeAvailableRequests()) {
+      if (active) {
+        selector.register(protocol);
+      } else {
+        protocol.shutdown();
+      }
+    }
+  }
+
+  private static SocketChannel socketChannel(final ONetworkProtocolBinary protocol) {
+    final OChannel channel = protocol.getChannel();
+    final Socket socket = channel != null ? channel.socket : null;
+    return socket != null ? socket.getChannel() : null;
+  }
+
+  private final class SelectorThread extends OSoftThread {
+    private final Selector selector;
+    private final Queue<ONetworkProtocolBinary> pending = new ConcurrentLinkedQueue<>();
+    private long lastSweep = System.currentTimeMillis();
+
+    private SelectorThread(final ThreadGroup threadGroup, final String name) throws IOException {
+      super(threadGroup, name);
+      this.selector = Selector.open();
+    }
+
+    private void register(final ONetworkProtocolBinary protocol) {
+      pending.add(protocol);
+      selector.wakeup();
+    }
+
+    @Override
+    protected void execute() throws Exception {
+      try {
+        selector.select(SWEEP_INTERVAL);
+      } catch (ClosedSelectorException e) {
+        sendShutdown();
+        return;
+      }
+
+      registerPending();
+
+      final Set<SelectionKey> selectedKeys = selector.selectedKeys();
+      if (!selectedKeys.isEmpty()) {
+        final List<SelectionKey> readable = new ArrayList<>(selectedKeys);
+        selectedKeys.clear();
+        for (SelectionKey key : readable) {
+          key.cancel();
+        }
+        // DEREGISTER THE CANCELLED KEYS, ONLY THEN THE WORKERS CAN SWITCH THE CHANNELS TO BLOCKING
+        selector.selectNow();
+
+        for (SelectionKey key : readable) {
+          final ONetworkProtocolBinary protocol = (ONetworkProtocolBinary) key.attachment();
+          try {
+            workers.execute(() -> serve(this, protocol));
+          } catch (RejectedExecutionException e) {
+            protocol.shutdown();
+          }
+        }
+      }
+
+      final long now = System.currentTimeMillis();
+      if (now - lastSweep >= SWEEP_INTERVAL) {
+        lastSweep = now;
+        closeKilledConnections();
+      }
+    }
+
+    private void registerPending() {
+      ONetworkProtocolBinary protocol;
+      while ((protocol = pending.poll()) != null) {
+        final SocketChannel channel = socketChannel(protocol);
+        if (channel == null || protocol.isShutdownFlag()) {
+          protocol.shutdown();
+          continue;
+        }
+
+        try {
+          channel.configureBlocking(false);
+          channel.register(selector, SelectionKey.OP_READ, protocol);
+        } catch (IOException | RuntimeException e) {
+          OLogManager.instance().debug(this, "Error on registering %s", e, channel);
+          protocol.shutdown();
+        }
+      }
+    }
+
+    /**
+     * the client connection manager kills a connection setting the shutdown flag of its protocol,
+     * idle connections have no thread that sees it
+     */
+    private void closeKilledConnections() {
+      for (SelectionKey key : selector.keys()) {
+        final ONetworkProtocolBinary protocol = (ONetworkProtocolBinary) key.attachment();
+        if (key.isValid() && protocol.isShutdownFlag()) {
+          key.cancel();
+          protocol.shutdown();
+        }
+      }
+    }
+
+    @Override
+    public void shutdown() {
+      try {
+        selector.close();
+      } catch (IOException e) {
+        OLogManager.instance().debug(this, "Error on closing selector", e);
+      }
+    }
+  }
+
+  private static final class WorkerThreadFactory implements ThreadFactory {
+    private final ThreadGroup threadGroup;
+    private final String name;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private WorkerThreadFactory(final ThreadGroup threadGroup, final String name) {
+      this.threadGroup = threadGroup;
+      this.name = name;
+    }
+
+    @Override
+    public Thread newThread(final Runnable r) {
+      final Thread thread =
+          new Thread(threadGroup, r, name + " worker " + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
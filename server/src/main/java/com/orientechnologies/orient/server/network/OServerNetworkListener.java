@@ -32,6 +32,7 @@ import com.orientechnologies.orient.server.config.OServerCommandConfiguration;
 import com.orientechnologies.orient.server.config.OServerParameterConfiguration;
 import com.orientechnologies.orient.server.network.protocol.OBeforeDatabaseOpenNetworkEventListener;
 import com.orientechnologies.orient.server.network.protocol.ONetworkProtocol;
+import com.orientechnologies.orient.server.network.protocol.binary.ONetworkProtocolBinary;
 import com.orientechnologies.orient.server.network.protocol.http.command.OServerCommand;
 import java.io.IOException;
 import java.lang.reflect.Constructor;
@@ -42,6 +43,7 @@ import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
 import java.net.UnknownHostException;
+import java.nio.channels.ServerSocketChannel;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -58,6 +60,7 @@ public class OServerNetworkListener extends Thread {
   private OContextConfiguration configuration;
   private OServer server;
   private int protocolVersion = -1;
+  private OServerNetworkEventLoop eventLoop;
   private List<OBeforeDatabaseOpenNetworkEventListener> beforeDatabaseOpenNetworkEventListener =
       new ArrayList<OBeforeDatabaseOpenNetworkEventListener>();
 
@@ -88,10 +91,28 @@ public class OServerNetworkListener extends Thread {
       throw OException.wrapException(new ONetworkProtocolException(message), e);
     }
 
-    listen(iHostName, iHostPortRange, iProtocolName, iProtocol);
+    readParameters(iServer.getContextConfiguration(), iParameters);
+
+    final boolean useEventLoop = isEventLoopSupported(iProtocol);
+    listen(iHostName, iHostPortRange, iProtocolName, iProtocol, useEventLoop);
     protocolType = iProtocol;
 
-    readParameters(iServer.getContextConfiguration(), iParameters);
+    if (useEventLoop) {
+      try {
+        eventLoop =
+            new OServerNetworkEventLoop(
+                iServer.getThreadGroup(),
+                "OrientDB " + iProtocol.getSimpleName() + " " + iHostName + ":" + iHostPortRange,
+                configuration.getValueAsInteger(
+                    OGlobalConfiguration.NETWORK_BINARY_EVENT_LOOP_SELECTORS),
+                configuration.getValueAsInteger(
+                    OGlobalConfiguration.NETWORK_BINARY_EVENT_LOOP_WORKERS));
+      } catch (IOException e) {
+        shutdown();
+        throw OException.wrapException(
+            new OSystemException("Error on starting the event loop of " + iProtocolName), e);
+      }
+    }
 
     if (iCommands != null) {
       for (int i = 0; i < iCommands.length; ++i) {
@@ -191,6 +212,8 @@ public class OServerNetworkListener extends Thread {
   public void shutdown() {
     this.active = false;
 
+    if (eventLoop != null) eventLoop.shutdown();
+
     if (serverSocket != null)
       try {
         serverSocket.close();
@@ -247,7 +270,11 @@ public class OServerNetworkListener extends Thread {
           final ONetworkProtocol protocol = constructor.newInstance(server);
 
           // CONFIGURE THE PROTOCOL FOR THE INCOMING CONNECTION
-          protocol.config(this, server, socket, configuration);
+          if (eventLoop != null) {
+            final ONetworkProtocolBinary binaryProtocol = (ONetworkProtocolBinary) protocol;
+            binaryProtocol.configEventLoop(server, socket, configuration);
+            eventLoop.register(binaryProtocol);
+          } else protocol.config(this, server, socket, configuration);
 
         } catch (Exception e) {
           if (active) OLogManager.instance().error(this, "Error on client connection", e);
@@ -364,12 +391,16 @@ public class OServerNetworkListener extends Thread {
       final String iHostName,
       final String iHostPortRange,
       final String iProtocolName,
-      Class<? extends ONetworkProtocol> protocolClass) {
+      Class<? extends ONetworkProtocol> protocolClass,
+      final boolean useEventLoop) {
 
     for (int port : getPorts(iHostPortRange)) {
       inboundAddr = new InetSocketAddress(iHostName, port);
       try {
-        serverSocket = socketFactory.createServerSocket(port, 0, InetAddress.getByName(iHostName));
+        if (useEventLoop) serverSocket = createChannelServerSocket(port, iHostName);
+        else
+          serverSocket =
+              socketFactory.createServerSocket(port, 0, InetAddress.getByName(iHostName));
 
         if (serverSocket.isBound()) {
           OLogManager.instance()
@@ -385,6 +416,7 @@ public class OServerNetworkListener extends Thread {
                       + protocolVersion
                       + ", socket="
                       + socketFactory.getName()
+                      + (useEventLoop ? ", event loop" : "")
                       + ")");
 
           return;
@@ -415,6 +447,38 @@ public class OServerNetworkListener extends Thread {
             iHostPortRange, iHostName));
   }
 
+  /**
+   * The event loop serves only the binary protocol on plain sockets: SSL sockets have no channel
+   * that can be registered to a selector.
+   */
+  private boolean isEventLoopSupported(final Class<? extends ONetworkProtocol> protocolClass) {
+    if (!configuration.getValueAsBoolean(OGlobalConfiguration.NETWORK_BINARY_EVENT_LOOP)
+        || !ONetworkProtocolBinary.class.equals(protocolClass)) return false;
+
+    if (!(socketFactory instanceof ODefaultServerSocketFactory)) {
+      OLogManager.instance()
+          .warn(
+              this,
+              "Event loop is not supported by socket factory '%s', a thread per connection is used",
+              socketFactory.getName());
+      return false;
+    }
+    return true;
+  }
+
+  /** @return a server socket whose accepted sockets have a channel */
+  private static ServerSocket createChannelServerSocket(final int port, final String hostName)
+      throws IOException {
+    final ServerSocketChannel channel = ServerSocketChannel.open();
+    try {
+      channel.socket().bind(new InetSocketAddress(InetAddress.getByName(hostName), port), 0);
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+    return channel.socket();
+  }
+
   /**
    * Initializes connection parameters by the reading XML configuration. If not specified, get the
    * parameters defined as global configuration.
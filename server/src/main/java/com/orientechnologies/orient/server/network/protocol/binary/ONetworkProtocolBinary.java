@@ -71,6 +71,7 @@ import com.orientechnologies.orient.server.distributed.ODistributedRequest;
 import com.orientechnologies.orient.server.distributed.ODistributedResponse;
 import com.orientechnologies.orient.server.distributed.ODistributedServerLog;
 import com.orientechnologies.orient.server.distributed.ODistributedServerManager;
+import com.orientechnologies.orient.server.network.OServerNetworkEventLoop;
 import com.orientechnologies.orient.server.network.OServerNetworkListener;
 import com.orientechnologies.orient.server.network.protocol.ONetworkProtocol;
 import com.orientechnologies.orient.server.plugin.OServerPluginHelper;
@@ -136,7 +137,27 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
       final Socket iSocket,
       final OContextConfiguration iConfig)
       throws IOException {
+    accept(iServer, iSocket, iConfig);
+    start();
+  }
+
+  /**
+   * Configures the protocol for a connection served by an {@link OServerNetworkEventLoop}: the
+   * protocol thread is not started, the requests are executed by {@link
+   * #executeAvailableRequests()} each time the connection is readable.
+   */
+  public void configEventLoop(
+      final OServer iServer, final Socket iSocket, final OContextConfiguration iConfig)
+      throws IOException {
+    accept(iServer, iSocket, iConfig);
+    // A WORKER MUST NOT WAIT FOR A STALLED CLIENT AS LONG AS A PROTOCOL THREAD DOES
+    channel.limitReadRequestTimeout(
+        iConfig.getValueAsInteger(OGlobalConfiguration.NETWORK_BINARY_EVENT_LOOP_READ_TIMEOUT));
+  }
 
+  private void accept(
+      final OServer iServer, final Socket iSocket, final OContextConfiguration iConfig)
+      throws IOException {
     OChannelBinaryServer channel = new OChannelBinaryServer(iSocket, iConfig);
     initVariables(iServer, channel);
 
@@ -147,7 +168,6 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
 
     OServerPluginHelper.invokeHandlerCallbackOnSocketAccepted(server, this);
 
-    start();
     setName(
         "OrientDB ("
             + iSocket.getLocalSocketAddress()
@@ -156,6 +176,39 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
             + ")");
   }
 
+  /**
+   * Executes the requests of a connection configured by {@link #configEventLoop(OServer, Socket,
+   * OContextConfiguration)} in the caller thread, like the loop of the protocol thread does, until
+   * no more request data is buffered. It has to be called only when the connection is readable,
+   * otherwise the caller thread waits for the next request.
+   *
+   * @return false if the connection has been closed
+   */
+  public boolean executeAvailableRequests() {
+    try {
+      do {
+        try {
+          beforeExecution();
+          execute();
+          afterExecution();
+        } catch (Exception e) {
+          OLogManager.instance().debug(this, "Error during request execution", e);
+        }
+      } while (!isShutdownFlag() && channel.inStream.available() > 0);
+    } catch (IOException e) {
+      sendShutdown();
+    } catch (Error e) {
+      shutdown();
+      throw e;
+    }
+
+    if (isShutdownFlag()) {
+      shutdown();
+      return false;
+    }
+    return true;
+  }
+
   @Override
   public void startup() {
     super.startup();
@@ -0,0 +1,145 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.enterprise.channel.binary.OChannelBinaryProtocol;
+import com.orientechnologies.orient.server.OServer;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OServerNetworkEventLoopTest {
+  private static final String SERVER_DIRECTORY = "./target/eventloop";
+  private static final String DB_NAME = OServerNetworkEventLoopTest.class.getSimpleName();
+  private static final int WORKERS = 2;
+
+  private OServer server;
+  private OrientDB orientDB;
+
+  @Before
+  public void before() throws Exception {
+    OGlobalConfiguration.NETWORK_BINARY_EVENT_LOOP.setValue(true);
+    OGlobalConfiguration.NETWORK_BINARY_EVENT_LOOP_WORKERS.setValue(WORKERS);
+    OGlobalConfiguration.NETWORK_BINARY_EVENT_LOOP_READ_TIMEOUT.setValue(1000);
+
+    server = new OServer(false);
+    server.setServerRootDirectory(SERVER_DIRECTORY);
+    server.startup(getClass().getResourceAsStream("orientdb-server-config.xml"));
+    server.activate();
+
+    orientDB = new OrientDB("remote:localhost", "root", "root", OrientDBConfig.defaultConfig());
+    orientDB.create(DB_NAME, ODatabaseType.MEMORY);
+  }
+
+  @After
+  public void after() {
+    orientDB.close();
+    server.shutdown();
+
+    OGlobalConfiguration.NETWORK_BINARY_EVENT_LOOP.setValue(false);
+    OGlobalConfiguration.NETWORK_BINARY_EVENT_LOOP_WORKERS.setValue(0);
+    OGlobalConfiguration.NETWORK_BINARY_EVENT_LOOP_READ_TIMEOUT.setValue(
+        OGlobalConfiguration.NETWORK_BINARY_EVENT_LOOP_READ_TIMEOUT.getDefValue());
+
+    Orient.instance().shutdown();
+    OFileUtils.deleteRecursively(new File(SERVER_DIRECTORY));
+    Orient.instance().startup();
+  }
+
+  @Test
+  public void testMoreConnectionsThanWorkers() throws Exception {
+    try (ODatabaseSession db = orientDB.open(DB_NAME, "admin", "admin")) {
+      db.createClass("Item");
+    }
+
+    final int clients = 8;
+    final int items = 50;
+    final ExecutorService executor = Executors.newFixedThreadPool(clients);
+    try {
+      final List<Future<Long>> results = new ArrayList<>();
+      for (int i = 0; i < clients; i++) {
+        final int client = i;
+        results.add(
+            executor.submit(
+                () -> {
+                  try (ODatabaseSession db = orientDB.open(DB_NAME, "admin", "admin")) {
+                    for (int j = 0; j < items; j++) {
+                      final OElement item = db.newElement("Item");
+                      item.setProperty("client", client);
+                      db.save(item);
+                    }
+                    try (OResultSet result =
+                        db.query("select count(*) as count from Item where client = ?", client)) {
+                      return result.next().getProperty("count");
+                    }
+                  }
+                }));
+      }
+      for (Future<Long> result : results) {
+        Assert.assertEquals(items, (long) result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    try (ODatabaseSession db = orientDB.open(DB_NAME, "admin", "admin")) {
+      Assert.assertEquals(clients * items, db.countClass("Item"));
+    }
+  }
+
+  @Test
+  public void testPartialRequestsDoNotHoldWorkers() throws Exception {
+    final List<Socket> stalled = new ArrayList<>();
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      // EVERY WORKER GETS A CONNECTION THAT SENDS ONLY THE BEGINNING OF A REQUEST
+      for (int i = 0; i < WORKERS; i++) {
+        final Socket socket = new Socket("localhost", 2424);
+        socket.setSoTimeout(10000);
+        stalled.add(socket);
+        new DataInputStream(socket.getInputStream()).readShort();
+        final OutputStream out = socket.getOutputStream();
+        out.write(new byte[] {OChannelBinaryProtocol.REQUEST_CONNECT, 0, 0});
+        out.flush();
+      }
+      Thread.sleep(200);
+
+      final Future<Long> served =
+          executor.submit(
+              () -> {
+                try (ODatabaseSession db = orientDB.open(DB_NAME, "admin", "admin")) {
+                  return db.countClass("OUser");
+                }
+              });
+      // FASTER THAN THE SOCKET TIMEOUT A WORKER WOULD WAIT FOR OTHERWISE
+      Assert.assertTrue(served.get(10, TimeUnit.SECONDS) > 0);
+
+      for (Socket socket : stalled) {
+        Assert.assertEquals(-1, socket.getInputStream().read());
+      }
+    } finally {
+      executor.shutdown();
+      for (Socket socket : stalled) {
+        socket.close();
+      }
+    }
+  }
+}
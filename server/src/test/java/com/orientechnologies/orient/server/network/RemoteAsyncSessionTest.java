@@ -0,0 +1,124 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.server.OServer;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RemoteAsyncSessionTest {
+  private static final String SERVER_DIRECTORY = "./target/asyncsession";
+  private static final String DB_NAME = RemoteAsyncSessionTest.class.getSimpleName();
+
+  private OServer server;
+  private OrientDB orientDB;
+  private ODatabaseSession session;
+
+  @Before
+  public void before() throws Exception {
+    server = new OServer(false);
+    server.setServerRootDirectory(SERVER_DIRECTORY);
+    server.startup(getClass().getResourceAsStream("orientdb-server-config.xml"));
+    server.activate();
+
+    orientDB = new OrientDB("remote:localhost", "root", "root", OrientDBConfig.defaultConfig());
+    orientDB.create(DB_NAME, ODatabaseType.MEMORY);
+    session = orientDB.open(DB_NAME, "admin", "admin");
+    session.createClass("Item");
+  }
+
+  @After
+  public void after() {
+    session.activateOnCurrentThread();
+    session.close();
+    orientDB.close();
+    server.shutdown();
+
+    Orient.instance().shutdown();
+    OFileUtils.deleteRecursively(new File(SERVER_DIRECTORY));
+    Orient.instance().startup();
+  }
+
+  @Test
+  public void testCommandAndQuery() throws Exception {
+    for (int i = 0; i < 10; i++) {
+      try (OResultSet result = session.async().command("insert into Item set id = ?", i).get()) {
+        Assert.assertTrue(result.hasNext());
+      }
+    }
+
+    try (OResultSet result = session.async().query("select from Item order by id").get()) {
+      for (int i = 0; i < 10; i++) {
+        Assert.assertEquals(i, (int) result.next().getProperty("id"));
+      }
+      Assert.assertFalse(result.hasNext());
+    }
+  }
+
+  @Test
+  public void testLoad() throws Exception {
+    final OElement item = session.newElement("Item");
+    item.setProperty("id", 1);
+    final ORID rid = session.save(item).getIdentity();
+    session.getLocalCache().clear();
+
+    final OElement loaded = session.async().<OElement>load(rid).get();
+    Assert.assertEquals(rid, loaded.getIdentity());
+    Assert.assertEquals(1, (int) loaded.getProperty("id"));
+  }
+
+  @Test
+  public void testConcurrentSessions() throws Exception {
+    final int sessions = 8;
+    final List<ODatabaseSession> opened = new ArrayList<>();
+    final List<CompletableFuture<OResultSet>> results = new ArrayList<>();
+    try {
+      for (int i = 0; i < sessions; i++) {
+        final ODatabaseSession db = orientDB.open(DB_NAME, "admin", "admin");
+        opened.add(db);
+        results.add(db.async().command("insert into Item set id = ?", i));
+      }
+      for (CompletableFuture<OResultSet> result : results) {
+        result.get().close();
+      }
+    } finally {
+      for (ODatabaseSession db : opened) {
+        db.activateOnCurrentThread();
+        db.close();
+      }
+    }
+
+    session.activateOnCurrentThread();
+    Assert.assertEquals(sessions, session.countClass("Item"));
+  }
+
+  @Test
+  public void testError() throws Exception {
+    final CompletableFuture<OResultSet> result = session.async().query("select from Missing");
+    try {
+      result.get();
+      Assert.fail();
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof OCommandExecutionException);
+    }
+    // THE SESSION IS USABLE AGAIN AFTER THE FAILURE
+    try (OResultSet items = session.query("select from Item")) {
+      Assert.assertFalse(items.hasNext());
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.client.remote.ORemoteConnectionManager;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.OrientDBInternal;
+import com.orientechnologies.orient.core.db.OrientDBRemote;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.server.OServer;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RemotePipeliningTest {
+  private static final String SERVER_DIRECTORY = "./target/pipelining";
+  private static final String DB_NAME = RemotePipeliningTest.class.getSimpleName();
+  private static final int PIPELINED_CHANNELS = 2;
+
+  private OServer server;
+  private OrientDB orientDB;
+
+  @Before
+  public void before() throws Exception {
+    server = new OServer(false);
+    server.setServerRootDirectory(SERVER_DIRECTORY);
+    server.startup(getClass().getResourceAsStream("orientdb-server-config.xml"));
+    server.activate();
+
+    orientDB =
+        new OrientDB(
+            "remote:localhost",
+            "root",
+            "root",
+            OrientDBConfig.builder()
+                .addConfig(OGlobalConfiguration.CLIENT_CHANNEL_PIPELINED, PIPELINED_CHANNELS)
+                .build());
+    orientDB.create(DB_NAME, ODatabaseType.MEMORY);
+  }
+
+  @After
+  public void after() {
+    orientDB.close();
+    server.shutdown();
+
+    Orient.instance().shutdown();
+    OFileUtils.deleteRecursively(new File(SERVER_DIRECTORY));
+    Orient.instance().startup();
+  }
+
+  @Test
+  public void testConcurrentRequestsOnPipelinedChannels() throws Exception {
+    final int items = 100;
+    try (ODatabaseSession db = orientDB.open(DB_NAME, "admin", "admin")) {
+      db.createClass("Item");
+      for (int i = 0; i < items; i++) {
+        final OElement item = db.newElement("Item");
+        item.setProperty("id", i);
+        db.save(item);
+      }
+    }
+
+    final int clients = 16;
+    final ExecutorService executor = Executors.newFixedThreadPool(clients);
+    try {
+      final List<Future<Integer>> results = new ArrayList<>();
+      for (int i = 0; i < clients; i++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  int found = 0;
+                  try (ODatabaseSession db = orientDB.open(DB_NAME, "admin", "admin")) {
+                    for (int j = 0; j < items; j++) {
+                      try (OResultSet result = db.query("select from Item where id = ?", j)) {
+                        if (result.hasNext() && (Integer) result.next().getProperty("id") == j)
+                          found++;
+                      }
+                    }
+                  }
+                  return found;
+                }));
+      }
+      for (Future<Integer> result : results) {
+        Assert.assertEquals(items, (int) result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    final ORemoteConnectionManager connectionManager =
+        ((OrientDBRemote) OrientDBInternal.extract(orientDB)).getConnectionManager();
+    for (String url : connectionManager.getURLs()) {
+      Assert.assertTrue(
+          connectionManager.getPool(url).getPipelinedChannels().size() <= PIPELINED_CHANNELS);
+    }
+  }
+}
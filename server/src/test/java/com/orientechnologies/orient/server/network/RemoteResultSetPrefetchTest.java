@@ -0,0 +1,103 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.server.OServer;
+import java.io.File;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RemoteResultSetPrefetchTest {
+  private static final String SERVER_DIRECTORY = "./target/prefetch";
+  private static final String DB_NAME = RemoteResultSetPrefetchTest.class.getSimpleName();
+  private static final int ITEMS = 1000;
+
+  private OServer server;
+  private OrientDB orientDB;
+  private ODatabaseSession session;
+  private int pageSize;
+
+  @Before
+  public void before() throws Exception {
+    pageSize = OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_SIZE.getValueAsInteger();
+    OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_SIZE.setValue(10);
+    OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PREFETCH.setValue(3);
+
+    server = new OServer(false);
+    server.setServerRootDirectory(SERVER_DIRECTORY);
+    server.startup(getClass().getResourceAsStream("orientdb-server-config.xml"));
+    server.activate();
+
+    orientDB = new OrientDB("remote:localhost", "root", "root", OrientDBConfig.defaultConfig());
+    orientDB.create(DB_NAME, ODatabaseType.MEMORY);
+    session = orientDB.open(DB_NAME, "admin", "admin");
+    session.createClass("Item");
+    for (int i = 0; i < ITEMS; i++) {
+      final OElement item = session.newElement("Item");
+      item.setProperty("id", i);
+      session.save(item);
+    }
+  }
+
+  @After
+  public void after() {
+    session.close();
+    orientDB.close();
+    server.shutdown();
+
+    OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_SIZE.setValue(pageSize);
+    OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PREFETCH.setValue(0);
+
+    Orient.instance().shutdown();
+    OFileUtils.deleteRecursively(new File(SERVER_DIRECTORY));
+    Orient.instance().startup();
+  }
+
+  @Test
+  public void testReadAllPages() {
+    try (OResultSet result = session.query("select from Item order by id")) {
+      for (int i = 0; i < ITEMS; i++) {
+        Assert.assertTrue(result.hasNext());
+        Assert.assertEquals(i, (int) result.next().getProperty("id"));
+      }
+      Assert.assertFalse(result.hasNext());
+    }
+    Assert.assertEquals(ITEMS, session.countClass("Item"));
+  }
+
+  @Test
+  public void testRequestsWhileIterating() {
+    try (OResultSet result = session.query("select from Item order by id")) {
+      for (int i = 0; i < ITEMS; i++) {
+        Assert.assertEquals(i, (int) result.next().getProperty("id"));
+        if (i % 97 == 0) {
+          try (OResultSet single = session.query("select from Item where id = ?", i)) {
+            Assert.assertEquals(i, (int) single.next().getProperty("id"));
+          }
+        }
+      }
+      Assert.assertFalse(result.hasNext());
+    }
+  }
+
+  @Test
+  public void testCloseBeforeTheEnd() {
+    try (OResultSet result = session.query("select from Item order by id")) {
+      for (int i = 0; i < 25; i++) {
+        Assert.assertEquals(i, (int) result.next().getProperty("id"));
+      }
+    }
+    try (OResultSet result = session.query("select count(*) as count from Item")) {
+      Assert.assertEquals(ITEMS, ((Number) result.next().getProperty("count")).intValue());
+    }
+  }
+}